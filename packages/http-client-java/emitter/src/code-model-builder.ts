@@ -190,6 +190,17 @@ export interface EmitterOptionsDev {
   // configure
   "skip-special-headers"?: string[];
   "enable-subclient"?: boolean;
+  "paging-prefetch-depth"?: number;
+  "completable-future-methods"?: boolean;
+  "bulk-method-concurrency"?: number;
+  "response-cache"?: boolean;
+  "binary-file-overloads"?: boolean;
+  "cache-wire-type-conversion"?: boolean;
+  "fast-date-time-codecs"?: boolean;
+  "generate-benchmarks"?: boolean;
+  "direct-error-mapping"?: boolean;
+  "lean-memory"?: boolean;
+  "direct-service-implementation"?: boolean;
 
   // not recommended to set
   "group-etag-headers"?: boolean;
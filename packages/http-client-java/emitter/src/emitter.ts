@@ -114,6 +114,11 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
           `-XX:StartFlightRecording=settings="${perfProfile}",filename="${options["output-dir"]}/typespecPerf.jfr",maxsize=1gb`,
         );
       }
+      if (options["dev-options"]?.metrics) {
+        javaArgs.push(
+          `-Dcodegen.java.metrics.report=${options["output-dir"]}/typespecMetrics.json`,
+        );
+      }
       // These module modifications are needed by google-java-format
       javaArgs.push("--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED");
       javaArgs.push("--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED");
@@ -12,6 +12,7 @@ export interface DevOptions {
   loglevel?: "off" | "debug" | "info" | "warn" | "error";
   "java-temp-dir"?: string; // working directory for java codegen, e.g. transformed code-model file
   profile?: boolean; // enable performance profiling
+  metrics?: boolean; // write timing and allocation of each generator stage to a JSON report
 }
 
 export interface License {
@@ -61,6 +62,12 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
           description: "Enable performance profiling.",
           nullable: true,
         },
+        metrics: {
+          type: "boolean",
+          description:
+            "Write timing and allocation of each stage of Java code generator to 'typespecMetrics.json' in output directory.",
+          nullable: true,
+        },
       },
       nullable: true,
       additionalProperties: false,
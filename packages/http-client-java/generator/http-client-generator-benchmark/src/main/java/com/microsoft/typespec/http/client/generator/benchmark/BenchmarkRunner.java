@@ -0,0 +1,170 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, writes the result as JSON, and compares it with a baseline result.
+ * <p>
+ * Arguments are those of JMH, in addition to:
+ * <ul>
+ * <li>"--result &lt;file&gt;", the JSON result file, default "target/benchmark-results.json"</li>
+ * <li>"--baseline &lt;file&gt;", the JSON result file of a previous run, to compare with</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "target/benchmark-results.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        Path resultFile = Path.of(DEFAULT_RESULT_FILE);
+        Path baselineFile = null;
+
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; ++i) {
+            if ("--result".equals(args[i]) && i + 1 < args.length) {
+                resultFile = Path.of(args[++i]);
+            } else if ("--baseline".equals(args[i]) && i + 1 < args.length) {
+                baselineFile = Path.of(args[++i]);
+            } else {
+                jmhArgs.add(args[i]);
+            }
+        }
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+        if (commandLineOptions.shouldListWithParams()) {
+            new Runner(commandLineOptions).listWithParams(commandLineOptions);
+            return;
+        }
+
+        if (baselineFile != null && !Files.isRegularFile(baselineFile)) {
+            throw new IllegalArgumentException("Baseline result file does not exist: " + baselineFile);
+        }
+        if (resultFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        }
+
+        Options options = new OptionsBuilder().parent(commandLineOptions)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        if (baselineFile != null) {
+            Map<String, Double> scores = new LinkedHashMap<>();
+            for (RunResult result : results) {
+                scores.put(benchmarkKey(result.getParams().getBenchmark(), paramsOf(result)),
+                    result.getPrimaryResult().getScore());
+            }
+            compare(readScores(baselineFile), scores);
+        }
+    }
+
+    /**
+     * Prints the change of each benchmark score, relative to the baseline score.
+     *
+     * @param baseline the baseline scores, keyed by benchmark and its parameters
+     * @param current the current scores, keyed by benchmark and its parameters
+     */
+    private static void compare(Map<String, Double> baseline, Map<String, Double> current) {
+        System.out.println();
+        System.out.println("Comparison with baseline (negative change is faster, for average time):");
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double baselineScore = baseline.get(entry.getKey());
+            if (baselineScore == null || baselineScore == 0) {
+                System.out.printf("  %s: %.3f (no baseline)%n", entry.getKey(), entry.getValue());
+            } else {
+                double change = (entry.getValue() - baselineScore) / baselineScore * 100;
+                System.out.printf("  %s: %.3f -> %.3f (%+.1f%%)%n", entry.getKey(), baselineScore, entry.getValue(),
+                    change);
+            }
+        }
+    }
+
+    /**
+     * Reads the primary scores from a JSON result file of JMH.
+     *
+     * @param resultFile the JSON result file
+     * @return the scores, keyed by benchmark and its parameters
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Double> readScores(Path resultFile) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        try (JsonReader jsonReader = JsonProviders.createReader(Files.readAllBytes(resultFile))) {
+            jsonReader.readArray(reader -> {
+                String benchmark = null;
+                Map<String, String> params = new TreeMap<>();
+                Double score = null;
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+                    if ("benchmark".equals(fieldName)) {
+                        benchmark = reader.getString();
+                    } else if ("params".equals(fieldName)) {
+                        params.putAll(reader.readMap(JsonReader::getString));
+                    } else if ("primaryMetric".equals(fieldName)) {
+                        while (reader.nextToken() != JsonToken.END_OBJECT) {
+                            String metricFieldName = reader.getFieldName();
+                            reader.nextToken();
+                            if ("score".equals(metricFieldName)) {
+                                score = reader.getDouble();
+                            } else {
+                                reader.skipChildren();
+                            }
+                        }
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+                if (benchmark != null && score != null) {
+                    scores.put(benchmarkKey(benchmark, params), score);
+                }
+                return null;
+            });
+        }
+        return scores;
+    }
+
+    private static Map<String, String> paramsOf(RunResult result) {
+        Map<String, String> params = new TreeMap<>();
+        for (String key : result.getParams().getParamsKeys()) {
+            params.put(key, result.getParams().getParam(key));
+        }
+        return params;
+    }
+
+    private static String benchmarkKey(String benchmark, Map<String, String> params) {
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
+import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentClient;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
+import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the mapping of the client model to the Fluent client model, on a synthetic resource provider.
+ * <p>
+ * The mapping identifies the resource models, and the create/update/refresh/delete flow of each resource model, from
+ * the methods of the resource collections. It creates new Fluent models from the client model on every run, hence
+ * each invocation runs on the same client model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn" })
+@State(Scope.Benchmark)
+public class FluentMapperBenchmarks {
+
+    /**
+     * The number of resource types of the resource provider.
+     */
+    @Param({ "1000" })
+    public int resourceTypes;
+
+    private CodeModel codeModel;
+    private Client client;
+    private FluentMapper fluentMapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticArmCodeModel.Builder builder = new SyntheticArmCodeModel.Builder().resourceTypes(resourceTypes);
+
+        String emitterOptionsJson = "{\"namespace\":\"" + builder.getNamespace()
+            + "\",\"flavor\":\"azure\",\"arm\":true,\"output-dir\":\""
+            + Path.of("target", "benchmark-output").toAbsolutePath().toString().replace("\\", "\\\\")
+            + "\",\"generate-tests\":false,\"generate-samples\":false,\"include-api-view-properties\":false}";
+        EmitterOptions emitterOptions;
+        try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson)) {
+            emitterOptions = EmitterOptions.fromJson(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        TypeSpecFluentPlugin plugin = new TypeSpecFluentPlugin(emitterOptions, false);
+        codeModel = plugin.preProcess(builder.build());
+        client = plugin.processClient(codeModel);
+
+        FluentStatic.setClient(client);
+        fluentMapper = new FluentMapper(new FluentJavaSettings(plugin));
+    }
+
+    @Benchmark
+    public FluentClient map() {
+        return fluentMapper.map(codeModel, client);
+    }
+}
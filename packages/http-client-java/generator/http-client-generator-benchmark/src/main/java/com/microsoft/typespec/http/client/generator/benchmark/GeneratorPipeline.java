@@ -0,0 +1,266 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.google.googlejavaformat.java.FormatterException;
+import com.google.googlejavaformat.java.RemoveUnusedImports;
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnnotatedPropertyUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
+import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaImportTracker;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.inspector.TrustedTagInspector;
+import org.yaml.snakeyaml.introspector.Property;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+
+/**
+ * The stages of code generation of the TypeSpec plugin, run in-process and without writing files.
+ * <p>
+ * The stages are load (code model from YAML), transform, map (code model to client model), templates (client model
+ * to Java files), Java file contents and unused import removal. Formatting by Spotless runs in a Maven process, hence
+ * is not included.
+ */
+public final class GeneratorPipeline {
+    private final EmitterOptions emitterOptions;
+    private final Yaml yaml;
+    private final Yaml yamlDumper;
+    private TypeSpecPlugin plugin;
+
+    /**
+     * Creates the TypeSpec plugin, with the settings of the flavor.
+     *
+     * @param namespace the Java namespace
+     * @param flavor the flavor, e.g. "azure" or "generic"
+     * @param outputDir the output directory, it is not written to
+     */
+    public GeneratorPipeline(String namespace, String flavor, String outputDir) {
+        this(namespace, flavor, outputDir, Collections.emptyMap());
+    }
+
+    /**
+     * Creates the TypeSpec plugin, with the settings of the flavor and the emitter options.
+     *
+     * @param namespace the Java namespace
+     * @param flavor the flavor, e.g. "azure" or "generic"
+     * @param outputDir the output directory, it is not written to
+     * @param options the emitter options, e.g. "completable-future-methods", with boolean or number value
+     */
+    public GeneratorPipeline(String namespace, String flavor, String outputDir, Map<String, Object> options) {
+        this.emitterOptions = createEmitterOptions(namespace, flavor, outputDir, options);
+        this.yaml = createYaml();
+        DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        this.yamlDumper = new Yaml(new CodeModelRepresenter(dumperOptions), dumperOptions);
+        this.plugin = new TypeSpecPlugin(emitterOptions, false);
+    }
+
+    /**
+     * Creates the emitter options, without tests, samples and API view properties.
+     *
+     * @param namespace the Java namespace
+     * @param flavor the flavor, e.g. "azure" or "generic"
+     * @param outputDir the output directory
+     * @param options the emitter options, e.g. "arm", with boolean or number value
+     * @return the emitter options
+     */
+    public static EmitterOptions createEmitterOptions(String namespace, String flavor, String outputDir,
+        Map<String, Object> options) {
+        StringBuilder emitterOptionsJson = new StringBuilder("{\"namespace\":\"").append(namespace)
+            .append("\",\"flavor\":\"")
+            .append(flavor)
+            .append("\",\"output-dir\":\"")
+            .append(outputDir.replace("\\", "\\\\"))
+            .append("\",\"generate-tests\":false,\"generate-samples\":false,\"include-api-view-properties\":false");
+        options.forEach((name, value) -> emitterOptionsJson.append(",\"").append(name).append("\":").append(value));
+        emitterOptionsJson.append('}');
+        try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson.toString())) {
+            return EmitterOptions.fromJson(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serializes the code model to YAML, in the format of the code model YAML written by the emitter.
+     *
+     * @param codeModel the code model
+     * @return the YAML
+     */
+    public String dump(CodeModel codeModel) {
+        return yamlDumper.dump(codeModel);
+    }
+
+    /**
+     * Loads the code model from YAML.
+     *
+     * @param codeModelYaml the YAML
+     * @return the code model
+     */
+    public CodeModel load(String codeModelYaml) {
+        return yaml.loadAs(codeModelYaml, CodeModel.class);
+    }
+
+    /**
+     * Transforms the code model. The code model is modified.
+     *
+     * @param codeModel the code model
+     * @return the transformed code model
+     */
+    public CodeModel transform(CodeModel codeModel) {
+        return new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+    }
+
+    /**
+     * Maps the transformed code model to client model.
+     * <p>
+     * Mappers cache their result by code model instance. Call {@link #resetMappers()} before mapping another code
+     * model.
+     *
+     * @param codeModel the transformed code model
+     * @return the client model
+     */
+    public Client map(CodeModel codeModel) {
+        return Mappers.getClientMapper().map(codeModel);
+    }
+
+    /**
+     * Clears the cache of the mappers, by re-creating the plugin, and the index of the model hierarchy.
+     */
+    public void resetMappers() {
+        // the constructor of TypeSpecPlugin sets a new mapper factory, hence new mapper instances
+        plugin = new TypeSpecPlugin(emitterOptions, false);
+        ClientModelUtil.clearModelHierarchy();
+    }
+
+    /**
+     * Runs the templates on the client model.
+     *
+     * @param codeModel the transformed code model
+     * @param client the client model
+     * @return the Java package, with Java files
+     */
+    public JavaPackage templates(CodeModel codeModel, Client client) {
+        return plugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+    }
+
+    /**
+     * Writes the contents of the Java files to string.
+     *
+     * @param javaPackage the Java package
+     * @return the file contents, keyed by file path
+     */
+    public static Map<String, String> javaFileContents(JavaPackage javaPackage) {
+        Map<String, String> javaFiles = new LinkedHashMap<>();
+        for (JavaFile javaFile : javaPackage.getJavaFiles()) {
+            javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString());
+        }
+        return javaFiles;
+    }
+
+    /**
+     * Removes unused imports from the Java files, as the format stage does before Spotless.
+     *
+     * @param javaFiles the file contents, keyed by file path
+     * @param validate whether to run Google Java Formatter on every file, as "validate-unused-imports" does
+     * @return the number of files processed by Google Java Formatter
+     */
+    public static int removeUnusedImports(Map<String, String> javaFiles, boolean validate) {
+        int count = 0;
+        for (Map.Entry<String, String> javaFile : javaFiles.entrySet()) {
+            if (validate || JavaImportTracker.hasUnusedImports(javaFile.getValue())) {
+                try {
+                    RemoveUnusedImports.removeUnusedImports(javaFile.getValue());
+                    ++count;
+                } catch (FormatterException e) {
+                    throw new IllegalStateException("Failed to remove unused imports: " + javaFile.getKey(), e);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Yaml createYaml() {
+        // same as the configuration of Main
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
+        return new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
+    }
+
+    /**
+     * Representer that writes the code model as the emitter does: without class tags and null values, with enum as
+     * its value, set as sequence, and extension as "x-ms-" name.
+     */
+    private static final class CodeModelRepresenter extends Representer {
+        private CodeModelRepresenter(DumperOptions dumperOptions) {
+            super(dumperOptions);
+            setPropertyUtils(new AnnotatedPropertyUtils());
+            this.multiRepresenters.put(Enum.class, data -> representScalar(Tag.STR, enumValue((Enum<?>) data)));
+            this.multiRepresenters.put(Set.class,
+                data -> representSequence(Tag.SEQ, (Set<?>) data, DumperOptions.FlowStyle.AUTO));
+        }
+
+        @Override
+        protected MappingNode representJavaBean(Set<Property> properties, Object javaBean) {
+            MappingNode node = super.representJavaBean(properties, javaBean);
+            // the class is inferred from the property, or from the "type" of the schema
+            node.setTag(Tag.MAP);
+            return node;
+        }
+
+        @Override
+        protected NodeTuple representJavaBeanProperty(Object javaBean, Property property, Object propertyValue,
+            Tag customTag) {
+            if (propertyValue == null) {
+                return null;
+            }
+            NodeTuple tuple = super.representJavaBeanProperty(javaBean, property, propertyValue, customTag);
+            if (javaBean instanceof XmsExtensions && property.getName().startsWith("xms")) {
+                // e.g. "xmsPageable" to "x-ms-pageable"
+                String name = "x-ms" + property.getName().substring(3).replaceAll("([A-Z])", "-$1").toLowerCase();
+                tuple = new NodeTuple(representScalar(Tag.STR, name), tuple.getValueNode());
+            }
+            return tuple;
+        }
+
+        private static String enumValue(Enum<?> data) {
+            try {
+                return String.valueOf(data.getDeclaringClass().getMethod("value").invoke(data));
+            } catch (ReflectiveOperationException e) {
+                return data.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of each stage of code generation, on a synthetic code model.
+ * <p>
+ * The transform and map stages modify or cache by their input, hence each invocation runs on a code model freshly
+ * loaded from YAML.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+        "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+        "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn" })
+public class GeneratorStageBenchmarks {
+
+    /**
+     * The synthetic code model, and the output of each stage on it.
+     */
+    @State(Scope.Benchmark)
+    public static class CodeModelState {
+        @Param({ "azure", "generic" })
+        public String flavor;
+
+        @Param({ "100" })
+        public int models;
+
+        @Param({ "10" })
+        public int properties;
+
+        @Param({ "2" })
+        public int polymorphismDepth;
+
+        @Param({ "100" })
+        public int operations;
+
+        @Param({ "0.2" })
+        public double pagingRatio;
+
+        @Param({ "0.1" })
+        public double lroRatio;
+
+        GeneratorPipeline pipeline;
+        String codeModelYaml;
+        CodeModel transformedCodeModel;
+        Client client;
+        JavaPackage javaPackage;
+        Map<String, String> javaFiles;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SyntheticCodeModel.Builder builder = new SyntheticCodeModel.Builder().models(models)
+                .properties(properties)
+                .polymorphismDepth(polymorphismDepth)
+                .operations(operations)
+                .pagingRatio(pagingRatio)
+                .lroRatio(lroRatio);
+
+            pipeline = new GeneratorPipeline(builder.getNamespace(), flavor,
+                Path.of("target", "benchmark-output").toAbsolutePath().toString());
+            codeModelYaml = pipeline.dump(builder.build());
+
+            transformedCodeModel = pipeline.transform(pipeline.load(codeModelYaml));
+            client = pipeline.map(transformedCodeModel);
+            javaPackage = pipeline.templates(transformedCodeModel, client);
+            javaFiles = GeneratorPipeline.javaFileContents(javaPackage);
+        }
+    }
+
+    /**
+     * A code model freshly loaded from YAML, for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class LoadedCodeModelState {
+        CodeModel codeModel;
+
+        @Setup(Level.Invocation)
+        public void setup(CodeModelState state) {
+            codeModel = state.pipeline.load(state.codeModelYaml);
+        }
+    }
+
+    /**
+     * A code model freshly loaded from YAML and transformed, and mappers without cache, for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class TransformedCodeModelState {
+        CodeModel codeModel;
+
+        @Setup(Level.Invocation)
+        public void setup(CodeModelState state) {
+            codeModel = state.pipeline.transform(state.pipeline.load(state.codeModelYaml));
+            state.pipeline.resetMappers();
+        }
+    }
+
+    @Benchmark
+    public CodeModel load(CodeModelState state) {
+        return state.pipeline.load(state.codeModelYaml);
+    }
+
+    @Benchmark
+    public CodeModel transform(CodeModelState state, LoadedCodeModelState loaded) {
+        return state.pipeline.transform(loaded.codeModel);
+    }
+
+    @Benchmark
+    public Client map(CodeModelState state, TransformedCodeModelState transformed) {
+        return state.pipeline.map(transformed.codeModel);
+    }
+
+    @Benchmark
+    public JavaPackage templates(CodeModelState state) {
+        return state.pipeline.templates(state.transformedCodeModel, state.client);
+    }
+
+    @Benchmark
+    public Map<String, String> javaFileContents(CodeModelState state) {
+        return GeneratorPipeline.javaFileContents(state.javaPackage);
+    }
+
+    @Benchmark
+    public int removeUnusedImports(CodeModelState state) {
+        return GeneratorPipeline.removeUnusedImports(state.javaFiles, false);
+    }
+
+    @Benchmark
+    public int removeUnusedImportsValidate(CodeModelState state) {
+        return GeneratorPipeline.removeUnusedImports(state.javaFiles, true);
+    }
+}
@@ -0,0 +1,422 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantValue;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Info;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.NumberSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocol;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocols;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaResponse;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Security;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ServiceVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Synthesizes a code model of an Azure Resource Manager provider, in the shape of the code model produced by the
+ * TypeSpec emitter for a management-plane service.
+ * <p>
+ * Each resource type has a model with "id", "name" and "type" properties, and an operation group with "get",
+ * "createOrUpdate", "update" and "delete" operations on the path of the resource. Resource types are tracked resources
+ * under resource group, every third resource type is a child resource of the previous resource type, and every fifth
+ * resource type is under subscription.
+ */
+public final class SyntheticArmCodeModel {
+    private static final String ORIGIN_HOST = "modelerfour:synthesized/host";
+    private static final String ORIGIN_API_VERSION = "modelerfour:synthesized/api-version";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String PROVIDER_NAMESPACE = "Microsoft.Synthetic";
+
+    private final Builder options;
+    private final Schemas schemas = new Schemas();
+
+    private StringSchema stringSchema;
+    private NumberSchema int32Schema;
+    private ConstantSchema acceptSchema;
+    private ConstantSchema contentTypeSchema;
+    private final List<ObjectSchema> models = new ArrayList<>();
+
+    private Parameter endpointParameter;
+    private Parameter apiVersionParameter;
+    private Parameter subscriptionIdParameter;
+
+    private SyntheticArmCodeModel(Builder options) {
+        this.options = options;
+    }
+
+    /**
+     * Builder of the synthetic code model.
+     */
+    public static final class Builder {
+        private int resourceTypes = 100;
+        private int properties = 5;
+        private String namespace = "com.synthetic.resourcemanager";
+
+        /**
+         * Creates a new instance of the Builder class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Sets the number of resource types.
+         *
+         * @param resourceTypes the number of resource types
+         * @return the Builder itself
+         */
+        public Builder resourceTypes(int resourceTypes) {
+            this.resourceTypes = Math.max(1, resourceTypes);
+            return this;
+        }
+
+        /**
+         * Sets the number of properties of each resource model, besides "id", "name" and "type".
+         *
+         * @param properties the number of properties of each resource model
+         * @return the Builder itself
+         */
+        public Builder properties(int properties) {
+            this.properties = Math.max(0, properties);
+            return this;
+        }
+
+        /**
+         * Sets the Java namespace of the code model.
+         *
+         * @param namespace the Java namespace
+         * @return the Builder itself
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * Gets the Java namespace of the code model.
+         *
+         * @return the Java namespace
+         */
+        public String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * Synthesizes a new code model. Each call creates a new instance, as the code model is modified by the
+         * generator.
+         *
+         * @return the code model
+         */
+        public CodeModel build() {
+            return new SyntheticArmCodeModel(this).createCodeModel();
+        }
+    }
+
+    private CodeModel createCodeModel() {
+        createPrimitiveSchemas();
+        createModels();
+
+        endpointParameter = createEndpointParameter();
+        apiVersionParameter = createApiVersionParameter();
+        subscriptionIdParameter = parameter("subscriptionId", stringSchema, RequestParameterLocation.PATH, true);
+        subscriptionIdParameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+
+        Client client = new Client();
+        client.setLanguage(languages("SyntheticManagementClient", "Synthetic management client.", options.namespace));
+        client.setSecurity(new Security());
+        client.setApiVersions(Collections.singletonList(apiVersion("2025-01-01")));
+        ServiceVersion serviceVersion = new ServiceVersion();
+        serviceVersion.setLanguage(languages("SyntheticServiceVersion", "SyntheticManagementClient", null));
+        client.setServiceVersion(serviceVersion);
+        client.setGlobalParameters(
+            new ArrayList<>(Arrays.asList(endpointParameter, apiVersionParameter, subscriptionIdParameter)));
+
+        for (int i = 0; i < options.resourceTypes; ++i) {
+            String groupName = "Type" + i + "s";
+            OperationGroup operationGroup = new OperationGroup();
+            operationGroup.setLanguage(languages(groupName, "", null));
+            operationGroup.set$key(groupName);
+
+            String path = resourcePath(i);
+            List<Parameter> pathParameters = pathParameters(i);
+            ObjectSchema model = models.get(i);
+            operationGroup.getOperations()
+                .add(createOperation(groupName, "get", "get", path, pathParameters, null, model, "200"));
+            operationGroup.getOperations()
+                .add(createOperation(groupName, "createOrUpdate", "put", path, pathParameters, model, model, "200"));
+            operationGroup.getOperations()
+                .add(createOperation(groupName, "update", "patch", path, pathParameters, model, model, "200"));
+            operationGroup.getOperations()
+                .add(createOperation(groupName, "delete", "delete", path, pathParameters, null, null, "200"));
+            client.getOperationGroups().add(operationGroup);
+        }
+
+        CodeModel codeModel = new CodeModel();
+        Info info = new Info();
+        info.setTitle("Synthetic");
+        info.setDescription("Synthetic management service.");
+        codeModel.setInfo(info);
+        codeModel.setLanguage(languages("Synthetic", "Synthetic management service.", options.namespace));
+        codeModel.setSecurity(client.getSecurity());
+        codeModel.setSchemas(schemas);
+        codeModel.setClients(new ArrayList<>(Collections.singletonList(client)));
+        codeModel.setGlobalParameters(new ArrayList<>(client.getGlobalParameters()));
+        return codeModel;
+    }
+
+    private void createPrimitiveSchemas() {
+        stringSchema = schema(new StringSchema(), Schema.AllSchemaTypes.STRING, "string");
+        schemas.getStrings().add(stringSchema);
+
+        int32Schema = schema(new NumberSchema(), Schema.AllSchemaTypes.INTEGER, "int32");
+        int32Schema.setPrecision(32);
+        schemas.getNumbers().add(int32Schema);
+
+        acceptSchema = constantSchema("accept", JSON_MEDIA_TYPE);
+        contentTypeSchema = constantSchema("contentType", JSON_MEDIA_TYPE);
+    }
+
+    private void createModels() {
+        for (int i = 0; i < options.resourceTypes; ++i) {
+            String name = "Type" + i;
+            ObjectSchema model = schema(new ObjectSchema(), Schema.AllSchemaTypes.OBJECT, name);
+            model.getLanguage().setJava(javaNamespace());
+            model.setDescription("The " + name + " resource.");
+            model.setUsage(EnumSet.of(SchemaContext.INPUT, SchemaContext.OUTPUT, SchemaContext.PUBLIC));
+
+            model.getProperties().add(readOnlyProperty("id"));
+            model.getProperties().add(readOnlyProperty("name"));
+            model.getProperties().add(readOnlyProperty("type"));
+            for (int p = 0; p < options.properties; ++p) {
+                model.getProperties()
+                    .add(p % 2 == 0
+                        ? property("description" + p, stringSchema, false)
+                        : property("count" + p, int32Schema, false));
+            }
+
+            models.add(model);
+            schemas.getObjects().add(model);
+        }
+    }
+
+    // e.g. "/subscriptions/{subscriptionId}/providers/Microsoft.Synthetic/type4s/{type4Name}/type5s/{type5Name}"
+    private static String resourcePath(int index) {
+        String segment = "/type" + index + "s/{type" + index + "Name}";
+        if (isChildResource(index)) {
+            return resourcePath(index - 1) + segment;
+        } else if (index % 5 == 4) {
+            return "/subscriptions/{subscriptionId}/providers/" + PROVIDER_NAMESPACE + segment;
+        } else {
+            return "/subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}/providers/"
+                + PROVIDER_NAMESPACE + segment;
+        }
+    }
+
+    private List<Parameter> pathParameters(int index) {
+        List<Parameter> parameters = new ArrayList<>();
+        if (isChildResource(index)) {
+            parameters.addAll(pathParameters(index - 1));
+        } else if (index % 5 != 4) {
+            parameters.add(parameter("resourceGroupName", stringSchema, RequestParameterLocation.PATH, true));
+        }
+        parameters.add(parameter("type" + index + "Name", stringSchema, RequestParameterLocation.PATH, true));
+        return parameters;
+    }
+
+    private static boolean isChildResource(int index) {
+        return index % 3 == 2;
+    }
+
+    private Operation createOperation(String groupName, String operationName, String method, String path,
+        List<Parameter> pathParameters, ObjectSchema body, ObjectSchema response, String statusCode) {
+        Operation operation = new Operation();
+        operation.setLanguage(languages(operationName, "The " + operationName + " operation.", null));
+        operation.setOperationId(groupName + "_" + operationName);
+        operation.setGenerateProtocolApi(false);
+
+        Request request = new Request();
+        request.setProtocol(protocols(http(method, path)));
+        operation.setRequests(new ArrayList<>(Collections.singletonList(request)));
+
+        operation.getParameters().add(endpointParameter);
+        operation.getParameters().add(apiVersionParameter);
+        operation.getParameters().add(subscriptionIdParameter);
+        for (Parameter pathParameter : pathParameters) {
+            operation.getParameters().add(pathParameter);
+            operation.getSignatureParameters().add(pathParameter);
+        }
+        if (body != null) {
+            operation.getParameters()
+                .add(parameter("contentType", contentTypeSchema, RequestParameterLocation.HEADER, true, "Content-Type"));
+        }
+        operation.getParameters()
+            .add(parameter("accept", acceptSchema, RequestParameterLocation.HEADER, true, "Accept"));
+        if (body != null) {
+            request.getProtocol().getHttp().setMediaTypes(Collections.singletonList(JSON_MEDIA_TYPE));
+            Parameter resource = parameter("resource", body, RequestParameterLocation.BODY, true);
+            operation.getParameters().add(resource);
+            operation.getSignatureParameters().add(resource);
+        }
+
+        if (response != null) {
+            operation.getResponses().add(schemaResponse(response, statusCode));
+        } else {
+            Response noContent = new Response();
+            noContent.setProtocol(protocols(statusCodes(statusCode)));
+            noContent.setLanguage(languages("response", "The request has succeeded.", null));
+            operation.getResponses().add(noContent);
+        }
+
+        Response error = new Response();
+        error.setProtocol(protocols(statusCodes("default")));
+        error.setLanguage(languages(operationName + "Response", "An unexpected error response.", null));
+        operation.getExceptions().add(error);
+
+        return operation;
+    }
+
+    private Parameter createEndpointParameter() {
+        Parameter parameter = parameter("endpoint", stringSchema, RequestParameterLocation.URI, true);
+        parameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+        parameter.setOrigin(ORIGIN_HOST);
+        return parameter;
+    }
+
+    private Parameter createApiVersionParameter() {
+        ConstantSchema apiVersionSchema = constantSchema("api-version", "2025-01-01");
+        Parameter parameter = parameter("api-version", apiVersionSchema, RequestParameterLocation.QUERY, true);
+        parameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+        parameter.setOrigin(ORIGIN_API_VERSION);
+        return parameter;
+    }
+
+    private ConstantSchema constantSchema(String name, String value) {
+        ConstantSchema constantSchema = schema(new ConstantSchema(), Schema.AllSchemaTypes.CONSTANT, name);
+        constantSchema.setValueType(stringSchema);
+        ConstantValue constantValue = new ConstantValue();
+        constantValue.setValue(value);
+        constantSchema.setValue(constantValue);
+        schemas.getConstants().add(constantSchema);
+        return constantSchema;
+    }
+
+    private Property readOnlyProperty(String name) {
+        Property property = property(name, stringSchema, false);
+        property.setReadOnly(true);
+        return property;
+    }
+
+    private static <T extends Schema> T schema(T schema, Schema.AllSchemaTypes type, String name) {
+        schema.setType(type);
+        schema.setLanguage(languages(name, "", null));
+        return schema;
+    }
+
+    private static Property property(String name, Schema schema, boolean required) {
+        Property property = new Property();
+        property.setLanguage(languages(name, "The " + name + " property.", null));
+        property.setSchema(schema);
+        property.setRequired(required);
+        property.setSerializedName(name);
+        return property;
+    }
+
+    private static Parameter parameter(String name, Schema schema, RequestParameterLocation location,
+        boolean required) {
+        return parameter(name, schema, location, required, name);
+    }
+
+    private static Parameter parameter(String name, Schema schema, RequestParameterLocation location,
+        boolean required, String serializedName) {
+        Parameter parameter = new Parameter();
+        parameter.setLanguage(languages(name, "The " + name + " parameter.", null));
+        parameter.getLanguage().getDefault().setSerializedName(serializedName);
+        parameter.setSchema(schema);
+        parameter.setRequired(required);
+        parameter.setImplementation(Parameter.ImplementationLocation.METHOD);
+        Protocol http = new Protocol();
+        http.setIn(location);
+        parameter.setProtocol(protocols(http));
+        return parameter;
+    }
+
+    private static SchemaResponse schemaResponse(Schema schema, String statusCode) {
+        SchemaResponse response = new SchemaResponse();
+        response.setSchema(schema);
+        Protocol http = statusCodes(statusCode);
+        http.setMediaTypes(Collections.singletonList(JSON_MEDIA_TYPE));
+        response.setProtocol(protocols(http));
+        response.setLanguage(languages("response", "The request has succeeded.", null));
+        return response;
+    }
+
+    private static Protocol http(String method, String path) {
+        Protocol http = new Protocol();
+        http.setMethod(method);
+        http.setPath(path);
+        http.setUri("{endpoint}");
+        return http;
+    }
+
+    private static Protocol statusCodes(String statusCode) {
+        Protocol http = new Protocol();
+        http.setStatusCodes(Collections.singletonList(statusCode));
+        http.setHeaders(new ArrayList<>());
+        return http;
+    }
+
+    private static Protocols protocols(Protocol http) {
+        Protocols protocols = new Protocols();
+        protocols.setHttp(http);
+        return protocols;
+    }
+
+    private static ApiVersion apiVersion(String version) {
+        ApiVersion apiVersion = new ApiVersion();
+        apiVersion.setVersion(version);
+        return apiVersion;
+    }
+
+    private Language javaNamespace() {
+        Language java = new Language();
+        java.setNamespace(options.namespace);
+        return java;
+    }
+
+    private static Languages languages(String name, String description, String namespace) {
+        Language language = new Language();
+        language.setName(name);
+        language.setDescription(description);
+        Languages languages = new Languages();
+        languages.setDefault(language);
+        if (namespace != null) {
+            language.setNamespace(namespace);
+            Language java = new Language();
+            java.setNamespace(namespace);
+            languages.setJava(java);
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,712 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ArraySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.BinarySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.BooleanSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ChoiceValue;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantValue;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConvenienceApi;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.DateTimeSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Discriminator;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Header;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Info;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.KnownMediaType;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.LongRunningMetadata;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.NumberSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocol;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocols;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Relations;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaResponse;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Security;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ServiceVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.UnixTimeSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
+import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsPageable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthesizes a code model of configurable size, in the shape of the code model produced by the TypeSpec emitter.
+ * <p>
+ * The code model contains a client with operation groups of basic (get/put), paging and long-running operations, and
+ * optionally an operation group of binary download and upload operations. It contains models with properties of
+ * primitive, enum, array and model types. Models are organized in families, where each
+ * family is a polymorphic hierarchy of the configured depth.
+ */
+public final class SyntheticCodeModel {
+    private static final String ORIGIN_HOST = "modelerfour:synthesized/host";
+    private static final String ORIGIN_API_VERSION = "modelerfour:synthesized/api-version";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String BINARY_MEDIA_TYPE = "application/octet-stream";
+    private static final int OPERATIONS_PER_GROUP = 10;
+
+    private final Builder options;
+    private final Schemas schemas = new Schemas();
+
+    private StringSchema stringSchema;
+    private NumberSchema int32Schema;
+    private BooleanSchema booleanSchema;
+    private DateTimeSchema dateTimeSchema;
+    private UnixTimeSchema unixTimeSchema;
+    private ArraySchema stringArraySchema;
+    private SealedChoiceSchema colorSchema;
+    private ConstantSchema acceptSchema;
+    private ConstantSchema contentTypeSchema;
+    private ObjectSchema operationStatusSchema;
+    private final List<ObjectSchema> models = new ArrayList<>();
+    private final Map<ObjectSchema, ObjectSchema> pageSchemas = new LinkedHashMap<>();
+
+    private Parameter endpointParameter;
+    private Parameter apiVersionParameter;
+
+    private SyntheticCodeModel(Builder options) {
+        this.options = options;
+    }
+
+    /**
+     * Builder of the synthetic code model.
+     */
+    public static final class Builder {
+        private int models = 100;
+        private int properties = 10;
+        private int polymorphismDepth = 2;
+        private int operations = 100;
+        private double pagingRatio = 0.2;
+        private double lroRatio = 0.1;
+        private boolean binaryOperations = false;
+        private String namespace = "com.synthetic.benchmark";
+
+        /**
+         * Creates a new instance of the Builder class.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Sets the number of models.
+         *
+         * @param models the number of models
+         * @return the Builder itself
+         */
+        public Builder models(int models) {
+            this.models = Math.max(1, models);
+            return this;
+        }
+
+        /**
+         * Sets the number of properties of each model.
+         *
+         * @param properties the number of properties of each model
+         * @return the Builder itself
+         */
+        public Builder properties(int properties) {
+            this.properties = Math.max(1, properties);
+            return this;
+        }
+
+        /**
+         * Sets the depth of polymorphic hierarchy. 0 means no polymorphism.
+         *
+         * @param polymorphismDepth the depth of polymorphic hierarchy
+         * @return the Builder itself
+         */
+        public Builder polymorphismDepth(int polymorphismDepth) {
+            this.polymorphismDepth = Math.max(0, polymorphismDepth);
+            return this;
+        }
+
+        /**
+         * Sets the number of operations.
+         *
+         * @param operations the number of operations
+         * @return the Builder itself
+         */
+        public Builder operations(int operations) {
+            this.operations = Math.max(0, operations);
+            return this;
+        }
+
+        /**
+         * Sets the ratio of paging operations, in [0, 1].
+         *
+         * @param pagingRatio the ratio of paging operations
+         * @return the Builder itself
+         */
+        public Builder pagingRatio(double pagingRatio) {
+            this.pagingRatio = Math.min(1, Math.max(0, pagingRatio));
+            return this;
+        }
+
+        /**
+         * Sets the ratio of long-running operations, in [0, 1].
+         *
+         * @param lroRatio the ratio of long-running operations
+         * @return the Builder itself
+         */
+        public Builder lroRatio(double lroRatio) {
+            this.lroRatio = Math.min(1, Math.max(0, lroRatio));
+            return this;
+        }
+
+        /**
+         * Sets whether the code model contains an operation group of binary download and upload operations.
+         *
+         * @param binaryOperations whether the code model contains binary operations
+         * @return the Builder itself
+         */
+        public Builder binaryOperations(boolean binaryOperations) {
+            this.binaryOperations = binaryOperations;
+            return this;
+        }
+
+        /**
+         * Sets the Java namespace of the code model.
+         *
+         * @param namespace the Java namespace
+         * @return the Builder itself
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * Gets the Java namespace of the code model.
+         *
+         * @return the Java namespace
+         */
+        public String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * Synthesizes a new code model. Each call creates a new instance, as the code model is modified by the
+         * generator.
+         *
+         * @return the code model
+         */
+        public CodeModel build() {
+            return new SyntheticCodeModel(this).createCodeModel();
+        }
+    }
+
+    private CodeModel createCodeModel() {
+        createPrimitiveSchemas();
+        createModels();
+
+        endpointParameter = createEndpointParameter();
+        apiVersionParameter = createApiVersionParameter();
+
+        Client client = new Client();
+        client.setLanguage(languages("SyntheticClient", "Synthetic client.", options.namespace));
+        client.setSecurity(new Security());
+        client.setApiVersions(Arrays.asList(apiVersion("2024-01-01"), apiVersion("2025-01-01")));
+        ServiceVersion serviceVersion = new ServiceVersion();
+        serviceVersion.setLanguage(languages("SyntheticServiceVersion", "SyntheticClient", null));
+        client.setServiceVersion(serviceVersion);
+        client.setGlobalParameters(new ArrayList<>(Arrays.asList(endpointParameter, apiVersionParameter)));
+
+        OperationGroup operationGroup = null;
+        for (int i = 0; i < options.operations; ++i) {
+            if (i % OPERATIONS_PER_GROUP == 0) {
+                operationGroup = new OperationGroup();
+                String groupName = "Group" + (i / OPERATIONS_PER_GROUP);
+                operationGroup.setLanguage(languages(groupName, "", null));
+                operationGroup.set$key(groupName);
+                client.getOperationGroups().add(operationGroup);
+            }
+            operationGroup.getOperations().add(createOperation(i, models.get(i % models.size())));
+        }
+        if (options.binaryOperations) {
+            client.getOperationGroups().add(createBinaryOperationGroup());
+        }
+
+        CodeModel codeModel = new CodeModel();
+        Info info = new Info();
+        info.setTitle("Synthetic");
+        info.setDescription("Synthetic service.");
+        codeModel.setInfo(info);
+        codeModel.setLanguage(languages("Synthetic", "Synthetic service.", options.namespace));
+        codeModel.setSecurity(client.getSecurity());
+        codeModel.setSchemas(schemas);
+        codeModel.setClients(new ArrayList<>(Collections.singletonList(client)));
+        codeModel.setGlobalParameters(new ArrayList<>(client.getGlobalParameters()));
+        return codeModel;
+    }
+
+    private void createPrimitiveSchemas() {
+        stringSchema = schema(new StringSchema(), Schema.AllSchemaTypes.STRING, "string");
+        schemas.getStrings().add(stringSchema);
+
+        int32Schema = schema(new NumberSchema(), Schema.AllSchemaTypes.INTEGER, "int32");
+        int32Schema.setPrecision(32);
+        schemas.getNumbers().add(int32Schema);
+
+        booleanSchema = schema(new BooleanSchema(), Schema.AllSchemaTypes.BOOLEAN, "boolean");
+        schemas.getBooleans().add(booleanSchema);
+
+        dateTimeSchema = schema(new DateTimeSchema(), Schema.AllSchemaTypes.DATE_TIME, "utcDateTime");
+        dateTimeSchema.setFormat(DateTimeSchema.Format.DATE_TIME);
+        schemas.getDateTimes().add(dateTimeSchema);
+
+        unixTimeSchema = schema(new UnixTimeSchema(), Schema.AllSchemaTypes.UNIXTIME, "unixTimestamp");
+        schemas.getUnixtimes().add(unixTimeSchema);
+
+        stringArraySchema = arraySchema("StringArray", stringSchema);
+
+        colorSchema = schema(new SealedChoiceSchema(), Schema.AllSchemaTypes.SEALED_CHOICE, "Color");
+        colorSchema.getLanguage().setJava(javaNamespace());
+        colorSchema.setChoiceType(stringSchema);
+        for (String color : Arrays.asList("Red", "Green", "Blue")) {
+            ChoiceValue choice = new ChoiceValue();
+            choice.setLanguage(languages(color, color + " color.", null));
+            choice.setValue(color.toLowerCase());
+            colorSchema.getChoices().add(choice);
+        }
+        colorSchema.setUsage(EnumSet.of(SchemaContext.INPUT, SchemaContext.OUTPUT, SchemaContext.PUBLIC));
+        schemas.getSealedChoices().add(colorSchema);
+
+        acceptSchema = constantSchema("accept", JSON_MEDIA_TYPE);
+        contentTypeSchema = constantSchema("contentType", JSON_MEDIA_TYPE);
+    }
+
+    private void createModels() {
+        int familySize = options.polymorphismDepth + 1;
+        for (int i = 0; i < options.models; ++i) {
+            String name = "Model" + i;
+            ObjectSchema model = schema(new ObjectSchema(), Schema.AllSchemaTypes.OBJECT, name);
+            model.getLanguage().setJava(javaNamespace());
+            model.setDescription("The " + name + " model.");
+            model.setUsage(EnumSet.of(SchemaContext.INPUT, SchemaContext.OUTPUT, SchemaContext.PUBLIC));
+
+            int level = i % familySize;
+            if (level == 0) {
+                model.getProperties().add(property("name", stringSchema, true));
+                if (familySize > 1 && i + 1 < options.models) {
+                    Property kind = property("kind", stringSchema, true);
+                    kind.setIsDiscriminator(true);
+                    Discriminator discriminator = new Discriminator();
+                    discriminator.setProperty(kind);
+                    discriminator.setImmediate(new LinkedHashMap<>());
+                    discriminator.setAll(new LinkedHashMap<>());
+                    model.setDiscriminator(discriminator);
+                }
+            } else {
+                addParent(model, models.get(i - 1), name.toLowerCase());
+            }
+
+            for (int p = 1; p < options.properties; ++p) {
+                model.getProperties().add(createProperty(i, p));
+            }
+            if (i == 0) {
+                // properties of unix time, set via the constructor and via the setter
+                model.getProperties().add(property("updatedOn", unixTimeSchema, true));
+                model.getProperties().add(property("deletedOn", unixTimeSchema, false));
+            }
+
+            models.add(model);
+            schemas.getObjects().add(model);
+        }
+
+        operationStatusSchema = schema(new ObjectSchema(), Schema.AllSchemaTypes.OBJECT, "OperationStatus");
+        operationStatusSchema.getLanguage().setJava(javaNamespace());
+        operationStatusSchema.setUsage(EnumSet.of(SchemaContext.OUTPUT, SchemaContext.PUBLIC));
+        operationStatusSchema.getProperties().add(property("id", stringSchema, true));
+        operationStatusSchema.getProperties().add(property("status", stringSchema, true));
+        // properties of unix time, whose getters convert the value from the wire type, with names that the generator
+        // may derive from one another
+        operationStatusSchema.getProperties().add(property("createdOn", unixTimeSchema, false));
+        operationStatusSchema.getProperties().add(property("createdOnConverted", unixTimeSchema, false));
+        operationStatusSchema.getProperties()
+            .add(property("checkedOn", arraySchema("UnixTimestampArray", unixTimeSchema), true));
+        schemas.getObjects().add(operationStatusSchema);
+    }
+
+    private void addParent(ObjectSchema model, ObjectSchema parent, String discriminatorValue) {
+        model.setParents(new Relations());
+        model.getParents().setImmediate(new ArrayList<>(Collections.singletonList(parent)));
+        model.getParents().setAll(new ArrayList<>(Collections.singletonList(parent)));
+        if (parent.getParents() != null) {
+            model.getParents().getAll().addAll(parent.getParents().getAll());
+        }
+        model.setDiscriminatorValue(discriminatorValue);
+
+        for (Schema ancestor : model.getParents().getAll()) {
+            ObjectSchema ancestorObject = (ObjectSchema) ancestor;
+            if (ancestorObject.getChildren() == null) {
+                ancestorObject.setChildren(new Relations());
+                ancestorObject.getChildren().setImmediate(new ArrayList<>());
+                ancestorObject.getChildren().setAll(new ArrayList<>());
+            }
+            if (ancestorObject == parent) {
+                ancestorObject.getChildren().getImmediate().add(model);
+            }
+            ancestorObject.getChildren().getAll().add(model);
+            if (ancestorObject.getDiscriminator() != null) {
+                if (ancestorObject == parent) {
+                    ancestorObject.getDiscriminator().getImmediate().put(discriminatorValue, model);
+                }
+                ancestorObject.getDiscriminator().getAll().put(discriminatorValue, model);
+            }
+        }
+    }
+
+    private Property createProperty(int modelIndex, int propertyIndex) {
+        // property names are unique in the polymorphic hierarchy, as a derived model has the properties of its parents
+        String suffix = propertyIndex + "OfModel" + modelIndex;
+        switch (propertyIndex % 7) {
+            case 0:
+                return property("description" + suffix, stringSchema, false);
+
+            case 1:
+                return property("count" + suffix, int32Schema, propertyIndex == 1);
+
+            case 2:
+                return property("enabled" + suffix, booleanSchema, false);
+
+            case 3:
+                return property("createdOn" + suffix, dateTimeSchema, false);
+
+            case 4:
+                return property("color" + suffix, colorSchema, false);
+
+            case 5:
+                return property("tags" + suffix, stringArraySchema, false);
+
+            default:
+                // reference to a model defined earlier, to avoid forward references
+                return modelIndex == 0
+                    ? property("label" + suffix, stringSchema, false)
+                    : property("related" + suffix, models.get((modelIndex * 31) % modelIndex), false);
+        }
+    }
+
+    private Operation createOperation(int index, ObjectSchema model) {
+        String modelName = model.getLanguage().getDefault().getName();
+        String path = "/" + modelName.toLowerCase() + "s";
+
+        boolean paging = crossesThreshold(index, options.pagingRatio);
+        boolean lro = !paging && crossesThreshold(index, options.lroRatio);
+        boolean put = !paging && (lro || index % 2 == 1);
+
+        String operationName;
+        if (paging) {
+            operationName = "list" + modelName + "s" + index;
+        } else if (lro) {
+            operationName = "create" + modelName + index;
+        } else if (put) {
+            operationName = "createOrReplace" + modelName + index;
+        } else {
+            operationName = "get" + modelName + index;
+        }
+
+        Operation operation = new Operation();
+        operation.setLanguage(languages(operationName, "The " + operationName + " operation.", null));
+        operation.setOperationId("Group" + (index / OPERATIONS_PER_GROUP) + "_" + operationName);
+        ConvenienceApi convenienceApi = new ConvenienceApi();
+        convenienceApi.setLanguage(languages(operationName, "", null));
+        operation.setConvenienceApi(convenienceApi);
+        operation.setGenerateProtocolApi(true);
+
+        Request request = new Request();
+        request.setProtocol(protocols(http(put ? "put" : "get", paging ? path : path + "/{name}")));
+        operation.setRequests(new ArrayList<>(Collections.singletonList(request)));
+
+        operation.getParameters().add(endpointParameter);
+        operation.getParameters().add(apiVersionParameter);
+        if (paging) {
+            Parameter top = parameter("top", int32Schema, RequestParameterLocation.QUERY, false);
+            operation.getParameters().add(top);
+            operation.getSignatureParameters().add(top);
+        } else {
+            Parameter name = parameter("name", stringSchema, RequestParameterLocation.PATH, true);
+            operation.getParameters().add(name);
+            operation.getSignatureParameters().add(name);
+        }
+        if (put) {
+            operation.getParameters()
+                .add(parameter("contentType", contentTypeSchema, RequestParameterLocation.HEADER, true, "Content-Type"));
+        }
+        operation.getParameters()
+            .add(parameter("accept", acceptSchema, RequestParameterLocation.HEADER, true, "Accept"));
+        if (put) {
+            request.getProtocol().getHttp().setMediaTypes(Collections.singletonList(JSON_MEDIA_TYPE));
+            Parameter resource = parameter("resource", model, RequestParameterLocation.BODY, true);
+            operation.getParameters().add(resource);
+            operation.getSignatureParameters().add(resource);
+        }
+
+        if (paging) {
+            ObjectSchema pageSchema = pageSchemas.computeIfAbsent(model, this::createPageSchema);
+            operation.getResponses().add(schemaResponse(pageSchema, "200"));
+
+            XmsPageable pageable = new XmsPageable();
+            pageable.setItemName("value");
+            pageable.setNextLinkName("nextLink");
+            pageable.setPageItemsProperty(Collections.singletonList(pageSchema.getProperties().get(0)));
+            pageable.setNextLinkProperty(Collections.singletonList(pageSchema.getProperties().get(1)));
+            operation.setExtensions(new XmsExtensions());
+            operation.getExtensions().setXmsPageable(pageable);
+        } else if (lro) {
+            SchemaResponse response = schemaResponse(model, "201");
+            Header operationLocation = new Header();
+            operationLocation.setHeader("Operation-Location");
+            operationLocation.setSchema(stringSchema);
+            operationLocation.setLanguage(languages("operationLocation", "The location for monitoring.", null));
+            response.getProtocol().getHttp().setHeaders(Collections.singletonList(operationLocation));
+            operation.getResponses().add(response);
+
+            LongRunningMetadata lroMetadata = new LongRunningMetadata();
+            lroMetadata.setPollResultType(operationStatusSchema);
+            lroMetadata.setFinalResultType(model);
+            operation.setLroMetadata(lroMetadata);
+            operation.setExtensions(new XmsExtensions());
+            operation.getExtensions().setXmsLongRunningOperation(true);
+        } else if (put) {
+            operation.getResponses().add(schemaResponse(model, "200"));
+            operation.getResponses().add(schemaResponse(model, "201"));
+        } else {
+            operation.getResponses().add(schemaResponse(model, "200"));
+        }
+
+        Response error = new Response();
+        error.setProtocol(protocols(statusCodes("default")));
+        error.setLanguage(languages(operationName + "Response", "An unexpected error response.", null));
+        operation.getExceptions().add(error);
+
+        return operation;
+    }
+
+    private OperationGroup createBinaryOperationGroup() {
+        BinarySchema binarySchema = schema(new BinarySchema(), Schema.AllSchemaTypes.BINARY, "binary");
+        schemas.getBinaries().add(binarySchema);
+        ConstantSchema binaryAcceptSchema = constantSchema("binaryAccept", BINARY_MEDIA_TYPE);
+        ConstantSchema binaryContentTypeSchema = constantSchema("binaryContentType", BINARY_MEDIA_TYPE);
+
+        OperationGroup operationGroup = new OperationGroup();
+        operationGroup.setLanguage(languages("Files", "", null));
+        operationGroup.set$key("Files");
+        for (boolean upload : new boolean[] { false, true }) {
+            String operationName = upload ? "uploadFile" : "downloadFile";
+            Operation operation = new Operation();
+            operation.setLanguage(languages(operationName, "The " + operationName + " operation.", null));
+            operation.setOperationId("Files_" + operationName);
+            ConvenienceApi convenienceApi = new ConvenienceApi();
+            convenienceApi.setLanguage(languages(operationName, "", null));
+            operation.setConvenienceApi(convenienceApi);
+            operation.setGenerateProtocolApi(true);
+
+            Request request = new Request();
+            request.setProtocol(protocols(http(upload ? "put" : "get", "/files/{name}")));
+            operation.setRequests(new ArrayList<>(Collections.singletonList(request)));
+
+            operation.getParameters().add(endpointParameter);
+            operation.getParameters().add(apiVersionParameter);
+            Parameter name = parameter("name", stringSchema, RequestParameterLocation.PATH, true);
+            operation.getParameters().add(name);
+            operation.getSignatureParameters().add(name);
+            if (upload) {
+                request.getProtocol().getHttp().setMediaTypes(Collections.singletonList(BINARY_MEDIA_TYPE));
+                operation.getParameters()
+                    .add(parameter("contentType", binaryContentTypeSchema, RequestParameterLocation.HEADER, true,
+                        "Content-Type"));
+                Parameter content = parameter("content", binarySchema, RequestParameterLocation.BODY, true);
+                operation.getParameters().add(content);
+                operation.getSignatureParameters().add(content);
+
+                Response response = new Response();
+                response.setProtocol(protocols(statusCodes("204")));
+                response.setLanguage(languages(operationName + "Response", "There is no content to send.", null));
+                operation.getResponses().add(response);
+            } else {
+                operation.getParameters()
+                    .add(parameter("accept", binaryAcceptSchema, RequestParameterLocation.HEADER, true, "Accept"));
+
+                Response response = new Response();
+                response.setBinary(true);
+                Protocol http = statusCodes("200");
+                http.setMediaTypes(Collections.singletonList(BINARY_MEDIA_TYPE));
+                http.setKnownMediaType(KnownMediaType.BINARY);
+                response.setProtocol(protocols(http));
+                response.setLanguage(languages(operationName + "Response", "The request has succeeded.", null));
+                operation.getResponses().add(response);
+            }
+
+            Response error = new Response();
+            error.setProtocol(protocols(statusCodes("default")));
+            error.setLanguage(languages(operationName + "Response", "An unexpected error response.", null));
+            operation.getExceptions().add(error);
+
+            operationGroup.getOperations().add(operation);
+        }
+        return operationGroup;
+    }
+
+    private ObjectSchema createPageSchema(ObjectSchema model) {
+        String name = "Paged" + model.getLanguage().getDefault().getName();
+        ObjectSchema pageSchema = schema(new ObjectSchema(), Schema.AllSchemaTypes.OBJECT, name);
+        pageSchema.getLanguage().setJava(javaNamespace());
+        pageSchema.setDescription("Paged collection of " + model.getLanguage().getDefault().getName() + " items.");
+        pageSchema.setUsage(EnumSet.of(SchemaContext.OUTPUT, SchemaContext.PUBLIC, SchemaContext.PAGED));
+
+        pageSchema.getProperties().add(property("value", arraySchema(name + "Value", model), true));
+        pageSchema.getProperties().add(property("nextLink", stringSchema, false));
+        schemas.getObjects().add(pageSchema);
+        return pageSchema;
+    }
+
+    private static boolean crossesThreshold(int index, double ratio) {
+        return (int) ((index + 1) * ratio) > (int) (index * ratio);
+    }
+
+    private Parameter createEndpointParameter() {
+        Parameter parameter = parameter("endpoint", stringSchema, RequestParameterLocation.URI, true);
+        parameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+        parameter.setOrigin(ORIGIN_HOST);
+        return parameter;
+    }
+
+    private Parameter createApiVersionParameter() {
+        ConstantSchema apiVersionSchema = constantSchema("api-version", "");
+        Parameter parameter = parameter("api-version", apiVersionSchema, RequestParameterLocation.QUERY, true);
+        parameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+        parameter.setOrigin(ORIGIN_API_VERSION);
+        return parameter;
+    }
+
+    private ArraySchema arraySchema(String name, Schema elementType) {
+        ArraySchema arraySchema = schema(new ArraySchema(), Schema.AllSchemaTypes.ARRAY, name);
+        arraySchema.setElementType(elementType);
+        schemas.getArrays().add(arraySchema);
+        return arraySchema;
+    }
+
+    private ConstantSchema constantSchema(String name, String value) {
+        ConstantSchema constantSchema = schema(new ConstantSchema(), Schema.AllSchemaTypes.CONSTANT, name);
+        constantSchema.setValueType(stringSchema);
+        ConstantValue constantValue = new ConstantValue();
+        constantValue.setValue(value);
+        constantSchema.setValue(constantValue);
+        schemas.getConstants().add(constantSchema);
+        return constantSchema;
+    }
+
+    private static <T extends Schema> T schema(T schema, Schema.AllSchemaTypes type, String name) {
+        schema.setType(type);
+        schema.setLanguage(languages(name, "", null));
+        return schema;
+    }
+
+    private static Property property(String name, Schema schema, boolean required) {
+        Property property = new Property();
+        property.setLanguage(languages(name, "The " + name + " property.", null));
+        property.setSchema(schema);
+        property.setRequired(required);
+        property.setSerializedName(name);
+        return property;
+    }
+
+    private static Parameter parameter(String name, Schema schema, RequestParameterLocation location,
+        boolean required) {
+        return parameter(name, schema, location, required, name);
+    }
+
+    private static Parameter parameter(String name, Schema schema, RequestParameterLocation location,
+        boolean required, String serializedName) {
+        Parameter parameter = new Parameter();
+        parameter.setLanguage(languages(name, "The " + name + " parameter.", null));
+        parameter.getLanguage().getDefault().setSerializedName(serializedName);
+        parameter.setSchema(schema);
+        parameter.setRequired(required);
+        parameter.setImplementation(Parameter.ImplementationLocation.METHOD);
+        Protocol http = new Protocol();
+        http.setIn(location);
+        parameter.setProtocol(protocols(http));
+        return parameter;
+    }
+
+    private static SchemaResponse schemaResponse(Schema schema, String statusCode) {
+        SchemaResponse response = new SchemaResponse();
+        response.setSchema(schema);
+        Protocol http = statusCodes(statusCode);
+        http.setMediaTypes(Collections.singletonList(JSON_MEDIA_TYPE));
+        response.setProtocol(protocols(http));
+        response.setLanguage(languages("response", "The request has succeeded.", null));
+        return response;
+    }
+
+    private static Protocol http(String method, String path) {
+        Protocol http = new Protocol();
+        http.setMethod(method);
+        http.setPath(path);
+        http.setUri("{endpoint}");
+        return http;
+    }
+
+    private static Protocol statusCodes(String statusCode) {
+        Protocol http = new Protocol();
+        http.setStatusCodes(Collections.singletonList(statusCode));
+        http.setHeaders(new ArrayList<>());
+        return http;
+    }
+
+    private static Protocols protocols(Protocol http) {
+        Protocols protocols = new Protocols();
+        protocols.setHttp(http);
+        return protocols;
+    }
+
+    private static ApiVersion apiVersion(String version) {
+        ApiVersion apiVersion = new ApiVersion();
+        apiVersion.setVersion(version);
+        return apiVersion;
+    }
+
+    private Language javaNamespace() {
+        Language java = new Language();
+        java.setNamespace(options.namespace);
+        return java;
+    }
+
+    private static Languages languages(String name, String description, String namespace) {
+        Language language = new Language();
+        language.setName(name);
+        language.setDescription(description);
+        Languages languages = new Languages();
+        languages.setDefault(language);
+        if (namespace != null) {
+            language.setNamespace(namespace);
+            Language java = new Language();
+            java.setNamespace(namespace);
+            languages.setJava(java);
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,147 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.implementation.AsyncHelper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.clientcore.core.http.client.HttpProtocolVersion;
+import io.clientcore.core.http.client.JdkHttpClientBuilder;
+import io.clientcore.core.http.models.HttpMethod;
+import io.clientcore.core.http.models.HttpRequest;
+import io.clientcore.core.http.models.Response;
+import io.clientcore.core.http.pipeline.HttpPipeline;
+import io.clientcore.core.http.pipeline.HttpPipelineBuilder;
+import io.clientcore.core.models.binarydata.BinaryData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load benchmarks of the methods returning CompletableFuture in clientcore clients, against a local stub server that
+ * responds after a fixed latency.
+ * <p>
+ * Each invocation sends "concurrency" requests at once, and waits for all of them to complete. The throughput is
+ * "concurrency" divided by the time of the invocation.
+ * <p>
+ * "default" is the default executor of the generated AsyncHelper, which is a virtual thread per request on Java 21 or
+ * later. "platform" is a pool of 200 platform threads. Run on Java 21 or later to compare them, e.g.
+ * {@code java -jar benchmarks.jar AsyncLoadBenchmarks -p concurrency=10000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn" })
+@State(Scope.Benchmark)
+public class AsyncLoadBenchmarks {
+    private static final byte[] RESPONSE_BODY
+        = "{\"kind\":\"salmon\",\"age\":1,\"friends\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({ "default", "platform" })
+    public String executorType;
+
+    @Param({ "1000", "10000" })
+    public int concurrency;
+
+    @Param({ "200" })
+    public int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ScheduledExecutorService responseScheduler;
+    private ExecutorService platformExecutor;
+
+    private HttpPipeline pipeline;
+    private URI uri;
+    private Executor executor;
+
+    @Setup
+    public void setup() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(8);
+        responseScheduler = Executors.newScheduledThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), concurrency);
+        // the handler does not block the dispatcher, the response is sent after the latency
+        server.createContext("/fishes", exchange -> responseScheduler.schedule(() -> respond(exchange),
+            latencyMillis, TimeUnit.MILLISECONDS));
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/fishes");
+        pipeline = new HttpPipelineBuilder().httpClient(new JdkHttpClientBuilder()
+            .setMaximumHttpVersion(HttpProtocolVersion.HTTP_1_1)
+            .connectionTimeout(Duration.ofSeconds(60))
+            .responseTimeout(Duration.ofSeconds(60))
+            .build()).build();
+
+        if ("platform".equals(executorType)) {
+            platformExecutor = Executors.newFixedThreadPool(200);
+            executor = platformExecutor;
+        } else {
+            executor = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        responseScheduler.shutdownNow();
+        if (platformExecutor != null) {
+            platformExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public long sendConcurrently() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; ++i) {
+            futures[i] = AsyncHelper.supplyAsync(this::getFish, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+
+    // same as the sync method that the generated method returning CompletableFuture runs
+    private int getFish() {
+        HttpRequest request = new HttpRequest().setMethod(HttpMethod.GET).setUri(uri);
+        try (Response<BinaryData> response = pipeline.send(request)) {
+            return response.getValue().toBytes().length;
+        }
+    }
+
+    private static void respond(HttpExchange exchange) {
+        try (OutputStream body = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            body.write(RESPONSE_BODY);
+        } catch (IOException e) {
+            // the client closed the connection
+        } finally {
+            exchange.close();
+        }
+    }
+}
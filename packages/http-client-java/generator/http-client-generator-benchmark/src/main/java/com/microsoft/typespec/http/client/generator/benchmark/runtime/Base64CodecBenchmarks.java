@@ -0,0 +1,109 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.azure.core.util.Base64Url;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serialization code of "encode.bytes" model properties, with a large value.
+ * <p>
+ * The "base64" benchmarks are the code of a property of default encoding, which reads the value with
+ * {@code JsonReader.getBinary()} and writes it with {@code JsonWriter.writeBinary(byte[])}. These decode from, and
+ * encode into, the buffer of the parser and generator, without an intermediate String. The "base64url" benchmarks are
+ * the code of a property of "base64url" encoding, which reads the value as String to {@code Base64Url}, and writes it
+ * as String.
+ * <p>
+ * Run with "-prof gc" to compare the allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Base64CodecBenchmarks {
+
+    /**
+     * The number of bytes of the value.
+     */
+    @Param({ "4194304" })
+    public int size;
+
+    private byte[] value;
+    private Base64Url base64UrlValue;
+    private String base64Json;
+    private String base64UrlJson;
+
+    @Setup
+    public void setup() {
+        value = new byte[size];
+        ThreadLocalRandom.current().nextBytes(value);
+        base64UrlValue = Base64Url.encode(value);
+        base64Json = "\"" + Base64.getEncoder().encodeToString(value) + "\"";
+        base64UrlJson = "\"" + base64UrlValue + "\"";
+    }
+
+    @Benchmark
+    public byte[] base64Read() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(base64Json)) {
+            jsonReader.nextToken();
+            return jsonReader.getBinary();
+        }
+    }
+
+    @Benchmark
+    public byte[] base64UrlRead() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(base64UrlJson)) {
+            jsonReader.nextToken();
+            Base64Url base64Url = jsonReader.getNullable(nonNullReader -> new Base64Url(nonNullReader.getString()));
+            return base64Url.decodedBytes();
+        }
+    }
+
+    @Benchmark
+    public void base64Write() throws IOException {
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(NullOutputStream.INSTANCE)) {
+            jsonWriter.writeBinary(value);
+        }
+    }
+
+    @Benchmark
+    public void base64UrlWrite() throws IOException {
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(NullOutputStream.INSTANCE)) {
+            jsonWriter.writeString(Objects.toString(base64UrlValue, null));
+        }
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.azure.core.util.CoreUtils;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.implementation.DateTimeHelper;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the date-time and duration codecs of the serialization code of models, with and without the
+ * "fast-date-time-codecs" option.
+ * <p>
+ * Each benchmark parses, or formats, a batch of values, as the deserialization of a telemetry-style payload does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeCodecBenchmarks {
+
+    /**
+     * The number of values in a batch.
+     */
+    @Param({ "100" })
+    public int size;
+
+    private OffsetDateTime[] dateTimes;
+    private String[] dateTimeTexts;
+    private String[] durationTexts;
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        dateTimes = new OffsetDateTime[size];
+        dateTimeTexts = new String[size];
+        durationTexts = new String[size];
+        for (int i = 0; i < size; ++i) {
+            OffsetDateTime dateTime = OffsetDateTime.of(2020 + random.nextInt(10), 1 + random.nextInt(12),
+                1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                random.nextInt(1000) * 1_000_000, i % 2 == 0 ? ZoneOffset.UTC : ZoneOffset.ofHours(-8));
+            dateTimes[i] = dateTime;
+            dateTimeTexts[i] = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+            durationTexts[i]
+                = CoreUtils.durationToStringWithDays(Duration.ofMillis(random.nextLong(TimeUnit.DAYS.toMillis(3))));
+        }
+    }
+
+    @Benchmark
+    public void parseBestOffsetDateTime(Blackhole blackhole) {
+        for (String text : dateTimeTexts) {
+            blackhole.consume(CoreUtils.parseBestOffsetDateTime(text));
+        }
+    }
+
+    @Benchmark
+    public void parseBestOffsetDateTimeFast(Blackhole blackhole) {
+        for (String text : dateTimeTexts) {
+            blackhole.consume(DateTimeHelper.parseBestOffsetDateTime(text));
+        }
+    }
+
+    @Benchmark
+    public void parseOffsetDateTime(Blackhole blackhole) {
+        for (String text : dateTimeTexts) {
+            blackhole.consume(OffsetDateTime.parse(text));
+        }
+    }
+
+    @Benchmark
+    public void parseOffsetDateTimeFast(Blackhole blackhole) {
+        for (String text : dateTimeTexts) {
+            blackhole.consume(DateTimeHelper.parseOffsetDateTime(text));
+        }
+    }
+
+    @Benchmark
+    public void formatOffsetDateTime(Blackhole blackhole) {
+        for (OffsetDateTime dateTime : dateTimes) {
+            blackhole.consume(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime));
+        }
+    }
+
+    @Benchmark
+    public void formatOffsetDateTimeFast(Blackhole blackhole) {
+        for (OffsetDateTime dateTime : dateTimes) {
+            blackhole.consume(DateTimeHelper.formatOffsetDateTime(dateTime));
+        }
+    }
+
+    @Benchmark
+    public void parseDuration(Blackhole blackhole) {
+        for (String text : durationTexts) {
+            blackhole.consume(Duration.parse(text));
+        }
+    }
+
+    @Benchmark
+    public void parseDurationFast(Blackhole blackhole) {
+        for (String text : durationTexts) {
+            blackhole.consume(DateTimeHelper.parseDuration(text));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import io.clientcore.core.http.models.RequestContext;
+import io.clientcore.core.instrumentation.Instrumentation;
+import io.clientcore.core.instrumentation.InstrumentationOptions;
+import io.clientcore.core.instrumentation.SdkInstrumentationOptions;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the per-call overhead of instrumentation in service methods of clientcore, with tracing and metrics
+ * enabled or disabled.
+ * <p>
+ * "instrumented" is the service method that always calls the service within the instrumentation of the operation.
+ * "guarded" is the service method that calls the service directly when instrumentation is disabled. The service call
+ * is a stub, so that the benchmarks measure the overhead of the service method itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn" })
+@State(Scope.Benchmark)
+public class InstrumentationBenchmarks {
+    private static final String OPERATION_NAME = "Benchmark.Fishes.get";
+
+    @Param({ "false", "true" })
+    public boolean instrumentationEnabled;
+
+    private Instrumentation instrumentation;
+    private String name;
+
+    @Setup
+    public void setup() {
+        InstrumentationOptions options = new InstrumentationOptions().setTracingEnabled(instrumentationEnabled)
+            .setMetricsEnabled(instrumentationEnabled);
+        instrumentation = Instrumentation.create(options,
+            new SdkInstrumentationOptions("benchmark").setEndpoint("https://localhost"));
+        name = "salmon";
+    }
+
+    @Benchmark
+    public String instrumented() {
+        return getWithResponseInstrumented(name, null);
+    }
+
+    @Benchmark
+    public String guarded() {
+        return getWithResponseGuarded(name, null);
+    }
+
+    // same as the service method generated before the guarded path
+    private String getWithResponseInstrumented(String name, RequestContext requestContext) {
+        return this.instrumentation.instrumentWithResponse(OPERATION_NAME, requestContext, updatedContext -> {
+            final String accept = "application/json";
+            return service(name, accept, updatedContext);
+        });
+    }
+
+    // same as the generated service method
+    private String getWithResponseGuarded(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            RequestContext updatedContext = requestContext == null ? RequestContext.none() : requestContext;
+            final String accept = "application/json";
+            return service(name, accept, updatedContext);
+        }
+        return this.instrumentation.instrumentWithResponse(OPERATION_NAME, requestContext, updatedContext -> {
+            final String accept = "application/json";
+            return service(name, accept, updatedContext);
+        });
+    }
+
+    // the service proxy, which is not inlined in generated client
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static String service(String name, String accept, RequestContext requestContext) {
+        return requestContext == null ? null : name;
+    }
+}
@@ -0,0 +1,203 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.implementation.MultipartFormDataHelper;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.Fish;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.GoblinShark;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.Salmon;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.SawShark;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the hot paths of generated code: model serialization, paging of protocol methods, and multipart
+ * request body.
+ * <p>
+ * The code under benchmark is copied from the generated code of http-client-generator-test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuntimeBenchmarks {
+    private static final HttpRequest REQUEST = new HttpRequest(HttpMethod.GET, "https://localhost/fishes");
+
+    /**
+     * The number of fishes in the JSON, the page, and the multipart request.
+     */
+    @Param({ "100" })
+    public int size;
+
+    @Param({ "5" })
+    public int pages;
+
+    private String fishJson;
+    private Salmon salmon;
+    private List<BinaryData> pageBodies;
+    private BinaryData file;
+
+    @Setup
+    public void setup() throws IOException {
+        salmon = createSalmon(size);
+        fishJson = toJsonString(salmon);
+
+        pageBodies = new ArrayList<>(pages);
+        for (int i = 0; i < pages; ++i) {
+            StringBuilder page = new StringBuilder("{\"value\":[");
+            for (int j = 0; j < size; ++j) {
+                if (j > 0) {
+                    page.append(',');
+                }
+                page.append(toJsonString(createFish(j)));
+            }
+            page.append(']');
+            if (i < pages - 1) {
+                page.append(",\"nextLink\":\"https://localhost/fishes?page=").append(i + 1).append('"');
+            }
+            page.append('}');
+            pageBodies.add(BinaryData.fromString(page.toString()));
+        }
+
+        byte[] fileBytes = new byte[size * 1024];
+        ThreadLocalRandom.current().nextBytes(fileBytes);
+        file = BinaryData.fromBytes(fileBytes);
+    }
+
+    @Benchmark
+    public Fish fromJson() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(fishJson)) {
+            return Fish.fromJson(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public String toJson() throws IOException {
+        return toJsonString(salmon);
+    }
+
+    /**
+     * Convenience method of a protocol method, as generated client deserializes the response body.
+     */
+    @Benchmark
+    public Fish binaryDataToObject() {
+        return BinaryData.fromString(fishJson).toObject(Fish.class);
+    }
+
+    /**
+     * Iterates the items of a paged convenience method, as generated client pages the protocol method and converts
+     * each item.
+     */
+    @Benchmark
+    public void paging(Blackhole blackhole) {
+        PagedIterable<BinaryData> protocolPagedIterable
+            = new PagedIterable<>(() -> listSinglePage(0), nextLink -> listSinglePage(pageIndex(nextLink)));
+        protocolPagedIterable.mapPage(item -> item.toObject(Fish.class)).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public byte[] multipart() {
+        return new MultipartFormDataHelper(new RequestOptions()).serializeTextField("name", "salmon")
+            .serializeJsonField("fish", salmon)
+            .serializeFileField("picture", file, "image/png", "picture.png")
+            .end()
+            .getRequestBody()
+            .toBytes();
+    }
+
+    private PagedResponse<BinaryData> listSinglePage(int pageIndex) {
+        BinaryData body = pageBodies.get(pageIndex);
+        return new PagedResponseBase<>(REQUEST, 200, new HttpHeaders(), getValues(body, "value"),
+            getNextLink(body, "nextLink"), null);
+    }
+
+    private static int pageIndex(String nextLink) {
+        return Integer.parseInt(nextLink.substring(nextLink.lastIndexOf('=') + 1));
+    }
+
+    // same as the generated "getValues" and "getNextLink" of protocol paging method
+    private static List<BinaryData> getValues(BinaryData binaryData, String path) {
+        try {
+            Map<?, ?> obj = binaryData.toObject(Map.class);
+            List<?> values = (List<?>) obj.get(path);
+            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String getNextLink(BinaryData binaryData, String path) {
+        try {
+            Map<?, ?> obj = binaryData.toObject(Map.class);
+            return (String) obj.get(path);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Salmon createSalmon(int size) {
+        List<Fish> friends = new ArrayList<>(size);
+        Map<String, Fish> hate = new LinkedHashMap<>();
+        for (int i = 0; i < size; ++i) {
+            friends.add(createFish(i));
+            if (i % 10 == 0) {
+                hate.put("fish" + i, createFish(i + 1));
+            }
+        }
+        return new Salmon(1).setFriends(friends).setHate(hate).setPartner(new Salmon(2));
+    }
+
+    private static Fish createFish(int index) {
+        switch (index % 3) {
+            case 0:
+                return new SawShark(index);
+
+            case 1:
+                return new GoblinShark(index);
+
+            default:
+                return new Salmon(index);
+        }
+    }
+
+    private static String toJsonString(Fish fish) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            fish.toJson(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+}
@@ -0,0 +1,277 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.azure.core.annotation.BodyParam;
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.Put;
+import com.azure.core.annotation.QueryParam;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.RestProxy;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.implementation.ServiceImplementationHelper;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.Fish;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.Salmon;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.models.SawShark;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Benchmarks of the per-call overhead of the service interface, on an HTTP client that returns a canned response.
+ * <p>
+ * "restProxy" is the service interface created via RestProxy, which parses the annotations of the service method and
+ * invokes it by reflection. "generated" is the implementation of the service interface, as generated with the
+ * "direct-service-implementation" option. Run with "-prof gc" to compare the allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn" })
+@State(Scope.Benchmark)
+public class ServiceImplementationBenchmarks {
+    private static final String ENDPOINT = "https://localhost";
+    private static final String API_VERSION = "2024-01-01";
+
+    private FishService restProxy;
+    private FishService generated;
+    private Salmon salmon;
+
+    @Setup
+    public void setup() throws IOException {
+        salmon = new Salmon(1);
+        salmon.setPartner(new SawShark(2));
+        byte[] body = salmon.toJsonBytes();
+
+        HttpClient httpClient = new HttpClient() {
+            @Override
+            public Mono<HttpResponse> send(HttpRequest request) {
+                return Mono.just(new CannedResponse(request, body));
+            }
+
+            @Override
+            public HttpResponse sendSync(HttpRequest request, Context context) {
+                return new CannedResponse(request, body);
+            }
+        };
+        HttpPipeline httpPipeline = new HttpPipelineBuilder().httpClient(httpClient).build();
+        SerializerAdapter serializerAdapter = JacksonAdapter.createDefaultSerializerAdapter();
+        restProxy = RestProxy.create(FishService.class, httpPipeline, serializerAdapter);
+        generated = new FishServiceImpl(httpPipeline, serializerAdapter);
+    }
+
+    @Benchmark
+    public Response<Fish> restProxyGetSync() {
+        return restProxy.getFishSync(ENDPOINT, API_VERSION, "salmon", "application/json", Context.NONE);
+    }
+
+    @Benchmark
+    public Response<Fish> generatedGetSync() {
+        return generated.getFishSync(ENDPOINT, API_VERSION, "salmon", "application/json", Context.NONE);
+    }
+
+    @Benchmark
+    public Response<Fish> restProxyGet() {
+        return restProxy.getFish(ENDPOINT, API_VERSION, "salmon", "application/json", Context.NONE).block();
+    }
+
+    @Benchmark
+    public Response<Fish> generatedGet() {
+        return generated.getFish(ENDPOINT, API_VERSION, "salmon", "application/json", Context.NONE).block();
+    }
+
+    @Benchmark
+    public Response<Fish> restProxyPutSync() {
+        return restProxy.putFishSync(ENDPOINT, API_VERSION, "salmon", "application/json", salmon, Context.NONE);
+    }
+
+    @Benchmark
+    public Response<Fish> generatedPutSync() {
+        return generated.putFishSync(ENDPOINT, API_VERSION, "salmon", "application/json", salmon, Context.NONE);
+    }
+
+    /**
+     * The service interface, same as generated.
+     */
+    @Host("{endpoint}")
+    @ServiceInterface(name = "FishClient")
+    public interface FishService {
+        @Get("/fishes/{name}")
+        @ExpectedResponses({ 200 })
+        Mono<Response<Fish>> getFish(@HostParam("endpoint") String endpoint,
+            @QueryParam("api-version") String apiVersion, @PathParam("name") String name,
+            @HeaderParam("Accept") String accept, Context context);
+
+        @Get("/fishes/{name}")
+        @ExpectedResponses({ 200 })
+        Response<Fish> getFishSync(@HostParam("endpoint") String endpoint,
+            @QueryParam("api-version") String apiVersion, @PathParam("name") String name,
+            @HeaderParam("Accept") String accept, Context context);
+
+        @Put("/fishes/{name}")
+        @ExpectedResponses({ 200 })
+        Response<Fish> putFishSync(@HostParam("endpoint") String endpoint,
+            @QueryParam("api-version") String apiVersion, @PathParam("name") String name,
+            @HeaderParam("Accept") String accept, @BodyParam("application/json") Fish fish, Context context);
+    }
+
+    /**
+     * The implementation of FishService, same as generated.
+     */
+    private static final class FishServiceImpl implements FishService {
+        private static final ServiceImplementationHelper.ServiceMethod GET_FISH
+            = new ServiceImplementationHelper.ServiceMethod(FishService.class, "FishClient", "getFish",
+                new int[] { 200 }, FishServiceImpl::mapErrorResponse0);
+
+        private static final ServiceImplementationHelper.ServiceMethod GET_FISH_SYNC
+            = new ServiceImplementationHelper.ServiceMethod(FishService.class, "FishClient", "getFishSync",
+                new int[] { 200 }, FishServiceImpl::mapErrorResponse0);
+
+        private static final ServiceImplementationHelper.ServiceMethod PUT_FISH_SYNC
+            = new ServiceImplementationHelper.ServiceMethod(FishService.class, "FishClient", "putFishSync",
+                new int[] { 200 }, FishServiceImpl::mapErrorResponse0);
+
+        private final HttpPipeline httpPipeline;
+
+        FishServiceImpl(HttpPipeline httpPipeline, SerializerAdapter serializerAdapter) {
+            this.httpPipeline = httpPipeline;
+        }
+
+        @Override
+        public Mono<Response<Fish>> getFish(String endpoint, String apiVersion, String name, String accept,
+            Context context) {
+            StringBuilder query = new StringBuilder();
+            ServiceImplementationHelper.addQueryParameter(query, "api-version", apiVersion, false);
+            HttpRequest request = new HttpRequest(HttpMethod.GET, ServiceImplementationHelper.createUrl(
+                ServiceImplementationHelper.encodedPath(endpoint),
+                "/fishes/" + ServiceImplementationHelper.escapePath(name), query));
+            ServiceImplementationHelper.setHeader(request, HttpHeaderName.ACCEPT, accept);
+            request.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            return ServiceImplementationHelper.send(this.httpPipeline, request, context, GET_FISH, Fish.class,
+                Fish::fromJson);
+        }
+
+        @Override
+        public Response<Fish> getFishSync(String endpoint, String apiVersion, String name, String accept,
+            Context context) {
+            StringBuilder query = new StringBuilder();
+            ServiceImplementationHelper.addQueryParameter(query, "api-version", apiVersion, false);
+            HttpRequest request = new HttpRequest(HttpMethod.GET, ServiceImplementationHelper.createUrl(
+                ServiceImplementationHelper.encodedPath(endpoint),
+                "/fishes/" + ServiceImplementationHelper.escapePath(name), query));
+            ServiceImplementationHelper.setHeader(request, HttpHeaderName.ACCEPT, accept);
+            request.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            return ServiceImplementationHelper.sendSync(this.httpPipeline, request, context, GET_FISH_SYNC, Fish.class,
+                Fish::fromJson);
+        }
+
+        @Override
+        public Response<Fish> putFishSync(String endpoint, String apiVersion, String name, String accept, Fish fish,
+            Context context) {
+            StringBuilder query = new StringBuilder();
+            ServiceImplementationHelper.addQueryParameter(query, "api-version", apiVersion, false);
+            HttpRequest request = new HttpRequest(HttpMethod.PUT, ServiceImplementationHelper.createUrl(
+                ServiceImplementationHelper.encodedPath(endpoint),
+                "/fishes/" + ServiceImplementationHelper.escapePath(name), query));
+            ServiceImplementationHelper.setHeader(request, HttpHeaderName.ACCEPT, accept);
+            ServiceImplementationHelper.setJsonBody(request, "application/json", fish);
+            return ServiceImplementationHelper.sendSync(this.httpPipeline, request, context, PUT_FISH_SYNC, Fish.class,
+                Fish::fromJson);
+        }
+
+        private static HttpResponseException mapErrorResponse0(HttpResponse response, String message, byte[] body)
+            throws IOException {
+            return new HttpResponseException(message, response, ServiceImplementationHelper.readUntyped(body));
+        }
+    }
+
+    /**
+     * The response of status code 200, with the JSON body.
+     */
+    private static final class CannedResponse extends HttpResponse {
+        private static final HttpHeaders HEADERS = new HttpHeaders().set(HttpHeaderName.CONTENT_TYPE,
+            "application/json");
+
+        private final byte[] body;
+
+        private CannedResponse(HttpRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return HEADERS.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return HEADERS;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+
+        @Override
+        public BinaryData getBodyAsBinaryData() {
+            return BinaryData.fromBytes(body);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.encode.Base64urlArrayBytesProperty;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.encode.CachedBase64urlArrayBytesProperty;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.encode.CachedUnixTimestampDatetimeProperty;
+import com.microsoft.typespec.http.client.generator.benchmark.runtime.encode.UnixTimestampDatetimeProperty;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the getters of model properties whose wire type differs from the client type, with and without the
+ * "cache-wire-type-conversion" option.
+ * <p>
+ * The "getter" benchmarks call the getter of a deserialized model repeatedly, as a read-heavy application does. The
+ * "roundTrip" benchmarks deserialize the model, call the getter once, and serialize the model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireTypeConversionBenchmarks {
+
+    /**
+     * The number of byte arrays in the "encode/bytes" model.
+     */
+    @Param({ "100" })
+    public int size;
+
+    /**
+     * The number of calls of the getter in the "getter" benchmarks.
+     */
+    @Param({ "10" })
+    public int getterCalls;
+
+    private String bytesJson;
+    private String datetimeJson;
+
+    private Base64urlArrayBytesProperty bytesProperty;
+    private CachedBase64urlArrayBytesProperty cachedBytesProperty;
+    private UnixTimestampDatetimeProperty datetimeProperty;
+    private CachedUnixTimestampDatetimeProperty cachedDatetimeProperty;
+
+    @Setup
+    public void setup() throws IOException {
+        List<byte[]> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            byte[] value = new byte[64];
+            ThreadLocalRandom.current().nextBytes(value);
+            values.add(value);
+        }
+        bytesJson = toJsonString(new Base64urlArrayBytesProperty(values));
+        datetimeJson = toJsonString(
+            new UnixTimestampDatetimeProperty(OffsetDateTime.of(2022, 8, 26, 14, 38, 0, 0, ZoneOffset.UTC)));
+
+        bytesProperty = fromJsonString(bytesJson, Base64urlArrayBytesProperty::fromJson);
+        cachedBytesProperty = fromJsonString(bytesJson, CachedBase64urlArrayBytesProperty::fromJson);
+        datetimeProperty = fromJsonString(datetimeJson, UnixTimestampDatetimeProperty::fromJson);
+        cachedDatetimeProperty = fromJsonString(datetimeJson, CachedUnixTimestampDatetimeProperty::fromJson);
+    }
+
+    @Benchmark
+    public void bytesGetter(Blackhole blackhole) {
+        for (int i = 0; i < getterCalls; ++i) {
+            blackhole.consume(bytesProperty.getValue());
+        }
+    }
+
+    @Benchmark
+    public void bytesGetterCached(Blackhole blackhole) {
+        for (int i = 0; i < getterCalls; ++i) {
+            blackhole.consume(cachedBytesProperty.getValue());
+        }
+    }
+
+    @Benchmark
+    public void datetimeGetter(Blackhole blackhole) {
+        for (int i = 0; i < getterCalls; ++i) {
+            blackhole.consume(datetimeProperty.getValue());
+        }
+    }
+
+    @Benchmark
+    public void datetimeGetterCached(Blackhole blackhole) {
+        for (int i = 0; i < getterCalls; ++i) {
+            blackhole.consume(cachedDatetimeProperty.getValue());
+        }
+    }
+
+    @Benchmark
+    public String bytesRoundTrip(Blackhole blackhole) throws IOException {
+        Base64urlArrayBytesProperty model = fromJsonString(bytesJson, Base64urlArrayBytesProperty::fromJson);
+        blackhole.consume(model.getValue());
+        return toJsonString(model);
+    }
+
+    @Benchmark
+    public String bytesRoundTripCached(Blackhole blackhole) throws IOException {
+        CachedBase64urlArrayBytesProperty model
+            = fromJsonString(bytesJson, CachedBase64urlArrayBytesProperty::fromJson);
+        blackhole.consume(model.getValue());
+        return toJsonString(model);
+    }
+
+    @Benchmark
+    public String datetimeRoundTrip(Blackhole blackhole) throws IOException {
+        UnixTimestampDatetimeProperty model = fromJsonString(datetimeJson, UnixTimestampDatetimeProperty::fromJson);
+        blackhole.consume(model.getValue());
+        return toJsonString(model);
+    }
+
+    @Benchmark
+    public String datetimeRoundTripCached(Blackhole blackhole) throws IOException {
+        CachedUnixTimestampDatetimeProperty model
+            = fromJsonString(datetimeJson, CachedUnixTimestampDatetimeProperty::fromJson);
+        blackhole.consume(model.getValue());
+        return toJsonString(model);
+    }
+
+    private static <T> T fromJsonString(String json, JsonReaderFunction<T> fromJson) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return fromJson.read(jsonReader);
+        }
+    }
+
+    private static String toJsonString(JsonSerializable<?> model) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            model.toJson(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonReaderFunction<T> {
+        T read(JsonReader jsonReader) throws IOException;
+    }
+}
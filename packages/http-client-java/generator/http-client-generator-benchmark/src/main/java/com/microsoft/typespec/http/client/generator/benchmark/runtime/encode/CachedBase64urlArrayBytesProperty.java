@@ -0,0 +1,114 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package com.microsoft.typespec.http.client.generator.benchmark.runtime.encode;
+
+import com.azure.core.annotation.Generated;
+import com.azure.core.annotation.Immutable;
+import com.azure.core.util.Base64Url;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The CachedBase64urlArrayBytesProperty model.
+ */
+@Immutable
+public final class CachedBase64urlArrayBytesProperty implements JsonSerializable<CachedBase64urlArrayBytesProperty> {
+    /*
+     * The value property.
+     */
+    @Generated
+    private final List<Base64Url> value;
+
+    /*
+     * The value property, converted from the wire type on first access.
+     */
+    @Generated
+    private volatile List<byte[]> valueConverted;
+
+    /**
+     * Creates an instance of CachedBase64urlArrayBytesProperty class.
+     * 
+     * @param value the value value to set.
+     */
+    @Generated
+    public CachedBase64urlArrayBytesProperty(List<byte[]> value) {
+        if (value == null) {
+            this.value = null;
+        } else {
+            this.value = value.stream().map(el -> Base64Url.encode(el)).collect(java.util.stream.Collectors.toList());
+        }
+    }
+
+    /**
+     * Get the value property: The value property.
+     * 
+     * @return the value value.
+     */
+    @Generated
+    public List<byte[]> getValue() {
+        List<byte[]> convertedValue = this.valueConverted;
+        if (convertedValue == null) {
+            if (this.value == null) {
+                return null;
+            }
+            convertedValue
+                = this.value.stream().map(el -> el.decodedBytes()).collect(java.util.stream.Collectors.toList());
+            this.valueConverted = convertedValue;
+        }
+        return convertedValue.stream().map(el -> el.clone()).collect(java.util.stream.Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Generated
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.writeStartObject();
+        jsonWriter.writeArrayField("value", this.value,
+            (writer, element) -> writer.writeString(Objects.toString(element, null)));
+        return jsonWriter.writeEndObject();
+    }
+
+    /**
+     * Reads an instance of CachedBase64urlArrayBytesProperty from the JsonReader.
+     * 
+     * @param jsonReader The JsonReader being read.
+     * @return An instance of CachedBase64urlArrayBytesProperty if the JsonReader was pointing to an instance of it, or
+     * null if it was pointing to JSON null.
+     * @throws IllegalStateException If the deserialized JSON object was missing any required properties.
+     * @throws IOException If an error occurs while reading the CachedBase64urlArrayBytesProperty.
+     */
+    @Generated
+    public static CachedBase64urlArrayBytesProperty fromJson(JsonReader jsonReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            List<byte[]> value = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+
+                if ("value".equals(fieldName)) {
+                    value = reader.readArray(reader1 -> {
+                        Base64Url reader1ValueHolder
+                            = reader1.getNullable(nonNullReader -> new Base64Url(nonNullReader.getString()));
+                        if (reader1ValueHolder != null) {
+                            return reader1ValueHolder.decodedBytes();
+                        } else {
+                            return null;
+                        }
+                    });
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new CachedBase64urlArrayBytesProperty(value);
+        });
+    }
+}
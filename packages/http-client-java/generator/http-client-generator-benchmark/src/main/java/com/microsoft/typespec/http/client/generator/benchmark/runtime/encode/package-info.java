@@ -0,0 +1,10 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Models generated from the "encode/bytes" and "encode/datetime" TypeSpec of http-specs, as the code under wire type
+ * conversion benchmarks.
+ * <p>
+ * The "Cached" models are generated with the "cache-wire-type-conversion" option.
+ */
+package com.microsoft.typespec.http.client.generator.benchmark.runtime.encode;
@@ -0,0 +1,10 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Helper classes of the generated code, as the code under runtime benchmarks.
+ * <p>
+ * The build writes the helper classes from the resources of http-client-generator-core, the same way as the
+ * generator, so that the benchmarks measure the code that the generator writes.
+ */
+package com.microsoft.typespec.http.client.generator.benchmark.runtime.implementation;
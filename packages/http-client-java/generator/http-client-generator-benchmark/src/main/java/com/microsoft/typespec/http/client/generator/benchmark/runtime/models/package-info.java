@@ -0,0 +1,8 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Models generated from the "type/model/inheritance/nested-discriminator" TypeSpec of http-specs, as the code under
+ * runtime benchmarks.
+ */
+package com.microsoft.typespec.http.client.generator.benchmark.runtime.models;
@@ -0,0 +1,201 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.util.CodeModelUtil;
+import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Generates Java files from a synthetic code model, and compiles them in-process, against the classpath of the tests.
+ * <p>
+ * The settings of the generator are global, hence each test class generates with one flavor, and runs in its own JVM.
+ */
+final class GeneratedCodeCompiler {
+
+    private GeneratedCodeCompiler() {
+    }
+
+    /**
+     * Generates the Java files of the code model, without formatting them or writing them to files.
+     *
+     * @param builder the builder of the synthetic code model
+     * @param flavor the flavor, e.g. "azure" or "generic"
+     * @return the file contents, keyed by file path
+     */
+    static Map<String, String> generate(SyntheticCodeModel.Builder builder, String flavor) {
+        return generate(builder, flavor, Collections.emptyMap());
+    }
+
+    /**
+     * Generates the Java files of the code model with the emitter options, without formatting them or writing them to
+     * files.
+     * <p>
+     * The emitter options are kept by the plugin for the JVM, hence a test that generates more than once sets the same
+     * options every time, with the values of the options not tested being the default.
+     *
+     * @param builder the builder of the synthetic code model
+     * @param flavor the flavor, e.g. "azure" or "generic"
+     * @param options the emitter options
+     * @return the file contents, keyed by file path
+     */
+    static Map<String, String> generate(SyntheticCodeModel.Builder builder, String flavor,
+        Map<String, Object> options) {
+        JavaSettings.clear();
+        GeneratorPipeline pipeline = new GeneratorPipeline(builder.getNamespace(), flavor,
+            Path.of("target", "generated-code").toAbsolutePath().toString(), options);
+        CodeModel codeModel = pipeline.transform(pipeline.load(pipeline.dump(builder.build())));
+        Client client = pipeline.map(codeModel);
+        if (JavaSettings.getInstance().isLeanMemory()) {
+            // as Main, the templates write from the copy of the code model
+            codeModel = CodeModelUtil.copyForTemplates(codeModel);
+            Mappers.clearCaches();
+        }
+        return GeneratorPipeline.javaFileContents(pipeline.templates(codeModel, client));
+    }
+
+    /**
+     * Generates the Java files of the management-plane code model with the emitter options, via the Fluent plugin,
+     * without formatting them or writing them to files.
+     *
+     * @param builder the builder of the synthetic code model
+     * @param options the emitter options
+     * @return the file contents, keyed by file path
+     */
+    static Map<String, String> generateFluent(SyntheticArmCodeModel.Builder builder, Map<String, Object> options) {
+        JavaSettings.clear();
+        Map<String, Object> fluentOptions = new LinkedHashMap<>(options);
+        fluentOptions.put("arm", true);
+        TypeSpecFluentPlugin plugin = new TypeSpecFluentPlugin(GeneratorPipeline.createEmitterOptions(
+            builder.getNamespace(), "azure", Path.of("target", "generated-code").toAbsolutePath().toString(),
+            fluentOptions), false);
+        CodeModel codeModel = plugin.preProcess(builder.build());
+        Client client = plugin.processClient(codeModel);
+        return GeneratorPipeline.javaFileContents(plugin.processTemplates(codeModel, client));
+    }
+
+    /**
+     * Compiles the Java files, and fails the test with the compilation errors, if any.
+     *
+     * @param javaFiles the file contents, keyed by file path
+     */
+    static void assertCompiles(Map<String, String> javaFiles) {
+        Path outputDirectory = null;
+        try {
+            outputDirectory = Files.createTempDirectory("generated-classes");
+            assertCompiles(javaFiles, outputDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteDirectory(outputDirectory);
+        }
+    }
+
+    /**
+     * Compiles the Java files to the output directory, and fails the test with the compilation errors, if any.
+     *
+     * @param javaFiles the file contents, keyed by file path
+     * @param outputDirectory the output directory of the class files
+     */
+    static void assertCompiles(Map<String, String> javaFiles, Path outputDirectory) {
+        List<JavaFileObject> sources = javaFiles.entrySet()
+            .stream()
+            // the generated code is compiled on classpath, not as module
+            .filter(file -> file.getKey().endsWith(".java") && !file.getKey().endsWith("module-info.java"))
+            .map(file -> new SourceFile(file.getKey(), file.getValue()))
+            .collect(Collectors.toList());
+        Assertions.assertFalse(sources.isEmpty());
+
+        try {
+            compile(sources, outputDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fails the test if none of the Java files contains the text.
+     *
+     * @param javaFiles the file contents, keyed by file path
+     * @param text the text
+     */
+    static void assertContains(Map<String, String> javaFiles, String text) {
+        Assertions.assertTrue(javaFiles.values().stream().anyMatch(content -> content.contains(text)),
+            "No generated file contains \"" + text + "\"");
+    }
+
+    private static void compile(List<JavaFileObject> sources, Path outputDirectory) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            // surefire may run the tests with a manifest-only JAR as classpath
+            String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+            List<String> options = Arrays.asList("-proc:none", "-nowarn", "-classpath", classpath, "-d",
+                outputDirectory.toString());
+
+            boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            if (!success) {
+                Assertions.fail("Generated code failed to compile:\n" + diagnostics.getDiagnostics()
+                    .stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .limit(20)
+                    .map(diagnostic -> diagnostic.getSource().getName() + ":" + diagnostic.getLineNumber() + ": "
+                        + diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.joining("\n")));
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        private SourceFile(String filePath, String content) {
+            super(URI.create("string:///" + filePath.replace('\\', '/')), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
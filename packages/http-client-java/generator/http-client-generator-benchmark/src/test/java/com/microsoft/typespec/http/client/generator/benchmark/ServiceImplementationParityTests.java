@@ -0,0 +1,394 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.core.annotation.BodyParam;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.RestProxy;
+import com.azure.core.management.serializer.SerializerFactory;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Generates the management-plane client with "direct-service-implementation", and sends the same requests through the
+ * generated implementation of each service interface and through RestProxy, on a mock HTTP client. The requests, the
+ * responses and the exceptions are the same.
+ * <p>
+ * The resource types cover the resource under resource group, the child resource, and the resource under
+ * subscription, hence their host and path parameters. Each service method is called with every response of
+ * {@link ResponseScenario}.
+ */
+public class ServiceImplementationParityTests {
+    private static final int RESOURCE_TYPES = 5;
+    private static final String CALLER_METHOD = "caller-method";
+
+    private static final String MODEL_JSON = "{\"id\":\"/subscriptions/sub/providers/Microsoft.Synthetic/types/n\","
+        + "\"name\":\"n\",\"type\":\"Microsoft.Synthetic/types\",\"description0\":\"d\",\"count1\":1,"
+        + "\"description2\":\"\\u00fc\\\"\",\"unknown\":[1]}";
+    private static final String ERROR_JSON = "{\"error\":{\"code\":\"ResourceNotFound\",\"message\":\"Not found.\"}}";
+
+    @TempDir
+    static Path classesDirectory;
+
+    private static Map<String, String> javaFiles;
+    private static ClassLoader classLoader;
+
+    /**
+     * The response of the mock HTTP client.
+     */
+    enum ResponseScenario {
+        OK(200, "application/json", MODEL_JSON, true),
+        OK_EMPTY_BODY(200, null, "", true),
+        OK_MALFORMED_BODY(200, "application/json", "{\"id\":", false),
+        // RestProxy reads the text body as string only
+        OK_TEXT_BODY(200, "text/plain", MODEL_JSON, true),
+        NOT_FOUND(404, "application/json; charset=utf-8", ERROR_JSON, true),
+        BAD_REQUEST_TEXT_BODY(400, "text/plain", ERROR_JSON, true),
+        UNEXPECTED_STATUS_CODE(201, null, "", true);
+
+        private final int statusCode;
+        private final String contentType;
+        private final String body;
+        // whether the scenario applies to the service method without response body
+        private final boolean appliesToVoid;
+
+        ResponseScenario(int statusCode, String contentType, String body, boolean appliesToVoid) {
+            this.statusCode = statusCode;
+            this.contentType = contentType;
+            this.body = body;
+            this.appliesToVoid = appliesToVoid;
+        }
+    }
+
+    @BeforeAll
+    public static void generate() throws MalformedURLException {
+        javaFiles = GeneratedCodeCompiler.generateFluent(
+            new SyntheticArmCodeModel.Builder().resourceTypes(RESOURCE_TYPES).properties(3),
+            Map.of("direct-service-implementation", true));
+        GeneratedCodeCompiler.assertCompiles(javaFiles, classesDirectory);
+        classLoader = new URLClassLoader(new URL[] { classesDirectory.toUri().toURL() },
+            ServiceImplementationParityTests.class.getClassLoader());
+    }
+
+    @Test
+    public void testServiceImplementationGenerated() {
+        GeneratedCodeCompiler.assertContains(javaFiles, "public final class ServiceImplementationHelper");
+        for (int i = 0; i < RESOURCE_TYPES; ++i) {
+            String serviceName = serviceName(i);
+            GeneratedCodeCompiler.assertContains(javaFiles,
+                "private static final class " + serviceName + "Impl implements " + serviceName);
+
+            // every service method is implemented, none is delegated to RestProxy
+            Class<?> serviceImplementation = loadClass(i, serviceName + "Impl");
+            Assertions.assertTrue(Arrays.stream(serviceImplementation.getDeclaredFields())
+                .noneMatch(field -> "restProxy".equals(field.getName())));
+        }
+    }
+
+    @ParameterizedTest(name = "Type{0}sService.{1} {2}")
+    @MethodSource("serviceMethods")
+    public void testParityWithRestProxy(int resourceType, String methodName, ResponseScenario scenario)
+        throws ReflectiveOperationException, IOException {
+        String serviceName = serviceName(resourceType);
+        Class<?> serviceInterface = loadClass(resourceType, serviceName);
+        Method method = Arrays.stream(serviceInterface.getMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+        Object[] arguments = arguments(method, resourceType);
+
+        String expected = send(scenario, httpPipeline -> RestProxy.create(serviceInterface, httpPipeline,
+            SerializerFactory.createDefaultManagementSerializerAdapter()), method, arguments);
+        String actual = send(scenario, httpPipeline -> {
+            Constructor<?> constructor = loadClass(resourceType, serviceName + "Impl")
+                .getDeclaredConstructor(HttpPipeline.class, SerializerAdapter.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(httpPipeline, SerializerFactory.createDefaultManagementSerializerAdapter());
+        }, method, arguments);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    static Stream<Arguments> serviceMethods() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int i = 0; i < RESOURCE_TYPES; ++i) {
+            List<Method> methods = Arrays.stream(loadClass(i, serviceName(i)).getMethods())
+                .sorted(Comparator.comparing(Method::getName))
+                .collect(Collectors.toList());
+            for (Method method : methods) {
+                boolean isVoid = method.getGenericReturnType().getTypeName().contains("Response<java.lang.Void>");
+                for (ResponseScenario scenario : ResponseScenario.values()) {
+                    if (!isVoid || scenario.appliesToVoid) {
+                        arguments.add(Arguments.of(i, method.getName(), scenario));
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @FunctionalInterface
+    private interface ServiceFactory {
+        Object create(HttpPipeline httpPipeline) throws ReflectiveOperationException;
+    }
+
+    /*
+     * Calls the service method, and describes the request sent, and the response or the exception.
+     */
+    private static String send(ResponseScenario scenario, ServiceFactory serviceFactory, Method method,
+        Object[] arguments) throws ReflectiveOperationException {
+        MockHttpClient httpClient = new MockHttpClient(scenario);
+        Object service = serviceFactory.create(new HttpPipelineBuilder().httpClient(httpClient).build());
+
+        String outcome;
+        try {
+            Object response = method.invoke(service, arguments);
+            if (response instanceof Mono) {
+                response = ((Mono<?>) response).block(Duration.ofSeconds(30));
+            }
+            outcome = describeResponse((Response<?>) response);
+        } catch (InvocationTargetException e) {
+            outcome = describeException(e.getCause());
+        } catch (RuntimeException e) {
+            // thrown by Mono.block()
+            outcome = describeException(e);
+        }
+        return httpClient.requests + "\n" + outcome;
+    }
+
+    private static String describeResponse(Response<?> response) {
+        return "status: " + response.getStatusCode() + "\nheaders: " + describeHeaders(response.getHeaders())
+            + "\nvalue: " + describeValue(response.getValue());
+    }
+
+    private static String describeException(Throwable exception) {
+        StringBuilder description = new StringBuilder("exception: ").append(exception.getClass().getName())
+            .append("\nmessage: ")
+            .append(exception.getMessage());
+        if (exception instanceof HttpResponseException) {
+            HttpResponseException responseException = (HttpResponseException) exception;
+            description.append("\nstatus: ")
+                .append(responseException.getResponse().getStatusCode())
+                .append("\nvalue: ")
+                .append(describeValue(responseException.getValue()));
+        }
+        if (exception.getCause() != null) {
+            description.append("\ncause: ").append(exception.getCause().getClass().getName());
+        }
+        return description.toString();
+    }
+
+    private static String describeValue(Object value) {
+        if (value instanceof JsonSerializable) {
+            try {
+                return value.getClass().getName() + " " + ((JsonSerializable<?>) value).toJsonString();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        } else if (value instanceof BinaryData) {
+            return "BinaryData " + value;
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
+    private static String describeHeaders(HttpHeaders headers) {
+        return headers.stream()
+            .map(header -> header.getName().toLowerCase() + "=" + header.getValuesList())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    /*
+     * The arguments of the service method, by the annotation of the parameter. The values of the path parameters
+     * contain characters to escape.
+     */
+    private static Object[] arguments(Method method, int resourceType) throws IOException {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            if (parameterTypes[i] == Context.class) {
+                arguments[i] = new Context("key", "value");
+            }
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof HostParam) {
+                    // the host with path is not a simple URL for ServiceImplementationHelper
+                    arguments[i]
+                        = resourceType % 2 == 0 ? "https://management.azure.com" : "https://localhost:8443/arm/";
+                } else if (annotation instanceof QueryParam) {
+                    arguments[i] = "2025-01-01";
+                } else if (annotation instanceof PathParam) {
+                    // with the reserved characters, and the supplementary characters U+1F600 and U+1D800 (whose low
+                    // 16 bits are a surrogate)
+                    arguments[i] = "subscriptionId".equals(((PathParam) annotation).value())
+                        ? "00000000-0000-0000-0000-000000000000"
+                        : ((PathParam) annotation).value() + " /?#[]@!$&'()*+,;=:%-._~ü😀\uD836\uDC00";
+                } else if (annotation instanceof HeaderParam) {
+                    arguments[i] = "application/json";
+                } else if (annotation instanceof BodyParam) {
+                    try (JsonReader jsonReader = JsonProviders.createReader(MODEL_JSON)) {
+                        arguments[i] = parameterTypes[i].getMethod("fromJson", JsonReader.class)
+                            .invoke(null, jsonReader);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return arguments;
+    }
+
+    private static String serviceName(int resourceType) {
+        return "Type" + resourceType + "sService";
+    }
+
+    private static Class<?> loadClass(int resourceType, String nestedClassName) {
+        try {
+            return Class.forName(new SyntheticArmCodeModel.Builder().getNamespace() + ".implementation.Type"
+                + resourceType + "sClientImpl$" + nestedClassName, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The HTTP client that records the requests, and returns the response of the scenario.
+     */
+    private static final class MockHttpClient implements HttpClient {
+        private final ResponseScenario scenario;
+        private final StringBuilder requests = new StringBuilder();
+
+        private MockHttpClient(ResponseScenario scenario) {
+            this.scenario = scenario;
+        }
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            return send(request, Context.NONE);
+        }
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request, Context context) {
+            return Mono.fromSupplier(() -> sendSync(request, context));
+        }
+
+        @Override
+        public HttpResponse sendSync(HttpRequest request, Context context) {
+            BinaryData body = request.getBodyAsBinaryData();
+            requests.append(request.getHttpMethod())
+                .append(' ')
+                .append(request.getUrl())
+                .append("\nheaders: ")
+                .append(describeHeaders(request.getHeaders()))
+                .append("\nbody: ")
+                .append(body == null ? null : body.toString())
+                .append("\ncontext: ")
+                .append(context.getData(CALLER_METHOD).orElse(null))
+                .append(", ")
+                .append(context.getData("key").orElse(null));
+            return new MockHttpResponse(request, scenario);
+        }
+    }
+
+    /**
+     * The response of the scenario.
+     */
+    private static final class MockHttpResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        private MockHttpResponse(HttpRequest request, ResponseScenario scenario) {
+            super(request);
+            this.statusCode = scenario.statusCode;
+            this.body = scenario.body.getBytes(StandardCharsets.UTF_8);
+            headers.set(HttpHeaderName.CONTENT_LENGTH, String.valueOf(body.length));
+            headers.set(HttpHeaderName.X_MS_REQUEST_ID, "request-id");
+            if (scenario.contentType != null) {
+                headers.set(HttpHeaderName.CONTENT_TYPE, scenario.contentType);
+            }
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return body.length == 0 ? Flux.empty() : Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return body.length == 0 ? Mono.empty() : Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// the settings of the generator are global, hence the tests generate the code one at a time
+@Execution(ExecutionMode.SAME_THREAD)
+public class SyntheticCodeModelTests {
+    // the emitter options tested, with their default values
+    private static final Map<String, Object> DEFAULT_OPTIONS = Map.ofEntries(
+        Map.entry("bulk-method-concurrency", 0),
+        Map.entry("response-cache", false),
+        Map.entry("binary-file-overloads", false),
+        Map.entry("cache-wire-type-conversion", false),
+        Map.entry("fast-date-time-codecs", false),
+        Map.entry("generate-benchmarks", false),
+        Map.entry("direct-error-mapping", false),
+        Map.entry("lean-memory", false));
+
+    @Test
+    public void testGeneratedCodeCompiles() {
+        GeneratedCodeCompiler.assertCompiles(GeneratedCodeCompiler.generate(builder(), "azure", DEFAULT_OPTIONS));
+    }
+
+    /**
+     * Generates with the option, and compiles the code. The code generated for the option contains the text given.
+     *
+     * @param name the name of the option
+     * @param value the value of the option
+     * @param generatedText a text of the code generated for the option
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("options")
+    public void testGeneratedCodeCompilesWithOption(String name, Object value, String generatedText) {
+        Map<String, Object> options = new LinkedHashMap<>(DEFAULT_OPTIONS);
+        options.put(name, value);
+
+        Map<String, String> javaFiles = GeneratedCodeCompiler.generate(builder(), "azure", options);
+        GeneratedCodeCompiler.assertContains(javaFiles, generatedText);
+        GeneratedCodeCompiler.assertCompiles(javaFiles);
+    }
+
+    @Test
+    public void testLeanMemoryTemplateOutput() {
+        Map<String, Object> options = new LinkedHashMap<>(DEFAULT_OPTIONS);
+        options.put("lean-memory", true);
+
+        // the templates write the same code from the copy of the code model
+        Assertions.assertEquals(GeneratedCodeCompiler.generate(builder(), "azure", DEFAULT_OPTIONS),
+            GeneratedCodeCompiler.generate(builder(), "azure", options));
+    }
+
+    static Stream<Arguments> options() {
+        return Stream.of(Arguments.of("bulk-method-concurrency", 4, "BulkOperationHelper.runOrdered("),
+            Arguments.of("response-cache", true, "policies.add(responseCachePolicy);"),
+            Arguments.of("binary-file-overloads", true, "FileChannel.open(destination"),
+            Arguments.of("cache-wire-type-conversion", true, "this.createdOnConverted2 = convertedValue;"),
+            Arguments.of("fast-date-time-codecs", true, "DateTimeHelper.parseBestOffsetDateTime("),
+            Arguments.of("generate-benchmarks", true, "public byte[] toJson() throws IOException"),
+            Arguments.of("direct-error-mapping", true, "ErrorMappingPolicy.register("));
+    }
+
+    private static SyntheticCodeModel.Builder builder() {
+        return new SyntheticCodeModel.Builder().models(12)
+            .properties(8)
+            .polymorphismDepth(2)
+            .operations(20)
+            .binaryOperations(true);
+    }
+}
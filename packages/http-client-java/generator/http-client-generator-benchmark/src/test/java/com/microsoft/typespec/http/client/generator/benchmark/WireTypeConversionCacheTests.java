@@ -0,0 +1,78 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// the settings of the generator are global, hence the tests generate the code one at a time
+@Execution(ExecutionMode.SAME_THREAD)
+public class WireTypeConversionCacheTests {
+    // a value that the unix time on the wire truncates, to seconds in UTC
+    private static final OffsetDateTime VALUE = OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.ofHours(8));
+    private static final OffsetDateTime WIRE_VALUE
+        = OffsetDateTime.ofInstant(Instant.ofEpochSecond(VALUE.toEpochSecond()), ZoneOffset.UTC);
+
+    @TempDir
+    Path classesDirectory;
+
+    /**
+     * Reads the value of unix time back from the model generated, after the constructor, after the setter, and after
+     * the JSON round trip. The getters return the same value, with and without the cache of the converted value.
+     *
+     * @param cacheWireTypeConversion the value of the "cache-wire-type-conversion" option
+     */
+    @ParameterizedTest(name = "cache-wire-type-conversion={0}")
+    @ValueSource(booleans = { false, true })
+    public void testConvertedValueReadBack(boolean cacheWireTypeConversion) throws Exception {
+        SyntheticCodeModel.Builder builder
+            = new SyntheticCodeModel.Builder().models(2).properties(3).polymorphismDepth(0).operations(1);
+        GeneratedCodeCompiler.assertCompiles(GeneratedCodeCompiler.generate(builder, "azure",
+            Map.of("cache-wire-type-conversion", cacheWireTypeConversion)), classesDirectory);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDirectory.toUri().toURL() },
+            WireTypeConversionCacheTests.class.getClassLoader())) {
+            Class<?> modelClass = Class.forName(builder.getNamespace() + ".models.Model0", true, classLoader);
+            Method getUpdatedOn = modelClass.getMethod("getUpdatedOn");
+            Method getDeletedOn = modelClass.getMethod("getDeletedOn");
+
+            // "updatedOn" is required, and set via the constructor
+            Object model = modelClass.getConstructor(String.class, int.class, OffsetDateTime.class)
+                .newInstance("name", 1, VALUE);
+            Assertions.assertEquals(WIRE_VALUE, getUpdatedOn.invoke(model));
+            Assertions.assertEquals(WIRE_VALUE, getUpdatedOn.invoke(model));
+
+            // "deletedOn" is optional, and set via the setter
+            modelClass.getMethod("setDeletedOn", OffsetDateTime.class).invoke(model, VALUE);
+            Assertions.assertEquals(WIRE_VALUE, getDeletedOn.invoke(model));
+            Assertions.assertEquals(WIRE_VALUE, getDeletedOn.invoke(model));
+
+            Object deserialized = fromJson(modelClass, ((JsonSerializable<?>) model).toJsonString());
+            Assertions.assertEquals(WIRE_VALUE, getUpdatedOn.invoke(deserialized));
+            Assertions.assertEquals(WIRE_VALUE, getDeletedOn.invoke(deserialized));
+        }
+    }
+
+    private static Object fromJson(Class<?> modelClass, String json) throws IOException, ReflectiveOperationException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return modelClass.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+        }
+    }
+}
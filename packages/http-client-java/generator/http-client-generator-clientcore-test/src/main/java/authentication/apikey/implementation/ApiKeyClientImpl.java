@@ -124,10 +124,15 @@ public final class ApiKeyClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> validWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return validWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Authentication.ApiKey.valid", requestContext,
-            updatedContext -> {
-                return service.valid(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> validWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> validWithResponseInternal(RequestContext updatedContext) {
+        return service.valid(this.getEndpoint(), updatedContext);
     }
 
     /**
@@ -141,9 +146,14 @@ public final class ApiKeyClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> invalidWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return invalidWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Authentication.ApiKey.invalid", requestContext,
-            updatedContext -> {
-                return service.invalid(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> invalidWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> invalidWithResponseInternal(RequestContext updatedContext) {
+        return service.invalid(this.getEndpoint(), updatedContext);
     }
 }
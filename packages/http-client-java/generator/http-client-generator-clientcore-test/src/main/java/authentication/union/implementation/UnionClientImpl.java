@@ -122,10 +122,15 @@ public final class UnionClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> validKeyWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return validKeyWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Authentication.Union.validKey", requestContext,
-            updatedContext -> {
-                return service.validKey(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> validKeyWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> validKeyWithResponseInternal(RequestContext updatedContext) {
+        return service.validKey(this.getEndpoint(), updatedContext);
     }
 
     /**
@@ -139,9 +144,14 @@ public final class UnionClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> validTokenWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return validTokenWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Authentication.Union.validToken", requestContext,
-            updatedContext -> {
-                return service.validToken(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> validTokenWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> validTokenWithResponseInternal(RequestContext updatedContext) {
+        return service.validToken(this.getEndpoint(), updatedContext);
     }
 }
@@ -117,12 +117,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DefaultBytesProperty> defaultMethodWithResponse(DefaultBytesProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Property.default", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<DefaultBytesProperty> defaultMethodWithResponseInternal(DefaultBytesProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -137,12 +144,18 @@ public final class PropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Base64BytesProperty> base64WithResponse(Base64BytesProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Property.base64", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.base64(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> base64WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Base64BytesProperty> base64WithResponseInternal(Base64BytesProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.base64(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -158,12 +171,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Base64urlBytesProperty> base64urlWithResponse(Base64urlBytesProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Property.base64url", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.base64url(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> base64urlWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Base64urlBytesProperty> base64urlWithResponseInternal(Base64urlBytesProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.base64url(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -179,11 +198,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Base64urlArrayBytesProperty> base64urlArrayWithResponse(Base64urlArrayBytesProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlArrayWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Property.base64urlArray", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.base64urlArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> base64urlArrayWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Base64urlArrayBytesProperty> base64urlArrayWithResponseInternal(Base64urlArrayBytesProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.base64urlArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 }
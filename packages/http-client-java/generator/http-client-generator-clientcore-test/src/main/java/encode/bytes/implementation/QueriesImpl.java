@@ -112,11 +112,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(byte[] value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Query.default", requestContext,
-            updatedContext -> {
-                String valueConverted = new String(Base64.getEncoder().encode(value));
-                return service.defaultMethod(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(byte[] value, RequestContext updatedContext) {
+        String valueConverted = new String(Base64.getEncoder().encode(value));
+        return service.defaultMethod(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -131,11 +137,16 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64WithResponse(byte[] value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64WithResponseInternal(value, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Query.base64", requestContext,
-            updatedContext -> {
-                String valueConverted = new String(Base64.getEncoder().encode(value));
-                return service.base64(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> base64WithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> base64WithResponseInternal(byte[] value, RequestContext updatedContext) {
+        String valueConverted = new String(Base64.getEncoder().encode(value));
+        return service.base64(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -150,11 +161,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64urlWithResponse(byte[] value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Query.base64url", requestContext,
-            updatedContext -> {
-                Base64Uri valueConverted = Base64Uri.encode(value);
-                return service.base64url(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> base64urlWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> base64urlWithResponseInternal(byte[] value, RequestContext updatedContext) {
+        Base64Uri valueConverted = Base64Uri.encode(value);
+        return service.base64url(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -169,41 +186,47 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64urlArrayWithResponse(List<byte[]> value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlArrayWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.Query.base64urlArray", requestContext,
-            updatedContext -> {
-                String valueConverted = value.stream()
-                    .map(paramItemValue -> Base64Uri.encode(paramItemValue))
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
+            updatedContext -> base64urlArrayWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> base64urlArrayWithResponseInternal(List<byte[]> value, RequestContext updatedContext) {
+        String valueConverted = value.stream()
+            .map(paramItemValue -> Base64Uri.encode(paramItemValue))
+            .collect(Collectors.toList())
+            .stream()
+            .map(paramItemValue -> {
+                if (paramItemValue == null) {
+                    return "";
+                } else {
+                    String itemValueString = BinaryData.fromObject(paramItemValue).toString();
+                    int strLength = itemValueString.length();
+                    int startOffset = 0;
+                    while (startOffset < strLength) {
+                        if (itemValueString.charAt(startOffset) != '"') {
+                            break;
+                        }
+                        startOffset++;
+                    }
+                    if (startOffset == strLength) {
+                        return "";
+                    }
+                    int endOffset = strLength - 1;
+                    while (endOffset >= 0) {
+                        if (itemValueString.charAt(endOffset) != '"') {
+                            break;
                         }
-                    })
-                    .collect(Collectors.joining(","));
-                return service.base64urlArray(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+
+                        endOffset--;
+                    }
+                    return itemValueString.substring(startOffset, endOffset + 1);
+                }
+            })
+            .collect(Collectors.joining(","));
+        return service.base64urlArray(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 }
@@ -125,12 +125,18 @@ public final class RequestBodiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(BinaryData value, long contentLength,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(value, contentLength,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.RequestBody.default", requestContext,
-            updatedContext -> {
-                final String contentType = "application/octet-stream";
-                return service.defaultMethod(this.client.getEndpoint(), contentType, value, contentLength,
-                    updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(value, contentLength, updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(BinaryData value, long contentLength,
+        RequestContext updatedContext) {
+        final String contentType = "application/octet-stream";
+        return service.defaultMethod(this.client.getEndpoint(), contentType, value, contentLength, updatedContext);
     }
 
     /**
@@ -146,12 +152,18 @@ public final class RequestBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> octetStreamWithResponse(BinaryData value, long contentLength, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return octetStreamWithResponseInternal(value, contentLength,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.RequestBody.octetStream", requestContext,
-            updatedContext -> {
-                final String contentType = "application/octet-stream";
-                return service.octetStream(this.client.getEndpoint(), contentType, value, contentLength,
-                    updatedContext);
-            });
+            updatedContext -> octetStreamWithResponseInternal(value, contentLength, updatedContext));
+    }
+
+    private Response<Void> octetStreamWithResponseInternal(BinaryData value, long contentLength,
+        RequestContext updatedContext) {
+        final String contentType = "application/octet-stream";
+        return service.octetStream(this.client.getEndpoint(), contentType, value, contentLength, updatedContext);
     }
 
     /**
@@ -168,12 +180,18 @@ public final class RequestBodiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> customContentTypeWithResponse(BinaryData value, long contentLength,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return customContentTypeWithResponseInternal(value, contentLength,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.RequestBody.customContentType", requestContext,
-            updatedContext -> {
-                final String contentType = "image/png";
-                return service.customContentType(this.client.getEndpoint(), contentType, value, contentLength,
-                    updatedContext);
-            });
+            updatedContext -> customContentTypeWithResponseInternal(value, contentLength, updatedContext));
+    }
+
+    private Response<Void> customContentTypeWithResponseInternal(BinaryData value, long contentLength,
+        RequestContext updatedContext) {
+        final String contentType = "image/png";
+        return service.customContentType(this.client.getEndpoint(), contentType, value, contentLength, updatedContext);
     }
 
     /**
@@ -188,11 +206,16 @@ public final class RequestBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64WithResponse(byte[] value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64WithResponseInternal(value, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.RequestBody.base64", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.base64(this.client.getEndpoint(), contentType, value, updatedContext);
-            });
+            updatedContext -> base64WithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> base64WithResponseInternal(byte[] value, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.base64(this.client.getEndpoint(), contentType, value, updatedContext);
     }
 
     /**
@@ -207,11 +230,17 @@ public final class RequestBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64urlWithResponse(byte[] value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.RequestBody.base64url", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                Base64Uri valueConverted = Base64Uri.encode(value);
-                return service.base64url(this.client.getEndpoint(), contentType, valueConverted, updatedContext);
-            });
+            updatedContext -> base64urlWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> base64urlWithResponseInternal(byte[] value, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        Base64Uri valueConverted = Base64Uri.encode(value);
+        return service.base64url(this.client.getEndpoint(), contentType, valueConverted, updatedContext);
     }
 }
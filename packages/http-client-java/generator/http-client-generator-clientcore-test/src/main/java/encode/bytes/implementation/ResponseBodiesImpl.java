@@ -118,11 +118,16 @@ public final class ResponseBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> defaultMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.ResponseBody.default", requestContext,
-            updatedContext -> {
-                final String accept = "application/octet-stream";
-                return service.defaultMethod(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> defaultMethodWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/octet-stream";
+        return service.defaultMethod(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -136,11 +141,16 @@ public final class ResponseBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> octetStreamWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return octetStreamWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.ResponseBody.octetStream", requestContext,
-            updatedContext -> {
-                final String accept = "application/octet-stream";
-                return service.octetStream(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> octetStreamWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> octetStreamWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/octet-stream";
+        return service.octetStream(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -154,11 +164,17 @@ public final class ResponseBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> customContentTypeWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return customContentTypeWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.ResponseBody.customContentType",
-            requestContext, updatedContext -> {
-                final String accept = "image/png";
-                return service.customContentType(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> customContentTypeWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> customContentTypeWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "image/png";
+        return service.customContentType(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -172,11 +188,16 @@ public final class ResponseBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<byte[]> base64WithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64WithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.ResponseBody.base64", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.base64(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> base64WithResponseInternal(updatedContext));
+    }
+
+    private Response<byte[]> base64WithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.base64(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -190,10 +211,15 @@ public final class ResponseBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<byte[]> base64urlWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return base64urlWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Bytes.ResponseBody.base64url", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.base64url(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> base64urlWithResponseInternal(updatedContext));
+    }
+
+    private Response<byte[]> base64urlWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.base64url(this.client.getEndpoint(), accept, updatedContext);
     }
 }
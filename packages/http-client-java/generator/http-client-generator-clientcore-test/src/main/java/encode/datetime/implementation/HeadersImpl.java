@@ -120,11 +120,17 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(OffsetDateTime value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Header.default", requestContext,
-            updatedContext -> {
-                DateTimeRfc1123 valueConverted = new DateTimeRfc1123(value);
-                return service.defaultMethod(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(OffsetDateTime value, RequestContext updatedContext) {
+        DateTimeRfc1123 valueConverted = new DateTimeRfc1123(value);
+        return service.defaultMethod(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -139,10 +145,15 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> rfc3339WithResponse(OffsetDateTime value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc3339WithResponseInternal(value, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Header.rfc3339", requestContext,
-            updatedContext -> {
-                return service.rfc3339(this.client.getEndpoint(), value, updatedContext);
-            });
+            updatedContext -> rfc3339WithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> rfc3339WithResponseInternal(OffsetDateTime value, RequestContext updatedContext) {
+        return service.rfc3339(this.client.getEndpoint(), value, updatedContext);
     }
 
     /**
@@ -157,11 +168,16 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> rfc7231WithResponse(OffsetDateTime value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc7231WithResponseInternal(value, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Header.rfc7231", requestContext,
-            updatedContext -> {
-                DateTimeRfc1123 valueConverted = new DateTimeRfc1123(value);
-                return service.rfc7231(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> rfc7231WithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> rfc7231WithResponseInternal(OffsetDateTime value, RequestContext updatedContext) {
+        DateTimeRfc1123 valueConverted = new DateTimeRfc1123(value);
+        return service.rfc7231(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -176,11 +192,17 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> unixTimestampWithResponse(OffsetDateTime value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return unixTimestampWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Header.unixTimestamp", requestContext,
-            updatedContext -> {
-                long valueConverted = value.toEpochSecond();
-                return service.unixTimestamp(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+            updatedContext -> unixTimestampWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> unixTimestampWithResponseInternal(OffsetDateTime value, RequestContext updatedContext) {
+        long valueConverted = value.toEpochSecond();
+        return service.unixTimestamp(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 
     /**
@@ -195,41 +217,48 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> unixTimestampArrayWithResponse(List<OffsetDateTime> value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return unixTimestampArrayWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Header.unixTimestampArray", requestContext,
-            updatedContext -> {
-                String valueConverted = value.stream()
-                    .map(paramItemValue -> paramItemValue.toEpochSecond())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
+            updatedContext -> unixTimestampArrayWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> unixTimestampArrayWithResponseInternal(List<OffsetDateTime> value,
+        RequestContext updatedContext) {
+        String valueConverted = value.stream()
+            .map(paramItemValue -> paramItemValue.toEpochSecond())
+            .collect(Collectors.toList())
+            .stream()
+            .map(paramItemValue -> {
+                if (paramItemValue == null) {
+                    return "";
+                } else {
+                    String itemValueString = BinaryData.fromObject(paramItemValue).toString();
+                    int strLength = itemValueString.length();
+                    int startOffset = 0;
+                    while (startOffset < strLength) {
+                        if (itemValueString.charAt(startOffset) != '"') {
+                            break;
                         }
-                    })
-                    .collect(Collectors.joining(","));
-                return service.unixTimestampArray(this.client.getEndpoint(), valueConverted, updatedContext);
-            });
+                        startOffset++;
+                    }
+                    if (startOffset == strLength) {
+                        return "";
+                    }
+                    int endOffset = strLength - 1;
+                    while (endOffset >= 0) {
+                        if (itemValueString.charAt(endOffset) != '"') {
+                            break;
+                        }
+
+                        endOffset--;
+                    }
+                    return itemValueString.substring(startOffset, endOffset + 1);
+                }
+            })
+            .collect(Collectors.joining(","));
+        return service.unixTimestampArray(this.client.getEndpoint(), valueConverted, updatedContext);
     }
 }
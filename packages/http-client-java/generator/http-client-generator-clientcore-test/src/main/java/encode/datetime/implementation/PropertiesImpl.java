@@ -127,12 +127,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DefaultDatetimeProperty> defaultMethodWithResponse(DefaultDatetimeProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Property.default", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<DefaultDatetimeProperty> defaultMethodWithResponseInternal(DefaultDatetimeProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -148,12 +155,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Rfc3339DatetimeProperty> rfc3339WithResponse(Rfc3339DatetimeProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc3339WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Property.rfc3339", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.rfc3339(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> rfc3339WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Rfc3339DatetimeProperty> rfc3339WithResponseInternal(Rfc3339DatetimeProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.rfc3339(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -169,12 +182,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Rfc7231DatetimeProperty> rfc7231WithResponse(Rfc7231DatetimeProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc7231WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Property.rfc7231", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.rfc7231(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> rfc7231WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Rfc7231DatetimeProperty> rfc7231WithResponseInternal(Rfc7231DatetimeProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.rfc7231(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -190,12 +209,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<UnixTimestampDatetimeProperty> unixTimestampWithResponse(UnixTimestampDatetimeProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return unixTimestampWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Property.unixTimestamp", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.unixTimestamp(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> unixTimestampWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<UnixTimestampDatetimeProperty> unixTimestampWithResponseInternal(
+        UnixTimestampDatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.unixTimestamp(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -211,11 +237,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<UnixTimestampArrayDatetimeProperty>
         unixTimestampArrayWithResponse(UnixTimestampArrayDatetimeProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return unixTimestampArrayWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.Property.unixTimestampArray",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.unixTimestampArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            requestContext, updatedContext -> unixTimestampArrayWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<UnixTimestampArrayDatetimeProperty> unixTimestampArrayWithResponseInternal(
+        UnixTimestampArrayDatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.unixTimestampArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 }
@@ -102,10 +102,15 @@ public final class ResponseHeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.ResponseHeader.default", requestContext,
-            updatedContext -> {
-                return service.defaultMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.defaultMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -119,10 +124,15 @@ public final class ResponseHeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> rfc3339WithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc3339WithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.ResponseHeader.rfc3339", requestContext,
-            updatedContext -> {
-                return service.rfc3339(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> rfc3339WithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> rfc3339WithResponseInternal(RequestContext updatedContext) {
+        return service.rfc3339(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -136,10 +146,15 @@ public final class ResponseHeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> rfc7231WithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return rfc7231WithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.ResponseHeader.rfc7231", requestContext,
-            updatedContext -> {
-                return service.rfc7231(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> rfc7231WithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> rfc7231WithResponseInternal(RequestContext updatedContext) {
+        return service.rfc7231(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -153,9 +168,14 @@ public final class ResponseHeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> unixTimestampWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return unixTimestampWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Datetime.ResponseHeader.unixTimestamp",
-            requestContext, updatedContext -> {
-                return service.unixTimestamp(this.client.getEndpoint(), updatedContext);
-            });
+            requestContext, updatedContext -> unixTimestampWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> unixTimestampWithResponseInternal(RequestContext updatedContext) {
+        return service.unixTimestamp(this.client.getEndpoint(), updatedContext);
     }
 }
@@ -127,10 +127,16 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(Duration duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.default", requestContext,
-            updatedContext -> {
-                return service.defaultMethod(this.client.getEndpoint(), duration, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(Duration duration, RequestContext updatedContext) {
+        return service.defaultMethod(this.client.getEndpoint(), duration, updatedContext);
     }
 
     /**
@@ -145,10 +151,16 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> iso8601WithResponse(Duration duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return iso8601WithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.iso8601", requestContext,
-            updatedContext -> {
-                return service.iso8601(this.client.getEndpoint(), duration, updatedContext);
-            });
+            updatedContext -> iso8601WithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> iso8601WithResponseInternal(Duration duration, RequestContext updatedContext) {
+        return service.iso8601(this.client.getEndpoint(), duration, updatedContext);
     }
 
     /**
@@ -163,37 +175,43 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> iso8601ArrayWithResponse(List<Duration> duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return iso8601ArrayWithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.iso8601Array", requestContext,
-            updatedContext -> {
-                String durationConverted = duration.stream().map(paramItemValue -> {
-                    if (paramItemValue == null) {
-                        return "";
-                    } else {
-                        String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                        int strLength = itemValueString.length();
-                        int startOffset = 0;
-                        while (startOffset < strLength) {
-                            if (itemValueString.charAt(startOffset) != '"') {
-                                break;
-                            }
-                            startOffset++;
-                        }
-                        if (startOffset == strLength) {
-                            return "";
-                        }
-                        int endOffset = strLength - 1;
-                        while (endOffset >= 0) {
-                            if (itemValueString.charAt(endOffset) != '"') {
-                                break;
-                            }
-
-                            endOffset--;
-                        }
-                        return itemValueString.substring(startOffset, endOffset + 1);
+            updatedContext -> iso8601ArrayWithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> iso8601ArrayWithResponseInternal(List<Duration> duration, RequestContext updatedContext) {
+        String durationConverted = duration.stream().map(paramItemValue -> {
+            if (paramItemValue == null) {
+                return "";
+            } else {
+                String itemValueString = BinaryData.fromObject(paramItemValue).toString();
+                int strLength = itemValueString.length();
+                int startOffset = 0;
+                while (startOffset < strLength) {
+                    if (itemValueString.charAt(startOffset) != '"') {
+                        break;
                     }
-                }).collect(Collectors.joining(","));
-                return service.iso8601Array(this.client.getEndpoint(), durationConverted, updatedContext);
-            });
+                    startOffset++;
+                }
+                if (startOffset == strLength) {
+                    return "";
+                }
+                int endOffset = strLength - 1;
+                while (endOffset >= 0) {
+                    if (itemValueString.charAt(endOffset) != '"') {
+                        break;
+                    }
+
+                    endOffset--;
+                }
+                return itemValueString.substring(startOffset, endOffset + 1);
+            }
+        }).collect(Collectors.joining(","));
+        return service.iso8601Array(this.client.getEndpoint(), durationConverted, updatedContext);
     }
 
     /**
@@ -208,11 +226,17 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32SecondsWithResponse(Duration duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return int32SecondsWithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.int32Seconds", requestContext,
-            updatedContext -> {
-                long durationConverted = duration.getSeconds();
-                return service.int32Seconds(this.client.getEndpoint(), durationConverted, updatedContext);
-            });
+            updatedContext -> int32SecondsWithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> int32SecondsWithResponseInternal(Duration duration, RequestContext updatedContext) {
+        long durationConverted = duration.getSeconds();
+        return service.int32Seconds(this.client.getEndpoint(), durationConverted, updatedContext);
     }
 
     /**
@@ -227,11 +251,17 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> floatSecondsWithResponse(Duration duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return floatSecondsWithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.floatSeconds", requestContext,
-            updatedContext -> {
-                double durationConverted = (double) duration.toNanos() / 1000_000_000L;
-                return service.floatSeconds(this.client.getEndpoint(), durationConverted, updatedContext);
-            });
+            updatedContext -> floatSecondsWithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> floatSecondsWithResponseInternal(Duration duration, RequestContext updatedContext) {
+        double durationConverted = (double) duration.toNanos() / 1000_000_000L;
+        return service.floatSeconds(this.client.getEndpoint(), durationConverted, updatedContext);
     }
 
     /**
@@ -246,10 +276,16 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> float64SecondsWithResponse(Duration duration, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return float64SecondsWithResponseInternal(duration,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.float64Seconds", requestContext,
-            updatedContext -> {
-                double durationConverted = (double) duration.toNanos() / 1000_000_000L;
-                return service.float64Seconds(this.client.getEndpoint(), durationConverted, updatedContext);
-            });
+            updatedContext -> float64SecondsWithResponseInternal(duration, updatedContext));
+    }
+
+    private Response<Void> float64SecondsWithResponseInternal(Duration duration, RequestContext updatedContext) {
+        double durationConverted = (double) duration.toNanos() / 1000_000_000L;
+        return service.float64Seconds(this.client.getEndpoint(), durationConverted, updatedContext);
     }
 }
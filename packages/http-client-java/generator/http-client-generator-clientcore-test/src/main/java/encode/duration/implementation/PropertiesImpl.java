@@ -137,12 +137,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DefaultDurationProperty> defaultMethodWithResponse(DefaultDurationProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.default", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<DefaultDurationProperty> defaultMethodWithResponseInternal(DefaultDurationProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.defaultMethod(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -158,12 +165,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ISO8601DurationProperty> iso8601WithResponse(ISO8601DurationProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return iso8601WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.iso8601", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.iso8601(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> iso8601WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<ISO8601DurationProperty> iso8601WithResponseInternal(ISO8601DurationProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.iso8601(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -179,12 +192,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Int32SecondsDurationProperty> int32SecondsWithResponse(Int32SecondsDurationProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return int32SecondsWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.int32Seconds", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.int32Seconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> int32SecondsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Int32SecondsDurationProperty> int32SecondsWithResponseInternal(Int32SecondsDurationProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.int32Seconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -200,12 +220,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<FloatSecondsDurationProperty> floatSecondsWithResponse(FloatSecondsDurationProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return floatSecondsWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.floatSeconds", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.floatSeconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> floatSecondsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<FloatSecondsDurationProperty> floatSecondsWithResponseInternal(FloatSecondsDurationProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.floatSeconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -221,12 +248,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Float64SecondsDurationProperty> float64SecondsWithResponse(Float64SecondsDurationProperty body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return float64SecondsWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.float64Seconds", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.float64Seconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> float64SecondsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Float64SecondsDurationProperty> float64SecondsWithResponseInternal(
+        Float64SecondsDurationProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.float64Seconds(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -242,11 +276,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<FloatSecondsDurationArrayProperty>
         floatSecondsArrayWithResponse(FloatSecondsDurationArrayProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return floatSecondsArrayWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Property.floatSecondsArray", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.floatSecondsArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> floatSecondsArrayWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<FloatSecondsDurationArrayProperty> floatSecondsArrayWithResponseInternal(
+        FloatSecondsDurationArrayProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.floatSecondsArray(this.client.getEndpoint(), contentType, accept, body, updatedContext);
     }
 }
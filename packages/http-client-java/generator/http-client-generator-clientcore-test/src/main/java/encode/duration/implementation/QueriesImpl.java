@@ -127,10 +127,16 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defaultMethodWithResponse(Duration input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defaultMethodWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.default", requestContext,
-            updatedContext -> {
-                return service.defaultMethod(this.client.getEndpoint(), input, updatedContext);
-            });
+            updatedContext -> defaultMethodWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> defaultMethodWithResponseInternal(Duration input, RequestContext updatedContext) {
+        return service.defaultMethod(this.client.getEndpoint(), input, updatedContext);
     }
 
     /**
@@ -145,10 +151,15 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> iso8601WithResponse(Duration input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return iso8601WithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.iso8601", requestContext,
-            updatedContext -> {
-                return service.iso8601(this.client.getEndpoint(), input, updatedContext);
-            });
+            updatedContext -> iso8601WithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> iso8601WithResponseInternal(Duration input, RequestContext updatedContext) {
+        return service.iso8601(this.client.getEndpoint(), input, updatedContext);
     }
 
     /**
@@ -163,11 +174,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32SecondsWithResponse(Duration input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return int32SecondsWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.int32Seconds", requestContext,
-            updatedContext -> {
-                long inputConverted = input.getSeconds();
-                return service.int32Seconds(this.client.getEndpoint(), inputConverted, updatedContext);
-            });
+            updatedContext -> int32SecondsWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> int32SecondsWithResponseInternal(Duration input, RequestContext updatedContext) {
+        long inputConverted = input.getSeconds();
+        return service.int32Seconds(this.client.getEndpoint(), inputConverted, updatedContext);
     }
 
     /**
@@ -182,11 +199,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> floatSecondsWithResponse(Duration input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return floatSecondsWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.floatSeconds", requestContext,
-            updatedContext -> {
-                double inputConverted = (double) input.toNanos() / 1000_000_000L;
-                return service.floatSeconds(this.client.getEndpoint(), inputConverted, updatedContext);
-            });
+            updatedContext -> floatSecondsWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> floatSecondsWithResponseInternal(Duration input, RequestContext updatedContext) {
+        double inputConverted = (double) input.toNanos() / 1000_000_000L;
+        return service.floatSeconds(this.client.getEndpoint(), inputConverted, updatedContext);
     }
 
     /**
@@ -201,11 +224,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> float64SecondsWithResponse(Duration input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return float64SecondsWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.float64Seconds", requestContext,
-            updatedContext -> {
-                double inputConverted = (double) input.toNanos() / 1000_000_000L;
-                return service.float64Seconds(this.client.getEndpoint(), inputConverted, updatedContext);
-            });
+            updatedContext -> float64SecondsWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> float64SecondsWithResponseInternal(Duration input, RequestContext updatedContext) {
+        double inputConverted = (double) input.toNanos() / 1000_000_000L;
+        return service.float64Seconds(this.client.getEndpoint(), inputConverted, updatedContext);
     }
 
     /**
@@ -220,41 +249,47 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32SecondsArrayWithResponse(List<Duration> input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return int32SecondsArrayWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Query.int32SecondsArray", requestContext,
-            updatedContext -> {
-                String inputConverted = input.stream()
-                    .map(paramItemValue -> paramItemValue.getSeconds())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
+            updatedContext -> int32SecondsArrayWithResponseInternal(input, updatedContext));
+    }
 
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
+    private Response<Void> int32SecondsArrayWithResponseInternal(List<Duration> input, RequestContext updatedContext) {
+        String inputConverted = input.stream()
+            .map(paramItemValue -> paramItemValue.getSeconds())
+            .collect(Collectors.toList())
+            .stream()
+            .map(paramItemValue -> {
+                if (paramItemValue == null) {
+                    return "";
+                } else {
+                    String itemValueString = BinaryData.fromObject(paramItemValue).toString();
+                    int strLength = itemValueString.length();
+                    int startOffset = 0;
+                    while (startOffset < strLength) {
+                        if (itemValueString.charAt(startOffset) != '"') {
+                            break;
                         }
-                    })
-                    .collect(Collectors.joining(","));
-                return service.int32SecondsArray(this.client.getEndpoint(), inputConverted, updatedContext);
-            });
+                        startOffset++;
+                    }
+                    if (startOffset == strLength) {
+                        return "";
+                    }
+                    int endOffset = strLength - 1;
+                    while (endOffset >= 0) {
+                        if (itemValueString.charAt(endOffset) != '"') {
+                            break;
+                        }
+
+                        endOffset--;
+                    }
+                    return itemValueString.substring(startOffset, endOffset + 1);
+                }
+            })
+            .collect(Collectors.joining(","));
+        return service.int32SecondsArray(this.client.getEndpoint(), inputConverted, updatedContext);
     }
 }
@@ -107,12 +107,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<SafeintAsStringProperty> safeintAsStringWithResponse(SafeintAsStringProperty value,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return safeintAsStringWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Numeric.Property.safeintAsString", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.safeintAsString(this.client.getEndpoint(), contentType, accept, value, updatedContext);
-            });
+            updatedContext -> safeintAsStringWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<SafeintAsStringProperty> safeintAsStringWithResponseInternal(SafeintAsStringProperty value,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.safeintAsString(this.client.getEndpoint(), contentType, accept, value, updatedContext);
     }
 
     /**
@@ -128,13 +135,19 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Uint32AsStringProperty> uint32AsStringOptionalWithResponse(Uint32AsStringProperty value,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return uint32AsStringOptionalWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Numeric.Property.uint32AsStringOptional",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.uint32AsStringOptional(this.client.getEndpoint(), contentType, accept, value,
-                    updatedContext);
-            });
+            requestContext, updatedContext -> uint32AsStringOptionalWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Uint32AsStringProperty> uint32AsStringOptionalWithResponseInternal(Uint32AsStringProperty value,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.uint32AsStringOptional(this.client.getEndpoint(), contentType, accept, value, updatedContext);
     }
 
     /**
@@ -150,11 +163,18 @@ public final class PropertiesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Uint8AsStringProperty> uint8AsStringWithResponse(Uint8AsStringProperty value,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return uint8AsStringWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Encode.Numeric.Property.uint8AsString", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.uint8AsString(this.client.getEndpoint(), contentType, accept, value, updatedContext);
-            });
+            updatedContext -> uint8AsStringWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Uint8AsStringProperty> uint8AsStringWithResponseInternal(Uint8AsStringProperty value,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.uint8AsString(this.client.getEndpoint(), contentType, accept, value, updatedContext);
     }
 }
@@ -86,10 +86,15 @@ public final class ExplicitBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> simpleWithResponse(User body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return simpleWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Basic.ExplicitBody.simple", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.simple(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> simpleWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> simpleWithResponseInternal(User body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.simple(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -86,11 +86,16 @@ public final class ImplicitBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> simpleWithResponse(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return simpleWithResponseInternal(name, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Basic.ImplicitBody.simple", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SimpleRequest simpleRequest = new SimpleRequest(name);
-                return service.simple(this.client.getEndpoint(), contentType, simpleRequest, updatedContext);
-            });
+            updatedContext -> simpleWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> simpleWithResponseInternal(String name, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SimpleRequest simpleRequest = new SimpleRequest(name);
+        return service.simple(this.client.getEndpoint(), contentType, simpleRequest, updatedContext);
     }
 }
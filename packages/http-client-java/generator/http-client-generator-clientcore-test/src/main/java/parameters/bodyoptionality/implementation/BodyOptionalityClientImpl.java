@@ -147,11 +147,17 @@ public final class BodyOptionalityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> requiredExplicitWithResponse(BodyModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requiredExplicitWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.BodyOptionality.requiredExplicit",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.requiredExplicit(this.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> requiredExplicitWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> requiredExplicitWithResponseInternal(BodyModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.requiredExplicit(this.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,11 +172,17 @@ public final class BodyOptionalityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> requiredImplicitWithResponse(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requiredImplicitWithResponseInternal(name,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.BodyOptionality.requiredImplicit",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                BodyModel bodyModel = new BodyModel(name);
-                return service.requiredImplicit(this.getEndpoint(), contentType, bodyModel, updatedContext);
-            });
+            requestContext, updatedContext -> requiredImplicitWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> requiredImplicitWithResponseInternal(String name, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        BodyModel bodyModel = new BodyModel(name);
+        return service.requiredImplicit(this.getEndpoint(), contentType, bodyModel, updatedContext);
     }
 }
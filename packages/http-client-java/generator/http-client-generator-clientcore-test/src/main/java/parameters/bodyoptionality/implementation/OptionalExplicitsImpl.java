@@ -94,10 +94,15 @@ public final class OptionalExplicitsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> setWithResponse(BodyModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return setWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.BodyOptionality.OptionalExplicit.set",
-            requestContext, updatedContext -> {
-                return service.set(this.client.getEndpoint(), body, updatedContext);
-            });
+            requestContext, updatedContext -> setWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> setWithResponseInternal(BodyModel body, RequestContext updatedContext) {
+        return service.set(this.client.getEndpoint(), body, updatedContext);
     }
 
     /**
@@ -112,9 +117,14 @@ public final class OptionalExplicitsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> omitWithResponse(BodyModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return omitWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.BodyOptionality.OptionalExplicit.omit",
-            requestContext, updatedContext -> {
-                return service.omit(this.client.getEndpoint(), body, updatedContext);
-            });
+            requestContext, updatedContext -> omitWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> omitWithResponseInternal(BodyModel body, RequestContext updatedContext) {
+        return service.omit(this.client.getEndpoint(), body, updatedContext);
     }
 }
@@ -86,12 +86,17 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> csvWithResponse(List<String> colors, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return csvWithResponseInternal(colors, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.CollectionFormat.Header.csv", requestContext,
-            updatedContext -> {
-                String colorsConverted = colors.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(","));
-                return service.csv(this.client.getEndpoint(), colorsConverted, updatedContext);
-            });
+            updatedContext -> csvWithResponseInternal(colors, updatedContext));
+    }
+
+    private Response<Void> csvWithResponseInternal(List<String> colors, RequestContext updatedContext) {
+        String colorsConverted = colors.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
+        return service.csv(this.client.getEndpoint(), colorsConverted, updatedContext);
     }
 }
@@ -111,12 +111,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> multiWithResponse(List<String> colors, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return multiWithResponseInternal(colors, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.CollectionFormat.Query.multi", requestContext,
-            updatedContext -> {
-                List<String> colorsConverted
-                    = colors.stream().map(item -> Objects.toString(item, "")).collect(Collectors.toList());
-                return service.multi(this.client.getEndpoint(), colorsConverted, updatedContext);
-            });
+            updatedContext -> multiWithResponseInternal(colors, updatedContext));
+    }
+
+    private Response<Void> multiWithResponseInternal(List<String> colors, RequestContext updatedContext) {
+        List<String> colorsConverted
+            = colors.stream().map(item -> Objects.toString(item, "")).collect(Collectors.toList());
+        return service.multi(this.client.getEndpoint(), colorsConverted, updatedContext);
     }
 
     /**
@@ -131,13 +136,18 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> ssvWithResponse(List<String> colors, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return ssvWithResponseInternal(colors, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.CollectionFormat.Query.ssv", requestContext,
-            updatedContext -> {
-                String colorsConverted = colors.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(" "));
-                return service.ssv(this.client.getEndpoint(), colorsConverted, updatedContext);
-            });
+            updatedContext -> ssvWithResponseInternal(colors, updatedContext));
+    }
+
+    private Response<Void> ssvWithResponseInternal(List<String> colors, RequestContext updatedContext) {
+        String colorsConverted = colors.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(" "));
+        return service.ssv(this.client.getEndpoint(), colorsConverted, updatedContext);
     }
 
     /**
@@ -152,13 +162,18 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> pipesWithResponse(List<String> colors, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return pipesWithResponseInternal(colors, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.CollectionFormat.Query.pipes", requestContext,
-            updatedContext -> {
-                String colorsConverted = colors.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining("|"));
-                return service.pipes(this.client.getEndpoint(), colorsConverted, updatedContext);
-            });
+            updatedContext -> pipesWithResponseInternal(colors, updatedContext));
+    }
+
+    private Response<Void> pipesWithResponseInternal(List<String> colors, RequestContext updatedContext) {
+        String colorsConverted = colors.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining("|"));
+        return service.pipes(this.client.getEndpoint(), colorsConverted, updatedContext);
     }
 
     /**
@@ -173,12 +188,17 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> csvWithResponse(List<String> colors, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return csvWithResponseInternal(colors, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.CollectionFormat.Query.csv", requestContext,
-            updatedContext -> {
-                String colorsConverted = colors.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(","));
-                return service.csv(this.client.getEndpoint(), colorsConverted, updatedContext);
-            });
+            updatedContext -> csvWithResponseInternal(colors, updatedContext));
+    }
+
+    private Response<Void> csvWithResponseInternal(List<String> colors, RequestContext updatedContext) {
+        String colorsConverted = colors.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
+        return service.csv(this.client.getEndpoint(), colorsConverted, updatedContext);
     }
 }
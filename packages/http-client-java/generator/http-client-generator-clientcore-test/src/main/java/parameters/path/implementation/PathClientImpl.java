@@ -125,9 +125,15 @@ public final class PathClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> normalWithResponse(String name, RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Parameters.Path.normal", requestContext, updatedContext -> {
-            return service.normal(this.getEndpoint(), name, updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return normalWithResponseInternal(name, requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Parameters.Path.normal", requestContext,
+            updatedContext -> normalWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> normalWithResponseInternal(String name, RequestContext updatedContext) {
+        return service.normal(this.getEndpoint(), name, updatedContext);
     }
 
     /**
@@ -142,9 +148,14 @@ public final class PathClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> optionalWithResponse(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return optionalWithResponseInternal(name, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Path.optional", requestContext,
-            updatedContext -> {
-                return service.optional(this.getEndpoint(), name, updatedContext);
-            });
+            updatedContext -> optionalWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> optionalWithResponseInternal(String name, RequestContext updatedContext) {
+        return service.optional(this.getEndpoint(), name, updatedContext);
     }
 }
@@ -129,13 +129,19 @@ public final class AliasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadAsRequestBodyWithResponse(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadAsRequestBodyWithResponseInternal(name,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Alias.spreadAsRequestBody",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadAsRequestBodyRequest spreadAsRequestBodyRequest = new SpreadAsRequestBodyRequest(name);
-                return service.spreadAsRequestBody(this.client.getEndpoint(), contentType, spreadAsRequestBodyRequest,
-                    updatedContext);
-            });
+            requestContext, updatedContext -> spreadAsRequestBodyWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> spreadAsRequestBodyWithResponseInternal(String name, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadAsRequestBodyRequest spreadAsRequestBodyRequest = new SpreadAsRequestBodyRequest(name);
+        return service.spreadAsRequestBody(this.client.getEndpoint(), contentType, spreadAsRequestBodyRequest,
+            updatedContext);
     }
 
     /**
@@ -153,14 +159,23 @@ public final class AliasImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadParameterWithInnerModelWithResponse(String id, String xMsTestHeader, String name,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadParameterWithInnerModelWithResponseInternal(id, xMsTestHeader, name,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Alias.spreadParameterWithInnerModel",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadParameterWithInnerModelRequest spreadParameterWithInnerModelRequest
-                    = new SpreadParameterWithInnerModelRequest(name);
-                return service.spreadParameterWithInnerModel(this.client.getEndpoint(), id, xMsTestHeader, contentType,
-                    spreadParameterWithInnerModelRequest, updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadParameterWithInnerModelWithResponseInternal(id, xMsTestHeader, name,
+                updatedContext));
+    }
+
+    private Response<Void> spreadParameterWithInnerModelWithResponseInternal(String id, String xMsTestHeader,
+        String name, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadParameterWithInnerModelRequest spreadParameterWithInnerModelRequest
+            = new SpreadParameterWithInnerModelRequest(name);
+        return service.spreadParameterWithInnerModel(this.client.getEndpoint(), id, xMsTestHeader, contentType,
+            spreadParameterWithInnerModelRequest, updatedContext);
     }
 
     /**
@@ -178,14 +193,21 @@ public final class AliasImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadAsRequestParameterWithResponse(String id, String xMsTestHeader, String name,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadAsRequestParameterWithResponseInternal(id, xMsTestHeader, name,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Alias.spreadAsRequestParameter",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadAsRequestParameterRequest spreadAsRequestParameterRequest
-                    = new SpreadAsRequestParameterRequest(name);
-                return service.spreadAsRequestParameter(this.client.getEndpoint(), id, xMsTestHeader, contentType,
-                    spreadAsRequestParameterRequest, updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadAsRequestParameterWithResponseInternal(id, xMsTestHeader, name, updatedContext));
+    }
+
+    private Response<Void> spreadAsRequestParameterWithResponseInternal(String id, String xMsTestHeader, String name,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadAsRequestParameterRequest spreadAsRequestParameterRequest = new SpreadAsRequestParameterRequest(name);
+        return service.spreadAsRequestParameter(this.client.getEndpoint(), id, xMsTestHeader, contentType,
+            spreadAsRequestParameterRequest, updatedContext);
     }
 
     /**
@@ -207,16 +229,26 @@ public final class AliasImpl {
     public Response<Void> spreadWithMultipleParametersWithResponse(String id, String xMsTestHeader,
         String requiredString, List<Integer> requiredIntList, Integer optionalInt, List<String> optionalStringList,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadWithMultipleParametersWithResponseInternal(id, xMsTestHeader, requiredString, requiredIntList,
+                optionalInt, optionalStringList, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Alias.spreadWithMultipleParameters",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequest
-                    = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList);
-                spreadWithMultipleParametersRequest.setOptionalInt(optionalInt);
-                spreadWithMultipleParametersRequest.setOptionalStringList(optionalStringList);
-                return service.spreadWithMultipleParameters(this.client.getEndpoint(), id, xMsTestHeader, contentType,
-                    spreadWithMultipleParametersRequest, updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadWithMultipleParametersWithResponseInternal(id, xMsTestHeader, requiredString,
+                requiredIntList, optionalInt, optionalStringList, updatedContext));
+    }
+
+    private Response<Void> spreadWithMultipleParametersWithResponseInternal(String id, String xMsTestHeader,
+        String requiredString, List<Integer> requiredIntList, Integer optionalInt, List<String> optionalStringList,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequest
+            = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList);
+        spreadWithMultipleParametersRequest.setOptionalInt(optionalInt);
+        spreadWithMultipleParametersRequest.setOptionalStringList(optionalStringList);
+        return service.spreadWithMultipleParameters(this.client.getEndpoint(), id, xMsTestHeader, contentType,
+            spreadWithMultipleParametersRequest, updatedContext);
     }
 
     /**
@@ -235,13 +267,22 @@ public final class AliasImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadParameterWithInnerAliasWithResponse(String id, String xMsTestHeader, String name,
         int age, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadParameterWithInnerAliasWithResponseInternal(id, xMsTestHeader, name, age,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Alias.spreadParameterWithInnerAlias",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadParameterWithInnerAliasRequest spreadParameterWithInnerAliasRequest
-                    = new SpreadParameterWithInnerAliasRequest(name, age);
-                return service.spreadParameterWithInnerAlias(this.client.getEndpoint(), id, xMsTestHeader, contentType,
-                    spreadParameterWithInnerAliasRequest, updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadParameterWithInnerAliasWithResponseInternal(id, xMsTestHeader, name, age,
+                updatedContext));
+    }
+
+    private Response<Void> spreadParameterWithInnerAliasWithResponseInternal(String id, String xMsTestHeader,
+        String name, int age, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadParameterWithInnerAliasRequest spreadParameterWithInnerAliasRequest
+            = new SpreadParameterWithInnerAliasRequest(name, age);
+        return service.spreadParameterWithInnerAlias(this.client.getEndpoint(), id, xMsTestHeader, contentType,
+            spreadParameterWithInnerAliasRequest, updatedContext);
     }
 }
@@ -124,13 +124,18 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadAsRequestBodyWithResponse(String name, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadAsRequestBodyWithResponseInternal(name,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Model.spreadAsRequestBody",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                BodyParameter bodyParameter = new BodyParameter(name);
-                return service.spreadAsRequestBody(this.client.getEndpoint(), contentType, bodyParameter,
-                    updatedContext);
-            });
+            requestContext, updatedContext -> spreadAsRequestBodyWithResponseInternal(name, updatedContext));
+    }
+
+    private Response<Void> spreadAsRequestBodyWithResponseInternal(String name, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        BodyParameter bodyParameter = new BodyParameter(name);
+        return service.spreadAsRequestBody(this.client.getEndpoint(), contentType, bodyParameter, updatedContext);
     }
 
     /**
@@ -146,12 +151,19 @@ public final class ModelsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadCompositeRequestOnlyWithBodyWithResponse(BodyParameter body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadCompositeRequestOnlyWithBodyWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Model.spreadCompositeRequestOnlyWithBody",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.spreadCompositeRequestOnlyWithBody(this.client.getEndpoint(), contentType, body,
-                    updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadCompositeRequestOnlyWithBodyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> spreadCompositeRequestOnlyWithBodyWithResponseInternal(BodyParameter body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.spreadCompositeRequestOnlyWithBody(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -168,11 +180,18 @@ public final class ModelsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadCompositeRequestWithoutBodyWithResponse(String name, String testHeader,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadCompositeRequestWithoutBodyWithResponseInternal(name, testHeader,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Model.spreadCompositeRequestWithoutBody",
-            requestContext, updatedContext -> {
-                return service.spreadCompositeRequestWithoutBody(this.client.getEndpoint(), name, testHeader,
-                    updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadCompositeRequestWithoutBodyWithResponseInternal(name, testHeader, updatedContext));
+    }
+
+    private Response<Void> spreadCompositeRequestWithoutBodyWithResponseInternal(String name, String testHeader,
+        RequestContext updatedContext) {
+        return service.spreadCompositeRequestWithoutBody(this.client.getEndpoint(), name, testHeader, updatedContext);
     }
 
     /**
@@ -190,12 +209,20 @@ public final class ModelsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadCompositeRequestWithResponse(String name, String testHeader, BodyParameter body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadCompositeRequestWithResponseInternal(name, testHeader, body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Model.spreadCompositeRequest",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.spreadCompositeRequest(this.client.getEndpoint(), name, testHeader, contentType, body,
-                    updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadCompositeRequestWithResponseInternal(name, testHeader, body, updatedContext));
+    }
+
+    private Response<Void> spreadCompositeRequestWithResponseInternal(String name, String testHeader,
+        BodyParameter body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.spreadCompositeRequest(this.client.getEndpoint(), name, testHeader, contentType, body,
+            updatedContext);
     }
 
     /**
@@ -213,13 +240,20 @@ public final class ModelsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> spreadCompositeRequestMixWithResponse(String name, String testHeader, String prop,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return spreadCompositeRequestMixWithResponseInternal(name, testHeader, prop,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Parameters.Spread.Model.spreadCompositeRequestMix",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                SpreadCompositeRequestMixRequest spreadCompositeRequestMixRequest
-                    = new SpreadCompositeRequestMixRequest(prop);
-                return service.spreadCompositeRequestMix(this.client.getEndpoint(), name, testHeader, contentType,
-                    spreadCompositeRequestMixRequest, updatedContext);
-            });
+            requestContext,
+            updatedContext -> spreadCompositeRequestMixWithResponseInternal(name, testHeader, prop, updatedContext));
+    }
+
+    private Response<Void> spreadCompositeRequestMixWithResponseInternal(String name, String testHeader, String prop,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SpreadCompositeRequestMixRequest spreadCompositeRequestMixRequest = new SpreadCompositeRequestMixRequest(prop);
+        return service.spreadCompositeRequestMix(this.client.getEndpoint(), name, testHeader, contentType,
+            spreadCompositeRequestMixRequest, updatedContext);
     }
 }
@@ -93,11 +93,16 @@ public final class DifferentBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getAvatarAsPngWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAvatarAsPngWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.ContentNegotiation.DifferentBody.getAvatarAsPng",
-            requestContext, updatedContext -> {
-                final String accept = "image/png";
-                return service.getAvatarAsPng(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAvatarAsPngWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> getAvatarAsPngWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "image/png";
+        return service.getAvatarAsPng(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -111,10 +116,15 @@ public final class DifferentBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<PngImageAsJson> getAvatarAsJsonWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAvatarAsJsonWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.ContentNegotiation.DifferentBody.getAvatarAsJson",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getAvatarAsJson(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAvatarAsJsonWithResponseInternal(updatedContext));
+    }
+
+    private Response<PngImageAsJson> getAvatarAsJsonWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAvatarAsJson(this.client.getEndpoint(), accept, updatedContext);
     }
 }
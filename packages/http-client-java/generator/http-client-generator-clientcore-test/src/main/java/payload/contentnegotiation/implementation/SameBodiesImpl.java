@@ -91,11 +91,16 @@ public final class SameBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getAvatarAsPngWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAvatarAsPngWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.ContentNegotiation.SameBody.getAvatarAsPng",
-            requestContext, updatedContext -> {
-                final String accept = "image/png";
-                return service.getAvatarAsPng(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAvatarAsPngWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> getAvatarAsPngWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "image/png";
+        return service.getAvatarAsPng(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -109,10 +114,15 @@ public final class SameBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getAvatarAsJpegWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAvatarAsJpegWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.ContentNegotiation.SameBody.getAvatarAsJpeg",
-            requestContext, updatedContext -> {
-                final String accept = "image/jpeg";
-                return service.getAvatarAsJpeg(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAvatarAsJpegWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> getAvatarAsJpegWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "image/jpeg";
+        return service.getAvatarAsJpeg(this.client.getEndpoint(), accept, updatedContext);
     }
 }
@@ -141,12 +141,18 @@ public final class JsonMergePatchClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Resource> createResourceWithResponse(Resource body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return createResourceWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.JsonMergePatch.createResource", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.createResource(this.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> createResourceWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Resource> createResourceWithResponseInternal(Resource body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.createResource(this.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -161,12 +167,18 @@ public final class JsonMergePatchClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Resource> updateResourceWithResponse(ResourcePatch body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return updateResourceWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.JsonMergePatch.updateResource", requestContext,
-            updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                final String accept = "application/json";
-                return service.updateResource(this.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> updateResourceWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Resource> updateResourceWithResponseInternal(ResourcePatch body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        final String accept = "application/json";
+        return service.updateResource(this.getEndpoint(), contentType, accept, body, updatedContext);
     }
 
     /**
@@ -181,10 +193,17 @@ public final class JsonMergePatchClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Resource> updateOptionalResourceWithResponse(ResourcePatch body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return updateOptionalResourceWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.JsonMergePatch.updateOptionalResource",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.updateOptionalResource(this.getEndpoint(), accept, body, updatedContext);
-            });
+            requestContext, updatedContext -> updateOptionalResourceWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Resource> updateOptionalResourceWithResponseInternal(ResourcePatch body,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.updateOptionalResource(this.getEndpoint(), accept, body, updatedContext);
     }
 }
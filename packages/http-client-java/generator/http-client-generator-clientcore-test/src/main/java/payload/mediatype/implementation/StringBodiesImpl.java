@@ -111,11 +111,17 @@ public final class StringBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendAsTextWithResponse(String text, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendAsTextWithResponseInternal(text,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MediaType.StringBody.sendAsText", requestContext,
-            updatedContext -> {
-                final String contentType = "text/plain";
-                return service.sendAsText(this.client.getEndpoint(), contentType, text, updatedContext);
-            });
+            updatedContext -> sendAsTextWithResponseInternal(text, updatedContext));
+    }
+
+    private Response<Void> sendAsTextWithResponseInternal(String text, RequestContext updatedContext) {
+        final String contentType = "text/plain";
+        return service.sendAsText(this.client.getEndpoint(), contentType, text, updatedContext);
     }
 
     /**
@@ -129,11 +135,16 @@ public final class StringBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<String> getAsTextWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAsTextWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MediaType.StringBody.getAsText", requestContext,
-            updatedContext -> {
-                final String accept = "text/plain";
-                return service.getAsText(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getAsTextWithResponseInternal(updatedContext));
+    }
+
+    private Response<String> getAsTextWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "text/plain";
+        return service.getAsText(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -148,11 +159,17 @@ public final class StringBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendAsJsonWithResponse(String text, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendAsJsonWithResponseInternal(text,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MediaType.StringBody.sendAsJson", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.sendAsJson(this.client.getEndpoint(), contentType, text, updatedContext);
-            });
+            updatedContext -> sendAsJsonWithResponseInternal(text, updatedContext));
+    }
+
+    private Response<Void> sendAsJsonWithResponseInternal(String text, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.sendAsJson(this.client.getEndpoint(), contentType, text, updatedContext);
     }
 
     /**
@@ -166,10 +183,15 @@ public final class StringBodiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<String> getAsJsonWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAsJsonWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MediaType.StringBody.getAsJson", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getAsJson(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getAsJsonWithResponseInternal(updatedContext));
+    }
+
+    private Response<String> getAsJsonWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAsJson(this.client.getEndpoint(), accept, updatedContext);
     }
 }
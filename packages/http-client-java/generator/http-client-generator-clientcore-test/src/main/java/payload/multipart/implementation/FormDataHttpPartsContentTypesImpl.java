@@ -115,11 +115,19 @@ public final class FormDataHttpPartsContentTypesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> imageJpegContentTypeWithResponse(FileWithHttpPartSpecificContentTypeRequest body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return imageJpegContentTypeWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Payload.MultiPart.FormData.HttpParts.ContentType.imageJpegContentType", requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.imageJpegContentType(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Payload.MultiPart.FormData.HttpParts.ContentType.imageJpegContentType", requestContext,
+            updatedContext -> imageJpegContentTypeWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> imageJpegContentTypeWithResponseInternal(FileWithHttpPartSpecificContentTypeRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.imageJpegContentType(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -135,11 +143,19 @@ public final class FormDataHttpPartsContentTypesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> requiredContentTypeWithResponse(FileWithHttpPartRequiredContentTypeRequest body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requiredContentTypeWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Payload.MultiPart.FormData.HttpParts.ContentType.requiredContentType", requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.requiredContentType(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Payload.MultiPart.FormData.HttpParts.ContentType.requiredContentType", requestContext,
+            updatedContext -> requiredContentTypeWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> requiredContentTypeWithResponseInternal(FileWithHttpPartRequiredContentTypeRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.requiredContentType(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -155,10 +171,18 @@ public final class FormDataHttpPartsContentTypesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> optionalContentTypeWithResponse(FileWithHttpPartOptionalContentTypeRequest body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return optionalContentTypeWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Payload.MultiPart.FormData.HttpParts.ContentType.optionalContentType", requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.optionalContentType(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Payload.MultiPart.FormData.HttpParts.ContentType.optionalContentType", requestContext,
+            updatedContext -> optionalContentTypeWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> optionalContentTypeWithResponseInternal(FileWithHttpPartOptionalContentTypeRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.optionalContentType(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -89,10 +89,17 @@ public final class FormDataHttpPartsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> jsonArrayAndFileArrayWithResponse(ComplexHttpPartsModelRequest body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return jsonArrayAndFileArrayWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.HttpParts.jsonArrayAndFileArray",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.jsonArrayAndFileArray(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> jsonArrayAndFileArrayWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> jsonArrayAndFileArrayWithResponseInternal(ComplexHttpPartsModelRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.jsonArrayAndFileArray(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -89,10 +89,16 @@ public final class FormDataHttpPartsNonStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> floatMethodWithResponse(FloatRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return floatMethodWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.HttpParts.NonString.float",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.floatMethod(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> floatMethodWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> floatMethodWithResponseInternal(FloatRequest body, RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.floatMethod(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -150,11 +150,16 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> basicWithResponse(MultiPartRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return basicWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.basic", requestContext,
-            updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.basic(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> basicWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> basicWithResponseInternal(MultiPartRequest body, RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.basic(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -169,11 +174,18 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> fileArrayAndBasicWithResponse(ComplexPartsRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return fileArrayAndBasicWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.fileArrayAndBasic",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.fileArrayAndBasic(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> fileArrayAndBasicWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> fileArrayAndBasicWithResponseInternal(ComplexPartsRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.fileArrayAndBasic(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -188,11 +200,16 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> jsonPartWithResponse(JsonPartRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return jsonPartWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.jsonPart", requestContext,
-            updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.jsonPart(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> jsonPartWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> jsonPartWithResponseInternal(JsonPartRequest body, RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.jsonPart(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -207,11 +224,18 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> binaryArrayPartsWithResponse(BinaryArrayPartsRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return binaryArrayPartsWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.binaryArrayParts",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.binaryArrayParts(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> binaryArrayPartsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> binaryArrayPartsWithResponseInternal(BinaryArrayPartsRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.binaryArrayParts(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -226,11 +250,18 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> multiBinaryPartsWithResponse(MultiBinaryPartsRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return multiBinaryPartsWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.multiBinaryParts",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.multiBinaryParts(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> multiBinaryPartsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> multiBinaryPartsWithResponseInternal(MultiBinaryPartsRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.multiBinaryParts(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -246,12 +277,18 @@ public final class FormDatasImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> checkFileNameAndContentTypeWithResponse(MultiPartRequest body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return checkFileNameAndContentTypeWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.checkFileNameAndContentType",
-            requestContext, updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.checkFileNameAndContentType(this.client.getEndpoint(), contentType, body,
-                    updatedContext);
-            });
+            requestContext, updatedContext -> checkFileNameAndContentTypeWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> checkFileNameAndContentTypeWithResponseInternal(MultiPartRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.checkFileNameAndContentType(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -266,10 +303,17 @@ public final class FormDatasImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> anonymousModelWithResponse(AnonymousModelRequest body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return anonymousModelWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.MultiPart.FormData.anonymousModel", requestContext,
-            updatedContext -> {
-                final String contentType = "multipart/form-data";
-                return service.anonymousModel(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> anonymousModelWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> anonymousModelWithResponseInternal(AnonymousModelRequest body,
+        RequestContext updatedContext) {
+        final String contentType = "multipart/form-data";
+        return service.anonymousModel(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
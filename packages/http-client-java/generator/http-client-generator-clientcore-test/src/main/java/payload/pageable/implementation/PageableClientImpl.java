@@ -170,14 +170,20 @@ public final class PageableClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> listWithoutContinuationSinglePage(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return listWithoutContinuationSinglePageInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.listWithoutContinuation", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<ListWithoutContinuationResponse> res
-                    = service.listWithoutContinuation(this.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), null, null, null, null, null);
-            });
+            updatedContext -> listWithoutContinuationSinglePageInternal(updatedContext));
+    }
+
+    private PagedResponse<Pet> listWithoutContinuationSinglePageInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<ListWithoutContinuationResponse> res
+            = service.listWithoutContinuation(this.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            null, null, null, null, null);
     }
 
     /**
@@ -171,17 +171,22 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestQueryResponseBodySinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestQueryResponseBodySinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestQueryResponseBody", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestQueryResponseBodyResponse> res = service
-                    .requestQueryResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(),
-                    res.getValue().getNextToken() != null ? res.getValue().getNextToken() : null, null, null, null,
-                    null);
-            });
+            updatedContext -> requestQueryResponseBodySinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestQueryResponseBodySinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestQueryResponseBodyResponse> res = service
+            .requestQueryResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            res.getValue().getNextToken() != null ? res.getValue().getNextToken() : null, null, null, null, null);
     }
 
     /**
@@ -300,17 +305,22 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestHeaderResponseBodySinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestHeaderResponseBodySinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestHeaderResponseBody", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestHeaderResponseBodyResponse> res = service
-                    .requestHeaderResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(),
-                    res.getValue().getNextToken() != null ? res.getValue().getNextToken() : null, null, null, null,
-                    null);
-            });
+            updatedContext -> requestHeaderResponseBodySinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestHeaderResponseBodySinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestHeaderResponseBodyResponse> res = service
+            .requestHeaderResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            res.getValue().getNextToken() != null ? res.getValue().getNextToken() : null, null, null, null, null);
     }
 
     /**
@@ -408,8 +418,8 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
                 Response<RequestQueryResponseHeaderResponse> res = service
                     .requestQueryResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
                 return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), res.getHeaders().getValue(HttpHeaderName.fromString("next-token")), null,
-                    null, null, null);
+                    res.getValue().getPets(), res.getHeaders().getValue(HTTP_HEADER_NAME_NEXT_TOKEN), null, null, null,
+                    null);
             });
     }
 
@@ -428,16 +438,22 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestQueryResponseHeaderSinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestQueryResponseHeaderSinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestQueryResponseHeader", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestQueryResponseHeaderResponse> res = service
-                    .requestQueryResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), res.getHeaders().getValue(HttpHeaderName.fromString("next-token")), null,
-                    null, null, null);
-            });
+            updatedContext -> requestQueryResponseHeaderSinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestQueryResponseHeaderSinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestQueryResponseHeaderResponse> res = service
+            .requestQueryResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            res.getHeaders().getValue(HTTP_HEADER_NAME_NEXT_TOKEN), null, null, null, null);
     }
 
     /**
@@ -535,8 +551,8 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
                 Response<RequestHeaderResponseHeaderResponse> res = service
                     .requestHeaderResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
                 return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), res.getHeaders().getValue(HttpHeaderName.fromString("next-token")), null,
-                    null, null, null);
+                    res.getValue().getPets(), res.getHeaders().getValue(HTTP_HEADER_NAME_NEXT_TOKEN), null, null, null,
+                    null);
             });
     }
 
@@ -555,16 +571,22 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestHeaderResponseHeaderSinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestHeaderResponseHeaderSinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestHeaderResponseHeader", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestHeaderResponseHeaderResponse> res = service
-                    .requestHeaderResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), res.getHeaders().getValue(HttpHeaderName.fromString("next-token")), null,
-                    null, null, null);
-            });
+            updatedContext -> requestHeaderResponseHeaderSinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestHeaderResponseHeaderSinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestHeaderResponseHeaderResponse> res = service
+            .requestHeaderResponseHeader(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            res.getHeaders().getValue(HTTP_HEADER_NAME_NEXT_TOKEN), null, null, null, null);
     }
 
     /**
@@ -685,19 +707,26 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestQueryNestedResponseBodySinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestQueryNestedResponseBodySinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestQueryNestedResponseBody", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestQueryNestedResponseBodyResponse> res = service
-                    .requestQueryNestedResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getNestedItems().getPets(),
-                    res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNextToken() != null
-                        ? res.getValue().getNestedNext().getNextToken()
-                        : null,
-                    null, null, null, null);
-            });
+            updatedContext -> requestQueryNestedResponseBodySinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestQueryNestedResponseBodySinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestQueryNestedResponseBodyResponse> res = service
+            .requestQueryNestedResponseBody(this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
+            res.getValue().getNestedItems().getPets(),
+            res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNextToken() != null
+                ? res.getValue().getNestedNext().getNextToken()
+                : null,
+            null, null, null, null);
     }
 
     /**
@@ -818,19 +847,26 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> requestHeaderNestedResponseBodySinglePage(String token, String foo, String bar,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestHeaderNestedResponseBodySinglePageInternal(token, foo, bar,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Payload.Pageable.ServerDrivenPagination.ContinuationToken.requestHeaderNestedResponseBody", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                Response<RequestHeaderNestedResponseBodyResponse> res = service.requestHeaderNestedResponseBody(
-                    this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getNestedItems().getPets(),
-                    res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNextToken() != null
-                        ? res.getValue().getNestedNext().getNextToken()
-                        : null,
-                    null, null, null, null);
-            });
+            updatedContext -> requestHeaderNestedResponseBodySinglePageInternal(token, foo, bar, updatedContext));
+    }
+
+    private PagedResponse<Pet> requestHeaderNestedResponseBodySinglePageInternal(String token, String foo, String bar,
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<RequestHeaderNestedResponseBodyResponse> res = service.requestHeaderNestedResponseBody(
+            this.client.getEndpoint(), token, foo, bar, accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
+            res.getValue().getNestedItems().getPets(),
+            res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNextToken() != null
+                ? res.getValue().getNestedNext().getNextToken()
+                : null,
+            null, null, null, null);
     }
 
     /**
@@ -908,5 +944,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         });
     }
 
+    private static final HttpHeaderName HTTP_HEADER_NAME_NEXT_TOKEN = HttpHeaderName.fromString("next-token");
+
     private static final ClientLogger LOGGER = new ClientLogger(ServerDrivenPaginationContinuationTokensImpl.class);
 }
@@ -144,14 +144,18 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> linkSinglePage(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return linkSinglePageInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.link",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<LinkResponse> res = service.link(this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), null, res.getValue().getNext() != null ? res.getValue().getNext() : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> linkSinglePageInternal(updatedContext));
+    }
+
+    private PagedResponse<Pet> linkSinglePageInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<LinkResponse> res = service.link(this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            null, res.getValue().getNext() != null ? res.getValue().getNext() : null, null, null, null);
     }
 
     /**
@@ -226,15 +230,18 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> linkStringSinglePage(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return linkStringSinglePageInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.linkString",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<LinkStringResponse> res
-                    = service.linkString(this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), null, res.getValue().getNext() != null ? res.getValue().getNext() : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> linkStringSinglePageInternal(updatedContext));
+    }
+
+    private PagedResponse<Pet> linkStringSinglePageInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<LinkStringResponse> res = service.linkString(this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            null, res.getValue().getNext() != null ? res.getValue().getNext() : null, null, null, null);
     }
 
     /**
@@ -312,18 +319,22 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> nestedLinkSinglePage(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return nestedLinkSinglePageInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.nestedLink",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<NestedLinkResponse> res
-                    = service.nestedLink(this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getNestedItems().getPets(), null,
-                    res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNext() != null
-                        ? res.getValue().getNestedNext().getNext()
-                        : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> nestedLinkSinglePageInternal(updatedContext));
+    }
+
+    private PagedResponse<Pet> nestedLinkSinglePageInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<NestedLinkResponse> res = service.nestedLink(this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
+            res.getValue().getNestedItems().getPets(), null,
+            res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNext() != null
+                ? res.getValue().getNestedNext().getNext()
+                : null,
+            null, null, null);
     }
 
     /**
@@ -401,15 +412,19 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> linkNextSinglePage(String nextLink, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return linkNextSinglePageInternal(nextLink,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.link",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<LinkResponse> res
-                    = service.linkNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), null, res.getValue().getNext() != null ? res.getValue().getNext() : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> linkNextSinglePageInternal(nextLink, updatedContext));
+    }
+
+    private PagedResponse<Pet> linkNextSinglePageInternal(String nextLink, RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<LinkResponse> res = service.linkNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            null, res.getValue().getNext() != null ? res.getValue().getNext() : null, null, null, null);
     }
 
     /**
@@ -446,15 +461,20 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> linkStringNextSinglePage(String nextLink, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return linkStringNextSinglePageInternal(nextLink,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.linkString",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<LinkStringResponse> res
-                    = service.linkStringNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getPets(), null, res.getValue().getNext() != null ? res.getValue().getNext() : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> linkStringNextSinglePageInternal(nextLink, updatedContext));
+    }
+
+    private PagedResponse<Pet> linkStringNextSinglePageInternal(String nextLink, RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<LinkStringResponse> res
+            = service.linkStringNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), res.getValue().getPets(),
+            null, res.getValue().getNext() != null ? res.getValue().getNext() : null, null, null, null);
     }
 
     /**
@@ -494,18 +514,24 @@ public final class ServerDrivenPaginationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public PagedResponse<Pet> nestedLinkNextSinglePage(String nextLink, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return nestedLinkNextSinglePageInternal(nextLink,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Pageable.ServerDrivenPagination.nestedLink",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                Response<NestedLinkResponse> res
-                    = service.nestedLinkNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
-                return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                    res.getValue().getNestedItems().getPets(), null,
-                    res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNext() != null
-                        ? res.getValue().getNestedNext().getNext()
-                        : null,
-                    null, null, null);
-            });
+            requestContext, updatedContext -> nestedLinkNextSinglePageInternal(nextLink, updatedContext));
+    }
+
+    private PagedResponse<Pet> nestedLinkNextSinglePageInternal(String nextLink, RequestContext updatedContext) {
+        final String accept = "application/json";
+        Response<NestedLinkResponse> res
+            = service.nestedLinkNext(nextLink, this.client.getEndpoint(), accept, updatedContext);
+        return new PagedResponse<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
+            res.getValue().getNestedItems().getPets(), null,
+            res.getValue().getNestedNext() != null && res.getValue().getNestedNext().getNext() != null
+                ? res.getValue().getNestedNext().getNext()
+                : null,
+            null, null, null);
     }
 
     private static final ClientLogger LOGGER = new ClientLogger(ServerDrivenPaginationsImpl.class);
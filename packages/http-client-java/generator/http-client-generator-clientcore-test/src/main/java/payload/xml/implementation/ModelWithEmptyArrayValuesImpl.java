@@ -93,11 +93,16 @@ public final class ModelWithEmptyArrayValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelWithEmptyArray> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Xml.ModelWithEmptyArrayValue.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/xml";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<ModelWithEmptyArray> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/xml";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -112,10 +117,15 @@ public final class ModelWithEmptyArrayValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(ModelWithEmptyArray input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Payload.Xml.ModelWithEmptyArrayValue.put", requestContext,
-            updatedContext -> {
-                final String contentType = "application/xml";
-                return service.put(this.client.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> putWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(ModelWithEmptyArray input, RequestContext updatedContext) {
+        final String contentType = "application/xml";
+        return service.put(this.client.getEndpoint(), contentType, input, updatedContext);
     }
 }
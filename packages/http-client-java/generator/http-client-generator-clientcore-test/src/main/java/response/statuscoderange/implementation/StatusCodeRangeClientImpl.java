@@ -236,10 +236,16 @@ public final class StatusCodeRangeClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> errorResponseStatusCodeInRangeWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return errorResponseStatusCodeInRangeWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Response.StatusCodeRange.errorResponseStatusCodeInRange",
-            requestContext, updatedContext -> {
-                return service.errorResponseStatusCodeInRange(this.getEndpoint(), updatedContext);
-            });
+            requestContext, updatedContext -> errorResponseStatusCodeInRangeWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> errorResponseStatusCodeInRangeWithResponseInternal(RequestContext updatedContext) {
+        return service.errorResponseStatusCodeInRange(this.getEndpoint(), updatedContext);
     }
 
     /**
@@ -253,9 +259,15 @@ public final class StatusCodeRangeClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> errorResponseStatusCode404WithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return errorResponseStatusCode404WithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Response.StatusCodeRange.errorResponseStatusCode404",
-            requestContext, updatedContext -> {
-                return service.errorResponseStatusCode404(this.getEndpoint(), updatedContext);
-            });
+            requestContext, updatedContext -> errorResponseStatusCode404WithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> errorResponseStatusCode404WithResponseInternal(RequestContext updatedContext) {
+        return service.errorResponseStatusCode404(this.getEndpoint(), updatedContext);
     }
 }
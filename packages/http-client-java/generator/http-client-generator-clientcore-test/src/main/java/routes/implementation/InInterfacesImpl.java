@@ -81,9 +81,14 @@ public final class InInterfacesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> fixedWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return fixedWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.InInterface.fixed", requestContext,
-            updatedContext -> {
-                return service.fixed(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> fixedWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> fixedWithResponseInternal(RequestContext updatedContext) {
+        return service.fixed(this.client.getEndpoint(), updatedContext);
     }
 }
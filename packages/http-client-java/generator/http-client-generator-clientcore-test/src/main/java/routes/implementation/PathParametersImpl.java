@@ -100,10 +100,16 @@ public final class PathParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> templateOnlyWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return templateOnlyWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.templateOnly", requestContext,
-            updatedContext -> {
-                return service.templateOnly(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> templateOnlyWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> templateOnlyWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.templateOnly(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -118,10 +124,15 @@ public final class PathParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> explicitWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return explicitWithResponseInternal(param, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.explicit", requestContext,
-            updatedContext -> {
-                return service.explicit(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> explicitWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> explicitWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.explicit(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -136,9 +147,15 @@ public final class PathParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> annotationOnlyWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return annotationOnlyWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.annotationOnly", requestContext,
-            updatedContext -> {
-                return service.annotationOnly(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> annotationOnlyWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> annotationOnlyWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.annotationOnly(this.client.getEndpoint(), param, updatedContext);
     }
 }
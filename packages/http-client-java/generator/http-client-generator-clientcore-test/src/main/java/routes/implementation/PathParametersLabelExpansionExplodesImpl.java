@@ -105,10 +105,16 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> primitiveWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return primitiveWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.primitive",
-            requestContext, updatedContext -> {
-                return service.primitive(this.client.getEndpoint(), param, updatedContext);
-            });
+            requestContext, updatedContext -> primitiveWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> primitiveWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.primitive(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -123,13 +129,18 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> arrayWithResponse(List<String> param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return arrayWithResponseInternal(param, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.array",
-            requestContext, updatedContext -> {
-                String paramConverted = param.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(","));
-                return service.array(this.client.getEndpoint(), paramConverted, updatedContext);
-            });
+            requestContext, updatedContext -> arrayWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> arrayWithResponseInternal(List<String> param, RequestContext updatedContext) {
+        String paramConverted = param.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
+        return service.array(this.client.getEndpoint(), paramConverted, updatedContext);
     }
 
     /**
@@ -144,9 +155,14 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> recordWithResponse(Map<String, Integer> param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return recordWithResponseInternal(param, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.record",
-            requestContext, updatedContext -> {
-                return service.record(this.client.getEndpoint(), param, updatedContext);
-            });
+            requestContext, updatedContext -> recordWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> recordWithResponseInternal(Map<String, Integer> param, RequestContext updatedContext) {
+        return service.record(this.client.getEndpoint(), param, updatedContext);
     }
 }
@@ -92,10 +92,15 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> templateWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return templateWithResponseInternal(param, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.ReservedExpansion.template",
-            requestContext, updatedContext -> {
-                return service.template(this.client.getEndpoint(), param, updatedContext);
-            });
+            requestContext, updatedContext -> templateWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> templateWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.template(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -110,9 +115,15 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> annotationWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return annotationWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.ReservedExpansion.annotation",
-            requestContext, updatedContext -> {
-                return service.annotation(this.client.getEndpoint(), param, updatedContext);
-            });
+            requestContext, updatedContext -> annotationWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> annotationWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.annotation(this.client.getEndpoint(), param, updatedContext);
     }
 }
@@ -97,10 +97,16 @@ public final class QueryParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> templateOnlyWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return templateOnlyWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.QueryParameters.templateOnly", requestContext,
-            updatedContext -> {
-                return service.templateOnly(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> templateOnlyWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> templateOnlyWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.templateOnly(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -115,10 +121,15 @@ public final class QueryParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> explicitWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return explicitWithResponseInternal(param, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.QueryParameters.explicit", requestContext,
-            updatedContext -> {
-                return service.explicit(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> explicitWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> explicitWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.explicit(this.client.getEndpoint(), param, updatedContext);
     }
 
     /**
@@ -133,9 +144,15 @@ public final class QueryParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> annotationOnlyWithResponse(String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return annotationOnlyWithResponseInternal(param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Routes.QueryParameters.annotationOnly", requestContext,
-            updatedContext -> {
-                return service.annotationOnly(this.client.getEndpoint(), param, updatedContext);
-            });
+            updatedContext -> annotationOnlyWithResponseInternal(param, updatedContext));
+    }
+
+    private Response<Void> annotationOnlyWithResponseInternal(String param, RequestContext updatedContext) {
+        return service.annotationOnly(this.client.getEndpoint(), param, updatedContext);
     }
 }
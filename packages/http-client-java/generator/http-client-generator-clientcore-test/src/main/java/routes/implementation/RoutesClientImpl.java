@@ -352,8 +352,14 @@ public final class RoutesClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> fixedWithResponse(RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Routes.fixed", requestContext, updatedContext -> {
-            return service.fixed(this.getEndpoint(), updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return fixedWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Routes.fixed", requestContext,
+            updatedContext -> fixedWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> fixedWithResponseInternal(RequestContext updatedContext) {
+        return service.fixed(this.getEndpoint(), updatedContext);
     }
 }
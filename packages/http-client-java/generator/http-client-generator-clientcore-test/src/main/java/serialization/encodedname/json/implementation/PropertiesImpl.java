@@ -93,11 +93,16 @@ public final class PropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(JsonEncodedNameModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Serialization.EncodedName.Json.Property.send",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.send(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> sendWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(JsonEncodedNameModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.send(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -111,10 +116,15 @@ public final class PropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<JsonEncodedNameModel> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Serialization.EncodedName.Json.Property.get",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<JsonEncodedNameModel> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 }
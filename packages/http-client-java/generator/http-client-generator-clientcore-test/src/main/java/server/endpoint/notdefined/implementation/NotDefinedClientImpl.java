@@ -116,9 +116,14 @@ public final class NotDefinedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> validWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return validWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Endpoint.NotDefined.valid", requestContext,
-            updatedContext -> {
-                return service.valid(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> validWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> validWithResponseInternal(RequestContext updatedContext) {
+        return service.valid(this.getEndpoint(), updatedContext);
     }
 }
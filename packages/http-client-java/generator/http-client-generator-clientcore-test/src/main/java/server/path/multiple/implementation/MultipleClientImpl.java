@@ -138,11 +138,16 @@ public final class MultipleClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> noOperationParamsWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return noOperationParamsWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Path.Multiple.noOperationParams", requestContext,
-            updatedContext -> {
-                return service.noOperationParams(this.getEndpoint(), this.getServiceVersion().getVersion(),
-                    updatedContext);
-            });
+            updatedContext -> noOperationParamsWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> noOperationParamsWithResponseInternal(RequestContext updatedContext) {
+        return service.noOperationParams(this.getEndpoint(), this.getServiceVersion().getVersion(), updatedContext);
     }
 
     /**
@@ -157,10 +162,16 @@ public final class MultipleClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withOperationPathParamWithResponse(String keyword, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withOperationPathParamWithResponseInternal(keyword,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Path.Multiple.withOperationPathParam",
-            requestContext, updatedContext -> {
-                return service.withOperationPathParam(this.getEndpoint(), this.getServiceVersion().getVersion(),
-                    keyword, updatedContext);
-            });
+            requestContext, updatedContext -> withOperationPathParamWithResponseInternal(keyword, updatedContext));
+    }
+
+    private Response<Void> withOperationPathParamWithResponseInternal(String keyword, RequestContext updatedContext) {
+        return service.withOperationPathParam(this.getEndpoint(), this.getServiceVersion().getVersion(), keyword,
+            updatedContext);
     }
 }
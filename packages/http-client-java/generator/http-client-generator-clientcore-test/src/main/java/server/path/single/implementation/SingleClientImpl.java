@@ -115,9 +115,14 @@ public final class SingleClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> myOpWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return myOpWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Path.Single.myOp", requestContext,
-            updatedContext -> {
-                return service.myOp(this.getEndpoint(), updatedContext);
-            });
+            updatedContext -> myOpWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> myOpWithResponseInternal(RequestContext updatedContext) {
+        return service.myOp(this.getEndpoint(), updatedContext);
     }
 }
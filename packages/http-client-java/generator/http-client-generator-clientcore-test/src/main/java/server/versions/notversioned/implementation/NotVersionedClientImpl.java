@@ -135,10 +135,16 @@ public final class NotVersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withoutApiVersionWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withoutApiVersionWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.NotVersioned.withoutApiVersion",
-            requestContext, updatedContext -> {
-                return service.withoutApiVersion(this.getEndpoint(), updatedContext);
-            });
+            requestContext, updatedContext -> withoutApiVersionWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withoutApiVersionWithResponseInternal(RequestContext updatedContext) {
+        return service.withoutApiVersion(this.getEndpoint(), updatedContext);
     }
 
     /**
@@ -153,10 +159,16 @@ public final class NotVersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withQueryApiVersionWithResponse(String apiVersion, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withQueryApiVersionWithResponseInternal(apiVersion,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.NotVersioned.withQueryApiVersion",
-            requestContext, updatedContext -> {
-                return service.withQueryApiVersion(this.getEndpoint(), apiVersion, updatedContext);
-            });
+            requestContext, updatedContext -> withQueryApiVersionWithResponseInternal(apiVersion, updatedContext));
+    }
+
+    private Response<Void> withQueryApiVersionWithResponseInternal(String apiVersion, RequestContext updatedContext) {
+        return service.withQueryApiVersion(this.getEndpoint(), apiVersion, updatedContext);
     }
 
     /**
@@ -171,9 +183,15 @@ public final class NotVersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withPathApiVersionWithResponse(String apiVersion, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withPathApiVersionWithResponseInternal(apiVersion,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.NotVersioned.withPathApiVersion",
-            requestContext, updatedContext -> {
-                return service.withPathApiVersion(this.getEndpoint(), apiVersion, updatedContext);
-            });
+            requestContext, updatedContext -> withPathApiVersionWithResponseInternal(apiVersion, updatedContext));
+    }
+
+    private Response<Void> withPathApiVersionWithResponseInternal(String apiVersion, RequestContext updatedContext) {
+        return service.withPathApiVersion(this.getEndpoint(), apiVersion, updatedContext);
     }
 }
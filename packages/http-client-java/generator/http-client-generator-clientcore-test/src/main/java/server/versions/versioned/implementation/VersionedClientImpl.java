@@ -160,10 +160,16 @@ public final class VersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withoutApiVersionWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withoutApiVersionWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.Versioned.withoutApiVersion",
-            requestContext, updatedContext -> {
-                return service.withoutApiVersion(this.getEndpoint(), updatedContext);
-            });
+            requestContext, updatedContext -> withoutApiVersionWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withoutApiVersionWithResponseInternal(RequestContext updatedContext) {
+        return service.withoutApiVersion(this.getEndpoint(), updatedContext);
     }
 
     /**
@@ -177,11 +183,16 @@ public final class VersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withQueryApiVersionWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withQueryApiVersionWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.Versioned.withQueryApiVersion",
-            requestContext, updatedContext -> {
-                return service.withQueryApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(),
-                    updatedContext);
-            });
+            requestContext, updatedContext -> withQueryApiVersionWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withQueryApiVersionWithResponseInternal(RequestContext updatedContext) {
+        return service.withQueryApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(), updatedContext);
     }
 
     /**
@@ -195,11 +206,16 @@ public final class VersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withPathApiVersionWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withPathApiVersionWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.Versioned.withPathApiVersion",
-            requestContext, updatedContext -> {
-                return service.withPathApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(),
-                    updatedContext);
-            });
+            requestContext, updatedContext -> withPathApiVersionWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withPathApiVersionWithResponseInternal(RequestContext updatedContext) {
+        return service.withPathApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(), updatedContext);
     }
 
     /**
@@ -213,10 +229,16 @@ public final class VersionedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withQueryOldApiVersionWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withQueryOldApiVersionWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Server.Versions.Versioned.withQueryOldApiVersion",
-            requestContext, updatedContext -> {
-                return service.withQueryOldApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(),
-                    updatedContext);
-            });
+            requestContext, updatedContext -> withQueryOldApiVersionWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withQueryOldApiVersionWithResponseInternal(RequestContext updatedContext) {
+        return service.withQueryOldApiVersion(this.getEndpoint(), this.getServiceVersion().getVersion(),
+            updatedContext);
     }
 }
@@ -146,10 +146,16 @@ public final class ConditionalRequestClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> postIfMatchWithResponse(String ifMatch, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postIfMatchWithResponseInternal(ifMatch,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialHeaders.ConditionalRequest.postIfMatch",
-            requestContext, updatedContext -> {
-                return service.postIfMatch(this.getEndpoint(), ifMatch, updatedContext);
-            });
+            requestContext, updatedContext -> postIfMatchWithResponseInternal(ifMatch, updatedContext));
+    }
+
+    private Response<Void> postIfMatchWithResponseInternal(String ifMatch, RequestContext updatedContext) {
+        return service.postIfMatch(this.getEndpoint(), ifMatch, updatedContext);
     }
 
     /**
@@ -164,10 +170,16 @@ public final class ConditionalRequestClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> postIfNoneMatchWithResponse(String ifNoneMatch, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postIfNoneMatchWithResponseInternal(ifNoneMatch,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialHeaders.ConditionalRequest.postIfNoneMatch",
-            requestContext, updatedContext -> {
-                return service.postIfNoneMatch(this.getEndpoint(), ifNoneMatch, updatedContext);
-            });
+            requestContext, updatedContext -> postIfNoneMatchWithResponseInternal(ifNoneMatch, updatedContext));
+    }
+
+    private Response<Void> postIfNoneMatchWithResponseInternal(String ifNoneMatch, RequestContext updatedContext) {
+        return service.postIfNoneMatch(this.getEndpoint(), ifNoneMatch, updatedContext);
     }
 
     /**
@@ -185,12 +197,19 @@ public final class ConditionalRequestClientImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> headIfModifiedSinceWithResponse(OffsetDateTime ifModifiedSince,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return headIfModifiedSinceWithResponseInternal(ifModifiedSince,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialHeaders.ConditionalRequest.headIfModifiedSince",
-            requestContext, updatedContext -> {
-                DateTimeRfc1123 ifModifiedSinceConverted
-                    = ifModifiedSince == null ? null : new DateTimeRfc1123(ifModifiedSince);
-                return service.headIfModifiedSince(this.getEndpoint(), ifModifiedSinceConverted, updatedContext);
-            });
+            requestContext, updatedContext -> headIfModifiedSinceWithResponseInternal(ifModifiedSince, updatedContext));
+    }
+
+    private Response<Void> headIfModifiedSinceWithResponseInternal(OffsetDateTime ifModifiedSince,
+        RequestContext updatedContext) {
+        DateTimeRfc1123 ifModifiedSinceConverted
+            = ifModifiedSince == null ? null : new DateTimeRfc1123(ifModifiedSince);
+        return service.headIfModifiedSince(this.getEndpoint(), ifModifiedSinceConverted, updatedContext);
     }
 
     /**
@@ -208,11 +227,19 @@ public final class ConditionalRequestClientImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> postIfUnmodifiedSinceWithResponse(OffsetDateTime ifUnmodifiedSince,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postIfUnmodifiedSinceWithResponseInternal(ifUnmodifiedSince,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialHeaders.ConditionalRequest.postIfUnmodifiedSince",
-            requestContext, updatedContext -> {
-                DateTimeRfc1123 ifUnmodifiedSinceConverted
-                    = ifUnmodifiedSince == null ? null : new DateTimeRfc1123(ifUnmodifiedSince);
-                return service.postIfUnmodifiedSince(this.getEndpoint(), ifUnmodifiedSinceConverted, updatedContext);
-            });
+            requestContext,
+            updatedContext -> postIfUnmodifiedSinceWithResponseInternal(ifUnmodifiedSince, updatedContext));
+    }
+
+    private Response<Void> postIfUnmodifiedSinceWithResponseInternal(OffsetDateTime ifUnmodifiedSince,
+        RequestContext updatedContext) {
+        DateTimeRfc1123 ifUnmodifiedSinceConverted
+            = ifUnmodifiedSince == null ? null : new DateTimeRfc1123(ifUnmodifiedSince);
+        return service.postIfUnmodifiedSince(this.getEndpoint(), ifUnmodifiedSinceConverted, updatedContext);
     }
 }
@@ -123,10 +123,16 @@ public final class RepeatabilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> immediateSuccessWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return immediateSuccessWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialHeaders.Repeatability.immediateSuccess",
-            requestContext, updatedContext -> {
-                return service.immediateSuccess(this.getEndpoint(), UUID.randomUUID().toString(),
-                    DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()), updatedContext);
-            });
+            requestContext, updatedContext -> immediateSuccessWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> immediateSuccessWithResponseInternal(RequestContext updatedContext) {
+        return service.immediateSuccess(this.getEndpoint(), UUID.randomUUID().toString(),
+            DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()), updatedContext);
     }
 }
@@ -87,10 +87,16 @@ public final class ModelPropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sameAsModelWithResponse(SameAsModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sameAsModelWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.ModelProperties.sameAsModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.sameAsModel(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> sameAsModelWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> sameAsModelWithResponseInternal(SameAsModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.sameAsModel(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
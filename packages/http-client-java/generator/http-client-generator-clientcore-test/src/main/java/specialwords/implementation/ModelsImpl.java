@@ -389,11 +389,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAndWithResponse(And body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAndWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withAnd", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withAnd(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withAndWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withAndWithResponseInternal(And body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withAnd(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -408,11 +413,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAsWithResponse(As body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAsWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withAs", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withAs(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withAsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withAsWithResponseInternal(As body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withAs(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -427,11 +437,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAssertWithResponse(Assert body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAssertWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withAssert", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withAssert(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withAssertWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withAssertWithResponseInternal(Assert body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withAssert(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -446,11 +462,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAsyncWithResponse(Async body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAsyncWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withAsync", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withAsync(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withAsyncWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withAsyncWithResponseInternal(Async body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withAsync(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -465,11 +486,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAwaitWithResponse(Await body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAwaitWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withAwait", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withAwait(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withAwaitWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withAwaitWithResponseInternal(Await body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withAwait(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -484,11 +510,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withBreakWithResponse(Break body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withBreakWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withBreak", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withBreak(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withBreakWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withBreakWithResponseInternal(Break body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withBreak(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -503,11 +534,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withClassWithResponse(ClassModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withClassWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withClass", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withClass(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withClassWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withClassWithResponseInternal(ClassModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withClass(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -522,11 +558,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withConstructorWithResponse(Constructor body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withConstructorWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withConstructor", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withConstructor(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withConstructorWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withConstructorWithResponseInternal(Constructor body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withConstructor(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -541,11 +583,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withContinueWithResponse(Continue body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withContinueWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withContinue", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withContinue(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withContinueWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withContinueWithResponseInternal(Continue body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withContinue(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -560,11 +608,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withDefWithResponse(Def body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withDefWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withDef", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withDef(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withDefWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withDefWithResponseInternal(Def body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withDef(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -579,11 +632,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withDelWithResponse(Del body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withDelWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withDel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withDel(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withDelWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withDelWithResponseInternal(Del body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withDel(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -598,11 +656,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withElifWithResponse(Elif body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withElifWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withElif", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withElif(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withElifWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withElifWithResponseInternal(Elif body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withElif(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -617,11 +680,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withElseWithResponse(Else body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withElseWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withElse", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withElse(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withElseWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withElseWithResponseInternal(Else body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withElse(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -636,11 +704,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withExceptWithResponse(Except body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withExceptWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withExcept", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withExcept(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withExceptWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withExceptWithResponseInternal(Except body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withExcept(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -655,11 +729,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withExecWithResponse(Exec body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withExecWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withExec", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withExec(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withExecWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withExecWithResponseInternal(Exec body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withExec(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -674,11 +753,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withFinallyWithResponse(Finally body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withFinallyWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withFinally", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withFinally(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withFinallyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withFinallyWithResponseInternal(Finally body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withFinally(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -693,11 +778,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withForWithResponse(For body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withForWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withFor", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withFor(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withForWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withForWithResponseInternal(For body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withFor(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -712,11 +802,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withFromWithResponse(From body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withFromWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withFrom", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withFrom(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withFromWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withFromWithResponseInternal(From body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withFrom(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -731,11 +826,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withGlobalWithResponse(Global body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withGlobalWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withGlobal", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withGlobal(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withGlobalWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withGlobalWithResponseInternal(Global body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withGlobal(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -750,11 +851,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withIfWithResponse(If body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withIfWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withIf", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withIf(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withIfWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withIfWithResponseInternal(If body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withIf(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -769,11 +875,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withImportWithResponse(Import body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withImportWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withImport", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withImport(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withImportWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withImportWithResponseInternal(Import body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withImport(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -788,11 +900,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withInWithResponse(In body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withInWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withIn", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withIn(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withInWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withInWithResponseInternal(In body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withIn(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -807,11 +924,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withIsWithResponse(Is body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withIsWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withIs", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withIs(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withIsWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withIsWithResponseInternal(Is body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withIs(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -826,11 +948,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withLambdaWithResponse(Lambda body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withLambdaWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withLambda", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withLambda(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withLambdaWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withLambdaWithResponseInternal(Lambda body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withLambda(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -845,11 +973,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withNotWithResponse(Not body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withNotWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withNot", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withNot(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withNotWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withNotWithResponseInternal(Not body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withNot(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -864,11 +997,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withOrWithResponse(Or body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withOrWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withOr", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withOr(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withOrWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withOrWithResponseInternal(Or body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withOr(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -883,11 +1021,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withPassWithResponse(Pass body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withPassWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withPass", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withPass(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withPassWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withPassWithResponseInternal(Pass body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withPass(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -902,11 +1045,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withRaiseWithResponse(Raise body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withRaiseWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withRaise", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withRaise(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withRaiseWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withRaiseWithResponseInternal(Raise body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withRaise(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -921,11 +1069,17 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withReturnWithResponse(Return body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withReturnWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withReturn", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withReturn(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withReturnWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withReturnWithResponseInternal(Return body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withReturn(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -940,11 +1094,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withTryWithResponse(Try body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withTryWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withTry", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withTry(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withTryWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withTryWithResponseInternal(Try body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withTry(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -959,11 +1118,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withWhileWithResponse(While body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withWhileWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withWhile", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withWhile(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withWhileWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withWhileWithResponseInternal(While body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withWhile(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -978,11 +1142,16 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withWithWithResponse(With body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withWithWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withWith", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withWith(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withWithWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withWithWithResponseInternal(With body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withWith(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -997,10 +1166,15 @@ public final class ModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withYieldWithResponse(Yield body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withYieldWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Models.withYield", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.withYield(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> withYieldWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> withYieldWithResponseInternal(Yield body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.withYield(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
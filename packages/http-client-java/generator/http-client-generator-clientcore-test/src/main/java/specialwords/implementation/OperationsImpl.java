@@ -304,10 +304,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> andWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return andWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.and", requestContext,
-            updatedContext -> {
-                return service.and(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> andWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> andWithResponseInternal(RequestContext updatedContext) {
+        return service.and(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -321,10 +326,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> asWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return asWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.as", requestContext,
-            updatedContext -> {
-                return service.as(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> asWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> asWithResponseInternal(RequestContext updatedContext) {
+        return service.as(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -338,10 +348,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> assertMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return assertMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.assert", requestContext,
-            updatedContext -> {
-                return service.assertMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> assertMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> assertMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.assertMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -355,10 +370,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> asyncWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return asyncWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.async", requestContext,
-            updatedContext -> {
-                return service.async(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> asyncWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> asyncWithResponseInternal(RequestContext updatedContext) {
+        return service.async(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -372,10 +392,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> awaitWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return awaitWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.await", requestContext,
-            updatedContext -> {
-                return service.await(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> awaitWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> awaitWithResponseInternal(RequestContext updatedContext) {
+        return service.await(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -389,10 +414,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> breakMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return breakMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.break", requestContext,
-            updatedContext -> {
-                return service.breakMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> breakMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> breakMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.breakMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -406,10 +436,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> classMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return classMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.class", requestContext,
-            updatedContext -> {
-                return service.classMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> classMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> classMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.classMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -423,10 +458,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> constructorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return constructorWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.constructor", requestContext,
-            updatedContext -> {
-                return service.constructor(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> constructorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> constructorWithResponseInternal(RequestContext updatedContext) {
+        return service.constructor(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -440,10 +480,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> continueMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return continueMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.continue", requestContext,
-            updatedContext -> {
-                return service.continueMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> continueMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> continueMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.continueMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -457,10 +502,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> defWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return defWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.def", requestContext,
-            updatedContext -> {
-                return service.def(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> defWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> defWithResponseInternal(RequestContext updatedContext) {
+        return service.def(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -474,10 +524,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> delWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return delWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.del", requestContext,
-            updatedContext -> {
-                return service.del(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> delWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> delWithResponseInternal(RequestContext updatedContext) {
+        return service.del(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -491,10 +546,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> elifWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return elifWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.elif", requestContext,
-            updatedContext -> {
-                return service.elif(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> elifWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> elifWithResponseInternal(RequestContext updatedContext) {
+        return service.elif(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -508,10 +568,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> elseMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return elseMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.else", requestContext,
-            updatedContext -> {
-                return service.elseMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> elseMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> elseMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.elseMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -525,10 +590,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> exceptWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return exceptWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.except", requestContext,
-            updatedContext -> {
-                return service.except(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> exceptWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> exceptWithResponseInternal(RequestContext updatedContext) {
+        return service.except(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -542,10 +612,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> execWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return execWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.exec", requestContext,
-            updatedContext -> {
-                return service.exec(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> execWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> execWithResponseInternal(RequestContext updatedContext) {
+        return service.exec(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -559,10 +634,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> finallyMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return finallyMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.finally", requestContext,
-            updatedContext -> {
-                return service.finallyMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> finallyMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> finallyMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.finallyMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -576,10 +656,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> forMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return forMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.for", requestContext,
-            updatedContext -> {
-                return service.forMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> forMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> forMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.forMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -593,10 +678,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> fromWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return fromWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.from", requestContext,
-            updatedContext -> {
-                return service.from(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> fromWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> fromWithResponseInternal(RequestContext updatedContext) {
+        return service.from(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -610,10 +700,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> globalWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return globalWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.global", requestContext,
-            updatedContext -> {
-                return service.global(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> globalWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> globalWithResponseInternal(RequestContext updatedContext) {
+        return service.global(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -627,10 +722,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> ifMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return ifMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.if", requestContext,
-            updatedContext -> {
-                return service.ifMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> ifMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> ifMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.ifMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -644,10 +744,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> importMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return importMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.import", requestContext,
-            updatedContext -> {
-                return service.importMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> importMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> importMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.importMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -661,10 +766,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> inWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return inWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.in", requestContext,
-            updatedContext -> {
-                return service.in(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> inWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> inWithResponseInternal(RequestContext updatedContext) {
+        return service.in(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -678,10 +788,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> isWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return isWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.is", requestContext,
-            updatedContext -> {
-                return service.is(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> isWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> isWithResponseInternal(RequestContext updatedContext) {
+        return service.is(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -695,10 +810,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> lambdaWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return lambdaWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.lambda", requestContext,
-            updatedContext -> {
-                return service.lambda(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> lambdaWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> lambdaWithResponseInternal(RequestContext updatedContext) {
+        return service.lambda(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -712,10 +832,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> notWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return notWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.not", requestContext,
-            updatedContext -> {
-                return service.not(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> notWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> notWithResponseInternal(RequestContext updatedContext) {
+        return service.not(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -729,10 +854,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> orWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return orWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.or", requestContext,
-            updatedContext -> {
-                return service.or(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> orWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> orWithResponseInternal(RequestContext updatedContext) {
+        return service.or(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -746,10 +876,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> passWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return passWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.pass", requestContext,
-            updatedContext -> {
-                return service.pass(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> passWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> passWithResponseInternal(RequestContext updatedContext) {
+        return service.pass(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -763,10 +898,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> raiseWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return raiseWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.raise", requestContext,
-            updatedContext -> {
-                return service.raise(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> raiseWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> raiseWithResponseInternal(RequestContext updatedContext) {
+        return service.raise(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -780,10 +920,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> returnMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return returnMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.return", requestContext,
-            updatedContext -> {
-                return service.returnMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> returnMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> returnMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.returnMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -797,10 +942,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> tryMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return tryMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.try", requestContext,
-            updatedContext -> {
-                return service.tryMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> tryMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> tryMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.tryMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -814,10 +964,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> whileMethodWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return whileMethodWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.while", requestContext,
-            updatedContext -> {
-                return service.whileMethod(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> whileMethodWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> whileMethodWithResponseInternal(RequestContext updatedContext) {
+        return service.whileMethod(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -831,10 +986,15 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.with", requestContext,
-            updatedContext -> {
-                return service.with(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> withWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> withWithResponseInternal(RequestContext updatedContext) {
+        return service.with(this.client.getEndpoint(), updatedContext);
     }
 
     /**
@@ -848,9 +1008,14 @@ public final class OperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> yieldWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return yieldWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Operations.yield", requestContext,
-            updatedContext -> {
-                return service.yield(this.client.getEndpoint(), updatedContext);
-            });
+            updatedContext -> yieldWithResponseInternal(updatedContext));
+    }
+
+    private Response<Void> yieldWithResponseInternal(RequestContext updatedContext) {
+        return service.yield(this.client.getEndpoint(), updatedContext);
     }
 }
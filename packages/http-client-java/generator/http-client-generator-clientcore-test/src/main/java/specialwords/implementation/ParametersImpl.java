@@ -347,10 +347,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAndWithResponse(String and, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAndWithResponseInternal(and, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withAnd", requestContext,
-            updatedContext -> {
-                return service.withAnd(this.client.getEndpoint(), and, updatedContext);
-            });
+            updatedContext -> withAndWithResponseInternal(and, updatedContext));
+    }
+
+    private Response<Void> withAndWithResponseInternal(String and, RequestContext updatedContext) {
+        return service.withAnd(this.client.getEndpoint(), and, updatedContext);
     }
 
     /**
@@ -365,10 +370,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAsWithResponse(String as, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAsWithResponseInternal(as, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withAs", requestContext,
-            updatedContext -> {
-                return service.withAs(this.client.getEndpoint(), as, updatedContext);
-            });
+            updatedContext -> withAsWithResponseInternal(as, updatedContext));
+    }
+
+    private Response<Void> withAsWithResponseInternal(String as, RequestContext updatedContext) {
+        return service.withAs(this.client.getEndpoint(), as, updatedContext);
     }
 
     /**
@@ -383,10 +393,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAssertWithResponse(String assertParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAssertWithResponseInternal(assertParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withAssert", requestContext,
-            updatedContext -> {
-                return service.withAssert(this.client.getEndpoint(), assertParameter, updatedContext);
-            });
+            updatedContext -> withAssertWithResponseInternal(assertParameter, updatedContext));
+    }
+
+    private Response<Void> withAssertWithResponseInternal(String assertParameter, RequestContext updatedContext) {
+        return service.withAssert(this.client.getEndpoint(), assertParameter, updatedContext);
     }
 
     /**
@@ -401,10 +417,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAsyncWithResponse(String async, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAsyncWithResponseInternal(async,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withAsync", requestContext,
-            updatedContext -> {
-                return service.withAsync(this.client.getEndpoint(), async, updatedContext);
-            });
+            updatedContext -> withAsyncWithResponseInternal(async, updatedContext));
+    }
+
+    private Response<Void> withAsyncWithResponseInternal(String async, RequestContext updatedContext) {
+        return service.withAsync(this.client.getEndpoint(), async, updatedContext);
     }
 
     /**
@@ -419,10 +441,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withAwaitWithResponse(String await, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withAwaitWithResponseInternal(await,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withAwait", requestContext,
-            updatedContext -> {
-                return service.withAwait(this.client.getEndpoint(), await, updatedContext);
-            });
+            updatedContext -> withAwaitWithResponseInternal(await, updatedContext));
+    }
+
+    private Response<Void> withAwaitWithResponseInternal(String await, RequestContext updatedContext) {
+        return service.withAwait(this.client.getEndpoint(), await, updatedContext);
     }
 
     /**
@@ -437,10 +465,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withBreakWithResponse(String breakParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withBreakWithResponseInternal(breakParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withBreak", requestContext,
-            updatedContext -> {
-                return service.withBreak(this.client.getEndpoint(), breakParameter, updatedContext);
-            });
+            updatedContext -> withBreakWithResponseInternal(breakParameter, updatedContext));
+    }
+
+    private Response<Void> withBreakWithResponseInternal(String breakParameter, RequestContext updatedContext) {
+        return service.withBreak(this.client.getEndpoint(), breakParameter, updatedContext);
     }
 
     /**
@@ -455,10 +489,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withClassWithResponse(String classParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withClassWithResponseInternal(classParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withClass", requestContext,
-            updatedContext -> {
-                return service.withClass(this.client.getEndpoint(), classParameter, updatedContext);
-            });
+            updatedContext -> withClassWithResponseInternal(classParameter, updatedContext));
+    }
+
+    private Response<Void> withClassWithResponseInternal(String classParameter, RequestContext updatedContext) {
+        return service.withClass(this.client.getEndpoint(), classParameter, updatedContext);
     }
 
     /**
@@ -473,10 +513,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withConstructorWithResponse(String constructor, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withConstructorWithResponseInternal(constructor,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withConstructor", requestContext,
-            updatedContext -> {
-                return service.withConstructor(this.client.getEndpoint(), constructor, updatedContext);
-            });
+            updatedContext -> withConstructorWithResponseInternal(constructor, updatedContext));
+    }
+
+    private Response<Void> withConstructorWithResponseInternal(String constructor, RequestContext updatedContext) {
+        return service.withConstructor(this.client.getEndpoint(), constructor, updatedContext);
     }
 
     /**
@@ -491,10 +537,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withContinueWithResponse(String continueParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withContinueWithResponseInternal(continueParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withContinue", requestContext,
-            updatedContext -> {
-                return service.withContinue(this.client.getEndpoint(), continueParameter, updatedContext);
-            });
+            updatedContext -> withContinueWithResponseInternal(continueParameter, updatedContext));
+    }
+
+    private Response<Void> withContinueWithResponseInternal(String continueParameter, RequestContext updatedContext) {
+        return service.withContinue(this.client.getEndpoint(), continueParameter, updatedContext);
     }
 
     /**
@@ -509,10 +561,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withDefWithResponse(String def, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withDefWithResponseInternal(def, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withDef", requestContext,
-            updatedContext -> {
-                return service.withDef(this.client.getEndpoint(), def, updatedContext);
-            });
+            updatedContext -> withDefWithResponseInternal(def, updatedContext));
+    }
+
+    private Response<Void> withDefWithResponseInternal(String def, RequestContext updatedContext) {
+        return service.withDef(this.client.getEndpoint(), def, updatedContext);
     }
 
     /**
@@ -527,10 +584,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withDelWithResponse(String del, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withDelWithResponseInternal(del, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withDel", requestContext,
-            updatedContext -> {
-                return service.withDel(this.client.getEndpoint(), del, updatedContext);
-            });
+            updatedContext -> withDelWithResponseInternal(del, updatedContext));
+    }
+
+    private Response<Void> withDelWithResponseInternal(String del, RequestContext updatedContext) {
+        return service.withDel(this.client.getEndpoint(), del, updatedContext);
     }
 
     /**
@@ -545,10 +607,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withElifWithResponse(String elif, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withElifWithResponseInternal(elif, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withElif", requestContext,
-            updatedContext -> {
-                return service.withElif(this.client.getEndpoint(), elif, updatedContext);
-            });
+            updatedContext -> withElifWithResponseInternal(elif, updatedContext));
+    }
+
+    private Response<Void> withElifWithResponseInternal(String elif, RequestContext updatedContext) {
+        return service.withElif(this.client.getEndpoint(), elif, updatedContext);
     }
 
     /**
@@ -563,10 +630,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withElseWithResponse(String elseParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withElseWithResponseInternal(elseParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withElse", requestContext,
-            updatedContext -> {
-                return service.withElse(this.client.getEndpoint(), elseParameter, updatedContext);
-            });
+            updatedContext -> withElseWithResponseInternal(elseParameter, updatedContext));
+    }
+
+    private Response<Void> withElseWithResponseInternal(String elseParameter, RequestContext updatedContext) {
+        return service.withElse(this.client.getEndpoint(), elseParameter, updatedContext);
     }
 
     /**
@@ -581,10 +654,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withExceptWithResponse(String except, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withExceptWithResponseInternal(except,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withExcept", requestContext,
-            updatedContext -> {
-                return service.withExcept(this.client.getEndpoint(), except, updatedContext);
-            });
+            updatedContext -> withExceptWithResponseInternal(except, updatedContext));
+    }
+
+    private Response<Void> withExceptWithResponseInternal(String except, RequestContext updatedContext) {
+        return service.withExcept(this.client.getEndpoint(), except, updatedContext);
     }
 
     /**
@@ -599,10 +678,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withExecWithResponse(String exec, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withExecWithResponseInternal(exec, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withExec", requestContext,
-            updatedContext -> {
-                return service.withExec(this.client.getEndpoint(), exec, updatedContext);
-            });
+            updatedContext -> withExecWithResponseInternal(exec, updatedContext));
+    }
+
+    private Response<Void> withExecWithResponseInternal(String exec, RequestContext updatedContext) {
+        return service.withExec(this.client.getEndpoint(), exec, updatedContext);
     }
 
     /**
@@ -617,10 +701,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withFinallyWithResponse(String finallyParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withFinallyWithResponseInternal(finallyParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withFinally", requestContext,
-            updatedContext -> {
-                return service.withFinally(this.client.getEndpoint(), finallyParameter, updatedContext);
-            });
+            updatedContext -> withFinallyWithResponseInternal(finallyParameter, updatedContext));
+    }
+
+    private Response<Void> withFinallyWithResponseInternal(String finallyParameter, RequestContext updatedContext) {
+        return service.withFinally(this.client.getEndpoint(), finallyParameter, updatedContext);
     }
 
     /**
@@ -635,10 +725,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withForWithResponse(String forParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withForWithResponseInternal(forParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withFor", requestContext,
-            updatedContext -> {
-                return service.withFor(this.client.getEndpoint(), forParameter, updatedContext);
-            });
+            updatedContext -> withForWithResponseInternal(forParameter, updatedContext));
+    }
+
+    private Response<Void> withForWithResponseInternal(String forParameter, RequestContext updatedContext) {
+        return service.withFor(this.client.getEndpoint(), forParameter, updatedContext);
     }
 
     /**
@@ -653,10 +749,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withFromWithResponse(String from, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withFromWithResponseInternal(from, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withFrom", requestContext,
-            updatedContext -> {
-                return service.withFrom(this.client.getEndpoint(), from, updatedContext);
-            });
+            updatedContext -> withFromWithResponseInternal(from, updatedContext));
+    }
+
+    private Response<Void> withFromWithResponseInternal(String from, RequestContext updatedContext) {
+        return service.withFrom(this.client.getEndpoint(), from, updatedContext);
     }
 
     /**
@@ -671,10 +772,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withGlobalWithResponse(String global, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withGlobalWithResponseInternal(global,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withGlobal", requestContext,
-            updatedContext -> {
-                return service.withGlobal(this.client.getEndpoint(), global, updatedContext);
-            });
+            updatedContext -> withGlobalWithResponseInternal(global, updatedContext));
+    }
+
+    private Response<Void> withGlobalWithResponseInternal(String global, RequestContext updatedContext) {
+        return service.withGlobal(this.client.getEndpoint(), global, updatedContext);
     }
 
     /**
@@ -689,10 +796,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withIfWithResponse(String ifParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withIfWithResponseInternal(ifParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withIf", requestContext,
-            updatedContext -> {
-                return service.withIf(this.client.getEndpoint(), ifParameter, updatedContext);
-            });
+            updatedContext -> withIfWithResponseInternal(ifParameter, updatedContext));
+    }
+
+    private Response<Void> withIfWithResponseInternal(String ifParameter, RequestContext updatedContext) {
+        return service.withIf(this.client.getEndpoint(), ifParameter, updatedContext);
     }
 
     /**
@@ -707,10 +820,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withImportWithResponse(String importParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withImportWithResponseInternal(importParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withImport", requestContext,
-            updatedContext -> {
-                return service.withImport(this.client.getEndpoint(), importParameter, updatedContext);
-            });
+            updatedContext -> withImportWithResponseInternal(importParameter, updatedContext));
+    }
+
+    private Response<Void> withImportWithResponseInternal(String importParameter, RequestContext updatedContext) {
+        return service.withImport(this.client.getEndpoint(), importParameter, updatedContext);
     }
 
     /**
@@ -725,10 +844,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withInWithResponse(String in, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withInWithResponseInternal(in, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withIn", requestContext,
-            updatedContext -> {
-                return service.withIn(this.client.getEndpoint(), in, updatedContext);
-            });
+            updatedContext -> withInWithResponseInternal(in, updatedContext));
+    }
+
+    private Response<Void> withInWithResponseInternal(String in, RequestContext updatedContext) {
+        return service.withIn(this.client.getEndpoint(), in, updatedContext);
     }
 
     /**
@@ -743,10 +867,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withIsWithResponse(String is, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withIsWithResponseInternal(is, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withIs", requestContext,
-            updatedContext -> {
-                return service.withIs(this.client.getEndpoint(), is, updatedContext);
-            });
+            updatedContext -> withIsWithResponseInternal(is, updatedContext));
+    }
+
+    private Response<Void> withIsWithResponseInternal(String is, RequestContext updatedContext) {
+        return service.withIs(this.client.getEndpoint(), is, updatedContext);
     }
 
     /**
@@ -761,10 +890,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withLambdaWithResponse(String lambda, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withLambdaWithResponseInternal(lambda,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withLambda", requestContext,
-            updatedContext -> {
-                return service.withLambda(this.client.getEndpoint(), lambda, updatedContext);
-            });
+            updatedContext -> withLambdaWithResponseInternal(lambda, updatedContext));
+    }
+
+    private Response<Void> withLambdaWithResponseInternal(String lambda, RequestContext updatedContext) {
+        return service.withLambda(this.client.getEndpoint(), lambda, updatedContext);
     }
 
     /**
@@ -779,10 +914,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withNotWithResponse(String not, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withNotWithResponseInternal(not, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withNot", requestContext,
-            updatedContext -> {
-                return service.withNot(this.client.getEndpoint(), not, updatedContext);
-            });
+            updatedContext -> withNotWithResponseInternal(not, updatedContext));
+    }
+
+    private Response<Void> withNotWithResponseInternal(String not, RequestContext updatedContext) {
+        return service.withNot(this.client.getEndpoint(), not, updatedContext);
     }
 
     /**
@@ -797,10 +937,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withOrWithResponse(String or, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withOrWithResponseInternal(or, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withOr", requestContext,
-            updatedContext -> {
-                return service.withOr(this.client.getEndpoint(), or, updatedContext);
-            });
+            updatedContext -> withOrWithResponseInternal(or, updatedContext));
+    }
+
+    private Response<Void> withOrWithResponseInternal(String or, RequestContext updatedContext) {
+        return service.withOr(this.client.getEndpoint(), or, updatedContext);
     }
 
     /**
@@ -815,10 +960,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withPassWithResponse(String pass, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withPassWithResponseInternal(pass, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withPass", requestContext,
-            updatedContext -> {
-                return service.withPass(this.client.getEndpoint(), pass, updatedContext);
-            });
+            updatedContext -> withPassWithResponseInternal(pass, updatedContext));
+    }
+
+    private Response<Void> withPassWithResponseInternal(String pass, RequestContext updatedContext) {
+        return service.withPass(this.client.getEndpoint(), pass, updatedContext);
     }
 
     /**
@@ -833,10 +983,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withRaiseWithResponse(String raise, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withRaiseWithResponseInternal(raise,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withRaise", requestContext,
-            updatedContext -> {
-                return service.withRaise(this.client.getEndpoint(), raise, updatedContext);
-            });
+            updatedContext -> withRaiseWithResponseInternal(raise, updatedContext));
+    }
+
+    private Response<Void> withRaiseWithResponseInternal(String raise, RequestContext updatedContext) {
+        return service.withRaise(this.client.getEndpoint(), raise, updatedContext);
     }
 
     /**
@@ -851,10 +1007,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withReturnWithResponse(String returnParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withReturnWithResponseInternal(returnParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withReturn", requestContext,
-            updatedContext -> {
-                return service.withReturn(this.client.getEndpoint(), returnParameter, updatedContext);
-            });
+            updatedContext -> withReturnWithResponseInternal(returnParameter, updatedContext));
+    }
+
+    private Response<Void> withReturnWithResponseInternal(String returnParameter, RequestContext updatedContext) {
+        return service.withReturn(this.client.getEndpoint(), returnParameter, updatedContext);
     }
 
     /**
@@ -869,10 +1031,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withTryWithResponse(String tryParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withTryWithResponseInternal(tryParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withTry", requestContext,
-            updatedContext -> {
-                return service.withTry(this.client.getEndpoint(), tryParameter, updatedContext);
-            });
+            updatedContext -> withTryWithResponseInternal(tryParameter, updatedContext));
+    }
+
+    private Response<Void> withTryWithResponseInternal(String tryParameter, RequestContext updatedContext) {
+        return service.withTry(this.client.getEndpoint(), tryParameter, updatedContext);
     }
 
     /**
@@ -887,10 +1055,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withWhileWithResponse(String whileParameter, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withWhileWithResponseInternal(whileParameter,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withWhile", requestContext,
-            updatedContext -> {
-                return service.withWhile(this.client.getEndpoint(), whileParameter, updatedContext);
-            });
+            updatedContext -> withWhileWithResponseInternal(whileParameter, updatedContext));
+    }
+
+    private Response<Void> withWhileWithResponseInternal(String whileParameter, RequestContext updatedContext) {
+        return service.withWhile(this.client.getEndpoint(), whileParameter, updatedContext);
     }
 
     /**
@@ -905,10 +1079,15 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withWithWithResponse(String with, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withWithWithResponseInternal(with, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withWith", requestContext,
-            updatedContext -> {
-                return service.withWith(this.client.getEndpoint(), with, updatedContext);
-            });
+            updatedContext -> withWithWithResponseInternal(with, updatedContext));
+    }
+
+    private Response<Void> withWithWithResponseInternal(String with, RequestContext updatedContext) {
+        return service.withWith(this.client.getEndpoint(), with, updatedContext);
     }
 
     /**
@@ -923,10 +1102,16 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withYieldWithResponse(String yield, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withYieldWithResponseInternal(yield,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withYield", requestContext,
-            updatedContext -> {
-                return service.withYield(this.client.getEndpoint(), yield, updatedContext);
-            });
+            updatedContext -> withYieldWithResponseInternal(yield, updatedContext));
+    }
+
+    private Response<Void> withYieldWithResponseInternal(String yield, RequestContext updatedContext) {
+        return service.withYield(this.client.getEndpoint(), yield, updatedContext);
     }
 
     /**
@@ -941,9 +1126,17 @@ public final class ParametersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> withCancellationTokenWithResponse(String cancellationToken, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return withCancellationTokenWithResponseInternal(cancellationToken,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("SpecialWords.Parameters.withCancellationToken",
-            requestContext, updatedContext -> {
-                return service.withCancellationToken(this.client.getEndpoint(), cancellationToken, updatedContext);
-            });
+            requestContext,
+            updatedContext -> withCancellationTokenWithResponseInternal(cancellationToken, updatedContext));
+    }
+
+    private Response<Void> withCancellationTokenWithResponseInternal(String cancellationToken,
+        RequestContext updatedContext) {
+        return service.withCancellationToken(this.client.getEndpoint(), cancellationToken, updatedContext);
     }
 }
@@ -95,11 +95,18 @@ public final class BasicsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(BinaryData body, long contentLength, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(body, contentLength,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Streaming.Jsonl.Basic.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/jsonl";
-                return service.send(this.client.getEndpoint(), contentType, body, contentLength, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(body, contentLength, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(BinaryData body, long contentLength,
+        RequestContext updatedContext) {
+        final String contentType = "application/jsonl";
+        return service.send(this.client.getEndpoint(), contentType, body, contentLength, updatedContext);
     }
 
     /**
@@ -113,10 +120,15 @@ public final class BasicsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> receiveWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return receiveWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Streaming.Jsonl.Basic.receive", requestContext,
-            updatedContext -> {
-                final String accept = "application/jsonl";
-                return service.receive(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> receiveWithResponseInternal(updatedContext));
+    }
+
+    private Response<BinaryData> receiveWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/jsonl";
+        return service.receive(this.client.getEndpoint(), accept, updatedContext);
     }
 }
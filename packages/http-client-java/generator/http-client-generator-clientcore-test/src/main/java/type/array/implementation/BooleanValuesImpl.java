@@ -87,11 +87,16 @@ public final class BooleanValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<List<Boolean>> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.BooleanValue.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<List<Boolean>> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -106,10 +111,15 @@ public final class BooleanValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(List<Boolean> body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.BooleanValue.put", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(List<Boolean> body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
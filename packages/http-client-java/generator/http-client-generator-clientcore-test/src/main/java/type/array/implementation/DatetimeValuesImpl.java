@@ -92,11 +92,16 @@ public final class DatetimeValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<List<OffsetDateTime>> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.DatetimeValue.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<List<OffsetDateTime>> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -111,10 +116,15 @@ public final class DatetimeValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(List<OffsetDateTime> body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.DatetimeValue.put", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(List<OffsetDateTime> body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -88,11 +88,16 @@ public final class DurationValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<List<Duration>> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.DurationValue.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<List<Duration>> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -107,10 +112,15 @@ public final class DurationValuesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(List<Duration> body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Array.DurationValue.put", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(List<Duration> body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
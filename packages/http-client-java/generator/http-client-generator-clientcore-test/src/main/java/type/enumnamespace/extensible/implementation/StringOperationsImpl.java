@@ -112,11 +112,16 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DaysOfWeekExtensibleEnum> getKnownValueWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getKnownValueWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Extensible.String.getKnownValue", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getKnownValue(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getKnownValueWithResponseInternal(updatedContext));
+    }
+
+    private Response<DaysOfWeekExtensibleEnum> getKnownValueWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getKnownValue(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -130,11 +135,16 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DaysOfWeekExtensibleEnum> getUnknownValueWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getUnknownValueWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Extensible.String.getUnknownValue",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getUnknownValue(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getUnknownValueWithResponseInternal(updatedContext));
+    }
+
+    private Response<DaysOfWeekExtensibleEnum> getUnknownValueWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getUnknownValue(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -149,11 +159,18 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putKnownValueWithResponse(DaysOfWeekExtensibleEnum body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putKnownValueWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Extensible.String.putKnownValue", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putKnownValue(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putKnownValueWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putKnownValueWithResponseInternal(DaysOfWeekExtensibleEnum body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putKnownValue(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -168,10 +185,17 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putUnknownValueWithResponse(DaysOfWeekExtensibleEnum body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putUnknownValueWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Extensible.String.putUnknownValue",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putUnknownValue(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putUnknownValueWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putUnknownValueWithResponseInternal(DaysOfWeekExtensibleEnum body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putUnknownValue(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
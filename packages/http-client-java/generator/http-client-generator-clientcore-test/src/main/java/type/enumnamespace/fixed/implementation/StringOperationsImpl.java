@@ -103,11 +103,16 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DaysOfWeekEnum> getKnownValueWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getKnownValueWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Fixed.String.getKnownValue", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getKnownValue(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getKnownValueWithResponseInternal(updatedContext));
+    }
+
+    private Response<DaysOfWeekEnum> getKnownValueWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getKnownValue(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -122,11 +127,17 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putKnownValueWithResponse(DaysOfWeekEnum body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putKnownValueWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Fixed.String.putKnownValue", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putKnownValue(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putKnownValueWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putKnownValueWithResponseInternal(DaysOfWeekEnum body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putKnownValue(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -141,10 +152,16 @@ public final class StringOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putUnknownValueWithResponse(DaysOfWeekEnum body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putUnknownValueWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Enum.Fixed.String.putUnknownValue", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putUnknownValue(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putUnknownValueWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putUnknownValueWithResponseInternal(DaysOfWeekEnum body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putUnknownValue(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -139,11 +139,16 @@ public final class EmptyClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putEmptyWithResponse(EmptyInput input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putEmptyWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Empty.putEmpty", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putEmpty(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> putEmptyWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putEmptyWithResponseInternal(EmptyInput input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putEmpty(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -157,11 +162,16 @@ public final class EmptyClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<EmptyOutput> getEmptyWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getEmptyWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Empty.getEmpty", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getEmpty(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getEmptyWithResponseInternal(updatedContext));
+    }
+
+    private Response<EmptyOutput> getEmptyWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getEmpty(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -177,11 +187,18 @@ public final class EmptyClientImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<EmptyInputOutput> postRoundTripEmptyWithResponse(EmptyInputOutput body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postRoundTripEmptyWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Empty.postRoundTripEmpty", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.postRoundTripEmpty(this.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> postRoundTripEmptyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<EmptyInputOutput> postRoundTripEmptyWithResponseInternal(EmptyInputOutput body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.postRoundTripEmpty(this.getEndpoint(), contentType, accept, body, updatedContext);
     }
 }
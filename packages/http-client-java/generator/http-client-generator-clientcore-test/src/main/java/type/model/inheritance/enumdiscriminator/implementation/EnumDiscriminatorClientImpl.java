@@ -180,11 +180,18 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Dog> getExtensibleModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getExtensibleModelWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.EnumDiscriminator.getExtensibleModel", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getExtensibleModel(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.EnumDiscriminator.getExtensibleModel", requestContext,
+            updatedContext -> getExtensibleModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Dog> getExtensibleModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getExtensibleModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -199,11 +206,18 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putExtensibleModelWithResponse(Dog input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putExtensibleModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.EnumDiscriminator.putExtensibleModel", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putExtensibleModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            "Type.Model.Inheritance.EnumDiscriminator.putExtensibleModel", requestContext,
+            updatedContext -> putExtensibleModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putExtensibleModelWithResponseInternal(Dog input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putExtensibleModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -217,12 +231,18 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Dog> getExtensibleModelMissingDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getExtensibleModelMissingDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Type.Model.Inheritance.EnumDiscriminator.getExtensibleModelMissingDiscriminator", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getExtensibleModelMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getExtensibleModelMissingDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Dog> getExtensibleModelMissingDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getExtensibleModelMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -236,12 +256,18 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Dog> getExtensibleModelWrongDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getExtensibleModelWrongDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Type.Model.Inheritance.EnumDiscriminator.getExtensibleModelWrongDiscriminator", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getExtensibleModelWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getExtensibleModelWrongDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Dog> getExtensibleModelWrongDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getExtensibleModelWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -255,11 +281,16 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Snake> getFixedModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getFixedModelWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.EnumDiscriminator.getFixedModel",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getFixedModel(this.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getFixedModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Snake> getFixedModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getFixedModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -274,11 +305,17 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putFixedModelWithResponse(Snake input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putFixedModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.EnumDiscriminator.putFixedModel",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putFixedModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            requestContext, updatedContext -> putFixedModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putFixedModelWithResponseInternal(Snake input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putFixedModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -292,12 +329,18 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Snake> getFixedModelMissingDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getFixedModelMissingDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Type.Model.Inheritance.EnumDiscriminator.getFixedModelMissingDiscriminator", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getFixedModelMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getFixedModelMissingDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Snake> getFixedModelMissingDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getFixedModelMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -311,11 +354,17 @@ public final class EnumDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Snake> getFixedModelWrongDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getFixedModelWrongDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
             "Type.Model.Inheritance.EnumDiscriminator.getFixedModelWrongDiscriminator", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getFixedModelWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getFixedModelWrongDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Snake> getFixedModelWrongDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getFixedModelWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 }
@@ -162,11 +162,16 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Fish> getModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getModelWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.NestedDiscriminator.getModel",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getModel(this.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Fish> getModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -181,11 +186,16 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putModelWithResponse(Fish input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putModelWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.NestedDiscriminator.putModel",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            requestContext, updatedContext -> putModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putModelWithResponseInternal(Fish input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -199,11 +209,18 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Fish> getRecursiveModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getRecursiveModelWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.NestedDiscriminator.getRecursiveModel", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getRecursiveModel(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.NestedDiscriminator.getRecursiveModel", requestContext,
+            updatedContext -> getRecursiveModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Fish> getRecursiveModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getRecursiveModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -218,11 +235,18 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putRecursiveModelWithResponse(Fish input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putRecursiveModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.NestedDiscriminator.putRecursiveModel", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putRecursiveModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            "Type.Model.Inheritance.NestedDiscriminator.putRecursiveModel", requestContext,
+            updatedContext -> putRecursiveModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putRecursiveModelWithResponseInternal(Fish input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putRecursiveModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -236,11 +260,18 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Fish> getMissingDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getMissingDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.NestedDiscriminator.getMissingDiscriminator", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.NestedDiscriminator.getMissingDiscriminator", requestContext,
+            updatedContext -> getMissingDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Fish> getMissingDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -254,10 +285,17 @@ public final class NestedDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Fish> getWrongDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWrongDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.NestedDiscriminator.getWrongDiscriminator", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.NestedDiscriminator.getWrongDiscriminator", requestContext,
+            updatedContext -> getWrongDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Fish> getWrongDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 }
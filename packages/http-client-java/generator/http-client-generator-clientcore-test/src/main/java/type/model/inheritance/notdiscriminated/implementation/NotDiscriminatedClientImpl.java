@@ -140,11 +140,17 @@ public final class NotDiscriminatedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> postValidWithResponse(Siamese input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postValidWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.NotDiscriminated.postValid",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.postValid(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            requestContext, updatedContext -> postValidWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> postValidWithResponseInternal(Siamese input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.postValid(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -158,11 +164,16 @@ public final class NotDiscriminatedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Siamese> getValidWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getValidWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.NotDiscriminated.getValid",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getValid(this.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getValidWithResponseInternal(updatedContext));
+    }
+
+    private Response<Siamese> getValidWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getValid(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -177,11 +188,16 @@ public final class NotDiscriminatedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Siamese> putValidWithResponse(Siamese input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putValidWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.NotDiscriminated.putValid",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.putValid(this.getEndpoint(), contentType, accept, input, updatedContext);
-            });
+            requestContext, updatedContext -> putValidWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Siamese> putValidWithResponseInternal(Siamese input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.putValid(this.getEndpoint(), contentType, accept, input, updatedContext);
     }
 }
@@ -130,11 +130,16 @@ public final class RecursiveClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(Extension input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.Recursive.put", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> putWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(Extension input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -148,10 +153,15 @@ public final class RecursiveClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Extension> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.Recursive.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<Extension> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.getEndpoint(), accept, updatedContext);
     }
 }
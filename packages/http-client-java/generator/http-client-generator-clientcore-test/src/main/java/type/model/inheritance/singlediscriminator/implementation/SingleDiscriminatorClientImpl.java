@@ -171,11 +171,16 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Bird> getModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getModelWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.SingleDiscriminator.getModel",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getModel(this.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Bird> getModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -190,11 +195,16 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putModelWithResponse(Bird input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putModelWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.SingleDiscriminator.putModel",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            requestContext, updatedContext -> putModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putModelWithResponseInternal(Bird input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -208,11 +218,18 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Bird> getRecursiveModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getRecursiveModelWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.SingleDiscriminator.getRecursiveModel", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getRecursiveModel(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.SingleDiscriminator.getRecursiveModel", requestContext,
+            updatedContext -> getRecursiveModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Bird> getRecursiveModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getRecursiveModel(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -227,11 +244,18 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putRecursiveModelWithResponse(Bird input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putRecursiveModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.SingleDiscriminator.putRecursiveModel", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putRecursiveModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            "Type.Model.Inheritance.SingleDiscriminator.putRecursiveModel", requestContext,
+            updatedContext -> putRecursiveModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putRecursiveModelWithResponseInternal(Bird input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putRecursiveModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -245,11 +269,18 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Bird> getMissingDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getMissingDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.SingleDiscriminator.getMissingDiscriminator", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.SingleDiscriminator.getMissingDiscriminator", requestContext,
+            updatedContext -> getMissingDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Bird> getMissingDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getMissingDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -263,11 +294,18 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Bird> getWrongDiscriminatorWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWrongDiscriminatorWithResponseInternal(
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Model.Inheritance.SingleDiscriminator.getWrongDiscriminator", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Model.Inheritance.SingleDiscriminator.getWrongDiscriminator", requestContext,
+            updatedContext -> getWrongDiscriminatorWithResponseInternal(updatedContext));
+    }
+
+    private Response<Bird> getWrongDiscriminatorWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getWrongDiscriminator(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -281,10 +319,15 @@ public final class SingleDiscriminatorClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Dinosaur> getLegacyModelWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getLegacyModelWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Inheritance.SingleDiscriminator.getLegacyModel",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getLegacyModel(this.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getLegacyModelWithResponseInternal(updatedContext));
+    }
+
+    private Response<Dinosaur> getLegacyModelWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getLegacyModel(this.getEndpoint(), accept, updatedContext);
     }
 }
@@ -139,10 +139,16 @@ public final class UsageClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> inputWithResponse(InputRecord input, RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Type.Model.Usage.input", requestContext, updatedContext -> {
-            final String contentType = "application/json";
-            return service.input(this.getEndpoint(), contentType, input, updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return inputWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Type.Model.Usage.input", requestContext,
+            updatedContext -> inputWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> inputWithResponseInternal(InputRecord input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.input(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -156,11 +162,16 @@ public final class UsageClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<OutputRecord> outputWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return outputWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Usage.output", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.output(this.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> outputWithResponseInternal(updatedContext));
+    }
+
+    private Response<OutputRecord> outputWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.output(this.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -176,11 +187,18 @@ public final class UsageClientImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<InputOutputRecord> inputAndOutputWithResponse(InputOutputRecord body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return inputAndOutputWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Usage.inputAndOutput", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.inputAndOutput(this.getEndpoint(), contentType, accept, body, updatedContext);
-            });
+            updatedContext -> inputAndOutputWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<InputOutputRecord> inputAndOutputWithResponseInternal(InputOutputRecord body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.inputAndOutput(this.getEndpoint(), contentType, accept, body, updatedContext);
     }
 }
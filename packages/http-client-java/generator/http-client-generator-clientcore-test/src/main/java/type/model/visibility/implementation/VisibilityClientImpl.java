@@ -174,12 +174,19 @@ public final class VisibilityClientImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<VisibilityModel> getModelWithResponse(int queryProp, VisibilityModel input,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getModelWithResponseInternal(queryProp, input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.getModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.getModel(this.getEndpoint(), queryProp, contentType, accept, input, updatedContext);
-            });
+            updatedContext -> getModelWithResponseInternal(queryProp, input, updatedContext));
+    }
+
+    private Response<VisibilityModel> getModelWithResponseInternal(int queryProp, VisibilityModel input,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.getModel(this.getEndpoint(), queryProp, contentType, accept, input, updatedContext);
     }
 
     /**
@@ -195,11 +202,18 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> headModelWithResponse(int queryProp, VisibilityModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return headModelWithResponseInternal(queryProp, input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.headModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.headModel(this.getEndpoint(), queryProp, contentType, input, updatedContext);
-            });
+            updatedContext -> headModelWithResponseInternal(queryProp, input, updatedContext));
+    }
+
+    private Response<Void> headModelWithResponseInternal(int queryProp, VisibilityModel input,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.headModel(this.getEndpoint(), queryProp, contentType, input, updatedContext);
     }
 
     /**
@@ -214,11 +228,16 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putModelWithResponse(VisibilityModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putModelWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.putModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> putModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> putModelWithResponseInternal(VisibilityModel input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -233,11 +252,17 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchModelWithResponse(VisibilityModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.patchModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.patchModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> patchModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> patchModelWithResponseInternal(VisibilityModel input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.patchModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -252,11 +277,17 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> postModelWithResponse(VisibilityModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return postModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.postModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.postModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> postModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> postModelWithResponseInternal(VisibilityModel input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.postModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -271,11 +302,17 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> deleteModelWithResponse(VisibilityModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return deleteModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.deleteModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.deleteModel(this.getEndpoint(), contentType, input, updatedContext);
-            });
+            updatedContext -> deleteModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<Void> deleteModelWithResponseInternal(VisibilityModel input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.deleteModel(this.getEndpoint(), contentType, input, updatedContext);
     }
 
     /**
@@ -290,11 +327,18 @@ public final class VisibilityClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ReadOnlyModel> putReadOnlyModelWithResponse(ReadOnlyModel input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putReadOnlyModelWithResponseInternal(input,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Model.Visibility.putReadOnlyModel", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.putReadOnlyModel(this.getEndpoint(), contentType, accept, input, updatedContext);
-            });
+            updatedContext -> putReadOnlyModelWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<ReadOnlyModel> putReadOnlyModelWithResponseInternal(ReadOnlyModel input,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.putReadOnlyModel(this.getEndpoint(), contentType, accept, input, updatedContext);
     }
 }
@@ -94,11 +94,17 @@ public final class ExtendsDifferentSpreadModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DifferentSpreadModelDerived> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadModel.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadModel.get", requestContext,
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<DifferentSpreadModelDerived> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,10 +119,16 @@ public final class ExtendsDifferentSpreadModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(DifferentSpreadModelDerived body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadModel.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadModel.put", requestContext,
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(DifferentSpreadModelDerived body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -94,11 +94,17 @@ public final class ExtendsDifferentSpreadStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DifferentSpreadStringDerived> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadString.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadString.get", requestContext,
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<DifferentSpreadStringDerived> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,10 +119,16 @@ public final class ExtendsDifferentSpreadStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(DifferentSpreadStringDerived body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadString.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsDifferentSpreadString.put", requestContext,
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(DifferentSpreadStringDerived body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -95,11 +95,17 @@ public final class ExtendsUnknownDerivedsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ExtendsUnknownAdditionalPropertiesDerived> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsUnknownDerived.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsUnknownDerived.get", requestContext,
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<ExtendsUnknownAdditionalPropertiesDerived> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -115,10 +121,17 @@ public final class ExtendsUnknownDerivedsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(ExtendsUnknownAdditionalPropertiesDerived body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsUnknownDerived.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsUnknownDerived.put", requestContext,
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(ExtendsUnknownAdditionalPropertiesDerived body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -95,11 +95,18 @@ public final class ExtendsUnknownDiscriminatedsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ExtendsUnknownAdditionalPropertiesDiscriminated> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsUnknownDiscriminated.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsUnknownDiscriminated.get", requestContext,
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<ExtendsUnknownAdditionalPropertiesDiscriminated> getWithResponseInternal(
+        RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -115,10 +122,17 @@ public final class ExtendsUnknownDiscriminatedsImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putWithResponse(ExtendsUnknownAdditionalPropertiesDiscriminated body,
         RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Property.AdditionalProperties.ExtendsUnknownDiscriminated.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            "Type.Property.AdditionalProperties.ExtendsUnknownDiscriminated.put", requestContext,
+            updatedContext -> putWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putWithResponseInternal(ExtendsUnknownAdditionalPropertiesDiscriminated body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
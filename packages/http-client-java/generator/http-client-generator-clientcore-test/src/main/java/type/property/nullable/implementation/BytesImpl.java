@@ -110,11 +110,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BytesProperty> getNonNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNonNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Bytes.getNonNull", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getNonNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<BytesProperty> getNonNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BytesProperty> getNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Bytes.getNull", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<BytesProperty> getNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,17 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNonNullWithResponse(BytesProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNonNullWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Bytes.patchNonNull", requestContext,
-            updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> patchNonNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNonNullWithResponseInternal(BytesProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +182,15 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNullWithResponse(BytesProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNullWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Bytes.patchNull", requestContext,
-            updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> patchNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNullWithResponseInternal(BytesProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
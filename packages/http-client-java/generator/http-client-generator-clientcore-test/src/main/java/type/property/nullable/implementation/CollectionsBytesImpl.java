@@ -111,11 +111,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsByteProperty> getNonNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNonNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsByte.getNonNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNonNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsByteProperty> getNonNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -129,11 +134,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsByteProperty> getNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsByte.getNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsByteProperty> getNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -148,11 +158,18 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNonNullWithResponse(CollectionsByteProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNonNullWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsByte.patchNonNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNonNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNonNullWithResponseInternal(CollectionsByteProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -167,10 +184,15 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNullWithResponse(CollectionsByteProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNullWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsByte.patchNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNullWithResponseInternal(CollectionsByteProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
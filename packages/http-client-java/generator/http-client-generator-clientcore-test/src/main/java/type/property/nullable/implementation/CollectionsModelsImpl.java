@@ -111,11 +111,16 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsModelProperty> getNonNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNonNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsModel.getNonNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNonNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsModelProperty> getNonNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -129,11 +134,16 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsModelProperty> getNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsModel.getNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsModelProperty> getNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -148,11 +158,18 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNonNullWithResponse(CollectionsModelProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNonNullWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsModel.patchNonNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNonNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNonNullWithResponseInternal(CollectionsModelProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -167,10 +184,15 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNullWithResponse(CollectionsModelProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNullWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsModel.patchNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNullWithResponseInternal(CollectionsModelProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -111,11 +111,16 @@ public final class CollectionsStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsStringProperty> getNonNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNonNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsString.getNonNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNonNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsStringProperty> getNonNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -129,11 +134,16 @@ public final class CollectionsStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsStringProperty> getNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsString.getNull",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsStringProperty> getNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -148,11 +158,18 @@ public final class CollectionsStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNonNullWithResponse(CollectionsStringProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNonNullWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsString.patchNonNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNonNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNonNullWithResponseInternal(CollectionsStringProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -167,10 +184,16 @@ public final class CollectionsStringsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNullWithResponse(CollectionsStringProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNullWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.CollectionsString.patchNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNullWithResponseInternal(CollectionsStringProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -111,11 +111,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DatetimeProperty> getNonNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNonNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Datetime.getNonNull", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getNonNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<DatetimeProperty> getNonNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNonNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -129,11 +134,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DatetimeProperty> getNullWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getNullWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Datetime.getNull", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getNull(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getNullWithResponseInternal(updatedContext));
+    }
+
+    private Response<DatetimeProperty> getNullWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getNull(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -148,11 +158,17 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNonNullWithResponse(DatetimeProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNonNullWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Datetime.patchNonNull",
-            requestContext, updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> patchNonNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNonNullWithResponseInternal(DatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNonNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -167,10 +183,15 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> patchNullWithResponse(DatetimeProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return patchNullWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Nullable.Datetime.patchNull", requestContext,
-            updatedContext -> {
-                final String contentType = "application/merge-patch+json";
-                return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> patchNullWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> patchNullWithResponseInternal(DatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/merge-patch+json";
+        return service.patchNull(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
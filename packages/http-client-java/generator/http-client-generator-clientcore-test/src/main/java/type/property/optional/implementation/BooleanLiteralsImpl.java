@@ -110,11 +110,16 @@ public final class BooleanLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BooleanLiteralProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.BooleanLiteral.getAll",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<BooleanLiteralProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class BooleanLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BooleanLiteralProperty> getDefaultWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getDefaultWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.BooleanLiteral.getDefault",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getDefaultWithResponseInternal(updatedContext));
+    }
+
+    private Response<BooleanLiteralProperty> getDefaultWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,16 @@ public final class BooleanLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(BooleanLiteralProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.BooleanLiteral.putAll",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(BooleanLiteralProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +181,16 @@ public final class BooleanLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putDefaultWithResponse(BooleanLiteralProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putDefaultWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.BooleanLiteral.putDefault",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putDefaultWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putDefaultWithResponseInternal(BooleanLiteralProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -109,11 +109,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BytesProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Bytes.getAll", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<BytesProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -127,11 +132,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BytesProperty> getDefaultWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getDefaultWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Bytes.getDefault", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getDefaultWithResponseInternal(updatedContext));
+    }
+
+    private Response<BytesProperty> getDefaultWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -146,11 +156,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(BytesProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Bytes.putAll", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(BytesProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -165,10 +180,16 @@ public final class BytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putDefaultWithResponse(BytesProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putDefaultWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Bytes.putDefault", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putDefaultWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putDefaultWithResponseInternal(BytesProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
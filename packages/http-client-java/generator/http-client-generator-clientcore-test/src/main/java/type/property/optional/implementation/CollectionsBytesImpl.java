@@ -110,11 +110,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsByteProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsByte.getAll",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsByteProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsByteProperty> getDefaultWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getDefaultWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsByte.getDefault",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getDefaultWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsByteProperty> getDefaultWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(CollectionsByteProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsByte.putAll",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(CollectionsByteProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +181,16 @@ public final class CollectionsBytesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putDefaultWithResponse(CollectionsByteProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putDefaultWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsByte.putDefault",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putDefaultWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putDefaultWithResponseInternal(CollectionsByteProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
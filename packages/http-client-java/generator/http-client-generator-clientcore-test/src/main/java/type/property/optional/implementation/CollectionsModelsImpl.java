@@ -110,11 +110,16 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsModelProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsModel.getAll",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsModelProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<CollectionsModelProperty> getDefaultWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getDefaultWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsModel.getDefault",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getDefaultWithResponseInternal(updatedContext));
+    }
+
+    private Response<CollectionsModelProperty> getDefaultWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,16 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(CollectionsModelProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsModel.putAll",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(CollectionsModelProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +181,17 @@ public final class CollectionsModelsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putDefaultWithResponse(CollectionsModelProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putDefaultWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.CollectionsModel.putDefault",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putDefaultWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putDefaultWithResponseInternal(CollectionsModelProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
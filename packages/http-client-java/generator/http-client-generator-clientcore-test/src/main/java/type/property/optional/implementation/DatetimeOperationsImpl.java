@@ -110,11 +110,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DatetimeProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Datetime.getAll", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<DatetimeProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<DatetimeProperty> getDefaultWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getDefaultWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Datetime.getDefault", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getDefaultWithResponseInternal(updatedContext));
+    }
+
+    private Response<DatetimeProperty> getDefaultWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getDefault(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(DatetimeProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Datetime.putAll", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(DatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +181,16 @@ public final class DatetimeOperationsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putDefaultWithResponse(DatetimeProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putDefaultWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.Datetime.putDefault", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> putDefaultWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putDefaultWithResponseInternal(DatetimeProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putDefault(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
@@ -110,11 +110,16 @@ public final class RequiredAndOptionalsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<RequiredAndOptionalProperty> getAllWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getAllWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.RequiredAndOptional.getAll",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getAll(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getAllWithResponseInternal(updatedContext));
+    }
+
+    private Response<RequiredAndOptionalProperty> getAllWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getAll(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -128,11 +133,16 @@ public final class RequiredAndOptionalsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<RequiredAndOptionalProperty> getRequiredOnlyWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getRequiredOnlyWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.RequiredAndOptional.getRequiredOnly",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.getRequiredOnly(this.client.getEndpoint(), accept, updatedContext);
-            });
+            requestContext, updatedContext -> getRequiredOnlyWithResponseInternal(updatedContext));
+    }
+
+    private Response<RequiredAndOptionalProperty> getRequiredOnlyWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.getRequiredOnly(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -147,11 +157,16 @@ public final class RequiredAndOptionalsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putAllWithResponse(RequiredAndOptionalProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putAllWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.RequiredAndOptional.putAll",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putAllWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putAllWithResponseInternal(RequiredAndOptionalProperty body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putAll(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -166,10 +181,17 @@ public final class RequiredAndOptionalsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> putRequiredOnlyWithResponse(RequiredAndOptionalProperty body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putRequiredOnlyWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Property.Optional.RequiredAndOptional.putRequiredOnly",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                return service.putRequiredOnly(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            requestContext, updatedContext -> putRequiredOnlyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> putRequiredOnlyWithResponseInternal(RequiredAndOptionalProperty body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.putRequiredOnly(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
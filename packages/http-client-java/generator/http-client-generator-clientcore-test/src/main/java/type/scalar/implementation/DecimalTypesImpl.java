@@ -103,11 +103,16 @@ public final class DecimalTypesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BigDecimal> responseBodyWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return responseBodyWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Scalar.DecimalType.responseBody", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.responseBody(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> responseBodyWithResponseInternal(updatedContext));
+    }
+
+    private Response<BigDecimal> responseBodyWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.responseBody(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -122,11 +127,17 @@ public final class DecimalTypesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> requestBodyWithResponse(BigDecimal body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestBodyWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Scalar.DecimalType.requestBody", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.requestBody(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> requestBodyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> requestBodyWithResponseInternal(BigDecimal body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.requestBody(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 
     /**
@@ -141,9 +152,15 @@ public final class DecimalTypesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> requestParameterWithResponse(BigDecimal value, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return requestParameterWithResponseInternal(value,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Scalar.DecimalType.requestParameter", requestContext,
-            updatedContext -> {
-                return service.requestParameter(this.client.getEndpoint(), value, updatedContext);
-            });
+            updatedContext -> requestParameterWithResponseInternal(value, updatedContext));
+    }
+
+    private Response<Void> requestParameterWithResponseInternal(BigDecimal value, RequestContext updatedContext) {
+        return service.requestParameter(this.client.getEndpoint(), value, updatedContext);
     }
 }
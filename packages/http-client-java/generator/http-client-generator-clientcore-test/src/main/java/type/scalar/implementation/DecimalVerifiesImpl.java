@@ -94,11 +94,16 @@ public final class DecimalVerifiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<List<BigDecimal>> prepareVerifyWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return prepareVerifyWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Scalar.DecimalVerify.prepareVerify", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.prepareVerify(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> prepareVerifyWithResponseInternal(updatedContext));
+    }
+
+    private Response<List<BigDecimal>> prepareVerifyWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.prepareVerify(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,10 +118,15 @@ public final class DecimalVerifiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> verifyWithResponse(BigDecimal body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return verifyWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Scalar.DecimalVerify.verify", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                return service.verify(this.client.getEndpoint(), contentType, body, updatedContext);
-            });
+            updatedContext -> verifyWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<Void> verifyWithResponseInternal(BigDecimal body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        return service.verify(this.client.getEndpoint(), contentType, body, updatedContext);
     }
 }
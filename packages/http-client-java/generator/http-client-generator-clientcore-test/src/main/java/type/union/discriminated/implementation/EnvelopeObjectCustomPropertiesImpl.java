@@ -97,11 +97,17 @@ public final class EnvelopeObjectCustomPropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getWithResponse(String petType, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(petType, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Union.Discriminated.Envelope.Object.CustomProperties.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), petType, accept, updatedContext);
-            });
+            "Type.Union.Discriminated.Envelope.Object.CustomProperties.get", requestContext,
+            updatedContext -> getWithResponseInternal(petType, updatedContext));
+    }
+
+    private Response<BinaryData> getWithResponseInternal(String petType, RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), petType, accept, updatedContext);
     }
 
     /**
@@ -116,11 +122,17 @@ public final class EnvelopeObjectCustomPropertiesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> putWithResponse(BinaryData input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Union.Discriminated.Envelope.Object.CustomProperties.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
-            });
+            "Type.Union.Discriminated.Envelope.Object.CustomProperties.put", requestContext,
+            updatedContext -> putWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<BinaryData> putWithResponseInternal(BinaryData input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
     }
 }
@@ -97,11 +97,16 @@ public final class EnvelopeObjectDefaultsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getWithResponse(String kind, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(kind, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.Discriminated.Envelope.Object.Default.get",
-            requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), kind, accept, updatedContext);
-            });
+            requestContext, updatedContext -> getWithResponseInternal(kind, updatedContext));
+    }
+
+    private Response<BinaryData> getWithResponseInternal(String kind, RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), kind, accept, updatedContext);
     }
 
     /**
@@ -116,11 +121,16 @@ public final class EnvelopeObjectDefaultsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> putWithResponse(BinaryData input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.Discriminated.Envelope.Object.Default.put",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
-            });
+            requestContext, updatedContext -> putWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<BinaryData> putWithResponseInternal(BinaryData input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
     }
 }
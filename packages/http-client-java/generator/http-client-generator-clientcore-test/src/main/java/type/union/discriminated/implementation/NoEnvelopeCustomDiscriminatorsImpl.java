@@ -97,11 +97,17 @@ public final class NoEnvelopeCustomDiscriminatorsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> getWithResponse(String type, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(type, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Union.Discriminated.NoEnvelope.CustomDiscriminator.get", requestContext, updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), type, accept, updatedContext);
-            });
+            "Type.Union.Discriminated.NoEnvelope.CustomDiscriminator.get", requestContext,
+            updatedContext -> getWithResponseInternal(type, updatedContext));
+    }
+
+    private Response<BinaryData> getWithResponseInternal(String type, RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), type, accept, updatedContext);
     }
 
     /**
@@ -116,11 +122,17 @@ public final class NoEnvelopeCustomDiscriminatorsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BinaryData> putWithResponse(BinaryData input, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return putWithResponseInternal(input, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse(
-            "Type.Union.Discriminated.NoEnvelope.CustomDiscriminator.put", requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
-            });
+            "Type.Union.Discriminated.NoEnvelope.CustomDiscriminator.put", requestContext,
+            updatedContext -> putWithResponseInternal(input, updatedContext));
+    }
+
+    private Response<BinaryData> putWithResponseInternal(BinaryData input, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.put(this.client.getEndpoint(), contentType, accept, input, updatedContext);
     }
 }
@@ -91,11 +91,16 @@ public final class EnumsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse6> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.EnumsOnly.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse6> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -110,11 +115,16 @@ public final class EnumsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(EnumsOnlyCases prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.EnumsOnly.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest6 sendRequest6 = new SendRequest6(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest6, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(EnumsOnlyCases prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest6 sendRequest6 = new SendRequest6(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest6, updatedContext);
     }
 }
@@ -94,11 +94,16 @@ public final class FloatsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse4> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.FloatsOnly.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse4> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,11 +118,16 @@ public final class FloatsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(GetResponseProp3 prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.FloatsOnly.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest4 sendRequest4 = new SendRequest4(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest4, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(GetResponseProp3 prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest4 sendRequest4 = new SendRequest4(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest4, updatedContext);
     }
 }
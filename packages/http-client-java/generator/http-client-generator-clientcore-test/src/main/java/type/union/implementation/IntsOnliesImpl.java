@@ -87,11 +87,16 @@ public final class IntsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse3> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.IntsOnly.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse3> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -106,11 +111,16 @@ public final class IntsOnliesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(GetResponseProp2 prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.IntsOnly.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest3 sendRequest3 = new SendRequest3(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest3, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(GetResponseProp2 prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest3 sendRequest3 = new SendRequest3(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest3, updatedContext);
     }
 }
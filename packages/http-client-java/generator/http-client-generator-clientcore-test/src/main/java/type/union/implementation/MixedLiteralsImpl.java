@@ -94,11 +94,16 @@ public final class MixedLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse8> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.MixedLiterals.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse8> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,11 +118,16 @@ public final class MixedLiteralsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(MixedLiteralsCases prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.MixedLiterals.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest8 sendRequest8 = new SendRequest8(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest8, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(MixedLiteralsCases prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest8 sendRequest8 = new SendRequest8(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest8, updatedContext);
     }
 }
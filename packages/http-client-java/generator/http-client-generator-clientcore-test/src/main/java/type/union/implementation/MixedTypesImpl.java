@@ -93,11 +93,16 @@ public final class MixedTypesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse9> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.MixedTypes.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse9> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -112,11 +117,16 @@ public final class MixedTypesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(MixedTypesCases prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.MixedTypes.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest9 sendRequest9 = new SendRequest9(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest9, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(MixedTypesCases prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest9 sendRequest9 = new SendRequest9(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest9, updatedContext);
     }
 }
@@ -94,11 +94,16 @@ public final class StringAndArraysImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse7> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.StringAndArray.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse7> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,11 +118,16 @@ public final class StringAndArraysImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(StringAndArrayCases prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.StringAndArray.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest7 sendRequest7 = new SendRequest7(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest7, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(StringAndArrayCases prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest7 sendRequest7 = new SendRequest7(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest7, updatedContext);
     }
 }
@@ -94,11 +94,16 @@ public final class StringExtensibleNamedsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<GetResponse2> getWithResponse(RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return getWithResponseInternal(requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.StringExtensibleNamed.get", requestContext,
-            updatedContext -> {
-                final String accept = "application/json";
-                return service.get(this.client.getEndpoint(), accept, updatedContext);
-            });
+            updatedContext -> getWithResponseInternal(updatedContext));
+    }
+
+    private Response<GetResponse2> getWithResponseInternal(RequestContext updatedContext) {
+        final String accept = "application/json";
+        return service.get(this.client.getEndpoint(), accept, updatedContext);
     }
 
     /**
@@ -113,11 +118,16 @@ public final class StringExtensibleNamedsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> sendWithResponse(StringExtensibleNamedUnion prop, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return sendWithResponseInternal(prop, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Type.Union.StringExtensibleNamed.send", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                SendRequest2 sendRequest2 = new SendRequest2(prop);
-                return service.send(this.client.getEndpoint(), contentType, sendRequest2, updatedContext);
-            });
+            updatedContext -> sendWithResponseInternal(prop, updatedContext));
+    }
+
+    private Response<Void> sendWithResponseInternal(StringExtensibleNamedUnion prop, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        SendRequest2 sendRequest2 = new SendRequest2(prop);
+        return service.send(this.client.getEndpoint(), contentType, sendRequest2, updatedContext);
     }
 }
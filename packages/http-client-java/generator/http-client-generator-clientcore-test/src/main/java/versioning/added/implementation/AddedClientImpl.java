@@ -160,12 +160,19 @@ public final class AddedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelV1> v1WithResponse(String headerV2, ModelV1 body, RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Versioning.Added.v1", requestContext, updatedContext -> {
-            final String contentType = "application/json";
-            final String accept = "application/json";
-            return service.v1(this.getEndpoint(), this.getServiceVersion().getVersion(), headerV2, contentType, accept,
-                body, updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return v1WithResponseInternal(headerV2, body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Versioning.Added.v1", requestContext,
+            updatedContext -> v1WithResponseInternal(headerV2, body, updatedContext));
+    }
+
+    private Response<ModelV1> v1WithResponseInternal(String headerV2, ModelV1 body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.v1(this.getEndpoint(), this.getServiceVersion().getVersion(), headerV2, contentType, accept,
+            body, updatedContext);
     }
 
     /**
@@ -180,11 +187,17 @@ public final class AddedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelV2> v2WithResponse(ModelV2 body, RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Versioning.Added.v2", requestContext, updatedContext -> {
-            final String contentType = "application/json";
-            final String accept = "application/json";
-            return service.v2(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
-                updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return v2WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Versioning.Added.v2", requestContext,
+            updatedContext -> v2WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<ModelV2> v2WithResponseInternal(ModelV2 body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.v2(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
+            updatedContext);
     }
 }
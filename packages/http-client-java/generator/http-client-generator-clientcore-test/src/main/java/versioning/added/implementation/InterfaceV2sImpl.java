@@ -94,12 +94,18 @@ public final class InterfaceV2sImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelV2> v2InInterfaceWithResponse(ModelV2 body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return v2InInterfaceWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.Added.InterfaceV2.v2InInterface", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.v2InInterface(this.client.getEndpoint(), this.client.getServiceVersion().getVersion(),
-                    contentType, accept, body, updatedContext);
-            });
+            updatedContext -> v2InInterfaceWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<ModelV2> v2InInterfaceWithResponseInternal(ModelV2 body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.v2InInterface(this.client.getEndpoint(), this.client.getServiceVersion().getVersion(),
+            contentType, accept, body, updatedContext);
     }
 }
@@ -140,12 +140,18 @@ public final class MadeOptionalClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<TestModel> testWithResponse(TestModel body, String param, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return testWithResponseInternal(body, param,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.MadeOptional.test", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), param, contentType,
-                    accept, body, updatedContext);
-            });
+            updatedContext -> testWithResponseInternal(body, param, updatedContext));
+    }
+
+    private Response<TestModel> testWithResponseInternal(TestModel body, String param, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), param, contentType, accept, body,
+            updatedContext);
     }
 }
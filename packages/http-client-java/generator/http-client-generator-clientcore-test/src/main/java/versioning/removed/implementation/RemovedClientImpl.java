@@ -143,12 +143,18 @@ public final class RemovedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelV2> v2WithResponse(ModelV2 body, RequestContext requestContext) {
-        return this.instrumentation.instrumentWithResponse("Versioning.Removed.v2", requestContext, updatedContext -> {
-            final String contentType = "application/json";
-            final String accept = "application/json";
-            return service.v2(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
-                updatedContext);
-        });
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return v2WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
+        return this.instrumentation.instrumentWithResponse("Versioning.Removed.v2", requestContext,
+            updatedContext -> v2WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<ModelV2> v2WithResponseInternal(ModelV2 body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.v2(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
+            updatedContext);
     }
 
     /**
@@ -163,12 +169,17 @@ public final class RemovedClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ModelV3> modelV3WithResponse(ModelV3 body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return modelV3WithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.Removed.modelV3", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.modelV3(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept,
-                    body, updatedContext);
-            });
+            updatedContext -> modelV3WithResponseInternal(body, updatedContext));
+    }
+
+    private Response<ModelV3> modelV3WithResponseInternal(ModelV3 body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.modelV3(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
+            updatedContext);
     }
 }
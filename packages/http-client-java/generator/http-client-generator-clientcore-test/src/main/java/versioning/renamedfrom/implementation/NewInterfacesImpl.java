@@ -97,12 +97,18 @@ public final class NewInterfacesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<NewModel> newOpInNewInterfaceWithResponse(NewModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return newOpInNewInterfaceWithResponseInternal(body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.RenamedFrom.NewInterface.newOpInNewInterface",
-            requestContext, updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.newOpInNewInterface(this.client.getEndpoint(),
-                    this.client.getServiceVersion().getVersion(), contentType, accept, body, updatedContext);
-            });
+            requestContext, updatedContext -> newOpInNewInterfaceWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<NewModel> newOpInNewInterfaceWithResponseInternal(NewModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.newOpInNewInterface(this.client.getEndpoint(), this.client.getServiceVersion().getVersion(),
+            contentType, accept, body, updatedContext);
     }
 }
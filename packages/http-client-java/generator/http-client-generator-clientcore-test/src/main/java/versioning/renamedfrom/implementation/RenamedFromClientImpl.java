@@ -155,12 +155,19 @@ public final class RenamedFromClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<NewModel> newOpWithResponse(String newQuery, NewModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return newOpWithResponseInternal(newQuery, body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.RenamedFrom.newOp", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.newOp(this.getEndpoint(), this.getServiceVersion().getVersion(), newQuery, contentType,
-                    accept, body, updatedContext);
-            });
+            updatedContext -> newOpWithResponseInternal(newQuery, body, updatedContext));
+    }
+
+    private Response<NewModel> newOpWithResponseInternal(String newQuery, NewModel body,
+        RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.newOp(this.getEndpoint(), this.getServiceVersion().getVersion(), newQuery, contentType, accept,
+            body, updatedContext);
     }
 }
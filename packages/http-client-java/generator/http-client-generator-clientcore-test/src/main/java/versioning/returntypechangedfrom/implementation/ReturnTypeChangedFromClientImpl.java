@@ -139,12 +139,17 @@ public final class ReturnTypeChangedFromClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<String> testWithResponse(String body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return testWithResponseInternal(body, requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.ReturnTypeChangedFrom.test", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept,
-                    body, updatedContext);
-            });
+            updatedContext -> testWithResponseInternal(body, updatedContext));
+    }
+
+    private Response<String> testWithResponseInternal(String body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), contentType, accept, body,
+            updatedContext);
     }
 }
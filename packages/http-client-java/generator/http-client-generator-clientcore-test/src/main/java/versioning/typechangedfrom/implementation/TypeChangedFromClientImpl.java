@@ -143,12 +143,18 @@ public final class TypeChangedFromClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<TestModel> testWithResponse(String param, TestModel body, RequestContext requestContext) {
+        if (!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()) {
+            return testWithResponseInternal(param, body,
+                requestContext == null ? RequestContext.none() : requestContext);
+        }
         return this.instrumentation.instrumentWithResponse("Versioning.TypeChangedFrom.test", requestContext,
-            updatedContext -> {
-                final String contentType = "application/json";
-                final String accept = "application/json";
-                return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), param, contentType,
-                    accept, body, updatedContext);
-            });
+            updatedContext -> testWithResponseInternal(param, body, updatedContext));
+    }
+
+    private Response<TestModel> testWithResponseInternal(String param, TestModel body, RequestContext updatedContext) {
+        final String contentType = "application/json";
+        final String accept = "application/json";
+        return service.test(this.getEndpoint(), this.getServiceVersion().getVersion(), param, contentType, accept, body,
+            updatedContext);
     }
 }
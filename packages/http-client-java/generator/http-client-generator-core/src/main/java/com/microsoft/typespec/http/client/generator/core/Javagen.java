@@ -12,10 +12,10 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlu
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientBuilder;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientResponse;
@@ -23,7 +23,6 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumT
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PackageInfo;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Pom;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProtocolExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceVersion;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TestContext;
@@ -36,12 +35,20 @@ import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Text
 import com.microsoft.typespec.http.client.generator.core.model.xmlmodel.XmlFile;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.template.ModelBenchmarkTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.ProxyTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
+import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
+import com.microsoft.typespec.http.client.generator.core.util.ModelExampleUtil;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 
 public class Javagen extends NewPlugin {
@@ -67,20 +74,25 @@ public class Javagen extends NewPlugin {
         try {
 
             // Step 1: Parse input yaml as CodeModel
-            CodeModel codeModel = new Preprocessor(this, connection, pluginName, sessionId).processCodeModel();
+            CodeModel codeModel = GeneratorMetrics.measure("transform",
+                () -> new Preprocessor(this, connection, pluginName, sessionId).processCodeModel());
 
             // Step 2: Map
-            Client client = Mappers.getClientMapper().map(codeModel);
+            Client client = GeneratorMetrics.measure("mapper.ClientMapper",
+                () -> Mappers.getClientMapper().map(codeModel));
 
             // Step 3: Write to templates
-            JavaPackage javaPackage = writeToTemplates(codeModel, client, settings, true);
+            JavaPackage javaPackage
+                = GeneratorMetrics.measure("templates", () -> writeToTemplates(codeModel, client, settings, true));
 
             // Step 4: Print to files
             // Then for each formatted file write the file. This is done synchronously as there is potential race
             // conditions that can lead to deadlocking.
-            new Postprocessor(this).postProcess(javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            Map<String, String> javaFiles = GeneratorMetrics.measure("java-file-contents",
+                () -> javaPackage.getJavaFiles()
+                    .stream()
+                    .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            new Postprocessor(this).postProcess(javaFiles);
 
             for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
                 writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
@@ -97,6 +109,8 @@ public class Javagen extends NewPlugin {
         } catch (Exception ex) {
             logger.error("Failed to generate code.", ex);
             return false;
+        } finally {
+            GeneratorMetrics.writeReport();
         }
         return true;
     }
@@ -152,12 +166,8 @@ public class Javagen extends NewPlugin {
 
             // Sample
             if (settings.isDataPlaneClient() && settings.isGenerateSamples()) {
-                for (ProtocolExample protocolExample : client.getProtocolExamples()) {
-                    javaPackage.addProtocolExamples(protocolExample);
-                }
-                for (ClientMethodExample clientMethodExample : client.getClientMethodExamples()) {
-                    javaPackage.addClientMethodExamples(clientMethodExample);
-                }
+                javaPackage.addProtocolExamples(client.getProtocolExamples());
+                javaPackage.addClientMethodExamples(client.getClientMethodExamples());
             }
 
             // Test
@@ -174,16 +184,8 @@ public class Javagen extends NewPlugin {
                     javaPackage.addProtocolTestBase(testContext);
 
                     // test cases as Disabled
-                    if (!client.getProtocolExamples().isEmpty()) {
-                        client.getProtocolExamples()
-                            .forEach(protocolExample -> javaPackage
-                                .addProtocolTest(new TestContext<>(testContext, protocolExample)));
-                    }
-                    if (!client.getClientMethodExamples().isEmpty()) {
-                        client.getClientMethodExamples()
-                            .forEach(clientMethodExample -> javaPackage
-                                .addClientMethodTest(new TestContext<>(testContext, clientMethodExample)));
-                    }
+                    javaPackage.addProtocolTests(testContext, client.getProtocolExamples());
+                    javaPackage.addClientMethodTests(testContext, client.getClientMethodExamples());
                 }
             }
 
@@ -239,9 +241,17 @@ public class Javagen extends NewPlugin {
         writeClientModels(client, javaPackage, settings);
 
         writeHelperClasses(client, codeModel, javaPackage, settings);
+        writePagingPrefetchHelper(client, javaPackage, settings);
+        writeAsyncHelper(client, javaPackage, settings);
+        writeBulkOperationHelper(client, javaPackage, settings);
+        writeResponseCachePolicy(client, javaPackage, settings);
+        writeErrorMappingPolicy(client, javaPackage, settings);
+        writeServiceImplementationHelper(client, javaPackage, settings);
+        writeDateTimeHelper(client, javaPackage, settings);
 
         // Unit tests on client model
         if (settings.isGenerateTests() && !settings.isDataPlaneClient()) {
+            // sequential, the test data of the models is drawn from a seeded Random
             for (ClientModel model : client.getModels()) {
                 if (!model.isStronglyTypedHeader()) {
                     javaPackage.addModelUnitTest(model);
@@ -249,6 +259,8 @@ public class Javagen extends NewPlugin {
             }
         }
 
+        writeModelBenchmarks(client, javaPackage, settings);
+
         // Package-info
         for (PackageInfo packageInfo : client.getPackageInfos()) {
             javaPackage.addPackageInfo(packageInfo.getPackage(), "package-info", packageInfo);
@@ -329,10 +341,207 @@ public class Javagen extends NewPlugin {
         }
     }
 
+    /**
+     * Writes the JMH benchmarks of the serialization of the models, when "generate-benchmarks" is enabled.
+     * <p>
+     * The payload of a model is the first example body of the model in the examples of the service, or a payload
+     * composed according to the structure of the model when there is no example. Call after the model unit tests, as
+     * the composed payload is drawn from the same seeded Random.
+     *
+     * @param client the client.
+     * @param javaPackage the Java package.
+     * @param settings the Java settings.
+     */
+    protected void writeModelBenchmarks(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (!settings.isGenerateBenchmarks()) {
+            return;
+        }
+
+        Map<String, Object> exampleBodies = ModelExampleUtil.getExampleBodiesByModelName(client.getServiceClient());
+        for (ClientModel model : client.getModels()) {
+            if (isBenchmarkingModel(model, settings)) {
+                javaPackage.addModelBenchmark(model, exampleBodies.get(model.getName()));
+            }
+        }
+    }
+
+    /**
+     * Whether the model has a JMH benchmark, when "generate-benchmarks" is enabled.
+     *
+     * @param model the client model.
+     * @param settings the Java settings.
+     * @return whether the model has a benchmark.
+     */
+    protected boolean isBenchmarkingModel(ClientModel model, JavaSettings settings) {
+        return ModelBenchmarkTemplate.canBenchmark(model, settings);
+    }
+
     protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
         JavaSettings settings) {
     }
 
+    /**
+     * Writes the PagingPrefetchHelper class, if any paging method prefetches the next pages.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writePagingPrefetchHelper(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (settings.getPagingPrefetchDepth() <= 0) {
+            return;
+        }
+
+        List<ServiceClient> serviceClients = CoreUtils.isNullOrEmpty(client.getServiceClients())
+            ? Collections.singletonList(client.getServiceClient())
+            : client.getServiceClients();
+        boolean pagingPrefetch = serviceClients.stream()
+            .flatMap(serviceClient -> Stream.concat(serviceClient.getClientMethods().stream(),
+                serviceClient.getMethodGroupClients().stream().flatMap(mgc -> mgc.getClientMethods().stream())))
+            .anyMatch(clientMethod -> MethodUtil.isPagingPrefetch(clientMethod, settings));
+        if (pagingPrefetch) {
+            String packageName = settings.getPackage(settings.getImplementationSubpackage());
+            if (settings.isAzureV1()) {
+                javaPackage.addJavaFromResources(packageName, ClientModelUtil.PAGING_PREFETCH_HELPER_CLASS_NAME);
+            } else {
+                javaPackage.addJavaFromResources(packageName, ClientModelUtil.CLIENT_CORE_PAGING_PREFETCH_HELPER,
+                    ClientModelUtil.PAGING_PREFETCH_HELPER_CLASS_NAME);
+            }
+        }
+    }
+
+    /**
+     * Writes the AsyncHelper class, if the sync clients have methods returning CompletableFuture.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeAsyncHelper(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (settings.isCompletableFutureMethods() && !client.getSyncClients().isEmpty()) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.CLIENT_CORE_ASYNC_HELPER, ClientModelUtil.ASYNC_HELPER_CLASS_NAME);
+        }
+    }
+
+    /**
+     * Writes the BulkOperationHelper and BulkOperationResult classes, if the sync clients have bulk methods.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeBulkOperationHelper(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (settings.getBulkMethodConcurrency() <= 0) {
+            return;
+        }
+
+        boolean bulkMethods = client.getSyncClients()
+            .stream()
+            .flatMap(syncClient -> syncClient.getMethodGroupClient() == null
+                ? syncClient.getServiceClient().getClientMethods().stream()
+                : syncClient.getMethodGroupClient().getClientMethods().stream())
+            .anyMatch(clientMethod -> MethodUtil.getBulkKeyParameter(clientMethod, settings) != null);
+        if (bulkMethods) {
+            String resultPackageName = settings.getPackage();
+            javaPackage.addJavaFromResources(resultPackageName, ClientModelUtil.BULK_OPERATION_RESULT_CLASS_NAME);
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                settings.isAzureV1()
+                    ? ClientModelUtil.BULK_OPERATION_HELPER_CLASS_NAME
+                    : ClientModelUtil.CLIENT_CORE_BULK_OPERATION_HELPER,
+                ClientModelUtil.BULK_OPERATION_HELPER_CLASS_NAME,
+                Collections.singletonList(resultPackageName + "." + ClientModelUtil.BULK_OPERATION_RESULT_CLASS_NAME));
+        }
+    }
+
+    /**
+     * Writes the ResponseCachePolicy class, which the client builders accept as option.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeResponseCachePolicy(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (settings.isResponseCache() && !CoreUtils.isNullOrEmpty(client.getClientBuilders())) {
+            javaPackage.addJavaFromResources(settings.getPackage(),
+                settings.isAzureV1()
+                    ? ClientModelUtil.RESPONSE_CACHE_POLICY_CLASS_NAME
+                    : ClientModelUtil.CLIENT_CORE_RESPONSE_CACHE_POLICY,
+                ClientModelUtil.RESPONSE_CACHE_POLICY_CLASS_NAME);
+        }
+    }
+
+    /**
+     * Writes the DateTimeHelper class, if the JSON serialization code of models parses or formats date-time or
+     * duration.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeDateTimeHelper(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (!settings.isFastDateTimeCodecs()) {
+            return;
+        }
+
+        boolean dateTimeProperties = client.getModels()
+            .stream()
+            .filter(model -> model.getXmlName() == null)
+            .flatMap(model -> model.getProperties().stream())
+            .anyMatch(property -> property.getWireType().contains(ClassType.DATE_TIME)
+                || property.getWireType().contains(ClassType.DURATION));
+        if (dateTimeProperties) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.DATE_TIME_HELPER_CLASS_NAME);
+        }
+    }
+
+    /**
+     * Writes the ErrorMappingPolicy class, which applies the error mapping registered by the implementation classes.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeErrorMappingPolicy(Client client, JavaPackage javaPackage, JavaSettings settings) {
+        if (settings.isDirectErrorMapping()
+            && (client.getServiceClient() != null || !CoreUtils.isNullOrEmpty(client.getServiceClients()))) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.ERROR_MAPPING_POLICY_CLASS_NAME);
+        }
+    }
+
+    /**
+     * Writes the ServiceImplementationHelper class, which is used by the generated implementations of the service
+     * interfaces.
+     *
+     * @param client the client model
+     * @param javaPackage the Java package
+     * @param settings the Java settings
+     */
+    protected static void writeServiceImplementationHelper(Client client, JavaPackage javaPackage,
+        JavaSettings settings) {
+        if (!settings.isDirectServiceImplementation()) {
+            return;
+        }
+        List<ServiceClient> serviceClients = CoreUtils.isNullOrEmpty(client.getServiceClients())
+            ? (client.getServiceClient() == null
+                ? Collections.emptyList()
+                : Collections.singletonList(client.getServiceClient()))
+            : client.getServiceClients();
+        ProxyTemplate proxyTemplate = Templates.getProxyTemplate();
+        boolean hasServiceImplementation = serviceClients.stream()
+            .anyMatch(serviceClient -> proxyTemplate.hasServiceImplementation(serviceClient.getProxy())
+                || serviceClient.getMethodGroupClients()
+                    .stream()
+                    .anyMatch(
+                        methodGroupClient -> proxyTemplate.hasServiceImplementation(methodGroupClient.getProxy())));
+        if (hasServiceImplementation) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.SERVICE_IMPLEMENTATION_HELPER_CLASS_NAME);
+        }
+    }
+
     private static void writeMethodGroupClient(JavaPackage javaPackage, ServiceClient serviceClient,
         JavaSettings settings) {
         for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
@@ -346,6 +555,7 @@ public class Javagen extends NewPlugin {
 
     private void clear() {
         ClientModels.getInstance().clear();
+        ClientModelUtil.clearModelHierarchy();
         UnionModels.getInstance().clear();
         JavaSettings.clear();
     }
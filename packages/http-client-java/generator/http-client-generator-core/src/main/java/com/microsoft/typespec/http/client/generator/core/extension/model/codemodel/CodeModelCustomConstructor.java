@@ -21,17 +21,44 @@ import org.yaml.snakeyaml.nodes.SequenceNode;
  * Custom constructor for a CodeModel.
  */
 public class CodeModelCustomConstructor extends Constructor {
+    private final Map<String, String> strings;
+
     /**
      * Creates a new instance of the CodeModelCustomConstructor class.
      *
      * @param loaderOptions The options for the loader.
      */
     public CodeModelCustomConstructor(LoaderOptions loaderOptions) {
+        this(loaderOptions, false);
+    }
+
+    /**
+     * Creates a new instance of the CodeModelCustomConstructor class.
+     * <p>
+     * The names, descriptions, serialized names and other metadata of the code model repeat the same values many times
+     * in a large spec. If {@code deduplicateStrings} is true, equal strings share a single instance in the constructed
+     * code model. The instance of the constructor should then be used for a single load, as it retains the strings.
+     *
+     * @param loaderOptions The options for the loader.
+     * @param deduplicateStrings Whether equal strings share a single instance.
+     */
+    public CodeModelCustomConstructor(LoaderOptions loaderOptions, boolean deduplicateStrings) {
         super(loaderOptions);
+        this.strings = deduplicateStrings ? new HashMap<>() : null;
         yamlClassConstructors.put(NodeId.scalar, new TypeEnumConstruct());
         yamlClassConstructors.put(NodeId.mapping, new TypeMapConstruct());
     }
 
+    @Override
+    protected String constructScalar(ScalarNode node) {
+        String value = super.constructScalar(node);
+        if (strings == null || value == null) {
+            return value;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
     class TypeEnumConstruct extends Constructor.ConstructScalar {
         @Override
         public Object construct(Node node) {
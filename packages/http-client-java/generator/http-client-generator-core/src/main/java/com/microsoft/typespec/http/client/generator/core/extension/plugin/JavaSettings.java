@@ -389,6 +389,42 @@ public class JavaSettings {
         // Whether to use object for unknown.
         this.useObjectForUnknown = getBooleanValue(host, "use-object-for-unknown", false);
 
+        // Whether to run the full unused imports removal on every file, to validate the imports written by JavaFile.
+        this.validateUnusedImports = getBooleanValue(host, "validate-unused-imports", false);
+
+        // Number of next pages that paging methods request ahead of the iteration, 0 to disable prefetch.
+        this.pagingPrefetchDepth = getIntegerValue(host, "paging-prefetch-depth", 0);
+
+        // Whether to generate methods returning CompletableFuture in clientcore clients.
+        this.completableFutureMethods = getBooleanValue(host, "completable-future-methods", false);
+
+        // Maximum number of concurrent requests of the bulk methods in sync clients, 0 to not generate bulk methods.
+        this.bulkMethodConcurrency = getIntegerValue(host, "bulk-method-concurrency", 0);
+
+        // Whether to generate the ResponseCachePolicy class, and the client builder option to use it.
+        this.responseCache = getBooleanValue(host, "response-cache", false);
+
+        // Whether to generate the overloads of binary upload and download methods, that use file or channel.
+        this.binaryFileOverloads = getBooleanValue(host, "binary-file-overloads", false);
+
+        // Whether model getters cache the value converted from the wire type, e.g. unix time or Base64Url.
+        this.cacheWireTypeConversion = getBooleanValue(host, "cache-wire-type-conversion", false);
+
+        // Whether the serialization code of models parses and formats date-time and duration with DateTimeHelper.
+        this.fastDateTimeCodecs = getBooleanValue(host, "fast-date-time-codecs", false);
+
+        // Whether to generate JMH benchmarks of the serialization of the models, in the test source set.
+        this.generateBenchmarks = getBooleanValue(host, "generate-benchmarks", false);
+
+        // Whether to map the error responses to exceptions in generated code, instead of by reflection in RestProxy.
+        this.directErrorMapping = getBooleanValue(host, "direct-error-mapping", false);
+
+        // Whether to reduce the peak heap of code generation, for very large specs.
+        this.leanMemory = getBooleanValue(host, "lean-memory", false);
+
+        // Whether to generate the implementations of the service interfaces, instead of creating them via RestProxy.
+        this.directServiceImplementation = getBooleanValue(host, "direct-service-implementation", false);
+
         // Option to rename models (ObjectSchema, ChoiceSchema, SealedChoiceSchema).
         loadStringSetting("rename-model", s -> {
             if (!CoreUtils.isNullOrEmpty(s)) {
@@ -1524,6 +1560,185 @@ public class JavaSettings {
         return useObjectForUnknown;
     }
 
+    private final boolean validateUnusedImports;
+
+    /**
+     * Whether Google Java Formatter's unused imports removal is run on every generated file.
+     * <p>
+     * Generated files only contain the imports referenced by the code, hence by default the full removal, which parses
+     * the file, only runs on files where a lexical check finds unused imports. Enabling this validates the imports
+     * written by the generator, and reports files where they are not precise.
+     *
+     * @return Whether unused imports removal is run on every generated file.
+     */
+    public boolean isValidateUnusedImports() {
+        return validateUnusedImports;
+    }
+
+    private final int pagingPrefetchDepth;
+
+    /**
+     * Gets the number of next pages that generated paging methods request ahead of the iteration.
+     * <p>
+     * When positive, the request of the next page is sent as soon as a page is retrieved, so that the network round
+     * trip of the next page overlaps with the processing of the current page by the caller. 0 disables prefetch.
+     *
+     * @return The number of next pages that generated paging methods request ahead of the iteration.
+     */
+    public int getPagingPrefetchDepth() {
+        return pagingPrefetchDepth;
+    }
+
+    private final boolean completableFutureMethods;
+
+    /**
+     * Whether to generate methods returning CompletableFuture in the sync clients of clientcore.
+     * <p>
+     * The methods run the sync methods on the executor configured in client builder, or on virtual threads if no
+     * executor is configured. Paging methods return a Flow.Publisher of the pages.
+     *
+     * @return Whether to generate methods returning CompletableFuture in the sync clients of clientcore.
+     */
+    public boolean isCompletableFutureMethods() {
+        return completableFutureMethods && !isAzureV1();
+    }
+
+    private final int bulkMethodConcurrency;
+
+    /**
+     * Gets the maximum number of concurrent requests of the bulk methods in the sync clients.
+     * <p>
+     * When positive, a bulk method, e.g. "getAll", is generated for each single method with a path parameter. It calls
+     * the single method for each value of the path parameter, on a bounded pool, and backs off all requests when the
+     * service throttles. 0 disables bulk methods.
+     *
+     * @return The maximum number of concurrent requests of the bulk methods in the sync clients.
+     */
+    public int getBulkMethodConcurrency() {
+        return bulkMethodConcurrency;
+    }
+
+    private final boolean responseCache;
+
+    /**
+     * Whether to generate the ResponseCachePolicy class, and the option in client builder to use it.
+     * <p>
+     * The policy caches the responses of GET requests that have an ETag, and sends conditional requests with
+     * "If-None-Match". On 304 Not Modified, the cached response is returned, so that the body is not transferred again.
+     *
+     * @return Whether to generate the ResponseCachePolicy class, and the option in client builder to use it.
+     */
+    public boolean isResponseCache() {
+        return responseCache && !isFluent();
+    }
+
+    private final boolean binaryFileOverloads;
+
+    /**
+     * Whether to generate the overloads of binary upload and download methods in the sync clients, that use file or
+     * channel.
+     * <p>
+     * The upload overload takes a Path, and streams the file as request body. The download overloads take a Path or a
+     * WritableByteChannel, and write the response body to it, instead of returning the BinaryData to the caller.
+     *
+     * @return Whether to generate the overloads of binary upload and download methods that use file or channel.
+     */
+    public boolean isBinaryFileOverloads() {
+        return binaryFileOverloads && !isFluent();
+    }
+
+    private final boolean cacheWireTypeConversion;
+
+    /**
+     * Whether the getter of a model property, whose wire type differs from the client type, caches the value
+     * converted from the wire type.
+     * <p>
+     * The conversion, e.g. from unix time, or Base64Url, runs on the first call of the getter, instead of on every
+     * call. It applies to stream-style serialization.
+     *
+     * @return Whether the getter of a model property caches the value converted from the wire type.
+     */
+    public boolean isCacheWireTypeConversion() {
+        return cacheWireTypeConversion && isStreamStyleSerialization();
+    }
+
+    private final boolean fastDateTimeCodecs;
+
+    /**
+     * Whether the serialization code of models parses and formats date-time and duration with the DateTimeHelper
+     * class.
+     * <p>
+     * The DateTimeHelper class has fast paths for the common layouts of RFC 3339 date-time and ISO 8601 duration, and
+     * falls back to the java.time parsers for other layouts. It applies to stream-style serialization.
+     *
+     * @return Whether the serialization code of models uses the DateTimeHelper class.
+     */
+    public boolean isFastDateTimeCodecs() {
+        return fastDateTimeCodecs && isStreamStyleSerialization() && !isFluent();
+    }
+
+    private final boolean generateBenchmarks;
+
+    /**
+     * Whether to generate JMH benchmarks of the serialization of the models, in the test source set.
+     * <p>
+     * The benchmark of a model measures fromJson/toJson, or fromXml/toXml, with the payload of a service example of
+     * the model when there is one, and with a generated payload otherwise. It applies to stream-style serialization
+     * with azure-core.
+     *
+     * @return Whether to generate JMH benchmarks of the serialization of the models.
+     */
+    public boolean isGenerateBenchmarks() {
+        return generateBenchmarks && isStreamStyleSerialization() && isAzureV1();
+    }
+
+    private final boolean directErrorMapping;
+
+    /**
+     * Whether to map the error responses to exceptions in generated code, instead of by reflection in RestProxy.
+     * <p>
+     * The implementation classes register the error mapping of each service method, which creates the exception via
+     * its constructor and reads the error model via "fromJson". The ErrorMappingPolicy in the pipeline created by the
+     * client builder applies the mapping. It applies to stream-style serialization with azure-core, and not to Fluent.
+     *
+     * @return Whether to map the error responses to exceptions in generated code.
+     */
+    public boolean isDirectErrorMapping() {
+        return directErrorMapping && isStreamStyleSerialization() && isAzureV1() && !isFluent();
+    }
+
+    private final boolean leanMemory;
+
+    /**
+     * Whether to reduce the peak heap of code generation, for very large specs.
+     * <p>
+     * The strings of the code model are deduplicated on load, the code model is released after it is mapped to the
+     * client model (except for Fluent), and the Java files are rendered, formatted and written in batches, instead of
+     * holding the content of all files in memory at once. It has no effect on the generated code.
+     *
+     * @return Whether to reduce the peak heap of code generation.
+     */
+    public boolean isLeanMemory() {
+        return leanMemory;
+    }
+
+    private final boolean directServiceImplementation;
+
+    /**
+     * Whether to generate the implementations of the service interfaces, instead of creating them via RestProxy.
+     * <p>
+     * The implementation creates the HTTP request of the service method from the URL template of the method, and reads
+     * the response body via "fromJson" of the model, without parsing the annotations of the service interface and
+     * invoking the service method by reflection. The service methods that the implementation does not support, e.g.
+     * the protocol methods with RequestOptions, are invoked via RestProxy. It applies to stream-style serialization
+     * with azure-core.
+     *
+     * @return Whether to generate the implementations of the service interfaces.
+     */
+    public boolean isDirectServiceImplementation() {
+        return directServiceImplementation && isStreamStyleSerialization() && isAzureV1();
+    }
+
     private final Map<String, String> renameModel = new HashMap<>();
 
     public Map<String, String> getJavaNamesForRenameModel() {
@@ -1589,6 +1804,17 @@ public class JavaSettings {
         }
     }
 
+    private static int getIntegerValue(NewPlugin host, String settingName, int defaultValue) {
+        Integer ret = host.getIntegerValue(settingName);
+        if (ret == null) {
+            return defaultValue;
+        } else {
+            logger.debug("Option, integer, {} : {}", settingName, ret);
+            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            return ret;
+        }
+    }
+
     private static void loadStringOrArraySettingAsArray(String settingName, Consumer<List<String>> action) {
         host.getValue(settingName, jsonString -> {
             if (jsonString == null) {
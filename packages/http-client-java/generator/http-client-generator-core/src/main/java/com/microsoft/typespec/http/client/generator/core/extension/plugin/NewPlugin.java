@@ -148,6 +148,16 @@ public abstract class NewPlugin {
         return (ret == null) ? defaultValue : ret;
     }
 
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key.
+     * @return The value of the key.
+     */
+    public Integer getIntegerValue(String key) {
+        return getValue(key, json -> json == null || json.isEmpty() ? null : Integer.parseInt(json));
+    }
+
     /**
      * Gets the input files.
      *
@@ -3,8 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.implementation;
 
-import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.getClientModel;
-
 import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
@@ -114,12 +112,8 @@ public final class ClientModelPropertiesManager {
         boolean allFlattenedPropertiesFromParent = true;
 
         if (model.isPolymorphic()) {
-            ClientModel superTypeModel = model;
-            ClientModel parentModel = getClientModel(model.getParentModelName());
-            while (parentModel != null) {
-                superTypeModel = parentModel;
-                parentModel = getClientModel(superTypeModel.getParentModelName());
-            }
+            List<ClientModel> parentModels = ClientModelUtil.getParentModels(model);
+            ClientModel superTypeModel = parentModels.isEmpty() ? model : parentModels.get(parentModels.size() - 1);
 
             xmlRootElementName = superTypeModel.getXmlName();
             xmlRootElementNamespace = superTypeModel.getXmlNamespace();
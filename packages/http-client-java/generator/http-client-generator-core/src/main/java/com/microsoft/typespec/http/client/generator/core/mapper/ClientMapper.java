@@ -50,6 +50,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVis
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -91,44 +92,49 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
         // enum model
         final List<EnumType> enumTypes = new ArrayList<>();
         Set<String> enumNames = new HashSet<>();
-        for (ChoiceSchema choiceSchema : codeModel.getSchemas().getChoices()) {
-            IType iType = Mappers.getChoiceMapper().map(choiceSchema);
-            if (iType != ClassType.STRING) {
-                EnumType enumType = (EnumType) iType;
-                if (!enumNames.contains(enumType.getName())) {
-                    enumTypes.add(enumType);
-                    enumNames.add(enumType.getName());
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("mapper.ChoiceMapper")) {
+            for (ChoiceSchema choiceSchema : codeModel.getSchemas().getChoices()) {
+                IType iType = Mappers.getChoiceMapper().map(choiceSchema);
+                if (iType != ClassType.STRING) {
+                    EnumType enumType = (EnumType) iType;
+                    if (!enumNames.contains(enumType.getName())) {
+                        enumTypes.add(enumType);
+                        enumNames.add(enumType.getName());
+                    }
                 }
             }
         }
-        for (SealedChoiceSchema choiceSchema : codeModel.getSchemas().getSealedChoices()) {
-            IType iType = Mappers.getSealedChoiceMapper().map(choiceSchema);
-            if (iType != ClassType.STRING) {
-                EnumType enumType = (EnumType) iType;
-                if (!enumNames.contains(enumType.getName())) {
-                    enumTypes.add(enumType);
-                    enumNames.add(enumType.getName());
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("mapper.SealedChoiceMapper")) {
+            for (SealedChoiceSchema choiceSchema : codeModel.getSchemas().getSealedChoices()) {
+                IType iType = Mappers.getSealedChoiceMapper().map(choiceSchema);
+                if (iType != ClassType.STRING) {
+                    EnumType enumType = (EnumType) iType;
+                    if (!enumNames.contains(enumType.getName())) {
+                        enumTypes.add(enumType);
+                        enumNames.add(enumType.getName());
+                    }
                 }
             }
         }
         builder.enums(enumTypes);
 
         // exception
-        List<ClientException> exceptions = Stream
-            .concat(
-                codeModel.getClients() == null
-                    ? Stream.<OperationGroup>empty()
-                    : codeModel.getClients().stream().flatMap(c -> c.getOperationGroups().stream()),
-                codeModel.getOperationGroups().stream())
-            .flatMap(og -> og.getOperations().stream())
-            .flatMap(o -> o.getExceptions().stream())
-            .map(Response::getSchema)
-            .distinct()
-            .filter(s -> s instanceof ObjectSchema)
-            .map(s -> Mappers.getExceptionMapper().map((ObjectSchema) s))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        List<ClientException> exceptions = GeneratorMetrics.measure("mapper.ExceptionMapper",
+            () -> Stream
+                .concat(
+                    codeModel.getClients() == null
+                        ? Stream.<OperationGroup>empty()
+                        : codeModel.getClients().stream().flatMap(c -> c.getOperationGroups().stream()),
+                    codeModel.getOperationGroups().stream())
+                .flatMap(og -> og.getOperations().stream())
+                .flatMap(o -> o.getExceptions().stream())
+                .map(Response::getSchema)
+                .distinct()
+                .filter(s -> s instanceof ObjectSchema)
+                .map(s -> Mappers.getExceptionMapper().map((ObjectSchema) s))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
         builder.exceptions(exceptions);
 
         builder.xmlSequenceWrappers(parseXmlSequenceWrappers(codeModel, settings));
@@ -141,11 +147,12 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
                 .map(o -> parseHeader(o, settings))
                 .filter(Objects::nonNull));
 
-        List<ClientModel> clientModelsFromCodeModel = autoRestModelTypes.distinct()
-            .map(autoRestCompositeType -> Mappers.getModelMapper().map(autoRestCompositeType))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        List<ClientModel> clientModelsFromCodeModel = GeneratorMetrics.measure("mapper.ModelMapper",
+            () -> autoRestModelTypes.distinct()
+                .map(autoRestCompositeType -> Mappers.getModelMapper().map(autoRestCompositeType))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
         // append some models not from CodeModel (currently, only for ##FileDetails models for multipart/form-data
         // request)
         // TODO (weidxu): we can remove this code block, if ##FileDetails moves to azure-core
@@ -154,26 +161,30 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
                 .distinct()
                 .collect(Collectors.toList());
         builder.models(clientModels);
+        GeneratorMetrics.measure("mapper.ClientModelHierarchy",
+            () -> ClientModelUtil.buildModelHierarchy(clientModels));
 
         // union model (class)
-        builder.unionModels(codeModel.getSchemas()
-            .getOrs()
-            .stream()
-            .distinct()
-            .flatMap(schema -> Mappers.getUnionModelMapper().map(schema).stream())
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList()));
+        builder.unionModels(GeneratorMetrics.measure("mapper.UnionModelMapper",
+            () -> codeModel.getSchemas()
+                .getOrs()
+                .stream()
+                .distinct()
+                .flatMap(schema -> Mappers.getUnionModelMapper().map(schema).stream())
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList())));
 
         // response model (subclass of Response with headers)
-        final List<ClientResponse> responseModels = codeModel.getOperationGroups()
-            .stream()
-            .flatMap(og -> og.getOperations().stream())
-            .distinct()
-            .map(m -> parseResponse(m, clientModels, settings))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        final List<ClientResponse> responseModels = GeneratorMetrics.measure("mapper.ClientResponse",
+            () -> codeModel.getOperationGroups()
+                .stream()
+                .flatMap(og -> og.getOperations().stream())
+                .distinct()
+                .map(m -> parseResponse(m, clientModels, settings))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
         builder.responseModels(responseModels);
 
         String serviceClientName = codeModel.getLanguage().getJava().getName();
@@ -196,11 +207,13 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
         if (multipleClientsWithOperationsPresent || singleClientOperationsPresent) {
             // set the service clients only if there are client operations present
             if (!CoreUtils.isNullOrEmpty(codeModel.getClients())) {
-                serviceClientsMap = processClients(codeModel.getClients(), codeModel);
+                serviceClientsMap = GeneratorMetrics.measure("mapper.ServiceClientMapper",
+                    () -> processClients(codeModel.getClients(), codeModel));
                 builder.serviceClients(new ArrayList(serviceClientsMap.keySet()));
             } else {
                 // service client
-                ServiceClient serviceClient = Mappers.getServiceClientMapper().map(codeModel);
+                ServiceClient serviceClient = GeneratorMetrics.measure("mapper.ServiceClientMapper",
+                    () -> Mappers.getServiceClientMapper().map(codeModel));
                 if (serviceClient != null) {
                     builder.serviceClient(serviceClient);
 
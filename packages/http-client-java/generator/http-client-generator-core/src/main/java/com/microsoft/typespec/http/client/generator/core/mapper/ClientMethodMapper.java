@@ -81,6 +81,13 @@ public class ClientMethodMapper implements IMapper<Operation, List<ClientMethod>
         return INSTANCE;
     }
 
+    /**
+     * Clears the mapped client methods of the code model, after the code model is mapped to the client model.
+     */
+    void clearCache() {
+        parsed.clear();
+    }
+
     @Override
     public List<ClientMethod> map(Operation operation) {
         return map(operation, JavaSettings.getInstance().isDataPlaneClient());
@@ -110,4 +110,26 @@ public class Mappers {
     public static PomMapper getPomMapper() {
         return factory.getPomMapper();
     }
+
+    /**
+     * Clears the caches of the mappers, which map the objects of the code model to the objects of the client model.
+     * <p>
+     * The caches hold the code model. They are cleared after the code model is mapped to the client model, so that the
+     * code model can be released before the templates are written.
+     */
+    public static void clearCaches() {
+        getSchemaMapper().parsed.clear();
+        getChoiceMapper().parsed.clear();
+        getSealedChoiceMapper().parsed.clear();
+        getPrimitiveMapper().parsed.clear();
+        getArrayMapper().parsed.clear();
+        getDictionaryMapper().parsed.clear();
+        getObjectMapper().parsed.clear();
+        getConstantMapper().parsed.clear();
+        getUnionMapper().parsed.clear();
+        getExceptionMapper().parsed.clear();
+        getMethodGroupMapper().clearCache();
+        getProxyMethodMapper().clearCache();
+        getClientMethodMapper().clearCache();
+    }
 }
@@ -38,6 +38,13 @@ public class MethodGroupMapper implements IMapper<OperationGroup, MethodGroupCli
         return INSTANCE;
     }
 
+    /**
+     * Clears the mapped method groups of the code model, after the code model is mapped to the client model.
+     */
+    void clearCache() {
+        parsed.clear();
+    }
+
     @Override
     public MethodGroupClient map(OperationGroup methodGroup) {
         return this.map(methodGroup, null);
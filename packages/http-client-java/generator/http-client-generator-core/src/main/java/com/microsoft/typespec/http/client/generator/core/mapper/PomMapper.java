@@ -51,6 +51,7 @@ public class PomMapper implements IMapper<Project, Pom> {
             true);
         addDependencyIdentifier(dependencyIdentifiers, addedDependencyPrefixes, Project.Dependency.AZURE_IDENTITY,
             true);
+        addBenchmarkDependencyIdentifiers(dependencyIdentifiers, addedDependencyPrefixes);
 
         // merge dependencies in POM and dependencies added above
         dependencyIdentifiers.addAll(project.getPomDependencyIdentifiers()
@@ -100,6 +101,22 @@ public class PomMapper implements IMapper<Project, Pom> {
         return pom;
     }
 
+    /**
+     * Adds the JMH dependencies in test scope, when the benchmarks of the models are generated.
+     * <p>
+     * The JMH annotation processor generates the benchmark harness when the test source set is compiled.
+     *
+     * @param dependencyIdentifiers the dependency identifiers.
+     * @param prefixes the prefixes of the added dependencies.
+     */
+    protected static void addBenchmarkDependencyIdentifiers(List<String> dependencyIdentifiers, Set<String> prefixes) {
+        if (JavaSettings.getInstance().isGenerateBenchmarks()) {
+            addDependencyIdentifier(dependencyIdentifiers, prefixes, Project.Dependency.JMH_CORE, true);
+            addDependencyIdentifier(dependencyIdentifiers, prefixes, Project.Dependency.JMH_GENERATOR_ANNPROCESS,
+                true);
+        }
+    }
+
     protected static void addDependencyIdentifier(List<String> dependencyIdentifiers, Set<String> prefixes,
         Project.Dependency dependency, boolean isTestScope) {
         prefixes.add(dependency.getGroupId() + ":" + dependency.getArtifactId() + ":");
@@ -55,6 +55,13 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
         return INSTANCE;
     }
 
+    /**
+     * Clears the mapped proxy methods of the code model, after the code model is mapped to the client model.
+     */
+    protected void clearCache() {
+        parsed.clear();
+    }
+
     @Override
     public Map<Request, List<ProxyMethod>> map(Operation operation) {
         final JavaSettings settings = JavaSettings.getInstance();
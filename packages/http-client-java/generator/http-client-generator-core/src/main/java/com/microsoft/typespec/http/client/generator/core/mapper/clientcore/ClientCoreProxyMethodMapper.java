@@ -65,6 +65,12 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
 
     private final Map<Request, List<ProxyMethod>> parsed = new ConcurrentHashMap<>();
 
+    @Override
+    protected void clearCache() {
+        super.clearCache();
+        parsed.clear();
+    }
+
     @Override
     public Map<Request, List<ProxyMethod>> map(Operation operation) {
         JavaSettings settings = JavaSettings.getInstance();
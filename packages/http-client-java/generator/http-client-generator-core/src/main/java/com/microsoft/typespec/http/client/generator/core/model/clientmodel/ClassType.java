@@ -87,6 +87,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -468,6 +469,8 @@ public class ClassType implements IType {
 
     public static final ClassType OBJECT = new ClassType.Builder(false).knownClass(Object.class).build();
 
+    public static final ClassType EXECUTOR = new ClassType.Builder(false).knownClass(Executor.class).build();
+
     public static final ClassType TOKEN_CREDENTIAL = getClassTypeBuilder(TokenCredential.class).build();
     public static final ClassType OAUTH_TOKEN_REQUEST_CONTEXT
         = new Builder().knownClass(OAuthTokenRequestContext.class).build();
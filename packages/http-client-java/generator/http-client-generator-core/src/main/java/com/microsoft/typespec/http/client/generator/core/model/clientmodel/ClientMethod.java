@@ -12,6 +12,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSe
 import com.microsoft.typespec.http.client.generator.core.implementation.OperationInstrumentationInfo;
 import com.microsoft.typespec.http.client.generator.core.mapper.CollectionUtil;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import java.lang.reflect.ParameterizedType;
@@ -502,6 +503,11 @@ public class ClientMethod {
                 imports.add("com.azure.core.util.FluxUtil");
             }
 
+            if (MethodUtil.isPagingPrefetch(this, settings)) {
+                imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                    + ClientModelUtil.PAGING_PREFETCH_HELPER_CLASS_NAME);
+            }
+
             if (getMethodPageDetails() != null) {
                 imports.add("com.azure.core.http.rest.PagedResponseBase");
 
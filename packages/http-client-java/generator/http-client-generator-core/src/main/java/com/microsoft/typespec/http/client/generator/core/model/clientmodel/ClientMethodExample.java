@@ -3,6 +3,11 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleNode;
+import com.microsoft.typespec.http.client.generator.core.util.ModelExampleUtil;
+import java.util.Collections;
+import java.util.List;
+
 public class ClientMethodExample {
     private final ClientMethod clientMethod;
 
@@ -14,6 +19,8 @@ public class ClientMethodExample {
 
     private final ProxyMethodExample proxyMethodExample;
 
+    private volatile List<ExampleNode> parameterNodes;
+
     public ClientMethodExample(ClientMethod clientMethod, AsyncSyncClient syncClient, ClientBuilder clientBuilder,
         String filename, ProxyMethodExample proxyMethodExample) {
         this.clientMethod = clientMethod;
@@ -42,4 +49,23 @@ public class ClientMethodExample {
     public ProxyMethodExample getProxyMethodExample() {
         return proxyMethodExample;
     }
+
+    /**
+     * Gets the example nodes of the parameters of the client method.
+     * <p>
+     * The nodes are parsed from the proxy method example on first call, and shared by the sample and the test of the
+     * example, which may be written on different threads.
+     *
+     * @return the example nodes, in the order of the parameters of the client method.
+     */
+    public List<ExampleNode> getParameterNodes() {
+        List<ExampleNode> nodes = parameterNodes;
+        if (nodes == null) {
+            // parsing is idempotent, a concurrent call would parse the same nodes
+            nodes = Collections.unmodifiableList(ModelExampleUtil.parseNodesFromParameters(clientMethod,
+                proxyMethodExample));
+            parameterNodes = nodes;
+        }
+        return nodes;
+    }
 }
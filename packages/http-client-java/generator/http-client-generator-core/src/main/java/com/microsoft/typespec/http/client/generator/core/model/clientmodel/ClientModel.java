@@ -591,15 +591,12 @@ public class ClientModel {
         }
 
         String packageName = model.getPackage();
-        ClientModel parent = ClientModelUtil.getClientModel(model.getParentModelName());
         ClientModel lastParent = model;
-        while (parent != null) {
+        for (ClientModel parent : ClientModelUtil.getParentModels(model)) {
             lastParent = parent;
             if (!packageName.equals(parent.getPackage())) {
                 return false;
             }
-
-            parent = ClientModelUtil.getClientModel(parent.getParentModelName());
         }
 
         return checkChildrenModelsPackage(lastParent, packageName);
@@ -103,6 +103,14 @@ public class GenericType implements IType {
         }
     }
 
+    public static GenericType CompletableFuture(IType typeArgument) {
+        return new GenericType("java.util.concurrent", "CompletableFuture", typeArgument);
+    }
+
+    public static GenericType FlowPublisher(IType typeArgument) {
+        return new GenericType("java.util.concurrent.Flow", "Publisher", typeArgument);
+    }
+
     public static GenericType Function(IType inputType, IType outputType) {
         return new GenericType("java.util", "Function", inputType, outputType);
     }
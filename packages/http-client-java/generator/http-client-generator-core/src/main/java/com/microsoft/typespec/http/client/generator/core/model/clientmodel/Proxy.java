@@ -4,6 +4,9 @@
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -70,6 +73,32 @@ public class Proxy {
         if (includeImplementationImports) {
             Annotation.HOST.addImportsTo(imports);
             Annotation.SERVICE_INTERFACE.addImportsTo(imports);
+
+            if (settings.isDirectErrorMapping()) {
+                imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                    + ClientModelUtil.ERROR_MAPPING_POLICY_CLASS_NAME);
+                ClassType.HTTP_RESPONSE.addImportsTo(imports, false);
+                imports.add(IOException.class.getName());
+            }
+
+            if (settings.isDirectServiceImplementation()) {
+                imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                    + ClientModelUtil.SERVICE_IMPLEMENTATION_HELPER_CLASS_NAME);
+                ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+                ClassType.SERIALIZER_ADAPTER.addImportsTo(imports, false);
+                ClassType.REST_PROXY.addImportsTo(imports, false);
+                ClassType.HTTP_REQUEST.addImportsTo(imports, false);
+                ClassType.HTTP_HEADER_NAME.addImportsTo(imports, false);
+                ClassType.HTTP_RESPONSE.addImportsTo(imports, false);
+                ClassType.CONTEXT.addImportsTo(imports, false);
+                imports.add("com.azure.core.http.HttpMethod");
+                imports.add(IOException.class.getName());
+                imports.add(Arrays.class.getName());
+                if (settings.isFluent()) {
+                    // the error value of ManagementException
+                    imports.add("com.azure.core.management.exception.ManagementError");
+                }
+            }
         }
 
         for (ProxyMethod method : getMethods()) {
@@ -438,7 +438,9 @@ public class ProxyMethod {
                 Annotation.UNEXPECTED_RESPONSE_EXCEPTION_TYPE.addImportsTo(imports);
                 getUnexpectedResponseExceptionType().addImportsTo(imports, includeImplementationImports);
 
-                if (!settings.isAzureV1()) {
+                if (!settings.isAzureV1()
+                    || settings.isDirectErrorMapping()
+                    || settings.isDirectServiceImplementation()) {
                     ClientModel errorModel
                         = ClientModelUtil.getErrorModelFromException(getUnexpectedResponseExceptionType());
                     if (errorModel != null) {
@@ -451,7 +453,9 @@ public class ProxyMethod {
                 getUnexpectedResponseExceptionTypes().keySet()
                     .forEach(e -> e.addImportsTo(imports, includeImplementationImports));
 
-                if (!settings.isAzureV1()) {
+                if (!settings.isAzureV1()
+                    || settings.isDirectErrorMapping()
+                    || settings.isDirectServiceImplementation()) {
                     for (ClassType exceptionType : getUnexpectedResponseExceptionTypes().keySet()) {
                         ClientModel errorModel = ClientModelUtil.getErrorModelFromException(exceptionType);
                         if (errorModel != null) {
@@ -232,5 +232,6 @@ public class JavaClass implements JavaType {
     public final void staticBlock(Consumer<JavaBlock> codeBlock) {
         addExpectedNewLine();
         contents.block("static", codeBlock);
+        addNewLine = true;
     }
 }
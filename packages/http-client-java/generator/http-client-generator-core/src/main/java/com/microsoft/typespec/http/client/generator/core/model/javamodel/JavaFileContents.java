@@ -4,28 +4,49 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Writer of the contents of a Java file.
+ * <p>
+ * Completed lines are appended to a single buffer, separated by {@code '\n'}. The line being written and the line
+ * prefix (indentation and comment markers) are kept in reusable buffers, so that writing a line does not create
+ * intermediate strings.
+ */
 public class JavaFileContents {
     private static final String SINGLE_INDENT = "    ";
+    private static final int DEFAULT_CAPACITY = 4096;
 
-    private final List<String> contents;
+    // completed lines, separated by '\n'
+    private final StringBuilder contents;
+    private int lineCount;
 
-    private String currentLine;
-    private String linePrefix;
+    // imports are written when the file is finalized, so that only the referenced imports are written
+    private final JavaImportTracker importTracker = new JavaImportTracker();
+    private int importsOffset = -1;
+    private boolean importsAtStart;
+    private String packageName;
+
+    private final StringBuilder currentLine = new StringBuilder(128);
+    private final StringBuilder linePrefix = new StringBuilder(64);
+    private boolean linePrefixBlank = true;
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
     public JavaFileContents() {
-        this.currentLine = "";
-        this.linePrefix = "";
-        this.contents = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates the contents of a Java file.
+     *
+     * @param capacityHint the expected length of the contents, or 0 for the default capacity
+     */
+    public JavaFileContents(int capacityHint) {
+        this.contents = new StringBuilder(capacityHint > 0 ? capacityHint : DEFAULT_CAPACITY);
     }
 
     private static String toString(List<JavaModifier> modifiers) {
@@ -34,24 +55,64 @@ public class JavaFileContents {
 
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
+        if (!importTracker.hasImports()) {
+            return new StringBuilder(contents.length() + currentLine.length()).append(contents)
+                .append(currentLine)
+                .toString();
+        }
+
+        JavaImportTracker tracker = importTracker;
+        if (currentLine.length() > 0) {
+            tracker = importTracker.copy();
+            tracker.scanLine(currentLine);
+        }
+        List<String> usedImports = tracker.getUsedImports(packageName);
+        if (usedImports.isEmpty()) {
+            // no import is referenced, the blank line that separates the imports from the code is not written
+            int codeOffset = importsOffset < contents.length() && contents.charAt(importsOffset) == '\n'
+                ? importsOffset + 1
+                : importsOffset;
+            return new StringBuilder(contents.length() + currentLine.length()).append(contents, 0, importsOffset)
+                .append(contents, codeOffset, contents.length())
+                .append(currentLine)
+                .toString();
+        }
+
+        int importsLength = 0;
+        for (String toImport : usedImports) {
+            importsLength += toImport.length() + "\nimport ;".length();
+        }
+
+        StringBuilder builder = new StringBuilder(contents.length() + importsLength + currentLine.length());
+        builder.append(contents, 0, importsOffset);
+        for (String toImport : usedImports) {
+            if (importsAtStart) {
+                builder.append("import ").append(toImport).append(";\n");
+            } else {
+                builder.append("\nimport ").append(toImport).append(';');
+            }
+        }
+        return builder.append(contents, importsOffset, contents.length()).append(currentLine).toString();
     }
 
     public boolean contains(String str) {
-        return contents.stream().anyMatch(line -> line.contains(str));
+        // lines are matched individually, and the line being written is not included
+        return lineCount > 0 && str.indexOf('\n') < 0 && contents.indexOf(str) >= 0;
     }
 
     public final void addToPrefix(String toAdd) {
-        linePrefix += toAdd;
+        linePrefix.append(toAdd);
+        linePrefixBlank = linePrefixBlank && isBlank(toAdd, 0, toAdd.length());
     }
 
     private void removeFromPrefix(String toRemove) {
         int toRemoveLength = toRemove.length();
         if (linePrefix.length() <= toRemoveLength) {
-            linePrefix = "";
+            linePrefix.setLength(0);
         } else {
-            linePrefix = linePrefix.substring(0, linePrefix.length() - toRemoveLength);
+            linePrefix.setLength(linePrefix.length() - toRemoveLength);
         }
+        linePrefixBlank = isBlank(linePrefix, 0, linePrefix.length());
     }
 
     public final void indent(Runnable action) {
@@ -69,39 +130,55 @@ public class JavaFileContents {
     }
 
     private void text(String text, boolean addPrefix, boolean completeLastLine) {
-        String prefix = addPrefix ? linePrefix : null;
-
         if (text == null || text.isEmpty()) {
-            handleLine("", prefix, true, completeLastLine);
+            handleLine("", 0, 0, addPrefix, true, completeLastLine);
         } else {
             int lineStartIndex = 0;
             int textLength = text.length();
             while (lineStartIndex < textLength) {
                 int newLineCharacterIndex = text.indexOf('\n', lineStartIndex);
                 if (newLineCharacterIndex == -1) {
-                    handleLine(text.substring(lineStartIndex), prefix, true, completeLastLine);
+                    handleLine(text, lineStartIndex, textLength, addPrefix, true, completeLastLine);
                     break;
                 } else {
-                    handleLine(text.substring(lineStartIndex, newLineCharacterIndex), prefix, false, completeLastLine);
+                    handleLine(text, lineStartIndex, newLineCharacterIndex, addPrefix, false, completeLastLine);
                     lineStartIndex = newLineCharacterIndex + 1;
                 }
             }
         }
     }
 
-    private void handleLine(String line, String prefix, boolean lastLine, boolean completeLastLine) {
-        if (prefix != null
-            && (!prefix.trim().isEmpty() || (!prefix.isEmpty() && line != null && !line.trim().isEmpty()))) {
-            currentLine += prefix;
+    private void handleLine(String text, int start, int end, boolean addPrefix, boolean lastLine,
+        boolean completeLastLine) {
+        // a blank prefix (indentation) is not written on a blank line
+        if (addPrefix && linePrefix.length() > 0 && (!linePrefixBlank || !isBlank(text, start, end))) {
+            currentLine.append(linePrefix);
         }
 
-        currentLine += line;
+        currentLine.append(text, start, end);
         if (!lastLine || completeLastLine) {
-            contents.add(currentLine);
-            currentLine = "";
+            if (lineCount > 0) {
+                contents.append('\n');
+            }
+            contents.append(currentLine);
+            ++lineCount;
+            if (importsOffset >= 0) {
+                importTracker.scanLine(currentLine);
+            }
+            currentLine.setLength(0);
         }
     }
 
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        // same as String.trim().isEmpty()
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public final void text(String text) {
         if (currentLineType == CurrentLineType.Empty) {
             text(text, true, false);
@@ -144,6 +221,7 @@ public class JavaFileContents {
     }
 
     public void declarePackage(String pkg) {
+        this.packageName = pkg;
         line("package " + pkg + ";");
     }
 
@@ -157,16 +235,22 @@ public class JavaFileContents {
         declareImport(Arrays.asList(imports));
     }
 
+    /**
+     * Declares imports of the file.
+     * <p>
+     * The imports are not written immediately. When the file is finalized, the imports referenced by the code are
+     * written at the location of the first declaration, and the unused imports are dropped.
+     *
+     * @param imports the imports
+     */
     public void declareImport(List<String> imports) {
         if (imports != null && !imports.isEmpty()) {
-            Set<String> importSet = new TreeSet<>(new JavaImportComparer());
-            importSet.addAll(imports);
-            for (String toImport : importSet) {
-                if (toImport != null && !toImport.isEmpty()) {
-                    line("import " + toImport + ";");
-                }
+            if (importsOffset < 0) {
+                importsOffset = contents.length();
+                importsAtStart = lineCount == 0;
+                line();
             }
-            line();
+            importTracker.addImports(imports);
         }
     }
 
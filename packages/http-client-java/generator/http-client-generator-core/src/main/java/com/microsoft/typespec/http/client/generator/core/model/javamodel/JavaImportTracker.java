@@ -0,0 +1,380 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tracks the imports declared by a Java file and the simple names referenced by its code.
+ * <p>
+ * Code is scanned line by line, as it is written. A simple name is referenced if it is used as an identifier in code
+ * (but not as the member of a qualified name, e.g. {@code a.Name}), or as a reference in a Javadoc tag (e.g.
+ * {@code {@link Name}}, {@code @see Name}, {@code @throws Name}). Names in string literals and in other comments do
+ * not count.
+ * <p>
+ * The rules are aligned with Google Java Format's {@code RemoveUnusedImports}, so that the imports kept by the tracker
+ * do not need to go through that pass again.
+ */
+public final class JavaImportTracker {
+    private static final String[] JAVADOC_REFERENCE_TAGS
+        = { "{@link ", "{@linkplain ", "{@value ", "@see ", "@throws ", "@exception " };
+
+    private final Set<String> declaredImports = new TreeSet<>(new JavaImportComparer());
+    private final Set<String> referencedNames;
+
+    private ScanState state = ScanState.CODE;
+    private char lastSignificantChar = ' ';
+
+    /**
+     * Creates an empty tracker.
+     */
+    public JavaImportTracker() {
+        this.referencedNames = new HashSet<>();
+    }
+
+    private JavaImportTracker(JavaImportTracker other) {
+        this.declaredImports.addAll(other.declaredImports);
+        this.referencedNames = new HashSet<>(other.referencedNames);
+        this.state = other.state;
+        this.lastSignificantChar = other.lastSignificantChar;
+    }
+
+    /**
+     * Creates a copy of the tracker, so that trailing content can be scanned without altering this tracker.
+     *
+     * @return the copy of the tracker
+     */
+    JavaImportTracker copy() {
+        return new JavaImportTracker(this);
+    }
+
+    /**
+     * Adds imports declared by the file.
+     *
+     * @param imports the imports, in the form of {@code com.azure.core.util.Context} or
+     * {@code static org.junit.jupiter.api.Assertions.assertEquals}
+     */
+    public void addImports(Collection<String> imports) {
+        for (String toImport : imports) {
+            if (toImport != null && !toImport.isEmpty()) {
+                declaredImports.add(toImport);
+            }
+        }
+    }
+
+    /**
+     * Whether any import is declared.
+     *
+     * @return whether any import is declared
+     */
+    public boolean hasImports() {
+        return !declaredImports.isEmpty();
+    }
+
+    /**
+     * Gets the declared imports that are referenced by the scanned code, in import order.
+     * <p>
+     * Imports from {@code java.lang}, and imports from the package of the file, are never needed.
+     *
+     * @param packageName the package of the file, can be null
+     * @return the imports needed by the scanned code
+     */
+    public List<String> getUsedImports(String packageName) {
+        List<String> usedImports = new ArrayList<>(declaredImports.size());
+        for (String toImport : declaredImports) {
+            if (isImportUsed(toImport, packageName)) {
+                usedImports.add(toImport);
+            }
+        }
+        return usedImports;
+    }
+
+    private boolean isImportUsed(String toImport, String packageName) {
+        boolean isStatic = toImport.startsWith("static ");
+        String qualifiedName = isStatic ? toImport.substring("static ".length()).trim() : toImport;
+
+        int lastPeriodIndex = qualifiedName.lastIndexOf('.');
+        if (lastPeriodIndex < 0) {
+            return true;
+        }
+        String qualifier = qualifiedName.substring(0, lastPeriodIndex);
+        String simpleName = qualifiedName.substring(lastPeriodIndex + 1);
+
+        if ("*".equals(simpleName)) {
+            return true;
+        }
+        if (!isStatic && ("java.lang".equals(qualifier) || qualifier.equals(packageName))) {
+            return false;
+        }
+        return referencedNames.contains(simpleName);
+    }
+
+    /**
+     * Scans a complete line of code for referenced simple names.
+     * <p>
+     * The line is not retained, so a mutable buffer can be passed without copying.
+     *
+     * @param line the line of code
+     */
+    public void scanLine(CharSequence line) {
+        int length = line.length();
+        int index = 0;
+        while (index < length) {
+            switch (state) {
+                case BLOCK_COMMENT:
+                    index = skipComment(line, index);
+                    break;
+
+                case JAVADOC:
+                    index = scanJavadoc(line, index);
+                    break;
+
+                case TEXT_BLOCK:
+                    index = skipTextBlock(line, index);
+                    break;
+
+                default:
+                    index = scanCode(line, index);
+                    break;
+            }
+        }
+    }
+
+    private int scanCode(CharSequence line, int index) {
+        int length = line.length();
+        while (index < length) {
+            char c = line.charAt(index);
+            if (c == '/' && index + 1 < length && line.charAt(index + 1) == '/') {
+                // line comment
+                return length;
+            } else if (c == '/' && index + 1 < length && line.charAt(index + 1) == '*') {
+                boolean javadoc = index + 2 < length
+                    && line.charAt(index + 2) == '*'
+                    && !(index + 3 < length && line.charAt(index + 3) == '/');
+                state = javadoc ? ScanState.JAVADOC : ScanState.BLOCK_COMMENT;
+                return index + (javadoc ? 3 : 2);
+            } else if (c == '"') {
+                if (startsWith(line, "\"\"\"", index)) {
+                    state = ScanState.TEXT_BLOCK;
+                    return index + 3;
+                }
+                index = skipQuoted(line, index, '"');
+                lastSignificantChar = c;
+            } else if (c == '\'') {
+                index = skipQuoted(line, index, '\'');
+                lastSignificantChar = c;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int end = index + 1;
+                while (end < length && Character.isJavaIdentifierPart(line.charAt(end))) {
+                    ++end;
+                }
+                if (lastSignificantChar != '.') {
+                    referencedNames.add(line.subSequence(index, end).toString());
+                }
+                lastSignificantChar = 'a';
+                index = end;
+            } else if (Character.isDigit(c)) {
+                // numeric literal, e.g. 1L, 0x1F, 1.5e10
+                int end = index + 1;
+                while (end < length && (Character.isJavaIdentifierPart(line.charAt(end)) || line.charAt(end) == '.')) {
+                    ++end;
+                }
+                lastSignificantChar = '0';
+                index = end;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    lastSignificantChar = c;
+                }
+                ++index;
+            }
+        }
+        return index;
+    }
+
+    private static int skipQuoted(CharSequence line, int index, char quote) {
+        int length = line.length();
+        ++index;
+        while (index < length) {
+            char c = line.charAt(index);
+            if (c == '\\') {
+                index += 2;
+            } else if (c == quote) {
+                return index + 1;
+            } else {
+                ++index;
+            }
+        }
+        return length;
+    }
+
+    private int skipComment(CharSequence line, int index) {
+        int endIndex = indexOf(line, "*/", index);
+        if (endIndex < 0) {
+            return line.length();
+        }
+        state = ScanState.CODE;
+        return endIndex + 2;
+    }
+
+    private int skipTextBlock(CharSequence line, int index) {
+        int length = line.length();
+        while (index < length) {
+            char c = line.charAt(index);
+            if (c == '\\') {
+                index += 2;
+            } else if (startsWith(line, "\"\"\"", index)) {
+                state = ScanState.CODE;
+                lastSignificantChar = '"';
+                return index + 3;
+            } else {
+                ++index;
+            }
+        }
+        return length;
+    }
+
+    private int scanJavadoc(CharSequence line, int index) {
+        int endIndex = indexOf(line, "*/", index);
+        int scanEnd = endIndex < 0 ? line.length() : endIndex;
+
+        for (String tag : JAVADOC_REFERENCE_TAGS) {
+            int tagIndex = indexOf(line, tag, index);
+            while (tagIndex >= 0 && tagIndex < scanEnd) {
+                scanJavadocReference(line, tagIndex + tag.length(), scanEnd);
+                tagIndex = indexOf(line, tag, tagIndex + tag.length());
+            }
+        }
+
+        if (endIndex < 0) {
+            return line.length();
+        }
+        state = ScanState.CODE;
+        return endIndex + 2;
+    }
+
+    private void scanJavadocReference(CharSequence line, int index, int scanEnd) {
+        while (index < scanEnd && Character.isWhitespace(line.charAt(index))) {
+            ++index;
+        }
+
+        // qualifier, e.g. "Type" or "Type.Nested" in "{@link Type.Nested#method(Parameter)}"
+        index = addLeadingIdentifier(line, index, scanEnd);
+        while (index < scanEnd && (Character.isJavaIdentifierPart(line.charAt(index)) || line.charAt(index) == '.')) {
+            ++index;
+        }
+
+        // member, e.g. "#method(Parameter, Parameter)"
+        if (index < scanEnd && line.charAt(index) == '#') {
+            int parenthesisIndex = index + 1;
+            while (parenthesisIndex < scanEnd && Character.isJavaIdentifierPart(line.charAt(parenthesisIndex))) {
+                ++parenthesisIndex;
+            }
+            if (parenthesisIndex < scanEnd && line.charAt(parenthesisIndex) == '(') {
+                int closeIndex = indexOf(line, ")", parenthesisIndex);
+                int parametersEnd = closeIndex < 0 || closeIndex > scanEnd ? scanEnd : closeIndex;
+                int parameterStart = parenthesisIndex + 1;
+                while (parameterStart < parametersEnd) {
+                    int commaIndex = indexOf(line, ",", parameterStart);
+                    int parameterEnd = commaIndex < 0 || commaIndex > parametersEnd ? parametersEnd : commaIndex;
+                    int nameStart = parameterStart;
+                    while (nameStart < parameterEnd && Character.isWhitespace(line.charAt(nameStart))) {
+                        ++nameStart;
+                    }
+                    addLeadingIdentifier(line, nameStart, parameterEnd);
+                    parameterStart = parameterEnd + 1;
+                }
+            }
+        }
+    }
+
+    private int addLeadingIdentifier(CharSequence line, int index, int end) {
+        if (index < end && Character.isJavaIdentifierStart(line.charAt(index))) {
+            int identifierEnd = index + 1;
+            while (identifierEnd < end && Character.isJavaIdentifierPart(line.charAt(identifierEnd))) {
+                ++identifierEnd;
+            }
+            referencedNames.add(line.subSequence(index, identifierEnd).toString());
+            return identifierEnd;
+        }
+        return index;
+    }
+
+    private static boolean startsWith(CharSequence line, String str, int index) {
+        if (index + str.length() > line.length()) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (line.charAt(index + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence line, String str, int fromIndex) {
+        int lastIndex = line.length() - str.length();
+        for (int index = Math.max(fromIndex, 0); index <= lastIndex; index++) {
+            if (startsWith(line, str, index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the Java file content declares imports that are not referenced by its code.
+     * <p>
+     * This is a lexical check, which is much cheaper than parsing the file. It is used to skip the full
+     * {@code RemoveUnusedImports} pass for files whose imports are already precise.
+     *
+     * @param content the Java file content
+     * @return whether the file has unused imports
+     */
+    public static boolean hasUnusedImports(String content) {
+        JavaImportTracker tracker = new JavaImportTracker();
+        String packageName = null;
+        boolean inHeader = true;
+
+        int lineStart = 0;
+        int length = content.length();
+        while (lineStart <= length) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            String line = content.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+
+            if (inHeader && tracker.state == ScanState.CODE) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith("package ")) {
+                    packageName = trimmed.substring("package ".length(), trimmed.indexOf(';')).trim();
+                    continue;
+                } else if (trimmed.startsWith("import ")) {
+                    int semicolonIndex = trimmed.indexOf(';');
+                    if (semicolonIndex < 0) {
+                        // not a simple single-line import, let the full pass handle it
+                        return true;
+                    }
+                    tracker.declaredImports.add(trimmed.substring("import ".length(), semicolonIndex).trim());
+                    continue;
+                } else if (!trimmed.isEmpty() && !trimmed.startsWith("//") && !trimmed.startsWith("/*")) {
+                    inHeader = false;
+                }
+            }
+            tracker.scanLine(line);
+        }
+
+        return tracker.getUsedImports(packageName).size() != tracker.declaredImports.size();
+    }
+
+    private enum ScanState {
+        CODE, BLOCK_COMMENT, JAVADOC, TEXT_BLOCK
+    }
+}
@@ -31,6 +31,9 @@ import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Text
 import com.microsoft.typespec.http.client.generator.core.model.xmlmodel.XmlFile;
 import com.microsoft.typespec.http.client.generator.core.template.ChangelogTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ClientMethodTestTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.IJavaTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.IXmlTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.ModelBenchmarkTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ModelTestTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ProtocolSampleBlankTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ProtocolTestBaseTemplate;
@@ -43,6 +46,7 @@ import com.microsoft.typespec.http.client.generator.core.template.TestProxyAsset
 import com.microsoft.typespec.http.client.generator.core.util.ClassNameUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ConstantStringTooLongException;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.core.util.PossibleCredentialException;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -50,11 +54,16 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 public class JavaPackage {
@@ -93,15 +102,47 @@ public class JavaPackage {
         return textFiles;
     }
 
+    /**
+     * Writes the model to the context with the template, and measures the template in {@link GeneratorMetrics}.
+     *
+     * @param template the template
+     * @param model the model
+     * @param context the context, e.g. the Java file
+     * @param <ModelT> the type of the model
+     * @param <ContextT> the type of the context
+     */
+    protected final <ModelT, ContextT> void write(IJavaTemplate<ModelT, ContextT> template, ModelT model,
+        ContextT context) {
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("template", template.getClass())) {
+            template.write(model, context);
+        }
+    }
+
+    /**
+     * Writes the model to the context with the template, and measures the template in {@link GeneratorMetrics}.
+     *
+     * @param template the template
+     * @param model the model
+     * @param context the context, e.g. the XML file
+     * @param <ModelT> the type of the model
+     * @param <ContextT> the type of the context
+     */
+    protected final <ModelT, ContextT> void write(IXmlTemplate<ModelT, ContextT> template, ModelT model,
+        ContextT context) {
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("template", template.getClass())) {
+            template.write(model, context);
+        }
+    }
+
     public final void addServiceClient(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientTemplate().write(model, javaFile);
+        write(Templates.getServiceClientTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addAsyncServiceClient(String packageKeyWord, AsyncSyncClient asyncClient) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyWord, asyncClient.getClassName());
-        Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile);
+        write(Templates.getServiceAsyncClientTemplate(), asyncClient, javaFile);
         addJavaFile(javaFile);
     }
 
@@ -115,49 +156,49 @@ public class JavaPackage {
         ServiceSyncClientTemplate template = syncClientWrapAsync
             ? Templates.getServiceSyncClientWrapAsyncClientTemplate()
             : Templates.getServiceSyncClientTemplate();
-        template.write(syncClient, javaFile);
+        write(template, syncClient, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientInterface(String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
+        write(Templates.getServiceClientInterfaceTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientInterface(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
+        write(Templates.getServiceClientInterfaceTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientBuilder(ClientBuilder model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackageName(), model.getClassName());
-        Templates.getServiceClientBuilderTemplate().write(model, javaFile);
+        write(Templates.getServiceClientBuilderTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addServiceVersion(String packageKeyword, ServiceVersion serviceVersion) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, serviceVersion.getClassName());
-        Templates.getServiceVersionTemplate().write(serviceVersion, javaFile);
+        write(Templates.getServiceVersionTemplate(), serviceVersion, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroup(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupTemplate().write(model, javaFile);
+        write(Templates.getMethodGroupTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroupInterface(String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
+        write(Templates.getMethodGroupInterfaceTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroupInterface(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
+        write(Templates.getMethodGroupInterfaceTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
@@ -165,9 +206,9 @@ public class JavaPackage {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
 
         if (settings.isStreamStyleSerialization()) {
-            Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            write(Templates.getStreamStyleModelTemplate(), model, javaFile);
         } else {
-            Templates.getModelTemplate().write(model, javaFile);
+            write(Templates.getModelTemplate(), model, javaFile);
         }
 
         addJavaFile(javaFile);
@@ -175,49 +216,49 @@ public class JavaPackage {
 
     public final void addException(String packageKeyword, String name, ClientException model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getExceptionTemplate().write(model, javaFile);
+        write(Templates.getExceptionTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addEnum(String packageKeyword, String name, EnumType model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getEnumTemplate().write(model, javaFile);
+        write(Templates.getEnumTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addClientResponse(String packageKeyword, String name, ClientResponse model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getResponseTemplate().write(model, javaFile);
+        write(Templates.getResponseTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addXmlSequenceWrapper(String packageKeyword, String name, XmlSequenceWrapper model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getXmlSequenceWrapperTemplate().write(model, javaFile);
+        write(Templates.getXmlSequenceWrapperTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addUnionModel(UnionModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
-        Templates.getUnionModelTemplate().write(model, javaFile);
+        write(Templates.getUnionModelTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addPackageInfo(String packageKeyword, String name, PackageInfo model) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile(packageKeyword, name);
-        Templates.getPackageInfoTemplate().write(model, javaFile);
+        write(Templates.getPackageInfoTemplate(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addModuleInfo(ModuleInfo moduleInfo) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile("", "module-info");
-        Templates.getModuleInfoTemplate().write(moduleInfo, javaFile);
+        write(Templates.getModuleInfoTemplate(), moduleInfo, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addPom(String name, Pom pom) {
         XmlFile xmlFile = new XmlFile(name, new XmlFile.Options().setIndent(2));
-        Templates.getPomTemplate().write(pom, xmlFile);
+        write(Templates.getPomTemplate(), pom, xmlFile);
         this.checkDuplicateFile(xmlFile.getFilePath());
         xmlFiles.add(xmlFile);
     }
@@ -227,7 +268,16 @@ public class JavaPackage {
     }
 
     public final void addJavaFromResources(String packageName, String resourceName, String fileName) {
+        addJavaFromResources(packageName, resourceName, fileName, Collections.emptyList());
+    }
+
+    public final void addJavaFromResources(String packageName, String resourceName, String fileName,
+        List<String> imports) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageName, fileName);
+        if (!imports.isEmpty()) {
+            // imports of the classes that are generated in other packages
+            javaFile.declareImport(imports);
+        }
         try (InputStream inputStream = JavaPackage.class.getClassLoader().getResourceAsStream(resourceName + ".java");
             BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream))) {
             Iterator<String> linesIterator = bufferedReader.lines().iterator();
@@ -246,25 +296,72 @@ public class JavaPackage {
         javaFiles.add(javaFile);
     }
 
+    private void addJavaFiles(List<JavaFile> javaFiles) {
+        for (JavaFile javaFile : javaFiles) {
+            this.checkDuplicateFile(javaFile.getFilePath());
+            addJavaFile(javaFile);
+        }
+    }
+
+    /**
+     * Renders a Java file for each of the items, in parallel.
+     * <p>
+     * The templates of samples and tests only read the client model, hence the items can be rendered concurrently.
+     * The caller adds the files, and checks the duplicate file names, on its own thread, in the order of the returned
+     * files, so that the output does not depend on the order the files are rendered.
+     *
+     * @param items the items, e.g. the examples
+     * @param render the function that renders the Java file of the item, or returns null to skip the item
+     * @param <T> the type of the item
+     * @return the Java files, in the order of the items
+     */
+    protected final <T> List<JavaFile> renderInParallel(Collection<T> items, Function<T, JavaFile> render) {
+        return items.parallelStream().map(render).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     public void addProtocolExamples(ProtocolExample protocolExample) {
+        addJavaFiles(Collections.singletonList(writeProtocolExample(protocolExample)));
+    }
+
+    /**
+     * Adds the samples of the protocol examples. The samples are rendered in parallel.
+     *
+     * @param protocolExamples the protocol examples
+     */
+    public void addProtocolExamples(List<ProtocolExample> protocolExamples) {
+        addJavaFiles(renderInParallel(protocolExamples, this::writeProtocolExample));
+    }
+
+    private JavaFile writeProtocolExample(ProtocolExample protocolExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), protocolExample.getFilename());
-        Templates.getProtocolSampleTemplate().write(protocolExample, javaFile);
-        this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        write(Templates.getProtocolSampleTemplate(), protocolExample, javaFile);
+        return javaFile;
     }
 
     public void addClientMethodExamples(ClientMethodExample clientMethodExample) {
+        addJavaFiles(Collections.singletonList(writeClientMethodExample(clientMethodExample)));
+    }
+
+    /**
+     * Adds the samples of the client method examples. The samples are rendered in parallel.
+     *
+     * @param clientMethodExamples the client method examples
+     */
+    public void addClientMethodExamples(List<ClientMethodExample> clientMethodExamples) {
+        addJavaFiles(renderInParallel(clientMethodExamples, this::writeClientMethodExample));
+    }
+
+    private JavaFile writeClientMethodExample(ClientMethodExample clientMethodExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), clientMethodExample.getFilename());
-        Templates.getClientMethodSampleTemplate().write(clientMethodExample, javaFile);
-        this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        write(Templates.getClientMethodSampleTemplate(), clientMethodExample, javaFile);
+        return javaFile;
     }
 
     public void addProtocolExamplesBlank() {
         JavaFile javaFile = javaFileFactory.createSampleFile(settings.getPackage(), "ReadmeSamples");
-        new ProtocolSampleBlankTemplate().write(null, javaFile);
+        write(new ProtocolSampleBlankTemplate(), null, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
         addJavaFile(javaFile);
     }
@@ -272,25 +369,53 @@ public class JavaPackage {
     public void addProtocolTestBase(TestContext testContext) {
         JavaFile javaFile
             = javaFileFactory.createTestFile(testContext.getPackageName(), testContext.getTestBaseClassName());
-        ProtocolTestBaseTemplate.getInstance().write(testContext, javaFile);
+        write(ProtocolTestBaseTemplate.getInstance(), testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
         addJavaFile(javaFile);
     }
 
     public void addProtocolTest(TestContext<ProtocolExample> testContext) {
+        addJavaFiles(Collections.singletonList(writeProtocolTest(testContext)));
+    }
+
+    /**
+     * Adds the tests of the protocol examples. The tests are rendered in parallel.
+     *
+     * @param testContext the context of the tests
+     * @param protocolExamples the protocol examples
+     */
+    public void addProtocolTests(TestContext<?> testContext, List<ProtocolExample> protocolExamples) {
+        addJavaFiles(renderInParallel(protocolExamples,
+            protocolExample -> writeProtocolTest(new TestContext<>(testContext, protocolExample))));
+    }
+
+    private JavaFile writeProtocolTest(TestContext<ProtocolExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ProtocolTestTemplate.getInstance().write(testContext, javaFile);
-        this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        write(ProtocolTestTemplate.getInstance(), testContext, javaFile);
+        return javaFile;
     }
 
     public void addClientMethodTest(TestContext<ClientMethodExample> testContext) {
+        addJavaFiles(Collections.singletonList(writeClientMethodTest(testContext)));
+    }
+
+    /**
+     * Adds the tests of the client method examples. The tests are rendered in parallel.
+     *
+     * @param testContext the context of the tests
+     * @param clientMethodExamples the client method examples
+     */
+    public void addClientMethodTests(TestContext<?> testContext, List<ClientMethodExample> clientMethodExamples) {
+        addJavaFiles(renderInParallel(clientMethodExamples,
+            clientMethodExample -> writeClientMethodTest(new TestContext<>(testContext, clientMethodExample))));
+    }
+
+    private JavaFile writeClientMethodTest(TestContext<ClientMethodExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ClientMethodTestTemplate.getInstance().write(testContext, javaFile);
-        this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        write(ClientMethodTestTemplate.getInstance(), testContext, javaFile);
+        return javaFile;
     }
 
     public void addModelUnitTest(ClientModel model) {
@@ -306,7 +431,8 @@ public class JavaPackage {
             }
 
             JavaFile javaFile = javaFileFactory.createTestFile(packageName, className);
-            ModelTestTemplate.getInstance().write(new ModelTestTemplate.ModelUnitTestInfo(className, model), javaFile);
+            write(ModelTestTemplate.getInstance(), new ModelTestTemplate.ModelUnitTestInfo(className, model),
+                javaFile);
             if (!this.checkDuplicateFile(javaFile.getFilePath())) {
                 addJavaFile(javaFile);
             }
@@ -319,6 +445,25 @@ public class JavaPackage {
         }
     }
 
+    public void addModelBenchmark(ClientModel model, Object exampleBody) {
+        try {
+            final String packageName = JavaSettings.getInstance().getPackage("generated");
+
+            String className = ClassNameUtil.truncateClassName(JavaSettings.getInstance().getPackage(),
+                "src/test/java", packageName, model.getName(), "Benchmarks");
+
+            JavaFile javaFile = javaFileFactory.createTestFile(packageName, className);
+            write(ModelBenchmarkTemplate.getInstance(),
+                new ModelBenchmarkTemplate.ModelBenchmarkInfo(className, model, exampleBody), javaFile);
+            if (!this.checkDuplicateFile(javaFile.getFilePath())) {
+                addJavaFile(javaFile);
+            }
+        } catch (PossibleCredentialException e) {
+            // skip this benchmark file
+            logger.warn("Skip benchmark for model '{}', caused by key '{}'", model.getName(), e.getKeyName());
+        }
+    }
+
     public void addReadmeMarkdown(Project project) {
         TextFile textFile = new TextFile("README.md", new ReadmeTemplate().write(project));
         this.checkDuplicateFile(textFile.getFilePath());
@@ -365,7 +510,7 @@ public class JavaPackage {
         JavaFile javaFile
             = javaFileFactory.createSourceFile(settings.getPackage(settings.getImplementationSubpackage()),
                 ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-        Templates.getJsonMergePatchHelperTemplate().write(models, javaFile);
+        write(Templates.getJsonMergePatchHelperTemplate(), models, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
         addJavaFile(javaFile);
     }
@@ -68,6 +68,10 @@ public class Project {
         AZURE_IDENTITY("com.azure", "azure-identity", "1.17.0"),
         AZURE_CORE_EXPERIMENTAL("com.azure", "azure-core-experimental", "1.0.0-beta.63"),
 
+        // benchmark
+        JMH_CORE("org.openjdk.jmh", "jmh-core", "1.37"),
+        JMH_GENERATOR_ANNPROCESS("org.openjdk.jmh", "jmh-generator-annprocess", "1.37"),
+
         CLIENTCORE("io.clientcore", "core", "1.0.0-beta.11");
 
         private final String groupId;
@@ -0,0 +1,154 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.partialupdate.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Manifest of the content hash of each Java file, as it was written by the previous generation.
+ * <p>
+ * When the content of an existing file still matches the hash recorded in the manifest, the file has not been modified
+ * since it was generated. Such a file has no manual members, and partial update can use the newly generated content
+ * directly without parsing either file.
+ */
+public final class PartialUpdateManifest implements JsonSerializable<PartialUpdateManifest> {
+    /**
+     * Name of the manifest file, relative to the project base directory.
+     */
+    public static final String FILE_NAME = ".partial-update-manifest.json";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Map<String, String> fileHashes;
+
+    /**
+     * Creates a manifest.
+     *
+     * @param fileHashes the content hash of each file, keyed by file path relative to the project base directory
+     */
+    public PartialUpdateManifest(Map<String, String> fileHashes) {
+        this.fileHashes = fileHashes == null ? Collections.emptyMap() : new TreeMap<>(fileHashes);
+    }
+
+    /**
+     * Checks whether the content of the file is the same as it was when it was generated.
+     *
+     * @param filePath the file path relative to the project base directory
+     * @param content the current content of the file
+     * @return whether the content of the file is unchanged since the previous generation
+     */
+    public boolean isUnchanged(String filePath, String content) {
+        String hash = fileHashes.get(filePath);
+        return hash != null && hash.equals(computeHash(content));
+    }
+
+    /**
+     * Gets the content hash of each file, keyed by file path relative to the project base directory.
+     *
+     * @return the content hash of each file
+     */
+    public Map<String, String> getFileHashes() {
+        return Collections.unmodifiableMap(fileHashes);
+    }
+
+    /**
+     * Computes the hash of the file content. Line endings are normalized, so that the hash is stable across platforms.
+     *
+     * @param content the file content
+     * @return the SHA-256 hash of the content, as hex string
+     */
+    public static String computeHash(String content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(content.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Reads the manifest from the project base directory.
+     *
+     * @param projectBaseDirectory the project base directory
+     * @return the manifest, or an empty manifest if the file does not exist or cannot be read
+     */
+    public static PartialUpdateManifest read(Path projectBaseDirectory) {
+        Path manifestPath = projectBaseDirectory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return new PartialUpdateManifest(null);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8);
+            JsonReader jsonReader = JsonProviders.createReader(reader)) {
+            PartialUpdateManifest manifest = fromJson(jsonReader);
+            return manifest == null ? new PartialUpdateManifest(null) : manifest;
+        } catch (IOException | IllegalStateException e) {
+            // a corrupted manifest only disables the optimization
+            return new PartialUpdateManifest(null);
+        }
+    }
+
+    /**
+     * Serializes the manifest to JSON string.
+     *
+     * @return the JSON string
+     */
+    public String toJsonString() {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            toJson(jsonWriter).flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringWriter.toString();
+    }
+
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.writeStartObject();
+        jsonWriter.writeMapField("files", fileHashes, JsonWriter::writeString);
+        return jsonWriter.writeEndObject();
+    }
+
+    public static PartialUpdateManifest fromJson(JsonReader jsonReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            Map<String, String> fileHashes = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+
+                if ("files".equals(fieldName)) {
+                    fileHashes = reader.readMap(JsonReader::getString);
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new PartialUpdateManifest(fileHashes);
+        });
+    }
+}
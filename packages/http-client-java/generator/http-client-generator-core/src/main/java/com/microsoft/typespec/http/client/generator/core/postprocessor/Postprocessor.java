@@ -10,8 +10,11 @@ import com.microsoft.typespec.http.client.generator.core.extension.base.util.Fil
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
+import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateManifest;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -21,13 +24,23 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.slf4j.Logger;
 
 public class Postprocessor {
+    // the number of Java files rendered, merged and cleaned of unused imports at a time, in "lean-memory"
+    private static final int BATCH_SIZE = 256;
+
     protected final NewPlugin plugin;
     private final Logger logger;
 
@@ -99,7 +112,9 @@ public class Postprocessor {
             try {
                 Customization customization = customizationClass.getConstructor().newInstance();
                 logger.info("Running customization, this may take a while...");
-                fileContents = customization.run(fileContents, logger);
+                try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("customization")) {
+                    fileContents = customization.run(fileContents, logger);
+                }
             } catch (Exception e) {
                 logger.error("Unable to complete customization", e);
                 throw new RuntimeException("Unable to complete customization", e);
@@ -113,13 +128,146 @@ public class Postprocessor {
         }
     }
 
+    /**
+     * Post-processes the Java files in batches, so that the content of all Java files is not held in memory at once.
+     * <p>
+     * The content of each batch of Java files is rendered, merged with existing files by partial update, and cleaned of
+     * unused imports, before the next batch. The formatted files are written one at a time. If there is customization,
+     * which runs on the content of all files, the Java files are post-processed as in {@link #postProcess(Map)}.
+     *
+     * @param javaFiles the Java files. The files are removed from the list as they are rendered.
+     */
+    public void postProcessInBatches(List<JavaFile> javaFiles) {
+        if (JavaSettings.getInstance().getCustomizationClass() != null) {
+            Map<String, String> fileContents = new ConcurrentHashMap<>();
+            GeneratorMetrics.measure("java-file-contents",
+                () -> javaFiles.parallelStream()
+                    .forEach(javaFile -> fileContents.put(javaFile.getFilePath(), javaFile.getContents().toString())));
+            javaFiles.clear();
+            postProcess(fileContents);
+            return;
+        }
+
+        try {
+            writeToFilesInBatches(javaFiles, plugin, logger);
+        } catch (Exception e) {
+            logger.error("Failed to complete postprocessing.", e);
+            throw new RuntimeException("Failed to complete postprocessing.", e);
+        }
+    }
+
+    /**
+     * Writes the Java files in batches. See {@link #postProcessInBatches(List)}.
+     *
+     * @param javaFiles the Java files. The files are removed from the list as they are rendered.
+     * @param plugin the plugin to use to write the files.
+     * @param logger the logger.
+     */
+    public static void writeToFilesInBatches(List<JavaFile> javaFiles, NewPlugin plugin, Logger logger) {
+        final boolean handlePartialUpdate = JavaSettings.getInstance().isHandlePartialUpdate();
+        final Path projectBaseDirectory;
+        final PartialUpdateManifest manifest;
+        final Set<String> mergedPaths = ConcurrentHashMap.newKeySet();
+        final AtomicInteger skippedCount = new AtomicInteger();
+        if (handlePartialUpdate) {
+            logger.info("Begin handle partial update...");
+            projectBaseDirectory = getProjectBaseDirectory(plugin);
+            manifest = PartialUpdateManifest.read(projectBaseDirectory);
+        } else {
+            projectBaseDirectory = null;
+            manifest = null;
+        }
+
+        Iterator<Map<String, String>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !javaFiles.isEmpty();
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (javaFiles.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                // take the batch from the end of the list, and remove it from the list after its content is rendered
+                List<JavaFile> batch = javaFiles.subList(Math.max(0, javaFiles.size() - BATCH_SIZE), javaFiles.size());
+                Map<String, String> fileContents = new ConcurrentHashMap<>();
+                GeneratorMetrics.measure("java-file-contents",
+                    () -> batch.parallelStream()
+                        .forEach(
+                            javaFile -> fileContents.put(javaFile.getFilePath(), javaFile.getContents().toString())));
+                batch.clear();
+
+                if (handlePartialUpdate) {
+                    GeneratorMetrics.measure("partial-update", () -> mergeFiles(fileContents, projectBaseDirectory,
+                        manifest, mergedPaths, skippedCount, logger));
+                }
+                return fileContents;
+            }
+        };
+
+        // the files are written after all batches are merged, hence the merged files are known when hashes are recorded
+        Map<String, String> fileHashes = new HashMap<>();
+        CodeFormatterUtil.formatCodeInBatches(batches, plugin, logger, handlePartialUpdate
+            ? (filename, content) -> recordFileHash(fileHashes, mergedPaths, filename, content)
+            : null);
+
+        if (handlePartialUpdate) {
+            logger.info("Finish handle partial update. Merged {} files, skipped {} unchanged files.",
+                mergedPaths.size(), skippedCount.get());
+            plugin.writeFile(PartialUpdateManifest.FILE_NAME, new PartialUpdateManifest(fileHashes).toJsonString(),
+                null);
+        }
+    }
+
     public static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Logger logger) {
-        JavaSettings settings = JavaSettings.getInstance();
-        if (settings.isHandlePartialUpdate()) {
-            handlePartialUpdate(javaFiles, plugin, logger);
+        Path projectBaseDirectory
+            = JavaSettings.getInstance().isHandlePartialUpdate() ? getProjectBaseDirectory(plugin) : null;
+        writeToFiles(javaFiles, plugin, projectBaseDirectory,
+            files -> CodeFormatterUtil.formatCode(files, plugin, logger), logger);
+    }
+
+    /**
+     * Writes the files, after they are merged with existing files by partial update.
+     *
+     * @param javaFiles the files. The entry is filename and content.
+     * @param plugin the plugin to use to write the manifest of partial update.
+     * @param projectBaseDirectory the project base directory of the existing files, or null if partial update is not
+     * handled.
+     * @param formatCode formats the files and writes them, and returns the files as written.
+     * @param logger the logger.
+     */
+    static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Path projectBaseDirectory,
+        Function<Map<String, String>, List<Map.Entry<String, String>>> formatCode, Logger logger) {
+        Set<String> mergedPaths = ConcurrentHashMap.newKeySet();
+        if (projectBaseDirectory != null) {
+            GeneratorMetrics.measure("partial-update",
+                () -> handlePartialUpdate(javaFiles, projectBaseDirectory, mergedPaths, logger));
         }
 
-        CodeFormatterUtil.formatCode(javaFiles, plugin, logger);
+        List<Map.Entry<String, String>> formattedFiles = formatCode.apply(javaFiles);
+
+        if (projectBaseDirectory != null) {
+            Map<String, String> fileHashes = new HashMap<>();
+            for (Map.Entry<String, String> file : formattedFiles) {
+                recordFileHash(fileHashes, mergedPaths, file.getKey(), file.getValue());
+            }
+            plugin.writeFile(PartialUpdateManifest.FILE_NAME, new PartialUpdateManifest(fileHashes).toJsonString(),
+                null);
+        }
+    }
+
+    /*
+     * Records the hash of the content as written, so that next generation can skip merging the file if it is unchanged.
+     *
+     * The hash is not recorded for a file merged with the existing file, as its content can include manual members.
+     * Such a file is merged again by next generation, otherwise the manual members would be overwritten.
+     */
+    private static void recordFileHash(Map<String, String> fileHashes, Set<String> mergedPaths, String filename,
+        String content) {
+        if (!mergedPaths.contains(filename)) {
+            fileHashes.put(filename, PartialUpdateManifest.computeHash(content));
+        }
     }
 
     private static String getReadme(NewPlugin plugin) {
@@ -190,39 +338,74 @@ public class Postprocessor {
         }
     }
 
-    private static void handlePartialUpdate(Map<String, String> fileContents, NewPlugin plugin, Logger logger) {
+    private static void handlePartialUpdate(Map<String, String> fileContents, Path projectBaseDirectory,
+        Set<String> mergedPaths, Logger logger) {
         logger.info("Begin handle partial update...");
+        final PartialUpdateManifest manifest = PartialUpdateManifest.read(projectBaseDirectory);
+
+        AtomicInteger skippedCount = new AtomicInteger();
+        mergeFiles(fileContents, projectBaseDirectory, manifest, mergedPaths, skippedCount, logger);
+        logger.info("Finish handle partial update. Merged {} files, skipped {} unchanged files.", mergedPaths.size(),
+            skippedCount.get());
+    }
+
+    private static Path getProjectBaseDirectory(NewPlugin plugin) {
+        // get existing file path
+        // use output-folder from autorest, if exists and is absolute path
+        String projectBaseDirectoryPath = null;
+        String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
+        if (Paths.get(outputFolderPath).isAbsolute()) {
+            projectBaseDirectoryPath = outputFolderPath;
+        }
+        if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
+            // use parent directory of swagger/readme.md
+            projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
+        }
+        return Paths.get(projectBaseDirectoryPath);
+    }
+
+    private static void mergeFiles(Map<String, String> fileContents, Path projectBaseDirectory,
+        PartialUpdateManifest manifest, Set<String> mergedPaths, AtomicInteger skippedCount, Logger logger) {
         // handle partial update
         // currently only support add additional interface or overload a generated method in sync and async client
-        fileContents.replaceAll((path, generatedFileContent) -> {
-            if (path.endsWith(".java")) { // only handle for .java file
-                // get existing file path
-                // use output-folder from autorest, if exists and is absolute path
-                String projectBaseDirectoryPath = null;
-                String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
-                if (Paths.get(outputFolderPath).isAbsolute()) {
-                    projectBaseDirectoryPath = outputFolderPath;
-                }
-                if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
-                    // use parent directory of swagger/readme.md
-                    projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
-                }
-                Path existingFilePath = Paths.get(projectBaseDirectoryPath, path);
-                // check if existingFile exists, if not, no need to handle partial update
-                if (Files.exists(existingFilePath)) {
-                    try {
-                        String existingFileContent = Files.readString(existingFilePath);
-                        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
-                            existingFileContent);
-                    } catch (IOException e) {
-                        logger.error("Unable to get content from file path", e);
-                        throw new UncheckedIOException(e);
-                    }
-                }
+        // files are independent of each other, hence the merge is done in parallel
+        Map<String, String> mergedFileContents = new ConcurrentHashMap<>();
+        fileContents.entrySet().parallelStream().forEach(entry -> {
+            String path = entry.getKey();
+            String generatedFileContent = entry.getValue();
+            if (!path.endsWith(".java")) { // only handle for .java file
+                return;
+            }
+
+            Path existingFilePath = projectBaseDirectory.resolve(path);
+            // check if existingFile exists, if not, no need to handle partial update
+            if (!Files.exists(existingFilePath)) {
+                return;
+            }
+
+            String existingFileContent;
+            try {
+                existingFileContent = Files.readString(existingFilePath);
+            } catch (IOException e) {
+                logger.error("Unable to get content from file path", e);
+                throw new UncheckedIOException(e);
+            }
+
+            // the existing file is unchanged since the previous generation, hence it has no manual members
+            // the manifest has no hash of a file merged by the previous generation, hence such file is always merged
+            if (existingFileContent.equals(generatedFileContent) || manifest.isUnchanged(path, existingFileContent)) {
+                skippedCount.incrementAndGet();
+                return;
+            }
+
+            String mergedFileContent
+                = PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, existingFileContent);
+            mergedFileContents.put(path, mergedFileContent);
+            if (!mergedFileContent.equals(generatedFileContent)) {
+                mergedPaths.add(path);
             }
-            return generatedFileContent;
         });
-        logger.info("Finish handle partial update.");
+        fileContents.putAll(mergedFileContents);
     }
 
     private static void attemptMavenInstall(Path pomPath) {
@@ -8,7 +8,10 @@ import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.RemoveUnusedImports;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaImportTracker;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -17,10 +20,12 @@ import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
@@ -34,11 +39,17 @@ public final class CodeFormatterUtil {
      *
      * @param files The files to format.
      * @param plugin The plugin to use to write the formatted files.
+     * @return the files after format, as written. The entry is filename and content.
      */
-    public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger) {
-        for (Map.Entry<String, String> file : formatCodeInternal(files.entrySet(), logger)) {
-            plugin.writeFile(file.getKey(), file.getValue(), null);
+    public static List<Map.Entry<String, String>> formatCode(Map<String, String> files, NewPlugin plugin,
+        Logger logger) {
+        List<Map.Entry<String, String>> formattedFiles = formatCodeInternal(files.entrySet(), logger);
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("write-files")) {
+            for (Map.Entry<String, String> file : formattedFiles) {
+                plugin.writeFile(file.getKey(), file.getValue(), null);
+            }
         }
+        return formattedFiles;
     }
 
     /**
@@ -54,29 +65,71 @@ public final class CodeFormatterUtil {
             .collect(Collectors.toList());
     }
 
-    @SuppressWarnings("DataFlowIssue")
-    private static List<Map.Entry<String, String>> formatCodeInternal(Collection<Map.Entry<String, String>> files,
-        Logger logger) {
-        // First step to formatting code is to use the in-memory Google Java Formatter to remove unused imports.
-        files = removeUnusedImports(files, logger);
-
+    /**
+     * Formats the given files in batches, by removing unused imports and applying Eclipse code formatting, and writes
+     * the formatted files.
+     * <p>
+     * Only the content of a single batch is held in memory. The unused imports of each batch are removed, and the batch
+     * is written to the temporary directory. Spotless formats the temporary directory once after all batches, then the
+     * formatted files are read and written one at a time.
+     *
+     * @param batches The batches of the files to format. The entry is filename and content.
+     * @param plugin The plugin to use to write the formatted files.
+     * @param logger The logger.
+     * @param writtenFileConsumer The consumer of each file after format, as written. It is called with filename and
+     * content. It can be null.
+     */
+    public static void formatCodeInBatches(Iterator<Map<String, String>> batches, NewPlugin plugin, Logger logger,
+        BiConsumer<String, String> writtenFileConsumer) {
         try {
             Path tmpDir = FileUtils.createTempDirectory("spotless" + UUID.randomUUID());
 
-            for (Map.Entry<String, String> javaFile : files) {
-                Path file = tmpDir.resolve(javaFile.getKey());
-                Files.createDirectories(file.getParent());
-                Files.writeString(file, javaFile.getValue());
+            List<String> filenames = new ArrayList<>();
+            while (batches.hasNext()) {
+                Map<String, String> batch = batches.next();
+                Collection<Map.Entry<String, String>> files
+                    = GeneratorMetrics.measure("unused-imports", () -> removeUnusedImports(batch.entrySet(), logger));
+                try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("format")) {
+                    writeFilesToDirectory(tmpDir, files);
+                }
+                for (Map.Entry<String, String> file : files) {
+                    filenames.add(file.getKey());
+                }
             }
 
-            Path pomPath = tmpDir.resolve("spotless-pom.xml");
-            Files.copy(CodeFormatterUtil.class.getClassLoader().getResourceAsStream("readme/pom.xml"), pomPath);
-            Files.copy(
-                CodeFormatterUtil.class.getClassLoader()
-                    .getResourceAsStream("readme/eclipse-format-azure-sdk-for-java.xml"),
-                pomPath.resolveSibling("eclipse-format-azure-sdk-for-java.xml"));
+            try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("format")) {
+                formatDirectory(tmpDir);
+            }
 
-            attemptMavenSpotless(pomPath);
+            try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("write-files")) {
+                for (String filename : filenames) {
+                    String content = Files.readString(tmpDir.resolve(filename));
+                    plugin.writeFile(filename, content, null);
+                    if (writtenFileConsumer != null) {
+                        writtenFileConsumer.accept(filename, content);
+                    }
+                }
+            }
+
+            // only delete the temporary directory if all files were formatted successfully
+            Utils.deleteDirectory(tmpDir.toFile());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<Map.Entry<String, String>>
+        formatCodeInternal(Collection<Map.Entry<String, String>> generatedFiles, Logger logger) {
+        // First step to formatting code is to use the in-memory Google Java Formatter to remove unused imports.
+        Collection<Map.Entry<String, String>> files
+            = GeneratorMetrics.measure("unused-imports", () -> removeUnusedImports(generatedFiles, logger));
+
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("format")) {
+            Path tmpDir = FileUtils.createTempDirectory("spotless" + UUID.randomUUID());
+
+            writeFilesToDirectory(tmpDir, files);
+
+            formatDirectory(tmpDir);
 
             List<Map.Entry<String, String>> formattedFiles = new ArrayList<>(files.size());
             for (Map.Entry<String, String> javaFile : files) {
@@ -93,6 +146,27 @@ public final class CodeFormatterUtil {
         }
     }
 
+    private static void writeFilesToDirectory(Path directory, Collection<Map.Entry<String, String>> files)
+        throws IOException {
+        for (Map.Entry<String, String> javaFile : files) {
+            Path file = directory.resolve(javaFile.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, javaFile.getValue());
+        }
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static void formatDirectory(Path directory) throws IOException {
+        Path pomPath = directory.resolve("spotless-pom.xml");
+        Files.copy(CodeFormatterUtil.class.getClassLoader().getResourceAsStream("readme/pom.xml"), pomPath);
+        Files.copy(
+            CodeFormatterUtil.class.getClassLoader()
+                .getResourceAsStream("readme/eclipse-format-azure-sdk-for-java.xml"),
+            pomPath.resolveSibling("eclipse-format-azure-sdk-for-java.xml"));
+
+        attemptMavenSpotless(pomPath);
+    }
+
     /*
      * In previous iterations of code formatting, we let Spotless use Google Java Formatter to remove unused imports.
      * This worked well when code was valid, but when there were errors Spotless would halt processing on the first
@@ -107,20 +181,35 @@ public final class CodeFormatterUtil {
      * allows us to control error handling by processing all files, in-memory (much faster than letting Spotless run
      * Google Java Formatter), and capturing all issues before attempting Spotless formatting (which now excludes
      * unused import removal).
+     *
+     * JavaFile now only writes the imports referenced by its code. Google Java Formatter, which fully parses the file,
+     * is only run on files where a lexical check finds unused imports, e.g. files merged by partial update or modified
+     * by customization. When "validate-unused-imports" is enabled, it is run on every file, and any file where it
+     * removes imports that the lexical check missed is reported.
      */
     private static List<Map.Entry<String, String>> removeUnusedImports(Collection<Map.Entry<String, String>> files,
         Logger logger) {
         List<Map.Entry<String, String>> updatedFiles = new ArrayList<>(files.size());
+        boolean validate = JavaSettings.getInstance().isValidateUnusedImports();
 
         // Tracker for errors encountered while running Google Java Formatter.
         StringBuilder errorCapture = new StringBuilder();
 
         for (Map.Entry<String, String> file : files) {
             String content = file.getValue();
+            boolean hasUnusedImports = JavaImportTracker.hasUnusedImports(content);
+            if (!hasUnusedImports && !validate) {
+                updatedFiles.add(new AbstractMap.SimpleEntry<>(file.getKey(), content));
+                continue;
+            }
+
             try {
                 // Use Google Java Formatter to remove unused imports.
-                updatedFiles.add(
-                    new AbstractMap.SimpleEntry<>(file.getKey(), RemoveUnusedImports.removeUnusedImports(content)));
+                String updatedContent = RemoveUnusedImports.removeUnusedImports(content);
+                if (!hasUnusedImports && logger != null && !updatedContent.equals(content)) {
+                    logger.warn("Unused imports in file '{}' are not detected by import tracking.", file.getKey());
+                }
+                updatedFiles.add(new AbstractMap.SimpleEntry<>(file.getKey(), updatedContent));
             } catch (FormatterException ex) {
                 String[] fileLines = content.split("\n");
                 // Capture the error message and continue processing other files.
@@ -3,13 +3,12 @@
 
 package com.microsoft.typespec.http.client.generator.core.preprocessor.namer;
 
+import com.microsoft.typespec.http.client.generator.core.util.NameCache;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.atteo.evo.inflector.English;
 
 public class CodeNamer {
@@ -18,9 +17,22 @@ public class CodeNamer {
     private static final Set<String> RESERVED_WORDS;
     private static final Set<String> RESERVED_WORDS_CLASSES;
 
-    private static final Pattern CASE_SPLIT = Pattern.compile("[_\\- ]");
+    // character class tables of the ASCII characters, non-ASCII characters fall back to the Character methods
+    private static final boolean[] CASE_SEPARATORS = new boolean[128];
+    private static final boolean[] LETTERS_OR_DIGITS = new boolean[128];
+
+    private static final Predicate<Character> ALLOW_UNDERSCORE_AND_HYPHEN = c -> c == '_' || c == '-';
+    private static final Predicate<Character> ALLOW_NONE = c -> false;
 
     static {
+        // the separators of the words, in camel case and Pascal case
+        CASE_SEPARATORS['_'] = true;
+        CASE_SEPARATORS['-'] = true;
+        CASE_SEPARATORS[' '] = true;
+        for (char c = 0; c < 128; c++) {
+            LETTERS_OR_DIGITS[c] = Character.isLetterOrDigit(c);
+        }
+
         BASIC_LATIN_CHARACTERS = new String[128];
         BASIC_LATIN_CHARACTERS[32] = "Space";
         BASIC_LATIN_CHARACTERS[33] = "ExclamationMark";
@@ -84,6 +96,11 @@ public class CodeNamer {
     private CodeNamer() {
     }
 
+    // the cache of the namer factory, so that a namer factory can replace the cache of the names
+    private static NameCache nameCache() {
+        return com.microsoft.typespec.http.client.generator.core.util.CodeNamer.getNameCache();
+    }
+
     public static String getBasicLatinCharacter(char c) {
         if (c >= 128) {
             return null;
@@ -93,28 +110,39 @@ public class CodeNamer {
     }
 
     public static String toCamelCase(String name) {
+        return nameCache().getName(NameCache.Kind.CAMEL_CASE, name, CodeNamer::convertToCamelCase);
+    }
+
+    private static String convertToCamelCase(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
 
         // Remove leading underscores.
         if (name.charAt(0) == '_') {
-            return toCamelCase(name.substring(1));
-        }
-
-        String[] splits = CASE_SPLIT.split(name);
-        if (splits.length == 0) {
-            return "";
+            return convertToCamelCase(name.substring(1));
         }
 
-        splits[0] = formatCase(splits[0], true);
-        for (int i = 1; i != splits.length; i++) {
-            splits[i] = formatCase(splits[i], false);
+        // the first word is lower case, the following words are upper case
+        StringBuilder sb = new StringBuilder(name.length());
+        int wordStart = 0;
+        int nameLength = name.length();
+        for (int i = 0; i <= nameLength; i++) {
+            if (i == nameLength || isCaseSeparator(name.charAt(i))) {
+                if (i > wordStart) {
+                    sb.append(formatCase(name.substring(wordStart, i), wordStart == 0));
+                }
+                wordStart = i + 1;
+            }
         }
-        return String.join("", splits);
+        return sb.toString();
     }
 
     public static String toPascalCase(String name) {
+        return nameCache().getName(NameCache.Kind.PASCAL_CASE, name, CodeNamer::convertToPascalCase);
+    }
+
+    private static String convertToPascalCase(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
@@ -125,10 +153,18 @@ public class CodeNamer {
             return '_' + toCamelCase(name.substring(1));
         }
 
-        return CASE_SPLIT.splitAsStream(name)
-            .filter(s -> s != null && !s.isEmpty())
-            .map(s -> formatCase(s, false))
-            .collect(Collectors.joining());
+        StringBuilder sb = new StringBuilder(name.length());
+        int wordStart = 0;
+        int nameLength = name.length();
+        for (int i = 0; i <= nameLength; i++) {
+            if (i == nameLength || isCaseSeparator(name.charAt(i))) {
+                if (i > wordStart) {
+                    sb.append(formatCase(name.substring(wordStart, i), false));
+                }
+                wordStart = i + 1;
+            }
+        }
+        return sb.toString();
     }
 
     public static String escapeXmlComment(String comment) {
@@ -193,7 +229,8 @@ public class CodeNamer {
     }
 
     public static String removeInvalidCharacters(String name) {
-        return getValidName(name, c -> c == '_' || c == '-');
+        return nameCache().getName(NameCache.Kind.REMOVE_INVALID_CHARACTERS, name,
+            n -> getValidName(n, ALLOW_UNDERSCORE_AND_HYPHEN));
     }
 
     /**
@@ -203,7 +240,7 @@ public class CodeNamer {
      * @return The valid name.
      */
     public static String getValidName(String name) {
-        return getValidName(name, c -> false);
+        return nameCache().getName(NameCache.Kind.VALID_NAME, name, n -> getValidName(n, ALLOW_NONE));
     }
 
     /**
@@ -243,48 +280,53 @@ public class CodeNamer {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
-        return getEscapedReservedNameAndClasses(toPascalCase(removeInvalidCharacters(name)), "Client");
+        return nameCache().getName(NameCache.Kind.CLIENT_NAME, name,
+            n -> getEscapedReservedNameAndClasses(toPascalCase(removeInvalidCharacters(n)), "Client"));
     }
 
     public static String getTypeName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
-        return getEscapedReservedNameAndClasses(toPascalCase(removeInvalidCharacters(name)), "Model");
+        return nameCache().getName(NameCache.Kind.TYPE_NAME, name,
+            n -> getEscapedReservedNameAndClasses(toPascalCase(removeInvalidCharacters(n)), "Model"));
     }
 
     public static String getParameterName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
-        return getEscapedReservedName(toCamelCase(removeInvalidCharacters(name)), "Parameter");
+        return nameCache().getName(NameCache.Kind.PARAMETER_NAME, name,
+            n -> getEscapedReservedName(toCamelCase(removeInvalidCharacters(n)), "Parameter"));
     }
 
     public static String getPropertyName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
-        return getEscapedReservedName(toCamelCase(removeInvalidCharacters(name)), "Property");
+        return nameCache().getName(NameCache.Kind.PROPERTY_NAME, name,
+            n -> getEscapedReservedName(toCamelCase(removeInvalidCharacters(n)), "Property"));
     }
 
     public static String getMethodGroupName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
-        name = toPascalCase(name);
-        return getEscapedReservedName(name, "Operation");
+        return nameCache().getName(NameCache.Kind.METHOD_GROUP_NAME, name,
+            n -> getEscapedReservedName(toPascalCase(n), "Operation"));
     }
 
     public static String getPlural(String name) {
         if (name != null && !name.isEmpty() && !name.endsWith("s") && !name.endsWith("S")) {
-            name = English.plural(name);
+            // the inflection rules of evo-inflector are regular expressions, evaluated in order
+            name = nameCache().getName(NameCache.Kind.PLURAL, name, English::plural);
         }
         return name;
     }
 
     public static String getMethodName(String name) {
-        name = toCamelCase(name);
-        return getEscapedReservedName(name, "Method");
+        return nameCache().getName(NameCache.Kind.METHOD_NAME, name,
+            n -> getEscapedReservedName(toCamelCase(n), "Method"));
     }
 
     public static String getEscapedReservedName(String name, String appendValue) {
@@ -320,7 +362,7 @@ public class CodeNamer {
 
         for (int i = 0; i < nameLength; i++) {
             char c = name.charAt(i);
-            if (!Character.isLetterOrDigit(c) && !allowedCharacterMatcher.test(c)) {
+            if (!isLetterOrDigit(c) && !allowedCharacterMatcher.test(c)) {
                 if (sb == null) {
                     sb = new StringBuilder(nameLength);
                 }
@@ -341,4 +383,12 @@ public class CodeNamer {
         sb.append(name, prevStart, nameLength);
         return sb.toString();
     }
+
+    private static boolean isCaseSeparator(char c) {
+        return c < 128 && CASE_SEPARATORS[c];
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return c < 128 ? LETTERS_OR_DIGITS[c] : Character.isLetterOrDigit(c);
+    }
 }
@@ -35,6 +35,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.extensi
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,30 +49,46 @@ import java.util.stream.Stream;
 public class Transformer {
 
     public CodeModel transform(CodeModel codeModel) {
-        renameCodeModel(codeModel);
-        transformSchemas(codeModel.getSchemas());
+        List<TransformerPass<CodeModel>> passes = new ArrayList<>();
+        passes.add(TransformerPass.ofCodeModel("rename-code-model", cm -> {
+            renameCodeModel(cm);
+            return cm;
+        }));
+        passes.add(TransformerPass.ofCodeModel("schemas", cm -> {
+            transformSchemas(cm.getSchemas());
+            return cm;
+        }));
         if (JavaSettings.getInstance().getClientFlattenAnnotationTarget()
             == JavaSettings.ClientFlattenAnnotationTarget.NONE) {
-            markFlattenedSchemas(codeModel);
+            passes.add(TransformerPass.ofCodeModel("flattened-schemas", cm -> {
+                markFlattenedSchemas(cm);
+                return cm;
+            }));
         }
-        if (codeModel.getGlobalParameters() != null) {
-            for (Parameter parameter : codeModel.getGlobalParameters()) {
-                if (parameter.getLanguage().getJava() == null) {
-                    renameVariable(parameter);
+        passes.add(TransformerPass.ofCodeModel("global-parameters", cm -> {
+            if (cm.getGlobalParameters() != null) {
+                for (Parameter parameter : cm.getGlobalParameters()) {
+                    if (parameter.getLanguage().getJava() == null) {
+                        renameVariable(parameter);
+                    }
                 }
             }
-        }
-        // multi-clients for TypeSpec
-        if (!CoreUtils.isNullOrEmpty(codeModel.getClients())) {
-            transformClients(codeModel.getClients());
-        } else {
-            transformOperationGroups(codeModel.getOperationGroups(), codeModel);
-        }
-
+            return cm;
+        }));
+        passes.add(TransformerPass.ofCodeModel("operation-groups", cm -> {
+            // multi-clients for TypeSpec
+            if (!CoreUtils.isNullOrEmpty(cm.getClients())) {
+                transformClients(cm.getClients());
+            } else {
+                transformOperationGroups(cm);
+            }
+            return cm;
+        }));
         // process "rename-model" option
-        codeModel = new SchemaRenamer(JavaSettings.getInstance().getJavaNamesForRenameModel()).process(codeModel);
+        passes.add(TransformerPass.ofCodeModel("rename-model",
+            new SchemaRenamer(JavaSettings.getInstance().getJavaNamesForRenameModel())::process));
 
-        return codeModel;
+        return new TransformerPipeline<>(passes).run(codeModel);
     }
 
     private void transformSchemas(Schemas schemas) {
@@ -137,7 +154,7 @@ public class Transformer {
             }
 
             if (client.getOperationGroups() != null) {
-                transformOperationGroups(client.getOperationGroups(), client);
+                transformOperationGroups(client);
             }
 
             if (client.getGlobalParameters() != null) {
@@ -150,82 +167,119 @@ public class Transformer {
         }
     }
 
-    private void transformOperationGroups(List<OperationGroup> operationGroups, Client codeModel) {
-        List<Operation> pagingOperations = new ArrayList<>();
-        for (OperationGroup operationGroup : operationGroups) {
-            operationGroup.setCodeModel(codeModel);
-            renameMethodGroup(operationGroup);
-            for (Operation operation : operationGroup.getOperations()) {
-                operation.setOperationGroup(operationGroup);
-                renameMethod(operation);
-                if (operation.getConvenienceApi() != null) {
-                    renameMethod(operation.getConvenienceApi());
-                    if (operation.getConvenienceApi().getRequests() != null) {
-                        for (Request request : operation.getConvenienceApi().getRequests()) {
-                            for (Parameter parameter : request.getParameters()) {
-                                parameter.setOperation(operation);
-                                renameVariable(parameter);
-                            }
-                        }
-                    }
+    private void transformOperationGroups(Client client) {
+        List<TransformerPass<Client>> passes = new ArrayList<>();
+        // as the other passes read the back references, they are set first, one operation group at a time, as an
+        // operation can be in more than one operation group
+        passes.add(TransformerPass.ofOperationGroup("back-references", EnumSet.noneOf(TransformerPass.Part.class),
+            EnumSet.of(TransformerPass.Part.OPERATION_GROUPS), operationGroup -> {
+                operationGroup.setCodeModel(client);
+                for (Operation operation : operationGroup.getOperations()) {
+                    operation.setOperationGroup(operationGroup);
                 }
-                for (Request request : operation.getRequests()) {
-                    Stream<Parameter> newParameters
-                        = Stream.concat(operation.getParameters().stream(), request.getParameters().stream());
-                    request.setParameters(newParameters.collect(Collectors.toList()));
-                    Stream<Parameter> newSignatureParameters = Stream
-                        .concat(operation.getSignatureParameters().stream(), request.getSignatureParameters().stream());
-                    if (!JavaSettings.getInstance().isDataPlaneClient()) {
-                        // For DPG, grouping or flattening has no effect on the protocol method.
-                        // For convenience method, it would be handled in "operation.getConvenienceApi()".
-                        newSignatureParameters = newSignatureParameters.filter(param -> param.getGroupedBy() == null);
-                    }
-                    request.setSignatureParameters(newSignatureParameters.collect(Collectors.toList()));
-                    for (int i = 0; i < request.getParameters().size(); i++) {
-                        Parameter parameter = request.getParameters().get(i);
+            }));
+        // an operation can be in more than one operation group, hence the names of the operations are renamed one
+        // operation group at a time
+        passes.add(TransformerPass.ofOperationGroup("operation-names",
+            EnumSet.of(TransformerPass.Part.OPERATION_GROUPS), EnumSet.of(TransformerPass.Part.OPERATION_GROUPS),
+            this::renameOperations));
+        // parameters can be shared between operations of different operation groups, e.g. the global parameters,
+        // and an operation can be in more than one operation group
+        passes.add(TransformerPass.ofOperationGroup("operation-parameters",
+            EnumSet.of(TransformerPass.Part.PARAMETERS, TransformerPass.Part.OPERATION_GROUPS),
+            EnumSet.of(TransformerPass.Part.PARAMETERS, TransformerPass.Part.OPERATION_GROUPS),
+            this::transformParameters));
+        // paging adds next page operations, and operation groups
+        passes.add(TransformerPass.ofCodeModel("paging-operations", c -> {
+            addPagingNextOperations(c);
+            return c;
+        }));
+
+        new TransformerPipeline<>(passes).run(client);
+    }
+
+    private void renameOperations(OperationGroup operationGroup) {
+        renameMethodGroup(operationGroup);
+        for (Operation operation : operationGroup.getOperations()) {
+            renameMethod(operation);
+            if (operation.getConvenienceApi() != null) {
+                renameMethod(operation.getConvenienceApi());
+            }
+        }
+    }
+
+    private void transformParameters(OperationGroup operationGroup) {
+        for (Operation operation : operationGroup.getOperations()) {
+            if (operation.getConvenienceApi() != null && operation.getConvenienceApi().getRequests() != null) {
+                for (Request request : operation.getConvenienceApi().getRequests()) {
+                    for (Parameter parameter : request.getParameters()) {
                         parameter.setOperation(operation);
                         renameVariable(parameter);
-                        // add Content-Length for Flux<ByteBuffer> if not already present
-                        JavaSettings settings = JavaSettings.getInstance();
-                        if (!settings.isDataPlaneClient()) {
-                            if (parameter.getSchema() instanceof BinarySchema) {
-                                if (request.getParameters()
-                                    .stream()
-                                    .noneMatch(p -> p.getProtocol() != null
-                                        && p.getProtocol().getHttp() != null
-                                        && p.getProtocol().getHttp().getIn() == RequestParameterLocation.HEADER
-                                        && "content-length"
-                                            .equalsIgnoreCase(p.getLanguage().getDefault().getSerializedName()))) {
-                                    Parameter contentLength = createContentLengthParameter(operation, parameter);
-                                    // put contentLength parameter before input body
-                                    request.getParameters().add(++i, contentLength);
-                                    request.getSignatureParameters()
-                                        .add(request.getSignatureParameters().indexOf(parameter) + 1, contentLength);
-                                }
+                    }
+                }
+            }
+            for (Request request : operation.getRequests()) {
+                Stream<Parameter> newParameters
+                    = Stream.concat(operation.getParameters().stream(), request.getParameters().stream());
+                request.setParameters(newParameters.collect(Collectors.toList()));
+                Stream<Parameter> newSignatureParameters = Stream
+                    .concat(operation.getSignatureParameters().stream(), request.getSignatureParameters().stream());
+                if (!JavaSettings.getInstance().isDataPlaneClient()) {
+                    // For DPG, grouping or flattening has no effect on the protocol method.
+                    // For convenience method, it would be handled in "operation.getConvenienceApi()".
+                    newSignatureParameters = newSignatureParameters.filter(param -> param.getGroupedBy() == null);
+                }
+                request.setSignatureParameters(newSignatureParameters.collect(Collectors.toList()));
+                for (int i = 0; i < request.getParameters().size(); i++) {
+                    Parameter parameter = request.getParameters().get(i);
+                    parameter.setOperation(operation);
+                    renameVariable(parameter);
+                    // add Content-Length for Flux<ByteBuffer> if not already present
+                    JavaSettings settings = JavaSettings.getInstance();
+                    if (!settings.isDataPlaneClient()) {
+                        if (parameter.getSchema() instanceof BinarySchema) {
+                            if (request.getParameters()
+                                .stream()
+                                .noneMatch(p -> p.getProtocol() != null
+                                    && p.getProtocol().getHttp() != null
+                                    && p.getProtocol().getHttp().getIn() == RequestParameterLocation.HEADER
+                                    && "content-length"
+                                        .equalsIgnoreCase(p.getLanguage().getDefault().getSerializedName()))) {
+                                Parameter contentLength = createContentLengthParameter(operation, parameter);
+                                // put contentLength parameter before input body
+                                request.getParameters().add(++i, contentLength);
+                                request.getSignatureParameters()
+                                    .add(request.getSignatureParameters().indexOf(parameter) + 1, contentLength);
                             }
                         }
                     }
-                    renameOdataParameterNames(request);
-                    deduplicateParameterNames(request);
                 }
+                renameOdataParameterNames(request);
+                deduplicateParameterNames(request);
+            }
 
-                if (operation.getConvenienceApi() != null
-                    && !CoreUtils.isNullOrEmpty(operation.getConvenienceApi().getRequests())) {
-                    for (Request request : operation.getConvenienceApi().getRequests()) {
-                        renameOdataParameterNames(request);
-                    }
+            if (operation.getConvenienceApi() != null
+                && !CoreUtils.isNullOrEmpty(operation.getConvenienceApi().getRequests())) {
+                for (Request request : operation.getConvenienceApi().getRequests()) {
+                    renameOdataParameterNames(request);
                 }
+            }
+        }
+    }
 
+    private void addPagingNextOperations(Client client) {
+        List<Operation> pagingOperations = new ArrayList<>();
+        for (OperationGroup operationGroup : client.getOperationGroups()) {
+            for (Operation operation : operationGroup.getOperations()) {
                 if (operation.getExtensions() != null && operation.getExtensions().getXmsPageable() != null) {
                     pagingOperations.add(operation);
                 }
             }
         }
 
-        // paging
         for (Operation operation : pagingOperations) {
             if (nonNullNextLink(operation)) {
-                addPagingNextOperation(codeModel, operation.getOperationGroup(), operation);
+                addPagingNextOperation(client, operation.getOperationGroup(), operation);
             }
         }
     }
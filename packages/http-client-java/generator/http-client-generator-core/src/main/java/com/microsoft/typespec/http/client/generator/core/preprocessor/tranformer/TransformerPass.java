@@ -0,0 +1,175 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A pass of the transformer, run by {@link TransformerPipeline}.
+ * <p>
+ * A pass either processes the whole code model (or client), or processes its operation groups one at a time. A pass
+ * on the whole code model may read and write anything, and is run alone. A pass on operation groups may read and write
+ * the operation group in process, and its operations, requests and responses. It declares the parts of the code model
+ * shared between operation groups that it reads and writes, and it does not add or remove operation groups.
+ *
+ * @param <T> the type of the code model, or the client
+ */
+public final class TransformerPass<T extends Client> {
+
+    /**
+     * The parts of the code model that can be shared between operation groups.
+     */
+    public enum Part {
+        /**
+         * The code model and the clients, e.g. their names.
+         */
+        CODE_MODEL,
+
+        /**
+         * The schemas.
+         */
+        SCHEMAS,
+
+        /**
+         * The operation groups and operations other than the one in process, including the responses and extensions
+         * that a next page operation shares with its operation.
+         */
+        OPERATION_GROUPS,
+
+        /**
+         * The parameters, which can be shared between operations, e.g. the global parameters.
+         */
+        PARAMETERS
+    }
+
+    private final String name;
+    private final String stageName;
+    private final Set<Part> reads;
+    private final Set<Part> writes;
+    private final UnaryOperator<T> codeModelAction;
+    private final Consumer<OperationGroup> operationGroupAction;
+
+    private TransformerPass(String name, Set<Part> reads, Set<Part> writes, UnaryOperator<T> codeModelAction,
+        Consumer<OperationGroup> operationGroupAction) {
+        this.name = Objects.requireNonNull(name, "'name' cannot be null.");
+        this.stageName = "transform." + name;
+        this.reads = reads;
+        this.writes = writes;
+        this.codeModelAction = codeModelAction;
+        this.operationGroupAction = operationGroupAction;
+    }
+
+    /**
+     * Creates a pass on the whole code model.
+     *
+     * @param name the name of the pass
+     * @param action the action of the pass, which returns the code model processed
+     * @param <T> the type of the code model, or the client
+     * @return the pass
+     */
+    public static <T extends Client> TransformerPass<T> ofCodeModel(String name, UnaryOperator<T> action) {
+        Set<Part> all = Collections.unmodifiableSet(EnumSet.allOf(Part.class));
+        return new TransformerPass<>(name, all, all, Objects.requireNonNull(action, "'action' cannot be null."),
+            null);
+    }
+
+    /**
+     * Creates a pass on operation groups.
+     *
+     * @param name the name of the pass
+     * @param reads the parts of the code model shared between operation groups that the pass reads
+     * @param writes the parts of the code model shared between operation groups that the pass writes
+     * @param action the action of the pass on an operation group
+     * @param <T> the type of the code model, or the client
+     * @return the pass
+     */
+    public static <T extends Client> TransformerPass<T> ofOperationGroup(String name, Set<Part> reads,
+        Set<Part> writes, Consumer<OperationGroup> action) {
+        return new TransformerPass<>(name, Collections.unmodifiableSet(copyOf(reads)),
+            Collections.unmodifiableSet(copyOf(writes)), null,
+            Objects.requireNonNull(action, "'action' cannot be null."));
+    }
+
+    /**
+     * Gets the name of the pass.
+     *
+     * @return the name of the pass
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the parts of the code model shared between operation groups that the pass reads.
+     *
+     * @return the parts of the code model that the pass reads
+     */
+    public Set<Part> getReads() {
+        return reads;
+    }
+
+    /**
+     * Gets the parts of the code model shared between operation groups that the pass writes.
+     *
+     * @return the parts of the code model that the pass writes
+     */
+    public Set<Part> getWrites() {
+        return writes;
+    }
+
+    /**
+     * Whether the pass processes operation groups one at a time.
+     *
+     * @return whether the pass processes operation groups one at a time
+     */
+    public boolean isOperationGroupPass() {
+        return operationGroupAction != null;
+    }
+
+    /**
+     * Whether the operation groups can be processed in parallel by the pass, i.e. the pass does not write any part of
+     * the code model shared between operation groups.
+     *
+     * @return whether the operation groups can be processed in parallel
+     */
+    public boolean isParallel() {
+        return isOperationGroupPass() && writes.isEmpty();
+    }
+
+    /**
+     * Whether the result depends on the order of this pass and the other pass, on different operation groups. It is
+     * the case if one pass writes a shared part of the code model that the other pass reads or writes.
+     *
+     * @param other the other pass
+     * @return whether the passes conflict
+     */
+    public boolean conflictsWith(TransformerPass<T> other) {
+        return !Collections.disjoint(writes, other.reads)
+            || !Collections.disjoint(writes, other.writes)
+            || !Collections.disjoint(reads, other.writes);
+    }
+
+    String getStageName() {
+        return stageName;
+    }
+
+    T process(T codeModel) {
+        return codeModelAction.apply(codeModel);
+    }
+
+    void process(OperationGroup operationGroup) {
+        operationGroupAction.accept(operationGroup);
+    }
+
+    private static Set<Part> copyOf(Set<Part> parts) {
+        return parts.isEmpty() ? EnumSet.noneOf(Part.class) : EnumSet.copyOf(parts);
+    }
+}
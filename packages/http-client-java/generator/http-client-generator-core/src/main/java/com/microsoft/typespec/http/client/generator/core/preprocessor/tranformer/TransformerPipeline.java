@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the passes of the transformer, in order.
+ * <p>
+ * Adjacent passes on operation groups are fused into one stage, which processes each operation group by all the passes
+ * of the stage, in one traversal of the operation groups. Passes are fused only if they do not conflict on the parts of
+ * the code model shared between operation groups (see {@link TransformerPass#conflictsWith(TransformerPass)}), so that
+ * the result is the same as running them one after another. A stage of passes that do not write any shared part is run
+ * on the operation groups in parallel. A pass that can run in parallel is not fused with a pass that cannot.
+ * <p>
+ * Each pass is measured in {@link GeneratorMetrics}, as stage "transform.&lt;name of the pass&gt;".
+ *
+ * @param <T> the type of the code model, or the client
+ */
+public final class TransformerPipeline<T extends Client> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransformerPipeline.class);
+
+    private final List<List<TransformerPass<T>>> stages;
+
+    /**
+     * Creates the pipeline of the passes.
+     *
+     * @param passes the passes, in order
+     */
+    public TransformerPipeline(List<TransformerPass<T>> passes) {
+        this.stages = fuse(passes);
+    }
+
+    /**
+     * Gets the stages of the pipeline. Each stage is either a pass on the whole code model, or the passes on operation
+     * groups that are fused into one traversal.
+     *
+     * @return the stages of the pipeline
+     */
+    public List<List<TransformerPass<T>>> getStages() {
+        return stages;
+    }
+
+    /**
+     * Runs the passes on the code model.
+     *
+     * @param codeModel the code model, or the client
+     * @return the code model processed
+     */
+    public T run(T codeModel) {
+        for (List<TransformerPass<T>> stage : stages) {
+            TransformerPass<T> firstPass = stage.get(0);
+            if (!firstPass.isOperationGroupPass()) {
+                try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start(firstPass.getStageName())) {
+                    codeModel = firstPass.process(codeModel);
+                }
+            } else if (codeModel.getOperationGroups() != null) {
+                List<OperationGroup> operationGroups = new ArrayList<>(codeModel.getOperationGroups());
+                if (firstPass.isParallel() && operationGroups.size() > 1) {
+                    LOGGER.debug("Run passes {} on {} operation groups in parallel", names(stage),
+                        operationGroups.size());
+                    operationGroups.parallelStream().forEach(operationGroup -> process(stage, operationGroup));
+                } else {
+                    LOGGER.debug("Run passes {} on {} operation groups", names(stage), operationGroups.size());
+                    operationGroups.forEach(operationGroup -> process(stage, operationGroup));
+                }
+            }
+        }
+        return codeModel;
+    }
+
+    private static <T extends Client> void process(List<TransformerPass<T>> stage, OperationGroup operationGroup) {
+        for (TransformerPass<T> pass : stage) {
+            try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start(pass.getStageName())) {
+                pass.process(operationGroup);
+            }
+        }
+    }
+
+    private static <T extends Client> List<List<TransformerPass<T>>> fuse(List<TransformerPass<T>> passes) {
+        List<List<TransformerPass<T>>> stages = new ArrayList<>();
+        List<TransformerPass<T>> stage = null;
+        for (TransformerPass<T> pass : passes) {
+            if (stage != null && canFuse(stage, pass)) {
+                stage.add(pass);
+            } else {
+                stage = new ArrayList<>();
+                stage.add(pass);
+                stages.add(stage);
+            }
+        }
+        return stages.stream().map(Collections::unmodifiableList).collect(Collectors.toUnmodifiableList());
+    }
+
+    private static <T extends Client> boolean canFuse(List<TransformerPass<T>> stage, TransformerPass<T> pass) {
+        TransformerPass<T> firstPass = stage.get(0);
+        return firstPass.isOperationGroupPass()
+            && pass.isOperationGroupPass()
+            && firstPass.isParallel() == pass.isParallel()
+            && stage.stream().noneMatch(pass::conflictsWith);
+    }
+
+    private static <T extends Client> List<String> names(List<TransformerPass<T>> stage) {
+        return stage.stream().map(TransformerPass::getName).collect(Collectors.toList());
+    }
+}
@@ -35,8 +35,8 @@ public class ClientMethodSampleTemplate implements IJavaTemplate<ClientMethodExa
         ClientInitializationExampleWriter clientInitializationExampleWriter
             = new ClientInitializationExampleWriter(syncClient, method, proxyMethodExample, serviceClient);
 
-        ClientMethodExampleWriter clientMethodExampleWriter = new ClientMethodExampleWriter(method,
-            clientInitializationExampleWriter.getClientVarName(), proxyMethodExample);
+        ClientMethodExampleWriter clientMethodExampleWriter = new ClientMethodExampleWriter(clientMethodExample,
+            clientInitializationExampleWriter.getClientVarName());
 
         // declare imports
         Set<String> imports = new HashSet<>();
@@ -35,6 +35,8 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaInt
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
@@ -639,11 +641,12 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
     }
 
     private static void requestOptionsSetHeaderIfAbsent(JavaBlock function, String expression, String headerName) {
+        // the constant is written by TemplateUtil.writeClientMethodsAndHelpers
+        String httpHeaderName = ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(headerName);
         function.line("requestOptionsLocal.addRequestCallback(requestLocal -> {");
-        function.indent(() -> function.ifBlock(
-            "requestLocal.getHeaders().get(HttpHeaderName.fromString(\"" + headerName + "\")) == null",
-            ifBlock -> function.line("requestLocal.getHeaders().set(HttpHeaderName.fromString(\"" + headerName + "\"), "
-                + expression + ");")));
+        function.indent(() -> function.ifBlock("requestLocal.getHeaders().get(" + httpHeaderName + ") == null",
+            ifBlock -> function
+                .line("requestLocal.getHeaders().set(" + httpHeaderName + ", " + expression + ");")));
         function.line("});");
     }
 
@@ -802,13 +805,13 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                     addQueryParameterReInjectionLogic(nextLinkReInjection, function);
                 }
 
-                function.line("return new PagedIterable<>(");
+                function.line("return " + pagedCollectionCreation(clientMethod, "PagedIterable", settings));
                 function.indent(() -> {
                     function.line("%s,",
                         this.getPagingSinglePageExpression(clientMethod,
                             clientMethod.getProxyMethod().getPagingSinglePageMethodName(),
                             clientMethod.getArgumentList(), settings));
-                    function.line("%s);",
+                    function.line("%s" + pagedCollectionCreationEnd(clientMethod, settings),
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -846,10 +849,10 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                             function.line("});");
                         } else {
                             // HEADER
-                            function.line("requestOptionsLocal.setHeader(HttpHeaderName.fromString("
-                                + ClassType.STRING.defaultValueExpression(
+                            function.line("requestOptionsLocal.setHeader("
+                                + ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(
                                     continuationToken.getRequestParameter().getRequestParameterName())
-                                + "), String.valueOf(pagingOptions.getContinuationToken()));");
+                                + ", String.valueOf(pagingOptions.getContinuationToken()));");
                         }
                     });
                     function.methodReturn(methodName + "(" + argumentLine + ")");
@@ -921,8 +924,10 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                     MethodPageDetails.ContinuationToken continuationToken
                         = clientMethod.getMethodPageDetails().getContinuationToken();
                     if (continuationToken.getResponseHeaderSerializedName() != null) {
-                        function.line("res.getHeaders().getValue(HttpHeaderName.fromString(" + ClassType.STRING
-                            .defaultValueExpression(continuationToken.getResponseHeaderSerializedName()) + ")),");
+                        function.line("res.getHeaders().getValue("
+                            + ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(
+                                continuationToken.getResponseHeaderSerializedName())
+                            + "),");
                     } else if (continuationToken.getResponsePropertyReference() != null) {
                         StringBuilder continuationTokenExpression = new StringBuilder("res.getValue()");
                         for (ModelPropertySegment propertySegment : continuationToken.getResponsePropertyReference()) {
@@ -1005,7 +1010,7 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                             + TemplateUtil.getContextNone() + ");");
                 }
 
-                function.line("return new PagedIterable<>(");
+                function.line("return " + pagedCollectionCreation(clientMethod, "PagedIterable", settings));
 
                 String nextMethodArgs = clientMethod.getMethodPageDetails()
                     .getNextMethod()
@@ -1015,7 +1020,7 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.indent(() -> {
                     function.line("%s,", this.getPagingSinglePageExpression(clientMethod,
                         clientMethod.getProxyMethod().getPagingSinglePageMethodName(), firstPageArgs, settings));
-                    function.line("%s);",
+                    function.line("%s" + pagedCollectionCreationEnd(clientMethod, settings),
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -1055,7 +1060,7 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                     addQueryParameterReInjectionLogic(reinjectedParams, function);
                 }
 
-                function.line("return new PagedFlux<>(");
+                function.line("return " + pagedCollectionCreation(clientMethod, "PagedFlux", settings));
                 function.indent(() -> {
                     function.line(this.getPagingSinglePageExpression(clientMethod,
                         clientMethod.getProxyMethod().getPagingAsyncSinglePageMethodName(),
@@ -1065,7 +1070,8 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                             .getNextMethod()
                             .getProxyMethod()
                             .getPagingAsyncSinglePageMethodName(),
-                        clientMethod.getMethodPageDetails().getNextMethod().getArgumentList(), settings) + ");");
+                        clientMethod.getMethodPageDetails().getNextMethod().getArgumentList(), settings)
+                        + pagedCollectionCreationEnd(clientMethod, settings));
                 });
             });
         } else {
@@ -1083,6 +1089,36 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         typeBlock.annotation("ServiceMethod(returns = ReturnType." + returnType.name() + ")");
     }
 
+    /**
+     * Gets the start of the expression that creates the paged collection of a paging method with next link. When
+     * "paging-prefetch-depth" is configured, the PagingPrefetchHelper class creates it.
+     *
+     * @param clientMethod the paging method
+     * @param pagedCollectionType the type of the paged collection, "PagedIterable" or "PagedFlux"
+     * @param settings the Java settings
+     * @return the start of the expression, up to the first argument
+     */
+    protected static String pagedCollectionCreation(ClientMethod clientMethod, String pagedCollectionType,
+        JavaSettings settings) {
+        return MethodUtil.isPagingPrefetch(clientMethod, settings)
+            ? ClientModelUtil.PAGING_PREFETCH_HELPER_CLASS_NAME + ".create" + pagedCollectionType + "("
+            : "new " + pagedCollectionType + "<>(";
+    }
+
+    /**
+     * Gets the end of the expression that creates the paged collection of a paging method with next link.
+     *
+     * @param clientMethod the paging method
+     * @param settings the Java settings
+     * @return the end of the expression, after the last argument
+     * @see #pagedCollectionCreation(ClientMethod, String, JavaSettings)
+     */
+    protected static String pagedCollectionCreationEnd(ClientMethod clientMethod, JavaSettings settings) {
+        return MethodUtil.isPagingPrefetch(clientMethod, settings)
+            ? ", " + settings.getPagingPrefetchDepth() + ");"
+            : ");";
+    }
+
     protected void addQueryParameterReInjectionLogic(MethodPageDetails.NextLinkReInjection nextLinkReInjection,
         JavaBlock javaBlock) {
         javaBlock.line("if (requestOptions != null) {");
@@ -33,9 +33,8 @@ public class ClientMethodTestTemplate implements IJavaTemplate<TestContext<Clien
         ProtocolTestWriter writer = new ProtocolTestWriter(testContext);
         ClientMethodExample clientMethodExample = testContext.getTestCase();
         ClientMethod clientMethod = clientMethodExample.getClientMethod();
-        ClientMethodExampleWriter caseWriter = new ClientMethodExampleWriter(clientMethod,
-            CodeNamer.toCamelCase(clientMethodExample.getSyncClient().getClassName()),
-            clientMethodExample.getProxyMethodExample());
+        ClientMethodExampleWriter caseWriter = new ClientMethodExampleWriter(clientMethodExample,
+            CodeNamer.toCamelCase(clientMethodExample.getSyncClient().getClassName()));
 
         Set<String> imports = writer.getImports();
         clientMethod.getReturnValue().getType().addImportsTo(imports, false);
@@ -94,6 +94,39 @@ abstract class ConvenienceMethodTemplateBase {
             });
     }
 
+    /**
+     * Collects the names of the headers that the convenience methods set on RequestOptions, and that are not known
+     * names of HttpHeaderName, so that the HttpHeaderName of the header is a static variable in the class.
+     * See {@link ModelTemplateHeaderHelper#getHttpHeaderNameConstantExpression(String)}
+     *
+     * @param convenienceMethodObj the convenience methods of a protocol method.
+     * @param httpHeaderNames the names of the headers.
+     */
+    public void addHttpHeaderNames(ConvenienceMethod convenienceMethodObj, Set<String> httpHeaderNames) {
+        if (!isMethodIncluded(convenienceMethodObj)) {
+            return;
+        }
+
+        ClientMethod protocolMethod = convenienceMethodObj.getProtocolMethod();
+        convenienceMethodObj.getConvenienceMethods()
+            .stream()
+            .filter(this::isMethodIncluded)
+            .forEach(convenienceMethod -> {
+                // this is coupled with writeHeader in writeMethodImplementation
+                findParametersForConvenienceMethod(convenienceMethod, protocolMethod)
+                    .forEach((parameter, protocolParameter) -> {
+                        ProxyMethodParameter proxyMethodParameter = parameter.getProxyMethodParameter();
+                        if (protocolParameter == null
+                            && proxyMethodParameter != null
+                            && proxyMethodParameter.getOrigin() != ParameterSynthesizedOrigin.CONTEXT
+                            && proxyMethodParameter.getRequestParameterLocation() == RequestParameterLocation.HEADER
+                            && !ModelTemplateHeaderHelper.isKnownHttpHeaderName(parameter.getSerializedName())) {
+                            httpHeaderNames.add(parameter.getSerializedName());
+                        }
+                    });
+            });
+    }
+
     /**
      * Write the implementation of the convenience method.
      *
@@ -595,7 +628,7 @@ abstract class ConvenienceMethodTemplateBase {
     private static void writeHeader(MethodParameter parameter, JavaBlock methodBlock) {
         Consumer<JavaBlock> writeLine
             = javaBlock -> javaBlock.line(String.format("requestOptions.setHeader(%1$s, %2$s);",
-                ModelTemplateHeaderHelper.getHttpHeaderNameInstanceExpression(parameter.getSerializedName()),
+                ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(parameter.getSerializedName()),
                 expressionConvertToString(parameter.getName(), parameter.getClientMethodParameter().getWireType(),
                     parameter.getProxyMethodParameter())));
         if (!parameter.getClientMethodParameter().isRequired()) {
@@ -132,9 +132,10 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
     protected void writeServiceProxyConstruction(JavaBlock constructor, MethodGroupClient methodGroupClient) {
         ClassType proxyType = ClassType.REST_PROXY;
         if (JavaSettings.getInstance().isAzureV1()) {
-            constructor.line(String.format(
-                "this.service = %1$s.create(%2$s.class, client.getHttpPipeline(), client.getSerializerAdapter());",
-                proxyType.getName(), methodGroupClient.getProxy().getName()));
+            constructor.line("this.service = " + Templates.getProxyTemplate()
+                .getServiceInstantiation(methodGroupClient.getProxy(), "client.getHttpPipeline()",
+                    "client.getSerializerAdapter()")
+                + ";");
         } else {
             constructor.line(String.format("this.service = %1$s.create(%2$s.class, client.getHttpPipeline());",
                 proxyType.getName(), methodGroupClient.getProxy().getName()));
@@ -0,0 +1,245 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleHelperFeature;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleNode;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.template.example.ModelExampleWriter;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.ModelExampleUtil;
+import com.microsoft.typespec.http.client.generator.core.util.ModelTestCaseUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class ModelBenchmarkTemplate implements IJavaTemplate<ModelBenchmarkTemplate.ModelBenchmarkInfo, JavaFile> {
+
+    private static final ModelBenchmarkTemplate INSTANCE = new ModelBenchmarkTemplate();
+
+    // the length of a string constant in a class file is limited to 2^16 bytes in UTF-8 encoding,
+    // a chunk of 8192 chars is within the limit, even if every char is escaped as "\\uXXXX"
+    private static final int PAYLOAD_CHUNK_SIZE = 8192;
+
+    private static final List<String> JMH_ANNOTATIONS = Arrays.asList("org.openjdk.jmh.annotations.Benchmark",
+        "org.openjdk.jmh.annotations.BenchmarkMode", "org.openjdk.jmh.annotations.Fork",
+        "org.openjdk.jmh.annotations.Measurement", "org.openjdk.jmh.annotations.Mode",
+        "org.openjdk.jmh.annotations.OutputTimeUnit", "org.openjdk.jmh.annotations.Scope",
+        "org.openjdk.jmh.annotations.Setup", "org.openjdk.jmh.annotations.State",
+        "org.openjdk.jmh.annotations.Warmup");
+
+    private ModelBenchmarkTemplate() {
+    }
+
+    public static ModelBenchmarkTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    public static final class ModelBenchmarkInfo {
+        private final String className;
+        private final ClientModel model;
+        private final Object exampleBody;
+
+        /**
+         * Creates the info of the benchmark of the model.
+         *
+         * @param className the class name of the benchmark.
+         * @param model the client model to benchmark.
+         * @param exampleBody the example body of the model, from the examples of the service. If null, a payload is
+         * composed according to the structure of the model.
+         */
+        public ModelBenchmarkInfo(String className, ClientModel model, Object exampleBody) {
+            this.className = className;
+            this.model = model;
+            this.exampleBody = exampleBody;
+        }
+    }
+
+    /**
+     * Checks whether the model can be benchmarked.
+     *
+     * @param model the client model.
+     * @param settings the Java settings.
+     * @return whether the model can be benchmarked.
+     */
+    public static boolean canBenchmark(ClientModel model, JavaSettings settings) {
+        if (model.isStronglyTypedHeader()
+            || ClientModelUtil.isExternalModel(model.getType())
+            || ClientModelUtil.isMultipartModel(model)
+            || (model.getImplementationDetails() != null
+                && model.getImplementationDetails().getUsages() != null
+                && model.getImplementationDetails().getUsages().contains(ImplementationDetails.Usage.OPTIONS_GROUP))) {
+            // no serialization code
+            return false;
+        }
+        // XML benchmark initializes the model in code
+        return model.getXmlName() == null || !ClientModelUtil.isImmutableOutputModel(model, settings);
+    }
+
+    /**
+     * Write the JMH benchmark of the JSON (or XML) serialization / de-serialization of the model.
+     * <p>
+     * The benchmark measures throughput. Run JMH with "-prof gc" for the allocation per operation.
+     *
+     * @param benchmarkInfo the info, which include the client model to benchmark.
+     * @param javaFile the java file.
+     * @throws com.microsoft.typespec.http.client.generator.core.util.PossibleCredentialException
+     * thrown when there is no example of the model, and there is possible mock value to a secret property.
+     */
+    @Override
+    public void write(ModelBenchmarkInfo benchmarkInfo, JavaFile javaFile) {
+        String className = benchmarkInfo.className;
+        ClientModel model = benchmarkInfo.model;
+        Object jsonObject
+            = benchmarkInfo.exampleBody != null ? benchmarkInfo.exampleBody : ModelTestCaseUtil.jsonFromModel(model);
+
+        Set<String> imports = new HashSet<>(JMH_ANNOTATIONS);
+        model.addImportsTo(imports, JavaSettings.getInstance());
+        imports.add(ByteArrayOutputStream.class.getName());
+        imports.add(TimeUnit.class.getName());
+
+        if (model.getXmlName() != null) {
+            writeXmlBenchmark(className, model, jsonObject, imports, javaFile);
+        } else {
+            writeJsonBenchmark(className, model, jsonObject, imports, javaFile);
+        }
+    }
+
+    private static void writeJsonBenchmark(String className, ClientModel model, Object jsonObject,
+        Set<String> imports, JavaFile javaFile) {
+        String jsonStr;
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            jsonWriter.writeUntyped(jsonObject).flush();
+            jsonStr = outputStream.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize Map to JSON string", e);
+        }
+
+        imports.add(IOException.class.getName());
+        imports.add(JsonProviders.class.getName());
+        ClassType.JSON_READER.addImportsTo(imports, false);
+        ClassType.JSON_WRITER.addImportsTo(imports, false);
+        javaFile.declareImport(imports);
+
+        writeClass(javaFile, className, classBlock -> {
+            classBlock.privateStaticFinalVariable("String JSON = " + stringExpression(jsonStr));
+            classBlock.privateMemberVariable(model.getName(), "model");
+
+            classBlock.annotation("Setup");
+            classBlock.publicMethod("void setup() throws IOException", methodBlock -> {
+                methodBlock.line("model = fromJson();");
+            });
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod(model.getName() + " fromJson() throws IOException", methodBlock -> {
+                methodBlock.line("try (JsonReader jsonReader = JsonProviders.createReader(JSON)) {");
+                methodBlock.indent(() -> methodBlock.line("return " + model.getName() + ".fromJson(jsonReader);"));
+                methodBlock.line("}");
+            });
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod("byte[] toJson() throws IOException", methodBlock -> {
+                methodBlock.line("ByteArrayOutputStream outputStream = new ByteArrayOutputStream();");
+                methodBlock.line("try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {");
+                methodBlock.indent(() -> methodBlock.line("model.toJson(jsonWriter);"));
+                methodBlock.line("}");
+                methodBlock.methodReturn("outputStream.toByteArray()");
+            });
+        });
+    }
+
+    private static void writeXmlBenchmark(String className, ClientModel model, Object jsonObject,
+        Set<String> imports, JavaFile javaFile) {
+        ExampleNode exampleNode = ModelExampleUtil.parseNode(model.getType(), jsonObject);
+        ModelExampleWriter writer = new ModelExampleWriter(exampleNode, "model");
+        imports.addAll(writer.getImports());
+
+        imports.add("javax.xml.stream.XMLStreamException");
+        imports.add(StandardCharsets.class.getName());
+        ClassType.XML_READER.addImportsTo(imports, false);
+        ClassType.XML_WRITER.addImportsTo(imports, false);
+        javaFile.declareImport(imports);
+
+        writeClass(javaFile, className, classBlock -> {
+            classBlock.privateMemberVariable(model.getName(), "model");
+            classBlock.privateMemberVariable("String", "xml");
+
+            classBlock.annotation("Setup");
+            classBlock.publicMethod("void setup() throws XMLStreamException", methodBlock -> {
+                methodBlock.line("model = " + writer.getModelInitializationCode() + ";");
+                methodBlock.line("xml = new String(toXml(), StandardCharsets.UTF_8);");
+            });
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod(model.getName() + " fromXml() throws XMLStreamException", methodBlock -> {
+                methodBlock.line("try (XmlReader xmlReader = XmlReader.fromString(xml)) {");
+                methodBlock.indent(() -> methodBlock.line("return " + model.getName() + ".fromXml(xmlReader);"));
+                methodBlock.line("}");
+            });
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod("byte[] toXml() throws XMLStreamException", methodBlock -> {
+                methodBlock.line("ByteArrayOutputStream outputStream = new ByteArrayOutputStream();");
+                methodBlock.line("try (XmlWriter xmlWriter = XmlWriter.toStream(outputStream)) {");
+                methodBlock.indent(() -> {
+                    methodBlock.line("xmlWriter.writeStartDocument();");
+                    methodBlock.line("model.toXml(xmlWriter);");
+                    methodBlock.line("xmlWriter.flush();");
+                });
+                methodBlock.line("}");
+                methodBlock.methodReturn("outputStream.toByteArray()");
+            });
+
+            if (writer.getHelperFeatures().contains(ExampleHelperFeature.MapOfMethod)) {
+                ModelExampleWriter.writeMapOfMethod(classBlock);
+            }
+        });
+    }
+
+    private static void writeClass(JavaFile javaFile, String className, Consumer<JavaClass> classAction) {
+        // JMH generates subclasses of the benchmark class, hence it is not final
+        javaFile.annotation("BenchmarkMode(Mode.Throughput)", "OutputTimeUnit(TimeUnit.SECONDS)",
+            "Warmup(iterations = 3, time = 1)", "Measurement(iterations = 5, time = 1)", "Fork(1)",
+            "State(Scope.Benchmark)");
+        javaFile.publicClass(null, className, classAction);
+    }
+
+    /*
+     * The payload as String expression. Payload longer than a chunk is joined from the chunks at class initialization,
+     * as a String constant of that size would cause compiler "constant string too long" error.
+     */
+    private static String stringExpression(String str) {
+        if (str.length() <= PAYLOAD_CHUNK_SIZE) {
+            return ClassType.STRING.defaultValueExpression(str);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < str.length()) {
+            int end = Math.min(start + PAYLOAD_CHUNK_SIZE, str.length());
+            if (end < str.length() && Character.isHighSurrogate(str.charAt(end - 1))) {
+                // not split the surrogate pair
+                --end;
+            }
+            chunks.add(ClassType.STRING.defaultValueExpression(str.substring(start, end)));
+            start = end;
+        }
+        return "String.join(\"\", " + String.join(", ", chunks) + ")";
+    }
+}
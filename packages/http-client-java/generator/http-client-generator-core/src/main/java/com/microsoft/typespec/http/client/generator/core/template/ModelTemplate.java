@@ -20,6 +20,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Gener
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
@@ -181,8 +182,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     }
                     classBlock.method(methodVisibility, null,
                         propertyClientType + " " + getGetterName(model, property) + "()",
-                        methodBlock -> addGetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings));
+                        methodBlock -> addGetterMethod(propertyWireType, propertyClientType, model, property,
+                            treatAsXml, methodBlock, settings));
                 }
 
                 if (ClientModelUtil.needsPublicSetter(property, settings) && !immutableModel) {
@@ -192,16 +193,16 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     classBlock.method(JavaVisibility.Public, null,
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
-                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, model, property,
+                            treatAsXml, methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
                 } else if (ClientModelUtil.needsPackagePrivateSetter(model, property, settings, streamStyle)) {
                     generateSetterJavadoc(classBlock, model, property);
                     addGeneratedAnnotation(classBlock);
                     classBlock.method(JavaVisibility.PackagePrivate, null,
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
-                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, model, property,
+                            treatAsXml, methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
                 }
 
                 // If the property is additional properties, and stream-style serialization isn't being used, add a
@@ -447,9 +448,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             imports.add(JacksonAdapter.class.getName());
         }
 
-        String lastParentName = model.getName();
-        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
             // implementation code of stream-style serialization refs to the element type of the Map
             for (ClientModelProperty parentProperty : parentModel.getProperties()) {
                 if (parentProperty.isAdditionalProperties()) {
@@ -458,12 +457,19 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
 
             imports.addAll(parentModel.getImports());
-            lastParentName = parentModel.getName();
-            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
         }
 
         addGeneratedImport(imports);
 
+        // the getter that caches the converted value of a List returns a copy of the List
+        for (ClientModelProperty property : model.getProperties()) {
+            if (property.getClientType() instanceof ListType
+                && getConvertedValueFieldName(model, property, settings) != null) {
+                imports.add(ArrayList.class.getName());
+                imports.add(Collectors.class.getName());
+            }
+        }
+
         if (model.isUsedInXml()) {
             // Used in XML getter of unwrapped arrays
             imports.add(Collections.class.getName());
@@ -595,6 +601,16 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
     private void addProperties(ClientModelPropertiesManager propertiesManager, JavaClass classBlock) {
         for (ClientModelProperty property : getFieldProperties(propertiesManager)) {
             addProperty(property, propertiesManager.getModel(), classBlock, propertiesManager.getSettings());
+
+            String convertedValueFieldName = getConvertedValueFieldName(propertiesManager.getModel(), property,
+                propertiesManager.getSettings());
+            if (convertedValueFieldName != null) {
+                classBlock.blockComment(comment -> comment
+                    .line("The " + property.getName() + " property, converted from the wire type on first access."));
+                addGeneratedAnnotation(classBlock);
+                classBlock.privateMemberVariable(
+                    "volatile " + property.getWireType().getClientType() + " " + convertedValueFieldName);
+            }
         }
     }
 
@@ -948,6 +964,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                                         property.getWireType().defaultValueExpression()))
                                 .elseBlock(elseBlock -> elseBlock.line("this.%s = %s;", property.getName(),
                                     property.getWireType().convertFromClientType(property.getName())));
+                            // the cache of the converted value is left empty, as the getter converts from the wire
+                            // value, which can differ from the value passed, e.g. truncated to seconds
                         } else {
                             constructor.line("this." + property.getName() + " = "
                                 + property.getWireType().convertFromClientType(property.getName()) + ";");
@@ -1049,13 +1067,14 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      *
      * @param propertyWireType The property wire type.
      * @param propertyClientType The client property type.
+     * @param model The model.
      * @param property The property.
      * @param treatAsXml Whether the getter should treat the property as XML.
      * @param methodBlock Where the getter method is being added.
      * @param settings Java settings.
      */
-    private static void addGetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings) {
+    private static void addGetterMethod(IType propertyWireType, IType propertyClientType, ClientModel model,
+        ClientModelProperty property, boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings) {
         String sourceTypeName = propertyWireType.toString();
         String targetTypeName = propertyClientType.toString();
         String expression = "this." + property.getName();
@@ -1095,6 +1114,13 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                 methodBlock.methodReturn(expression);
             }
         } else {
+            String convertedValueFieldName = getConvertedValueFieldName(model, property, settings);
+            if (convertedValueFieldName != null) {
+                addCachedConversionGetterMethod(propertyWireType, propertyClientType, convertedValueFieldName,
+                    expression, methodBlock);
+                return;
+            }
+
             // If the wire type was null, return null as the returned conversion could, and most likely would, result
             // in a NullPointerException.
             if (propertyWireType.isNullable()) {
@@ -1109,18 +1135,104 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         }
     }
 
+    /**
+     * Adds the body of a getter method that converts the wire type to the client type on the first call, and caches
+     * the converted value.
+     * <p>
+     * The cache is a volatile field. Concurrent first calls may convert the value more than once, but each of them
+     * publishes a fully converted value. A byte[] or a List is copied on every call, as the caller may modify it.
+     *
+     * @param propertyWireType The property wire type.
+     * @param propertyClientType The client property type.
+     * @param convertedValueFieldName The name of the field that caches the converted value.
+     * @param expression The expression of the wire type value.
+     * @param methodBlock Where the getter method is being added.
+     */
+    private static void addCachedConversionGetterMethod(IType propertyWireType, IType propertyClientType,
+        String convertedValueFieldName, String expression, JavaBlock methodBlock) {
+        methodBlock.line("%s convertedValue = this.%s;", propertyClientType, convertedValueFieldName);
+        methodBlock.ifBlock("convertedValue == null", ifBlock -> {
+            if (propertyWireType.isNullable()) {
+                ifBlock.ifBlock(expression + " == null",
+                    nullBlock -> nullBlock.methodReturn(propertyClientType.defaultValueExpression()));
+            }
+            ifBlock.line("convertedValue = %s;", propertyWireType.convertToClientType(expression));
+            ifBlock.line("this.%s = convertedValue;", convertedValueFieldName);
+        });
+
+        if (propertyClientType == ArrayType.BYTE_ARRAY) {
+            methodBlock.methodReturn("convertedValue.clone()");
+        } else if (propertyClientType instanceof ListType) {
+            if (((ListType) propertyClientType).getElementType() == ArrayType.BYTE_ARRAY) {
+                methodBlock.methodReturn("convertedValue.stream().map(el -> el.clone()).collect(Collectors.toList())");
+            } else {
+                methodBlock.methodReturn("new ArrayList<>(convertedValue)");
+            }
+        } else {
+            methodBlock.methodReturn("convertedValue");
+        }
+    }
+
+    /**
+     * Gets the name of the field that caches the value of the property converted from the wire type, if the getter
+     * caches it.
+     * <p>
+     * The getter caches the converted value of unix time, duration and base64url types, and of List of these types.
+     * Other conversions are either cheap, e.g. DateTimeRfc1123 wraps an OffsetDateTime, or produce a value that cannot
+     * be safely shared.
+     * <p>
+     * The name of the field is the name of the property with the suffix "Converted", and a number if the model has a
+     * property of that name.
+     *
+     * @param model The model.
+     * @param property The property.
+     * @param settings Java settings.
+     * @return The name of the field that caches the converted value, or null if the getter does not cache it.
+     */
+    private static String getConvertedValueFieldName(ClientModel model, ClientModelProperty property,
+        JavaSettings settings) {
+        if (!settings.isCacheWireTypeConversion()
+            || property.isPolymorphicDiscriminator()
+            || property.isAdditionalProperties()) {
+            return null;
+        }
+
+        IType wireType = property.getWireType();
+        if (wireType instanceof ListType) {
+            wireType = ((ListType) wireType).getElementType();
+        }
+        wireType = wireType.asNullable();
+        boolean cacheable = wireType == ClassType.UNIX_TIME_LONG
+            || wireType == ClassType.DURATION_LONG
+            || wireType == ClassType.DURATION_DOUBLE
+            || wireType == ClassType.BASE_64_URL;
+        if (!cacheable) {
+            return null;
+        }
+
+        Set<String> propertyNames
+            = model.getProperties().stream().map(ClientModelProperty::getName).collect(Collectors.toSet());
+        String fieldName = property.getName() + "Converted";
+        for (int i = 2; propertyNames.contains(fieldName); ++i) {
+            fieldName = property.getName() + "Converted" + i;
+        }
+        return fieldName;
+    }
+
     /**
      * Adds a setter method.
      *
      * @param propertyWireType The property wire type.
      * @param propertyClientType The client property type.
+     * @param model The model.
      * @param property The property.
      * @param treatAsXml Whether the setter should treat the property as XML.
      * @param methodBlock Where the setter method is being added.
      * @param isJsonMergePatchModel Whether the client model is a JSON merge patch model.
      */
-    private static void addSetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, boolean isJsonMergePatchModel) {
+    private static void addSetterMethod(IType propertyWireType, IType propertyClientType, ClientModel model,
+        ClientModelProperty property, boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings,
+        boolean isJsonMergePatchModel) {
         String expression = (propertyClientType.equals(ArrayType.BYTE_ARRAY))
             ? TemplateHelper.getByteCloneExpression(property.getName())
             : property.getName();
@@ -1135,6 +1247,11 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         property.getWireType().defaultValueExpression()))
                 .elseBlock(elseBlock -> elseBlock.line("this.%s = %s;", property.getName(),
                     propertyWireType.convertFromClientType(expression)));
+
+            String convertedValueFieldName = getConvertedValueFieldName(model, property, settings);
+            if (convertedValueFieldName != null) {
+                methodBlock.line("this.%s = null;", convertedValueFieldName);
+            }
         } else {
             if (treatAsXml && property.isXmlWrapper()) {
                 if (settings.isStreamStyleSerialization()) {
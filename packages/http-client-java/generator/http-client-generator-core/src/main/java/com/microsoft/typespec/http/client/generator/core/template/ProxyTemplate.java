@@ -8,18 +8,35 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaInterface;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +45,22 @@ import java.util.stream.Collectors;
 public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
     private static final ProxyTemplate INSTANCE = new ProxyTemplate();
 
+    // exceptions that RestProxy creates via constructor, their value is the untyped error body
+    private static final Set<ClassType> CORE_EXCEPTION_TYPES = new HashSet<>(Arrays.asList(
+        ClassType.HTTP_RESPONSE_EXCEPTION, ClassType.CLIENT_AUTHENTICATION_EXCEPTION,
+        ClassType.RESOURCE_EXISTS_EXCEPTION, ClassType.RESOURCE_MODIFIED_EXCEPTION,
+        ClassType.RESOURCE_NOT_FOUND_EXCEPTION, ClassType.TOO_MANY_REDIRECTS_EXCEPTION));
+
+    // types of the URI, path, query and header parameters, that RestProxy serializes as string without JSON
+    private static final Set<ClassType> SERVICE_IMPLEMENTATION_PARAMETER_TYPES = new HashSet<>(Arrays.asList(
+        ClassType.STRING, ClassType.INTEGER, ClassType.LONG, ClassType.FLOAT, ClassType.DOUBLE, ClassType.BOOLEAN,
+        ClassType.DATE_TIME, ClassType.DATE_TIME_RFC_1123));
+
+    private static final Pattern URL_PLACEHOLDER = Pattern.compile("\\{([^}]+)}");
+
+    private static final String SERVICE_IMPLEMENTATION_HELPER
+        = ClientModelUtil.SERVICE_IMPLEMENTATION_HELPER_CLASS_NAME;
+
     protected ProxyTemplate() {
     }
 
@@ -153,9 +186,540 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
                     writeProxyMethodSignature(parameterDeclarationList, restAPIMethod, interfaceBlock);
                 }
             });
+
+            if (settings.isDirectErrorMapping()) {
+                writeErrorMapping(restAPI, classBlock);
+            }
+
+            if (hasServiceImplementation(restAPI)) {
+                writeServiceImplementation(restAPI, classBlock);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the implementation of the service interface is generated, instead of created via RestProxy.
+     *
+     * @param restAPI the service interface
+     * @return whether the implementation of the service interface is generated.
+     */
+    public boolean hasServiceImplementation(Proxy restAPI) {
+        return restAPI != null
+            && JavaSettings.getInstance().isDirectServiceImplementation()
+            && restAPI.getMethods().stream().anyMatch(this::isServiceImplementationSupported);
+    }
+
+    /**
+     * Gets the expression that creates the instance of the service interface.
+     *
+     * @param restAPI the service interface
+     * @param httpPipeline the expression of the HTTP pipeline
+     * @param serializerAdapter the expression of the serializer adapter
+     * @return the expression that creates the instance of the service interface.
+     */
+    public String getServiceInstantiation(Proxy restAPI, String httpPipeline, String serializerAdapter) {
+        if (hasServiceImplementation(restAPI)) {
+            return "new " + getServiceImplementationName(restAPI) + "(" + httpPipeline + ", " + serializerAdapter
+                + ")";
+        } else {
+            return ClassType.REST_PROXY.getName() + ".create(" + restAPI.getName() + ".class, " + httpPipeline + ", "
+                + serializerAdapter + ")";
+        }
+    }
+
+    private static String getServiceImplementationName(Proxy restAPI) {
+        return restAPI.getName() + "Impl";
+    }
+
+    /*
+     * Writes the implementation of the service interface. The supported service methods create the HTTP request and
+     * send it via ServiceImplementationHelper, the other service methods are delegated to the instance created via
+     * RestProxy.
+     */
+    private void writeServiceImplementation(Proxy restAPI, JavaClass classBlock) {
+        List<ProxyMethod> restAPIMethods = restAPI.getMethods()
+            .stream()
+            .filter(m -> m.getImplementation() == null)
+            .collect(Collectors.toList());
+        boolean hasRestProxy = restAPIMethods.stream().anyMatch(m -> !isServiceImplementationSupported(m));
+
+        Map<ErrorMapping, String> mapperNames = new LinkedHashMap<>();
+        Map<ProxyMethod, String> serviceMethodNames = new LinkedHashMap<>();
+        Set<String> httpHeaderNames = new TreeSet<>();
+        for (ProxyMethod restAPIMethod : restAPIMethods) {
+            if (isServiceImplementationSupported(restAPIMethod)) {
+                ErrorMapping errorMapping = getErrorMapping(restAPIMethod, SERVICE_IMPLEMENTATION_HELPER);
+                mapperNames.computeIfAbsent(errorMapping, k -> "mapErrorResponse" + mapperNames.size());
+
+                String serviceMethodName = CodeNamer.getEnumMemberName(restAPIMethod.getName());
+                if (serviceMethodNames.containsValue(serviceMethodName)) {
+                    // overloads of the service method
+                    serviceMethodName = serviceMethodName + "_" + serviceMethodNames.size();
+                }
+                serviceMethodNames.put(restAPIMethod, serviceMethodName);
+
+                getProxyMethodHeaders(restAPIMethod).keySet().forEach(httpHeaderNames::add);
+                restAPIMethod.getParameters()
+                    .stream()
+                    .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.HEADER)
+                    .forEach(p -> httpHeaderNames.add(p.getRequestParameterName()));
+            }
+        }
+
+        String serviceImplementationName = getServiceImplementationName(restAPI);
+        classBlock.javadocComment(comment -> comment.description(String.format(
+            "The implementation of %1$s, which sends the HTTP requests without reflection.", restAPI.getName())));
+        classBlock.privateStaticFinalClass(serviceImplementationName + " implements " + restAPI.getName(),
+            implementationBlock -> {
+                serviceMethodNames.forEach((restAPIMethod, serviceMethodName) -> {
+                    String expectedStatusCodes = restAPIMethod.getResponseExpectedStatusCodes().isEmpty()
+                        ? "null"
+                        : restAPIMethod.getResponseExpectedStatusCodes()
+                            .stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(", ", "new int[] { ", " }"));
+                    String mapperName
+                        = mapperNames.get(getErrorMapping(restAPIMethod, SERVICE_IMPLEMENTATION_HELPER));
+                    implementationBlock.privateStaticFinalVariable(String.format(
+                        "%1$s.ServiceMethod %2$s = new %1$s.ServiceMethod(%3$s.class, \"%4$s\", \"%5$s\", %6$s, "
+                            + "%7$s::%8$s)",
+                        SERVICE_IMPLEMENTATION_HELPER, serviceMethodName, restAPI.getName(),
+                        restAPI.getClientTypeName(), restAPIMethod.getName(), expectedStatusCodes,
+                        serviceImplementationName, mapperName));
+                });
+                for (String headerName : httpHeaderNames) {
+                    ModelTemplateHeaderHelper.writeHttpHeaderNameConstant(implementationBlock, headerName);
+                }
+
+                implementationBlock.privateFinalMemberVariable("HttpPipeline", "httpPipeline");
+                if (hasRestProxy) {
+                    implementationBlock.privateFinalMemberVariable(restAPI.getName(), "restProxy");
+                }
+
+                implementationBlock.constructor(JavaVisibility.PackagePrivate,
+                    serviceImplementationName + "(HttpPipeline httpPipeline, SerializerAdapter serializerAdapter)",
+                    constructor -> {
+                        constructor.line("this.httpPipeline = httpPipeline;");
+                        if (hasRestProxy) {
+                            constructor.line("this.restProxy = " + ClassType.REST_PROXY.getName() + ".create("
+                                + restAPI.getName() + ".class, httpPipeline, serializerAdapter);");
+                        }
+                    });
+
+                for (ProxyMethod restAPIMethod : restAPIMethods) {
+                    String parameterDeclarations = restAPIMethod.getParameters()
+                        .stream()
+                        .map(p -> p.getWireType() + " " + p.getName())
+                        .collect(Collectors.joining(", "));
+                    IType returnType = restAPIMethod.getReturnType().getClientType();
+                    implementationBlock.annotation("Override");
+                    implementationBlock.publicMethod(String.format("%1$s %2$s(%3$s)", returnType,
+                        restAPIMethod.getName(), parameterDeclarations), methodBlock -> {
+                            if (serviceMethodNames.containsKey(restAPIMethod)) {
+                                writeServiceImplementationMethod(restAPI, restAPIMethod,
+                                    serviceMethodNames.get(restAPIMethod), methodBlock);
+                            } else {
+                                String invocation = "restProxy." + restAPIMethod.getName() + "("
+                                    + restAPIMethod.getParameters()
+                                        .stream()
+                                        .map(ProxyMethodParameter::getName)
+                                        .collect(Collectors.joining(", "))
+                                    + ");";
+                                methodBlock
+                                    .line(returnType == PrimitiveType.VOID ? invocation : "return " + invocation);
+                            }
+                        });
+                }
+
+                writeErrorMappers(mapperNames, implementationBlock);
+            });
+    }
+
+    private void writeServiceImplementationMethod(Proxy restAPI, ProxyMethod restAPIMethod, String serviceMethodName,
+        JavaBlock methodBlock) {
+        Map<String, ProxyMethodParameter> uriParameters = new HashMap<>();
+        Map<String, ProxyMethodParameter> pathParameters = new HashMap<>();
+        ProxyMethodParameter bodyParameter = null;
+        String contextExpression = "Context.NONE";
+        for (ProxyMethodParameter parameter : restAPIMethod.getParameters()) {
+            switch (parameter.getRequestParameterLocation()) {
+                case URI:
+                    uriParameters.putIfAbsent(parameter.getRequestParameterName(), parameter);
+                    break;
+
+                case PATH:
+                    pathParameters.putIfAbsent(parameter.getRequestParameterName(), parameter);
+                    break;
+
+                case BODY:
+                    bodyParameter = parameter;
+                    break;
+
+                case NONE:
+                    contextExpression = parameter.getName();
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        // same order of the query parameters and the headers as RestProxy
+        methodBlock.line("StringBuilder query = new StringBuilder();");
+        for (ProxyMethodParameter parameter : restAPIMethod.getParameters()) {
+            if (parameter.getRequestParameterLocation() == RequestParameterLocation.QUERY) {
+                methodBlock.line(String.format("%1$s.addQueryParameter(query, %2$s, %3$s, %4$s);",
+                    SERVICE_IMPLEMENTATION_HELPER,
+                    ClassType.STRING.defaultValueExpression(parameter.getRequestParameterName()),
+                    getParameterValueExpression(parameter), parameter.getAlreadyEncoded()));
+            }
+        }
+        // the host parameters are not encoded by RestProxy
+        String hostExpression = getUrlExpression(restAPI.getBaseURL(), uriParameters,
+            parameter -> SERVICE_IMPLEMENTATION_HELPER + ".encodedPath(" + getParameterValueExpression(parameter)
+                + ")");
+        String pathExpression = getUrlExpression(restAPIMethod.getUrlPath(), pathParameters,
+            parameter -> SERVICE_IMPLEMENTATION_HELPER
+                + (parameter.getAlreadyEncoded() ? ".encodedPath(" : ".escapePath(")
+                + getParameterValueExpression(parameter) + ")");
+        methodBlock.line(String.format(
+            "HttpRequest request = new HttpRequest(HttpMethod.%1$s, %2$s.createUrl(%3$s, %4$s, query));",
+            restAPIMethod.getHttpMethod(), SERVICE_IMPLEMENTATION_HELPER, hostExpression, pathExpression));
+
+        getProxyMethodHeaders(restAPIMethod).forEach((headerName, headerValue) -> {
+            String httpHeaderName = ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(headerName);
+            if (headerValue.contains(",")) {
+                // RestProxy splits the value of the static header
+                methodBlock.line(String.format("request.getHeaders().set(%1$s, Arrays.asList(%2$s));", httpHeaderName,
+                    Arrays.stream(headerValue.split(","))
+                        .map(ClassType.STRING::defaultValueExpression)
+                        .collect(Collectors.joining(", "))));
+            } else {
+                methodBlock.line(String.format("request.setHeader(%1$s, %2$s);", httpHeaderName,
+                    ClassType.STRING.defaultValueExpression(headerValue)));
+            }
+        });
+        for (ProxyMethodParameter parameter : restAPIMethod.getParameters()) {
+            if (parameter.getRequestParameterLocation() == RequestParameterLocation.HEADER) {
+                methodBlock.line(String.format("%1$s.setHeader(request, %2$s, %3$s);", SERVICE_IMPLEMENTATION_HELPER,
+                    ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(parameter.getRequestParameterName()),
+                    getParameterValueExpression(parameter)));
+            }
+        }
+
+        if (bodyParameter != null) {
+            methodBlock.line(String.format("%1$s.setJsonBody(request, %2$s, %3$s);", SERVICE_IMPLEMENTATION_HELPER,
+                ClassType.STRING.defaultValueExpression(restAPIMethod.getRequestContentType()),
+                bodyParameter.getName()));
+        } else {
+            methodBlock.line("request.setHeader(HttpHeaderName.CONTENT_LENGTH, \"0\");");
+        }
+
+        GenericType returnType = (GenericType) restAPIMethod.getReturnType().getClientType();
+        boolean isAsync = isMono(returnType);
+        IType bodyType = isAsync
+            ? ((GenericType) returnType.getTypeArguments()[0]).getTypeArguments()[0]
+            : returnType.getTypeArguments()[0];
+        String sendArguments = "this.httpPipeline, request, " + contextExpression + ", " + serviceMethodName;
+        String sendMethod = SERVICE_IMPLEMENTATION_HELPER + (isAsync ? ".send" : ".sendSync");
+        if (bodyType == ClassType.VOID) {
+            methodBlock.methodReturn(sendMethod + "Void(" + sendArguments + ")");
+        } else if (bodyType == ClassType.BINARY_DATA) {
+            methodBlock.methodReturn(sendMethod + "Binary(" + sendArguments + ")");
+        } else {
+            String modelName = ((ClassType) bodyType).getName();
+            methodBlock.methodReturn(
+                sendMethod + "(" + sendArguments + ", " + modelName + ".class, " + modelName + "::fromJson)");
         }
     }
 
+    /*
+     * The expression of the URL template, which concatenates the text of the template and the value of the
+     * parameters.
+     */
+    private static String getUrlExpression(String urlTemplate, Map<String, ProxyMethodParameter> parameters,
+        Function<ProxyMethodParameter, String> valueExpression) {
+        List<String> expressions = new ArrayList<>();
+        Matcher matcher = URL_PLACEHOLDER.matcher(urlTemplate);
+        int index = 0;
+        while (matcher.find()) {
+            if (matcher.start() > index) {
+                expressions
+                    .add(ClassType.STRING.defaultValueExpression(urlTemplate.substring(index, matcher.start())));
+            }
+            expressions.add(valueExpression.apply(parameters.get(matcher.group(1))));
+            index = matcher.end();
+        }
+        if (index < urlTemplate.length() || expressions.isEmpty()) {
+            expressions.add(ClassType.STRING.defaultValueExpression(urlTemplate.substring(index)));
+        }
+        return String.join(" + ", expressions);
+    }
+
+    private static String getParameterValueExpression(ProxyMethodParameter parameter) {
+        IType wireType = parameter.getWireType();
+        if (ClassType.STRING.equals(wireType)) {
+            return parameter.getName();
+        } else if (wireType instanceof PrimitiveType) {
+            return "String.valueOf(" + parameter.getName() + ")";
+        } else {
+            return SERVICE_IMPLEMENTATION_HELPER + ".serialize(" + parameter.getName() + ")";
+        }
+    }
+
+    /*
+     * Whether the implementation of the service method is generated. Otherwise, e.g. the protocol method with
+     * RequestOptions, the method with strongly-typed headers, or the method with XML or multipart body, the service
+     * method is invoked via RestProxy.
+     */
+    private boolean isServiceImplementationSupported(ProxyMethod restAPIMethod) {
+        if (restAPIMethod.getImplementation() != null
+            || restAPIMethod.isResumable()
+            || restAPIMethod.getReturnValueWireType() != null
+            || restAPIMethod.getUrlPath().contains("?")
+            || restAPIMethod.getUrlPath().contains("#")
+            || getErrorMapping(restAPIMethod, SERVICE_IMPLEMENTATION_HELPER) == null) {
+            return false;
+        }
+
+        // Mono<Response<T>> or Response<T>
+        IType returnType = restAPIMethod.getReturnType().getClientType();
+        if (isMono(returnType)) {
+            returnType = ((GenericType) returnType).getTypeArguments()[0];
+        }
+        if (!(returnType instanceof GenericType)
+            || !ClassType.RESPONSE.getName().equals(((GenericType) returnType).getName())
+            || !ClassType.RESPONSE.getPackage().equals(((GenericType) returnType).getPackage())) {
+            return false;
+        }
+        IType bodyType = ((GenericType) returnType).getTypeArguments()[0];
+        if (bodyType != ClassType.VOID && bodyType != ClassType.BINARY_DATA && !isJsonModel(bodyType)) {
+            return false;
+        }
+
+        Set<String> uriParameterNames = new HashSet<>();
+        Set<String> pathParameterNames = new HashSet<>();
+        for (ProxyMethodParameter parameter : restAPIMethod.getParameters()) {
+            IType wireType = parameter.getWireType();
+            switch (parameter.getRequestParameterLocation()) {
+                case URI:
+                    if (!ClassType.STRING.equals(wireType)) {
+                        return false;
+                    }
+                    uriParameterNames.add(parameter.getRequestParameterName());
+                    break;
+
+                case PATH:
+                    if (!isServiceImplementationParameterType(wireType)) {
+                        return false;
+                    }
+                    pathParameterNames.add(parameter.getRequestParameterName());
+                    break;
+
+                case QUERY:
+                    if (parameter.getExplode() || !isServiceImplementationParameterType(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                case HEADER:
+                    if (!isServiceImplementationParameterType(wireType)
+                        || (parameter.getHeaderCollectionPrefix() != null
+                            && !parameter.getHeaderCollectionPrefix().isEmpty())) {
+                        return false;
+                    }
+                    break;
+
+                case BODY:
+                    String contentType = restAPIMethod.getRequestContentType();
+                    int separatorIndex = contentType.indexOf(';');
+                    if (separatorIndex >= 0) {
+                        contentType = contentType.substring(0, separatorIndex);
+                    }
+                    if (!"application/json".equalsIgnoreCase(contentType.trim()) || !isJsonModel(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                case NONE:
+                    if (wireType != ClassType.CONTEXT) {
+                        return false;
+                    }
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+
+        return hasUrlParameters(restAPIMethod.getBaseUrl(), uriParameterNames)
+            && hasUrlParameters(restAPIMethod.getUrlPath(), pathParameterNames);
+    }
+
+    private static boolean hasUrlParameters(String urlTemplate, Set<String> parameterNames) {
+        Matcher matcher = URL_PLACEHOLDER.matcher(urlTemplate);
+        while (matcher.find()) {
+            if (!parameterNames.contains(matcher.group(1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isServiceImplementationParameterType(IType wireType) {
+        return (wireType instanceof PrimitiveType && wireType != PrimitiveType.VOID)
+            || wireType instanceof EnumType
+            || SERVICE_IMPLEMENTATION_PARAMETER_TYPES.contains(wireType);
+    }
+
+    private static boolean isMono(IType type) {
+        return type instanceof GenericType
+            && "Mono".equals(((GenericType) type).getName())
+            && "reactor.core.publisher".equals(((GenericType) type).getPackage());
+    }
+
+    // the model that is read and written via "fromJson" and "toJson"
+    private static boolean isJsonModel(IType type) {
+        if (!(type instanceof ClassType)) {
+            return false;
+        }
+        ClientModel model = ClientModels.getInstance().getModel(((ClassType) type).getName());
+        return model != null
+            && model.getPackage().equals(((ClassType) type).getPackage())
+            && model.getXmlName() == null
+            && !model.isStronglyTypedHeader();
+    }
+
+    /*
+     * Registers the error mapping of the service methods to ErrorMappingPolicy. The mapping creates the exception via
+     * its constructor, and reads the error model via "fromJson", instead of RestProxy doing so by reflection.
+     *
+     * Service methods that have the same error mapping share the mapping method. The service methods that the mapping
+     * cannot handle are not registered, and their error responses are handled by RestProxy.
+     */
+    private void writeErrorMapping(Proxy restAPI, JavaClass classBlock) {
+        // RestProxy identifies the service method by its name, the overloads cannot be told apart
+        Map<String, Long> methodNameCounts = restAPI.getMethods()
+            .stream()
+            .collect(Collectors.groupingBy(ProxyMethod::getName, Collectors.counting()));
+
+        Map<ErrorMapping, String> mapperNames = new LinkedHashMap<>();
+        List<String> registrations = new ArrayList<>();
+        for (ProxyMethod restAPIMethod : restAPI.getMethods()) {
+            if (restAPIMethod.getImplementation() != null || methodNameCounts.get(restAPIMethod.getName()) > 1) {
+                continue;
+            }
+            ErrorMapping errorMapping = getErrorMapping(restAPIMethod, ClientModelUtil.ERROR_MAPPING_POLICY_CLASS_NAME);
+            if (errorMapping == null) {
+                continue;
+            }
+
+            String mapperName
+                = mapperNames.computeIfAbsent(errorMapping, k -> "mapErrorResponse" + mapperNames.size());
+            String expectedStatusCodes = restAPIMethod.getResponseExpectedStatusCodes().isEmpty()
+                ? "null"
+                : restAPIMethod.getResponseExpectedStatusCodes()
+                    .stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", ", "new int[] { ", " }"));
+            registrations.add(String.format("ErrorMappingPolicy.register(%1$s.class, \"%2$s\", %3$s, %4$s);",
+                restAPI.getName(), restAPIMethod.getName(), expectedStatusCodes,
+                "(response, message, body) -> " + mapperName + "(response, message, body)"));
+        }
+
+        if (registrations.isEmpty()) {
+            return;
+        }
+        classBlock.staticBlock(staticBlock -> registrations.forEach(staticBlock::line));
+        writeErrorMappers(mapperNames, classBlock);
+    }
+
+    private static void writeErrorMappers(Map<ErrorMapping, String> mapperNames, JavaClass classBlock) {
+        mapperNames.forEach((errorMapping, mapperName) -> classBlock.staticMethod(JavaVisibility.Private,
+            "HttpResponseException " + mapperName + "(HttpResponse response, String message, byte[] body) "
+                + "throws IOException",
+            methodBlock -> {
+                if (errorMapping.exceptionsByStatusCode.isEmpty()) {
+                    methodBlock.methodReturn(errorMapping.defaultException);
+                } else {
+                    methodBlock.block("switch (response.getStatusCode())", switchBlock -> {
+                        errorMapping.exceptionsByStatusCode.forEach((statusCode, exception) -> {
+                            switchBlock.line("case " + statusCode + ":");
+                            switchBlock.indent(() -> switchBlock.methodReturn(exception));
+                        });
+                        switchBlock.line("default:");
+                        switchBlock.indent(() -> switchBlock.methodReturn(errorMapping.defaultException));
+                    });
+                }
+            }));
+    }
+
+    /*
+     * The error mapping of the service method, or null if the exception of a status code cannot be created without
+     * reflection. The error body is read via the helper class.
+     */
+    private ErrorMapping getErrorMapping(ProxyMethod restAPIMethod, String helper) {
+        ClassType defaultExceptionType = restAPIMethod.getUnexpectedResponseExceptionType() == null
+            ? ClassType.HTTP_RESPONSE_EXCEPTION
+            : restAPIMethod.getUnexpectedResponseExceptionType();
+        String defaultException = getExceptionExpression(defaultExceptionType, helper);
+        if (defaultException == null) {
+            return null;
+        }
+
+        Map<Integer, String> exceptionsByStatusCode = new LinkedHashMap<>();
+        if (restAPIMethod.getUnexpectedResponseExceptionTypes() != null) {
+            for (Map.Entry<ClassType, List<Integer>> exception : restAPIMethod.getUnexpectedResponseExceptionTypes()
+                .entrySet()) {
+                String exceptionExpression = getExceptionExpression(exception.getKey(), helper);
+                if (exceptionExpression == null) {
+                    return null;
+                }
+                for (Integer statusCode : exception.getValue()) {
+                    if (exceptionsByStatusCode.put(statusCode, exceptionExpression) != null) {
+                        // ambiguous status code
+                        return null;
+                    }
+                }
+            }
+        }
+
+        return new ErrorMapping(exceptionsByStatusCode, defaultException);
+    }
+
+    /*
+     * The expression that creates the exception, or null if the exception is not in azure-core and has no JSON error
+     * model.
+     */
+    private String getExceptionExpression(ClassType exceptionType, String helper) {
+        String value;
+        if (CORE_EXCEPTION_TYPES.contains(exceptionType)) {
+            // the value of the exceptions in azure-core is the untyped error body
+            value = helper + ".readUntyped(body)";
+        } else {
+            value = getErrorValueExpression(exceptionType, helper);
+            if (value == null) {
+                return null;
+            }
+        }
+        return "new " + exceptionType + "(message, response, " + value + ")";
+    }
+
+    /**
+     * Extension to get the expression that reads the error body, as the value of the exception.
+     *
+     * @param exceptionType the type of the exception
+     * @param helper the helper class, which has "readValue(byte[], ReadValueCallback)"
+     * @return the expression that reads the error body, or null if the exception has no JSON error model.
+     */
+    protected String getErrorValueExpression(ClassType exceptionType, String helper) {
+        ClientModel errorModel = ClientModelUtil.getErrorModelFromException(exceptionType);
+        if (errorModel == null || errorModel.getXmlName() != null) {
+            return null;
+        }
+        return helper + ".readValue(body, " + errorModel.getName() + "::fromJson)";
+    }
+
     private static String buildParameterDeclaration(ProxyMethod restAPIMethod, ProxyMethodParameter parameter) {
         StringBuilder parameterDeclarationBuilder = new StringBuilder();
         RequestParameterLocation location = parameter.getRequestParameterLocation();
@@ -302,10 +866,52 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
     protected void writeProxyMethodHeaders(ProxyMethod restAPIMethod, JavaInterface interfaceBlock) {
     }
 
+    /**
+     * Extension to get the static headers of the proxy method, i.e. the headers of the Headers annotation.
+     *
+     * @param restAPIMethod proxy method
+     * @return the static headers of the proxy method, by header name.
+     */
+    protected Map<String, String> getProxyMethodHeaders(ProxyMethod restAPIMethod) {
+        return Collections.emptyMap();
+    }
+
     private static boolean isExceptionCustomized() {
         JavaSettings settings = JavaSettings.getInstance();
         return settings.getDefaultHttpExceptionType() != null
             || settings.isUseDefaultHttpStatusCodeToExceptionTypeMapping()
             || settings.getHttpStatusCodeToExceptionTypeMapping() != null;
     }
+
+    /*
+     * The exceptions by status code, and the default exception, of a service method. Service methods of equal error
+     * mapping share the mapping method.
+     */
+    private static final class ErrorMapping {
+        private final Map<Integer, String> exceptionsByStatusCode;
+        private final String defaultException;
+
+        private ErrorMapping(Map<Integer, String> exceptionsByStatusCode, String defaultException) {
+            this.exceptionsByStatusCode = exceptionsByStatusCode;
+            this.defaultException = defaultException;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ErrorMapping)) {
+                return false;
+            }
+            ErrorMapping other = (ErrorMapping) obj;
+            return exceptionsByStatusCode.equals(other.exceptionsByStatusCode)
+                && defaultException.equals(other.defaultException);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(exceptionsByStatusCode, defaultException);
+        }
+    }
 }
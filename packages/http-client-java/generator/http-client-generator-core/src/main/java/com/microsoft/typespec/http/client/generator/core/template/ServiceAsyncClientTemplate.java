@@ -22,6 +22,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaCla
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
@@ -29,6 +30,7 @@ import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -273,14 +275,23 @@ public class ServiceAsyncClientTemplate implements IJavaTemplate<AsyncSyncClient
 
     private void writeConvenienceMethods(List<ConvenienceMethod> convenienceMethods, JavaClass classBlock) {
         Set<GenericType> typeReferenceStaticClasses = new HashSet<>();
+        Set<String> httpHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
-        convenienceMethods.forEach(
-            m -> Templates.getConvenienceAsyncMethodTemplate().write(m, classBlock, typeReferenceStaticClasses));
+        convenienceMethods.forEach(m -> {
+            Templates.getConvenienceAsyncMethodTemplate().write(m, classBlock, typeReferenceStaticClasses);
+            Templates.getConvenienceAsyncMethodTemplate().addHttpHeaderNames(m, httpHeaderNames);
+        });
 
         // static variables for TypeReference<T>
         for (GenericType typeReferenceStaticClass : typeReferenceStaticClasses) {
             addGeneratedAnnotation(classBlock);
             TemplateUtil.writeTypeReferenceStaticVariable(classBlock, typeReferenceStaticClass);
         }
+
+        // static variables for HttpHeaderName
+        for (String httpHeaderName : httpHeaderNames) {
+            addGeneratedAnnotation(classBlock);
+            ModelTemplateHeaderHelper.writeHttpHeaderNameConstant(classBlock, httpHeaderName);
+        }
     }
 }
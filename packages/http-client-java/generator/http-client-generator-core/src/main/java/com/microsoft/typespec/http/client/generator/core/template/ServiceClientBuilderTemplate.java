@@ -100,6 +100,10 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
         }
 
         addHttpPolicyImports(imports);
+        if (settings.isDirectErrorMapping()) {
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.ERROR_MAPPING_POLICY_CLASS_NAME);
+        }
         addImportForCoreUtils(imports);
         addSerializerImport(imports, settings);
         addGeneratedImport(imports);
@@ -498,13 +502,14 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
         boolean writeInstrumentation = !JavaSettings.getInstance().isAzureV1();
         if (writeInstrumentation) {
             function.line("%1$s innerClient = %2$s();", syncClient.getServiceClient().getClassName(), buildMethodName);
+            String executorArgument = JavaSettings.getInstance().isCompletableFutureMethods() ? ", this.executor" : "";
             if (wrapServiceClient) {
-                function.line("return new %1$s(innerClient, innerClient.getInstrumentation());",
-                    syncClient.getClassName());
+                function.line("return new %1$s(innerClient, innerClient.getInstrumentation()%2$s);",
+                    syncClient.getClassName(), executorArgument);
             } else {
-                function.line("return new %1$s(innerClient.get%3$s(), innerClient.getInstrumentation());",
+                function.line("return new %1$s(innerClient.get%3$s(), innerClient.getInstrumentation()%4$s);",
                     syncClient.getClassName(), buildMethodName,
-                    CodeNamer.toPascalCase(syncClient.getMethodGroupClient().getVariableName()));
+                    CodeNamer.toPascalCase(syncClient.getMethodGroupClient().getVariableName()), executorArgument);
             }
         } else {
             if (wrapServiceClient) {
@@ -627,6 +632,19 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 "The retry policy that will attempt to retry failed " + "requests, if applicable.",
                 ClassType.RETRY_POLICY, "retryPolicy", false, null));
         }
+
+        if (settings.isCompletableFutureMethods()) {
+            commonProperties.add(new ServiceClientProperty("The executor to run asynchronous methods on",
+                ClassType.EXECUTOR, "executor", false, null));
+        }
+
+        if (settings.isResponseCache()) {
+            commonProperties.add(new ServiceClientProperty("The cache of the responses of GET requests",
+                new ClassType.Builder().packageName(settings.getPackage())
+                    .name(ClientModelUtil.RESPONSE_CACHE_POLICY_CLASS_NAME)
+                    .build(),
+                "responseCachePolicy", false, null));
+        }
         return commonProperties;
     }
 
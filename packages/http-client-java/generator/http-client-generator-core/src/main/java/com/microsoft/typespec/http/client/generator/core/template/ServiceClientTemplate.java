@@ -246,10 +246,10 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                                 }
 
                                 if (serviceClient.getProxy() != null) {
-                                    constructorBlock.line(String.format(
-                                        "this.service = %1$s.create(%2$s.class, this.httpPipeline, %3$s);",
-                                        ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName(),
-                                        getSerializerPhrase()));
+                                    constructorBlock.line("this.service = " + Templates.getProxyTemplate()
+                                        .getServiceInstantiation(serviceClient.getProxy(), "this.httpPipeline",
+                                            getSerializerPhrase())
+                                        + ";");
                                 }
                             }
                         } else {
@@ -391,8 +391,9 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                 constructorBlock.line("this.service = %s.create(%s.class, this.httpPipeline);",
                     ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName());
             } else {
-                constructorBlock.line("this.service = %s.create(%s.class, this.httpPipeline, %s);",
-                    ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName(), this.getSerializerPhrase());
+                constructorBlock.line("this.service = " + Templates.getProxyTemplate()
+                    .getServiceInstantiation(serviceClient.getProxy(), "this.httpPipeline", this.getSerializerPhrase())
+                    + ";");
             }
         }
     }
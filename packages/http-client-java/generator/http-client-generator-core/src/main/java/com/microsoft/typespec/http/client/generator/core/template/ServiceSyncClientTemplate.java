@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.template;
 
+import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Annotation;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
@@ -10,19 +11,34 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientAccessorMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientBuilder;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Template to create a synchronous client.
@@ -77,6 +93,30 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
             ClassType.INSTRUMENTATION.addImportsTo(imports, false);
             ClassType.SDK_INSTRUMENTATION_OPTIONS.addImportsTo(imports, false);
         }
+        if (settings.isCompletableFutureMethods()) {
+            ClassType.EXECUTOR.addImportsTo(imports, false);
+            imports.add("java.util.concurrent.CompletableFuture");
+            imports.add("java.util.concurrent.Flow.Publisher");
+            imports.add("io.clientcore.core.http.paging.PagedResponse");
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.ASYNC_HELPER_CLASS_NAME);
+        }
+        if (settings.getBulkMethodConcurrency() > 0) {
+            imports.add(List.class.getName());
+            imports.add(Consumer.class.getName());
+            imports.add(settings.getPackage() + "." + ClientModelUtil.BULK_OPERATION_RESULT_CLASS_NAME);
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.BULK_OPERATION_HELPER_CLASS_NAME);
+        }
+        if (settings.isBinaryFileOverloads()) {
+            ClassType.BINARY_DATA.addImportsTo(imports, false);
+            imports.add(IOException.class.getName());
+            imports.add(UncheckedIOException.class.getName());
+            imports.add(FileChannel.class.getName());
+            imports.add(WritableByteChannel.class.getName());
+            imports.add(Path.class.getName());
+            imports.add(StandardOpenOption.class.getName());
+        }
 
         javaFile.declareImport(imports);
         javaFile.javadocComment(comment -> comment.description(String
@@ -119,6 +159,11 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
             classBlock.privateFinalMemberVariable(ClassType.INSTRUMENTATION.getName(), "instrumentation");
         }
 
+        final boolean writeExecutor = JavaSettings.getInstance().isCompletableFutureMethods();
+        if (writeExecutor) {
+            classBlock.privateFinalMemberVariable(ClassType.EXECUTOR.getName(), "executor");
+        }
+
         // Service Client Constructor
         classBlock.javadocComment(comment -> {
             comment.description(String.format("Initializes an instance of %1$s class.", syncClient.getClassName()));
@@ -126,19 +171,26 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
             if (writeInstrumentation) {
                 comment.param("instrumentation", "the instrumentation instance.");
             }
+            if (writeExecutor) {
+                comment.param("executor", "the executor to run asynchronous methods on, or null for the default.");
+            }
         });
         addGeneratedAnnotation(classBlock);
 
         String name = wrapServiceClient ? serviceClient.getClassName() : methodGroupClient.getClassName();
 
         classBlock.constructor(constructorVisibility,
-            String.format("%1$s(%2$s %3$s%4$s)", syncClient.getClassName(), name, "serviceClient",
-                writeInstrumentation ? ", " + ClassType.INSTRUMENTATION.getName() + " instrumentation" : ""),
+            String.format("%1$s(%2$s %3$s%4$s%5$s)", syncClient.getClassName(), name, "serviceClient",
+                writeInstrumentation ? ", " + ClassType.INSTRUMENTATION.getName() + " instrumentation" : "",
+                writeExecutor ? ", " + ClassType.EXECUTOR.getName() + " executor" : ""),
             constructorBlock -> {
                 constructorBlock.line("this.serviceClient = serviceClient;");
                 if (writeInstrumentation) {
                     constructorBlock.line("this.instrumentation = instrumentation;");
                 }
+                if (writeExecutor) {
+                    constructorBlock.line("this.executor = executor;");
+                }
             });
 
         ServiceAsyncClientTemplate.writeSubClientAccessors(serviceClient, classBlock, false);
@@ -172,6 +224,13 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
 
         writeConvenienceMethods(syncClient.getConvenienceMethods(), classBlock);
 
+        if (JavaSettings.getInstance().getBulkMethodConcurrency() > 0) {
+            writeBulkMethods(clientMethods, syncClient.getConvenienceMethods(), classBlock);
+        }
+        if (JavaSettings.getInstance().isBinaryFileOverloads()) {
+            writeBinaryFileMethods(clientMethods, syncClient.getConvenienceMethods(), classBlock);
+        }
+
         ServiceAsyncClientTemplate.addEndpointMethod(classBlock, syncClient.getClientBuilder(), serviceClient,
             this.clientReference());
     }
@@ -195,6 +254,252 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
         Templates.getWrapperClientMethodTemplate().write(clientMethod, classBlock);
     }
 
+    /*
+     * Writes the bulk methods, e.g. "getAll" of "get", which call the single method for each value of its path
+     * parameter via the BulkOperationHelper class. Each bulk method has an overload that returns the results in the
+     * order of the values, and an overload that passes the results to a handler in the order of completion.
+     */
+    private void writeBulkMethods(List<ClientMethod> clientMethods, List<ConvenienceMethod> convenienceMethods,
+        JavaClass classBlock) {
+        final JavaSettings settings = JavaSettings.getInstance();
+
+        // bulk method is not written, if its name is used by another method
+        final Set<String> methodNames = new HashSet<>();
+        clientMethods.forEach(clientMethod -> methodNames.add(clientMethod.getName()));
+        convenienceMethods.forEach(convenienceMethod -> convenienceMethod.getConvenienceMethods()
+            .forEach(clientMethod -> methodNames.add(clientMethod.getName())));
+        // bulk method is not written twice with the same erasure, e.g. for the overloads "get(String)" and
+        // "get(Integer)", which both have the bulk method "getAll(Iterable)"
+        final Set<String> bulkMethodSignatures = new HashSet<>();
+
+        for (ClientMethod clientMethod : clientMethods) {
+            ClientMethodParameter keyParameter = MethodUtil.getBulkKeyParameter(clientMethod, settings);
+            if (keyParameter == null) {
+                continue;
+            }
+            String bulkMethodName = clientMethod.getName().endsWith("WithResponse")
+                ? clientMethod.getName().substring(0, clientMethod.getName().length() - "WithResponse".length())
+                    + "AllWithResponse"
+                : clientMethod.getName() + "All";
+            if (methodNames.contains(bulkMethodName)) {
+                continue;
+            }
+
+            List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters();
+            String keysName = keyParameter.getName() + (keyParameter.getName().endsWith("s") ? "es" : "s");
+            if (parameters.stream().anyMatch(parameter -> parameter.getName().equals(keysName))) {
+                continue;
+            }
+            String erasedParameterTypes = parameters.stream()
+                .map(parameter -> parameter == keyParameter ? "Iterable" : getErasure(parameter.getClientType()))
+                .collect(Collectors.joining(", "));
+            if (!bulkMethodSignatures.add(bulkMethodName + "(" + erasedParameterTypes + ")")) {
+                continue;
+            }
+            IType keyType = keyParameter.getClientType().asNullable();
+            IType valueType = clientMethod.getReturnValue().getType().asNullable();
+            String resultType = String.format("BulkOperationResult<%1$s, %2$s>", keyType, valueType);
+
+            String parametersDeclaration = parameters.stream()
+                .map(parameter -> parameter == keyParameter
+                    ? String.format("Iterable<%1$s> %2$s", keyType, keysName)
+                    : parameter.getDeclaration())
+                .collect(Collectors.joining(", "));
+            String methodCall = String.format("%1$s(%2$s)", clientMethod.getName(),
+                parameters.stream().map(ClientMethodParameter::getName).collect(Collectors.joining(", ")));
+            String operation = valueType == ClassType.VOID
+                ? String.format("%1$s -> { %2$s; return null; }", keyParameter.getName(), methodCall)
+                : String.format("%1$s -> %2$s", keyParameter.getName(), methodCall);
+
+            Consumer<JavaJavadocComment> parametersComment = comment -> parameters.forEach(parameter -> {
+                if (parameter == keyParameter) {
+                    comment.param(keysName,
+                        "the values of " + keyParameter.getName() + ", one request for each value.");
+                } else {
+                    comment.param(parameter.getName(), parameter.getDescription());
+                }
+            });
+
+            // results in the order of the keys
+            classBlock.javadocComment(comment -> {
+                comment.description(clientMethod.getDescription());
+                comment.line("<p>");
+                comment.line(String.format("The request is sent for each of the %1$s, with at most %2$d concurrent "
+                    + "requests. The error of a request is captured in its result.", keysName,
+                    settings.getBulkMethodConcurrency()));
+                parametersComment.accept(comment);
+                comment.methodReturns("the results of the requests, in the order of the " + keysName);
+            });
+            addGeneratedAnnotation(classBlock);
+            classBlock.annotation("ServiceMethod(returns = ReturnType.COLLECTION)");
+            classBlock.publicMethod(
+                String.format("List<%1$s> %2$s(%3$s)", resultType, bulkMethodName, parametersDeclaration),
+                function -> function.methodReturn(String.format("BulkOperationHelper.runOrdered(%1$s, %2$s, %3$d)",
+                    keysName, operation, settings.getBulkMethodConcurrency())));
+
+            // results in the order of completion
+            classBlock.javadocComment(comment -> {
+                comment.description(clientMethod.getDescription());
+                comment.line("<p>");
+                comment.line(String.format("The request is sent for each of the %1$s, with at most %2$d concurrent "
+                    + "requests. The error of a request is captured in its result.", keysName,
+                    settings.getBulkMethodConcurrency()));
+                parametersComment.accept(comment);
+                comment.param("resultHandler", "the handler of the results, called in the order of completion.");
+            });
+            addGeneratedAnnotation(classBlock);
+            classBlock.annotation("ServiceMethod(returns = ReturnType.COLLECTION)");
+            classBlock.publicMethod(
+                String.format("void %1$s(%2$s, Consumer<%3$s> resultHandler)", bulkMethodName, parametersDeclaration,
+                    resultType),
+                function -> function.line(String.format("BulkOperationHelper.runUnordered(%1$s, %2$s, %3$d, "
+                    + "resultHandler);", keysName, operation, settings.getBulkMethodConcurrency())));
+        }
+    }
+
+    private static String getErasure(IType type) {
+        String typeName = type.toString();
+        int typeArgumentsIndex = typeName.indexOf('<');
+        return typeArgumentsIndex < 0 ? typeName : typeName.substring(0, typeArgumentsIndex);
+    }
+
+    /*
+     * Writes the overloads of the methods of binary payload. The download method has the overloads that write the
+     * response body to a Path or a WritableByteChannel, via BinaryData.writeTo. The upload method has the overload that
+     * sends the request body from a Path, via BinaryData.fromFile. Hence the payload is streamed, instead of being
+     * copied to a byte array in the application.
+     */
+    private void writeBinaryFileMethods(List<ClientMethod> clientMethods, List<ConvenienceMethod> convenienceMethods,
+        JavaClass classBlock) {
+        final JavaSettings settings = JavaSettings.getInstance();
+
+        List<ClientMethod> methods = new ArrayList<>();
+        clientMethods.stream()
+            .filter(clientMethod -> clientMethod.getMethodVisibilityInWrapperClient() == JavaVisibility.Public)
+            .forEach(methods::add);
+        convenienceMethods.forEach(convenienceMethod -> convenienceMethod.getConvenienceMethods()
+            .stream()
+            .filter(clientMethod -> clientMethod.getMethodVisibilityInWrapperClient() == JavaVisibility.Public)
+            .forEach(methods::add));
+
+        // overload is not written twice, if the method is both in client methods and convenience methods, or if
+        // overloads of the method only differ in the names of the parameters
+        final Set<String> overloads = new HashSet<>();
+        for (ClientMethod clientMethod : methods) {
+            List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters();
+            String arguments
+                = parameters.stream().map(ClientMethodParameter::getName).collect(Collectors.joining(", "));
+            String erasedParameterTypes = parameters.stream()
+                .map(parameter -> getErasure(parameter.getClientType()))
+                .collect(Collectors.joining(", "));
+            String erasedParameterTypesPrefix = erasedParameterTypes.isEmpty() ? "" : erasedParameterTypes + ", ";
+
+            if (MethodUtil.isFileDownloadMethod(clientMethod, settings)
+                && parameters.stream().noneMatch(parameter -> "destination".equals(parameter.getName()))) {
+                String parametersDeclaration = clientMethod.getParametersDeclaration();
+                String prefix = CoreUtils.isNullOrEmpty(parametersDeclaration) ? "" : parametersDeclaration + ", ";
+                String channelArguments = arguments.isEmpty() ? "channel" : arguments + ", channel";
+
+                if (overloads.add(clientMethod.getName() + "(" + erasedParameterTypesPrefix + "Path)")) {
+                    classBlock.javadocComment(comment -> {
+                        comment.description(clientMethod.getDescription());
+                        comment.line("<p>");
+                        comment.line("The response body is written to the file, which is created or truncated.");
+                        parameters.forEach(parameter -> comment.param(parameter.getName(), parameter.getDescription()));
+                        comment.param("destination", "the path of the file to write the response body to.");
+                        comment.methodThrows("UncheckedIOException", "thrown if the file cannot be written.");
+                    });
+                    addGeneratedAnnotation(classBlock);
+                    TemplateUtil.writeClientMethodServiceMethodAnnotation(clientMethod, classBlock);
+                    classBlock.publicMethod(
+                        String.format("void %1$s(%2$sPath destination)", clientMethod.getName(), prefix), function -> {
+                            function.line("try (FileChannel channel = FileChannel.open(destination, "
+                                + "StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, "
+                                + "StandardOpenOption.WRITE)) {");
+                            function.indent(() -> function.line(
+                                String.format("%1$s(%2$s);", clientMethod.getName(), channelArguments)));
+                            function.line("} catch (IOException e) {");
+                            function.indent(() -> function.line("throw new UncheckedIOException(e);"));
+                            function.line("}");
+                        });
+                }
+
+                if (overloads.add(clientMethod.getName() + "(" + erasedParameterTypesPrefix + "WritableByteChannel)")) {
+                    classBlock.javadocComment(comment -> {
+                        comment.description(clientMethod.getDescription());
+                        comment.line("<p>");
+                        comment.line("The response body is written to the channel. The channel is not closed.");
+                        parameters.forEach(parameter -> comment.param(parameter.getName(), parameter.getDescription()));
+                        comment.param("destination", "the channel to write the response body to.");
+                        comment.methodThrows("UncheckedIOException", "thrown if the channel cannot be written.");
+                    });
+                    addGeneratedAnnotation(classBlock);
+                    TemplateUtil.writeClientMethodServiceMethodAnnotation(clientMethod, classBlock);
+                    classBlock.publicMethod(String.format("void %1$s(%2$sWritableByteChannel destination)",
+                        clientMethod.getName(), prefix), function -> {
+                            String body = String.format("%1$s(%2$s).writeTo(destination);", clientMethod.getName(),
+                                arguments);
+                            if (settings.isAzureV1()) {
+                                function.line("try {");
+                                function.indent(() -> function.line(body));
+                                function.line("} catch (IOException e) {");
+                                function.indent(() -> function.line("throw new UncheckedIOException(e);"));
+                                function.line("}");
+                            } else {
+                                function.line(body);
+                            }
+                        });
+                }
+            }
+
+            ClientMethodParameter uploadParameter = MethodUtil.getFileUploadParameter(clientMethod, settings);
+            if (uploadParameter != null) {
+                String parametersDeclaration = parameters.stream()
+                    .map(parameter -> parameter == uploadParameter
+                        ? "Path " + parameter.getName()
+                        : parameter.getDeclaration())
+                    .collect(Collectors.joining(", "));
+                String uploadParameterTypes = parameters.stream()
+                    .map(parameter -> parameter == uploadParameter ? "Path" : getErasure(parameter.getClientType()))
+                    .collect(Collectors.joining(", "));
+                if (!overloads.add(clientMethod.getName() + "(" + uploadParameterTypes + ")")) {
+                    continue;
+                }
+                String methodCall = String.format("%1$s(%2$s)", clientMethod.getName(),
+                    parameters.stream()
+                        .map(parameter -> parameter == uploadParameter
+                            ? "BinaryData.fromFile(" + parameter.getName() + ")"
+                            : parameter.getName())
+                        .collect(Collectors.joining(", ")));
+                IType returnType = clientMethod.getReturnValue().getType();
+                boolean isVoid = returnType.asNullable() == ClassType.VOID;
+
+                classBlock.javadocComment(comment -> {
+                    comment.description(clientMethod.getDescription());
+                    comment.line("<p>");
+                    comment.line("The request body is read from the file.");
+                    parameters.forEach(parameter -> comment.param(parameter.getName(), parameter == uploadParameter
+                        ? "the path of the file to send as the request body."
+                        : parameter.getDescription()));
+                    if (!isVoid) {
+                        comment.methodReturns(clientMethod.getReturnValue().getDescription());
+                    }
+                });
+                addGeneratedAnnotation(classBlock);
+                TemplateUtil.writeClientMethodServiceMethodAnnotation(clientMethod, classBlock);
+                classBlock.publicMethod(
+                    String.format("%1$s %2$s(%3$s)", returnType, clientMethod.getName(), parametersDeclaration),
+                    function -> {
+                        if (isVoid) {
+                            function.line(methodCall + ";");
+                        } else {
+                            function.methodReturn(methodCall);
+                        }
+                    });
+            }
+        }
+    }
+
     private void addServiceClientAnnotationImport(Set<String> imports) {
         Annotation.SERVICE_CLIENT.addImportsTo(imports);
         Annotation.GENERATED.addImportsTo(imports);
@@ -208,14 +513,23 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
 
     private void writeConvenienceMethods(List<ConvenienceMethod> convenienceMethods, JavaClass classBlock) {
         Set<GenericType> typeReferenceStaticClasses = new HashSet<>();
+        Set<String> httpHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
-        convenienceMethods.forEach(
-            m -> Templates.getConvenienceSyncMethodTemplate().write(m, classBlock, typeReferenceStaticClasses));
+        convenienceMethods.forEach(m -> {
+            Templates.getConvenienceSyncMethodTemplate().write(m, classBlock, typeReferenceStaticClasses);
+            Templates.getConvenienceSyncMethodTemplate().addHttpHeaderNames(m, httpHeaderNames);
+        });
 
         // static variables for TypeReference<T>
         for (GenericType typeReferenceStaticClass : typeReferenceStaticClasses) {
             addGeneratedAnnotation(classBlock);
             TemplateUtil.writeTypeReferenceStaticVariable(classBlock, typeReferenceStaticClass);
         }
+
+        // static variables for HttpHeaderName
+        for (String httpHeaderName : httpHeaderNames) {
+            addGeneratedAnnotation(classBlock);
+            ModelTemplateHeaderHelper.writeHttpHeaderNameConstant(classBlock, httpHeaderName);
+        }
     }
 }
@@ -86,6 +86,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             ClassType.JSON_WRITER.addImportsTo(imports, false);
             ClassType.JSON_READER.addImportsTo(imports, false);
             ClassType.JSON_TOKEN.addImportsTo(imports, false);
+
+            if (settings.isFastDateTimeCodecs()) {
+                imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                    + ClientModelUtil.DATE_TIME_HELPER_CLASS_NAME);
+            }
         }
 
         ClassType.CORE_UTILS.addImportsTo(imports, false);
@@ -705,8 +710,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             // Attempt to determine whether the wire type is simple serialization.
             // This is primitives, boxed primitives, a small set of string based models, and other ClientModels.
-            String fieldSerializationMethod = wireType.jsonSerializationMethodCall("jsonWriter", serializedName,
-                propertyValueGetter, isJsonMergePatch);
+            String fieldSerializationMethod
+                = getJsonSerializationMethodCall(wireType, "jsonWriter", serializedName, propertyValueGetter,
+                    isJsonMergePatch);
             if (wireType == ClassType.BINARY_DATA) {
                 // Special handling for BinaryData (instead of using "serializationMethodBase" and
                 // "serializationValueGetterModifier")
@@ -826,7 +832,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             String lambdaWriterName = depth == 0 ? "writer" : "writer" + depth;
             String elementName = depth == 0 ? "element" : "element" + depth;
             String valueSerializationMethod
-                = elementType.jsonSerializationMethodCall(lambdaWriterName, null, elementName, isJsonMergePatch);
+                = getJsonSerializationMethodCall(elementType, lambdaWriterName, null, elementName, isJsonMergePatch);
             String serializeValue
                 = depth == 0 ? propertyValueGetter : ((depth == 1) ? "element" : "element" + (depth - 1));
 
@@ -1025,7 +1031,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     JavaIfBlock ifBlock = null;
 
                     // Add deserialization for all child types.
-                    List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
+                    List<ClientModel> childTypes = ClientModelUtil.getAllDerivedModels(model);
                     for (ClientModel childType : childTypes) {
                         // Determine which serialization method to use based on whether the child type is also a
                         // polymorphic
@@ -1076,17 +1082,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
         }
 
-        private static List<ClientModel> getAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
-            for (ClientModel childType : model.getDerivedModels()) {
-                childTypes.add(childType);
-                if (!CoreUtils.isNullOrEmpty(childType.getDerivedModels())) {
-                    getAllChildTypes(childType, childTypes);
-                }
-            }
-
-            return childTypes;
-        }
-
         /**
          * Gets the additionalProperty model property from this model or its superclass.
          *
@@ -1718,9 +1713,35 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         }
 
         private static String getSimpleJsonDeserialization(IType wireType, String readerName) {
-            return (wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType())
-                ? wireType + ".fromJson(" + readerName + ")"
-                : wireType.jsonDeserializationMethod(readerName);
+            if (wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
+                return wireType + ".fromJson(" + readerName + ")";
+            }
+
+            JavaSettings settings = JavaSettings.getInstance();
+            if (settings.isFastDateTimeCodecs()) {
+                if (wireType == ClassType.DATE_TIME) {
+                    String parseMethod = settings.isAzureV1() ? "parseBestOffsetDateTime" : "parseOffsetDateTime";
+                    return readerName + ".getNullable(nonNullReader -> "
+                        + ClientModelUtil.DATE_TIME_HELPER_CLASS_NAME + "." + parseMethod
+                        + "(nonNullReader.getString()))";
+                } else if (wireType == ClassType.DURATION) {
+                    return readerName + ".getNullable(nonNullReader -> "
+                        + ClientModelUtil.DATE_TIME_HELPER_CLASS_NAME + ".parseDuration(nonNullReader.getString()))";
+                }
+            }
+            return wireType.jsonDeserializationMethod(readerName);
+        }
+
+        private static String getJsonSerializationMethodCall(IType wireType, String jsonWriterName, String fieldName,
+            String valueGetter, boolean isJsonMergePatch) {
+            if (wireType == ClassType.DATE_TIME && JavaSettings.getInstance().isFastDateTimeCodecs()) {
+                String value = ClientModelUtil.DATE_TIME_HELPER_CLASS_NAME + ".formatOffsetDateTime(" + valueGetter
+                    + ")";
+                return fieldName == null
+                    ? jsonWriterName + ".writeString(" + value + ")"
+                    : jsonWriterName + ".writeStringField(\"" + fieldName + "\", " + value + ")";
+            }
+            return wireType.jsonSerializationMethodCall(jsonWriterName, fieldName, valueGetter, isJsonMergePatch);
         }
 
         private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
@@ -2150,7 +2171,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 JavaIfBlock ifBlock = null;
 
                 // Add deserialization for all child types.
-                List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
+                List<ClientModel> childTypes = ClientModelUtil.getAllDerivedModels(model);
                 for (ClientModel childType : childTypes) {
                     ifBlock = ifOrElseIf(methodBlock, ifBlock,
                         "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
@@ -56,6 +56,14 @@ public final class TemplateHelper {
         }
     }
 
+    private static void addResponseCachePolicy(JavaSettings settings, JavaBlock function) {
+        if (settings.isResponseCache()) {
+            // the policy is after authentication, as the Authorization header is part of the cache key
+            function.ifBlock("responseCachePolicy != null",
+                action -> function.line("policies.add(responseCachePolicy);"));
+        }
+    }
+
     private static void createGenericHttpPipelineMethod(JavaSettings settings, String defaultCredentialScopes,
         SecurityInfo securityInfo, PipelinePolicyDetails pipelinePolicyDetails, JavaBlock function) {
         function.line("Configuration buildConfiguration = (configuration == null) ? Configuration"
@@ -72,6 +80,7 @@ public final class TemplateHelper {
         function
             .line("policies.add(retryOptions == null ? new HttpRetryPolicy() : new HttpRetryPolicy(retryOptions));");
         function.line("this.pipelinePolicies.stream().forEach(p -> policies.add(p));");
+        addResponseCachePolicy(settings, function);
         if (securityInfo.getSecurityTypes().contains(Scheme.SecuritySchemeType.KEY)) {
             function.ifBlock("keyCredential != null", action -> {
                 final String prefixExpr = CoreUtils.isNullOrEmpty(securityInfo.getHeaderValuePrefix())
@@ -117,6 +126,7 @@ public final class TemplateHelper {
         function
             .line("policies.add(retryOptions == null ? new HttpRetryPolicy() : new HttpRetryPolicy(retryOptions));");
         function.line("this.pipelinePolicies.stream().forEach(p -> policies.add(p));");
+        addResponseCachePolicy(settings, function);
         if (securityInfo.getSecurityTypes().contains(Scheme.SecuritySchemeType.KEY)) {
             function.ifBlock("keyCredential != null", action -> {
                 final String prefixExpr = CoreUtils.isNullOrEmpty(securityInfo.getHeaderValuePrefix())
@@ -152,6 +162,10 @@ public final class TemplateHelper {
                 localClientOptionsName));
 
         function.line("List<HttpPipelinePolicy> policies = new ArrayList<>();");
+        if (settings.isDirectErrorMapping()) {
+            // the first policy, so that the other policies, and the retries, see the error response
+            function.line("policies.add(new ErrorMappingPolicy());");
+        }
 
         function.line("String clientName = PROPERTIES.getOrDefault(SDK_NAME, \"UnknownName\");");
         function.line("String clientVersion = PROPERTIES.getOrDefault(SDK_VERSION, \"UnknownVersion\");");
@@ -217,6 +231,7 @@ public final class TemplateHelper {
                     defaultCredentialScopes);
             });
         }
+        addResponseCachePolicy(settings, function);
         function.line(
             "this.pipelinePolicies.stream()" + ".filter(p -> p.getPipelinePosition() == HttpPipelinePosition.PER_RETRY)"
                 + ".forEach(p -> policies.add(p));");
@@ -35,6 +35,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.ClientMethodTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
@@ -683,14 +684,7 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
         JavaSettings settings) {
         addServiceMethodAnnotation(typeBlock, ReturnType.SINGLE);
 
-        writeMethod(typeBlock, clientMethod.getMethodVisibility(), clientMethod.getDeclaration(), function -> {
-
-            final String requestContextParam = getRequestContextParameterName(clientMethod);
-            function.line("return this.instrumentation.instrumentWithResponse(\"%1$s\", %2$s, updatedContext -> {",
-                clientMethod.getOperationInstrumentationInfo().getOperationName(),
-                requestContextParam == null ? "RequestContext.none()" : requestContextParam);
-
-            function.increaseIndent();
+        writeInstrumentedMethod(typeBlock, clientMethod, function -> {
             addValidations(function, clientMethod.getRequiredNullableParameterExpressions(),
                 clientMethod.getValidateExpressions(), settings);
             addOptionalAndConstantVariables(function, clientMethod, restAPIMethod.getParameters(), settings);
@@ -728,8 +722,10 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                     MethodPageDetails.ContinuationToken continuationToken
                         = clientMethod.getMethodPageDetails().getContinuationToken();
                     if (continuationToken.getResponseHeaderSerializedName() != null) {
-                        function.line("res.getHeaders().getValue(HttpHeaderName.fromString(" + ClassType.STRING
-                            .defaultValueExpression(continuationToken.getResponseHeaderSerializedName()) + ")),");
+                        function.line("res.getHeaders().getValue("
+                            + ModelTemplateHeaderHelper.getHttpHeaderNameConstantExpression(
+                                continuationToken.getResponseHeaderSerializedName())
+                            + "),");
                     } else if (continuationToken.getResponsePropertyReference() != null) {
                         String continuationTokenExpression
                             = nestedReferenceLineWithNullCheck(continuationToken.getResponsePropertyReference(),
@@ -753,8 +749,6 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                 // previous link, first link, last link
                 function.line("null,null,null);");
             }
-            function.decreaseIndent();
-            function.line("});");
         });
     }
 
@@ -780,7 +774,7 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                     function.line(
                         "RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();");
                 }
-                function.line("return new PagedIterable<>(");
+                function.line("return " + pagedCollectionCreation(clientMethod, "PagedIterable", settings));
 
                 String nextMethodArgs = clientMethod.getMethodPageDetails()
                     .getNextMethod()
@@ -794,7 +788,7 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                         this.getPagingSinglePageExpression(clientMethod,
                             clientMethod.getProxyMethod().getPagingSinglePageMethodName(), effectiveFirstPageArgs,
                             settings));
-                    function.line("%s);",
+                    function.line("%s" + pagedCollectionCreationEnd(clientMethod, settings),
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -944,15 +938,9 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
         JavaSettings settings) {
         String effectiveProxyMethodName = clientMethod.getProxyMethod().getName();
         addServiceMethodAnnotation(typeBlock, ReturnType.SINGLE);
-        writeMethod(typeBlock, clientMethod.getMethodVisibility(), clientMethod.getDeclaration(), function -> {
-            final String requestContextParam = getRequestContextParameterName(clientMethod);
-            final String arguments = getUpdatedArgumentList(clientMethod.getArgumentList(), requestContextParam);
-
-            function.line("return this.instrumentation.instrumentWithResponse(\"%1$s\", %2$s, updatedContext -> {",
-                clientMethod.getOperationInstrumentationInfo().getOperationName(),
-                requestContextParam == null ? "RequestContext.none()" : requestContextParam);
-
-            function.increaseIndent();
+        final String arguments = getUpdatedArgumentList(clientMethod.getArgumentList(),
+            getRequestContextParameterName(clientMethod));
+        writeInstrumentedMethod(typeBlock, clientMethod, function -> {
             addValidations(function, clientMethod.getRequiredNullableParameterExpressions(),
                 clientMethod.getValidateExpressions(), settings);
             addOptionalAndConstantVariables(function, clientMethod, restAPIMethod.getParameters(), settings);
@@ -960,7 +948,8 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
             convertClientTypesToWireTypes(function, clientMethod, restAPIMethod.getParameters());
 
             String serviceMethodCall
-                = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod.toSync(), "updatedContext", settings);
+                = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod.toSync(), "updatedContext",
+                    settings);
             if (clientMethod.getReturnValue().getType() == ClassType.INPUT_STREAM) {
                 function.line(
                     "Iterator<ByteBufferBackedInputStream> iterator = %s(%s).map(ByteBufferBackedInputStream::new).toStream().iterator();",
@@ -977,7 +966,8 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
             } else if (clientMethod.getReturnValue().getType() != PrimitiveType.VOID) {
                 IType returnType = clientMethod.getReturnValue().getType();
                 if (returnType instanceof PrimitiveType) {
-                    function.line("%s value = %s(%s);", returnType.asNullable(), effectiveProxyMethodName, arguments);
+                    function.line("%s value = %s(%s);", returnType.asNullable(), effectiveProxyMethodName,
+                        arguments);
                     function.ifBlock("value != null", ifAction -> ifAction.methodReturn("value"))
                         .elseBlock(elseAction -> {
                             if (settings.isUseClientLogger()) {
@@ -992,8 +982,6 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
             } else {
                 function.line("%s(%s);", effectiveProxyMethodName, arguments);
             }
-            function.decreaseIndent();
-            function.line("});");
         });
     }
 
@@ -1332,6 +1320,59 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
         JavaBlock javaBlock) {
     }
 
+    /**
+     * Writes a service method, which calls the service within the instrumentation of the operation.
+     * <p>
+     * When the method has a request context parameter, the body is written once, in a private method that takes the
+     * request context. The service method calls it directly when neither tracing nor metrics is enabled, so that it
+     * does not allocate the lambda for instrumentation. Otherwise, the body is written in the lambda.
+     *
+     * @param typeBlock the type block
+     * @param clientMethod the client method
+     * @param body writes the statements of the body, which uses "updatedContext" as the request context
+     */
+    private void writeInstrumentedMethod(JavaType typeBlock, ClientMethod clientMethod, Consumer<JavaBlock> body) {
+        final String requestContextParam = getRequestContextParameterName(clientMethod);
+        final String operationName = clientMethod.getOperationInstrumentationInfo().getOperationName();
+        if (requestContextParam == null || !(typeBlock instanceof JavaClass)) {
+            writeMethod(typeBlock, clientMethod.getMethodVisibility(), clientMethod.getDeclaration(), function -> {
+                function.line("return this.instrumentation.instrumentWithResponse(\"%1$s\", %2$s, updatedContext -> {",
+                    operationName, requestContextParam == null ? "RequestContext.none()" : requestContextParam);
+                function.increaseIndent();
+                body.accept(function);
+                function.decreaseIndent();
+                function.line("});");
+            });
+            return;
+        }
+
+        final String internalMethodName = clientMethod.getName() + "Internal";
+        final List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters();
+        Function<String, String> internalMethodCall = requestContext -> internalMethodName + "("
+            + parameters.stream()
+                .map(p -> p.getClientType() == ClassType.REQUEST_CONTEXT ? requestContext : p.getName())
+                .collect(Collectors.joining(", "))
+            + ")";
+        writeMethod(typeBlock, clientMethod.getMethodVisibility(), clientMethod.getDeclaration(), function -> {
+            function.ifBlock(
+                "!this.instrumentation.getTracer().isEnabled() && !this.instrumentation.getMeter().isEnabled()",
+                ifBlock -> ifBlock.methodReturn(internalMethodCall
+                    .apply(requestContextParam + " == null ? RequestContext.none() : " + requestContextParam)));
+            function.methodReturn(
+                String.format("this.instrumentation.instrumentWithResponse(\"%1$s\", %2$s, updatedContext -> %3$s)",
+                    operationName, requestContextParam, internalMethodCall.apply("updatedContext")));
+        });
+
+        String internalMethodDeclaration = clientMethod.getReturnValue().getType() + " " + internalMethodName + "("
+            + parameters.stream()
+                .map(p -> p.getClientType() == ClassType.REQUEST_CONTEXT
+                    ? "RequestContext updatedContext"
+                    : p.getDeclaration())
+                .collect(Collectors.joining(", "))
+            + ")";
+        ((JavaClass) typeBlock).privateMethod(internalMethodDeclaration, body);
+    }
+
     /**
      * Get the name of the request context parameter from the client method or null if not present.
      */
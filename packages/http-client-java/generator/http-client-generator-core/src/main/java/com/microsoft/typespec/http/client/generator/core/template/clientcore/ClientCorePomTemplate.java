@@ -209,9 +209,14 @@ public class ClientCorePomTemplate extends PomTemplate {
                         });
 
                         executionBlock.block("configuration", configurationBlock -> {
-                            configurationBlock.tag("source", "1.8");
-                            configurationBlock.tag("target", "1.8");
-                            configurationBlock.tag("release", "8");
+                            if (JavaSettings.getInstance().isCompletableFutureMethods()) {
+                                // methods returning CompletableFuture use java.util.concurrent.Flow of Java 9
+                                configurationBlock.tag("release", "11");
+                            } else {
+                                configurationBlock.tag("source", "1.8");
+                                configurationBlock.tag("target", "1.8");
+                                configurationBlock.tag("release", "8");
+                            }
                             configurationBlock.tag("proc", "only");
                             configurationBlock.tag("generatedSourcesDirectory",
                                 "${project.build.directory}/generated-sources/");
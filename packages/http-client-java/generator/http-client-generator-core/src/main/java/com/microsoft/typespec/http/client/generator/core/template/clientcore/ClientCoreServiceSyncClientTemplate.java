@@ -3,9 +3,22 @@
 
 package com.microsoft.typespec.http.client.generator.core.template.clientcore;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Annotation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPageDetails;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.ServiceSyncClientTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Template to create a synchronous client.
@@ -21,7 +34,77 @@ public class ClientCoreServiceSyncClientTemplate extends ServiceSyncClientTempla
         return INSTANCE;
     }
 
+    @Override
+    protected void writeMethod(ClientMethod clientMethod, JavaClass classBlock) {
+        super.writeMethod(clientMethod, classBlock);
+
+        if (JavaSettings.getInstance().isCompletableFutureMethods()) {
+            writeCompletableFutureMethod(clientMethod, classBlock);
+        }
+    }
+
     protected void addGeneratedAnnotation(JavaContext classBlock) {
         classBlock.annotation(Annotation.METADATA.getName() + "(properties = {MetadataProperties.GENERATED})");
     }
+
+    /*
+     * Writes the "<method>Async" method of the sync method, which runs the sync method on the executor of the client.
+     * Single methods return a CompletableFuture of the result. Paging methods return a Publisher of the pages, which
+     * retrieves a page on the executor when the subscriber requests it.
+     */
+    private void writeCompletableFutureMethod(ClientMethod clientMethod, JavaClass classBlock) {
+        final ClientMethodType methodType = clientMethod.getType();
+        if (methodType != ClientMethodType.SimpleSync
+            && methodType != ClientMethodType.SimpleSyncRestResponse
+            && methodType != ClientMethodType.PagingSync) {
+            return;
+        }
+        if (methodType == ClientMethodType.SimpleSyncRestResponse
+            && clientMethod.getMethodVisibilityInWrapperClient() != JavaVisibility.Public) {
+            return;
+        }
+
+        final MethodPageDetails pageDetails
+            = clientMethod.isPageStreamingType() ? clientMethod.getMethodPageDetails() : null;
+        final List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters()
+            .stream()
+            .filter(parameter -> pageDetails == null || !pageDetails.shouldHideParameter(parameter))
+            .collect(Collectors.toList());
+        final String argumentList
+            = parameters.stream().map(ClientMethodParameter::getName).collect(Collectors.joining(", "));
+
+        final IType returnType = clientMethod.getReturnValue().getType();
+        final IType asyncReturnType;
+        final String returnDescription;
+        final String returnExpression;
+        if (methodType == ClientMethodType.PagingSync) {
+            IType elementType = ((GenericType) returnType).getTypeArguments()[0];
+            asyncReturnType = GenericType.FlowPublisher(GenericType.PagedResponse(elementType));
+            returnDescription = "the publisher of the pages of the paginated response";
+            returnExpression
+                = String.format("AsyncHelper.publishPages(() -> %1$s(%2$s).iterableByPage(), this.executor)",
+                    clientMethod.getName(), argumentList);
+        } else if (returnType.asNullable() == ClassType.VOID) {
+            asyncReturnType = GenericType.CompletableFuture(ClassType.VOID);
+            returnDescription = "the CompletableFuture that completes when the operation completes";
+            returnExpression = String.format("AsyncHelper.runAsync(() -> %1$s(%2$s), this.executor)",
+                clientMethod.getName(), argumentList);
+        } else {
+            asyncReturnType = GenericType.CompletableFuture(returnType.asNullable());
+            returnDescription = "the CompletableFuture that completes with "
+                + clientMethod.getReturnValue().getDescription();
+            returnExpression = String.format("AsyncHelper.supplyAsync(() -> %1$s(%2$s), this.executor)",
+                clientMethod.getName(), argumentList);
+        }
+
+        classBlock.javadocComment(comment -> {
+            comment.description(clientMethod.getDescription());
+            parameters.forEach(parameter -> comment.param(parameter.getName(), parameter.getDescription()));
+            comment.methodReturns(returnDescription);
+        });
+        addGeneratedAnnotation(classBlock);
+        TemplateUtil.writeClientMethodServiceMethodAnnotation(clientMethod, classBlock);
+        classBlock.publicMethod(String.format("%1$s %2$sAsync(%3$s)", asyncReturnType, clientMethod.getName(),
+            clientMethod.getParametersDeclaration()), function -> function.methodReturn(returnExpression));
+    }
 }
@@ -8,10 +8,9 @@ import com.azure.core.http.HttpMethod;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.util.polling.LongRunningOperationStatus;
 import com.azure.core.util.polling.SyncPoller;
-import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
@@ -19,28 +18,21 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumT
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterMapping;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterTransformation;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterTransformations;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleHelperFeature;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleNode;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.MethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileContents;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
-import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelExampleUtil;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ClientMethodExampleWriter {
@@ -52,11 +44,25 @@ public class ClientMethodExampleWriter {
         = new ModelExampleWriter.ExampleNodeModelInitializationVisitor();
 
     public ClientMethodExampleWriter(ClientMethod method, String clientVarName, ProxyMethodExample proxyMethodExample) {
+        this(method, clientVarName, proxyMethodExample,
+            ModelExampleUtil.parseNodesFromParameters(method, proxyMethodExample));
+    }
 
-        List<MethodParameter> methodParameters = MethodUtil.getParameters(method, true);
-        List<ExampleNode> exampleNodes = methodParameters.stream()
-            .map(methodParameter -> parseNodeFromParameter(method, proxyMethodExample, methodParameter))
-            .collect(Collectors.toList());
+    /**
+     * Creates the writer of the client method example, with the example nodes of its parameters.
+     * <p>
+     * The example nodes are parsed once per example, and shared by the sample and the test of the example.
+     *
+     * @param clientMethodExample the client method example
+     * @param clientVarName the variable name of the client
+     */
+    public ClientMethodExampleWriter(ClientMethodExample clientMethodExample, String clientVarName) {
+        this(clientMethodExample.getClientMethod(), clientVarName, clientMethodExample.getProxyMethodExample(),
+            clientMethodExample.getParameterNodes());
+    }
+
+    private ClientMethodExampleWriter(ClientMethod method, String clientVarName, ProxyMethodExample proxyMethodExample,
+        List<ExampleNode> exampleNodes) {
 
         String parameterInvocations = exampleNodes.stream().map(nodeVisitor::accept).collect(Collectors.joining(", "));
 
@@ -273,103 +279,6 @@ public class ClientMethodExampleWriter {
             && modelValue instanceof Map;
     }
 
-    /**
-     * Parse example node from given parameter, taking into account parameter grouping.
-     *
-     * @param convenienceMethod the convenience method to generate example for
-     * @param proxyMethodExample the proxy method example
-     * @param methodParameter mapped convenience method parameter to protocol(proxy) method parameter
-     * @return example node
-     */
-    private ExampleNode parseNodeFromParameter(ClientMethod convenienceMethod, ProxyMethodExample proxyMethodExample,
-        MethodParameter methodParameter) {
-        ExampleNode node;
-        final ParameterTransformations transformations = convenienceMethod.getParameterTransformations();
-        if (transformations.isGroupingParameter(methodParameter)) {
-            // grouping, possible with flattening first
-            // group example values into a map
-            Map<String, Object> exampleValue = new HashMap<>();
-            for (ParameterTransformation transformation : convenienceMethod.getParameterTransformations().asList()) {
-                for (ParameterMapping parameterMapping : transformation.getMappings()) {
-                    if (parameterMapping.getOutParameterPropertyName() != null) {
-                        // this is a flattened property, so put flattening(real parameter) value
-
-                        // output parameter's name is the "escaped reserved client method parameter name" of the real
-                        // parameter's serialized name
-                        // since flattened parameter is always in body, we can deal with that explicitly
-                        ClientMethodParameter outputParameter = transformation.getOutParameter();
-                        Map<String, Object> flattenedParameterValue
-                            = getFlattenedBodyParameterExampleValue(proxyMethodExample, outputParameter);
-                        if (flattenedParameterValue != null) {
-                            exampleValue.putAll(flattenedParameterValue);
-                        }
-                        // since it's flattened property, all parameterMappings share the same outputParameter(real
-                        // parameter)
-                        // we only need to put example value once, which is the flattened(real) parameter's value
-                        break;
-                    } else {
-                        // Group property's "serializedName" is the real parameter's "serializedName" on the wire.
-                        // This implicit equivalence is defined in emitter and preserved in mapping client method.
-                        String serializedParameterName = parameterMapping.getInParameterProperty().getSerializedName();
-                        ClientMethodParameter parameter = transformation.getOutParameter();
-                        exampleValue.put(serializedParameterName, ModelExampleUtil.getParameterExampleValue(
-                            proxyMethodExample, serializedParameterName, parameter.getRequestParameterLocation()));
-                    }
-                }
-            }
-            IType type = methodParameter.getClientMethodParameter().getClientType();
-            IType wireType = methodParameter.getClientMethodParameter().getWireType();
-            node = ModelExampleUtil.parseNode(type, wireType, exampleValue);
-        } else if (transformations.isFlattenParameter(methodParameter)) {
-            // flatten, no grouping
-            ClientMethodParameter outputParameter
-                = transformations.getOutParameterIfInParameterFlattened(methodParameter);
-            Map<String, Object> realParameterValue
-                = getFlattenedBodyParameterExampleValue(proxyMethodExample, outputParameter);
-
-            IType type = methodParameter.getClientMethodParameter().getClientType();
-            IType wireType = methodParameter.getClientMethodParameter().getWireType();
-
-            final ParameterMapping parameterMapping = transformations.getInMapping(methodParameter);
-
-            Object methodParameterValue = null;
-            if (realParameterValue != null && parameterMapping != null) {
-                methodParameterValue
-                    = realParameterValue.get(parameterMapping.getOutParameterProperty().getSerializedName());
-            }
-            node = ModelExampleUtil.parseNode(type, wireType, methodParameterValue);
-        } else {
-            node = ModelExampleUtil.parseNodeFromParameter(proxyMethodExample, methodParameter);
-        }
-        return node;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getFlattenedBodyParameterExampleValue(ProxyMethodExample example,
-        ClientMethodParameter clientMethodParameter) {
-        String clientMethodParameterName = clientMethodParameter.getName();
-        Function<String, ProxyMethodExample.ParameterValue> getParameterValue
-            = (parameterSerializedName) -> example.getParameters()
-                .entrySet()
-                .stream()
-                .filter(p -> CodeNamer.getEscapedReservedClientMethodParameterName(p.getKey())
-                    .equalsIgnoreCase(parameterSerializedName))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-        ProxyMethodExample.ParameterValue parameterValue = getParameterValue.apply(clientMethodParameterName);
-
-        if (parameterValue == null
-            && clientMethodParameter.getRequestParameterLocation() == RequestParameterLocation.BODY
-            && !"body".equalsIgnoreCase(clientMethodParameterName)) {
-            // fallback, "body" is commonly used in example JSON for request body
-            clientMethodParameterName = "body";
-            parameterValue = getParameterValue.apply(clientMethodParameterName);
-        }
-
-        return parameterValue == null ? null : (Map<String, Object>) parameterValue.getObjectValue();
-    }
-
     public Set<String> getImports() {
         return new HashSet<>(this.imports);
     }
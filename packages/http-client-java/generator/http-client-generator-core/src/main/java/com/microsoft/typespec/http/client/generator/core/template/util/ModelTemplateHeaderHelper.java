@@ -145,6 +145,62 @@ public final class ModelTemplateHeaderHelper {
 
     }
 
+    /**
+     * Gets an expression of HttpHeaderName instance, for the code that runs on every call of a method.
+     * <p>
+     * For known name, it would be {@code HttpHeaderName.IF_MATCH}. For unknown name, it would be the
+     * {@code private static final} constant written by {@link #writeHttpHeaderNameConstant(JavaClass, String)}, as
+     * {@code HttpHeaderName.fromString("foo")} looks up the name, and writes the lower case name to the shared
+     * instance, on every call.
+     *
+     * @param headerName the header name
+     * @return the expression of HttpHeaderName instance.
+     */
+    public static String getHttpHeaderNameConstantExpression(String headerName) {
+        String knownHttpHeaderName = getKnownHttpHeaderName(headerName);
+        return knownHttpHeaderName != null
+            ? "HttpHeaderName." + knownHttpHeaderName
+            : getHttpHeaderNameConstantName(headerName);
+    }
+
+    /**
+     * Writes a {@code private static final} {@link HttpHeaderName} constant of the header name.
+     * See {@link #getHttpHeaderNameConstantExpression(String)}
+     * <p>
+     * Nothing is written for known name.
+     *
+     * @param classBlock the class block to write the code.
+     * @param headerName the header name
+     */
+    public static void writeHttpHeaderNameConstant(JavaClass classBlock, String headerName) {
+        if (!isKnownHttpHeaderName(headerName)) {
+            classBlock.privateStaticFinalVariable("HttpHeaderName " + getHttpHeaderNameConstantName(headerName)
+                + " = HttpHeaderName.fromString(" + ClassType.STRING.defaultValueExpression(headerName) + ")");
+        }
+    }
+
+    /**
+     * Checks whether the header name is a known name of HttpHeaderName, e.g. {@code HttpHeaderName.IF_MATCH}.
+     *
+     * @param headerName the header name
+     * @return whether the header name is a known name of HttpHeaderName.
+     */
+    public static boolean isKnownHttpHeaderName(String headerName) {
+        return getKnownHttpHeaderName(headerName) != null;
+    }
+
+    private static String getHttpHeaderNameConstantName(String headerName) {
+        // prefix avoids conflict with other static variables in the class, e.g. "LOGGER"
+        return CodeNamer.getEnumMemberName("HttpHeaderName-" + headerName);
+    }
+
+    private static String getKnownHttpHeaderName(String headerName) {
+        String caseInsensitiveName = HttpHeaderName.fromString(headerName).getCaseInsensitiveName();
+        return JavaSettings.getInstance().isAzureV1()
+            ? HEADER_TO_KNOWN_HTTPHEADERNAME.get(caseInsensitiveName)
+            : CLIENTCORE_HEADER_TO_KNOWN_HTTPHEADERNAME.get(caseInsensitiveName);
+    }
+
     /**
      * Adds {@code private static final} {@link HttpHeaderName} constants representing the headers that are used by the
      * {@link ClientModel}.
@@ -0,0 +1,176 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable index of the inheritance hierarchy of the client models.
+ * <p>
+ * For each model, the index holds the chain of parent models, the properties defined by the parent models, the
+ * serialized names of these properties, the root parent, and all the derived models. The index is built once after the
+ * client models are mapped, so that templates look up the hierarchy without walking the parent chain by name on every
+ * call.
+ * <p>
+ * Models that are not in the index, e.g. models created after the index is built, are not found by {@link #get}, and
+ * the caller should walk the hierarchy instead.
+ */
+public final class ClientModelHierarchy {
+
+    private final Map<ClientModel, Entry> entries;
+
+    private ClientModelHierarchy(Map<ClientModel, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Builds the index of the client models.
+     * <p>
+     * Parent models are resolved by name, via {@code getClientModel}. Parent models that are not in {@code models},
+     * e.g. models in azure-core-management, are indexed as well.
+     *
+     * @param models the client models.
+     * @param getClientModel the function of getting ClientModel by name.
+     * @return the index of the client models.
+     */
+    public static ClientModelHierarchy build(Collection<ClientModel> models,
+        Function<String, ClientModel> getClientModel) {
+        Map<ClientModel, Entry> entries = new IdentityHashMap<>();
+        for (ClientModel model : models) {
+            if (!entries.containsKey(model)) {
+                List<ClientModel> parentModels = getParentModels(model, getClientModel);
+                entries.put(model, new Entry(model, parentModels));
+                // the chain of a parent model is the rest of the chain
+                for (int i = 0; i < parentModels.size(); ++i) {
+                    ClientModel parentModel = parentModels.get(i);
+                    if (!entries.containsKey(parentModel)) {
+                        entries.put(parentModel,
+                            new Entry(parentModel, parentModels.subList(i + 1, parentModels.size())));
+                    }
+                }
+            }
+        }
+        return new ClientModelHierarchy(entries);
+    }
+
+    /**
+     * Gets the entry of the model in the index.
+     *
+     * @param model the client model.
+     * @return the entry of the model, or null if the model is not in the index.
+     */
+    public Entry get(ClientModel model) {
+        return model == null ? null : entries.get(model);
+    }
+
+    /**
+     * The hierarchy of a client model.
+     */
+    public static final class Entry {
+        private final ClientModel model;
+        private final List<ClientModel> parentModels;
+        private final List<ClientModelProperty> parentProperties;
+        private final Set<String> parentPropertySerializedNames;
+        private final List<ClientModel> allDerivedModels;
+
+        private Entry(ClientModel model, List<ClientModel> parentModels) {
+            this.model = model;
+            this.parentModels = Collections.unmodifiableList(new ArrayList<>(parentModels));
+
+            List<ClientModelProperty> parentProperties = new ArrayList<>();
+            for (int i = parentModels.size() - 1; i >= 0; --i) {
+                parentProperties.addAll(parentModels.get(i).getProperties());
+            }
+            this.parentProperties = Collections.unmodifiableList(parentProperties);
+
+            Set<String> parentPropertySerializedNames = new HashSet<>();
+            for (ClientModelProperty property : parentProperties) {
+                parentPropertySerializedNames.add(property.getSerializedName());
+            }
+            this.parentPropertySerializedNames = parentPropertySerializedNames;
+
+            List<ClientModel> allDerivedModels = new ArrayList<>();
+            addAllDerivedModels(model, allDerivedModels);
+            this.allDerivedModels = Collections.unmodifiableList(allDerivedModels);
+        }
+
+        /**
+         * Gets the parent models, from the direct parent to the root parent.
+         *
+         * @return the parent models.
+         */
+        public List<ClientModel> getParentModels() {
+            return parentModels;
+        }
+
+        /**
+         * Gets the properties defined by the parent models, the properties of the root parent in the front.
+         *
+         * @return the properties defined by the parent models.
+         */
+        public List<ClientModelProperty> getParentProperties() {
+            return parentProperties;
+        }
+
+        /**
+         * Checks whether a parent model defines a property of the serialized name.
+         *
+         * @param serializedName the serialized name of the property.
+         * @return whether a parent model defines a property of the serialized name.
+         */
+        public boolean isParentPropertySerializedName(String serializedName) {
+            return parentPropertySerializedNames.contains(serializedName);
+        }
+
+        /**
+         * Gets the root parent of the model, or the model itself if it has no parent model.
+         *
+         * @return the root parent of the model.
+         */
+        public ClientModel getRootParent() {
+            return parentModels.isEmpty() ? model : parentModels.get(parentModels.size() - 1);
+        }
+
+        /**
+         * Gets all the models that derive from the model, directly or indirectly, in depth-first order.
+         *
+         * @return all the models that derive from the model.
+         */
+        public List<ClientModel> getAllDerivedModels() {
+            return allDerivedModels;
+        }
+
+        private static void addAllDerivedModels(ClientModel model, List<ClientModel> derivedModels) {
+            if (model.getDerivedModels() != null) {
+                for (ClientModel derivedModel : model.getDerivedModels()) {
+                    derivedModels.add(derivedModel);
+                    addAllDerivedModels(derivedModel, derivedModels);
+                }
+            }
+        }
+    }
+
+    private static List<ClientModel> getParentModels(ClientModel model,
+        Function<String, ClientModel> getClientModel) {
+        List<ClientModel> parentModels = new ArrayList<>();
+        String lastParentName = model.getName();
+        ClientModel parentModel = getClientModel.apply(model.getParentModelName());
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            parentModels.add(parentModel);
+            lastParentName = parentModel.getName();
+            parentModel = getClientModel.apply(parentModel.getParentModelName());
+        }
+        return parentModels;
+    }
+}
@@ -69,6 +69,25 @@ public class ClientModelUtil {
     public static final String CLIENT_CORE_OPERATION_LOCATION_POLLING_STRATEGY
         = "ClientCoreOperationLocationPollingStrategy";
 
+    public static final String PAGING_PREFETCH_HELPER_CLASS_NAME = "PagingPrefetchHelper";
+    public static final String CLIENT_CORE_PAGING_PREFETCH_HELPER = "ClientCorePagingPrefetchHelper";
+
+    public static final String ASYNC_HELPER_CLASS_NAME = "AsyncHelper";
+    public static final String CLIENT_CORE_ASYNC_HELPER = "ClientCoreAsyncHelper";
+
+    public static final String BULK_OPERATION_HELPER_CLASS_NAME = "BulkOperationHelper";
+    public static final String CLIENT_CORE_BULK_OPERATION_HELPER = "ClientCoreBulkOperationHelper";
+    public static final String BULK_OPERATION_RESULT_CLASS_NAME = "BulkOperationResult";
+
+    public static final String RESPONSE_CACHE_POLICY_CLASS_NAME = "ResponseCachePolicy";
+    public static final String CLIENT_CORE_RESPONSE_CACHE_POLICY = "ClientCoreResponseCachePolicy";
+
+    public static final String ERROR_MAPPING_POLICY_CLASS_NAME = "ErrorMappingPolicy";
+
+    public static final String SERVICE_IMPLEMENTATION_HELPER_CLASS_NAME = "ServiceImplementationHelper";
+
+    public static final String DATE_TIME_HELPER_CLASS_NAME = "DateTimeHelper";
+
     private ClientModelUtil() {
     }
 
@@ -455,6 +474,84 @@ public class ClientModelUtil {
         return getClientModelFunction.apply(name);
     }
 
+    private static volatile ClientModelHierarchy modelHierarchy;
+
+    /**
+     * Builds the index of the inheritance hierarchy of the client models, which is used by the methods that look up the
+     * parent models, the parent properties, or the derived models.
+     * <p>
+     * Called after the client models are mapped.
+     *
+     * @param models the client models
+     */
+    public static void buildModelHierarchy(List<ClientModel> models) {
+        modelHierarchy = ClientModelHierarchy.build(models, getClientModelFunction);
+    }
+
+    /**
+     * Clears the index of the inheritance hierarchy of the client models.
+     */
+    public static void clearModelHierarchy() {
+        modelHierarchy = null;
+    }
+
+    /*
+     * Returns null, if the index is not built, or the model is not in the index. The caller then walks the hierarchy.
+     */
+    private static ClientModelHierarchy.Entry getModelHierarchy(ClientModel model) {
+        ClientModelHierarchy hierarchy = modelHierarchy;
+        return hierarchy == null ? null : hierarchy.get(model);
+    }
+
+    /**
+     * Gets the parent models of the given model, from the direct parent to the root parent.
+     *
+     * @param model The client model.
+     * @return The parent models of the client model.
+     */
+    public static List<ClientModel> getParentModels(ClientModel model) {
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        if (entry != null) {
+            return entry.getParentModels();
+        }
+
+        List<ClientModel> parentModels = new ArrayList<>();
+        String lastParentName = model.getName();
+        ClientModel parentModel = getClientModel(model.getParentModelName());
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            parentModels.add(parentModel);
+            lastParentName = parentModel.getName();
+            parentModel = getClientModel(parentModel.getParentModelName());
+        }
+        return parentModels;
+    }
+
+    /**
+     * Gets all the models that derive from the given model, directly or indirectly, in depth-first order.
+     *
+     * @param model The client model.
+     * @return All the models that derive from the client model.
+     */
+    public static List<ClientModel> getAllDerivedModels(ClientModel model) {
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        if (entry != null) {
+            return entry.getAllDerivedModels();
+        }
+
+        List<ClientModel> derivedModels = new ArrayList<>();
+        addAllDerivedModels(model, derivedModels);
+        return derivedModels;
+    }
+
+    private static void addAllDerivedModels(ClientModel model, List<ClientModel> derivedModels) {
+        if (model.getDerivedModels() != null) {
+            for (ClientModel derivedModel : model.getDerivedModels()) {
+                derivedModels.add(derivedModel);
+                addAllDerivedModels(derivedModel, derivedModels);
+            }
+        }
+    }
+
     /**
      * Check if the type is a ClientModel.
      *
@@ -562,7 +659,7 @@ public class ClientModelUtil {
      * @return Returns all properties that are defined by super types of the client model.
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst) {
-        return getParentProperties(model, parentPropertiesFirst, m -> true);
+        return getParentProperties(model, parentPropertiesFirst, null);
     }
 
     /**
@@ -575,49 +672,44 @@ public class ClientModelUtil {
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst,
         Predicate<ClientModel> modelFilter) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
-        List<ClientModelProperty> parentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            if (modelFilter == null || modelFilter.test(parentModel)) {
-                // Add the properties in inverse order as they be reverse at the end.
-                List<ClientModelProperty> parentProps = new ArrayList<>(parentModel.getProperties());
-                for (int i = parentProps.size() - 1; i >= 0; i--) {
-                    parentProperties.add(parentProps.get(i));
+        List<ClientModelProperty> parentProperties;
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        if (entry != null && modelFilter == null) {
+            parentProperties = new ArrayList<>(entry.getParentProperties());
+        } else {
+            List<ClientModel> parentModels = entry != null ? entry.getParentModels() : getParentModels(model);
+            parentProperties = new ArrayList<>();
+            for (int i = parentModels.size() - 1; i >= 0; i--) {
+                ClientModel parentModel = parentModels.get(i);
+                if (modelFilter == null || modelFilter.test(parentModel)) {
+                    parentProperties.addAll(parentModel.getProperties());
                 }
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
         }
-        if (parentPropertiesFirst) {
+        if (!parentPropertiesFirst) {
             Collections.reverse(parentProperties);
         }
         return parentProperties;
     }
 
     public static List<ClientModelProperty> getRequiredWritableParentProperties(ClientModel model) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
         List<ClientModelProperty> requiredParentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> ctorArgs = parentModel.getProperties()
-                .stream()
-                .filter(property -> property.isRequired() && !property.isConstant() && !property.isReadOnly())
-                .collect(Collectors.toList());
-
-            for (int i = ctorArgs.size() - 1; i >= 0; i--) {
-                requiredParentProperties.add(ctorArgs.get(i));
+        for (ClientModelProperty property : getParentPropertiesView(model)) {
+            if (property.isRequired() && !property.isConstant() && !property.isReadOnly()) {
+                requiredParentProperties.add(property);
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
         }
-        Collections.reverse(requiredParentProperties);
         return requiredParentProperties;
     }
 
+    /*
+     * Same as getParentProperties(model), except that the returned list may be unmodifiable.
+     */
+    private static List<ClientModelProperty> getParentPropertiesView(ClientModel model) {
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        return entry != null ? entry.getParentProperties() : getParentProperties(model);
+    }
+
     /**
      * Gets all the properties that parent models define that are part of the constructor.
      * <p>
@@ -630,21 +722,14 @@ public class ClientModelUtil {
      * constructor.
      */
     public static List<ClientModelProperty> getParentConstructorProperties(ClientModel model, JavaSettings settings) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
+        List<ClientModelProperty> parentProperties = getParentPropertiesView(model);
         Set<ClientModelProperty> constructorProperties = new LinkedHashSet<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> parentProperties = parentModel.getProperties();
-            for (int i = parentProperties.size() - 1; i >= 0; i--) {
-                ClientModelProperty property = parentProperties.get(i);
-                if (includePropertyInConstructor(property, settings)) {
-                    constructorProperties.add(property);
-                }
+        // Add the properties in inverse order as they be reverse at the end.
+        for (int i = parentProperties.size() - 1; i >= 0; i--) {
+            ClientModelProperty property = parentProperties.get(i);
+            if (includePropertyInConstructor(property, settings)) {
+                constructorProperties.add(property);
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
         }
 
         List<ClientModelProperty> propertyList = new ArrayList<>(constructorProperties);
@@ -797,6 +882,11 @@ public class ClientModelUtil {
             return model;
         }
 
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        if (entry != null) {
+            return entry.getRootParent();
+        }
+
         while (model.getParentModelName() != null) {
             model = getClientModel(model.getParentModelName());
         }
@@ -882,6 +972,11 @@ public class ClientModelUtil {
             return true;
         }
 
+        ClientModelHierarchy.Entry entry = getModelHierarchy(model);
+        if (entry != null) {
+            return !entry.isParentPropertySerializedName(property.getSerializedName());
+        }
+
         for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
             if (Objects.equals(property.getSerializedName(), parentProperty.getSerializedName())) {
                 return false;
@@ -901,12 +996,13 @@ public class ClientModelUtil {
      * @return The {@link ClientModel} that defines the given {@link ClientModelProperty}.
      */
     public static ClientModel getDefiningModel(ClientModel model, ClientModelProperty property) {
-        ClientModel current = model;
-        while (current != null) {
-            if (ClientModelUtil.modelDefinesProperty(current, property)) {
-                return current;
+        if (ClientModelUtil.modelDefinesProperty(model, property)) {
+            return model;
+        }
+        for (ClientModel parentModel : getParentModels(model)) {
+            if (ClientModelUtil.modelDefinesProperty(parentModel, property)) {
+                return parentModel;
             }
-            current = ClientModelUtil.getClientModel(current.getParentModelName());
         }
         throw new IllegalArgumentException("unable to find defining model for property: " + property);
     }
@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.LongRunningMetadata;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CodeModelUtil {
+
+    private CodeModelUtil() {
+    }
+
+    /**
+     * Creates a copy of the code model, which only contains the metadata that the templates read from the code model.
+     * <p>
+     * The templates write the Java files from the client model. They only read the name, info, API versions and
+     * service versions of the clients, and the API versions and polling strategies of the operations, from the code
+     * model. The copy does not contain the schemas, parameters, requests and responses, hence the code model (which is
+     * usually the largest object in the heap of a very large spec) can be released after it is mapped to the client
+     * model.
+     *
+     * @param codeModel the code model.
+     * @return the copy of the code model, for the templates.
+     */
+    public static CodeModel copyForTemplates(CodeModel codeModel) {
+        CodeModel copy = new CodeModel();
+        copyClient(codeModel, copy);
+        copy.setInfo(codeModel.getInfo());
+        copy.setSchemas(new Schemas());
+        if (codeModel.getClients() != null) {
+            copy.setClients(codeModel.getClients().stream().map(client -> {
+                Client clientCopy = new Client();
+                copyClient(client, clientCopy);
+                return clientCopy;
+            }).collect(Collectors.toList()));
+        }
+        return copy;
+    }
+
+    private static void copyClient(Client client, Client copy) {
+        copy.setLanguage(client.getLanguage());
+        copy.setApiVersions(client.getApiVersions());
+        copy.setServiceVersion(client.getServiceVersion());
+        copy.setOperationGroups(copyOperationGroups(client.getOperationGroups()));
+    }
+
+    private static List<OperationGroup> copyOperationGroups(List<OperationGroup> operationGroups) {
+        if (operationGroups == null) {
+            return null;
+        }
+        return operationGroups.stream().map(operationGroup -> {
+            OperationGroup copy = new OperationGroup();
+            copy.setLanguage(operationGroup.getLanguage());
+            copy.set$key(operationGroup.get$key());
+            if (operationGroup.getOperations() != null) {
+                copy.setOperations(operationGroup.getOperations()
+                    .stream()
+                    .map(CodeModelUtil::copyOperation)
+                    .collect(Collectors.toList()));
+            }
+            return copy;
+        }).collect(Collectors.toList());
+    }
+
+    private static Operation copyOperation(Operation operation) {
+        Operation copy = new Operation();
+        copy.setLanguage(operation.getLanguage());
+        copy.setApiVersions(operation.getApiVersions());
+        if (operation.getLroMetadata() != null) {
+            LongRunningMetadata lroMetadata = new LongRunningMetadata();
+            lroMetadata.setPollingStrategy(operation.getLroMetadata().getPollingStrategy());
+            copy.setLroMetadata(lroMetadata);
+        }
+        return copy;
+    }
+}
@@ -6,16 +6,19 @@ package com.microsoft.typespec.http.client.generator.core.util;
 import static com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getBasicLatinCharacter;
 
 import java.util.Set;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import org.atteo.evo.inflector.English;
 
 public class CodeNamer {
 
     private static NamerFactory factory = new DefaultNamerFactory();
 
-    private static final Pattern MERGE_UNDERSCORES = Pattern.compile("_{2,}");
-    private static final Pattern CHARACTERS_TO_REPLACE_WITH_UNDERSCORE = Pattern.compile("[\\\\/.+ -]+");
+    // the characters replaced with underscore, in enum member name
+    private static final boolean[] CHARACTERS_TO_REPLACE_WITH_UNDERSCORE = new boolean[128];
+
+    static {
+        for (char c : new char[] { '\\', '/', '.', '+', ' ', '-' }) {
+            CHARACTERS_TO_REPLACE_WITH_UNDERSCORE[c] = true;
+        }
+    }
 
     public static void setFactory(NamerFactory templateFactory) {
         factory = templateFactory;
@@ -25,6 +28,10 @@ public class CodeNamer {
         return factory.getModelNamer();
     }
 
+    public static NameCache getNameCache() {
+        return factory.getNameCache();
+    }
+
     private CodeNamer() {
     }
 
@@ -127,34 +134,30 @@ public class CodeNamer {
     }
 
     public static String removeInvalidCharacters(String name) {
-        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getValidName(name,
-            c -> c == '_' || c == '-');
+        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer
+            .removeInvalidCharacters(name);
     }
 
     public static String getPropertyName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return name;
-        }
-        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer
-            .getEscapedReservedName(toCamelCase(removeInvalidCharacters(name)), "Property");
+        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getPropertyName(name);
     }
 
     public static String getPlural(String name) {
-        if (name != null && !name.isEmpty() && !name.endsWith("s") && !name.endsWith("S")) {
-            name = English.plural(name);
-        }
-        return name;
+        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getPlural(name);
     }
 
     public static String getEnumMemberName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
+        return getNameCache().getName(NameCache.Kind.ENUM_MEMBER_NAME, name, CodeNamer::convertToEnumMemberName);
+    }
 
+    private static String convertToEnumMemberName(String name) {
         // trim leading and trailing '_'
         name = trimUnderscores(name);
 
-        String result = removeInvalidCharacters(CHARACTERS_TO_REPLACE_WITH_UNDERSCORE.matcher(name).replaceAll("_"));
+        String result = removeInvalidCharacters(replaceWithUnderscore(name));
 
         if (result.startsWith("_")) {
             // some "_" remains after "removeInvalidCharacters", e.g. "_100_Gift_Card"
@@ -164,19 +167,24 @@ public class CodeNamer {
             result = removeInvalidCharacters(result);
         }
 
-        // merge underscores
-        result = MERGE_UNDERSCORES.matcher(result).replaceAll("_");  // merge multiple underlines
-
-        // convert PascalCase to UPPER_CASE
-        Function<Character, Boolean> isUpper = c -> c >= 'A' && c <= 'Z';
-        Function<Character, Boolean> isLower = c -> c >= 'a' && c <= 'z';
-        for (int i = 1; i < result.length() - 1; i++) {
-            if (isUpper.apply(result.charAt(i))) {
-                if (result.charAt(i - 1) != '_' && isLower.apply(result.charAt(i - 1))) {
-                    result = result.substring(0, i) + "_" + result.substring(i);
+        // merge multiple underlines, and convert PascalCase to UPPER_CASE
+        StringBuilder upperCase = new StringBuilder(result.length() + 8);
+        int resultLength = result.length();
+        for (int i = 0; i < resultLength; i++) {
+            char c = result.charAt(i);
+            if (c == '_' && i > 0 && result.charAt(i - 1) == '_') {
+                continue;
+            }
+            // the last character is not separated
+            if (c >= 'A' && c <= 'Z' && i > 0 && i < resultLength - 1) {
+                char prev = result.charAt(i - 1);
+                if (prev >= 'a' && prev <= 'z') {
+                    upperCase.append('_');
                 }
             }
+            upperCase.append(c);
         }
+        result = upperCase.toString();
 
         if (result.startsWith("_") || result.endsWith("_")) {
             if (!result.chars().allMatch(c -> c == (int) '_')) {
@@ -253,6 +261,31 @@ public class CodeNamer {
         return sb.toString();
     }
 
+    private static String replaceWithUnderscore(String name) {
+        // replace each run of the characters with a single '_'
+        StringBuilder sb = null;
+        int nameLength = name.length();
+        for (int i = 0; i < nameLength; i++) {
+            char c = name.charAt(i);
+            if (isReplacedWithUnderscore(c)) {
+                if (sb == null) {
+                    sb = new StringBuilder(nameLength);
+                    sb.append(name, 0, i);
+                }
+                if (i == 0 || !isReplacedWithUnderscore(name.charAt(i - 1))) {
+                    sb.append('_');
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? name : sb.toString();
+    }
+
+    private static boolean isReplacedWithUnderscore(char c) {
+        return c < 128 && CHARACTERS_TO_REPLACE_WITH_UNDERSCORE[c];
+    }
+
     private static String trimUnderscores(String name) {
         // trim leading and trailing '_'
         if ((name.startsWith("_") || name.endsWith("_")) && !name.chars().allMatch(c -> c == '_')) {
@@ -0,0 +1,417 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timing and allocation metrics of the stages of code generation, e.g. YAML load, transform, each mapper, each
+ * template, partial update, unused import removal, format and file write.
+ * <p>
+ * Metrics are collected if the system property or environment setting {@code codegen.java.metrics.report} is set to
+ * the path of the JSON report. The report is written at the end of code generation, by {@link #writeReport()}.
+ * <p>
+ * Each stage is also emitted as a {@code com.microsoft.typespec.GeneratorStage} JFR event, if a JFR recording with
+ * that event enabled is in progress (e.g. "dev-options.profile" of the emitter).
+ * <p>
+ * Time is wall-clock time. Allocation is measured on the thread that runs the stage; allocation by the stage in other
+ * threads (e.g. parallel streams) is not included. Nested stages are included in their enclosing stage.
+ * <p>
+ * The report also includes the peak usage of the heap, and the peak resident set size of the process (on Linux), of
+ * the whole code generation.
+ */
+public final class GeneratorMetrics {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorMetrics.class);
+
+    private static final String REPORT_PROPERTY = "codegen.java.metrics.report";
+
+    private static final Scope NOOP_SCOPE = new Scope(null, null);
+
+    private static final String REPORT_PATH;
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN;
+
+    private static final Map<String, StageMetrics> STAGES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, String>> STAGE_NAMES = new ConcurrentHashMap<>();
+    private static volatile long startNanos = System.nanoTime();
+    // whether a JFR recording is running, so that no event is allocated to check whether it is enabled when none is
+    private static volatile boolean jfrRecording;
+
+    static {
+        String reportPath = System.getProperty(REPORT_PROPERTY);
+        if (reportPath == null || reportPath.isEmpty()) {
+            reportPath = System.getenv(REPORT_PROPERTY);
+        }
+        REPORT_PATH = reportPath == null || reportPath.isEmpty() ? null : reportPath;
+
+        com.sun.management.ThreadMXBean threadMXBean = null;
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                threadMXBean = (com.sun.management.ThreadMXBean) bean;
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // allocation is not measured on this JVM
+            threadMXBean = null;
+        }
+        THREAD_MX_BEAN = threadMXBean;
+
+        try {
+            // the listener is notified of the recorder immediately, if it is already initialized
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    updateJfrRecording(recorder);
+                }
+
+                @Override
+                public void recordingStateChanged(Recording recording) {
+                    updateJfrRecording(FlightRecorder.getFlightRecorder());
+                }
+            });
+        } catch (LinkageError | RuntimeException e) {
+            // JFR events are not emitted on this JVM
+            jfrRecording = false;
+        }
+    }
+
+    private GeneratorMetrics() {
+    }
+
+    /**
+     * Whether metrics are collected for the JSON report.
+     *
+     * @return whether metrics are collected for the JSON report
+     */
+    public static boolean isEnabled() {
+        return REPORT_PATH != null;
+    }
+
+    /**
+     * Starts measuring a stage. The stage ends when the returned scope is closed.
+     *
+     * @param stage the name of the stage
+     * @return the scope of the stage
+     */
+    public static Scope start(String stage) {
+        if (REPORT_PATH == null && !jfrRecording) {
+            return NOOP_SCOPE;
+        }
+        GeneratorStageEvent event = new GeneratorStageEvent();
+        if (REPORT_PATH == null && !event.isEnabled()) {
+            return NOOP_SCOPE;
+        }
+        return new Scope(stage, event);
+    }
+
+    /**
+     * Starts measuring a stage, which is named by the category and the simple name of the class. E.g. category
+     * "template" and class {@code ModelTemplate} gives stage "template.ModelTemplate".
+     *
+     * @param category the category of the stage
+     * @param type the class that performs the stage
+     * @return the scope of the stage
+     */
+    public static Scope start(String category, Class<?> type) {
+        if (REPORT_PATH == null && !jfrRecording) {
+            return NOOP_SCOPE;
+        }
+        GeneratorStageEvent event = new GeneratorStageEvent();
+        if (REPORT_PATH == null && !event.isEnabled()) {
+            return NOOP_SCOPE;
+        }
+        String stage = STAGE_NAMES.computeIfAbsent(type, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(category, k -> k + "." + type.getSimpleName());
+        return new Scope(stage, event);
+    }
+
+    /**
+     * Measures a stage.
+     *
+     * @param stage the name of the stage
+     * @param action the action of the stage
+     * @param <T> the type of the result
+     * @return the result of the action
+     */
+    public static <T> T measure(String stage, Supplier<T> action) {
+        try (Scope ignored = start(stage)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Measures a stage.
+     *
+     * @param stage the name of the stage
+     * @param action the action of the stage
+     */
+    public static void measure(String stage, Runnable action) {
+        try (Scope ignored = start(stage)) {
+            action.run();
+        }
+    }
+
+    /**
+     * Gets the metrics collected, sorted by stage name.
+     *
+     * @return the metrics collected
+     */
+    public static List<StageMetrics> getStageMetrics() {
+        List<StageMetrics> stages = new ArrayList<>(STAGES.values());
+        stages.sort(Comparator.comparing(StageMetrics::getStage));
+        return stages;
+    }
+
+    /**
+     * Clears the metrics collected, and resets the peak usage of the heap.
+     */
+    public static void reset() {
+        STAGES.clear();
+        startNanos = System.nanoTime();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Writes the JSON report to the path in {@code codegen.java.metrics.report}, if metrics are collected.
+     */
+    public static void writeReport() {
+        if (REPORT_PATH == null) {
+            return;
+        }
+
+        Path reportPath = Paths.get(REPORT_PATH).toAbsolutePath();
+        try {
+            if (reportPath.getParent() != null) {
+                Files.createDirectories(reportPath.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+                writer.write(toJsonString());
+            }
+            LOGGER.info("Write generator metrics: {}", reportPath);
+        } catch (IOException | RuntimeException e) {
+            // metrics should not fail code generation
+            LOGGER.warn("Failed to write generator metrics: {}", reportPath, e);
+        }
+    }
+
+    /**
+     * Serializes the metrics collected to JSON string.
+     *
+     * @return the JSON string
+     */
+    public static String toJsonString() {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            jsonWriter.writeStartObject()
+                .writeLongField("totalTimeMillis", (System.nanoTime() - startNanos) / 1_000_000)
+                .writeBooleanField("allocationMeasured", THREAD_MX_BEAN != null)
+                .writeLongField("peakHeapBytes", getPeakHeapBytes())
+                .writeLongField("peakRssBytes", getPeakRssBytes())
+                .writeArrayField("stages", getStageMetrics(), JsonWriter::writeJson)
+                .writeEndObject()
+                .flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringWriter.toString();
+    }
+
+    /**
+     * Gets the peak usage of the heap, as the sum of the peak usage of the heap memory pools.
+     *
+     * @return the peak usage of the heap, in bytes
+     */
+    public static long getPeakHeapBytes() {
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeapBytes;
+    }
+
+    /**
+     * Gets the peak resident set size of the process, from "VmHWM" of "/proc/self/status".
+     *
+     * @return the peak resident set size of the process, in bytes, or -1 if it is not available on the OS
+     */
+    public static long getPeakRssBytes() {
+        Path statusPath = Paths.get("/proc/self/status");
+        if (!Files.isReadable(statusPath)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(statusPath, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    // e.g. "VmHWM:	  123456 kB"
+                    String value = line.substring("VmHWM:".length()).trim();
+                    return Long.parseLong(value.substring(0, value.indexOf(' '))) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // metrics should not fail code generation
+            LOGGER.debug("Failed to read peak RSS from {}", statusPath, e);
+        }
+        return -1;
+    }
+
+    private static void updateJfrRecording(FlightRecorder recorder) {
+        try {
+            jfrRecording = recorder.getRecordings().stream().anyMatch(r -> r.getState() == RecordingState.RUNNING);
+        } catch (RuntimeException e) {
+            // events are checked on every stage, if the state of the recordings is unknown
+            jfrRecording = true;
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The scope of a stage in measurement.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final String stage;
+        private final GeneratorStageEvent event;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Scope(String stage, GeneratorStageEvent event) {
+            this.stage = stage;
+            this.event = event;
+            if (event != null) {
+                event.begin();
+                this.startAllocatedBytes = currentThreadAllocatedBytes();
+                this.startNanos = System.nanoTime();
+            } else {
+                this.startAllocatedBytes = 0;
+                this.startNanos = 0;
+            }
+        }
+
+        /**
+         * Ends the stage.
+         */
+        @Override
+        public void close() {
+            if (event == null) {
+                return;
+            }
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = currentThreadAllocatedBytes() - startAllocatedBytes;
+
+            if (REPORT_PATH != null) {
+                STAGES.computeIfAbsent(stage, StageMetrics::new).add(elapsedNanos, allocatedBytes);
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage;
+                event.allocatedBytes = allocatedBytes;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Aggregated metrics of a stage.
+     */
+    public static final class StageMetrics implements JsonSerializable<StageMetrics> {
+        private final String stage;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private StageMetrics(String stage) {
+            this.stage = stage;
+        }
+
+        private void add(long elapsedNanos, long allocated) {
+            count.increment();
+            timeNanos.add(elapsedNanos);
+            allocatedBytes.add(allocated);
+        }
+
+        /**
+         * Gets the name of the stage.
+         *
+         * @return the name of the stage
+         */
+        public String getStage() {
+            return stage;
+        }
+
+        /**
+         * Gets the number of times the stage ran.
+         *
+         * @return the number of times the stage ran
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the total time of the stage, in nanoseconds.
+         *
+         * @return the total time of the stage
+         */
+        public long getTimeNanos() {
+            return timeNanos.sum();
+        }
+
+        /**
+         * Gets the total bytes allocated by the stage, on the thread that runs the stage.
+         *
+         * @return the total bytes allocated by the stage
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return jsonWriter.writeStartObject()
+                .writeStringField("stage", stage)
+                .writeLongField("count", getCount())
+                .writeLongField("timeMillis", getTimeNanos() / 1_000_000)
+                .writeLongField("allocatedBytes", getAllocatedBytes())
+                .writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a stage of code generation.
+ *
+ * @see GeneratorMetrics
+ */
+@Name("com.microsoft.typespec.GeneratorStage")
+@Label("Generator Stage")
+@Category("TypeSpec Java Generator")
+@Description("A stage of code generation, e.g. mapper, template, format.")
+final class GeneratorStageEvent extends Event {
+    @Label("Stage")
+    String stage;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the stage on the thread that runs the stage.")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -25,11 +25,13 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.MethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -86,6 +88,127 @@ public class MethodUtil {
         return REPEATABILITY_REQUEST_HTTP_METHODS.contains(httpMethod);
     }
 
+    /**
+     * Checks that paging method prefetches the next pages, via the PagingPrefetchHelper class.
+     * <p>
+     * It applies to paging method with next link, when "paging-prefetch-depth" is positive.
+     *
+     * @param clientMethod the client method
+     * @param settings the Java settings
+     * @return whether paging method prefetches the next pages
+     */
+    public static boolean isPagingPrefetch(ClientMethod clientMethod, JavaSettings settings) {
+        if (settings.getPagingPrefetchDepth() <= 0
+            || !clientMethod.isPageStreamingType()
+            || clientMethod.getMethodPageDetails() == null
+            || !clientMethod.getMethodPageDetails().nonNullNextLink()) {
+            return false;
+        }
+        // the helper of clientcore only supports PagedIterable
+        return settings.isAzureV1() || clientMethod.getType() == ClientMethodType.PagingSync;
+    }
+
+    /**
+     * Gets the parameter that the bulk method of the sync method iterates, via the BulkOperationHelper class.
+     * <p>
+     * It applies to public single method in sync client, when "bulk-method-concurrency" is positive. The iterated
+     * parameter is the last required path parameter of the method, e.g. the name of the resource.
+     *
+     * @param clientMethod the client method
+     * @param settings the Java settings
+     * @return the parameter that the bulk method iterates, or null if the method does not have bulk method
+     */
+    public static ClientMethodParameter getBulkKeyParameter(ClientMethod clientMethod, JavaSettings settings) {
+        if (settings.getBulkMethodConcurrency() <= 0
+            || settings.isFluent()
+            || (clientMethod.getType() != ClientMethodType.SimpleSync
+                && clientMethod.getType() != ClientMethodType.SimpleSyncRestResponse)
+            || clientMethod.getMethodVisibility() != JavaVisibility.Public
+            || clientMethod.getMethodVisibilityInWrapperClient() != JavaVisibility.Public
+            || clientMethod.isImplementationOnly()) {
+            return null;
+        }
+
+        ClientMethodParameter keyParameter = null;
+        for (ClientMethodParameter parameter : clientMethod.getMethodInputParameters()) {
+            if (parameter.getRequestParameterLocation() == RequestParameterLocation.PATH
+                && parameter.isRequired()
+                && !parameter.isConstant()
+                && !parameter.isFromClient()) {
+                keyParameter = parameter;
+            }
+        }
+        return keyParameter;
+    }
+
+    /**
+     * Checks that sync method downloads binary payload, and has the overloads that write the payload to a file or a
+     * channel.
+     * <p>
+     * It applies to public single method that returns BinaryData of binary media type, when "binary-file-overloads" is
+     * true.
+     *
+     * @param clientMethod the client method
+     * @param settings the Java settings
+     * @return whether sync method has the overloads that write the payload to a file or a channel
+     */
+    public static boolean isFileDownloadMethod(ClientMethod clientMethod, JavaSettings settings) {
+        if (!isFileOverloadCandidate(clientMethod, settings)
+            || clientMethod.getReturnValue().getType() != ClassType.BINARY_DATA) {
+            return false;
+        }
+        Set<String> responseContentTypes = clientMethod.getProxyMethod().getResponseContentTypes();
+        // the media type of error response is not considered
+        return !CoreUtils.isNullOrEmpty(responseContentTypes)
+            && responseContentTypes.stream()
+                .filter(mediaType -> !CONTENT_TYPE_APPLICATION_JSON_ERROR_WEIGHT.equals(mediaType))
+                .allMatch(MethodUtil::isBinaryMediaType)
+            && responseContentTypes.stream().anyMatch(MethodUtil::isBinaryMediaType);
+    }
+
+    /**
+     * Gets the BinaryData parameter of binary media type, that the sync method has the overload to upload from a file.
+     * <p>
+     * It applies to public single method with BinaryData body of binary media type, when "binary-file-overloads" is
+     * true.
+     *
+     * @param clientMethod the client method
+     * @param settings the Java settings
+     * @return the body parameter to upload from a file, or null if the method does not have the overload
+     */
+    public static ClientMethodParameter getFileUploadParameter(ClientMethod clientMethod, JavaSettings settings) {
+        if (!isFileOverloadCandidate(clientMethod, settings)
+            || !isBinaryMediaType(clientMethod.getProxyMethod().getRequestContentType())) {
+            return null;
+        }
+        return clientMethod.getMethodInputParameters()
+            .stream()
+            .filter(parameter -> parameter.getRequestParameterLocation() == RequestParameterLocation.BODY
+                && parameter.getClientType() == ClassType.BINARY_DATA)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static boolean isFileOverloadCandidate(ClientMethod clientMethod, JavaSettings settings) {
+        return settings.isBinaryFileOverloads()
+            && clientMethod.getType() == ClientMethodType.SimpleSync
+            && clientMethod.getMethodVisibility() == JavaVisibility.Public
+            && !clientMethod.isImplementationOnly()
+            && clientMethod.getProxyMethod() != null;
+    }
+
+    private static boolean isBinaryMediaType(String mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String type = mediaType.toLowerCase(Locale.ROOT);
+        return !(type.contains("json")
+            || type.contains("xml")
+            || type.startsWith("text/")
+            || type.startsWith("multipart/")
+            || type.startsWith("application/x-www-form-urlencoded"));
+    }
+
     /**
      * Gets Javadoc description for method parameter.
      *
@@ -11,14 +11,24 @@ import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterMapping;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterTransformation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterTransformations;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodExample;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.BinaryDataNode;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ClientModelNode;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ExampleNode;
@@ -31,10 +41,12 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
@@ -301,6 +313,117 @@ public class ModelExampleUtil {
         return node;
     }
 
+    /**
+     * Parse the parameters of the client method to example nodes.
+     *
+     * @param method the client method to generate example for
+     * @param example proxy method example
+     * @return the example nodes, in the order of the parameters of the client method
+     */
+    public static List<ExampleNode> parseNodesFromParameters(ClientMethod method, ProxyMethodExample example) {
+        return MethodUtil.getParameters(method, true)
+            .stream()
+            .map(methodParameter -> parseNodeFromParameter(method, example, methodParameter))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse example node from given parameter, taking into account parameter grouping.
+     *
+     * @param convenienceMethod the convenience method to generate example for
+     * @param proxyMethodExample the proxy method example
+     * @param methodParameter mapped convenience method parameter to protocol(proxy) method parameter
+     * @return example node
+     */
+    private static ExampleNode parseNodeFromParameter(ClientMethod convenienceMethod,
+        ProxyMethodExample proxyMethodExample, MethodParameter methodParameter) {
+        ExampleNode node;
+        final ParameterTransformations transformations = convenienceMethod.getParameterTransformations();
+        if (transformations.isGroupingParameter(methodParameter)) {
+            // grouping, possible with flattening first
+            // group example values into a map
+            Map<String, Object> exampleValue = new HashMap<>();
+            for (ParameterTransformation transformation : convenienceMethod.getParameterTransformations().asList()) {
+                for (ParameterMapping parameterMapping : transformation.getMappings()) {
+                    if (parameterMapping.getOutParameterPropertyName() != null) {
+                        // this is a flattened property, so put flattening(real parameter) value
+
+                        // output parameter's name is the "escaped reserved client method parameter name" of the real
+                        // parameter's serialized name
+                        // since flattened parameter is always in body, we can deal with that explicitly
+                        ClientMethodParameter outputParameter = transformation.getOutParameter();
+                        Map<String, Object> flattenedParameterValue
+                            = getFlattenedBodyParameterExampleValue(proxyMethodExample, outputParameter);
+                        if (flattenedParameterValue != null) {
+                            exampleValue.putAll(flattenedParameterValue);
+                        }
+                        // since it's flattened property, all parameterMappings share the same outputParameter(real
+                        // parameter)
+                        // we only need to put example value once, which is the flattened(real) parameter's value
+                        break;
+                    } else {
+                        // Group property's "serializedName" is the real parameter's "serializedName" on the wire.
+                        // This implicit equivalence is defined in emitter and preserved in mapping client method.
+                        String serializedParameterName = parameterMapping.getInParameterProperty().getSerializedName();
+                        ClientMethodParameter parameter = transformation.getOutParameter();
+                        exampleValue.put(serializedParameterName, getParameterExampleValue(proxyMethodExample,
+                            serializedParameterName, parameter.getRequestParameterLocation()));
+                    }
+                }
+            }
+            IType type = methodParameter.getClientMethodParameter().getClientType();
+            IType wireType = methodParameter.getClientMethodParameter().getWireType();
+            node = parseNode(type, wireType, exampleValue);
+        } else if (transformations.isFlattenParameter(methodParameter)) {
+            // flatten, no grouping
+            ClientMethodParameter outputParameter
+                = transformations.getOutParameterIfInParameterFlattened(methodParameter);
+            Map<String, Object> realParameterValue
+                = getFlattenedBodyParameterExampleValue(proxyMethodExample, outputParameter);
+
+            IType type = methodParameter.getClientMethodParameter().getClientType();
+            IType wireType = methodParameter.getClientMethodParameter().getWireType();
+
+            final ParameterMapping parameterMapping = transformations.getInMapping(methodParameter);
+
+            Object methodParameterValue = null;
+            if (realParameterValue != null && parameterMapping != null) {
+                methodParameterValue
+                    = realParameterValue.get(parameterMapping.getOutParameterProperty().getSerializedName());
+            }
+            node = parseNode(type, wireType, methodParameterValue);
+        } else {
+            node = parseNodeFromParameter(proxyMethodExample, methodParameter);
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getFlattenedBodyParameterExampleValue(ProxyMethodExample example,
+        ClientMethodParameter clientMethodParameter) {
+        String clientMethodParameterName = clientMethodParameter.getName();
+        Function<String, ProxyMethodExample.ParameterValue> getParameterValue
+            = (parameterSerializedName) -> example.getParameters()
+                .entrySet()
+                .stream()
+                .filter(p -> CodeNamer.getEscapedReservedClientMethodParameterName(p.getKey())
+                    .equalsIgnoreCase(parameterSerializedName))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+        ProxyMethodExample.ParameterValue parameterValue = getParameterValue.apply(clientMethodParameterName);
+
+        if (parameterValue == null
+            && clientMethodParameter.getRequestParameterLocation() == RequestParameterLocation.BODY
+            && !"body".equalsIgnoreCase(clientMethodParameterName)) {
+            // fallback, "body" is commonly used in example JSON for request body
+            clientMethodParameterName = "body";
+            parameterValue = getParameterValue.apply(clientMethodParameterName);
+        }
+
+        return parameterValue == null ? null : (Map<String, Object>) parameterValue.getObjectValue();
+    }
+
     /**
      * Get the example value for the parameter.
      *
@@ -360,6 +483,54 @@ public class ModelExampleUtil {
             .orElse(null);
     }
 
+    /**
+     * Collects the example body of the models, from the examples of the proxy methods of the service client.
+     * <p>
+     * The body of the primary response is an example of the response body type, which is the page model for a paging
+     * method. The value of the body parameter is an example of the type of the body parameter. The first example of a
+     * model is kept.
+     *
+     * @param serviceClient the service client
+     * @return the map of model name to the example body of the model
+     */
+    public static Map<String, Object> getExampleBodiesByModelName(ServiceClient serviceClient) {
+        List<Proxy> proxies = new ArrayList<>();
+        if (serviceClient.getProxy() != null) {
+            proxies.add(serviceClient.getProxy());
+        }
+        for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
+            proxies.add(methodGroupClient.getProxy());
+        }
+
+        Map<String, Object> exampleBodies = new HashMap<>();
+        for (Proxy proxy : proxies) {
+            for (ProxyMethod proxyMethod : proxy.getMethods()) {
+                if (proxyMethod.getExamples() == null) {
+                    continue;
+                }
+                for (ProxyMethodExample example : proxyMethod.getExamples().values()) {
+                    ProxyMethodExample.Response response = example.getPrimaryResponse();
+                    if (response != null) {
+                        putExampleBody(exampleBodies, proxyMethod.getResponseType(), response.getBody());
+                    }
+                    for (ProxyMethodParameter parameter : proxyMethod.getParameters()) {
+                        if (parameter.getRequestParameterLocation() == RequestParameterLocation.BODY) {
+                            putExampleBody(exampleBodies, parameter.getClientType(), getParameterExampleValue(
+                                example, parameter.getName(), RequestParameterLocation.BODY));
+                        }
+                    }
+                }
+            }
+        }
+        return exampleBodies;
+    }
+
+    private static void putExampleBody(Map<String, Object> exampleBodies, IType type, Object body) {
+        if (body instanceof Map && ClientModelUtil.isClientModel(type)) {
+            exampleBodies.putIfAbsent(((ClassType) type).getName(), body);
+        }
+    }
+
     private static ExampleNode parseNodeFromMethodParameter(MethodParameter methodParameter, Object objectValue) {
         IType type = methodParameter.getClientMethodParameter().getClientType();
         IType wireType = methodParameter.getClientMethodParameter().getWireType();
@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe cache of the names converted by {@link CodeNamer}, keyed by the kind of the naming and the input name.
+ * <p>
+ * The same name is converted many times, e.g. the name of a property is converted to camel case for the field, to
+ * Pascal case for the getter and the setter, and again by each template that references the property. The naming
+ * functions are pure functions of the input name, hence the result is cached for the whole code generation.
+ */
+public final class NameCache {
+
+    private static final NameCache SHARED_INSTANCE = new NameCache();
+
+    /**
+     * The kind of the naming.
+     */
+    public enum Kind {
+        CAMEL_CASE,
+        PASCAL_CASE,
+        VALID_NAME,
+        REMOVE_INVALID_CHARACTERS,
+        CLIENT_NAME,
+        TYPE_NAME,
+        PARAMETER_NAME,
+        PROPERTY_NAME,
+        METHOD_GROUP_NAME,
+        METHOD_NAME,
+        PLURAL,
+        ENUM_MEMBER_NAME
+    }
+
+    private final Map<String, String>[] names;
+
+    /**
+     * Creates an empty cache.
+     */
+    @SuppressWarnings("unchecked")
+    public NameCache() {
+        Kind[] kinds = Kind.values();
+        names = new Map[kinds.length];
+        for (Kind kind : kinds) {
+            names[kind.ordinal()] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Gets the cache shared by the namers.
+     *
+     * @return the cache shared by the namers.
+     */
+    public static NameCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Gets the converted name from the cache, or converts the name and caches the result.
+     * <p>
+     * The naming function may be called more than once for the same name, by concurrent threads. It can itself use the
+     * cache, e.g. for a nested conversion.
+     *
+     * @param kind the kind of the naming.
+     * @param name the input name.
+     * @param naming the naming function.
+     * @return the converted name.
+     */
+    public String getName(Kind kind, String name, UnaryOperator<String> naming) {
+        if (name == null) {
+            return naming.apply(null);
+        }
+
+        Map<String, String> cache = names[kind.ordinal()];
+        String result = cache.get(name);
+        if (result == null) {
+            // not "computeIfAbsent", as the naming function may recursively update the same map
+            result = naming.apply(name);
+            if (result != null) {
+                cache.putIfAbsent(name, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        for (Map<String, String> cache : names) {
+            cache.clear();
+        }
+    }
+}
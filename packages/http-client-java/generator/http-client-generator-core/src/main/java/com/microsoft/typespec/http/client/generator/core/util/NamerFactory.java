@@ -6,4 +6,16 @@ package com.microsoft.typespec.http.client.generator.core.util;
 public interface NamerFactory {
 
     ModelNamer getModelNamer();
+
+    /**
+     * Gets the cache of the names converted by {@link CodeNamer}, and by the CodeNamer of the preprocessor.
+     * <p>
+     * The naming of {@link CodeNamer} is the same for all namer factories, hence by default the namer factories share
+     * the same cache.
+     *
+     * @return the cache of the names.
+     */
+    default NameCache getNameCache() {
+        return NameCache.getSharedInstance();
+    }
 }
@@ -7,6 +7,7 @@ import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonProviders;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
@@ -16,12 +17,14 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPageDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPollingDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileContents;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -32,6 +35,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -136,10 +140,14 @@ public class TemplateUtil {
 
         // collect types of TypeReference<T>
         Set<GenericType> typeReferenceStaticClasses = new HashSet<>();
+        // collect names of HttpHeaderName constants
+        Set<String> httpHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
         for (ClientMethod clientMethod : clientMethods) {
             Templates.getClientMethodTemplate().write(clientMethod, classBlock);
 
+            addHttpHeaderNames(clientMethod, settings, httpHeaderNames);
+
             // this is coupled with ClientMethodTemplate.generateLongRunningBeginAsync, see
             // getLongRunningOperationTypeReferenceExpression
             if (clientMethod.getType() == ClientMethodType.LongRunningBeginAsync
@@ -161,6 +169,11 @@ public class TemplateUtil {
             writeTypeReferenceStaticVariable(classBlock, typeReferenceStaticClass);
         }
 
+        // static variables for HttpHeaderName
+        for (String httpHeaderName : httpHeaderNames) {
+            ModelTemplateHeaderHelper.writeHttpHeaderNameConstant(classBlock, httpHeaderName);
+        }
+
         // helper methods for LLC
         if (settings.isDataPlaneClient()
             && settings.isAzureV1()
@@ -169,6 +182,45 @@ public class TemplateUtil {
         }
     }
 
+    /**
+     * Collects the names of the headers that the client method sets or gets on every call, so that the HttpHeaderName
+     * of the header is a static variable in the class.
+     * See {@link ModelTemplateHeaderHelper#getHttpHeaderNameConstantExpression(String)}
+     *
+     * @param clientMethod the client method.
+     * @param settings the Java settings.
+     * @param httpHeaderNames the names of the headers.
+     */
+    private static void addHttpHeaderNames(ClientMethod clientMethod, JavaSettings settings,
+        Set<String> httpHeaderNames) {
+        // this is coupled with ClientMethodTemplate.addSpecialHeadersToRequestOptions
+        if (settings.isAzureV1()
+            && settings.isDataPlaneClient()
+            && MethodUtil.isMethodIncludeRepeatableRequestHeaders(clientMethod.getProxyMethod())) {
+            httpHeaderNames.add(MethodUtil.REPEATABILITY_REQUEST_ID_HEADER);
+            if (clientMethod.getProxyMethod()
+                .getSpecialHeaders()
+                .contains(MethodUtil.REPEATABILITY_FIRST_SENT_HEADER)) {
+                httpHeaderNames.add(MethodUtil.REPEATABILITY_FIRST_SENT_HEADER);
+            }
+        }
+
+        // this is coupled with the continuation token of paging method in ClientMethodTemplate
+        if (clientMethod.getMethodPageDetails() != null
+            && clientMethod.getMethodPageDetails().getContinuationToken() != null) {
+            MethodPageDetails.ContinuationToken continuationToken
+                = clientMethod.getMethodPageDetails().getContinuationToken();
+            if (continuationToken.getResponseHeaderSerializedName() != null) {
+                httpHeaderNames.add(continuationToken.getResponseHeaderSerializedName());
+            }
+            if (continuationToken.getRequestParameter() != null
+                && continuationToken.getRequestParameter().getRequestParameterLocation()
+                    == RequestParameterLocation.HEADER) {
+                httpHeaderNames.add(continuationToken.getRequestParameter().getRequestParameterName());
+            }
+        }
+    }
+
     /**
      * Gets the expression of the intermediate and final type in LRO operation, used for "PollerFlux.create".
      *
@@ -0,0 +1,82 @@
+// DO NOT modify this helper class
+
+/**
+ * The result of a method of the sync client, for one of the keys of a bulk method.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public final class BulkOperationResult<K, V> {
+
+    private final K key;
+    private final V value;
+    private final RuntimeException error;
+
+    private BulkOperationResult(K key, V value, RuntimeException error) {
+        this.key = key;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Creates the result of a successful request.
+     *
+     * @param key the key
+     * @param value the value returned by the request
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the result
+     */
+    public static <K, V> BulkOperationResult<K, V> success(K key, V value) {
+        return new BulkOperationResult<>(key, value, null);
+    }
+
+    /**
+     * Creates the result of a failed request.
+     *
+     * @param key the key
+     * @param error the error thrown by the request
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the result
+     */
+    public static <K, V> BulkOperationResult<K, V> failure(K key, RuntimeException error) {
+        return new BulkOperationResult<>(key, null, error);
+    }
+
+    /**
+     * Gets the key of the request.
+     *
+     * @return the key of the request
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the value returned by the request.
+     *
+     * @return the value returned by the request, or null if the request failed
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the error thrown by the request.
+     *
+     * @return the error thrown by the request, or null if the request succeeded
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    /**
+     * Whether the request succeeded.
+     *
+     * @return whether the request succeeded
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
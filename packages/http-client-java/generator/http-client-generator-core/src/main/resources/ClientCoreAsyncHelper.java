@@ -0,0 +1,212 @@
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.utils.SharedExecutorService;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper class that runs the methods of the sync client asynchronously.
+ * <p>
+ * The methods run on the executor configured in the client builder. If no executor is configured, each method runs on
+ * a new virtual thread on Java 21 or later, and on the shared executor of clientcore otherwise. A virtual thread
+ * blocked on a request does not hold a platform thread, so that many concurrent requests do not need as many platform
+ * threads.
+ */
+public final class AsyncHelper {
+
+    private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private AsyncHelper() {
+    }
+
+    /**
+     * Runs the supplier asynchronously.
+     *
+     * @param supplier the supplier
+     * @param executor the executor to run the supplier on, or null for the default
+     * @param <T> the type of the result
+     * @return the CompletableFuture that completes with the result of the supplier
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(supplier, executor == null ? DEFAULT_EXECUTOR : executor);
+    }
+
+    /**
+     * Runs the runnable asynchronously.
+     *
+     * @param runnable the runnable
+     * @param executor the executor to run the runnable on, or null for the default
+     * @return the CompletableFuture that completes when the runnable completes
+     */
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return CompletableFuture.runAsync(runnable, executor == null ? DEFAULT_EXECUTOR : executor);
+    }
+
+    /**
+     * Creates a Publisher of the pages.
+     * <p>
+     * The pages are retrieved on the executor, one page for each page requested by the subscriber. Each subscription
+     * iterates the pages from the first page. When the subscription is cancelled, a page retrieved after it is closed,
+     * and the iterator of the pages is released, and closed if it is AutoCloseable.
+     *
+     * @param pagesSupplier the supplier of the pages
+     * @param executor the executor to retrieve the pages on, or null for the default
+     * @param <T> the type of the items
+     * @return the Publisher of the pages
+     */
+    public static <T> Flow.Publisher<PagedResponse<T>> publishPages(
+        Supplier<Iterable<PagedResponse<T>>> pagesSupplier, Executor executor) {
+        Executor pageExecutor = executor == null ? DEFAULT_EXECUTOR : executor;
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "'subscriber' cannot be null.");
+            subscriber.onSubscribe(new PageSubscription<>(subscriber, pagesSupplier, pageExecutor));
+        };
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor is available on Java 21 or later
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return SharedExecutorService.getInstance();
+        }
+    }
+
+    private static final class PageSubscription<T> implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super PagedResponse<T>> subscriber;
+        private final Supplier<Iterable<PagedResponse<T>>> pagesSupplier;
+        private final Executor executor;
+
+        private final AtomicLong requested = new AtomicLong();
+        // number of requests, and cancellation, that are not yet processed by the drain loop
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean done;
+        private volatile Throwable invalidRequestError;
+
+        // only accessed by the drain loop
+        private Iterator<PagedResponse<T>> pages;
+
+        private PageSubscription(Flow.Subscriber<? super PagedResponse<T>> subscriber,
+            Supplier<Iterable<PagedResponse<T>>> pagesSupplier, Executor executor) {
+            this.subscriber = subscriber;
+            this.pagesSupplier = pagesSupplier;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequestError
+                    = new IllegalArgumentException("The number of requested pages must be positive, was " + n + ".");
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            // the iterator is only accessed by the drain loop, hence the drain loop releases it
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    if (!done) {
+                        done = true;
+                        subscriber.onError(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                if (done) {
+                    releasePages();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!done) {
+                Throwable error = invalidRequestError;
+                if (error != null) {
+                    done = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                if (requested.get() == 0) {
+                    return;
+                }
+
+                PagedResponse<T> page;
+                try {
+                    if (pages == null) {
+                        pages = pagesSupplier.get().iterator();
+                    }
+                    if (!pages.hasNext()) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    page = pages.next();
+                } catch (RuntimeException e) {
+                    done = true;
+                    subscriber.onError(e);
+                    return;
+                }
+
+                if (done) {
+                    // cancelled while the page is retrieved
+                    closePage(page);
+                    return;
+                }
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                subscriber.onNext(page);
+            }
+        }
+
+        private void releasePages() {
+            Iterator<PagedResponse<T>> iterator = pages;
+            pages = null;
+            if (iterator instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) iterator).close();
+                } catch (Exception e) {
+                    // the pages are discarded
+                }
+            }
+        }
+
+        private static void closePage(PagedResponse<?> page) {
+            if (page != null) {
+                try {
+                    page.close();
+                } catch (RuntimeException e) {
+                    // the page is discarded
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+import io.clientcore.core.http.models.HttpHeaderName;
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.models.HttpResponseException;
+import io.clientcore.core.http.models.Response;
+import io.clientcore.core.models.binarydata.BinaryData;
+import io.clientcore.core.utils.CoreUtils;
+import io.clientcore.core.utils.DateTimeRfc1123;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper class that runs a method of the sync client for each of the keys, with a bounded number of concurrent
+ * requests.
+ * <p>
+ * The error of each request is captured in its result. When the service throttles a request, with status code 429 or
+ * 503, all requests of the bulk operation pause until the time in the "Retry-After" header, then the throttled request
+ * is retried.
+ */
+public final class BulkOperationHelper {
+
+    private static final int MAX_THROTTLE_RETRIES = 3;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
+    private static final HttpHeaderName X_MS_RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("x-ms-retry-after-ms");
+
+    private BulkOperationHelper() {
+    }
+
+    /**
+     * Runs the operation for each of the keys.
+     *
+     * @param keys the keys
+     * @param operation the operation
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the results, in the order of the keys
+     */
+    public static <K, V> List<BulkOperationResult<K, V>> runOrdered(Iterable<K> keys, Function<K, V> operation,
+        int maxConcurrency) {
+        List<BulkOperationResult<K, V>> results = new ArrayList<>();
+        run(keys, operation, maxConcurrency, (index, result) -> {
+            synchronized (results) {
+                while (results.size() <= index) {
+                    results.add(null);
+                }
+                results.set(index, result);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Runs the operation for each of the keys.
+     * <p>
+     * The result handler is called with the result of each request as soon as the request completes, one result at a
+     * time.
+     *
+     * @param keys the keys
+     * @param operation the operation
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @param resultHandler the handler of the results, in the order of completion
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    public static <K, V> void runUnordered(Iterable<K> keys, Function<K, V> operation, int maxConcurrency,
+        Consumer<BulkOperationResult<K, V>> resultHandler) {
+        Objects.requireNonNull(resultHandler, "'resultHandler' cannot be null.");
+        Object lock = new Object();
+        run(keys, operation, maxConcurrency, (index, result) -> {
+            synchronized (lock) {
+                resultHandler.accept(result);
+            }
+        });
+    }
+
+    private static <K, V> void run(Iterable<K> keys, Function<K, V> operation, int maxConcurrency,
+        BiConsumer<Integer, BulkOperationResult<K, V>> resultConsumer) {
+        Objects.requireNonNull(keys, "'keys' cannot be null.");
+        Objects.requireNonNull(operation, "'operation' cannot be null.");
+
+        BulkOperation<K, V> bulkOperation = new BulkOperation<>(keys.iterator(), operation, resultConsumer);
+        int workers = keys instanceof Collection
+            ? Math.min(maxConcurrency, ((Collection<?>) keys).size())
+            : maxConcurrency;
+        if (workers <= 1) {
+            bulkOperation.run();
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-operation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; ++i) {
+                futures.add(executor.submit(bulkOperation));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The bulk operation is interrupted.", e);
+        } catch (ExecutionException e) {
+            // only the result handler, or an Error, fails the worker
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            bulkOperation.cancel();
+            executor.shutdownNow();
+        }
+    }
+
+    private static Duration getRetryAfter(RuntimeException error) {
+        if (!(error instanceof HttpResponseException)) {
+            return null;
+        }
+        Response<BinaryData> response = ((HttpResponseException) error).getResponse();
+        if (response == null || (response.getStatusCode() != 429 && response.getStatusCode() != 503)) {
+            return null;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        Duration retryAfter = tryGetDelayMillis(headers.getValue(X_MS_RETRY_AFTER_MS_HEADER));
+        if (retryAfter == null) {
+            retryAfter = tryGetDelayMillis(headers.getValue(RETRY_AFTER_MS_HEADER));
+        }
+        if (retryAfter == null) {
+            retryAfter = tryParseLongOrDateTime(headers.getValue(HttpHeaderName.RETRY_AFTER));
+        }
+        return retryAfter == null ? DEFAULT_RETRY_AFTER : retryAfter;
+    }
+
+    private static Duration tryParseLongOrDateTime(String value) {
+        if (CoreUtils.isNullOrEmpty(value)) {
+            return null;
+        }
+        long delaySeconds;
+        try {
+            OffsetDateTime retryAfter = new DateTimeRfc1123(value).getDateTime();
+
+            delaySeconds = OffsetDateTime.now().until(retryAfter, ChronoUnit.SECONDS);
+        } catch (DateTimeException ex) {
+            delaySeconds = tryParseLong(value);
+        }
+
+        return (delaySeconds >= 0) ? Duration.ofSeconds(delaySeconds) : null;
+    }
+
+    private static Duration tryGetDelayMillis(String value) {
+        if (CoreUtils.isNullOrEmpty(value)) {
+            return null;
+        }
+        long delayMillis = tryParseLong(value);
+        return (delayMillis >= 0) ? Duration.ofMillis(delayMillis) : null;
+    }
+
+    private static long tryParseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private static final class BulkOperation<K, V> implements Runnable {
+        private final Iterator<K> keys;
+        private final Function<K, V> operation;
+        private final BiConsumer<Integer, BulkOperationResult<K, V>> resultConsumer;
+
+        // the System.nanoTime before which no request is sent, after the service throttled a request
+        private final AtomicLong resumeAt = new AtomicLong(System.nanoTime());
+        private volatile boolean cancelled;
+
+        // guarded by "this"
+        private int nextIndex;
+
+        private BulkOperation(Iterator<K> keys, Function<K, V> operation,
+            BiConsumer<Integer, BulkOperationResult<K, V>> resultConsumer) {
+            this.keys = keys;
+            this.operation = operation;
+            this.resultConsumer = resultConsumer;
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void run() {
+            while (!cancelled) {
+                int index;
+                K key;
+                synchronized (this) {
+                    if (!keys.hasNext()) {
+                        return;
+                    }
+                    index = nextIndex++;
+                    key = keys.next();
+                }
+                resultConsumer.accept(index, execute(key));
+            }
+        }
+
+        private BulkOperationResult<K, V> execute(K key) {
+            int throttleRetries = 0;
+            while (true) {
+                awaitResume();
+                try {
+                    return BulkOperationResult.success(key, operation.apply(key));
+                } catch (RuntimeException e) {
+                    Duration retryAfter = throttleRetries < MAX_THROTTLE_RETRIES ? getRetryAfter(e) : null;
+                    if (retryAfter == null || cancelled) {
+                        return BulkOperationResult.failure(key, e);
+                    }
+                    ++throttleRetries;
+                    long resume = System.nanoTime() + retryAfter.toNanos();
+                    resumeAt.accumulateAndGet(resume, (current, next) -> next - current > 0 ? next : current);
+                }
+            }
+        }
+
+        private void awaitResume() {
+            long delayNanos;
+            while (!cancelled && (delayNanos = resumeAt.get() - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.http.paging.PagingOptions;
+import io.clientcore.core.utils.SharedExecutorService;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper class that prefetches the next pages of a paged operation.
+ * <p>
+ * As soon as a page is retrieved, the request for the page of its next link is sent, up to {@code depth} pages ahead
+ * of the page being iterated. The prefetched page is used when the next link is requested with the same page size.
+ * <p>
+ * Each iteration prefetches its own pages. A failed prefetch fails the iteration when it reaches the page, with the
+ * error of the request. The request is not sent again. When an iteration fails, its prefetches in progress are
+ * cancelled and its prefetched pages are closed. An iteration abandoned before its last page leaves at most
+ * {@code depth} prefetched pages, until its iterator is garbage collected and the PagedIterable retrieves another page.
+ */
+public final class PagingPrefetchHelper {
+
+    private PagingPrefetchHelper() {
+    }
+
+    /**
+     * Creates a PagedIterable that prefetches the next pages.
+     *
+     * @param firstPageRetriever the retriever of the first page
+     * @param nextPageRetriever the retriever of the page of the next link
+     * @param depth the maximum number of pages to prefetch
+     * @param <T> the type of the items
+     * @return the PagedIterable
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever, int depth) {
+        // PagedIterable cannot be extended, and it passes only the next link of the last page to the retriever of the
+        // next page, hence the Prefetcher of the iteration is found by the next link
+        Iterations<T> iterations = new Iterations<>();
+        return new PagedIterable<>(pagingOptions -> {
+            Prefetcher<T> prefetcher = new Prefetcher<>(nextPageRetriever, depth);
+            return iterations.retrieved(prefetcher,
+                prefetcher.retrieved(firstPageRetriever.apply(pagingOptions), pagingOptions));
+        }, (pagingOptions, nextLink) -> {
+            Prefetcher<T> prefetcher = iterations.remove(nextLink);
+            if (prefetcher == null) {
+                // the next link is not of a page returned by this PagedIterable
+                prefetcher = new Prefetcher<>(nextPageRetriever, depth);
+            }
+            return iterations.retrieved(prefetcher, prefetcher.retrieve(pagingOptions, nextLink));
+        });
+    }
+
+    /*
+     * The Prefetcher of each iteration in progress, keyed by the next link of the last page of the iteration. The page
+     * returned to the iteration has its own instance of the next link, and the key compares the instance, so that two
+     * iterations on the same page do not share a Prefetcher. The key is weak, hence the Prefetcher of an iteration
+     * abandoned is closed after the iterator is garbage collected.
+     */
+    private static final class Iterations<T> {
+        private final Map<IterationKey, Prefetcher<T>> prefetchers = new ConcurrentHashMap<>();
+        private final ReferenceQueue<String> abandonedIterations = new ReferenceQueue<>();
+
+        private PagedResponse<T> retrieved(Prefetcher<T> prefetcher, PagedResponse<T> page) {
+            closeAbandonedIterations();
+            String nextLink = page == null ? null : page.getNextLink();
+            if (nextLink == null || nextLink.isEmpty()) {
+                // the last page of the iteration
+                prefetcher.close();
+                return page;
+            }
+
+            // a new instance, that is referenced only by the page and the iteration
+            String iterationNextLink = new String(nextLink);
+            prefetchers.put(new IterationKey(iterationNextLink, abandonedIterations), prefetcher);
+            return new PagedResponse<>(page.getRequest(), page.getStatusCode(), page.getHeaders(), page.getValue(),
+                page.getContinuationToken(), iterationNextLink, page.getPreviousLink(), page.getFirstLink(),
+                page.getLastLink());
+        }
+
+        private Prefetcher<T> remove(String nextLink) {
+            closeAbandonedIterations();
+            return nextLink == null ? null : prefetchers.remove(new IterationKey(nextLink, null));
+        }
+
+        private void closeAbandonedIterations() {
+            Reference<? extends String> key;
+            while ((key = abandonedIterations.poll()) != null) {
+                Prefetcher<T> prefetcher = prefetchers.remove(key);
+                if (prefetcher != null) {
+                    prefetcher.close();
+                }
+            }
+        }
+    }
+
+    private static final class IterationKey extends WeakReference<String> {
+        private final int hashCode;
+
+        private IterationKey(String nextLink, ReferenceQueue<String> queue) {
+            super(nextLink, queue);
+            this.hashCode = System.identityHashCode(nextLink);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IterationKey)) {
+                return false;
+            }
+            String nextLink = get();
+            return nextLink != null && nextLink == ((IterationKey) obj).get();
+        }
+    }
+
+    private static final class Prefetcher<T> {
+        private final BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever;
+        private final int depth;
+        // prefetched pages, keyed by next link and page size
+        private final Map<Map.Entry<String, Long>, CompletableFuture<PagedResponse<T>>> prefetchedPages
+            = new ConcurrentHashMap<>();
+        private volatile boolean closed;
+
+        private Prefetcher(BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever, int depth) {
+            this.nextPageRetriever = nextPageRetriever;
+            this.depth = depth;
+        }
+
+        private PagedResponse<T> retrieved(PagedResponse<T> page, PagingOptions pagingOptions) {
+            prefetchAfter(page, pagingOptions);
+            return page;
+        }
+
+        private PagedResponse<T> retrieve(PagingOptions pagingOptions, String nextLink) {
+            CompletableFuture<PagedResponse<T>> prefetchedPage
+                = prefetchedPages.remove(key(nextLink, pagingOptions));
+            PagedResponse<T> page;
+            try {
+                if (prefetchedPage == null || prefetchedPage.isCancelled()) {
+                    page = nextPageRetriever.apply(pagingOptions, nextLink);
+                } else {
+                    page = join(prefetchedPage);
+                }
+            } catch (RuntimeException | Error e) {
+                // the iteration fails, hence its prefetches are no longer used
+                close();
+                throw e;
+            }
+            return retrieved(page, pagingOptions);
+        }
+
+        /*
+         * Cancels the prefetches in progress, and closes the prefetched pages. A prefetch that completes after it is
+         * cancelled closes its page.
+         */
+        private void close() {
+            closed = true;
+            for (Map.Entry<String, Long> key : prefetchedPages.keySet()) {
+                CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.remove(key);
+                if (prefetchedPage != null && !prefetchedPage.cancel(true)
+                    && !prefetchedPage.isCompletedExceptionally()) {
+                    closePage(prefetchedPage.join());
+                }
+            }
+        }
+
+        /*
+         * Sends the request of the first page after the given page that is not yet prefetched, if fewer than "depth"
+         * pages are prefetched. The prefetch of a page continues to the page after it, when it completes.
+         */
+        private void prefetchAfter(PagedResponse<T> page, PagingOptions pagingOptions) {
+            String nextLink = page == null ? null : page.getNextLink();
+            while (nextLink != null && !closed) {
+                Map.Entry<String, Long> key = key(nextLink, pagingOptions);
+                CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.get(key);
+                if (prefetchedPage == null) {
+                    if (prefetchedPages.size() < depth) {
+                        prefetch(key, pagingOptions);
+                    }
+                    break;
+                } else if (prefetchedPage.isDone() && !prefetchedPage.isCompletedExceptionally()) {
+                    PagedResponse<T> prefetched = prefetchedPage.join();
+                    nextLink = prefetched == null ? null : prefetched.getNextLink();
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private void prefetch(Map.Entry<String, Long> key, PagingOptions pagingOptions) {
+            CompletableFuture<PagedResponse<T>> prefetchedPage = new CompletableFuture<>();
+            if (prefetchedPages.putIfAbsent(key, prefetchedPage) != null) {
+                return;
+            }
+            if (closed) {
+                prefetchedPages.remove(key, prefetchedPage);
+                return;
+            }
+            try {
+                CompletableFuture
+                    .supplyAsync(() -> nextPageRetriever.apply(pagingOptions, key.getKey()),
+                        SharedExecutorService.getInstance())
+                    .whenComplete((page, error) -> {
+                        if (error != null) {
+                            prefetchedPage.completeExceptionally(error);
+                        } else if (prefetchedPage.complete(page)) {
+                            prefetchAfter(page, pagingOptions);
+                        } else {
+                            // the prefetch is cancelled
+                            closePage(page);
+                        }
+                    });
+            } catch (RuntimeException e) {
+                prefetchedPage.completeExceptionally(e);
+            }
+        }
+
+        private static <T> PagedResponse<T> join(CompletableFuture<PagedResponse<T>> prefetchedPage) {
+            try {
+                return prefetchedPage.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        private static void closePage(PagedResponse<?> page) {
+            if (page != null) {
+                try {
+                    page.close();
+                } catch (RuntimeException e) {
+                    // the page is discarded
+                }
+            }
+        }
+
+        private static Map.Entry<String, Long> key(String nextLink, PagingOptions pagingOptions) {
+            return new AbstractMap.SimpleImmutableEntry<>(nextLink,
+                pagingOptions == null ? null : pagingOptions.getPageSize());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+import io.clientcore.core.http.models.HttpHeaderName;
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.models.HttpMethod;
+import io.clientcore.core.http.models.HttpRequest;
+import io.clientcore.core.http.models.Response;
+import io.clientcore.core.http.pipeline.HttpPipelineNextPolicy;
+import io.clientcore.core.http.pipeline.HttpPipelinePolicy;
+import io.clientcore.core.http.pipeline.HttpPipelinePosition;
+import io.clientcore.core.models.binarydata.BinaryData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// DO NOT modify this helper class
+
+/**
+ * Pipeline policy that caches the responses of GET requests that have an ETag, and revalidates them with conditional
+ * requests.
+ * <p>
+ * The cache is keyed by the URL and the Accept, Accept-Language and Authorization headers of the request. The
+ * credential in the Authorization header is not kept in the cache, only its SHA-256 hash. When a GET request has a
+ * cached response, the policy sends the request with the "If-None-Match" header of the cached ETag. If the service
+ * responds with 304 Not Modified, the policy returns the cached response, so that the body is not transferred again.
+ * <p>
+ * The cache is bounded. When it exceeds the maximum number of entries, the least recently used entry is evicted. An
+ * entry that is not revalidated within the time to live is evicted as well.
+ */
+public final class ResponseCachePolicy implements HttpPipelinePolicy {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    // responses with larger body, or unknown length, are not cached
+    private static final long MAX_BODY_LENGTH = 1024 * 1024;
+
+    private final long timeToLiveNanos;
+    // guarded by "this"
+    private final Map<String, CacheEntry> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates an instance of ResponseCachePolicy, with at most 1000 entries, and a time to live of 5 minutes.
+     */
+    public ResponseCachePolicy() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates an instance of ResponseCachePolicy.
+     *
+     * @param maxEntries the maximum number of cached responses
+     * @param timeToLive the time to live of a cached response, since it is cached or last revalidated
+     * @throws IllegalArgumentException if maxEntries or timeToLive is not positive
+     */
+    public ResponseCachePolicy(int maxEntries, Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "'timeToLive' cannot be null.");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("'maxEntries' must be positive.");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("'timeToLive' must be positive.");
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the number of GET requests that are served from the cache, after the service responds with 304 Not
+     * Modified.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of GET requests that are not served from the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        // the Authorization header is part of the key
+        return HttpPipelinePosition.AFTER_AUTHENTICATION;
+    }
+
+    @Override
+    public Response<BinaryData> process(HttpRequest request, HttpPipelineNextPolicy next) {
+        HttpHeaders requestHeaders = request.getHeaders();
+        if (request.getHttpMethod() != HttpMethod.GET
+            || requestHeaders.get(HttpHeaderName.IF_NONE_MATCH) != null
+            || requestHeaders.get(HttpHeaderName.IF_MATCH) != null
+            || requestHeaders.get(HttpHeaderName.RANGE) != null) {
+            return next.process();
+        }
+
+        String key = getKey(request);
+        CacheEntry entry = getEntry(key);
+        Response<BinaryData> response;
+        if (entry == null) {
+            response = next.process();
+        } else {
+            requestHeaders.set(HttpHeaderName.IF_NONE_MATCH, entry.eTag);
+            try {
+                response = next.process();
+            } finally {
+                // the request is sent again on retry
+                requestHeaders.remove(HttpHeaderName.IF_NONE_MATCH);
+            }
+
+            if (response.getStatusCode() == 304) {
+                response.close();
+                hitCount.incrementAndGet();
+                entry.revalidatedAt = System.nanoTime();
+                return new Response<>(request, entry.statusCode, new HttpHeaders(entry.headers),
+                    BinaryData.fromBytes(entry.body.clone()));
+            }
+        }
+
+        missCount.incrementAndGet();
+        return cacheResponse(key, request, response);
+    }
+
+    private Response<BinaryData> cacheResponse(String key, HttpRequest request, Response<BinaryData> response) {
+        HttpHeaders headers = response.getHeaders();
+        String eTag = headers.getValue(HttpHeaderName.ETAG);
+        if (response.getStatusCode() != 200 || eTag == null || !isCacheable(headers)) {
+            synchronized (this) {
+                cache.remove(key);
+            }
+            return response;
+        }
+
+        byte[] body;
+        try {
+            body = response.getValue().toBytes();
+        } finally {
+            response.close();
+        }
+        CacheEntry entry = new CacheEntry(eTag, response.getStatusCode(), new HttpHeaders(headers), body);
+        synchronized (this) {
+            cache.put(key, entry);
+        }
+        return new Response<>(request, response.getStatusCode(), headers, BinaryData.fromBytes(body.clone()));
+    }
+
+    private synchronized CacheEntry getEntry(String key) {
+        CacheEntry entry = cache.get(key);
+        if (entry != null && System.nanoTime() - entry.revalidatedAt > timeToLiveNanos) {
+            cache.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private static boolean isCacheable(HttpHeaders headers) {
+        String cacheControl = headers.getValue(HttpHeaderName.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return false;
+        }
+        String contentLength = headers.getValue(HttpHeaderName.CONTENT_LENGTH);
+        try {
+            return contentLength != null && Long.parseLong(contentLength) <= MAX_BODY_LENGTH;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String getKey(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String authorization = headers.getValue(HttpHeaderName.AUTHORIZATION);
+        return request.getUri() + "\n" + headers.getValue(HttpHeaderName.ACCEPT) + "\n"
+            + headers.getValue(HttpHeaderName.ACCEPT_LANGUAGE) + "\n"
+            + (authorization == null ? null : hash(authorization));
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every implementation of the Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final String eTag;
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private volatile long revalidatedAt = System.nanoTime();
+
+        private CacheEntry(String eTag, int statusCode, HttpHeaders headers, byte[] body) {
+            this.eTag = eTag;
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper class that parses and formats date-time in RFC 3339 format, and duration in ISO 8601 format.
+ * <p>
+ * Each method has a fast path for the common layout, e.g. "2024-05-06T07:08:09.123Z" or "PT1H30M", that reads or
+ * writes the characters directly. Any other layout falls back to the parser or formatter of java.time, so that the
+ * result, or the exception on invalid text, is the same as that of java.time.
+ */
+public final class DateTimeHelper {
+
+    private static final Pattern ISO8601_COLONLESS_OFFSET = Pattern.compile("([+-][0-9]{2})([0-9]{2})(?=\\[|$)");
+
+    private DateTimeHelper() {
+    }
+
+    /**
+     * Parses the text to OffsetDateTime, in the same way as "CoreUtils.parseBestOffsetDateTime".
+     * <p>
+     * The text without offset is parsed as UTC, and the offset without colon, e.g. "+0800", is accepted.
+     *
+     * @param text the text in ISO 8601 format
+     * @return the OffsetDateTime, or null if the text is null
+     * @throws DateTimeException if the text cannot be parsed
+     */
+    public static OffsetDateTime parseBestOffsetDateTime(String text) {
+        if (text == null) {
+            return null;
+        }
+        OffsetDateTime dateTime = tryParseOffsetDateTime(text);
+        if (dateTime != null) {
+            return dateTime;
+        }
+
+        Matcher matcher = ISO8601_COLONLESS_OFFSET.matcher(text);
+        if (matcher.find()) {
+            text = text.substring(0, matcher.start()) + matcher.group(1) + ":" + matcher.group(2)
+                + text.substring(matcher.start() + 5);
+        }
+        TemporalAccessor temporal
+            = DateTimeFormatter.ISO_DATE_TIME.parseBest(text, OffsetDateTime::from, LocalDateTime::from);
+        return temporal.query(TemporalQueries.offset()) == null
+            ? LocalDateTime.from(temporal).atOffset(ZoneOffset.UTC)
+            : OffsetDateTime.from(temporal);
+    }
+
+    /**
+     * Parses the text to OffsetDateTime, in the same way as "OffsetDateTime.parse".
+     *
+     * @param text the text in ISO 8601 format, with offset
+     * @return the OffsetDateTime, or null if the text is null
+     * @throws DateTimeException if the text cannot be parsed
+     */
+    public static OffsetDateTime parseOffsetDateTime(String text) {
+        if (text == null) {
+            return null;
+        }
+        OffsetDateTime dateTime = tryParseOffsetDateTime(text);
+        return dateTime != null ? dateTime : OffsetDateTime.parse(text);
+    }
+
+    /**
+     * Formats the OffsetDateTime, in the same way as "DateTimeFormatter.ISO_OFFSET_DATE_TIME".
+     *
+     * @param dateTime the OffsetDateTime
+     * @return the text in RFC 3339 format, or null if the OffsetDateTime is null
+     */
+    public static String formatOffsetDateTime(OffsetDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        int year = dateTime.getYear();
+        int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        }
+
+        // "yyyy-MM-ddTHH:mm:ss.SSSSSSSSS+HH:MM"
+        char[] buffer = new char[35];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, dateTime.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, dateTime.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, dateTime.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, dateTime.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, dateTime.getSecond(), 2);
+        int length = 19;
+
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            buffer[length] = '.';
+            writeDigits(buffer, length + 1, nano, 9);
+            length += 10;
+            // trailing zeros are omitted
+            while (buffer[length - 1] == '0') {
+                --length;
+            }
+        }
+
+        if (offsetSeconds == 0) {
+            buffer[length++] = 'Z';
+        } else {
+            int offsetMinutes = Math.abs(offsetSeconds / 60);
+            buffer[length] = offsetSeconds < 0 ? '-' : '+';
+            writeDigits(buffer, length + 1, offsetMinutes / 60, 2);
+            buffer[length + 3] = ':';
+            writeDigits(buffer, length + 4, offsetMinutes % 60, 2);
+            length += 6;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Parses the text to Duration, in the same way as "Duration.parse".
+     *
+     * @param text the text in ISO 8601 format
+     * @return the Duration, or null if the text is null
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static Duration parseDuration(String text) {
+        if (text == null) {
+            return null;
+        }
+        Duration duration = tryParseDuration(text);
+        return duration != null ? duration : Duration.parse(text);
+    }
+
+    /*
+     * Parses the text of layout "yyyy-MM-ddTHH:mm:ss[.S{1,9}](Z|+HH:MM|-HH:MM)".
+     * Returns null if the text is of other layout, or is invalid.
+     */
+    private static OffsetDateTime tryParseOffsetDateTime(String text) {
+        int length = text.length();
+        if (length < 20
+            || text.charAt(4) != '-'
+            || text.charAt(7) != '-'
+            || text.charAt(10) != 'T'
+            || text.charAt(13) != ':'
+            || text.charAt(16) != ':') {
+            return null;
+        }
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 2);
+        int day = readDigits(text, 8, 2);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+        int second = readDigits(text, 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+
+        int index = 19;
+        int nano = 0;
+        if (text.charAt(index) == '.') {
+            int start = ++index;
+            while (index < length && index - start < 10 && isDigit(text.charAt(index))) {
+                nano = nano * 10 + (text.charAt(index) - '0');
+                ++index;
+            }
+            int fractionDigits = index - start;
+            if (fractionDigits == 0 || fractionDigits > 9 || index == length) {
+                return null;
+            }
+            for (int i = fractionDigits; i < 9; ++i) {
+                nano *= 10;
+            }
+        }
+
+        char sign = text.charAt(index);
+        try {
+            ZoneOffset offset;
+            if (sign == 'Z' && index + 1 == length) {
+                offset = ZoneOffset.UTC;
+            } else if ((sign == '+' || sign == '-') && index + 6 == length && text.charAt(index + 3) == ':') {
+                int offsetHours = readDigits(text, index + 1, 2);
+                int offsetMinutes = readDigits(text, index + 4, 2);
+                if (offsetHours < 0 || offsetMinutes < 0) {
+                    return null;
+                }
+                offset = sign == '-'
+                    ? ZoneOffset.ofHoursMinutes(-offsetHours, -offsetMinutes)
+                    : ZoneOffset.ofHoursMinutes(offsetHours, offsetMinutes);
+            } else {
+                return null;
+            }
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+        } catch (DateTimeException e) {
+            // the fallback parser reports the error
+            return null;
+        }
+    }
+
+    /*
+     * Parses the text of layout "P[nD][T[nH][nM][n[.S{1,9}]S]]", without sign, and with at most 9 digits of each
+     * number.
+     * Returns null if the text is of other layout, or is invalid.
+     */
+    private static Duration tryParseDuration(String text) {
+        int length = text.length();
+        if (length < 3 || text.charAt(0) != 'P') {
+            return null;
+        }
+
+        long seconds = 0;
+        int nano = 0;
+        // 1 for D, 2 for H, 3 for M, 4 for S
+        int lastUnit = 0;
+        boolean timePart = false;
+        int index = 1;
+        while (index < length) {
+            char c = text.charAt(index);
+            if (c == 'T') {
+                if (timePart || index + 1 == length) {
+                    return null;
+                }
+                timePart = true;
+                ++index;
+                continue;
+            }
+
+            int start = index;
+            long value = 0;
+            while (index < length && index - start < 10 && isDigit(c = text.charAt(index))) {
+                value = value * 10 + (c - '0');
+                ++index;
+            }
+            int digits = index - start;
+            if (digits == 0 || digits > 9 || index == length) {
+                return null;
+            }
+
+            if (c == '.') {
+                int fractionStart = ++index;
+                while (index < length && index - fractionStart < 10 && isDigit(c = text.charAt(index))) {
+                    nano = nano * 10 + (c - '0');
+                    ++index;
+                }
+                int fractionDigits = index - fractionStart;
+                if (!timePart || fractionDigits == 0 || fractionDigits > 9 || index == length || c != 'S') {
+                    return null;
+                }
+                for (int i = fractionDigits; i < 9; ++i) {
+                    nano *= 10;
+                }
+            }
+
+            int unit;
+            if (!timePart && c == 'D') {
+                unit = 1;
+                seconds += value * 86400;
+            } else if (timePart && c == 'H') {
+                unit = 2;
+                seconds += value * 3600;
+            } else if (timePart && c == 'M') {
+                unit = 3;
+                seconds += value * 60;
+            } else if (timePart && c == 'S') {
+                unit = 4;
+                seconds += value;
+            } else {
+                return null;
+            }
+            if (unit <= lastUnit) {
+                return null;
+            }
+            lastUnit = unit;
+            ++index;
+        }
+        return lastUnit == 0 ? null : Duration.ofSeconds(seconds, nano);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // returns -1 if any of the characters is not a digit
+    private static int readDigits(String text, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; ++i) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] buffer, int index, int value, int count) {
+        for (int i = index + count - 1; i >= index; --i) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
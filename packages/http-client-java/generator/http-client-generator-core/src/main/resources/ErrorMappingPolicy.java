@@ -0,0 +1,183 @@
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.ReadValueCallback;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// DO NOT modify this helper class
+
+/**
+ * Pipeline policy that maps the error responses of the service methods to exceptions, with the code generated for each
+ * service method.
+ * <p>
+ * RestProxy sets the name of the service method as "caller-method" in the context of the request. When the status code
+ * of the response is not expected by the service method, the policy reads the error body via "fromJson" of the error
+ * model, and throws the exception of the status code, via its constructor. The exception is the same as the one that
+ * RestProxy would create from the "UnexpectedResponseExceptionType" annotations, without looking up the exception type
+ * and the error model by reflection.
+ * <p>
+ * The responses of the service methods that are not registered, and the responses that are not JSON, are returned
+ * as is, and RestProxy handles them.
+ */
+public final class ErrorMappingPolicy implements HttpPipelinePolicy {
+
+    private static final String CALLER_METHOD = "caller-method";
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private static final Map<String, Registration> REGISTRATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Maps the error response of a service method to exception.
+     */
+    @FunctionalInterface
+    public interface ErrorMapper {
+        /**
+         * Creates the exception of the error response.
+         *
+         * @param response the error response, with the body buffered
+         * @param message the exception message
+         * @param body the error body
+         * @return the exception
+         * @throws IOException if the error body cannot be read
+         */
+        HttpResponseException map(HttpResponse response, String message, byte[] body) throws IOException;
+    }
+
+    /**
+     * Registers the error mapping of a service method.
+     *
+     * @param serviceInterface the service interface
+     * @param methodName the name of the service method
+     * @param expectedStatusCodes the expected status codes of the service method, or null if the status codes below 400
+     * are expected
+     * @param errorMapper the error mapping of the service method
+     */
+    public static void register(Class<?> serviceInterface, String methodName, int[] expectedStatusCodes,
+        ErrorMapper errorMapper) {
+        REGISTRATIONS.put(serviceInterface.getName() + "." + methodName,
+            new Registration(expectedStatusCodes, errorMapper));
+    }
+
+    /**
+     * Reads the error body as the error model.
+     *
+     * @param body the error body
+     * @param readValue the "fromJson" of the error model
+     * @param <T> the type of the error model
+     * @return the error model, or null if the error body is empty
+     * @throws IOException if the error body cannot be read
+     */
+    public static <T> T readValue(byte[] body, ReadValueCallback<JsonReader, T> readValue) throws IOException {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return readValue.read(jsonReader);
+        }
+    }
+
+    /**
+     * Reads the error body as untyped value, for the exception of no error model.
+     *
+     * @param body the error body
+     * @return the untyped value, or null if the error body is empty
+     * @throws IOException if the error body cannot be read
+     */
+    public static Object readUntyped(byte[] body) throws IOException {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return jsonReader.readUntyped();
+        }
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        // the exception is thrown after the retries
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        Registration registration = getRegistration(context);
+        if (registration == null) {
+            return next.process();
+        }
+        return next.process().flatMap(response -> {
+            if (!registration.isErrorResponse(response)) {
+                return Mono.just(response);
+            }
+            HttpResponse bufferedResponse = response.buffer();
+            return bufferedResponse.getBodyAsByteArray()
+                .defaultIfEmpty(EMPTY_BODY)
+                .flatMap(body -> Mono.error(registration.mapError(bufferedResponse, body)));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        Registration registration = getRegistration(context);
+        HttpResponse response = next.processSync();
+        if (registration == null || !registration.isErrorResponse(response)) {
+            return response;
+        }
+        HttpResponse bufferedResponse = response.buffer();
+        BinaryData body = bufferedResponse.getBodyAsBinaryData();
+        throw registration.mapError(bufferedResponse, body == null ? EMPTY_BODY : body.toBytes());
+    }
+
+    private static Registration getRegistration(HttpPipelineCallContext context) {
+        Object callerMethod = context.getData(CALLER_METHOD).orElse(null);
+        return callerMethod instanceof String ? REGISTRATIONS.get(callerMethod) : null;
+    }
+
+    private static final class Registration {
+        private final int[] expectedStatusCodes;
+        private final ErrorMapper errorMapper;
+
+        private Registration(int[] expectedStatusCodes, ErrorMapper errorMapper) {
+            this.expectedStatusCodes = expectedStatusCodes;
+            this.errorMapper = errorMapper;
+        }
+
+        private boolean isErrorResponse(HttpResponse response) {
+            int statusCode = response.getStatusCode();
+            boolean expected = expectedStatusCodes == null
+                ? statusCode < 400
+                : Arrays.stream(expectedStatusCodes).anyMatch(code -> code == statusCode);
+            if (expected) {
+                return false;
+            }
+            // other content types are deserialized by RestProxy
+            String contentType = response.getHeaderValue(HttpHeaderName.CONTENT_TYPE);
+            return contentType == null || contentType.toLowerCase(Locale.ROOT).contains("json");
+        }
+
+        private HttpResponseException mapError(HttpResponse response, byte[] body) {
+            // same message as RestProxy
+            String message = "Status code " + response.getStatusCode() + ", "
+                + (body.length == 0 ? "(empty body)" : "\"" + new String(body, StandardCharsets.UTF_8) + "\"");
+            try {
+                return errorMapper.map(response, message, body);
+            } catch (IOException | IllegalStateException e) {
+                return new HttpResponseException(message, response, e);
+            }
+        }
+    }
+}
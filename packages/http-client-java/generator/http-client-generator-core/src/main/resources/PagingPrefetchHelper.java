@@ -0,0 +1,434 @@
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.util.SharedExecutorService;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper class that prefetches the next pages of a paged operation.
+ * <p>
+ * As soon as a page is retrieved, the request for the page of its next link is sent, up to {@code depth} pages ahead
+ * of the page being iterated. Each iteration of the PagedIterable, and each subscription to the PagedFlux, prefetches
+ * its own pages. A subscription to the PagedFlux does not prefetch more pages than it requested.
+ * <p>
+ * A failed prefetch fails the iteration when it reaches the page, with the error of the request. The request is not
+ * sent again. When the subscription terminates or is cancelled, or when the stream is closed, the prefetches in
+ * progress are cancelled and the prefetched pages are closed. An iterator abandoned before its last page leaves at
+ * most {@code depth} prefetched pages to the garbage collector.
+ */
+public final class PagingPrefetchHelper {
+
+    private PagingPrefetchHelper() {
+    }
+
+    /**
+     * Creates a PagedIterable that prefetches the next pages.
+     *
+     * @param firstPageRetriever the retriever of the first page
+     * @param nextPageRetriever the retriever of the page of the next link
+     * @param depth the maximum number of pages to prefetch
+     * @param <T> the type of the items
+     * @return the PagedIterable
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Supplier<PagedResponse<T>> firstPageRetriever,
+        Function<String, PagedResponse<T>> nextPageRetriever, int depth) {
+        return new PrefetchPagedIterable<>(pageSize -> firstPageRetriever.get(),
+            (nextLink, pageSize) -> nextPageRetriever.apply(nextLink), depth);
+    }
+
+    /**
+     * Creates a PagedIterable that prefetches the next pages, of the requested page size.
+     *
+     * @param firstPageRetriever the retriever of the first page
+     * @param nextPageRetriever the retriever of the page of the next link
+     * @param depth the maximum number of pages to prefetch
+     * @param <T> the type of the items
+     * @return the PagedIterable
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Function<Integer, PagedResponse<T>> firstPageRetriever,
+        BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever, int depth) {
+        return new PrefetchPagedIterable<>(firstPageRetriever, nextPageRetriever, depth);
+    }
+
+    /**
+     * Creates a PagedFlux that prefetches the next pages.
+     *
+     * @param firstPageRetriever the retriever of the first page
+     * @param nextPageRetriever the retriever of the page of the next link
+     * @param depth the maximum number of pages to prefetch
+     * @param <T> the type of the items
+     * @return the PagedFlux
+     */
+    public static <T> PagedFlux<T> createPagedFlux(Supplier<Mono<PagedResponse<T>>> firstPageRetriever,
+        Function<String, Mono<PagedResponse<T>>> nextPageRetriever, int depth) {
+        return new PrefetchPagedFlux<>(pageSize -> firstPageRetriever.get(),
+            (nextLink, pageSize) -> nextPageRetriever.apply(nextLink), depth);
+    }
+
+    /**
+     * Creates a PagedFlux that prefetches the next pages, of the requested page size.
+     *
+     * @param firstPageRetriever the retriever of the first page
+     * @param nextPageRetriever the retriever of the page of the next link
+     * @param depth the maximum number of pages to prefetch
+     * @param <T> the type of the items
+     * @return the PagedFlux
+     */
+    public static <T> PagedFlux<T> createPagedFlux(Function<Integer, Mono<PagedResponse<T>>> firstPageRetriever,
+        BiFunction<String, Integer, Mono<PagedResponse<T>>> nextPageRetriever, int depth) {
+        return new PrefetchPagedFlux<>(firstPageRetriever, nextPageRetriever, depth);
+    }
+
+    /*
+     * PagedIterable that prefetches in the iterations and the streams it creates. The PagedIterable it extends does not
+     * prefetch.
+     */
+    private static final class PrefetchPagedIterable<T> extends PagedIterable<T> {
+        private final Function<Integer, PagedResponse<T>> firstPageRetriever;
+        private final BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever;
+        private final int depth;
+
+        private PrefetchPagedIterable(Function<Integer, PagedResponse<T>> firstPageRetriever,
+            BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever, int depth) {
+            super(firstPageRetriever, nextPageRetriever);
+            this.firstPageRetriever = firstPageRetriever;
+            this.nextPageRetriever = nextPageRetriever;
+            this.depth = depth;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return stream().iterator();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return streamByPage().flatMap(page -> page.getElements().stream());
+        }
+
+        @Override
+        public Iterable<PagedResponse<T>> iterableByPage() {
+            return () -> byPageWithPrefetch(newPrefetcher(), null, null).iterator();
+        }
+
+        @Override
+        public Iterable<PagedResponse<T>> iterableByPage(String continuationToken) {
+            return () -> byPageWithPrefetch(newPrefetcher(), continuationToken, null).iterator();
+        }
+
+        @Override
+        public Iterable<PagedResponse<T>> iterableByPage(int preferredPageSize) {
+            return () -> byPageWithPrefetch(newPrefetcher(), null, preferredPageSize).iterator();
+        }
+
+        @Override
+        public Iterable<PagedResponse<T>> iterableByPage(String continuationToken, int preferredPageSize) {
+            return () -> byPageWithPrefetch(newPrefetcher(), continuationToken, preferredPageSize).iterator();
+        }
+
+        @Override
+        public Stream<PagedResponse<T>> streamByPage() {
+            return streamByPageWithPrefetch(null, null);
+        }
+
+        @Override
+        public Stream<PagedResponse<T>> streamByPage(String continuationToken) {
+            return streamByPageWithPrefetch(continuationToken, null);
+        }
+
+        @Override
+        public Stream<PagedResponse<T>> streamByPage(int preferredPageSize) {
+            return streamByPageWithPrefetch(null, preferredPageSize);
+        }
+
+        @Override
+        public Stream<PagedResponse<T>> streamByPage(String continuationToken, int preferredPageSize) {
+            return streamByPageWithPrefetch(continuationToken, preferredPageSize);
+        }
+
+        @Override
+        public <S> PagedIterable<S> mapPage(Function<T, S> mapper) {
+            return new PrefetchPagedIterable<>(pageSize -> mapPage(firstPageRetriever.apply(pageSize), mapper),
+                (nextLink, pageSize) -> mapPage(nextPageRetriever.apply(nextLink, pageSize), mapper), depth);
+        }
+
+        private Prefetcher<T> newPrefetcher() {
+            return new Prefetcher<>((nextLink, pageSize) -> CompletableFuture.supplyAsync(
+                () -> nextPageRetriever.apply(nextLink, pageSize), SharedExecutorService.getInstance()), depth,
+                Long.MAX_VALUE);
+        }
+
+        private Stream<PagedResponse<T>> streamByPageWithPrefetch(String continuationToken, Integer pageSize) {
+            Prefetcher<T> prefetcher = newPrefetcher();
+            Iterable<PagedResponse<T>> pages = byPageWithPrefetch(prefetcher, continuationToken, pageSize);
+            return StreamSupport.stream(pages.spliterator(), false).onClose(prefetcher::close);
+        }
+
+        private Iterable<PagedResponse<T>> byPageWithPrefetch(Prefetcher<T> prefetcher, String continuationToken,
+            Integer pageSize) {
+            PagedIterable<T> pages = new PagedIterable<>(
+                size -> prefetcher.retrieved(firstPageRetriever.apply(size), size),
+                (nextLink, size) -> prefetcher.retrieve(nextLink, size, nextPageRetriever));
+            if (continuationToken == null) {
+                return pageSize == null ? pages.iterableByPage() : pages.iterableByPage(pageSize);
+            } else {
+                return pageSize == null
+                    ? pages.iterableByPage(continuationToken)
+                    : pages.iterableByPage(continuationToken, pageSize);
+            }
+        }
+
+        private static <T, S> PagedResponse<S> mapPage(PagedResponse<T> page, Function<T, S> mapper) {
+            return page == null ? null : new PagedResponseBase<>(page.getRequest(), page.getStatusCode(),
+                page.getHeaders(), page.getValue().stream().map(mapper).collect(Collectors.toList()),
+                page.getContinuationToken(), null);
+        }
+    }
+
+    /*
+     * PagedFlux that prefetches in the subscriptions to its pages and items. The PagedFlux it extends does not
+     * prefetch.
+     */
+    private static final class PrefetchPagedFlux<T> extends PagedFlux<T> {
+        private final Function<Integer, Mono<PagedResponse<T>>> firstPageRetriever;
+        private final BiFunction<String, Integer, Mono<PagedResponse<T>>> nextPageRetriever;
+        private final int depth;
+
+        private PrefetchPagedFlux(Function<Integer, Mono<PagedResponse<T>>> firstPageRetriever,
+            BiFunction<String, Integer, Mono<PagedResponse<T>>> nextPageRetriever, int depth) {
+            super(firstPageRetriever, nextPageRetriever);
+            this.firstPageRetriever = firstPageRetriever;
+            this.nextPageRetriever = nextPageRetriever;
+            this.depth = depth;
+        }
+
+        @Override
+        public Flux<PagedResponse<T>> byPage() {
+            return byPageWithPrefetch(null, null);
+        }
+
+        @Override
+        public Flux<PagedResponse<T>> byPage(String continuationToken) {
+            return byPageWithPrefetch(continuationToken, null);
+        }
+
+        @Override
+        public Flux<PagedResponse<T>> byPage(int preferredPageSize) {
+            return byPageWithPrefetch(null, preferredPageSize);
+        }
+
+        @Override
+        public Flux<PagedResponse<T>> byPage(String continuationToken, int preferredPageSize) {
+            return byPageWithPrefetch(continuationToken, preferredPageSize);
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super T> coreSubscriber) {
+            byPage().flatMapIterable(PagedResponse::getElements).subscribe(coreSubscriber);
+        }
+
+        private Flux<PagedResponse<T>> byPageWithPrefetch(String continuationToken, Integer pageSize) {
+            return Flux.using(this::newPrefetcher,
+                prefetcher -> byPageWithPrefetch(prefetcher, continuationToken, pageSize), Prefetcher::close);
+        }
+
+        private Prefetcher<T> newPrefetcher() {
+            return new Prefetcher<>((nextLink, pageSize) -> nextPageRetriever.apply(nextLink, pageSize).toFuture(),
+                depth, 0);
+        }
+
+        private Flux<PagedResponse<T>> byPageWithPrefetch(Prefetcher<T> prefetcher, String continuationToken,
+            Integer pageSize) {
+            PagedFlux<T> pages = new PagedFlux<>(
+                size -> firstPageRetriever.apply(size).doOnNext(page -> prefetcher.retrieved(page, size)),
+                (nextLink, size) -> prefetcher.retrieveAsync(nextLink, size, nextPageRetriever));
+            Flux<PagedResponse<T>> flux;
+            if (continuationToken == null) {
+                flux = pageSize == null ? pages.byPage() : pages.byPage(pageSize);
+            } else {
+                flux = pageSize == null ? pages.byPage(continuationToken) : pages.byPage(continuationToken, pageSize);
+            }
+            // the pages requested by the subscriber bound the pages to prefetch
+            return flux.doOnRequest(prefetcher::request);
+        }
+    }
+
+    private static final class Prefetcher<T> {
+        private final BiFunction<String, Integer, CompletableFuture<PagedResponse<T>>> pageFetcher;
+        private final int depth;
+        // prefetched pages, keyed by next link and page size
+        private final Map<Map.Entry<String, Integer>, CompletableFuture<PagedResponse<T>>> prefetchedPages
+            = new ConcurrentHashMap<>();
+        // pages requested by the subscriber, and pages retrieved, so that pages not requested are not prefetched
+        private final AtomicLong requestedPages;
+        private final AtomicLong retrievedPages = new AtomicLong();
+        private volatile boolean closed;
+
+        private Prefetcher(BiFunction<String, Integer, CompletableFuture<PagedResponse<T>>> pageFetcher, int depth,
+            long requestedPages) {
+            this.pageFetcher = pageFetcher;
+            this.depth = depth;
+            this.requestedPages = new AtomicLong(requestedPages);
+        }
+
+        private void request(long pages) {
+            requestedPages.updateAndGet(requested -> requested + pages < 0 ? Long.MAX_VALUE : requested + pages);
+        }
+
+        private PagedResponse<T> retrieved(PagedResponse<T> page, Integer pageSize) {
+            retrievedPages.incrementAndGet();
+            prefetchAfter(page, pageSize);
+            return page;
+        }
+
+        private PagedResponse<T> retrieve(String nextLink, Integer pageSize,
+            BiFunction<String, Integer, PagedResponse<T>> pageRetriever) {
+            CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.remove(key(nextLink, pageSize));
+            PagedResponse<T> page;
+            try {
+                if (prefetchedPage == null || prefetchedPage.isCancelled()) {
+                    page = pageRetriever.apply(nextLink, pageSize);
+                } else {
+                    page = join(prefetchedPage);
+                }
+            } catch (RuntimeException | Error e) {
+                // the iteration fails, hence its prefetches are no longer used
+                close();
+                throw e;
+            }
+            return retrieved(page, pageSize);
+        }
+
+        private Mono<PagedResponse<T>> retrieveAsync(String nextLink, Integer pageSize,
+            BiFunction<String, Integer, Mono<PagedResponse<T>>> pageRetriever) {
+            return Mono.defer(() -> {
+                CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.remove(key(nextLink, pageSize));
+                // the error of a prefetch is the error of the page, and cancelling the page cancels the prefetch
+                Mono<PagedResponse<T>> page = prefetchedPage == null || prefetchedPage.isCancelled()
+                    ? pageRetriever.apply(nextLink, pageSize)
+                    : Mono.fromFuture(prefetchedPage);
+                return page.doOnNext(p -> retrieved(p, pageSize));
+            });
+        }
+
+        /*
+         * Cancels the prefetches in progress, and closes the prefetched pages. A prefetch that completes after it is
+         * cancelled closes its page.
+         */
+        private void close() {
+            closed = true;
+            for (Map.Entry<String, Integer> key : prefetchedPages.keySet()) {
+                CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.remove(key);
+                if (prefetchedPage != null && !prefetchedPage.cancel(true)
+                    && !prefetchedPage.isCompletedExceptionally()) {
+                    closePage(prefetchedPage.join());
+                }
+            }
+        }
+
+        /*
+         * Sends the request of the first page after the given page that is not yet prefetched, if fewer than "depth"
+         * pages are prefetched. The prefetch of a page continues to the page after it, when it completes.
+         */
+        private void prefetchAfter(PagedResponse<T> page, Integer pageSize) {
+            String nextLink = page == null ? null : page.getContinuationToken();
+            while (nextLink != null && !closed) {
+                Map.Entry<String, Integer> key = key(nextLink, pageSize);
+                CompletableFuture<PagedResponse<T>> prefetchedPage = prefetchedPages.get(key);
+                if (prefetchedPage == null) {
+                    long limit = Math.min(depth, requestedPages.get() - retrievedPages.get());
+                    if (prefetchedPages.size() < limit) {
+                        prefetch(key);
+                    }
+                    break;
+                } else if (prefetchedPage.isDone() && !prefetchedPage.isCompletedExceptionally()) {
+                    PagedResponse<T> prefetched = prefetchedPage.join();
+                    nextLink = prefetched == null ? null : prefetched.getContinuationToken();
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private void prefetch(Map.Entry<String, Integer> key) {
+            CompletableFuture<PagedResponse<T>> prefetchedPage = new CompletableFuture<>();
+            if (prefetchedPages.putIfAbsent(key, prefetchedPage) != null) {
+                return;
+            }
+            if (closed) {
+                prefetchedPages.remove(key, prefetchedPage);
+                return;
+            }
+            CompletableFuture<PagedResponse<T>> request;
+            try {
+                request = pageFetcher.apply(key.getKey(), key.getValue());
+            } catch (RuntimeException e) {
+                prefetchedPage.completeExceptionally(e);
+                return;
+            }
+            prefetchedPage.whenComplete((page, error) -> {
+                if (prefetchedPage.isCancelled()) {
+                    request.cancel(true);
+                }
+            });
+            request.whenComplete((page, error) -> {
+                if (error != null) {
+                    prefetchedPage.completeExceptionally(error);
+                } else if (prefetchedPage.complete(page)) {
+                    prefetchAfter(page, key.getValue());
+                } else {
+                    // the prefetch is cancelled
+                    closePage(page);
+                }
+            });
+        }
+
+        private static <T> PagedResponse<T> join(CompletableFuture<PagedResponse<T>> prefetchedPage) {
+            try {
+                return prefetchedPage.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        private static void closePage(PagedResponse<?> page) {
+            if (page != null) {
+                try {
+                    page.close();
+                } catch (IOException e) {
+                    // the page is discarded
+                }
+            }
+        }
+
+        private static Map.Entry<String, Integer> key(String nextLink, Integer pageSize) {
+            return new AbstractMap.SimpleImmutableEntry<>(nextLink, pageSize);
+        }
+    }
+}
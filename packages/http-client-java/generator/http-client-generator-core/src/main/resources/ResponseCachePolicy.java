@@ -0,0 +1,346 @@
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.CoreUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// DO NOT modify this helper class
+
+/**
+ * Pipeline policy that caches the responses of GET requests that have an ETag, and revalidates them with conditional
+ * requests.
+ * <p>
+ * The cache is keyed by the URL and the Accept, Accept-Language and Authorization headers of the request. The
+ * credential in the Authorization header is not kept in the cache, only its SHA-256 hash. When a GET request has a
+ * cached response, the policy sends the request with the "If-None-Match" header of the cached ETag. If the service
+ * responds with 304 Not Modified, the policy returns the cached response, so that the body is not transferred again.
+ * <p>
+ * The cache is bounded. When it exceeds the maximum number of entries, the least recently used entry is evicted. An
+ * entry that is not revalidated within the time to live is evicted as well.
+ */
+public final class ResponseCachePolicy implements HttpPipelinePolicy {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    // responses with larger body, or unknown length, are not cached
+    private static final long MAX_BODY_LENGTH = 1024 * 1024;
+
+    private final long timeToLiveNanos;
+    // guarded by "this"
+    private final Map<String, CacheEntry> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates an instance of ResponseCachePolicy, with at most 1000 entries, and a time to live of 5 minutes.
+     */
+    public ResponseCachePolicy() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates an instance of ResponseCachePolicy.
+     *
+     * @param maxEntries the maximum number of cached responses
+     * @param timeToLive the time to live of a cached response, since it is cached or last revalidated
+     * @throws IllegalArgumentException if maxEntries or timeToLive is not positive
+     */
+    public ResponseCachePolicy(int maxEntries, Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "'timeToLive' cannot be null.");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("'maxEntries' must be positive.");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("'timeToLive' must be positive.");
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the number of GET requests that are served from the cache, after the service responds with 304 Not
+     * Modified.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of GET requests that are not served from the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        // the Authorization header is part of the key
+        return HttpPipelinePosition.PER_RETRY;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!isCacheable(request)) {
+            return next.process();
+        }
+
+        String key = getKey(request);
+        CacheEntry entry = getEntry(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return next.process().flatMap(response -> cacheResponse(key, response));
+        }
+
+        request.getHeaders().set(HttpHeaderName.IF_NONE_MATCH, entry.eTag);
+        return next.process()
+            // the request is sent again on retry
+            .doOnEach(signal -> request.getHeaders().remove(HttpHeaderName.IF_NONE_MATCH))
+            .flatMap(response -> {
+                if (response.getStatusCode() == 304) {
+                    response.close();
+                    return Mono.just(onHit(entry, request));
+                }
+                missCount.incrementAndGet();
+                return cacheResponse(key, response);
+            });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!isCacheable(request)) {
+            return next.processSync();
+        }
+
+        String key = getKey(request);
+        CacheEntry entry = getEntry(key);
+        HttpResponse response;
+        if (entry == null) {
+            response = next.processSync();
+        } else {
+            request.getHeaders().set(HttpHeaderName.IF_NONE_MATCH, entry.eTag);
+            try {
+                response = next.processSync();
+            } finally {
+                // the request is sent again on retry
+                request.getHeaders().remove(HttpHeaderName.IF_NONE_MATCH);
+            }
+
+            if (response.getStatusCode() == 304) {
+                response.close();
+                return onHit(entry, request);
+            }
+        }
+
+        missCount.incrementAndGet();
+        if (!isCacheable(response)) {
+            removeEntry(key);
+            return response;
+        }
+        byte[] body;
+        try {
+            body = response.getBodyAsBinaryData().toBytes();
+        } finally {
+            response.close();
+        }
+        return putEntry(key, response, body);
+    }
+
+    private HttpResponse onHit(CacheEntry entry, HttpRequest request) {
+        hitCount.incrementAndGet();
+        entry.revalidatedAt = System.nanoTime();
+        return new CachedHttpResponse(request, entry.statusCode, new HttpHeaders().setAllHttpHeaders(entry.headers),
+            entry.body.clone());
+    }
+
+    private Mono<HttpResponse> cacheResponse(String key, HttpResponse response) {
+        if (!isCacheable(response)) {
+            removeEntry(key);
+            return Mono.just(response);
+        }
+        return response.getBodyAsByteArray()
+            .defaultIfEmpty(new byte[0])
+            .doFinally(signal -> response.close())
+            .map(body -> putEntry(key, response, body));
+    }
+
+    private HttpResponse putEntry(String key, HttpResponse response, byte[] body) {
+        HttpHeaders headers = response.getHeaders();
+        CacheEntry entry = new CacheEntry(headers.getValue(HttpHeaderName.ETAG), response.getStatusCode(),
+            new HttpHeaders().setAllHttpHeaders(headers), body);
+        synchronized (this) {
+            cache.put(key, entry);
+        }
+        return new CachedHttpResponse(response.getRequest(), response.getStatusCode(), headers, body.clone());
+    }
+
+    private synchronized CacheEntry getEntry(String key) {
+        CacheEntry entry = cache.get(key);
+        if (entry != null && System.nanoTime() - entry.revalidatedAt > timeToLiveNanos) {
+            cache.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void removeEntry(String key) {
+        cache.remove(key);
+    }
+
+    private static boolean isCacheable(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return request.getHttpMethod() == HttpMethod.GET
+            && headers.get(HttpHeaderName.IF_NONE_MATCH) == null
+            && headers.get(HttpHeaderName.IF_MATCH) == null
+            && headers.get(HttpHeaderName.RANGE) == null;
+    }
+
+    private static boolean isCacheable(HttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        if (response.getStatusCode() != 200 || headers.getValue(HttpHeaderName.ETAG) == null) {
+            return false;
+        }
+        String cacheControl = headers.getValue(HttpHeaderName.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return false;
+        }
+        String contentLength = headers.getValue(HttpHeaderName.CONTENT_LENGTH);
+        try {
+            return contentLength != null && Long.parseLong(contentLength) <= MAX_BODY_LENGTH;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String getKey(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String authorization = headers.getValue(HttpHeaderName.AUTHORIZATION);
+        return request.getUrl() + "\n" + headers.getValue(HttpHeaderName.ACCEPT) + "\n"
+            + headers.getValue(HttpHeaderName.ACCEPT_LANGUAGE) + "\n"
+            + (authorization == null ? null : hash(authorization));
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every implementation of the Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final String eTag;
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private volatile long revalidatedAt = System.nanoTime();
+
+        private CacheEntry(String eTag, int statusCode, HttpHeaders headers, byte[] body) {
+            this.eTag = eTag;
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    private static final class CachedHttpResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        private CachedHttpResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return headers.getValue(HttpHeaderName.fromString(name));
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(ByteBuffer.wrap(body).asReadOnlyBuffer()));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.fromSupplier(
+                () -> CoreUtils.bomAwareToString(body, headers.getValue(HttpHeaderName.CONTENT_TYPE)));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.fromSupplier(() -> new String(body, charset));
+        }
+
+        @Override
+        public BinaryData getBodyAsBinaryData() {
+            return BinaryData.fromBytes(body);
+        }
+
+        @Override
+        public HttpResponse buffer() {
+            return this;
+        }
+    }
+}
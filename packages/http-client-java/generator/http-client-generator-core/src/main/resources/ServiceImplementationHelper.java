@@ -0,0 +1,601 @@
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.UrlBuilder;
+import com.azure.core.util.serializer.SerializerEncoding;
+import com.azure.core.util.tracing.Tracer;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.ReadValueCallback;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper of the generated implementations of the service interfaces.
+ * <p>
+ * The generated implementation creates the HTTP request of the service method from the URL template, the parameters
+ * and the headers known at code generation, and reads the response body via "fromJson" of the model. The helper
+ * applies the same encoding of the parameters, the same context data, tracing, status code check and exceptions as
+ * RestProxy, without parsing the annotations of the service interface and invoking the service method by reflection.
+ */
+public final class ServiceImplementationHelper {
+
+    private static final String CALLER_METHOD = "caller-method";
+    private static final String EAGERLY_READ_RESPONSE = "azure-eagerly-read-response";
+    private static final String IGNORE_RESPONSE_BODY = "azure-ignore-response-body";
+    private static final String DISABLE_TRACING = "disable-tracing";
+    private static final String TRACE_CONTEXT = "trace-context";
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
+    // same safe characters as RestProxy, in addition to the alphanumeric characters
+    private static final boolean[] PATH_SAFE_CHARACTERS = getSafeCharacters("-._~!$&'()*+,;=:@");
+    private static final boolean[] QUERY_SAFE_CHARACTERS = getSafeCharacters("-._~/?");
+
+    private ServiceImplementationHelper() {
+    }
+
+    /**
+     * Maps the error response of a service method to exception.
+     */
+    @FunctionalInterface
+    public interface ErrorMapper {
+        /**
+         * Creates the exception of the error response.
+         *
+         * @param response the error response
+         * @param message the exception message
+         * @param body the error body
+         * @return the exception
+         * @throws IOException if the error body cannot be read
+         */
+        HttpResponseException map(HttpResponse response, String message, byte[] body) throws IOException;
+    }
+
+    /**
+     * The metadata of a service method, which RestProxy reads from the annotations of the service interface.
+     */
+    public static final class ServiceMethod {
+        private final String callerMethod;
+        private final String spanName;
+        private final int[] expectedStatusCodes;
+        private final ErrorMapper errorMapper;
+
+        /**
+         * Creates the metadata of a service method.
+         *
+         * @param serviceInterface the service interface
+         * @param serviceName the name of the service interface
+         * @param methodName the name of the service method
+         * @param expectedStatusCodes the expected status codes of the service method, or null if the status codes
+         * below 400 are expected
+         * @param errorMapper the error mapping of the service method
+         */
+        public ServiceMethod(Class<?> serviceInterface, String serviceName, String methodName,
+            int[] expectedStatusCodes, ErrorMapper errorMapper) {
+            this.callerMethod = serviceInterface.getName() + "." + methodName;
+            this.spanName = serviceName + "." + methodName;
+            this.expectedStatusCodes = expectedStatusCodes;
+            this.errorMapper = errorMapper;
+        }
+
+        private boolean isExpectedStatusCode(int statusCode) {
+            if (expectedStatusCodes == null) {
+                return statusCode < 400;
+            }
+            for (int expectedStatusCode : expectedStatusCodes) {
+                if (expectedStatusCode == statusCode) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private HttpResponseException mapError(HttpResponse response, byte[] body) {
+            if (body == null) {
+                body = EMPTY_BODY;
+            }
+            // same message as RestProxy
+            String message = "Status code " + response.getStatusCode() + ", ";
+            if ("application/octet-stream".equalsIgnoreCase(response.getHeaderValue(HttpHeaderName.CONTENT_TYPE))) {
+                message += "(" + response.getHeaderValue(HttpHeaderName.CONTENT_LENGTH) + "-byte body)";
+            } else if (body.length == 0) {
+                message += "(empty body)";
+            } else {
+                message += "\"" + new String(body, StandardCharsets.UTF_8) + "\"";
+            }
+            if (body.length > 0 && isText(response)) {
+                // same as RestProxy, which reads the text body as string only
+                return new HttpResponseException(message, response,
+                    new IllegalStateException("Unsupported text Content-Type of the error response."));
+            }
+            try {
+                return errorMapper.map(response, message, body);
+            } catch (IOException | IllegalStateException e) {
+                return new HttpResponseException(message, response, e);
+            }
+        }
+    }
+
+    /**
+     * Escapes the value of a path parameter.
+     *
+     * @param value the value
+     * @return the escaped value, or empty string if the value is null
+     */
+    public static String escapePath(String value) {
+        return value == null ? "" : escape(value, PATH_SAFE_CHARACTERS);
+    }
+
+    /**
+     * Gets the value of a host parameter, or of a path parameter that is already encoded.
+     *
+     * @param value the value
+     * @return the value, or empty string if the value is null
+     */
+    public static String encodedPath(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Serializes the value of a parameter that is not a string, the same way as RestProxy.
+     *
+     * @param value the value
+     * @return the serialized value, or null if the value is null
+     */
+    public static String serialize(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).format(DateTimeFormatter.ISO_INSTANT);
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Adds a query parameter to the query string. Nothing is added if the value is null.
+     *
+     * @param query the query string
+     * @param name the name of the query parameter
+     * @param value the value of the query parameter
+     * @param encoded whether the value is already encoded
+     */
+    public static void addQueryParameter(StringBuilder query, String name, String value, boolean encoded) {
+        if (value == null) {
+            return;
+        }
+        if (query.length() > 0) {
+            query.append('&');
+        }
+        query.append(name).append('=').append(encoded ? value : escape(value, QUERY_SAFE_CHARACTERS));
+    }
+
+    /**
+     * Creates the URL of the request, from the host, the path and the query string.
+     *
+     * @param host the host, with the host parameters
+     * @param path the path, with the path parameters
+     * @param query the query string
+     * @return the URL
+     */
+    public static String createUrl(String host, String path, StringBuilder query) {
+        if (isSimpleUrl(host, path)) {
+            // "scheme://authority" and absolute path, same URL as UrlBuilder
+            StringBuilder url = new StringBuilder(host.length() + path.length() + query.length() + 1).append(host);
+            if (!"/".equals(path)) {
+                url.append(path);
+            }
+            if (query.length() > 0) {
+                url.append('?').append(query);
+            }
+            return url.toString();
+        }
+
+        // same as RestProxy
+        UrlBuilder urlBuilder = UrlBuilder.parse(path);
+        if (urlBuilder.getScheme() == null) {
+            urlBuilder = new UrlBuilder();
+            int index = host.indexOf("://");
+            if (index == -1) {
+                urlBuilder.setHost(host);
+            } else {
+                urlBuilder.setScheme(host.substring(0, index));
+                String hostWithoutScheme = host.substring(index + 3);
+                urlBuilder.setHost(hostWithoutScheme.isEmpty() ? host : hostWithoutScheme);
+            }
+            if (!path.isEmpty() && !"/".equals(path)) {
+                String hostPath = urlBuilder.getPath();
+                if (hostPath == null || hostPath.isEmpty() || "/".equals(hostPath) || path.contains("://")) {
+                    urlBuilder.setPath(path);
+                } else if (path.startsWith("/")) {
+                    urlBuilder.setPath(hostPath + path);
+                } else {
+                    urlBuilder.setPath(hostPath + "/" + path);
+                }
+            }
+        }
+        if (query.length() > 0) {
+            for (String parameter : query.toString().split("&")) {
+                int index = parameter.indexOf('=');
+                urlBuilder.addQueryParameter(parameter.substring(0, index), parameter.substring(index + 1));
+            }
+        }
+        return urlBuilder.toString();
+    }
+
+    /**
+     * Sets a header of the request. Nothing is set if the value is null.
+     *
+     * @param request the request
+     * @param name the header name
+     * @param value the header value
+     */
+    public static void setHeader(HttpRequest request, HttpHeaderName name, String value) {
+        if (value != null) {
+            request.getHeaders().set(name, value);
+        }
+    }
+
+    /**
+     * Sets the JSON body of the request, serialized via "toJson" of the model.
+     *
+     * @param request the request
+     * @param contentType the content type of the body
+     * @param body the body, or null if the request has no body
+     */
+    public static void setJsonBody(HttpRequest request, String contentType, JsonSerializable<?> body) {
+        if (body == null) {
+            request.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            return;
+        }
+        request.setHeader(HttpHeaderName.CONTENT_TYPE, contentType);
+        try {
+            request.setBody(body.toJsonBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the error body as the error model.
+     *
+     * @param body the error body
+     * @param readValue the "fromJson" of the error model
+     * @param <T> the type of the error model
+     * @return the error model, or null if the error body is empty
+     * @throws IOException if the error body cannot be read
+     */
+    public static <T> T readValue(byte[] body, ReadValueCallback<JsonReader, T> readValue) throws IOException {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return readValue.read(jsonReader);
+        }
+    }
+
+    /**
+     * Reads the error body as untyped value, for the exception of no error model.
+     *
+     * @param body the error body
+     * @return the untyped value, or null if the error body is empty
+     * @throws IOException if the error body cannot be read
+     */
+    public static Object readUntyped(byte[] body) throws IOException {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return jsonReader.readUntyped();
+        }
+    }
+
+    /**
+     * Sends the request, and reads the response body as the model.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @param type the class of the model
+     * @param readValue the "fromJson" of the model
+     * @param <T> the type of the model
+     * @return the response
+     */
+    public static <T> Response<T> sendSync(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method, Class<T> type, ReadValueCallback<JsonReader, T> readValue) {
+        context = getContext(context, method).addData(EAGERLY_READ_RESPONSE, true);
+        return sendRequestSync(pipeline, request, context, method, response -> {
+            BinaryData body = response.getBodyAsBinaryData();
+            return createResponse(response,
+                readValue(response, body == null ? null : body.toBytes(), type, readValue));
+        });
+    }
+
+    /**
+     * Sends the request, and reads the response body as BinaryData.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @return the response
+     */
+    public static Response<BinaryData> sendSyncBinary(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method) {
+        return sendRequestSync(pipeline, request, getContext(context, method), method,
+            response -> createResponse(response, response.getBodyAsBinaryData()));
+    }
+
+    /**
+     * Sends the request, and ignores the response body.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @return the response
+     */
+    public static Response<Void> sendSyncVoid(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method) {
+        context = getContext(context, method).addData(IGNORE_RESPONSE_BODY, true);
+        return sendRequestSync(pipeline, request, context, method, response -> {
+            response.close();
+            return createResponse(response, null);
+        });
+    }
+
+    /**
+     * Sends the request, and reads the response body as the model.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @param type the class of the model
+     * @param readValue the "fromJson" of the model
+     * @param <T> the type of the model
+     * @return the response
+     */
+    public static <T> Mono<Response<T>> send(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method, Class<T> type, ReadValueCallback<JsonReader, T> readValue) {
+        context = getContext(context, method).addData(EAGERLY_READ_RESPONSE, true);
+        return sendRequest(pipeline, request, context, method,
+            response -> response.getBodyAsByteArray()
+                .mapNotNull(body -> readValue(response, body, type, readValue))
+                .map(value -> createResponse(response, value))
+                .switchIfEmpty(Mono.fromSupplier(() -> createResponse(response, null))));
+    }
+
+    /**
+     * Sends the request, and reads the response body as BinaryData.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @return the response
+     */
+    public static Mono<Response<BinaryData>> sendBinary(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method) {
+        return sendRequest(pipeline, request, getContext(context, method), method, response -> {
+            String contentType = response.getHeaderValue(HttpHeaderName.CONTENT_TYPE);
+            Mono<BinaryData> body = contentType != null && contentType.startsWith("text/event-stream")
+                ? BinaryData.fromFlux(response.getBody(), null, false)
+                : BinaryData.fromFlux(response.getBody());
+            return body.map(value -> createResponse(response, value))
+                .switchIfEmpty(Mono.fromSupplier(() -> createResponse(response, null)));
+        });
+    }
+
+    /**
+     * Sends the request, and ignores the response body.
+     *
+     * @param pipeline the HTTP pipeline
+     * @param request the request
+     * @param context the context of the service method
+     * @param method the metadata of the service method
+     * @return the response
+     */
+    public static Mono<Response<Void>> sendVoid(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method) {
+        context = getContext(context, method).addData(IGNORE_RESPONSE_BODY, true);
+        return sendRequest(pipeline, request, context, method, response -> response.getBody()
+            .ignoreElements()
+            .then(Mono.fromSupplier(() -> createResponse(response, null))));
+    }
+
+    private static Context getContext(Context context, ServiceMethod method) {
+        return (context == null ? Context.NONE : context).addData(CALLER_METHOD, method.callerMethod);
+    }
+
+    private static <T> Response<T> sendRequestSync(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method, Function<HttpResponse, Response<T>> handleResponse) {
+        Tracer tracer = pipeline.getTracer();
+        if (!isTracingEnabled(tracer, context)) {
+            return handleResponse.apply(ensureExpectedStatus(pipeline.sendSync(request, context), method));
+        }
+
+        Context spanContext = startSpan(tracer, context, method);
+        try (AutoCloseable scope = tracer.makeSpanCurrent(spanContext)) {
+            Response<T> response
+                = handleResponse.apply(ensureExpectedStatus(pipeline.sendSync(request, spanContext), method));
+            int statusCode = response.getStatusCode();
+            tracer.end(statusCode >= 400 ? String.valueOf(statusCode) : null, null, spanContext);
+            return response;
+        } catch (RuntimeException e) {
+            tracer.end(null, e, spanContext);
+            throw e;
+        } catch (Exception e) {
+            // thrown by closing the scope
+            tracer.end(null, e, spanContext);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> Mono<Response<T>> sendRequest(HttpPipeline pipeline, HttpRequest request, Context context,
+        ServiceMethod method, Function<HttpResponse, Mono<Response<T>>> handleResponse) {
+        Tracer tracer = pipeline.getTracer();
+        if (!isTracingEnabled(tracer, context)) {
+            return Mono.defer(() -> pipeline.send(request, context))
+                .flatMap(response -> ensureExpectedStatusAsync(response, method))
+                .flatMap(handleResponse);
+        }
+
+        Context spanContext = startSpan(tracer, context, method);
+        Mono<HttpResponse> response = Mono.defer(() -> {
+            try (AutoCloseable scope = tracer.makeSpanCurrent(spanContext)) {
+                return pipeline.send(request, spanContext);
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+        });
+        return response.flatMap(r -> ensureExpectedStatusAsync(r, method))
+            .doOnEach(signal -> {
+                if (signal.hasValue()) {
+                    int statusCode = signal.get().getStatusCode();
+                    tracer.end(statusCode >= 400 ? String.valueOf(statusCode) : null, null, spanContext);
+                } else if (signal.isOnError()) {
+                    tracer.end(null, signal.getThrowable(), spanContext);
+                }
+            })
+            .doOnCancel(() -> tracer.end("cancelled", null, spanContext))
+            .contextWrite(reactor.util.context.Context.of(TRACE_CONTEXT, spanContext))
+            .flatMap(handleResponse);
+    }
+
+    private static boolean isTracingEnabled(Tracer tracer, Context context) {
+        return tracer.isEnabled() && !((Boolean) context.getData(DISABLE_TRACING).orElse(false));
+    }
+
+    private static Context startSpan(Tracer tracer, Context context, ServiceMethod method) {
+        Object traceContext = context.getData(TRACE_CONTEXT).orElse(null);
+        return tracer.start(method.spanName, traceContext instanceof Context ? (Context) traceContext : context);
+    }
+
+    private static HttpResponse ensureExpectedStatus(HttpResponse response, ServiceMethod method) {
+        if (method.isExpectedStatusCode(response.getStatusCode())) {
+            return response;
+        }
+        BinaryData body = response.getBodyAsBinaryData();
+        throw method.mapError(response, body == null ? null : body.toBytes());
+    }
+
+    private static Mono<HttpResponse> ensureExpectedStatusAsync(HttpResponse response, ServiceMethod method) {
+        if (method.isExpectedStatusCode(response.getStatusCode())) {
+            return Mono.just(response);
+        }
+        return response.getBodyAsByteArray()
+            .map(body -> method.mapError(response, body))
+            .switchIfEmpty(Mono.fromSupplier(() -> method.mapError(response, null)))
+            .flatMap(Mono::error);
+    }
+
+    private static <T> T readValue(HttpResponse response, byte[] body, Class<T> type,
+        ReadValueCallback<JsonReader, T> readValue) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        if (isText(response)) {
+            // same exception as RestProxy, which reads the text body as string only
+            throw new IllegalStateException("Unsupported text Content-Type Type: " + type);
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return readValue.read(jsonReader);
+        } catch (IOException | IllegalStateException e) {
+            // same exception as RestProxy
+            throw new HttpResponseException("Deserialization Failed.", response, e);
+        }
+    }
+
+    // the "text/*" content types, except the XML ones, which RestProxy does not read as JSON
+    private static boolean isText(HttpResponse response) {
+        return SerializerEncoding.fromHeaders(response.getHeaders()) == SerializerEncoding.TEXT;
+    }
+
+    private static <T> Response<T> createResponse(HttpResponse response, T value) {
+        HttpHeaders headers = response.getHeaders();
+        return new SimpleResponse<>(response.getRequest(), response.getStatusCode(), headers, value);
+    }
+
+    private static boolean isSimpleUrl(String host, String path) {
+        int index = host.indexOf("://");
+        if (index <= 0 || index + 3 == host.length() || !(path.isEmpty() || path.charAt(0) == '/')) {
+            return false;
+        }
+        for (int i = index + 3; i < host.length(); i++) {
+            char c = host.charAt(i);
+            if (c == '/' || c == '?' || c == '#' || c == '@' || c == '\\') {
+                return false;
+            }
+        }
+        return path.indexOf('?') == -1 && path.indexOf('#') == -1 && !path.contains("://");
+    }
+
+    private static String escape(String value, boolean[] safeCharacters) {
+        int length = value.length();
+        int index = 0;
+        while (index < length && isSafe(value.charAt(index), safeCharacters)) {
+            index++;
+        }
+        if (index == length) {
+            return value;
+        }
+
+        StringBuilder escaped = new StringBuilder(length + 16).append(value, 0, index);
+        while (index < length) {
+            char c = value.charAt(index);
+            if (isSafe(c, safeCharacters)) {
+                escaped.append(c);
+                index++;
+                continue;
+            }
+            int codePoint = value.codePointAt(index);
+            // a lone surrogate, as the code point of a valid surrogate pair is a supplementary code point
+            if (Character.charCount(codePoint) == 1 && Character.isSurrogate(c)) {
+                throw new IllegalStateException("String contains unpaired surrogate.");
+            }
+            for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                escaped.append('%').append(HEX_CHARACTERS[(b >> 4) & 0xF]).append(HEX_CHARACTERS[b & 0xF]);
+            }
+            index += Character.charCount(codePoint);
+        }
+        return escaped.toString();
+    }
+
+    private static boolean isSafe(char c, boolean[] safeCharacters) {
+        return c < safeCharacters.length && safeCharacters[c];
+    }
+
+    private static boolean[] getSafeCharacters(String safeCharacters) {
+        boolean[] safe = new boolean[128];
+        for (char c = '0'; c <= '9'; c++) {
+            safe[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            safe[c] = true;
+            safe[Character.toUpperCase(c)] = true;
+        }
+        for (char c : safeCharacters.toCharArray()) {
+            safe[c] = true;
+        }
+        return safe;
+    }
+}
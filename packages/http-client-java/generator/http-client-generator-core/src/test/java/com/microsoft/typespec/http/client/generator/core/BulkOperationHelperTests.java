@@ -0,0 +1,162 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the BulkOperationHelper class that the generator copies to the generated code of the azure flavor.
+ */
+public class BulkOperationHelperTests {
+    private static final Class<?> HELPER
+        = HelperClassCompiler.compile(List.of("BulkOperationHelper.java", "BulkOperationResult.java"),
+            "BulkOperationHelper");
+
+    @Test
+    public void testRunOrdered() {
+        List<Integer> keys = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<?> results = runOrdered(keys, key -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep((20 - key) % 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return "value" + key;
+        }, 4);
+
+        // the results are in the order of the keys, with at most "maxConcurrency" concurrent requests
+        Assertions.assertEquals(keys.size(), results.size());
+        for (int i = 0; i < keys.size(); ++i) {
+            Assertions.assertEquals(i, get(results.get(i), "getKey"));
+            Assertions.assertEquals("value" + i, get(results.get(i), "getValue"));
+            Assertions.assertTrue((Boolean) get(results.get(i), "isSuccessful"));
+        }
+        Assertions.assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void testRunOrderedError() {
+        RuntimeException error = new IllegalStateException("error");
+        List<?> results = runOrdered(List.of(0, 1, 2), key -> {
+            if (key == 1) {
+                throw error;
+            }
+            return "value" + key;
+        }, 2);
+
+        // the error of a request is captured in its result
+        Assertions.assertTrue((Boolean) get(results.get(0), "isSuccessful"));
+        Assertions.assertFalse((Boolean) get(results.get(1), "isSuccessful"));
+        Assertions.assertSame(error, get(results.get(1), "getError"));
+        Assertions.assertNull(get(results.get(1), "getValue"));
+        Assertions.assertTrue((Boolean) get(results.get(2), "isSuccessful"));
+    }
+
+    @Test
+    public void testRunUnordered() {
+        List<Integer> keys = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        List<Object> keysOfResults = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger handling = new AtomicInteger();
+        AtomicInteger maxHandling = new AtomicInteger();
+
+        runUnordered(keys, key -> "value" + key, 4, result -> {
+            maxHandling.accumulateAndGet(handling.incrementAndGet(), Math::max);
+            keysOfResults.add(get(result, "getKey"));
+            handling.decrementAndGet();
+        });
+
+        // the handler is called for each result, one result at a time
+        Assertions.assertEquals(keys.size(), keysOfResults.size());
+        Assertions.assertTrue(keysOfResults.containsAll(keys));
+        Assertions.assertEquals(1, maxHandling.get());
+    }
+
+    @Test
+    public void testThrottledRequestRetried() {
+        Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        List<?> results = runOrdered(List.of(0, 1, 2), key -> {
+            if (attempts.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet() == 1 && key == 1) {
+                throw throttled(429, "10");
+            }
+            return "value" + key;
+        }, 3);
+
+        // the throttled request is retried after the time in the "Retry-After" header
+        Assertions.assertTrue((Boolean) get(results.get(1), "isSuccessful"));
+        Assertions.assertEquals("value1", get(results.get(1), "getValue"));
+        Assertions.assertEquals(2, attempts.get(1).get());
+        Assertions.assertEquals(1, attempts.get(0).get());
+        Assertions.assertEquals(1, attempts.get(2).get());
+    }
+
+    @Test
+    public void testThrottledRequestRetryLimit() {
+        AtomicInteger attempts = new AtomicInteger();
+        HttpResponseException error = throttled(503, "1");
+        List<?> results = runOrdered(List.of(0), key -> {
+            attempts.incrementAndGet();
+            throw error;
+        }, 1);
+
+        // the throttled request is retried 3 times, then the error is captured in its result
+        Assertions.assertEquals(4, attempts.get());
+        Assertions.assertSame(error, get(results.get(0), "getError"));
+    }
+
+    @Test
+    public void testErrorNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<?> results = runOrdered(List.of(0), key -> {
+            attempts.incrementAndGet();
+            throw throttled(500, "1");
+        }, 1);
+
+        // the request is only retried when the service throttles it
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertFalse((Boolean) get(results.get(0), "isSuccessful"));
+    }
+
+    private static List<?> runOrdered(List<Integer> keys, Function<Integer, String> operation, int maxConcurrency) {
+        return (List<?>) HelperClassCompiler.invokeStatic(HELPER, "runOrdered",
+            new Class<?>[] { Iterable.class, Function.class, int.class }, keys, operation, maxConcurrency);
+    }
+
+    private static void runUnordered(List<Integer> keys, Function<Integer, String> operation, int maxConcurrency,
+        Consumer<Object> resultHandler) {
+        HelperClassCompiler.invokeStatic(HELPER, "runUnordered",
+            new Class<?>[] { Iterable.class, Function.class, int.class, Consumer.class }, keys, operation,
+            maxConcurrency, resultHandler);
+    }
+
+    private static Object get(Object result, String methodName) {
+        return HelperClassCompiler.invoke(result, methodName);
+    }
+
+    private static HttpResponseException throttled(int statusCode, String retryAfterMs) {
+        HttpHeaders headers = new HttpHeaders().set(HttpHeaderName.fromString("retry-after-ms"), retryAfterMs);
+        HttpRequest request = new HttpRequest(HttpMethod.GET, "https://localhost");
+        return new HttpResponseException("throttled", new MockHttpResponse(request, statusCode, headers, new byte[0]));
+    }
+}
@@ -0,0 +1,227 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.paging.PagedResponse;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the AsyncHelper class that the generator copies to the generated code of the clientcore flavor.
+ */
+public class ClientCoreAsyncHelperTests {
+    private static final Class<?> HELPER = HelperClassCompiler.compile("ClientCoreAsyncHelper.java", "AsyncHelper");
+
+    @Test
+    public void testSupplyAsync() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        Executor executor = command -> {
+            executions.incrementAndGet();
+            new Thread(command).start();
+        };
+
+        // the supplier runs on the executor of the client, or on the default executor
+        Assertions.assertEquals("value", supplyAsync(() -> "value", executor).get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertEquals("value", supplyAsync(() -> "value", null).get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executions.get());
+
+        RuntimeException error = new RuntimeException("error");
+        CompletableFuture<String> failed = supplyAsync(() -> {
+            throw error;
+        }, null);
+        Exception thrown = Assertions.assertThrows(Exception.class, () -> failed.get(10, TimeUnit.SECONDS));
+        Assertions.assertSame(error, thrown.getCause());
+    }
+
+    @Test
+    public void testPublishPages() {
+        TestPages pages = new TestPages(3);
+        TestSubscriber subscriber = new TestSubscriber();
+        publishPages(pages, null).subscribe(subscriber);
+
+        // a page is retrieved for each page requested
+        subscriber.subscription.get().request(1);
+        waitUntil(() -> subscriber.pages.size() == 1);
+        Assertions.assertEquals(1, pages.retrieved.get());
+
+        subscriber.subscription.get().request(Long.MAX_VALUE);
+        waitUntil(subscriber.completed::get);
+        Assertions.assertEquals(3, subscriber.pages.size());
+        Assertions.assertNull(subscriber.error.get());
+    }
+
+    @Test
+    public void testPublishPagesInvalidRequest() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publishPages(new TestPages(3), null).subscribe(subscriber);
+
+        subscriber.subscription.get().request(0);
+        waitUntil(() -> subscriber.error.get() != null);
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error.get());
+    }
+
+    @Test
+    public void testPublishPagesCancel() throws InterruptedException {
+        CountDownLatch retrieving = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        TestPages pages = new TestPages(3) {
+            @Override
+            public PagedResponse<Integer> next() {
+                retrieving.countDown();
+                try {
+                    Assertions.assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                return super.next();
+            }
+        };
+        TestSubscriber subscriber = new TestSubscriber();
+        publishPages(pages, null).subscribe(subscriber);
+
+        // the page retrieved after the subscription is cancelled is closed, and the iterator of the pages is closed
+        subscriber.subscription.get().request(1);
+        Assertions.assertTrue(retrieving.await(10, TimeUnit.SECONDS));
+        subscriber.subscription.get().cancel();
+        cancelled.countDown();
+
+        waitUntil(() -> pages.closed.get() && pages.items.size() == 1 && pages.items.get(0).closed.get());
+        Assertions.assertTrue(subscriber.pages.isEmpty());
+        Assertions.assertFalse(subscriber.completed.get());
+        Assertions.assertNull(subscriber.error.get());
+    }
+
+    @Test
+    public void testPublishPagesCancelIdle() {
+        TestPages pages = new TestPages(3);
+        TestSubscriber subscriber = new TestSubscriber();
+        publishPages(pages, null).subscribe(subscriber);
+        subscriber.subscription.get().request(1);
+        waitUntil(() -> subscriber.pages.size() == 1);
+
+        // the iterator of the pages is closed when the subscription is cancelled between pages
+        subscriber.subscription.get().cancel();
+        waitUntil(pages.closed::get);
+        Assertions.assertEquals(1, pages.retrieved.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        return (CompletableFuture<T>) HelperClassCompiler.invokeStatic(HELPER, "supplyAsync",
+            new Class<?>[] { Supplier.class, Executor.class }, supplier, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Flow.Publisher<PagedResponse<Integer>> publishPages(TestPages pages, Executor executor) {
+        Supplier<Iterable<PagedResponse<Integer>>> pagesSupplier = () -> () -> pages;
+        return (Flow.Publisher<PagedResponse<Integer>>) HelperClassCompiler.invokeStatic(HELPER, "publishPages",
+            new Class<?>[] { Supplier.class, Executor.class }, pagesSupplier, executor);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition is not met in time");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /*
+     * Iterator of "pageCount" pages, which records the items of the pages retrieved, and that it is closed.
+     */
+    private static class TestPages implements Iterator<PagedResponse<Integer>>, AutoCloseable {
+        private final int pageCount;
+        private final AtomicInteger retrieved = new AtomicInteger();
+        private final List<Items> items = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TestPages(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return retrieved.get() < pageCount;
+        }
+
+        @Override
+        public PagedResponse<Integer> next() {
+            Items pageItems = new Items(retrieved.getAndIncrement());
+            items.add(pageItems);
+            return new PagedResponse<>(null, 200, new HttpHeaders(), pageItems);
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    /*
+     * PagedResponse cannot be extended, hence the page records that it is closed by its items, which PagedResponse
+     * closes.
+     */
+    private static final class Items extends ArrayList<Integer> implements Closeable {
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Items(int index) {
+            super(Collections.singletonList(index));
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<PagedResponse<Integer>> {
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        private final List<PagedResponse<Integer>> pages = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+        }
+
+        @Override
+        public void onNext(PagedResponse<Integer> item) {
+            pages.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+    }
+}
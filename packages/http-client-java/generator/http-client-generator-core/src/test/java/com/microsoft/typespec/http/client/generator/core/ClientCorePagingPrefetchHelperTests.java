@@ -0,0 +1,247 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.http.paging.PagingOptions;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the PagingPrefetchHelper class that the generator copies to the generated code of the clientcore flavor.
+ */
+public class ClientCorePagingPrefetchHelperTests {
+    private static final Class<?> HELPER
+        = HelperClassCompiler.compile("ClientCorePagingPrefetchHelper.java", "PagingPrefetchHelper");
+
+    @Test
+    public void testPagedIterable() {
+        TestService service = new TestService(5);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+
+        // the pages are in order, and each page is requested once by each iteration
+        Assertions.assertEquals(expectedItems(5), pagedIterable.stream().collect(Collectors.toList()));
+        service.assertRequests(1, "page1", "page2", "page3", "page4");
+
+        List<Integer> items = new ArrayList<>();
+        pagedIterable.forEach(items::add);
+        Assertions.assertEquals(expectedItems(5), items);
+        service.assertRequests(2, "page1", "page2", "page3", "page4");
+    }
+
+    @Test
+    public void testPagedIterableDepth() throws InterruptedException {
+        TestService service = new TestService(10);
+        Iterator<PagedResponse<Integer>> pages = createPagedIterable(service, 2).iterableByPage().iterator();
+
+        // at most "depth" pages are prefetched ahead of the page iterated
+        Assertions.assertEquals(0, pages.next().getValue().get(0));
+        waitUntil(() -> service.requestCount() == 2);
+        Thread.sleep(100);
+        service.assertRequests(1, "page1", "page2");
+        Assertions.assertEquals(2, service.requestCount());
+
+        Assertions.assertEquals(10, pages.next().getValue().get(0));
+        waitUntil(() -> service.requestCount() == 3);
+        service.assertRequests(1, "page3");
+    }
+
+    @Test
+    public void testPagedIterableError() {
+        TestService service = new TestService(5);
+        RuntimeException error = new RuntimeException("page2");
+        service.errors.put("page2", error);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+
+        // the error of the prefetch fails the iteration, and the page is not requested again
+        RuntimeException thrown = Assertions.assertThrows(RuntimeException.class,
+            () -> pagedIterable.stream().collect(Collectors.toList()));
+        Assertions.assertSame(error, thrown);
+        service.assertRequests(1, "page2");
+    }
+
+    @Test
+    public void testPagedIterableInterleavedIterations() {
+        TestService service = new TestService(5);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+        Iterator<PagedResponse<Integer>> iteration1 = pagedIterable.iterableByPage().iterator();
+        Iterator<PagedResponse<Integer>> iteration2 = pagedIterable.iterableByPage().iterator();
+
+        // each iteration prefetches its own pages, hence a new iteration neither fails nor closes the pages of the other
+        List<Integer> items1 = new ArrayList<>(iteration1.next().getValue());
+        List<Integer> items2 = new ArrayList<>(iteration2.next().getValue());
+        List<PagedResponse<Integer>> pages = new ArrayList<>();
+        while (iteration1.hasNext() || iteration2.hasNext()) {
+            if (iteration1.hasNext()) {
+                PagedResponse<Integer> page = iteration1.next();
+                pages.add(page);
+                items1.addAll(page.getValue());
+            }
+            if (iteration2.hasNext()) {
+                PagedResponse<Integer> page = iteration2.next();
+                pages.add(page);
+                items2.addAll(page.getValue());
+            }
+        }
+        Assertions.assertEquals(expectedItems(5), items1);
+        Assertions.assertEquals(expectedItems(5), items2);
+        service.assertRequests(2, "page1", "page2", "page3", "page4");
+        pages.forEach(page -> Assertions.assertFalse(((Items) page.getValue()).closed.get()));
+    }
+
+    @Test
+    public void testPagedIterableAbandonedIteration() {
+        TestService service = new TestService(10);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+        Assertions.assertEquals(0, pagedIterable.iterableByPage().iterator().next().getValue().get(0));
+        waitUntil(() -> service.requestCount() == 2);
+        TestPage page1 = service.pages.get("page1");
+        TestPage page2 = service.pages.get("page2");
+
+        // the pages prefetched by the iteration abandoned are closed, after its iterator is garbage collected
+        waitUntil(() -> {
+            System.gc();
+            pagedIterable.iterableByPage().iterator().next();
+            return page1.getValue().closed.get() && page2.getValue().closed.get();
+        });
+    }
+
+    @Test
+    public void testPagedIterablePageSize() {
+        TestService service = new TestService(5);
+        List<PagedResponse<Integer>> pages = new ArrayList<>();
+        createPagedIterable(service, 2).iterableByPage(new PagingOptions().setPageSize(7L)).forEach(pages::add);
+
+        // the pages are prefetched with the page size of the iteration
+        Assertions.assertEquals(5, pages.size());
+        Assertions.assertEquals(Collections.singleton(7L), service.pageSizes.keySet());
+        Assertions.assertEquals(5, service.pageSizes.get(7L).get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PagedIterable<Integer> createPagedIterable(TestService service, int depth) {
+        Function<PagingOptions, PagedResponse<Integer>> firstPageRetriever
+            = pagingOptions -> service.page(pagingOptions, null);
+        BiFunction<PagingOptions, String, PagedResponse<Integer>> nextPageRetriever = service::page;
+        try {
+            return (PagedIterable<Integer>) HELPER
+                .getMethod("createPagedIterable", Function.class, BiFunction.class, int.class)
+                .invoke(null, firstPageRetriever, nextPageRetriever, depth);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Integer> expectedItems(int pageCount) {
+        return IntStream.range(0, pageCount)
+            .boxed()
+            .flatMap(index -> Stream.of(index * 10, index * 10 + 1))
+            .collect(Collectors.toList());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition is not met in time");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /*
+     * Service of "pageCount" pages, whose next links are "page1", "page2", etc. It records the requests of the next
+     * links, and the page sizes.
+     */
+    private static final class TestService {
+        private final int pageCount;
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicInteger> pageSizes = new ConcurrentHashMap<>();
+        private final Map<String, TestPage> pages = new ConcurrentHashMap<>();
+        private final Map<String, RuntimeException> errors = new ConcurrentHashMap<>();
+
+        private TestService(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        private PagedResponse<Integer> page(PagingOptions pagingOptions, String nextLink) {
+            if (pagingOptions != null && pagingOptions.getPageSize() != null) {
+                pageSizes.computeIfAbsent(pagingOptions.getPageSize(), size -> new AtomicInteger()).incrementAndGet();
+            }
+            if (nextLink == null) {
+                return new TestPage(0, pageCount).response;
+            }
+            requests.computeIfAbsent(nextLink, link -> new AtomicInteger()).incrementAndGet();
+            if (errors.containsKey(nextLink)) {
+                throw errors.get(nextLink);
+            }
+            TestPage page = new TestPage(Integer.parseInt(nextLink.substring("page".length())), pageCount);
+            pages.put(nextLink, page);
+            return page.response;
+        }
+
+        private int requestCount() {
+            return requests.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        private void assertRequests(int expectedCount, String... nextLinks) {
+            for (String nextLink : nextLinks) {
+                Assertions.assertEquals(expectedCount, requests.getOrDefault(nextLink, new AtomicInteger()).get(),
+                    nextLink);
+            }
+        }
+    }
+
+    /*
+     * PagedResponse cannot be extended, hence the page records that it is closed by its items, which PagedResponse
+     * closes.
+     */
+    private static final class TestPage {
+        private final PagedResponse<Integer> response;
+
+        private TestPage(int index, int pageCount) {
+            this.response = new PagedResponse<>(null, 200, new HttpHeaders(), new Items(index),
+                null, index + 1 < pageCount ? "page" + (index + 1) : null, null, null, null);
+        }
+
+        private Items getValue() {
+            return (Items) response.getValue();
+        }
+    }
+
+    private static final class Items extends ArrayList<Integer> implements Closeable {
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Items(int index) {
+            super(Arrays.asList(index * 10, index * 10 + 1));
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.util.CoreUtils;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fuzz tests of the DateTimeHelper class that the generator copies to the generated code, against the parsers and
+ * formatters of java.time.
+ */
+public class DateTimeHelperTests {
+    private static final Class<?> HELPER = HelperClassCompiler.compile("DateTimeHelper.java", "DateTimeHelper");
+
+    private static final int ITERATIONS = 10000;
+    private static final String MUTATION_CHARACTERS = "0123456789-+:.TZPDHMSz ";
+
+    @Test
+    public void testFormatOffsetDateTime() {
+        Random random = new Random(1);
+        for (int i = 0; i < ITERATIONS; ++i) {
+            OffsetDateTime dateTime = randomOffsetDateTime(random);
+            Assertions.assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime),
+                invoke("formatOffsetDateTime", OffsetDateTime.class, dateTime), dateTime::toString);
+        }
+        Assertions.assertNull(invoke("formatOffsetDateTime", OffsetDateTime.class, null));
+    }
+
+    @Test
+    public void testParseOffsetDateTime() {
+        Random random = new Random(2);
+        for (int i = 0; i < ITERATIONS; ++i) {
+            String text = mutate(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(randomOffsetDateTime(random)), random);
+            assertSameResult(text, OffsetDateTime::parse, "parseOffsetDateTime");
+        }
+        Assertions.assertNull(invoke("parseOffsetDateTime", String.class, null));
+    }
+
+    @Test
+    public void testParseBestOffsetDateTime() {
+        Random random = new Random(3);
+        for (int i = 0; i < ITERATIONS; ++i) {
+            OffsetDateTime dateTime = randomOffsetDateTime(random);
+            String text = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+            switch (random.nextInt(3)) {
+                case 0:
+                    // without offset
+                    text = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+                    break;
+
+                case 1:
+                    // offset without colon
+                    if (text.charAt(text.length() - 3) == ':') {
+                        text = text.substring(0, text.length() - 3) + text.substring(text.length() - 2);
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+            assertSameResult(mutate(text, random), CoreUtils::parseBestOffsetDateTime, "parseBestOffsetDateTime");
+        }
+    }
+
+    @Test
+    public void testParseDuration() {
+        Random random = new Random(4);
+        for (int i = 0; i < ITERATIONS; ++i) {
+            long seconds = random.nextInt(10) == 0
+                ? -random.nextInt(100000)
+                : random.nextInt(random.nextBoolean() ? 100 : 100000000);
+            Duration duration = Duration.ofSeconds(seconds, random.nextBoolean() ? 0 : random.nextInt(1000000000));
+            String text = random.nextInt(5) == 0 ? randomDurationText(random) : duration.toString();
+            assertSameResult(mutate(text, random), Duration::parse, "parseDuration");
+        }
+        Assertions.assertNull(invoke("parseDuration", String.class, null));
+    }
+
+    private static void assertSameResult(String text, Function<String, Object> expectedParser, String methodName) {
+        Object expected;
+        try {
+            expected = expectedParser.apply(text);
+        } catch (RuntimeException e) {
+            RuntimeException error
+                = Assertions.assertThrows(RuntimeException.class, () -> invoke(methodName, String.class, text), text);
+            Assertions.assertEquals(e.getClass(), error.getClass(), text);
+            return;
+        }
+        Assertions.assertEquals(expected, invoke(methodName, String.class, text), text);
+    }
+
+    private static Object invoke(String methodName, Class<?> parameterType, Object arg) {
+        return HelperClassCompiler.invokeStatic(HELPER, methodName, new Class<?>[] { parameterType }, arg);
+    }
+
+    private static OffsetDateTime randomOffsetDateTime(Random random) {
+        int year = random.nextInt(20) == 0 ? random.nextInt(40000) - 20000 : 1900 + random.nextInt(200);
+        int nano;
+        switch (random.nextInt(4)) {
+            case 0:
+                nano = 0;
+                break;
+
+            case 1:
+                nano = random.nextInt(1000) * 1000000;
+                break;
+
+            case 2:
+                nano = random.nextInt(1000000) * 1000;
+                break;
+
+            default:
+                nano = random.nextInt(1000000000);
+                break;
+        }
+        int offsetSeconds;
+        switch (random.nextInt(4)) {
+            case 0:
+                offsetSeconds = 0;
+                break;
+
+            case 1:
+                offsetSeconds = (random.nextInt(37) - 18) * 3600;
+                break;
+
+            case 2:
+                offsetSeconds = (random.nextInt(36 * 4 + 1) - 18 * 4) * 900;
+                break;
+
+            default:
+                offsetSeconds = random.nextInt(36 * 3600 + 1) - 18 * 3600;
+                break;
+        }
+        return OffsetDateTime.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24),
+            random.nextInt(60), random.nextInt(60), nano, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    // the duration text of the layout that Duration.toString does not write, e.g. "P1DT2H", or "PT0.5S"
+    private static String randomDurationText(Random random) {
+        StringBuilder text = new StringBuilder("P");
+        if (random.nextBoolean()) {
+            text.append(random.nextInt(1000)).append('D');
+        }
+        if (random.nextBoolean()) {
+            text.append('T');
+            if (random.nextBoolean()) {
+                text.append(random.nextInt(100)).append('H');
+            }
+            if (random.nextBoolean()) {
+                text.append(random.nextInt(100)).append('M');
+            }
+            if (random.nextBoolean()) {
+                text.append(random.nextInt(100));
+                if (random.nextBoolean()) {
+                    text.append('.').append(random.nextInt(1000000));
+                }
+                text.append('S');
+            }
+        }
+        return text.toString();
+    }
+
+    // mutates the text at random, so that both the fast path and the fallback are exercised on invalid text
+    private static String mutate(String text, Random random) {
+        if (random.nextBoolean()) {
+            return text;
+        }
+        StringBuilder mutated = new StringBuilder(text);
+        int mutations = 1 + random.nextInt(2);
+        for (int i = 0; i < mutations && mutated.length() > 0; ++i) {
+            int index = random.nextInt(mutated.length());
+            char c = MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    mutated.setCharAt(index, c);
+                    break;
+
+                case 1:
+                    mutated.insert(index, c);
+                    break;
+
+                default:
+                    mutated.deleteCharAt(index);
+                    break;
+            }
+        }
+        return mutated.toString();
+    }
+}
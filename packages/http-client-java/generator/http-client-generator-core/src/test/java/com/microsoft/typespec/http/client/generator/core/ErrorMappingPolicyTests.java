@@ -0,0 +1,191 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.Context;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests the ErrorMappingPolicy class that the generator copies to the generated code of the azure flavor, when
+ * "direct-error-mapping" is enabled.
+ */
+public class ErrorMappingPolicyTests {
+    private static final Class<?> POLICY = HelperClassCompiler.compile("ErrorMappingPolicy.java", "ErrorMappingPolicy");
+    private static final Class<?> ERROR_MAPPER = errorMapperInterface();
+
+    private static final String URL = "https://localhost/resources/1";
+    private static final String ERROR_BODY = "{\"error\":{\"code\":\"NotFound\"}}";
+
+    static {
+        // the exception of the error body, as the generated code of a service method with an error model
+        register("get", new int[] { 200 }, (response, message, body) -> new ResourceNotFoundException(message,
+            response, HelperClassCompiler.invokeStatic(POLICY, "readUntyped", new Class<?>[] { byte[].class }, body)));
+        // the default expected status codes, the ones below 400
+        register("list", null, (response, message, body) -> new HttpResponseException(message, response));
+        register("failingMapper", new int[] { 200 }, (response, message, body) -> {
+            throw new IOException("invalid error body");
+        });
+    }
+
+    @Test
+    public void testMapErrorSync() {
+        HttpPipeline pipeline = createPipeline(404, "application/json", ERROR_BODY);
+
+        ResourceNotFoundException exception = Assertions.assertThrows(ResourceNotFoundException.class,
+            () -> pipeline.sendSync(get(), callerMethod("get")));
+        // same message as RestProxy
+        Assertions.assertEquals("Status code 404, \"" + ERROR_BODY + "\"", exception.getMessage());
+        Assertions.assertEquals(404, exception.getResponse().getStatusCode());
+        Assertions.assertEquals(Collections.singletonMap("error", Collections.singletonMap("code", "NotFound")),
+            exception.getValue());
+        // the response is buffered, hence the body can be read again
+        Assertions.assertEquals(ERROR_BODY, exception.getResponse().getBodyAsBinaryData().toString());
+    }
+
+    @Test
+    public void testMapErrorAsync() {
+        HttpPipeline pipeline = createPipeline(404, "application/json; charset=utf-8", ERROR_BODY);
+
+        ResourceNotFoundException exception = Assertions.assertThrows(ResourceNotFoundException.class,
+            () -> pipeline.send(get(), callerMethod("get")).block());
+        Assertions.assertEquals("Status code 404, \"" + ERROR_BODY + "\"", exception.getMessage());
+        Assertions.assertInstanceOf(Map.class, exception.getValue());
+    }
+
+    @Test
+    public void testEmptyErrorBody() {
+        HttpPipeline pipeline = createPipeline(404, null, "");
+
+        ResourceNotFoundException exception = Assertions.assertThrows(ResourceNotFoundException.class,
+            () -> pipeline.sendSync(get(), callerMethod("get")));
+        Assertions.assertEquals("Status code 404, (empty body)", exception.getMessage());
+        Assertions.assertNull(exception.getValue());
+
+        exception = Assertions.assertThrows(ResourceNotFoundException.class,
+            () -> pipeline.send(get(), callerMethod("get")).block());
+        Assertions.assertEquals("Status code 404, (empty body)", exception.getMessage());
+    }
+
+    @Test
+    public void testExpectedStatusCode() {
+        HttpPipeline pipeline = createPipeline(200, "application/json", "{}");
+        try (HttpResponse response = pipeline.sendSync(get(), callerMethod("get"))) {
+            Assertions.assertEquals(200, response.getStatusCode());
+        }
+
+        // without the expected status codes of the service method, the status codes below 400 are expected
+        pipeline = createPipeline(204, null, "");
+        try (HttpResponse response = pipeline.sendSync(get(), callerMethod("list"))) {
+            Assertions.assertEquals(204, response.getStatusCode());
+        }
+        Assertions.assertThrows(HttpResponseException.class,
+            () -> createPipeline(500, "application/json", "{}").sendSync(get(), callerMethod("list")));
+    }
+
+    @Test
+    public void testResponseToRestProxy() {
+        // the service method not registered
+        HttpPipeline pipeline = createPipeline(404, "application/json", ERROR_BODY);
+        try (HttpResponse response = pipeline.sendSync(get(), callerMethod("notRegistered"))) {
+            Assertions.assertEquals(404, response.getStatusCode());
+        }
+        try (HttpResponse response = pipeline.sendSync(get(), Context.NONE)) {
+            Assertions.assertEquals(404, response.getStatusCode());
+        }
+        Assertions.assertEquals(404, pipeline.send(get(), callerMethod("notRegistered")).block().getStatusCode());
+
+        // the error response that is not JSON
+        pipeline = createPipeline(404, "application/xml", "<error/>");
+        try (HttpResponse response = pipeline.sendSync(get(), callerMethod("get"))) {
+            Assertions.assertEquals(404, response.getStatusCode());
+        }
+        Assertions.assertEquals(404, pipeline.send(get(), callerMethod("get")).block().getStatusCode());
+    }
+
+    @Test
+    public void testFailingErrorMapper() {
+        HttpPipeline pipeline = createPipeline(400, "application/json", "{");
+
+        HttpResponseException exception = Assertions.assertThrows(HttpResponseException.class,
+            () -> pipeline.sendSync(get(), callerMethod("failingMapper")));
+        Assertions.assertEquals(HttpResponseException.class, exception.getClass());
+        Assertions.assertEquals("Status code 400, \"{\"", exception.getMessage());
+        Assertions.assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @Test
+    public void testReadValue() {
+        Assertions.assertNull(
+            HelperClassCompiler.invokeStatic(POLICY, "readUntyped", new Class<?>[] { byte[].class }, new byte[0]));
+        Assertions.assertEquals(Collections.singletonMap("code", "NotFound"), HelperClassCompiler.invokeStatic(POLICY,
+            "readUntyped", new Class<?>[] { byte[].class }, "{\"code\":\"NotFound\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @FunctionalInterface
+    private interface TestErrorMapper {
+        HttpResponseException map(HttpResponse response, String message, byte[] body) throws IOException;
+    }
+
+    // registers the error mapping of the service method of this class, as the generated implementation class does
+    private static void register(String methodName, int[] expectedStatusCodes, TestErrorMapper errorMapper) {
+        Object mapper = Proxy.newProxyInstance(POLICY.getClassLoader(), new Class<?>[] { ERROR_MAPPER },
+            (proxy, method, args) -> errorMapper.map((HttpResponse) args[0], (String) args[1], (byte[]) args[2]));
+        HelperClassCompiler.invokeStatic(POLICY, "register",
+            new Class<?>[] { Class.class, String.class, int[].class, ERROR_MAPPER }, ErrorMappingPolicyTests.class,
+            methodName, expectedStatusCodes, mapper);
+    }
+
+    private static Class<?> errorMapperInterface() {
+        try {
+            return Class.forName(POLICY.getName() + "$ErrorMapper", true, POLICY.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // RestProxy sets the name of the service method in the context
+    private static Context callerMethod(String methodName) {
+        return new Context("caller-method", ErrorMappingPolicyTests.class.getName() + "." + methodName);
+    }
+
+    private static HttpRequest get() {
+        return new HttpRequest(HttpMethod.GET, URL);
+    }
+
+    private static HttpPipeline createPipeline(int statusCode, String contentType, String body) {
+        HttpPipelinePolicy policy;
+        try {
+            policy = (HttpPipelinePolicy) POLICY.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        HttpClient client = request -> Mono.fromSupplier(() -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            HttpHeaders headers = new HttpHeaders().set(HttpHeaderName.CONTENT_LENGTH, String.valueOf(bytes.length));
+            if (contentType != null) {
+                headers.set(HttpHeaderName.CONTENT_TYPE, contentType);
+            }
+            return new MockHttpResponse(request, statusCode, headers, bytes);
+        });
+        return new HttpPipelineBuilder().httpClient(client).policies(policy).build();
+    }
+}
@@ -0,0 +1,194 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Compiles the helper classes that Javagen copies from the resources to the generated code, or the classes that the
+ * templates generate, against the classpath of the tests, and loads them, so that they can be tested.
+ */
+public final class HelperClassCompiler {
+    private static final String PACKAGE_NAME = "com.generated.helpers";
+
+    private HelperClassCompiler() {
+    }
+
+    /**
+     * Compiles a helper class in the resources, and loads it.
+     *
+     * @param resourceName the name of the resource, e.g. "PagingPrefetchHelper.java"
+     * @param className the simple name of the class in the resource
+     * @return the class
+     */
+    public static Class<?> compile(String resourceName, String className) {
+        return compile(Collections.singletonList(resourceName), className);
+    }
+
+    /**
+     * Compiles helper classes in the resources, which are in the same package in the generated code, and loads one of
+     * them.
+     *
+     * @param resourceNames the names of the resources, e.g. "BulkOperationHelper.java" and "BulkOperationResult.java"
+     * @param className the simple name of the class to load
+     * @return the class
+     */
+    public static Class<?> compile(List<String> resourceNames, String className) {
+        try {
+            List<JavaFileObject> sourceFiles = new ArrayList<>();
+            for (String resourceName : resourceNames) {
+                try (InputStream resource
+                    = HelperClassCompiler.class.getClassLoader().getResourceAsStream(resourceName)) {
+                    Assertions.assertNotNull(resource, resourceName);
+                    String content = "package " + PACKAGE_NAME + ";\n\n"
+                        + new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+                    sourceFiles.add(new SourceFile(resourceName, content));
+                }
+            }
+            return compileAndLoad(sourceFiles, PACKAGE_NAME + "." + className);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compiles a class generated by a template, and loads it.
+     *
+     * @param className the fully qualified name of the class
+     * @param content the content of the Java file of the class
+     * @return the class
+     */
+    public static Class<?> compileGenerated(String className, String content) {
+        String fileName = className.substring(className.lastIndexOf('.') + 1) + ".java";
+        return compileAndLoad(Collections.singletonList(new SourceFile(fileName, content)), className);
+    }
+
+    /**
+     * Invokes a static method of a helper class, and rethrows the exception of the method.
+     *
+     * @param helper the helper class
+     * @param methodName the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @param args the arguments
+     * @return the return value of the method
+     */
+    public static Object invokeStatic(Class<?> helper, String methodName, Class<?>[] parameterTypes, Object... args) {
+        try {
+            return invoke(helper.getMethod(methodName, parameterTypes), null, args);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Invokes a method without parameters of an instance of a helper class, and rethrows the exception of the method.
+     *
+     * @param instance the instance of the helper class
+     * @param methodName the name of the method
+     * @return the return value of the method
+     */
+    public static Object invoke(Object instance, String methodName) {
+        try {
+            return invoke(instance.getClass().getMethod(methodName), instance);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invoke(Method method, Object instance, Object... args) {
+        try {
+            return method.invoke(instance, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Class<?> compileAndLoad(List<JavaFileObject> sourceFiles, String className) {
+        try {
+            // the classes are loaded from the directory, hence it is not deleted
+            Path outputDirectory = Files.createTempDirectory(Path.of("target"), "helper-classes");
+            compile(sourceFiles, outputDirectory);
+            ClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+                HelperClassCompiler.class.getClassLoader());
+            return classLoader.loadClass(className);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void compile(List<JavaFileObject> sourceFiles, Path outputDirectory) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            // surefire may run the tests with a manifest-only JAR as classpath
+            String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+            boolean success = compiler
+                .getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-proc:none", "-nowarn", "-classpath", classpath, "-d", outputDirectory.toString()),
+                    null, sourceFiles)
+                .call();
+            if (!success) {
+                Assertions.fail("Helper class failed to compile:\n" + diagnostics.getDiagnostics()
+                    .stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getLineNumber() + ": " + diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.joining("\n")));
+            }
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        private SourceFile(String fileName, String content) {
+            super(URI.create("string:///" + fileName), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+
+        // a resource is not always named after its class, e.g. "ClientCoreAsyncHelper.java" of class "AsyncHelper"
+        @Override
+        public boolean isNameCompatible(String simpleName, Kind kind) {
+            return kind == Kind.SOURCE;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * HttpResponse of azure-core with a fixed body, for the tests of the helper classes of the azure flavor.
+ */
+final class MockHttpResponse extends HttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    MockHttpResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+        super(request);
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    @Deprecated
+    public String getHeaderValue(String name) {
+        return headers.getValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        return Flux.defer(() -> Flux.just(ByteBuffer.wrap(body)));
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return Mono.fromSupplier(body::clone);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return Mono.fromSupplier(() -> new String(body, charset));
+    }
+
+    @Override
+    public void close() {
+        closed.set(true);
+    }
+}
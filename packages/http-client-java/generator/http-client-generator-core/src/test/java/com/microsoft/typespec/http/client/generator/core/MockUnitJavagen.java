@@ -28,8 +28,21 @@ public class MockUnitJavagen extends Javagen {
         }
     }
 
+    private final Map<String, Object> settings;
+
     public MockUnitJavagen() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * Creates the Javagen of the settings, in addition to the default settings.
+     *
+     * @param settings the settings
+     */
+    public MockUnitJavagen(Map<String, Object> settings) {
         super(new MockConnection(), "dummy", "dummy");
+        this.settings = new HashMap<>(SETTINGS_MAP);
+        this.settings.putAll(settings);
         JavaSettingsAccessor.setHost(this);
     }
 
@@ -52,16 +65,21 @@ public class MockUnitJavagen extends Javagen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, ReadValueCallback<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
     }
 
     @Override
     public void message(Message message) {
     }
+
+    // the constructor of Javagen reads the settings, before the settings of this instance are set
+    private Object getSetting(String key) {
+        return settings == null ? SETTINGS_MAP.get(key) : settings.get(key);
+    }
 }
@@ -0,0 +1,264 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests the PagingPrefetchHelper class that the generator copies to the generated code of the azure flavor.
+ */
+public class PagingPrefetchHelperTests {
+    private static final Class<?> HELPER
+        = HelperClassCompiler.compile("PagingPrefetchHelper.java", "PagingPrefetchHelper");
+
+    @Test
+    public void testPagedIterable() {
+        TestService service = new TestService(5);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+
+        // the pages are in order, and each page is requested once by each iteration
+        Assertions.assertEquals(expectedItems(5), pagedIterable.stream().collect(Collectors.toList()));
+        service.assertRequests(1, "page1", "page2", "page3", "page4");
+
+        List<Integer> items = new ArrayList<>();
+        pagedIterable.forEach(items::add);
+        Assertions.assertEquals(expectedItems(5), items);
+        service.assertRequests(2, "page1", "page2", "page3", "page4");
+    }
+
+    @Test
+    public void testPagedIterableDepth() throws InterruptedException {
+        TestService service = new TestService(10);
+        Iterator<PagedResponse<Integer>> pages = createPagedIterable(service, 2).iterableByPage().iterator();
+
+        // at most "depth" pages are prefetched ahead of the page iterated
+        Assertions.assertEquals(0, pages.next().getValue().get(0));
+        waitUntil(() -> service.requestCount() == 2);
+        Thread.sleep(100);
+        service.assertRequests(1, "page1", "page2");
+        Assertions.assertEquals(2, service.requestCount());
+
+        Assertions.assertEquals(10, pages.next().getValue().get(0));
+        waitUntil(() -> service.requestCount() == 3);
+        service.assertRequests(1, "page3");
+    }
+
+    @Test
+    public void testPagedIterableError() {
+        TestService service = new TestService(5);
+        RuntimeException error = new RuntimeException("page2");
+        service.errors.put("page2", error);
+        PagedIterable<Integer> pagedIterable = createPagedIterable(service, 2);
+
+        // the error of the prefetch fails the iteration, and the page is not requested again
+        RuntimeException thrown = Assertions.assertThrows(RuntimeException.class,
+            () -> pagedIterable.stream().collect(Collectors.toList()));
+        Assertions.assertSame(error, thrown);
+        service.assertRequests(1, "page2");
+    }
+
+    @Test
+    public void testPagedIterableStreamClose() {
+        TestService service = new TestService(10);
+        try (Stream<PagedResponse<Integer>> pages = createPagedIterable(service, 2).streamByPage()) {
+            Assertions.assertEquals(0, pages.findFirst().get().getValue().get(0));
+            waitUntil(() -> service.requestCount() == 2);
+        }
+
+        // closing the stream closes the prefetched pages
+        waitUntil(() -> service.pages.get("page1").closed.get() && service.pages.get("page2").closed.get());
+    }
+
+    @Test
+    public void testPagedIterablePageSize() {
+        TestService service = new TestService(5);
+        List<PagedResponse<Integer>> pages = new ArrayList<>();
+        createPagedIterable(service, 2).iterableByPage(7).forEach(pages::add);
+
+        // the pages are prefetched with the page size of the iteration
+        Assertions.assertEquals(5, pages.size());
+        Assertions.assertEquals(Collections.singleton(7), service.pageSizes.keySet());
+        Assertions.assertEquals(5, service.pageSizes.get(7).get());
+    }
+
+    @Test
+    public void testPagedFlux() {
+        TestService service = new TestService(5);
+        PagedFlux<Integer> pagedFlux = createPagedFlux(service, 2, Collections.emptyMap());
+
+        Assertions.assertEquals(expectedItems(5), pagedFlux.collectList().block());
+        service.assertRequests(1, "page1", "page2", "page3", "page4");
+    }
+
+    @Test
+    public void testPagedFluxError() {
+        TestService service = new TestService(5);
+        RuntimeException error = new RuntimeException("page2");
+        service.errors.put("page2", error);
+        PagedFlux<Integer> pagedFlux = createPagedFlux(service, 2, Collections.emptyMap());
+
+        RuntimeException thrown
+            = Assertions.assertThrows(RuntimeException.class, () -> pagedFlux.collectList().block());
+        Assertions.assertSame(error, thrown);
+        service.assertRequests(1, "page2");
+    }
+
+    @Test
+    public void testPagedFluxDemand() {
+        TestService service = new TestService(5);
+
+        // the pages not requested by the subscriber are not prefetched
+        PagedResponse<Integer> page = createPagedFlux(service, 2, Collections.emptyMap()).byPage().take(1).blockLast();
+        Assertions.assertEquals(0, page.getValue().get(0));
+        Assertions.assertEquals(0, service.requestCount());
+    }
+
+    @Test
+    public void testPagedFluxCancel() {
+        TestService service = new TestService(5);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<PagedResponse<Integer>> page1 = Mono.<PagedResponse<Integer>>never().doOnCancel(() -> cancelled.set(true));
+        Map<String, Mono<PagedResponse<Integer>>> pages = Collections.singletonMap("page1", page1);
+
+        // cancelling the subscription cancels the prefetch in progress
+        createPagedFlux(service, 2, pages).byPage().subscribe(new BaseSubscriber<PagedResponse<Integer>>() {
+            @Override
+            protected void hookOnNext(PagedResponse<Integer> page) {
+                dispose();
+            }
+        });
+        Assertions.assertTrue(cancelled.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PagedIterable<Integer> createPagedIterable(TestService service, int depth) {
+        Function<Integer, PagedResponse<Integer>> firstPageRetriever = pageSize -> service.page(null, pageSize);
+        BiFunction<String, Integer, PagedResponse<Integer>> nextPageRetriever = service::page;
+        return (PagedIterable<Integer>) invoke("createPagedIterable", firstPageRetriever, nextPageRetriever, depth);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PagedFlux<Integer> createPagedFlux(TestService service, int depth,
+        Map<String, Mono<PagedResponse<Integer>>> pages) {
+        Function<Integer, Mono<PagedResponse<Integer>>> firstPageRetriever
+            = pageSize -> Mono.fromCallable(() -> service.page(null, pageSize));
+        BiFunction<String, Integer, Mono<PagedResponse<Integer>>> nextPageRetriever
+            = (nextLink, pageSize) -> pages.containsKey(nextLink)
+                ? pages.get(nextLink)
+                : Mono.fromCallable(() -> service.page(nextLink, pageSize));
+        return (PagedFlux<Integer>) invoke("createPagedFlux", firstPageRetriever, nextPageRetriever, depth);
+    }
+
+    private static Object invoke(String methodName, Function<?, ?> firstPageRetriever,
+        BiFunction<?, ?, ?> nextPageRetriever, int depth) {
+        try {
+            Method method = HELPER.getMethod(methodName, Function.class, BiFunction.class, int.class);
+            return method.invoke(null, firstPageRetriever, nextPageRetriever, depth);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Integer> expectedItems(int pageCount) {
+        return IntStream.range(0, pageCount)
+            .boxed()
+            .flatMap(index -> Stream.of(index * 10, index * 10 + 1))
+            .collect(Collectors.toList());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition is not met in time");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /*
+     * Service of "pageCount" pages, whose next links are "page1", "page2", etc. It records the requests of the next
+     * links, and the page sizes.
+     */
+    private static final class TestService {
+        private final int pageCount;
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        private final Map<Integer, AtomicInteger> pageSizes = new ConcurrentHashMap<>();
+        private final Map<String, TestPage> pages = new ConcurrentHashMap<>();
+        private final Map<String, RuntimeException> errors = new ConcurrentHashMap<>();
+
+        private TestService(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        private PagedResponse<Integer> page(String nextLink, Integer pageSize) {
+            if (pageSize != null) {
+                pageSizes.computeIfAbsent(pageSize, size -> new AtomicInteger()).incrementAndGet();
+            }
+            if (nextLink == null) {
+                return new TestPage(0, pageCount);
+            }
+            requests.computeIfAbsent(nextLink, link -> new AtomicInteger()).incrementAndGet();
+            if (errors.containsKey(nextLink)) {
+                throw errors.get(nextLink);
+            }
+            TestPage page = new TestPage(Integer.parseInt(nextLink.substring("page".length())), pageCount);
+            pages.put(nextLink, page);
+            return page;
+        }
+
+        private int requestCount() {
+            return requests.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        private void assertRequests(int expectedCount, String... nextLinks) {
+            for (String nextLink : nextLinks) {
+                Assertions.assertEquals(expectedCount, requests.getOrDefault(nextLink, new AtomicInteger()).get(),
+                    nextLink);
+            }
+        }
+    }
+
+    private static final class TestPage extends PagedResponseBase<Void, Integer> {
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TestPage(int index, int pageCount) {
+            super(null, 200, new HttpHeaders(), Arrays.asList(index * 10, index * 10 + 1),
+                index + 1 < pageCount ? "page" + (index + 1) : null, null);
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.Context;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests the ResponseCachePolicy class that the generator copies to the generated code of the azure flavor.
+ */
+public class ResponseCachePolicyTests {
+    private static final Class<?> POLICY
+        = HelperClassCompiler.compile("ResponseCachePolicy.java", "ResponseCachePolicy");
+
+    private static final String URL = "https://localhost/resources/1";
+    private static final String ETAG = "\"1\"";
+    private static final String BODY = "{\"name\":\"1\"}";
+
+    @Test
+    public void testRevalidateSync() {
+        TestHttpClient client = new TestHttpClient();
+        HttpPipelinePolicy policy = createPolicy();
+        HttpPipeline pipeline = new HttpPipelineBuilder().httpClient(client).policies(policy).build();
+
+        // the first response is cached, and the second request is revalidated with the ETag of the cached response
+        try (HttpResponse response = pipeline.sendSync(get("token1"), Context.NONE)) {
+            Assertions.assertEquals(200, response.getStatusCode());
+            Assertions.assertEquals(BODY, response.getBodyAsBinaryData().toString());
+        }
+        try (HttpResponse response = pipeline.sendSync(get("token1"), Context.NONE)) {
+            Assertions.assertEquals(200, response.getStatusCode());
+            Assertions.assertEquals(ETAG, response.getHeaders().getValue(HttpHeaderName.ETAG));
+            Assertions.assertEquals(BODY, response.getBodyAsBinaryData().toString());
+        }
+        Assertions.assertEquals(ETAG, client.ifNoneMatchValues.get(1));
+        Assertions.assertNull(client.ifNoneMatchValues.get(0));
+        Assertions.assertTrue(client.responses.get(1).isClosed());
+        Assertions.assertEquals(1L, HelperClassCompiler.invoke(policy, "getHitCount"));
+        Assertions.assertEquals(1L, HelperClassCompiler.invoke(policy, "getMissCount"));
+    }
+
+    @Test
+    public void testRevalidateAsync() {
+        TestHttpClient client = new TestHttpClient();
+        HttpPipelinePolicy policy = createPolicy();
+        HttpPipeline pipeline = new HttpPipelineBuilder().httpClient(client).policies(policy).build();
+
+        Assertions.assertEquals(BODY, pipeline.send(get("token1")).flatMap(HttpResponse::getBodyAsString).block());
+        Assertions.assertEquals(BODY, pipeline.send(get("token1")).flatMap(HttpResponse::getBodyAsString).block());
+        Assertions.assertEquals(ETAG, client.ifNoneMatchValues.get(1));
+        Assertions.assertEquals(1L, HelperClassCompiler.invoke(policy, "getHitCount"));
+    }
+
+    @Test
+    public void testKeyOfCredential() throws ReflectiveOperationException {
+        TestHttpClient client = new TestHttpClient();
+        HttpPipelinePolicy policy = createPolicy();
+        HttpPipeline pipeline = new HttpPipelineBuilder().httpClient(client).policies(policy).build();
+
+        pipeline.sendSync(get("token1"), Context.NONE).close();
+        pipeline.sendSync(get("token2"), Context.NONE).close();
+        pipeline.sendSync(get("token2"), Context.NONE).close();
+
+        // the response of a credential is not served to another credential
+        Assertions.assertNull(client.ifNoneMatchValues.get(1));
+        Assertions.assertEquals(ETAG, client.ifNoneMatchValues.get(2));
+
+        // the credential is not kept in the cache
+        Field cacheField = POLICY.getDeclaredField("cache");
+        cacheField.setAccessible(true);
+        Map<?, ?> cache = (Map<?, ?>) cacheField.get(policy);
+        Assertions.assertEquals(2, cache.size());
+        for (Object key : cache.keySet()) {
+            Assertions.assertFalse(key.toString().contains("token"), key.toString());
+        }
+    }
+
+    @Test
+    public void testNotCached() {
+        TestHttpClient client = new TestHttpClient();
+        HttpPipelinePolicy policy = createPolicy();
+        HttpPipeline pipeline = new HttpPipelineBuilder().httpClient(client).policies(policy).build();
+
+        // the response without ETag is not cached
+        client.eTag = null;
+        pipeline.sendSync(get("token1"), Context.NONE).close();
+        client.eTag = ETAG;
+        pipeline.sendSync(get("token1"), Context.NONE).close();
+        Assertions.assertNull(client.ifNoneMatchValues.get(1));
+
+        // the request of other method is not cached
+        pipeline.sendSync(new HttpRequest(HttpMethod.PUT, URL), Context.NONE).close();
+        pipeline.sendSync(get("token1"), Context.NONE).close();
+        Assertions.assertNull(client.ifNoneMatchValues.get(2));
+        Assertions.assertEquals(ETAG, client.ifNoneMatchValues.get(3));
+        Assertions.assertEquals(1L, HelperClassCompiler.invoke(policy, "getHitCount"));
+    }
+
+    private static HttpPipelinePolicy createPolicy() {
+        try {
+            return (HttpPipelinePolicy) POLICY.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpRequest get(String token) {
+        return new HttpRequest(HttpMethod.GET, URL).setHeader(HttpHeaderName.AUTHORIZATION, "Bearer " + token);
+    }
+
+    /*
+     * HttpClient of a resource that has an ETag, which responds with 304 Not Modified to the request of the ETag in the
+     * "If-None-Match" header.
+     */
+    private static final class TestHttpClient implements HttpClient {
+        private final List<String> ifNoneMatchValues = Collections.synchronizedList(new ArrayList<>());
+        private final List<MockHttpResponse> responses = Collections.synchronizedList(new ArrayList<>());
+        private volatile String eTag = ETAG;
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            return Mono.fromSupplier(() -> {
+                String ifNoneMatch = request.getHeaders().getValue(HttpHeaderName.IF_NONE_MATCH);
+                ifNoneMatchValues.add(ifNoneMatch);
+
+                MockHttpResponse response;
+                if (eTag != null && eTag.equals(ifNoneMatch)) {
+                    response = new MockHttpResponse(request, 304, new HttpHeaders(), new byte[0]);
+                } else {
+                    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                    HttpHeaders headers
+                        = new HttpHeaders().set(HttpHeaderName.CONTENT_LENGTH, String.valueOf(body.length));
+                    if (eTag != null) {
+                        headers.set(HttpHeaderName.ETAG, eTag);
+                    }
+                    response = new MockHttpResponse(request, 200, headers, body);
+                }
+                responses.add(response);
+                return response;
+            });
+        }
+    }
+}
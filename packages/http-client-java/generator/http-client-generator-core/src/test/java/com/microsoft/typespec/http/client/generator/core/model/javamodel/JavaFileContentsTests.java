@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+
+    @Test
+    public void testIndentationAndComments() {
+        JavaFileContents contents = new JavaFileContents(16);
+        contents.block("class A", block -> {
+            block.line("int a;");
+            block.line();
+            block.text("int b\n= 1;");
+            block.line();
+            contents.lineComment("x\n\ny");
+            contents.blockComment(" ");
+        });
+
+        assertEquals(String.join("\n", "class A {", "    int a;", "", "    int b", "    = 1;", "    // x", "    // ",
+            "    // y", "    /*", "     *  ", "     */", "}"), contents.toString());
+        assertTrue(contents.contains("int b"));
+        assertFalse(contents.contains("int c"));
+        assertFalse(contents.contains("int a;\n"));
+    }
+
+    @Test
+    public void testImportsAtStart() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declareImport("java.util.List", "java.util.Map");
+        contents.line("List<String> list;");
+        contents.line("Map<String, String> map;");
+
+        assertEquals(String.join("\n", "import java.util.List;", "import java.util.Map;", "", "List<String> list;",
+            "Map<String, String> map;"), contents.toString());
+    }
+
+    @Test
+    public void testUnusedImports() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declarePackage("com.azure.app");
+        contents.line();
+        contents.declareImport("java.util.List", "java.util.Map");
+        contents.line("class A {");
+        contents.line("}");
+
+        // the blank line after the package is not followed by another blank line for the imports
+        assertEquals(String.join("\n", "package com.azure.app;", "", "class A {", "}"), contents.toString());
+
+        contents = new JavaFileContents();
+        contents.declareImport("java.util.List");
+        contents.line("int a;");
+
+        assertEquals("int a;", contents.toString());
+    }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class JavaImportTrackerTests {
+
+    @Test
+    public void testJavaFileWritesReferencedImports() {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/app/Model.java");
+        javaFile.declarePackage("com.azure.app");
+        javaFile.line();
+        javaFile.declareImport(Arrays.asList("com.azure.core.annotation.Generated", "com.azure.core.util.Context",
+            "com.azure.core.util.CoreUtils", "com.azure.json.JsonReader", "java.io.IOException", "java.util.List",
+            "java.util.Map", "com.azure.app.models.Unused"));
+        javaFile.javadocComment(comment -> {
+            comment.description("Model. Uses {@link Context#NONE} and {@link Model#fromJson(JsonReader)}.");
+            comment.line("Mentions Map in plain text.");
+        });
+        javaFile.publicFinalClass("Model", javaClass -> {
+            javaClass.annotation("Generated");
+            javaClass.privateMemberVariable("java.util.List<String> names = \"List\".isEmpty() ? null : null");
+            javaClass.lineComment("CoreUtils in line comment");
+            javaClass.publicStaticMethod("Model fromJson(JsonReader jsonReader) throws IOException",
+                method -> method.methodReturn("null"));
+        });
+
+        String content = javaFile.getContents().toString();
+        assertTrue(content.contains("import com.azure.core.annotation.Generated;"));
+        assertTrue(content.contains("import com.azure.core.util.Context;"));
+        assertTrue(content.contains("import com.azure.json.JsonReader;"));
+        assertTrue(content.contains("import java.io.IOException;"));
+        assertFalse(content.contains("import com.azure.core.util.CoreUtils;"));
+        assertFalse(content.contains("import java.util.List;"));
+        assertFalse(content.contains("import java.util.Map;"));
+        assertFalse(content.contains("Unused"));
+        assertTrue(content.indexOf("package com.azure.app;") < content.indexOf("import "));
+        assertTrue(content.lastIndexOf("import ") < content.indexOf("/**"));
+
+        assertFalse(JavaImportTracker.hasUnusedImports(content));
+    }
+
+    @Test
+    public void testHasUnusedImports() {
+        String content = String.join("\n", "package com.azure.app;", "", "import com.azure.app.Sibling;",
+            "import com.azure.core.util.Context;", "import java.lang.String;", "", "public class Client {",
+            "    /* Context */", "    private final String name = \"Context\";", "}", "");
+        assertTrue(JavaImportTracker.hasUnusedImports(content));
+
+        JavaImportTracker tracker = new JavaImportTracker();
+        tracker.addImports(Arrays.asList("com.azure.app.Sibling", "com.azure.core.util.Context", "java.lang.String",
+            "static org.junit.jupiter.api.Assertions.assertEquals", "java.util.*"));
+        for (String line : content.split("\n")) {
+            tracker.scanLine(line);
+        }
+        tracker.scanLine("assertEquals(1, 1);");
+        assertEquals(Arrays.asList("java.util.*", "static org.junit.jupiter.api.Assertions.assertEquals"),
+            tracker.getUsedImports("com.azure.app"));
+    }
+}
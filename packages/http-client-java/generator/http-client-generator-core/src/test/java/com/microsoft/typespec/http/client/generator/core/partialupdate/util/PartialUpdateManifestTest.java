@@ -0,0 +1,53 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.partialupdate.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class PartialUpdateManifestTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        String content = "package com.azure.app;\n\npublic class Model {\n}\n";
+        String path = "src/main/java/com/azure/app/Model.java";
+        PartialUpdateManifest manifest
+            = new PartialUpdateManifest(Map.of(path, PartialUpdateManifest.computeHash(content)));
+
+        PartialUpdateManifest deserialized;
+        try (JsonReader jsonReader = JsonProviders.createReader(manifest.toJsonString())) {
+            deserialized = PartialUpdateManifest.fromJson(jsonReader);
+        }
+
+        assertEquals(manifest.getFileHashes(), deserialized.getFileHashes());
+        assertTrue(deserialized.isUnchanged(path, content));
+        // line endings are normalized
+        assertTrue(deserialized.isUnchanged(path, content.replace("\n", "\r\n")));
+        assertFalse(deserialized.isUnchanged(path, content + "// manual update\n"));
+        assertFalse(deserialized.isUnchanged("src/main/java/com/azure/app/Other.java", content));
+    }
+
+    @Test
+    public void testReadMissingOrCorruptedManifest() throws IOException {
+        Path directory = Files.createTempDirectory("partialUpdateManifest");
+        try {
+            assertTrue(PartialUpdateManifest.read(directory).getFileHashes().isEmpty());
+
+            Files.writeString(directory.resolve(PartialUpdateManifest.FILE_NAME), "{ \"files\": [");
+            assertTrue(PartialUpdateManifest.read(directory).getFileHashes().isEmpty());
+        } finally {
+            Files.deleteIfExists(directory.resolve(PartialUpdateManifest.FILE_NAME));
+            Files.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
+import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateManifest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PostprocessorTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostprocessorTests.class);
+    private static final String FILE_PATH = "src/main/java/com/azure/partialupdate/StringOperationClient.java";
+
+    @Test
+    public void testPartialUpdateKeepsManualMembersAcrossGenerations() throws IOException, URISyntaxException {
+        String generatedFileContent = readResource("partialupdate/StringOperationGeneratedClient.java");
+        String updatedFileContent = readResource("partialupdate/StringOperationWithAddedMemberClient.java");
+
+        Path directory = Files.createTempDirectory("postprocessor");
+        try {
+            NewPlugin plugin = new FileWritingPlugin(directory);
+            Path filePath = directory.resolve(FILE_PATH);
+
+            // first generation, the file does not exist
+            generate(plugin, directory, generatedFileContent);
+            assertEquals(generatedFileContent, Files.readString(filePath));
+            assertTrue(PartialUpdateManifest.read(directory).isUnchanged(FILE_PATH, generatedFileContent));
+
+            // manual member added to the file
+            Files.writeString(filePath, updatedFileContent);
+
+            // the manual member is kept by every later generation, not only the one after it is added
+            for (int i = 0; i < 2; ++i) {
+                generate(plugin, directory, generatedFileContent);
+                String fileContent = Files.readString(filePath);
+                assertTrue(fileContent.contains("addedMethod"), "manual member is removed by generation " + i);
+                assertFalse(PartialUpdateManifest.read(directory).getFileHashes().containsKey(FILE_PATH));
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void generate(NewPlugin plugin, Path directory, String generatedFileContent) {
+        Map<String, String> javaFiles = new HashMap<>();
+        javaFiles.put(FILE_PATH, generatedFileContent);
+        // the files are written as they are, as the formatter runs Maven
+        Postprocessor.writeToFiles(javaFiles, plugin, directory, files -> {
+            List<Map.Entry<String, String>> writtenFiles = new ArrayList<>();
+            files.forEach((filename, content) -> {
+                plugin.writeFile(filename, content, null);
+                writtenFiles.add(new AbstractMap.SimpleEntry<>(filename, content));
+            });
+            return writtenFiles;
+        }, LOGGER);
+    }
+
+    private static String readResource(String name) throws IOException, URISyntaxException {
+        return Files.readString(Paths.get(PostprocessorTests.class.getClassLoader().getResource(name).toURI()));
+    }
+
+    private static final class FileWritingPlugin extends NewPlugin {
+        private final Path directory;
+
+        private FileWritingPlugin(Path directory) {
+            super(new MockUnitJavagen.MockConnection(), "dummy", "dummy");
+            this.directory = directory;
+        }
+
+        @Override
+        public void writeFile(String fileName, String content, List<Object> sourceMap) {
+            try {
+                Path path = directory.resolve(fileName);
+                Files.createDirectories(path.getParent());
+                Files.writeString(path, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean processInternal() {
+            return true;
+        }
+    }
+}
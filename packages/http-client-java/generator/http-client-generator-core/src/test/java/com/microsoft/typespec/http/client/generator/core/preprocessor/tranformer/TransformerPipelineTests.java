@@ -0,0 +1,102 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.TransformerPass.Part;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransformerPipelineTests {
+
+    @Test
+    public void testFuse() {
+        TransformerPass<Client> parallel1
+            = groupPass("parallel1", EnumSet.of(Part.SCHEMAS), EnumSet.noneOf(Part.class));
+        TransformerPass<Client> parallel2
+            = groupPass("parallel2", EnumSet.noneOf(Part.class), EnumSet.noneOf(Part.class));
+        TransformerPass<Client> writeParameters
+            = groupPass("writeParameters", EnumSet.noneOf(Part.class), EnumSet.of(Part.PARAMETERS));
+        TransformerPass<Client> writeSchemas
+            = groupPass("writeSchemas", EnumSet.noneOf(Part.class), EnumSet.of(Part.SCHEMAS));
+        TransformerPass<Client> readParameters
+            = groupPass("readParameters", EnumSet.of(Part.PARAMETERS), EnumSet.of(Part.OPERATION_GROUPS));
+        TransformerPass<Client> writeCodeModel
+            = groupPass("writeCodeModel", EnumSet.of(Part.SCHEMAS), EnumSet.of(Part.CODE_MODEL));
+        TransformerPass<Client> codeModelPass = TransformerPass.ofCodeModel("codeModel", c -> c);
+
+        List<List<TransformerPass<Client>>> stages = new TransformerPipeline<>(Arrays.asList(parallel1, parallel2,
+            writeParameters, writeSchemas, readParameters, writeCodeModel, codeModelPass, parallel1)).getStages();
+
+        // passes in parallel are not fused with passes in sequence, and passes that conflict are not fused
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("parallel1", "parallel2"),
+            Arrays.asList("writeParameters", "writeSchemas"), Arrays.asList("readParameters", "writeCodeModel"),
+            Collections.singletonList("codeModel"), Collections.singletonList("parallel1")), names(stages));
+        Assertions.assertTrue(stages.get(0).get(0).isParallel());
+        Assertions.assertFalse(stages.get(1).get(0).isParallel());
+        Assertions.assertFalse(stages.get(3).get(0).isOperationGroupPass());
+    }
+
+    @Test
+    public void testRun() {
+        Client client = new Client();
+        client.setOperationGroups(IntStream.range(0, 16).mapToObj(i -> {
+            OperationGroup operationGroup = new OperationGroup();
+            operationGroup.set$key("group" + i);
+            return operationGroup;
+        }).collect(Collectors.toList()));
+
+        Map<String, List<String>> calls = new ConcurrentHashMap<>();
+        List<String> orderedCalls = new ArrayList<>();
+        List<TransformerPass<Client>> passes = new ArrayList<>();
+        for (String name : Arrays.asList("parallel1", "parallel2")) {
+            passes.add(TransformerPass.ofOperationGroup(name, EnumSet.noneOf(Part.class), EnumSet.noneOf(Part.class),
+                og -> calls.computeIfAbsent(og.get$key(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(name)));
+        }
+        passes.add(TransformerPass.ofCodeModel("codeModel", c -> {
+            orderedCalls.add(String.valueOf(calls.size()));
+            return c;
+        }));
+        passes.add(TransformerPass.ofOperationGroup("sequential", EnumSet.noneOf(Part.class),
+            EnumSet.of(Part.OPERATION_GROUPS), og -> {
+                orderedCalls.add(og.get$key());
+                calls.get(og.get$key()).add("sequential");
+            }));
+
+        Assertions.assertSame(client, new TransformerPipeline<>(passes).run(client));
+
+        // each operation group is processed by the passes in order
+        Assertions.assertEquals(16, calls.size());
+        calls.values()
+            .forEach(c -> Assertions.assertEquals(Arrays.asList("parallel1", "parallel2", "sequential"), c));
+        // the pass on the code model runs after the passes before it, and operation groups are processed in order by
+        // the pass in sequence
+        List<String> expected = new ArrayList<>();
+        expected.add("16");
+        IntStream.range(0, 16).forEach(i -> expected.add("group" + i));
+        Assertions.assertEquals(expected, orderedCalls);
+    }
+
+    private static TransformerPass<Client> groupPass(String name, EnumSet<Part> reads, EnumSet<Part> writes) {
+        return TransformerPass.ofOperationGroup(name, reads, writes, og -> {
+        });
+    }
+
+    private static List<List<String>> names(List<List<TransformerPass<Client>>> stages) {
+        return stages.stream()
+            .map(stage -> stage.stream().map(TransformerPass::getName).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.xml.XmlReader;
+import com.microsoft.typespec.http.client.generator.core.HelperClassCompiler;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ArraySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SerializationFormats;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.XmlSerializationFormat;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.XmlSequenceWrapper;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+// the settings of the generator are global, hence the tests run alone
+@Isolated
+public class XmlSequenceWrapperTemplateTests {
+    private static final String XML = "<Tags><Tag>a</Tag><Unknown>u</Unknown><Tag>b</Tag><Tag>c</Tag></Tags>";
+
+    @AfterEach
+    public void restoreSettings() {
+        new MockUnitJavagen();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testFromXml() {
+        Class<?> wrapper = generate();
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), items(fromXml(wrapper, XML)));
+        Assertions.assertNull(items(fromXml(wrapper, "<Tags></Tags>")));
+    }
+
+    private static Class<?> generate() {
+        new MockUnitJavagen(Map.of("stream-style-serialization", true));
+        JavaSettings.clear();
+
+        StringSchema elementType = schema(new StringSchema(), Schema.AllSchemaTypes.STRING, "Tag", false);
+        ArraySchema arraySchema = schema(new ArraySchema(), Schema.AllSchemaTypes.ARRAY, "Tags", true);
+        arraySchema.setElementType(elementType);
+        XmlSequenceWrapper xmlSequenceWrapper = new XmlSequenceWrapper("Tag", arraySchema, JavaSettings.getInstance());
+
+        JavaFile javaFile = new JavaFile("TagWrapper.java");
+        javaFile.declarePackage(xmlSequenceWrapper.getPackage());
+        XmlSequenceWrapperTemplate.getInstance().write(xmlSequenceWrapper, javaFile);
+        return HelperClassCompiler.compileGenerated(xmlSequenceWrapper.getPackage() + ".TagWrapper",
+            javaFile.getContents().toString());
+    }
+
+    private static Object fromXml(Class<?> wrapper, String xml) {
+        try (XmlReader xmlReader = XmlReader.fromString(xml)) {
+            return HelperClassCompiler.invokeStatic(wrapper, "fromXml", new Class<?>[] { XmlReader.class }, xmlReader);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object items(Object wrapper) {
+        return HelperClassCompiler.invoke(wrapper, "items");
+    }
+
+    private static <T extends Schema> T schema(T schema, Schema.AllSchemaTypes type, String name, boolean wrapped) {
+        schema.setType(type);
+        Language language = new Language();
+        language.setName(name);
+        language.setSerializedName(name);
+        Languages languages = new Languages();
+        languages.setDefault(language);
+        schema.setLanguage(languages);
+
+        XmlSerializationFormat xml = new XmlSerializationFormat();
+        xml.setName(name);
+        xml.setWrapped(wrapped);
+        SerializationFormats serialization = new SerializationFormats();
+        serialization.setXml(xml);
+        schema.setSerialization(serialization);
+        return schema;
+    }
+}
@@ -0,0 +1,319 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+/**
+ * Tests the lookups of ClientModelUtil that use the index of ClientModelHierarchy, against the walks of the hierarchy
+ * by name, which the lookups used before the index.
+ */
+// the index and the function of getting ClientModel by name are global, hence the tests run alone
+@Isolated
+public class ClientModelHierarchyTests {
+
+    @AfterEach
+    public void restoreModelHierarchy() {
+        ClientModelUtil.clearModelHierarchy();
+        ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+    }
+
+    @Test
+    public void testLookups() {
+        Map<String, ClientModel> models = createFishes();
+        ClientModelUtil.setGetClientModelFunction(models::get);
+        Map<ClientModel, Lookups> expected = walkLookups(models.values());
+
+        ClientModelUtil.buildModelHierarchy(new ArrayList<>(models.values()));
+        assertLookups(expected);
+
+        // the model redefines the property of its parent model
+        ClientModel smartSalmon = models.get("SmartSalmon");
+        ClientModelProperty age = property(smartSalmon, "age");
+        Assertions.assertFalse(ClientModelUtil.modelDefinesProperty(smartSalmon, age));
+        Assertions.assertSame(models.get("Fish"), ClientModelUtil.getDefiningModel(smartSalmon, age));
+        Assertions.assertEquals(Arrays.asList(models.get("Salmon"), models.get("Fish")),
+            ClientModelUtil.getParentModels(smartSalmon));
+        Assertions.assertEquals(
+            Arrays.asList(models.get("Salmon"), models.get("SmartSalmon"), models.get("Shark"),
+                models.get("Sawshark"), models.get("GoblinShark")),
+            ClientModelUtil.getAllDerivedModels(models.get("Fish")));
+
+        // the same lookups, by walking the hierarchy
+        ClientModelUtil.clearModelHierarchy();
+        assertLookups(expected);
+    }
+
+    @Test
+    public void testModelNotInIndex() {
+        Map<String, ClientModel> models = createFishes();
+        ClientModelUtil.setGetClientModelFunction(models::get);
+        ClientModelUtil.buildModelHierarchy(new ArrayList<>(models.values()));
+
+        // the model created after the index is built, is looked up by walking the hierarchy
+        ClientModel cookiecutter = model("Cookiecutter", "Shark", null, property("glows", false, false));
+        Map<ClientModel, Lookups> expected = walkLookups(Collections.singletonList(cookiecutter));
+        assertLookups(expected);
+        Assertions.assertEquals(Arrays.asList(models.get("Shark"), models.get("Fish")),
+            ClientModelUtil.getParentModels(cookiecutter));
+    }
+
+    @Test
+    public void testIndexOfEachCodeModel() {
+        Map<String, ClientModel> fishes = createFishes();
+        ClientModelUtil.setGetClientModelFunction(fishes::get);
+        ClientModelUtil.buildModelHierarchy(new ArrayList<>(fishes.values()));
+        assertLookups(walkLookups(fishes.values()));
+
+        // another code model, of the same model names in another hierarchy
+        ClientModelUtil.clearModelHierarchy();
+        Map<String, ClientModel> reshaped = createReshapedFishes();
+        ClientModelUtil.setGetClientModelFunction(reshaped::get);
+        Map<ClientModel, Lookups> expected = walkLookups(reshaped.values());
+        ClientModelUtil.buildModelHierarchy(new ArrayList<>(reshaped.values()));
+        assertLookups(expected);
+
+        ClientModel smartSalmon = reshaped.get("SmartSalmon");
+        Assertions.assertEquals(Collections.singletonList(reshaped.get("Fish")),
+            ClientModelUtil.getParentModels(smartSalmon));
+        Assertions.assertSame(smartSalmon, ClientModelUtil.getDefiningModel(smartSalmon, property(smartSalmon, "age")));
+        Assertions.assertSame(reshaped.get("Salmon"), ClientModelUtil.getRootParent(reshaped.get("Salmon")));
+
+        // the models of the previous code model are not in the index, and are looked up by walking the hierarchy
+        assertLookups(walkLookups(fishes.values()));
+    }
+
+    /*
+     * Fish
+     * - Salmon
+     *   - SmartSalmon, which redefines "age"
+     * - Shark
+     *   - Sawshark
+     *   - GoblinShark
+     * Toy
+     */
+    private static Map<String, ClientModel> createFishes() {
+        ClientModel smartSalmon = model("SmartSalmon", "Salmon", null, property("collegeDegree", true, false),
+            property("age", true, false));
+        ClientModel salmon = model("Salmon", "Fish", Collections.singletonList(smartSalmon),
+            property("location", true, false), property("iswild", false, false));
+        ClientModel sawshark = model("Sawshark", "Shark", null, property("picture", false, false));
+        ClientModel goblinShark
+            = model("GoblinShark", "Shark", null, property("jawsize", true, true), property("color", true, false));
+        ClientModel shark = model("Shark", "Fish", Arrays.asList(sawshark, goblinShark),
+            property("birthday", true, false));
+        ClientModel fish = model("Fish", null, Arrays.asList(salmon, shark), property("kind", true, false),
+            property("age", true, false), property("id", false, true));
+        ClientModel toy = model("Toy", null, null, property("name", false, false));
+        return byName(fish, salmon, smartSalmon, shark, sawshark, goblinShark, toy);
+    }
+
+    /*
+     * Fish
+     * - SmartSalmon
+     * Salmon
+     * - Shark
+     *   - GoblinShark
+     */
+    private static Map<String, ClientModel> createReshapedFishes() {
+        ClientModel smartSalmon = model("SmartSalmon", "Fish", null, property("age", true, false));
+        ClientModel fish = model("Fish", null, Collections.singletonList(smartSalmon), property("kind", true, false));
+        ClientModel goblinShark = model("GoblinShark", "Shark", null, property("jawsize", true, false));
+        ClientModel shark = model("Shark", "Salmon", Collections.singletonList(goblinShark),
+            property("birthday", false, false));
+        ClientModel salmon = model("Salmon", null, Collections.singletonList(shark), property("location", true, true));
+        return byName(fish, smartSalmon, salmon, shark, goblinShark);
+    }
+
+    private static Map<String, ClientModel> byName(ClientModel... models) {
+        Map<String, ClientModel> modelsByName = new LinkedHashMap<>();
+        for (ClientModel model : models) {
+            modelsByName.put(model.getName(), model);
+        }
+        return modelsByName;
+    }
+
+    private static ClientModel model(String name, String parentModelName, List<ClientModel> derivedModels,
+        ClientModelProperty... properties) {
+        return new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name(name)
+            .serializedName(name.toLowerCase())
+            .parentModelName(parentModelName)
+            .derivedModels(derivedModels == null ? new ArrayList<>() : derivedModels)
+            .polymorphic(true)
+            .properties(Arrays.asList(properties))
+            .build();
+    }
+
+    private static ClientModelProperty property(String name, boolean required, boolean readOnly) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .required(required)
+            .readOnly(readOnly)
+            .build();
+    }
+
+    private static ClientModelProperty property(ClientModel model, String name) {
+        return model.getProperties()
+            .stream()
+            .filter(property -> name.equals(property.getName()))
+            .findFirst()
+            .orElseThrow(IllegalArgumentException::new);
+    }
+
+    private static void assertLookups(Map<ClientModel, Lookups> expected) {
+        Predicate<ClientModel> modelFilter = model -> !model.getName().startsWith("S");
+        for (Map.Entry<ClientModel, Lookups> entry : expected.entrySet()) {
+            ClientModel model = entry.getKey();
+            Lookups lookups = entry.getValue();
+            String message = model.getName();
+
+            Assertions.assertEquals(lookups.parentProperties, ClientModelUtil.getParentProperties(model), message);
+            Assertions.assertEquals(lookups.parentPropertiesChildFirst,
+                ClientModelUtil.getParentProperties(model, false), message);
+            Assertions.assertEquals(lookups.filteredParentProperties,
+                ClientModelUtil.getParentProperties(model, modelFilter), message);
+            Assertions.assertEquals(lookups.requiredWritableParentProperties,
+                ClientModelUtil.getRequiredWritableParentProperties(model), message);
+            Assertions.assertSame(lookups.rootParent, ClientModelUtil.getRootParent(model), message);
+            Assertions.assertEquals(lookups.derivedModels, ClientModelUtil.getAllDerivedModels(model), message);
+            for (ClientModelProperty property : model.getProperties()) {
+                Assertions.assertEquals(lookups.definesProperty.get(property),
+                    ClientModelUtil.modelDefinesProperty(model, property), message);
+                Assertions.assertSame(lookups.definingModels.get(property),
+                    ClientModelUtil.getDefiningModel(model, property), message);
+            }
+
+            Assertions.assertEquals(lookups.parentConstructorProperties,
+                ClientModelUtil.getParentConstructorProperties(model, JavaSettings.getInstance()), message);
+        }
+    }
+
+    private static Map<ClientModel, Lookups> walkLookups(Iterable<ClientModel> models) {
+        Predicate<ClientModel> modelFilter = model -> !model.getName().startsWith("S");
+        Map<ClientModel, Lookups> lookups = new LinkedHashMap<>();
+        for (ClientModel model : models) {
+            Lookups modelLookups = new Lookups();
+            modelLookups.parentProperties = walkParentProperties(model, true, null);
+            modelLookups.parentPropertiesChildFirst = walkParentProperties(model, false, null);
+            modelLookups.filteredParentProperties = walkParentProperties(model, true, modelFilter);
+            modelLookups.requiredWritableParentProperties = walkRequiredWritableParentProperties(model);
+            modelLookups.rootParent = walkRootParent(model);
+            modelLookups.derivedModels = walkAllChildTypes(model, new ArrayList<>());
+            // the model is not in the index, when the lookups are walked
+            modelLookups.parentConstructorProperties
+                = ClientModelUtil.getParentConstructorProperties(model, JavaSettings.getInstance());
+            for (ClientModelProperty property : model.getProperties()) {
+                modelLookups.definesProperty.put(property, walkModelDefinesProperty(model, property));
+                modelLookups.definingModels.put(property, walkDefiningModel(model, property));
+            }
+            lookups.put(model, modelLookups);
+        }
+        return lookups;
+    }
+
+    /*
+     * The walks below are the lookups of ClientModelUtil and StreamSerializationModelTemplate before the index.
+     */
+
+    private static List<ClientModelProperty> walkParentProperties(ClientModel model, boolean parentPropertiesFirst,
+        Predicate<ClientModel> modelFilter) {
+        String lastParentName = model.getName();
+        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
+        List<ClientModelProperty> parentProperties = new ArrayList<>();
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            if (modelFilter == null || modelFilter.test(parentModel)) {
+                // Add the properties in inverse order as they be reverse at the end.
+                List<ClientModelProperty> parentProps = new ArrayList<>(parentModel.getProperties());
+                for (int i = parentProps.size() - 1; i >= 0; i--) {
+                    parentProperties.add(parentProps.get(i));
+                }
+            }
+
+            lastParentName = parentModel.getName();
+            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
+        }
+        if (parentPropertiesFirst) {
+            Collections.reverse(parentProperties);
+        }
+        return parentProperties;
+    }
+
+    private static List<ClientModelProperty> walkRequiredWritableParentProperties(ClientModel model) {
+        List<ClientModelProperty> requiredParentProperties = new ArrayList<>();
+        for (ClientModelProperty property : walkParentProperties(model, true, null)) {
+            if (property.isRequired() && !property.isConstant() && !property.isReadOnly()) {
+                requiredParentProperties.add(property);
+            }
+        }
+        return requiredParentProperties;
+    }
+
+    private static ClientModel walkRootParent(ClientModel model) {
+        while (model.getParentModelName() != null) {
+            model = ClientModelUtil.getClientModel(model.getParentModelName());
+        }
+        return model;
+    }
+
+    private static boolean walkModelDefinesProperty(ClientModel model, ClientModelProperty property) {
+        for (ClientModelProperty parentProperty : walkParentProperties(model, true, null)) {
+            if (Objects.equals(property.getSerializedName(), parentProperty.getSerializedName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ClientModel walkDefiningModel(ClientModel model, ClientModelProperty property) {
+        ClientModel current = model;
+        while (current != null) {
+            if (walkModelDefinesProperty(current, property)) {
+                return current;
+            }
+            current = ClientModelUtil.getClientModel(current.getParentModelName());
+        }
+        throw new IllegalArgumentException("unable to find defining model for property: " + property);
+    }
+
+    private static List<ClientModel> walkAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
+        for (ClientModel childType : model.getDerivedModels()) {
+            childTypes.add(childType);
+            if (!childType.getDerivedModels().isEmpty()) {
+                walkAllChildTypes(childType, childTypes);
+            }
+        }
+        return childTypes;
+    }
+
+    private static final class Lookups {
+        private List<ClientModelProperty> parentProperties;
+        private List<ClientModelProperty> parentPropertiesChildFirst;
+        private List<ClientModelProperty> filteredParentProperties;
+        private List<ClientModelProperty> requiredWritableParentProperties;
+        private ClientModel rootParent;
+        private List<ClientModel> derivedModels;
+        private List<ClientModelProperty> parentConstructorProperties;
+        private final Map<ClientModelProperty, Boolean> definesProperty = new LinkedHashMap<>();
+        private final Map<ClientModelProperty, ClientModel> definingModels = new LinkedHashMap<>();
+    }
+}
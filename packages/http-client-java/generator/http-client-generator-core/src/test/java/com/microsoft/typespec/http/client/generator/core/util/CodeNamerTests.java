@@ -3,11 +3,20 @@
 
 package com.microsoft.typespec.http.client.generator.core.util;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
 
+// the namer factory is global, hence the tests run alone
+@Isolated
 public class CodeNamerTests {
 
+    @AfterEach
+    public void restoreFactory() {
+        CodeNamer.setFactory(new DefaultNamerFactory());
+    }
+
     @Test
     public void testEnumMemberName() {
         // numbers to words
@@ -90,4 +99,45 @@ public class CodeNamerTests {
         Assertions.assertEquals("domain{@code \\}username\\u00AF{@code \\}unicode",
             CodeNamer.escapeIllegalUnicodeEscape("domain\\username\\u00AF\\unicode"));
     }
+
+    @Test
+    public void testCamelCaseAndPascalCase() {
+        Assertions.assertEquals("fooBarBaz", CodeNamer.toCamelCase("foo_bar-baz"));
+        Assertions.assertEquals("FooBarBaz", CodeNamer.toPascalCase("foo bar__baz"));
+        Assertions.assertEquals("_foo", CodeNamer.toPascalCase("_foo"));
+        Assertions.assertEquals("iPAddress", CodeNamer.toCamelCase("IPAddress"));
+        Assertions.assertEquals("", CodeNamer.toCamelCase(""));
+        Assertions.assertNull(CodeNamer.toPascalCase(null));
+
+        // cached result is the same as the converted one
+        Assertions.assertEquals(CodeNamer.toCamelCase("foo_bar-baz"), CodeNamer.toCamelCase("foo_bar-baz"));
+        CodeNamer.getNameCache().clear();
+        Assertions.assertEquals("fooBarBaz", CodeNamer.toCamelCase("foo_bar-baz"));
+    }
+
+    @Test
+    public void testNameCacheOfFactory() {
+        NameCache nameCache = new NameCache();
+        nameCache.getName(NameCache.Kind.CAMEL_CASE, "foo_bar", name -> "cachedFooBar");
+        nameCache.getName(NameCache.Kind.TYPE_NAME, "foo_bar", name -> "CachedFooBar");
+        CodeNamer.setFactory(new NamerFactory() {
+            @Override
+            public ModelNamer getModelNamer() {
+                return new ModelNamer();
+            }
+
+            @Override
+            public NameCache getNameCache() {
+                return nameCache;
+            }
+        });
+
+        // both namers look up the cache of the factory
+        Assertions.assertEquals("cachedFooBar", CodeNamer.toCamelCase("foo_bar"));
+        Assertions.assertEquals("cachedFooBar",
+            com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.toCamelCase("foo_bar"));
+        Assertions.assertEquals("CachedFooBar",
+            com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getTypeName("foo_bar"));
+        Assertions.assertSame(nameCache, CodeNamer.getNameCache());
+    }
 }
@@ -0,0 +1,31 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GeneratorMetricsTests {
+
+    @Test
+    public void testStart() {
+        Assertions.assertFalse(GeneratorMetrics.isEnabled());
+
+        // the no-op scope, when neither the report nor a JFR recording is in progress
+        Assertions.assertSame(GeneratorMetrics.start("stage"), GeneratorMetrics.start("category", String.class));
+
+        try (Recording recording = new Recording()) {
+            recording.enable(GeneratorStageEvent.class);
+            recording.start();
+
+            // a scope that measures the stage, when the event is enabled
+            try (GeneratorMetrics.Scope scope = GeneratorMetrics.start("stage")) {
+                Assertions.assertNotSame(scope, GeneratorMetrics.start("category", String.class));
+            }
+        }
+
+        Assertions.assertSame(GeneratorMetrics.start("stage"), GeneratorMetrics.start("category", String.class));
+    }
+}
@@ -31,26 +31,24 @@ import com.microsoft.typespec.http.client.generator.core.postprocessor.Postproce
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.ExampleParser;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapperFactory;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentPomMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentClient;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentExample;
-import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentLiveTests;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceCollection;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
-import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.examplemodel.FluentMethodMockUnitTest;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.mgmt.model.projectmodel.FluentProject;
 import com.microsoft.typespec.http.client.generator.mgmt.namer.FluentNamerFactory;
 import com.microsoft.typespec.http.client.generator.mgmt.template.FluentTemplateFactory;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -92,24 +90,28 @@ public class FluentGen extends Javagen {
         try {
             logger.info("Read YAML");
             // Parse yaml to code model
-            CodeModel codeModel = new FluentNamer(this, connection, pluginName, sessionId).processCodeModel();
+            CodeModel codeModel = GeneratorMetrics.measure("transform",
+                () -> new FluentNamer(this, connection, pluginName, sessionId).processCodeModel());
 
             // Map code model to client model
             Client client = this.handleMap(codeModel);
 
-            // Write to templates
-            FluentJavaPackage javaPackage = this.handleTemplate(client);
+            FluentJavaPackage javaPackage;
+            try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("templates")) {
+                // Write to templates
+                javaPackage = this.handleTemplate(client);
 
-            // Fluent Lite
-            this.handleFluentLite(codeModel, client, javaPackage, null);
+                // Fluent Lite
+                this.handleFluentLite(codeModel, client, javaPackage, null);
+            }
 
             // Print to files
             logger.info("Write Java");
-            Postprocessor.writeToFiles(
-                javaPackage.getJavaFiles()
+            Map<String, String> javaFiles = GeneratorMetrics.measure("java-file-contents",
+                () -> javaPackage.getJavaFiles()
                     .stream()
-                    .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())),
-                this, logger);
+                    .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            Postprocessor.writeToFiles(javaFiles, this, logger);
 
             logger.info("Write Xml");
             for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
@@ -130,6 +132,8 @@ public class FluentGen extends Javagen {
             logger.error("Failed to successfully run fluentgen plugin " + e, e);
             // connection.sendError(1, 500, "Error occurred while running fluentgen plugin: " + e.getMessage());
             return false;
+        } finally {
+            GeneratorMetrics.writeReport();
         }
     }
 
@@ -164,7 +168,8 @@ public class FluentGen extends Javagen {
         logger.info("Map code model to client model");
         fluentMapper.preModelMap(codeModel);
 
-        Client client = Mappers.getClientMapper().map(codeModel);
+        Client client
+            = GeneratorMetrics.measure("mapper.ClientMapper", () -> Mappers.getClientMapper().map(codeModel));
 
         // samples for Fluent Premium
         if (fluentJavaSettings.isGenerateSamples() && settings.isFluentPremium()) {
@@ -172,7 +177,7 @@ public class FluentGen extends Javagen {
             ExampleParser exampleParser = new ExampleParser();
             fluentPremiumExamples = client.getServiceClient()
                 .getMethodGroupClients()
-                .stream()
+                .parallelStream()
                 .flatMap(mg -> exampleParser.parseMethodGroup(mg).stream())
                 .collect(Collectors.toList());
         }
@@ -221,6 +226,10 @@ public class FluentGen extends Javagen {
             }
         }
 
+        // Paging prefetch helper
+        writePagingPrefetchHelper(client, javaPackage, javaSettings);
+        writeServiceImplementationHelper(client, javaPackage, javaSettings);
+
         // Response
         for (ClientResponse response : client.getResponseModels()) {
             javaPackage.addClientResponse(response.getPackage(), response.getName(), response);
@@ -263,13 +272,11 @@ public class FluentGen extends Javagen {
 
         // Samples
         if (fluentPremiumExamples != null) {
-            for (FluentExample example : fluentPremiumExamples) {
-                javaPackage.addSample(example);
-            }
+            javaPackage.addSamples(fluentPremiumExamples);
         }
 
         if (javaSettings.isGenerateTests()) {
-            // Unit tests for models
+            // Unit tests for models, sequential, the test data of the models is drawn from a seeded Random
             for (ClientModel model : client.getModels()) {
                 if (!model.isStronglyTypedHeader()) {
                     javaPackage.addModelUnitTest(model);
@@ -277,6 +284,8 @@ public class FluentGen extends Javagen {
             }
         }
 
+        writeModelBenchmarks(client, javaPackage, javaSettings);
+
         return javaPackage;
     }
 
@@ -303,7 +312,8 @@ public class FluentGen extends Javagen {
 
             logger.info("Process for Fluent Lite, SDK integration {}", (isSdkIntegration ? "enabled" : "disabled"));
 
-            fluentClient = this.getFluentMapper().map(codeModel, client);
+            FluentMapper fluentMapper = this.getFluentMapper();
+            fluentClient = GeneratorMetrics.measure("mapper.FluentMapper", () -> fluentMapper.map(codeModel, client));
 
             // project
             FluentProject project = new FluentProject(fluentClient, apiVersionInTypeSpec);
@@ -340,11 +350,7 @@ public class FluentGen extends Javagen {
             }
 
             // Samples
-            List<JavaFile> sampleJavaFiles = new ArrayList<>();
-            for (FluentExample example : fluentClient.getExamples()) {
-                Optional<JavaFile> file = javaPackage.addSample(example);
-                file.ifPresent(sampleJavaFiles::add);
-            }
+            List<JavaFile> sampleJavaFiles = javaPackage.addSamples(fluentClient.getExamples());
 
             // Readme and Changelog
             if (isSdkIntegration) {
@@ -358,14 +364,10 @@ public class FluentGen extends Javagen {
             // Tests
             if (javaSettings.isGenerateTests()) {
                 // Live tests
-                for (FluentLiveTests liveTests : fluentClient.getLiveTests()) {
-                    javaPackage.addLiveTests(liveTests);
-                }
+                javaPackage.addLiveTests(fluentClient.getLiveTests());
 
                 // Unit tests for APIs
-                for (FluentMethodMockUnitTest unitTest : fluentClient.getMockUnitTests()) {
-                    javaPackage.addOperationUnitTest(unitTest);
-                }
+                javaPackage.addOperationUnitTests(fluentClient.getMockUnitTests());
             }
         }
 
@@ -400,6 +402,7 @@ public class FluentGen extends Javagen {
 
         JavaSettings.clear();
         ClientModels.getInstance().clear();
+        ClientModelUtil.clearModelHierarchy();
         UnionModels.getInstance().clear();
         fluentJavaSettings = null;
         fluentMapper = null;
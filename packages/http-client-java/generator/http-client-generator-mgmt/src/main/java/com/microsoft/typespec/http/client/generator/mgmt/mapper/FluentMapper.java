@@ -31,9 +31,10 @@ import com.microsoft.typespec.http.client.generator.mgmt.util.Utils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,29 +59,28 @@ public class FluentMapper {
         FluentClient fluentClient = basicMap(codeModel, client);
 
         // parse resource collections to identify create/update/refresh flow on resource instance
+        ResourceIndex resourceIndex
+            = new ResourceIndex(fluentClient.getResourceModels(), FluentStatic.getClient().getModels());
+        Map<String, FluentResourceModel> resourceModelsByName = new HashMap<>();
+        fluentClient.getResourceModels().forEach(m -> resourceModelsByName.putIfAbsent(m.getName(), m));
+        Map<String, FluentResourceCollection> resourceCollectionsByName = new HashMap<>();
+        fluentClient.getResourceCollections()
+            .forEach(c -> resourceCollectionsByName.putIfAbsent(c.getInterfaceType().getName(), c));
         for (ResourceCollectionAssociation overrideAssociation : fluentJavaSettings
             .getResourceCollectionAssociations()) {
             String modelName = overrideAssociation.getResource();
             String collectionName = overrideAssociation.getCollection();
-            Optional<FluentResourceModel> modelOpt = fluentClient.getResourceModels()
-                .stream()
-                .filter(m -> Objects.equals(m.getName(), modelName))
-                .findFirst();
-            if (modelOpt.isPresent()) {
-                FluentResourceModel model = modelOpt.get();
+            FluentResourceModel model = resourceModelsByName.get(modelName);
+            if (model != null) {
                 if (collectionName == null) {
 //                    // this resource model does not associate with any collection
 //                    // use a dummy ResourceCreate to prevent future parseResourcesCategory invocation from process the model
 //                    model.setResourceCreate(ResourceCreate.NO_ASSOCIATION);
                 } else {
-                    Optional<FluentResourceCollection> collectionOpt = fluentClient.getResourceCollections()
-                        .stream()
-                        .filter(c -> Objects.equals(c.getInterfaceType().getName(), collectionName))
-                        .findFirst();
-                    if (collectionOpt.isPresent()) {
-                        FluentResourceCollection collection = collectionOpt.get();
-                        ResourceParser.parseResourcesCategory(collection, Collections.singletonList(model),
-                            FluentStatic.getClient().getModels());
+                    FluentResourceCollection collection = resourceCollectionsByName.get(collectionName);
+                    if (collection != null) {
+                        ResourceParser.parseResourcesCategory(collection,
+                            resourceIndex.withFluentModels(Collections.singletonList(model)));
                     } else {
                         LOGGER.warn("Resource collection '{}' not found in association override '{}' to '{}'.",
                             collectionName, modelName, collectionName);
@@ -91,9 +91,7 @@ public class FluentMapper {
                     collectionName);
             }
         }
-        fluentClient.getResourceCollections()
-            .forEach(c -> ResourceParser.parseResourcesCategory(c, fluentClient.getResourceModels(),
-                FluentStatic.getClient().getModels()));
+        ResourceParser.parseResourcesCategory(fluentClient.getResourceCollections(), resourceIndex);
 //        // clean up NO_ASSOCIATION
 //        for (FluentResourceModel model : fluentClient.getResourceModels()) {
 //            if (model.getResourceCreate() == ResourceCreate.NO_ASSOCIATION) {
@@ -105,8 +103,9 @@ public class FluentMapper {
         // samples
         if (fluentJavaSettings.isGenerateSamples()) {
             ExampleParser exampleParser = new ExampleParser();
+            // collections are parsed in parallel, each collection on a single thread
             List<FluentExample> examples = fluentClient.getResourceCollections()
-                .stream()
+                .parallelStream()
                 .flatMap(rc -> exampleParser.parseResourceCollection(rc).stream())
                 .sorted()
                 .collect(Collectors.toList());
@@ -122,7 +121,7 @@ public class FluentMapper {
                         .map(liveTests, fluentClient, codeModel, fluentJavaSettings))
                     .collect(Collectors.toList()));
 
-            // mock API tests
+            // mock API tests, sequential, the test data is drawn from a seeded Random
             MockTestParser mockUnitTestParser = new MockTestParser();
             fluentClient.getMockUnitTests()
                 .addAll(fluentClient.getResourceCollections()
@@ -38,6 +38,7 @@ public class FluentPomMapper extends PomMapper {
             addDependencyIdentifier(dependencyIdentifiers, addedDependencyPrefixes, Project.Dependency.AZURE_IDENTITY,
                 true);
         }
+        addBenchmarkDependencyIdentifiers(dependencyIdentifiers, addedDependencyPrefixes);
 
         // merge dependencies in POM and dependencies added above
         dependencyIdentifiers.addAll(project.getPomDependencyIdentifiers()
@@ -0,0 +1,223 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.mapper;
+
+import com.azure.core.http.HttpMethod;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ModelCategory;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.UrlPathSegments;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentCollectionMethod;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceCollection;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes of the models and the resource collections, used by {@link ResourceParser}.
+ * <p>
+ * The indexes are built once per FluentClient, so that the parser looks up a model by name, or a collection method by
+ * URL path, instead of scanning the lists for every resource collection.
+ */
+final class ResourceIndex {
+
+    private final Map<String, FluentResourceModel> fluentModelsByInterfaceName;
+    private final Map<String, ClientModel> clientModelsByName;
+    private final Map<FluentResourceCollection, CollectionIndex> collectionIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the index.
+     *
+     * @param fluentModels the resource models that can be created by the collections.
+     * @param clientModels the client models, for the body of the methods.
+     */
+    ResourceIndex(List<FluentResourceModel> fluentModels, List<ClientModel> clientModels) {
+        this.fluentModelsByInterfaceName = fluentModels.stream()
+            .collect(Collectors.toMap(m -> m.getInterfaceType().toString(), Function.identity()));
+
+        this.clientModelsByName = new HashMap<>();
+        for (ClientModel clientModel : clientModels) {
+            // first model of the name
+            clientModelsByName.putIfAbsent(clientModel.getName(), clientModel);
+        }
+    }
+
+    private ResourceIndex(List<FluentResourceModel> fluentModels, Map<String, ClientModel> clientModelsByName) {
+        this.fluentModelsByInterfaceName = fluentModels.stream()
+            .collect(Collectors.toMap(m -> m.getInterfaceType().toString(), Function.identity()));
+        this.clientModelsByName = clientModelsByName;
+    }
+
+    /**
+     * Creates an index of other resource models, and the same client models.
+     *
+     * @param fluentModels the resource models that can be created by the collections.
+     * @return the index.
+     */
+    ResourceIndex withFluentModels(List<FluentResourceModel> fluentModels) {
+        return new ResourceIndex(fluentModels, clientModelsByName);
+    }
+
+    FluentResourceModel getFluentModel(String interfaceName) {
+        return fluentModelsByInterfaceName.get(interfaceName);
+    }
+
+    ClientModel getClientModel(String name) {
+        return clientModelsByName.get(name);
+    }
+
+    /**
+     * Gets the index of the methods of the collection. The index is built on first use.
+     *
+     * @param collection the resource collection.
+     * @return the index of the methods of the collection.
+     */
+    CollectionIndex getCollectionIndex(FluentResourceCollection collection) {
+        return collectionIndexes.computeIfAbsent(collection, CollectionIndex::new);
+    }
+
+    /**
+     * Builds the index of the methods of the collections, in parallel.
+     * <p>
+     * Building the index only reads the collections and the models.
+     *
+     * @param collections the resource collections.
+     */
+    void indexCollections(List<FluentResourceCollection> collections) {
+        collections.parallelStream().forEach(this::getCollectionIndex);
+    }
+
+    /**
+     * Index of the methods of a resource collection.
+     */
+    final class CollectionIndex {
+        private final Map<String, List<FluentCollectionMethod>> methodsByUrlPath = new LinkedHashMap<>();
+        private final List<CreateMethodCandidate> createMethodCandidates = new ArrayList<>();
+
+        private CollectionIndex(FluentResourceCollection collection) {
+            for (FluentCollectionMethod method : collection.getMethods()) {
+                methodsByUrlPath.computeIfAbsent(method.getInnerProxyMethod().getUrlPath(), k -> new ArrayList<>())
+                    .add(method);
+
+                CreateMethodCandidate candidate = getCreateMethodCandidate(method);
+                if (candidate != null) {
+                    createMethodCandidates.add(candidate);
+                }
+            }
+        }
+
+        /**
+         * Gets the methods of the URL path, in the order of the methods of the collection.
+         *
+         * @param urlPath the URL path.
+         * @return the methods of the URL path.
+         */
+        List<FluentCollectionMethod> getMethodsByUrlPath(String urlPath) {
+            return methodsByUrlPath.getOrDefault(urlPath, Collections.emptyList());
+        }
+
+        /**
+         * Gets the PUT methods that could create a resource, in the order of the methods of the collection.
+         *
+         * @return the PUT methods that could create a resource.
+         */
+        List<CreateMethodCandidate> getCreateMethodCandidates() {
+            return createMethodCandidates;
+        }
+
+        /*
+         * The checks of ResourceParser.findResourceCreateForCategory that do not depend on the resources already
+         * found.
+         */
+        private CreateMethodCandidate getCreateMethodCandidate(FluentCollectionMethod method) {
+            // PUT
+            if (method.getInnerProxyMethod().getHttpMethod() != HttpMethod.PUT) {
+                return null;
+            }
+            // not only "update", usually "createOrUpdate" or "create", sometimes "put"
+            String methodNameLowerCase = method.getInnerClientMethod().getName().toLowerCase(Locale.ROOT);
+            if (methodNameLowerCase.contains("update") && !methodNameLowerCase.contains("create")) {
+                return null;
+            }
+            // body in request
+            if (method.getInnerProxyMethod()
+                .getParameters()
+                .stream()
+                .noneMatch(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY)) {
+                return null;
+            }
+
+            FluentResourceModel fluentModel = getFluentModel(method.getFluentReturnType().toString());
+            // at present, cannot handle derived models
+            // "id", "name", "type" in resource instance
+            if (fluentModel == null
+                || !fluentModel.getInnerModel().getDerivedModels().isEmpty()
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_ID)
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_NAME)
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_TYPE)) {
+                return null;
+            }
+
+            UrlPathSegments urlPathSegments = new UrlPathSegments(method.getInnerProxyMethod().getUrlPath());
+            // last segment should be resource name
+            if (urlPathSegments.getReverseSegments().isEmpty()
+                || !urlPathSegments.getReverseSegments().iterator().next().isParameterSegment()) {
+                return null;
+            }
+
+            Set<ModelCategory> categories = EnumSet.noneOf(ModelCategory.class);
+            for (ModelCategory category : ModelCategory.values()) {
+                if (ResourceParser.urlPathMatchesCategory(urlPathSegments, category)) {
+                    categories.add(category);
+                }
+            }
+            return new CreateMethodCandidate(method, fluentModel, urlPathSegments, categories);
+        }
+    }
+
+    /**
+     * A PUT method that could create a resource, and the categories that its URL path matches.
+     */
+    static final class CreateMethodCandidate {
+        private final FluentCollectionMethod method;
+        private final FluentResourceModel fluentModel;
+        private final UrlPathSegments urlPathSegments;
+        private final Set<ModelCategory> categories;
+
+        private CreateMethodCandidate(FluentCollectionMethod method, FluentResourceModel fluentModel,
+            UrlPathSegments urlPathSegments, Set<ModelCategory> categories) {
+            this.method = method;
+            this.fluentModel = fluentModel;
+            this.urlPathSegments = urlPathSegments;
+            this.categories = categories;
+        }
+
+        FluentCollectionMethod getMethod() {
+            return method;
+        }
+
+        FluentResourceModel getFluentModel() {
+            return fluentModel;
+        }
+
+        UrlPathSegments getUrlPathSegments() {
+            return urlPathSegments;
+        }
+
+        boolean matchesCategory(ModelCategory category) {
+            return categories.contains(category);
+        }
+    }
+}
@@ -16,7 +16,6 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examp
 import com.microsoft.typespec.http.client.generator.core.template.prototype.MethodTemplate;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
-import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ModelCategory;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.UrlPathSegments;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentClient;
@@ -50,20 +49,42 @@ public class ResourceParser {
 
     private static final Logger LOGGER = new PluginLogger(FluentGen.getPluginInstance(), ResourceParser.class);
 
+    private static final List<ModelCategory> DEFAULT_CATEGORIES
+        = Arrays.asList(ModelCategory.RESOURCE_GROUP_AS_PARENT, ModelCategory.SUBSCRIPTION_AS_PARENT,
+            ModelCategory.NESTED_CHILD, ModelCategory.SCOPE_AS_PARENT, ModelCategory.SCOPE_NESTED_CHILD);
+
     public static void parseResourcesCategory(FluentResourceCollection collection,
         List<FluentResourceModel> availableFluentModels, List<ClientModel> availableModels) {
+        parseResourcesCategory(collection, new ResourceIndex(availableFluentModels, availableModels));
+    }
+
+    /**
+     * Parses the resource collections, to identify the create/update/refresh flow on resource instances.
+     * <p>
+     * The methods of all the collections are indexed in parallel, then the collections are parsed in order.
+     *
+     * @param collections the resource collections.
+     * @param resourceIndex the index of the models.
+     */
+    static void parseResourcesCategory(List<FluentResourceCollection> collections, ResourceIndex resourceIndex) {
+        resourceIndex.indexCollections(collections);
+
+        collections.forEach(collection -> parseResourcesCategory(collection, resourceIndex));
+    }
+
+    static void parseResourcesCategory(FluentResourceCollection collection, ResourceIndex resourceIndex) {
         // resource create
-        List<ResourceCreate> resourceCreates
-            = ResourceParser.resolveResourceCreate(collection, availableFluentModels, availableModels);
+        List<ResourceCreate> resourceCreates = ResourceParser.resolveResourceCreate(collection, resourceIndex,
+            DEFAULT_CATEGORIES);
 
         // resource update
-        resourceCreates.forEach(rc -> ResourceParser.resolveResourceUpdate(collection, rc, availableModels));
+        resourceCreates.forEach(rc -> ResourceParser.resolveResourceUpdate(collection, rc, resourceIndex));
 
         // resource refresh (and get in collection)
-        resourceCreates.forEach(rc -> ResourceParser.resolveResourceRefresh(collection, rc));
+        resourceCreates.forEach(rc -> ResourceParser.resolveResourceRefresh(collection, rc, resourceIndex));
 
         // delete in collection
-        resourceCreates.forEach(rc -> ResourceParser.resolveResourceDelete(collection, rc));
+        resourceCreates.forEach(rc -> ResourceParser.resolveResourceDelete(collection, rc, resourceIndex));
 
         // resource actions
         resourceCreates.forEach(rc -> ResourceParser.resourceResourceActions(collection, rc));
@@ -169,11 +190,7 @@ public class ResourceParser {
     static List<ResourceCreate> resolveResourceCreate(FluentResourceCollection collection,
         List<FluentResourceModel> availableFluentModels, List<ClientModel> availableModels) {
 
-        List<ModelCategory> categories
-            = Arrays.asList(ModelCategory.RESOURCE_GROUP_AS_PARENT, ModelCategory.SUBSCRIPTION_AS_PARENT,
-                ModelCategory.NESTED_CHILD, ModelCategory.SCOPE_AS_PARENT, ModelCategory.SCOPE_NESTED_CHILD);
-
-        return resolveResourceCreate(collection, availableFluentModels, availableModels, categories);
+        return resolveResourceCreate(collection, availableFluentModels, availableModels, DEFAULT_CATEGORIES);
     }
 
     // for unit test purpose
@@ -181,17 +198,21 @@ public class ResourceParser {
         List<FluentResourceModel> availableFluentModels, List<ClientModel> availableModels,
         List<ModelCategory> categories) {
 
-        // reference https://github.com/Azure/azure-resource-manager-rpc/blob/master/v1.0/resource-api-reference.md
+        return resolveResourceCreate(collection, new ResourceIndex(availableFluentModels, availableModels),
+            categories);
+    }
 
-        Map<String, FluentResourceModel> fluentModelMapByName = availableFluentModels.stream()
-            .collect(Collectors.toMap(m -> m.getInterfaceType().toString(), Function.identity()));
+    private static List<ResourceCreate> resolveResourceCreate(FluentResourceCollection collection,
+        ResourceIndex resourceIndex, List<ModelCategory> categories) {
+
+        // reference https://github.com/Azure/azure-resource-manager-rpc/blob/master/v1.0/resource-api-reference.md
 
         List<ResourceCreate> supportsCreateList = new ArrayList<>();
         Set<FluentResourceModel> foundModels = new HashSet<>();
 
         for (ModelCategory category : categories) {
-            Map<FluentResourceModel, ResourceCreate> modelResourceCreateMap = findResourceCreateForCategory(collection,
-                fluentModelMapByName, availableModels, foundModels, category);
+            Map<FluentResourceModel, ResourceCreate> modelResourceCreateMap
+                = findResourceCreateForCategory(collection, resourceIndex, foundModels, category);
 
             foundModels.addAll(modelResourceCreateMap.keySet());
 
@@ -219,17 +240,33 @@ public class ResourceParser {
     static Optional<ResourceUpdate> resolveResourceUpdate(FluentResourceCollection collection,
         ResourceCreate resourceCreate, List<ClientModel> availableModels) {
 
+        return resolveResourceUpdate(collection, resourceCreate, collection.getMethods(),
+            name -> availableModels.stream().filter(model -> model.getName().equals(name)).findAny().orElse(null));
+    }
+
+    private static Optional<ResourceUpdate> resolveResourceUpdate(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, ResourceIndex resourceIndex) {
+
+        return resolveResourceUpdate(collection, resourceCreate,
+            getMethodsOfCreateUrl(collection, resourceCreate, resourceIndex), resourceIndex::getClientModel);
+    }
+
+    private static Optional<ResourceUpdate> resolveResourceUpdate(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, List<FluentCollectionMethod> candidateMethods,
+        Function<String, ClientModel> getClientModel) {
+
         ResourceUpdate resourceUpdate = null;
 
         Predicate<String> nameMatcher = name -> !(name.contains("create") && !name.contains("update"));
         // PATCH takes priority
-        FluentCollectionMethod method = findCollectionMethod(collection, resourceCreate, HttpMethod.PATCH, nameMatcher);
+        FluentCollectionMethod method
+            = findCollectionMethod(candidateMethods, resourceCreate, HttpMethod.PATCH, nameMatcher);
         if (method == null) {
             // fallback to PUT
-            method = findCollectionMethod(collection, resourceCreate, HttpMethod.PUT, nameMatcher);
+            method = findCollectionMethod(candidateMethods, resourceCreate, HttpMethod.PUT, nameMatcher);
         }
         if (method != null) {
-            ClientModel bodyClientModel = getBodyClientModel(method, availableModels);
+            ClientModel bodyClientModel = getBodyClientModel(method, getClientModel);
             if (bodyClientModel == null) {
                 LOGGER.warn("client model not found for collection '{}', method '{}'",
                     collection.getInterfaceType().getName(), method.getInnerClientMethod().getName());
@@ -251,10 +288,23 @@ public class ResourceParser {
     static Optional<ResourceRefresh> resolveResourceRefresh(FluentResourceCollection collection,
         ResourceCreate resourceCreate) {
 
+        return resolveResourceRefresh(collection, resourceCreate, collection.getMethods());
+    }
+
+    private static Optional<ResourceRefresh> resolveResourceRefresh(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, ResourceIndex resourceIndex) {
+
+        return resolveResourceRefresh(collection, resourceCreate,
+            getMethodsOfCreateUrl(collection, resourceCreate, resourceIndex));
+    }
+
+    private static Optional<ResourceRefresh> resolveResourceRefresh(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, List<FluentCollectionMethod> candidateMethods) {
+
         ResourceRefresh resourceRefresh = null;
 
         FluentCollectionMethod method
-            = findCollectionMethod(collection, resourceCreate, HttpMethod.GET, name -> name.contains("get"));
+            = findCollectionMethod(candidateMethods, resourceCreate, HttpMethod.GET, name -> name.contains("get"));
         if (method != null) {
             resourceRefresh = new ResourceRefresh(resourceCreate.getResourceModel(), collection,
                 resourceCreate.getUrlPathSegments(), method.getInnerClientMethod().getName());
@@ -272,10 +322,23 @@ public class ResourceParser {
     static Optional<ResourceDelete> resolveResourceDelete(FluentResourceCollection collection,
         ResourceCreate resourceCreate) {
 
+        return resolveResourceDelete(collection, resourceCreate, collection.getMethods());
+    }
+
+    private static Optional<ResourceDelete> resolveResourceDelete(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, ResourceIndex resourceIndex) {
+
+        return resolveResourceDelete(collection, resourceCreate,
+            getMethodsOfCreateUrl(collection, resourceCreate, resourceIndex));
+    }
+
+    private static Optional<ResourceDelete> resolveResourceDelete(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, List<FluentCollectionMethod> candidateMethods) {
+
         ResourceDelete resourceDelete = null;
 
-        FluentCollectionMethod method
-            = findCollectionMethod(collection, resourceCreate, HttpMethod.DELETE, name -> name.contains("delete"));
+        FluentCollectionMethod method = findCollectionMethod(candidateMethods, resourceCreate, HttpMethod.DELETE,
+            name -> name.contains("delete"));
         if (method != null) {
             resourceDelete = new ResourceDelete(resourceCreate.getResourceModel(), collection,
                 resourceCreate.getUrlPathSegments(), method.getInnerClientMethod().getName());
@@ -289,6 +352,13 @@ public class ResourceParser {
         return Optional.ofNullable(resourceDelete);
     }
 
+    // methods of the collection, of same url as create
+    private static List<FluentCollectionMethod> getMethodsOfCreateUrl(FluentResourceCollection collection,
+        ResourceCreate resourceCreate, ResourceIndex resourceIndex) {
+        return resourceIndex.getCollectionIndex(collection)
+            .getMethodsByUrlPath(resourceCreate.getUrlPathSegments().getPath());
+    }
+
     static Optional<ResourceActions> resourceResourceActions(FluentResourceCollection collection,
         ResourceCreate resourceCreate) {
 
@@ -338,131 +408,102 @@ public class ResourceParser {
     }
 
     static Map<FluentResourceModel, ResourceCreate> findResourceCreateForCategory(FluentResourceCollection collection,
-        Map<String, FluentResourceModel> fluentModelMapByName, List<ClientModel> availableModels,
-        Set<FluentResourceModel> excludeModels, ModelCategory category) {
+        ResourceIndex resourceIndex, Set<FluentResourceModel> excludeModels, ModelCategory category) {
 
         Map<FluentResourceModel, ResourceCreate> foundModels = new LinkedHashMap<>();
 
-        collection.getMethods().forEach(m -> {
-            HttpMethod method = m.getInnerProxyMethod().getHttpMethod();
-
-            // PUT
-            if (method == HttpMethod.PUT) {
-                // not only "update", usually "createOrUpdate" or "create", sometimes "put"
-                String methodNameLowerCase = m.getInnerClientMethod().getName().toLowerCase(Locale.ROOT);
-                if (!(methodNameLowerCase.contains("update") && !methodNameLowerCase.contains("create"))) {
-                    // body in request
-                    if (m.getInnerProxyMethod()
-                        .getParameters()
-                        .stream()
-                        .anyMatch(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY)) {
-                        String returnTypeName = m.getFluentReturnType().toString();
-                        FluentResourceModel fluentModel = fluentModelMapByName.get(returnTypeName);
-                        // at present, cannot handle derived models
-                        if (fluentModel != null && fluentModel.getInnerModel().getDerivedModels().isEmpty()) {
-                            // "id", "name", "type" in resource instance
-                            if (fluentModel != null
-                                && fluentModel.getResourceCreate() == null
-                                && !foundModels.containsKey(fluentModel)
-                                && !excludeModels.contains(fluentModel)
-                                && fluentModel.hasProperty(ResourceTypeName.FIELD_ID)
-                                && fluentModel.hasProperty(ResourceTypeName.FIELD_NAME)
-                                && fluentModel.hasProperty(ResourceTypeName.FIELD_TYPE)) {
-                                String url = m.getInnerProxyMethod().getUrlPath();
-                                UrlPathSegments urlPathSegments = new UrlPathSegments(url);
-
-                                // logger.info("Candidate fluent model '{}', hasSubscription '{}', hasResourceGroup
-                                // '{}', isNested '{}', method name '{}'", fluentModel.getName(),
-                                // urlPathSegments.hasSubscription(), urlPathSegments.hasResourceGroup(),
-                                // urlPathSegments.isNested(), m.getInnerClientMethod().getName());
-
-                                // has "subscriptions" segment, and last segment should be resource name
-                                if (!urlPathSegments.getReverseSegments().isEmpty()
-                                    && urlPathSegments.getReverseSegments().iterator().next().isParameterSegment()) {
-
-                                    // requires named parameters in URL
-                                    boolean urlParameterSegmentsNamed = urlPathSegments.getReverseParameterSegments()
-                                        .stream()
-                                        .noneMatch(s -> CoreUtils.isNullOrEmpty(s.getSegmentName()));
-
-                                    boolean categoryMatch = false;
-                                    if (urlParameterSegmentsNamed && urlPathSegments.hasSubscription()) {
-                                        switch (category) {
-                                            case RESOURCE_GROUP_AS_PARENT:
-                                                if (urlPathSegments.hasResourceGroup() && !urlPathSegments.isNested()) {
-                                                    categoryMatch = true;
-                                                }
-                                                break;
-
-                                            case SUBSCRIPTION_AS_PARENT:
-                                                if (!urlPathSegments.hasResourceGroup()
-                                                    && !urlPathSegments.isNested()) {
-                                                    categoryMatch = true;
-                                                }
-                                                break;
-
-                                            case NESTED_CHILD:
-                                                if (urlPathSegments.isNested()) {
-                                                    categoryMatch = true;
-                                                }
-                                                break;
-                                        }
-                                    }
-                                    if (!categoryMatch
-                                        && (category == ModelCategory.SCOPE_AS_PARENT
-                                            || category == ModelCategory.SCOPE_NESTED_CHILD)) {
-                                        // check for scope, required named parameters except scope
-                                        boolean urlParameterSegmentsNamedExceptScope = urlPathSegments
-                                            .getReverseParameterSegments()
-                                            .stream()
-                                            .noneMatch(s -> s.getType() != UrlPathSegments.ParameterSegmentType.SCOPE
-                                                && CoreUtils.isNullOrEmpty(s.getSegmentName()));
-
-                                        if (urlParameterSegmentsNamedExceptScope
-                                            && urlPathSegments.hasScope()
-                                            && !urlPathSegments.hasSubscription()
-                                            && !urlPathSegments.hasResourceGroup()) {
-                                            switch (category) {
-                                                case SCOPE_AS_PARENT:
-                                                    if (!urlPathSegments.isNested()) {
-                                                        categoryMatch = true;
-                                                    }
-                                                    break;
-
-                                                case SCOPE_NESTED_CHILD:
-                                                    if (urlPathSegments.isNested()) {
-                                                        categoryMatch = true;
-                                                    }
-                                                    break;
-                                            }
-                                        }
-                                    }
-
-                                    if (categoryMatch) {
-                                        ClientModel bodyClientModel = getBodyClientModel(m, availableModels);
-                                        if (bodyClientModel == null) {
-                                            LOGGER.warn("client model not found for collection '{}', method '{}'",
-                                                collection.getInterfaceType().getName(),
-                                                m.getInnerClientMethod().getName());
-                                        } else {
-                                            ResourceCreate resourceCreate = new ResourceCreate(fluentModel, collection,
-                                                urlPathSegments, m.getInnerClientMethod().getName(), bodyClientModel);
-
-                                            foundModels.put(fluentModel, resourceCreate);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
+        // PUT methods with body in request, of resource instance that has "id", "name", "type"
+        for (ResourceIndex.CreateMethodCandidate candidate : resourceIndex.getCollectionIndex(collection)
+            .getCreateMethodCandidates()) {
+            FluentResourceModel fluentModel = candidate.getFluentModel();
+            if (candidate.matchesCategory(category)
+                && fluentModel.getResourceCreate() == null
+                && !foundModels.containsKey(fluentModel)
+                && !excludeModels.contains(fluentModel)) {
+                FluentCollectionMethod m = candidate.getMethod();
+                ClientModel bodyClientModel = getBodyClientModel(m, resourceIndex::getClientModel);
+                if (bodyClientModel == null) {
+                    LOGGER.warn("client model not found for collection '{}', method '{}'",
+                        collection.getInterfaceType().getName(), m.getInnerClientMethod().getName());
+                } else {
+                    ResourceCreate resourceCreate = new ResourceCreate(fluentModel, collection,
+                        candidate.getUrlPathSegments(), m.getInnerClientMethod().getName(), bodyClientModel);
+
+                    foundModels.put(fluentModel, resourceCreate);
                 }
             }
-        });
+        }
 
         return foundModels;
     }
 
-    private static ClientModel getBodyClientModel(FluentCollectionMethod method, List<ClientModel> availableModels) {
+    /**
+     * Checks whether the URL path of a PUT method matches the category of resource.
+     *
+     * @param urlPathSegments the URL path of the method, the last segment being resource name.
+     * @param category the category of resource.
+     * @return whether the URL path matches the category.
+     */
+    static boolean urlPathMatchesCategory(UrlPathSegments urlPathSegments, ModelCategory category) {
+        // requires named parameters in URL
+        boolean urlParameterSegmentsNamed = urlPathSegments.getReverseParameterSegments()
+            .stream()
+            .noneMatch(s -> CoreUtils.isNullOrEmpty(s.getSegmentName()));
+
+        boolean categoryMatch = false;
+        if (urlParameterSegmentsNamed && urlPathSegments.hasSubscription()) {
+            switch (category) {
+                case RESOURCE_GROUP_AS_PARENT:
+                    if (urlPathSegments.hasResourceGroup() && !urlPathSegments.isNested()) {
+                        categoryMatch = true;
+                    }
+                    break;
+
+                case SUBSCRIPTION_AS_PARENT:
+                    if (!urlPathSegments.hasResourceGroup() && !urlPathSegments.isNested()) {
+                        categoryMatch = true;
+                    }
+                    break;
+
+                case NESTED_CHILD:
+                    if (urlPathSegments.isNested()) {
+                        categoryMatch = true;
+                    }
+                    break;
+            }
+        }
+        if (!categoryMatch
+            && (category == ModelCategory.SCOPE_AS_PARENT || category == ModelCategory.SCOPE_NESTED_CHILD)) {
+            // check for scope, required named parameters except scope
+            boolean urlParameterSegmentsNamedExceptScope = urlPathSegments.getReverseParameterSegments()
+                .stream()
+                .noneMatch(s -> s.getType() != UrlPathSegments.ParameterSegmentType.SCOPE
+                    && CoreUtils.isNullOrEmpty(s.getSegmentName()));
+
+            if (urlParameterSegmentsNamedExceptScope
+                && urlPathSegments.hasScope()
+                && !urlPathSegments.hasSubscription()
+                && !urlPathSegments.hasResourceGroup()) {
+                switch (category) {
+                    case SCOPE_AS_PARENT:
+                        if (!urlPathSegments.isNested()) {
+                            categoryMatch = true;
+                        }
+                        break;
+
+                    case SCOPE_NESTED_CHILD:
+                        if (urlPathSegments.isNested()) {
+                            categoryMatch = true;
+                        }
+                        break;
+                }
+            }
+        }
+        return categoryMatch;
+    }
+
+    private static ClientModel getBodyClientModel(FluentCollectionMethod method,
+        Function<String, ClientModel> getClientModel) {
         Optional<String> bodyTypeNameOpt = method.getInnerClientMethod()
             .getProxyMethod()
             .getParameters()
@@ -476,22 +517,21 @@ public class ResourceParser {
                 "Body type not found for method " + method.getInnerClientMethod().getName());
         }
 
-        Optional<ClientModel> clientModelOpt
-            = availableModels.stream().filter(model -> model.getName().equals(bodyTypeNameOpt.get())).findAny();
+        ClientModel clientModel = getClientModel.apply(bodyTypeNameOpt.get());
 
-        if (!clientModelOpt.isPresent()) {
+        if (clientModel == null) {
             LOGGER.warn("Client model not found for type name '{}', method '{}'", bodyTypeNameOpt.get(),
                 method.getInnerClientMethod().getName());
         }
-        return clientModelOpt.orElse(null);
+        return clientModel;
     }
 
-    private static FluentCollectionMethod findCollectionMethod(FluentResourceCollection collection,
+    private static FluentCollectionMethod findCollectionMethod(List<FluentCollectionMethod> candidateMethods,
         ResourceCreate resourceCreate, HttpMethod matchingMethod, Predicate<String> nameMatcher) {
         boolean isGetOrDelete = matchingMethod == HttpMethod.GET || matchingMethod == HttpMethod.DELETE;
         boolean isDelete = matchingMethod == HttpMethod.DELETE;
 
-        for (FluentCollectionMethod method : collection.getMethods()) {
+        for (FluentCollectionMethod method : candidateMethods) {
             HttpMethod httpMethod = method.getInnerProxyMethod().getHttpMethod();
             // match http method
             if (httpMethod == matchingMethod) {
@@ -10,6 +10,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPac
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.TextFile;
 import com.microsoft.typespec.http.client.generator.core.util.ClassNameUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentExample;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentLiveTests;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentManager;
@@ -31,6 +32,7 @@ import com.microsoft.typespec.http.client.generator.mgmt.template.FluentResource
 import com.microsoft.typespec.http.client.generator.mgmt.template.ReadmeTemplate;
 import com.microsoft.typespec.http.client.generator.mgmt.template.ResourceManagerUtilsTemplate;
 import com.microsoft.typespec.http.client.generator.mgmt.template.SampleTemplate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,31 +63,33 @@ public class FluentJavaPackage extends JavaPackage {
     public final void addFluentResourceModel(FluentResourceModel model) {
         JavaFile javaFile = getJavaFileFactory().createSourceFile(model.getInterfaceType().getPackage(),
             model.getInterfaceType().getName());
-        FluentResourceModelInterfaceTemplate.getInstance().write(model, javaFile);
+        write(FluentResourceModelInterfaceTemplate.getInstance(), model, javaFile);
         addJavaFile(javaFile);
 
         javaFile = getJavaFileFactory().createSourceFile(model.getImplementationType().getPackage(),
             model.getImplementationType().getName());
-        FluentResourceModelImplementationTemplate.getInstance().write(model, javaFile);
+        write(FluentResourceModelImplementationTemplate.getInstance(), model, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addFluentResourceCollection(FluentResourceCollection collection) {
         JavaFile javaFile = getJavaFileFactory().createSourceFile(collection.getInterfaceType().getPackage(),
             collection.getInterfaceType().getName());
-        FluentResourceCollectionInterfaceTemplate.getInstance().write(collection, javaFile);
+        write(FluentResourceCollectionInterfaceTemplate.getInstance(), collection, javaFile);
         addJavaFile(javaFile);
 
         javaFile = getJavaFileFactory().createSourceFile(collection.getImplementationType().getPackage(),
             collection.getImplementationType().getName());
-        FluentResourceCollectionImplementationTemplate.getInstance().write(collection, javaFile);
+        write(FluentResourceCollectionImplementationTemplate.getInstance(), collection, javaFile);
         addJavaFile(javaFile);
     }
 
     public final void addFluentManager(FluentManager model, FluentProject project) {
         JavaFile javaFile
             = getJavaFileFactory().createSourceFile(model.getType().getPackage(), model.getType().getName());
-        FluentManagerTemplate.getInstance().write(model, project, javaFile);
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("template", FluentManagerTemplate.class)) {
+            FluentManagerTemplate.getInstance().write(model, project, javaFile);
+        }
         addJavaFile(javaFile);
     }
 
@@ -93,13 +97,37 @@ public class FluentJavaPackage extends JavaPackage {
         JavaSettings settings = JavaSettings.getInstance();
         JavaFile javaFile = getJavaFileFactory().createSourceFile(
             settings.getPackage(settings.getImplementationSubpackage()), ModelNaming.CLASS_RESOURCE_MANAGER_UTILS);
-        ResourceManagerUtilsTemplate.getInstance().write(javaFile);
+        write(ResourceManagerUtilsTemplate.getInstance(), null, javaFile);
         addJavaFile(javaFile);
     }
 
     public final Optional<JavaFile> addSample(FluentExample example) {
+        return addSample(writeSample(example));
+    }
+
+    /**
+     * Adds the samples of the examples. The samples are rendered in parallel.
+     *
+     * @param examples the examples
+     * @return the Java files of the samples added, in the order of the examples
+     */
+    public final List<JavaFile> addSamples(List<FluentExample> examples) {
+        List<JavaFile> sampleJavaFiles = new ArrayList<>();
+        for (JavaFile javaFile : renderInParallel(examples, this::writeSample)) {
+            addSample(javaFile).ifPresent(sampleJavaFiles::add);
+        }
+        return sampleJavaFiles;
+    }
+
+    private JavaFile writeSample(FluentExample example) {
         JavaFile javaFile = getJavaFileFactory().createSampleFile(example.getPackageName(), example.getClassName());
-        FluentExampleTemplate.getInstance().write(example, javaFile);
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("template", FluentExampleTemplate.class)) {
+            FluentExampleTemplate.getInstance().write(example, javaFile);
+        }
+        return javaFile;
+    }
+
+    private Optional<JavaFile> addSample(JavaFile javaFile) {
         if (!checkDuplicateFile(javaFile.getFilePath())) {
             addJavaFile(javaFile);
             return Optional.of(javaFile);
@@ -109,6 +137,19 @@ public class FluentJavaPackage extends JavaPackage {
     }
 
     public void addOperationUnitTest(FluentMethodMockUnitTest unitTest) {
+        addOperationUnitTest(writeOperationUnitTest(unitTest));
+    }
+
+    /**
+     * Adds the mock tests of the operations. The tests are rendered in parallel.
+     *
+     * @param unitTests the mock tests of the operations
+     */
+    public void addOperationUnitTests(List<FluentMethodMockUnitTest> unitTests) {
+        renderInParallel(unitTests, this::writeOperationUnitTest).forEach(this::addOperationUnitTest);
+    }
+
+    private JavaFile writeOperationUnitTest(FluentMethodMockUnitTest unitTest) {
         final String packageName = JavaSettings.getInstance().getPackage("generated");
         String className = unitTest.getResourceCollection().getInterfaceType().getName()
             + CodeNamer.toPascalCase(unitTest.getCollectionMethod().getMethodName());
@@ -119,15 +160,34 @@ public class FluentJavaPackage extends JavaPackage {
         JavaFile javaFile = getJavaFileFactory().createTestFile(packageName, className);
         FluentMethodMockTestTemplate.ClientMethodInfo info
             = new FluentMethodMockTestTemplate.ClientMethodInfo(className, unitTest);
-        FluentMethodMockTestTemplate.getInstance().write(info, javaFile);
+        write(FluentMethodMockTestTemplate.getInstance(), info, javaFile);
+        return javaFile;
+    }
+
+    private void addOperationUnitTest(JavaFile javaFile) {
         if (!checkDuplicateFile(javaFile.getFilePath())) {
             addJavaFile(javaFile);
         }
     }
 
     public void addLiveTests(FluentLiveTests liveTests) {
+        addJavaFile(writeLiveTests(liveTests));
+    }
+
+    /**
+     * Adds the live tests. The tests are rendered in parallel.
+     *
+     * @param liveTestsList the live tests
+     */
+    public void addLiveTests(List<FluentLiveTests> liveTestsList) {
+        renderInParallel(liveTestsList, this::writeLiveTests).forEach(this::addJavaFile);
+    }
+
+    private JavaFile writeLiveTests(FluentLiveTests liveTests) {
         JavaFile javaFile = getJavaFileFactory().createTestFile(liveTests.getPackageName(), liveTests.getClassName());
-        FluentLiveTestsTemplate.getInstance().write(liveTests, javaFile);
-        addJavaFile(javaFile);
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("template", FluentLiveTestsTemplate.class)) {
+            FluentLiveTestsTemplate.getInstance().write(liveTests, javaFile);
+        }
+        return javaFile;
     }
 }
@@ -4,10 +4,12 @@
 package com.microsoft.typespec.http.client.generator.mgmt.template;
 
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaInterface;
 import com.microsoft.typespec.http.client.generator.core.template.ProxyTemplate;
+import com.microsoft.typespec.http.client.generator.mgmt.model.FluentType;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -24,6 +26,18 @@ public class FluentProxyTemplate extends ProxyTemplate {
 
     @Override
     protected void writeProxyMethodHeaders(ProxyMethod restAPIMethod, JavaInterface interfaceBlock) {
+        Map<String, String> headers = getProxyMethodHeaders(restAPIMethod);
+        if (!headers.isEmpty()) {
+            String headersString = headers.entrySet()
+                .stream()
+                .map(e -> String.format("\"%s: %s\"", e.getKey(), e.getValue()))
+                .collect(Collectors.joining(", "));
+            interfaceBlock.annotation(String.format("Headers({ %s })", headersString));
+        }
+    }
+
+    @Override
+    protected Map<String, String> getProxyMethodHeaders(ProxyMethod restAPIMethod) {
         Map<String, String> headers = new HashMap<>();
         headers.put("Content-Type", restAPIMethod.getRequestContentType());
         headers.put("Accept", String.join(",", restAPIMethod.getResponseContentTypes()));
@@ -35,17 +49,18 @@ public class FluentProxyTemplate extends ProxyTemplate {
             .map(String::toLowerCase)
             .collect(Collectors.toSet());
 
-        headers = headers.entrySet()
+        return headers.entrySet()
             .stream()
             .filter(e -> !headerParameterNames.contains(e.getKey().toLowerCase(Locale.ROOT)))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
 
-        if (!headers.isEmpty()) {
-            String headersString = headers.entrySet()
-                .stream()
-                .map(e -> String.format("\"%s: %s\"", e.getKey(), e.getValue()))
-                .collect(Collectors.joining(", "));
-            interfaceBlock.annotation(String.format("Headers({ %s })", headersString));
+    @Override
+    protected String getErrorValueExpression(ClassType exceptionType, String helper) {
+        if (FluentType.MANAGEMENT_EXCEPTION.equals(exceptionType)) {
+            // the value of ManagementException is the ManagementError of the error body
+            return helper + ".readValue(body, ManagementError::fromJson)";
         }
+        return super.getErrorValueExpression(exceptionType, helper);
     }
 }
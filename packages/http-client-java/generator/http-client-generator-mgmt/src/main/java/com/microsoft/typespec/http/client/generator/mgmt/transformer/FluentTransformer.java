@@ -12,10 +12,14 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.UuidSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.TransformerPass;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.TransformerPass.Part;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.TransformerPipeline;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
 import com.microsoft.typespec.http.client.generator.mgmt.util.Utils;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -33,32 +37,47 @@ public class FluentTransformer {
     }
 
     public CodeModel preTransform(CodeModel codeModel) {
-        codeModel = removeXml(codeModel);
-        codeModel = deduplicateOperations(codeModel);
-        codeModel = normalizeParameterLocation(codeModel);
-        codeModel = renameUngroupedOperationGroup(codeModel, fluentJavaSettings);
-        codeModel = new SchemaNameNormalization(fluentJavaSettings.getNamingOverride()).process(codeModel);
-        codeModel = new ConstantSchemaOptimization().process(codeModel);
-        codeModel = renameHostParameter(codeModel);
-        codeModel = transformSubscriptionIdUuid(codeModel);
-        return codeModel;
+        List<TransformerPass<CodeModel>> passes = new ArrayList<>();
+        passes.add(TransformerPass.ofCodeModel("remove-xml", FluentTransformer::removeXml));
+        passes.add(TransformerPass.ofCodeModel("deduplicate-operations", this::deduplicateOperations));
+        passes.add(TransformerPass.ofCodeModel("normalize-parameter-location", this::normalizeParameterLocation));
+        passes.add(TransformerPass.ofCodeModel("rename-ungrouped-operation-group",
+            cm -> renameUngroupedOperationGroup(cm, fluentJavaSettings)));
+        passes.add(TransformerPass.ofCodeModel("schema-name-normalization",
+            new SchemaNameNormalization(fluentJavaSettings.getNamingOverride())::process));
+        passes.add(TransformerPass.ofCodeModel("constant-schema-optimization",
+            new ConstantSchemaOptimization()::process));
+        passes.add(TransformerPass.ofCodeModel("rename-host-parameter", this::renameHostParameter));
+        passes.add(TransformerPass.ofCodeModel("subscription-id-uuid", this::transformSubscriptionIdUuid));
+        return new TransformerPipeline<>(passes).run(codeModel);
     }
 
     public CodeModel postTransform(CodeModel codeModel) {
-        codeModel
-            = new OperationGroupFilter(fluentJavaSettings.getJavaNamesForRemoveOperationGroup()).process(codeModel);
-        codeModel
-            = new OperationGroupRenamer(fluentJavaSettings.getJavaNamesForRenameOperationGroup()).process(codeModel);
-        codeModel = new NamingConflictResolver().process(codeModel);
-        codeModel = new OperationNameNormalization().process(codeModel);
-        codeModel = new ResourceTypeNormalization().process(codeModel);
-        codeModel = new ErrorTypeNormalization().process(codeModel);
-        codeModel = new ResponseStatusCodeNormalization().process(codeModel);
+        List<TransformerPass<CodeModel>> passes = new ArrayList<>();
+        passes.add(TransformerPass.ofCodeModel("operation-group-filter",
+            new OperationGroupFilter(fluentJavaSettings.getJavaNamesForRemoveOperationGroup())::process));
+        passes.add(TransformerPass.ofOperationGroup("operation-group-renamer", EnumSet.noneOf(Part.class),
+            EnumSet.noneOf(Part.class),
+            new OperationGroupRenamer(fluentJavaSettings.getJavaNamesForRenameOperationGroup())::process));
+        passes.add(TransformerPass.ofCodeModel("naming-conflict-resolver", new NamingConflictResolver()::process));
+        // renames the operations, and reorders the path parameters of the requests, in the operation group
+        passes.add(TransformerPass.ofOperationGroup("operation-name-normalization",
+            EnumSet.of(Part.SCHEMAS, Part.PARAMETERS), EnumSet.noneOf(Part.class),
+            new OperationNameNormalization()::process));
+        passes.add(TransformerPass.ofCodeModel("resource-type-normalization",
+            new ResourceTypeNormalization()::process));
+        passes.add(TransformerPass.ofCodeModel("error-type-normalization", new ErrorTypeNormalization()::process));
+        // a next page operation shares the responses with its operation, which can be in another operation group
+        passes.add(TransformerPass.ofOperationGroup("response-status-code-normalization",
+            EnumSet.of(Part.OPERATION_GROUPS), EnumSet.of(Part.OPERATION_GROUPS),
+            new ResponseStatusCodeNormalization()::process));
         if (fluentJavaSettings.isResourcePropertyAsSubResource()) {
-            codeModel = new ResourcePropertyNormalization().process(codeModel);
+            passes.add(TransformerPass.ofCodeModel("resource-property-normalization",
+                new ResourcePropertyNormalization()::process));
         }
-        codeModel = new SchemaCleanup(fluentJavaSettings.getJavaNamesForPreserveModel()).process(codeModel);
-        return codeModel;
+        passes.add(TransformerPass.ofCodeModel("schema-cleanup",
+            new SchemaCleanup(fluentJavaSettings.getJavaNamesForPreserveModel())::process));
+        return new TransformerPipeline<>(passes).run(codeModel);
     }
 
     protected CodeModel deduplicateOperations(CodeModel codeModel) {
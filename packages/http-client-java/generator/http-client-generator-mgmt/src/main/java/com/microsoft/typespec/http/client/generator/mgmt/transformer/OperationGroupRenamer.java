@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.mgmt.transformer;
 
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
@@ -22,15 +23,17 @@ public class OperationGroupRenamer {
     }
 
     public CodeModel process(CodeModel codeModel) {
-        // rename operation group
-        codeModel.getOperationGroups().forEach(og -> {
-            String methodGroupName = CodeNamer.getPlural(Utils.getJavaName(og));
-            String rename = renameOperationGroup.get(methodGroupName);
-            if (rename != null) {
-                og.getLanguage().getJava().setName(rename);
-                logger.info("Renamed operation group from '{}' to '{}'.", methodGroupName, rename);
-            }
-        });
+        codeModel.getOperationGroups().forEach(this::process);
         return codeModel;
     }
+
+    public void process(OperationGroup og) {
+        // rename operation group
+        String methodGroupName = CodeNamer.getPlural(Utils.getJavaName(og));
+        String rename = renameOperationGroup.get(methodGroupName);
+        if (rename != null) {
+            og.getLanguage().getJava().setName(rename);
+            logger.info("Renamed operation group from '{}' to '{}'.", methodGroupName, rename);
+        }
+    }
 }
@@ -42,7 +42,7 @@ class OperationNameNormalization {
     private static final Pattern TRIM_LEADING_AND_TRAILING_FORWARD_SLASH = Pattern.compile("^(?:/*)?(.*?)(?:/*)?$");
 
     public CodeModel process(CodeModel codeModel) {
-        codeModel.getOperationGroups().forEach(OperationNameNormalization::process);
+        codeModel.getOperationGroups().forEach(this::process);
         return codeModel;
     }
 
@@ -50,7 +50,7 @@ class OperationNameNormalization {
     private static final String SEGMENT_RESOURCE_GROUPS = "resourceGroups";
     private static final String SEGMENT_PROVIDERS = "providers";
 
-    private static void process(OperationGroup operationGroup) {
+    void process(OperationGroup operationGroup) {
         Map<String, String> renamePlan = makeRenamePlan(operationGroup);
         applyRename(operationGroup, renamePlan);
     }
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.mgmt.transformer;
 
 import com.azure.core.http.HttpMethod;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
@@ -22,9 +23,13 @@ public class ResponseStatusCodeNormalization {
     private static final boolean REMOVE_404_IN_GET_RESPONSE = true;
 
     public CodeModel process(CodeModel codeModel) {
-        codeModel.getOperationGroups()
+        codeModel.getOperationGroups().forEach(this::process);
+        return codeModel;
+    }
+
+    public void process(OperationGroup operationGroup) {
+        operationGroup.getOperations()
             .stream()
-            .flatMap(og -> og.getOperations().stream())
             // only for GET method
             .filter(o -> o.getRequests()
                 .stream()
@@ -61,7 +66,5 @@ public class ResponseStatusCodeNormalization {
                     operation.getResponses().removeAll(responsesToRemove);
                 }
             });
-
-        return codeModel;
     }
 }
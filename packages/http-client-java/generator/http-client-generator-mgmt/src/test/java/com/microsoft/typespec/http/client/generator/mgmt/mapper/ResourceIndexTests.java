@@ -0,0 +1,546 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.mapper;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.json.JsonReader;
+import com.azure.json.ReadValueCallback;
+import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantValue;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Info;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocol;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Protocols;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaResponse;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Security;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.FluentGenAccessor;
+import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
+import com.microsoft.typespec.http.client.generator.mgmt.TestUtils;
+import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ModelCategory;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.UrlPathSegments;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentClient;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentCollectionMethod;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceCollection;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.ResourceOperation;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.action.ResourceActions;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.create.ResourceCreate;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.delete.ResourceDelete;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.get.ResourceRefresh;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.update.ResourceUpdate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the resource parser finds the same create/update/get/delete/action of the resources with
+ * {@link ResourceIndex}, as with the scans of the methods of the collection and of the client models.
+ */
+public class ResourceIndexTests {
+
+    private static final String NAMESPACE = "com.azure.resourcemanager.mock";
+    private static final String PROVIDER_PATH = "/subscriptions/{subscriptionId}/providers/Microsoft.Mock";
+    private static final String RESOURCE_GROUP_PROVIDER_PATH
+        = "/subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}/providers/Microsoft.Mock";
+
+    private static final List<ModelCategory> CATEGORIES
+        = Arrays.asList(ModelCategory.RESOURCE_GROUP_AS_PARENT, ModelCategory.SUBSCRIPTION_AS_PARENT,
+            ModelCategory.NESTED_CHILD, ModelCategory.SCOPE_AS_PARENT, ModelCategory.SCOPE_NESTED_CHILD);
+
+    private static TestUtils.MockFluentGen fluentgen;
+    private static CodeModel codeModel;
+    private static com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client client;
+
+    @BeforeAll
+    public static void ensurePlugin() {
+        fluentgen = new TestUtils.MockFluentGen();
+
+        codeModel = new MockFluentNamer(fluentgen).transform(new MockArmCodeModel().createCodeModel());
+
+        client = new FluentGenAccessor(fluentgen).handleMap(codeModel);
+        FluentStatic.setClient(client);
+    }
+
+    @Test
+    public void testResourceCreate() {
+        FluentClient indexedClient = parseWithIndex();
+
+        // the scans run on a new mapping of the same client model, as the parser updates the resource models
+        FluentClient scannedClient = basicMap();
+        List<String> scannedCreates = new ArrayList<>();
+        for (FluentResourceCollection collection : scannedClient.getResourceCollections()) {
+            for (ResourceCreate resourceCreate : resolveResourceCreateByScan(collection,
+                scannedClient.getResourceModels(), client.getModels())) {
+                scannedCreates.add(describeResourceCreate(resourceCreate));
+            }
+        }
+
+        List<String> indexedCreates = indexedClient.getResourceCollections()
+            .stream()
+            .flatMap(collection -> collection.getResourceCreates().stream())
+            .map(ResourceIndexTests::describeResourceCreate)
+            .collect(Collectors.toList());
+
+        Assertions.assertEquals(scannedCreates, indexedCreates);
+        Assertions.assertEquals(Arrays.asList(
+            "Parents.createOrUpdate: Parent as RESOURCE_GROUP_AS_PARENT, " + RESOURCE_GROUP_PROVIDER_PATH
+                + "/parents/{parentName}",
+            "ChildResources.createOrUpdate: Child as NESTED_CHILD, " + RESOURCE_GROUP_PROVIDER_PATH
+                + "/parents/{parentName}/children/{childName}",
+            "SharedResources.createOrUpdateGadget: Gadget as RESOURCE_GROUP_AS_PARENT, " + RESOURCE_GROUP_PROVIDER_PATH
+                + "/gadgets/{gadgetName}",
+            "SharedResources.createOrUpdateWidget: Widget as SUBSCRIPTION_AS_PARENT, " + PROVIDER_PATH
+                + "/widgets/{widgetName}"),
+            indexedCreates);
+    }
+
+    @Test
+    public void testResourceUpdateRefreshDeleteActions() {
+        FluentClient indexedClient = parseWithIndex();
+
+        int resourceCreates = 0;
+        for (FluentResourceCollection collection : indexedClient.getResourceCollections()) {
+            for (ResourceCreate resourceCreate : collection.getResourceCreates()) {
+                ++resourceCreates;
+
+                FluentResourceModel resourceModel = resourceCreate.getResourceModel();
+                ResourceUpdate indexedUpdate = resourceModel.getResourceUpdate();
+                ResourceRefresh indexedRefresh = resourceModel.getResourceRefresh();
+                ResourceDelete indexedDelete = collection.getResourceDeletes()
+                    .stream()
+                    .filter(rd -> rd.getResourceModel() == resourceModel)
+                    .findFirst()
+                    .orElse(null);
+                ResourceActions indexedActions = resourceModel.getResourceActions();
+
+                // the resolvers of the lists scan the methods of the collection, and the client models
+                Optional<ResourceUpdate> scannedUpdate
+                    = ResourceParser.resolveResourceUpdate(collection, resourceCreate, client.getModels());
+                Optional<ResourceRefresh> scannedRefresh
+                    = ResourceParser.resolveResourceRefresh(collection, resourceCreate);
+                Optional<ResourceDelete> scannedDelete
+                    = ResourceParser.resolveResourceDelete(collection, resourceCreate);
+                Optional<ResourceActions> scannedActions
+                    = ResourceParser.resourceResourceActions(collection, resourceCreate);
+
+                String resourceName = resourceModel.getName();
+                Assertions.assertEquals(describe(scannedUpdate.orElse(null)), describe(indexedUpdate), resourceName);
+                Assertions.assertEquals(describe(scannedRefresh.orElse(null)), describe(indexedRefresh), resourceName);
+                Assertions.assertEquals(describe(scannedDelete.orElse(null)), describe(indexedDelete), resourceName);
+                Assertions.assertEquals(scannedActions.isPresent(), indexedActions != null, resourceName);
+            }
+        }
+        Assertions.assertEquals(4, resourceCreates);
+
+        // the methods of the URL path of the resource, in a collection shared by 2 resources
+        FluentResourceModel widget = getResourceModel(indexedClient, "Widget");
+        Assertions.assertEquals("createOrUpdateWidget", widget.getResourceUpdate().getMethodName());
+        Assertions.assertEquals("getWidget", widget.getResourceRefresh().getMethodName());
+        Assertions.assertNull(widget.getResourceActions());
+
+        FluentResourceModel gadget = getResourceModel(indexedClient, "Gadget");
+        Assertions.assertEquals("updateGadget", gadget.getResourceUpdate().getMethodName());
+        Assertions.assertEquals("getByResourceGroup", gadget.getResourceRefresh().getMethodName());
+        Assertions.assertNotNull(gadget.getResourceActions());
+
+        // the model of the nested resource is the body of its own update
+        FluentResourceModel child = getResourceModel(indexedClient, "Child");
+        Assertions.assertEquals("ChildInner", child.getResourceUpdate().getRequestBodyParameterModel().getName());
+        Assertions.assertNotNull(getResourceModel(indexedClient, "Parent").getResourceActions());
+    }
+
+    private static FluentClient basicMap() {
+        return new FluentMapperAccessor(new FluentGenAccessor(fluentgen).getFluentMapper()).basicMap(codeModel,
+            client);
+    }
+
+    private static FluentClient parseWithIndex() {
+        FluentClient fluentClient = basicMap();
+        ResourceParser.parseResourcesCategory(fluentClient.getResourceCollections(),
+            new ResourceIndex(fluentClient.getResourceModels(), client.getModels()));
+        return fluentClient;
+    }
+
+    private static FluentResourceModel getResourceModel(FluentClient fluentClient, String name) {
+        return fluentClient.getResourceModels().stream().filter(m -> m.getName().equals(name)).findFirst().get();
+    }
+
+    private static String describeResourceCreate(ResourceCreate resourceCreate) {
+        return resourceCreate.getResourceCollection().getInterfaceType().getName() + "."
+            + resourceCreate.getMethodName() + ": " + resourceCreate.getResourceModel().getName() + " as "
+            + resourceCreate.getResourceModel().getCategory() + ", " + resourceCreate.getUrlPathSegments().getPath();
+    }
+
+    private static String describe(ResourceOperation resourceOperation) {
+        if (resourceOperation == null) {
+            return null;
+        }
+        ClientModel bodyModel = resourceOperation.getRequestBodyParameterModel();
+        return resourceOperation.getMethodName() + " " + resourceOperation.getUrlPathSegments().getPath()
+            + (bodyModel == null ? "" : " " + bodyModel.getName());
+    }
+
+    /*
+     * The resolve of the resource creates before ResourceIndex, that scans the methods of the collection for every
+     * category, and the client models for the body of every method found.
+     */
+    private static List<ResourceCreate> resolveResourceCreateByScan(FluentResourceCollection collection,
+        List<FluentResourceModel> availableFluentModels, List<ClientModel> availableModels) {
+
+        Map<String, FluentResourceModel> fluentModelMapByName = availableFluentModels.stream()
+            .collect(Collectors.toMap(m -> m.getInterfaceType().toString(), Function.identity()));
+
+        List<ResourceCreate> supportsCreateList = new ArrayList<>();
+        Set<FluentResourceModel> foundModels = new HashSet<>();
+
+        for (ModelCategory category : CATEGORIES) {
+            Map<FluentResourceModel, ResourceCreate> modelResourceCreateMap = findResourceCreateForCategoryByScan(
+                collection, fluentModelMapByName, availableModels, foundModels, category);
+
+            foundModels.addAll(modelResourceCreateMap.keySet());
+
+            for (Map.Entry<FluentResourceModel, ResourceCreate> entry : modelResourceCreateMap.entrySet()) {
+                entry.getKey().setCategory(category);
+                entry.getKey().setResourceCreate(entry.getValue());
+
+                supportsCreateList.add(entry.getValue());
+            }
+        }
+        return supportsCreateList;
+    }
+
+    private static Map<FluentResourceModel, ResourceCreate> findResourceCreateForCategoryByScan(
+        FluentResourceCollection collection, Map<String, FluentResourceModel> fluentModelMapByName,
+        List<ClientModel> availableModels, Set<FluentResourceModel> excludeModels, ModelCategory category) {
+
+        Map<FluentResourceModel, ResourceCreate> foundModels = new LinkedHashMap<>();
+
+        for (FluentCollectionMethod m : collection.getMethods()) {
+            // PUT, not only "update", body in request
+            String methodNameLowerCase = m.getInnerClientMethod().getName().toLowerCase(Locale.ROOT);
+            if (m.getInnerProxyMethod().getHttpMethod() != HttpMethod.PUT
+                || (methodNameLowerCase.contains("update") && !methodNameLowerCase.contains("create"))
+                || m.getInnerProxyMethod()
+                    .getParameters()
+                    .stream()
+                    .noneMatch(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY)) {
+                continue;
+            }
+
+            FluentResourceModel fluentModel = fluentModelMapByName.get(m.getFluentReturnType().toString());
+            if (fluentModel == null
+                || !fluentModel.getInnerModel().getDerivedModels().isEmpty()
+                || fluentModel.getResourceCreate() != null
+                || foundModels.containsKey(fluentModel)
+                || excludeModels.contains(fluentModel)
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_ID)
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_NAME)
+                || !fluentModel.hasProperty(ResourceTypeName.FIELD_TYPE)) {
+                continue;
+            }
+
+            UrlPathSegments urlPathSegments = new UrlPathSegments(m.getInnerProxyMethod().getUrlPath());
+            if (urlPathSegments.getReverseSegments().isEmpty()
+                || !urlPathSegments.getReverseSegments().iterator().next().isParameterSegment()
+                || !ResourceParser.urlPathMatchesCategory(urlPathSegments, category)) {
+                continue;
+            }
+
+            String bodyTypeName = m.getInnerClientMethod()
+                .getProxyMethod()
+                .getParameters()
+                .stream()
+                .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY)
+                .map(p -> p.getClientType().toString())
+                .findFirst()
+                .get();
+            availableModels.stream()
+                .filter(model -> model.getName().equals(bodyTypeName))
+                .findAny()
+                .ifPresent(bodyClientModel -> foundModels.put(fluentModel, new ResourceCreate(fluentModel, collection,
+                    urlPathSegments, m.getInnerClientMethod().getName(), bodyClientModel)));
+        }
+        return foundModels;
+    }
+
+    /*
+     * Transforms the code model, with the settings of the mock plugin.
+     */
+    private static final class MockFluentNamer extends FluentNamer {
+        private final TestUtils.MockFluentGen fluentgen;
+
+        private MockFluentNamer(TestUtils.MockFluentGen fluentgen) {
+            super(fluentgen, new TestUtils.MockConnection(), "dummy", "dummy");
+            this.fluentgen = fluentgen;
+        }
+
+        @Override
+        public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
+            return fluentgen.getValue(key, converter);
+        }
+
+        @Override
+        public <T> T getValueWithJsonReader(String key, ReadValueCallback<JsonReader, T> converter) {
+            return fluentgen.getValueWithJsonReader(key, converter);
+        }
+
+        @Override
+        public void message(Message message) {
+        }
+    }
+
+    /*
+     * Code model of a resource provider, with a nested resource, a collection shared by 2 resources, and a resource
+     * created on 2 URL paths of its collection.
+     */
+    private static final class MockArmCodeModel {
+        private final Schemas schemas = new Schemas();
+        private final StringSchema stringSchema = schema(new StringSchema(), Schema.AllSchemaTypes.STRING, "string");
+        private final ConstantSchema apiVersionSchema = constantSchema("api-version", "2025-01-01");
+        private final ConstantSchema acceptSchema = constantSchema("accept", "application/json");
+
+        private final Parameter endpointParameter
+            = clientParameter(parameter("endpoint", stringSchema, RequestParameterLocation.URI, "endpoint"),
+                "modelerfour:synthesized/host");
+        private final Parameter apiVersionParameter
+            = clientParameter(parameter("api-version", apiVersionSchema, RequestParameterLocation.QUERY, "api-version"),
+                "modelerfour:synthesized/api-version");
+        private final Parameter subscriptionIdParameter = clientParameter(
+            parameter("subscriptionId", stringSchema, RequestParameterLocation.PATH, "subscriptionId"), null);
+
+        private CodeModel createCodeModel() {
+            schemas.getStrings().add(stringSchema);
+
+            ObjectSchema parent = resourceModel("Parent");
+            ObjectSchema child = resourceModel("Child");
+            ObjectSchema widget = resourceModel("Widget");
+            ObjectSchema gadget = resourceModel("Gadget");
+
+            String parentPath = RESOURCE_GROUP_PROVIDER_PATH + "/parents/{parentName}";
+            String parentAtSubscriptionPath = PROVIDER_PATH + "/parents/{parentName}";
+            String childPath = parentPath + "/children/{childName}";
+            String widgetPath = PROVIDER_PATH + "/widgets/{widgetName}";
+            String gadgetPath = RESOURCE_GROUP_PROVIDER_PATH + "/gadgets/{gadgetName}";
+
+            CodeModel codeModel = new CodeModel();
+            Info info = new Info();
+            info.setTitle("Mock");
+            info.setDescription("Mock management service.");
+            codeModel.setInfo(info);
+            codeModel.setLanguage(languages("MockManagementClient", true));
+            codeModel.setSecurity(new Security());
+            ApiVersion apiVersion = new ApiVersion();
+            apiVersion.setVersion("2025-01-01");
+            codeModel.setApiVersions(Collections.singletonList(apiVersion));
+            codeModel.setSchemas(schemas);
+            codeModel.setGlobalParameters(
+                new ArrayList<>(Arrays.asList(endpointParameter, apiVersionParameter, subscriptionIdParameter)));
+
+            // the resource is created on 2 URL paths, the first category found wins
+            codeModel.getOperationGroups()
+                .add(operationGroup("Parents", resourceOperations("", parentPath, parent, true),
+                    Arrays.asList(
+                        operation("createOrUpdateAtSubscription", "put", parentAtSubscriptionPath, parent, parent),
+                        operation("restart", "post", parentPath + "/restart", null, null))));
+            codeModel.getOperationGroups()
+                .add(operationGroup("ChildResources", resourceOperations("", childPath, child, true),
+                    Collections.emptyList()));
+            // the collection is shared by 2 resources, of different URL paths
+            codeModel.getOperationGroups()
+                .add(operationGroup("SharedResources", resourceOperations("Widget", widgetPath, widget, false),
+                    resourceOperations("Gadget", gadgetPath, gadget, true),
+                    Collections.singletonList(operation("startGadget", "post", gadgetPath + "/start", null, null))));
+            return codeModel;
+        }
+
+        private List<Operation> resourceOperations(String suffix, String path, ObjectSchema model, boolean patch) {
+            List<Operation> operations = new ArrayList<>();
+            operations.add(operation("get" + suffix, "get", path, null, model));
+            operations.add(operation("createOrUpdate" + suffix, "put", path, model, model));
+            if (patch) {
+                operations.add(operation("update" + suffix, "patch", path, model, model));
+            }
+            operations.add(operation("delete" + suffix, "delete", path, null, null));
+            return operations;
+        }
+
+        @SafeVarargs
+        private static OperationGroup operationGroup(String name, List<Operation>... operations) {
+            OperationGroup operationGroup = new OperationGroup();
+            operationGroup.setLanguage(languages(name, false));
+            operationGroup.set$key(name);
+            for (List<Operation> list : operations) {
+                operationGroup.getOperations().addAll(list);
+            }
+            return operationGroup;
+        }
+
+        private ObjectSchema resourceModel(String name) {
+            ObjectSchema model = schema(new ObjectSchema(), Schema.AllSchemaTypes.OBJECT, name);
+            model.getLanguage().setJava(new Language());
+            model.getLanguage().getJava().setNamespace(NAMESPACE);
+            model.setUsage(EnumSet.of(SchemaContext.INPUT, SchemaContext.OUTPUT, SchemaContext.PUBLIC));
+            for (String propertyName : Arrays.asList("id", "name", "type", "description")) {
+                Property property = new Property();
+                property.setLanguage(languages(propertyName, false));
+                property.setSchema(stringSchema);
+                property.setSerializedName(propertyName);
+                property.setReadOnly(!"description".equals(propertyName));
+                model.getProperties().add(property);
+            }
+            schemas.getObjects().add(model);
+            return model;
+        }
+
+        private Operation operation(String name, String method, String path, ObjectSchema body,
+            ObjectSchema response) {
+            Operation operation = new Operation();
+            operation.setLanguage(languages(name, false));
+            operation.setOperationId(name);
+            operation.setGenerateProtocolApi(false);
+
+            Protocol http = new Protocol();
+            http.setMethod(method);
+            http.setPath(path);
+            http.setUri("{endpoint}");
+            Request request = new Request();
+            request.setProtocol(protocols(http));
+            operation.setRequests(new ArrayList<>(Collections.singletonList(request)));
+
+            operation.getParameters().add(endpointParameter);
+            operation.getParameters().add(apiVersionParameter);
+            operation.getParameters().add(subscriptionIdParameter);
+            for (UrlPathSegments.ParameterSegment segment : new UrlPathSegments(path).getReverseParameterSegments()) {
+                if (!"subscriptionId".equals(segment.getParameterName())) {
+                    Parameter pathParameter = parameter(segment.getParameterName(), stringSchema,
+                        RequestParameterLocation.PATH, segment.getParameterName());
+                    operation.getParameters().add(pathParameter);
+                    operation.getSignatureParameters().add(0, pathParameter);
+                }
+            }
+            operation.getParameters()
+                .add(parameter("accept", acceptSchema, RequestParameterLocation.HEADER, "Accept"));
+            if (body != null) {
+                http.setMediaTypes(Collections.singletonList("application/json"));
+                Parameter resource = parameter("resource", body, RequestParameterLocation.BODY, "resource");
+                operation.getParameters().add(resource);
+                operation.getSignatureParameters().add(resource);
+            }
+
+            Protocol responseHttp = new Protocol();
+            responseHttp.setStatusCodes(Collections.singletonList("200"));
+            responseHttp.setHeaders(new ArrayList<>());
+            Response response200;
+            if (response != null) {
+                SchemaResponse schemaResponse = new SchemaResponse();
+                schemaResponse.setSchema(response);
+                responseHttp.setMediaTypes(Collections.singletonList("application/json"));
+                response200 = schemaResponse;
+            } else {
+                response200 = new Response();
+            }
+            response200.setProtocol(protocols(responseHttp));
+            response200.setLanguage(languages("response", false));
+            operation.getResponses().add(response200);
+
+            Protocol errorHttp = new Protocol();
+            errorHttp.setStatusCodes(Collections.singletonList("default"));
+            errorHttp.setHeaders(new ArrayList<>());
+            Response error = new Response();
+            error.setProtocol(protocols(errorHttp));
+            error.setLanguage(languages("error", false));
+            operation.getExceptions().add(error);
+            return operation;
+        }
+
+        private ConstantSchema constantSchema(String name, String value) {
+            ConstantSchema constantSchema = schema(new ConstantSchema(), Schema.AllSchemaTypes.CONSTANT, name);
+            constantSchema.setValueType(stringSchema);
+            ConstantValue constantValue = new ConstantValue();
+            constantValue.setValue(value);
+            constantSchema.setValue(constantValue);
+            schemas.getConstants().add(constantSchema);
+            return constantSchema;
+        }
+
+        private Parameter clientParameter(Parameter parameter, String origin) {
+            parameter.setImplementation(Parameter.ImplementationLocation.CLIENT);
+            parameter.setOrigin(origin);
+            return parameter;
+        }
+
+        private static Parameter parameter(String name, Schema schema, RequestParameterLocation location,
+            String serializedName) {
+            Parameter parameter = new Parameter();
+            parameter.setLanguage(languages(name, false));
+            parameter.getLanguage().getDefault().setSerializedName(serializedName);
+            parameter.setSchema(schema);
+            parameter.setRequired(true);
+            parameter.setImplementation(Parameter.ImplementationLocation.METHOD);
+            Protocol http = new Protocol();
+            http.setIn(location);
+            parameter.setProtocol(protocols(http));
+            return parameter;
+        }
+
+        private static <T extends Schema> T schema(T schema, Schema.AllSchemaTypes type, String name) {
+            schema.setType(type);
+            schema.setLanguage(languages(name, false));
+            return schema;
+        }
+
+        private static Protocols protocols(Protocol http) {
+            Protocols protocols = new Protocols();
+            protocols.setHttp(http);
+            return protocols;
+        }
+
+        private static Languages languages(String name, boolean namespace) {
+            Language language = new Language();
+            language.setName(name);
+            language.setDescription("The " + name + ".");
+            Languages languages = new Languages();
+            languages.setDefault(language);
+            if (namespace) {
+                language.setNamespace(NAMESPACE);
+                Language java = new Language();
+                java.setNamespace(NAMESPACE);
+                languages.setJava(java);
+            }
+            return languages;
+        }
+    }
+}
@@ -168,15 +168,15 @@ public final class RepeatabilityClientImpl {
     public Mono<Response<Void>> immediateSuccessWithResponseAsync(RequestOptions requestOptions) {
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -207,18 +207,24 @@ public final class RepeatabilityClientImpl {
     public Response<Void> immediateSuccessWithResponse(RequestOptions requestOptions) {
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
         return service.immediateSuccessSync(this.getEndpoint(), requestOptionsLocal, Context.NONE);
     }
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT
+        = HttpHeaderName.fromString("repeatability-first-sent");
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID
+        = HttpHeaderName.fromString("repeatability-request-id");
 }
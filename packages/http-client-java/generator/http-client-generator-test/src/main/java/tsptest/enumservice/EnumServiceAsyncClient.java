@@ -1011,7 +1011,7 @@ public final class EnumServiceAsyncClient {
         // Generated convenience method for setStringEnumArrayHeaderWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (colorArrayOpt != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("color-array-opt"),
+            requestOptions.setHeader(HTTP_HEADER_NAME_COLOR_ARRAY_OPT,
                 colorArrayOpt.stream()
                     .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(",")));
@@ -1042,4 +1042,7 @@ public final class EnumServiceAsyncClient {
             .map(paramItemValue -> Objects.toString(paramItemValue, ""))
             .collect(Collectors.toList()), requestOptions).flatMap(FluxUtil::toMono);
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_COLOR_ARRAY_OPT = HttpHeaderName.fromString("color-array-opt");
 }
@@ -985,7 +985,7 @@ public final class EnumServiceClient {
         // Generated convenience method for setStringEnumArrayHeaderWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (colorArrayOpt != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("color-array-opt"),
+            requestOptions.setHeader(HTTP_HEADER_NAME_COLOR_ARRAY_OPT,
                 colorArrayOpt.stream()
                     .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(",")));
@@ -1015,4 +1015,7 @@ public final class EnumServiceClient {
             .map(paramItemValue -> Objects.toString(paramItemValue, ""))
             .collect(Collectors.toList()), requestOptions).getValue();
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_COLOR_ARRAY_OPT = HttpHeaderName.fromString("color-array-opt");
 }
@@ -492,15 +492,15 @@ public final class LongRunningClientImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -572,15 +572,15 @@ public final class LongRunningClientImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -877,4 +877,10 @@ public final class LongRunningClientImpl {
                 "result"),
             TypeReference.createInstance(BinaryData.class), TypeReference.createInstance(BinaryData.class));
     }
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT
+        = HttpHeaderName.fromString("repeatability-first-sent");
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID
+        = HttpHeaderName.fromString("repeatability-request-id");
 }
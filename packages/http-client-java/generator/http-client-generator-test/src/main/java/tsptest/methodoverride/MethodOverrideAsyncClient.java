@@ -556,7 +556,7 @@ public final class MethodOverrideAsyncClient {
             requestOptions.addQueryParam("foo", foo, false);
         }
         if (bar != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("bar"), bar);
+            requestOptions.setHeader(HTTP_HEADER_NAME_BAR, bar);
         }
         return groupNoneWithResponse(groupNoneRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -582,4 +582,7 @@ public final class MethodOverrideAsyncClient {
         BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
         return groupNoneWithResponse(groupNoneRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_BAR = HttpHeaderName.fromString("bar");
 }
@@ -543,7 +543,7 @@ public final class MethodOverrideClient {
             requestOptions.addQueryParam("foo", foo, false);
         }
         if (bar != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("bar"), bar);
+            requestOptions.setHeader(HTTP_HEADER_NAME_BAR, bar);
         }
         groupNoneWithResponse(groupNoneRequest, requestOptions).getValue();
     }
@@ -568,4 +568,7 @@ public final class MethodOverrideClient {
         BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
         groupNoneWithResponse(groupNoneRequest, requestOptions).getValue();
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_BAR = HttpHeaderName.fromString("bar");
 }
@@ -179,7 +179,7 @@ public final class OptionalAsyncClient {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (requestHeaderOptional != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("request-header-optional"), requestHeaderOptional);
+            requestOptions.setHeader(HTTP_HEADER_NAME_REQUEST_HEADER_OPTIONAL, requestHeaderOptional);
         }
         if (booleanNullable != null) {
             requestOptions.addQueryParam("booleanNullable", String.valueOf(booleanNullable), false);
@@ -224,4 +224,8 @@ public final class OptionalAsyncClient {
             stringRequiredNullable, requestOptions).flatMap(FluxUtil::toMono)
                 .map(protocolMethodData -> protocolMethodData.toObject(AllPropertiesOptional.class));
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_REQUEST_HEADER_OPTIONAL
+        = HttpHeaderName.fromString("request-header-optional");
 }
@@ -177,7 +177,7 @@ public final class OptionalClient {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (requestHeaderOptional != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("request-header-optional"), requestHeaderOptional);
+            requestOptions.setHeader(HTTP_HEADER_NAME_REQUEST_HEADER_OPTIONAL, requestHeaderOptional);
         }
         if (booleanNullable != null) {
             requestOptions.addQueryParam("booleanNullable", String.valueOf(booleanNullable), false);
@@ -220,4 +220,8 @@ public final class OptionalClient {
         return putWithResponse(requestHeaderRequired, booleanRequired, booleanRequiredNullable, stringRequired,
             stringRequiredNullable, requestOptions).getValue().toObject(AllPropertiesOptional.class);
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_REQUEST_HEADER_OPTIONAL
+        = HttpHeaderName.fromString("request-header-optional");
 }
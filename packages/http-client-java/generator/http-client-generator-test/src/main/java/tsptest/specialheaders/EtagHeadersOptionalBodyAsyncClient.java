@@ -138,7 +138,7 @@ public final class EtagHeadersOptionalBodyAsyncClient {
             requestOptions.addQueryParam("filter", filter, false);
         }
         if (timestamp != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("timestamp"), String.valueOf(timestamp.toEpochSecond()));
+            requestOptions.setHeader(HTTP_HEADER_NAME_TIMESTAMP, String.valueOf(timestamp.toEpochSecond()));
         }
         if (body != null) {
             requestOptions.setBody(BinaryData.fromObject(body));
@@ -181,4 +181,7 @@ public final class EtagHeadersOptionalBodyAsyncClient {
         return putWithOptionalBodyWithResponse(format, requestOptions).flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_TIMESTAMP = HttpHeaderName.fromString("timestamp");
 }
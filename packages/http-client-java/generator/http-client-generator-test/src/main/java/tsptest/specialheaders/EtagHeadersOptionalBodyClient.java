@@ -136,7 +136,7 @@ public final class EtagHeadersOptionalBodyClient {
             requestOptions.addQueryParam("filter", filter, false);
         }
         if (timestamp != null) {
-            requestOptions.setHeader(HttpHeaderName.fromString("timestamp"), String.valueOf(timestamp.toEpochSecond()));
+            requestOptions.setHeader(HTTP_HEADER_NAME_TIMESTAMP, String.valueOf(timestamp.toEpochSecond()));
         }
         if (body != null) {
             requestOptions.setBody(BinaryData.fromObject(body));
@@ -177,4 +177,7 @@ public final class EtagHeadersOptionalBodyClient {
         RequestOptions requestOptions = new RequestOptions();
         return putWithOptionalBodyWithResponse(format, requestOptions).getValue().toObject(Resource.class);
     }
+
+    @Generated
+    private static final HttpHeaderName HTTP_HEADER_NAME_TIMESTAMP = HttpHeaderName.fromString("timestamp");
 }
@@ -284,15 +284,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -353,15 +353,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -406,15 +406,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -459,15 +459,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -528,15 +528,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -598,15 +598,15 @@ public final class RepeatabilityHeadersImpl {
         final String accept = "application/json";
         RequestOptions requestOptionsLocal = requestOptions == null ? new RequestOptions() : requestOptions;
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-request-id")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-request-id"), CoreUtils.randomUuid().toString());
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID, CoreUtils.randomUuid().toString());
             }
         });
         requestOptionsLocal.addRequestCallback(requestLocal -> {
-            if (requestLocal.getHeaders().get(HttpHeaderName.fromString("repeatability-first-sent")) == null) {
+            if (requestLocal.getHeaders().get(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT) == null) {
                 requestLocal.getHeaders()
-                    .set(HttpHeaderName.fromString("repeatability-first-sent"),
+                    .set(HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT,
                         DateTimeRfc1123.toRfc1123String(OffsetDateTime.now()));
             }
         });
@@ -861,4 +861,10 @@ public final class RepeatabilityHeadersImpl {
                 "result"),
             TypeReference.createInstance(BinaryData.class), TypeReference.createInstance(BinaryData.class));
     }
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_FIRST_SENT
+        = HttpHeaderName.fromString("repeatability-first-sent");
+
+    private static final HttpHeaderName HTTP_HEADER_NAME_REPEATABILITY_REQUEST_ID
+        = HttpHeaderName.fromString("repeatability-request-id");
 }
@@ -11,12 +11,15 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.CodeModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
@@ -65,10 +68,7 @@ public class Main {
 
             LOGGER.info("Code model file: {}", inputYamlFileName);
 
-            // load code-model.yaml
-            CodeModel codeModel = loadCodeModel(inputYamlFileName);
-
-            EmitterOptions emitterOptions = loadEmitterOptions(codeModel);
+            EmitterOptions emitterOptions = loadEmitterOptions();
 
             boolean sdkIntegration = true;
             String outputDir = emitterOptions.getOutputDir();
@@ -90,41 +90,54 @@ public class Main {
                 }
             }
 
+            // the code model is loaded in the handler, so that it can be released after it is mapped to client model
             if (emitterOptions.getArm()) {
-                handleFluent(codeModel, emitterOptions, sdkIntegration);
+                handleFluent(inputYamlFileName, emitterOptions, sdkIntegration);
             } else {
-                handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
+                handleDPG(inputYamlFileName, emitterOptions, sdkIntegration, outputDir);
             }
 
+            GeneratorMetrics.writeReport();
+
             // ensure the process exits as expected
             System.exit(0);
         } catch (Throwable e) {
             LOGGER.error("Unhandled error.", e);
+            GeneratorMetrics.writeReport();
             System.exit(1);
         }
     }
 
-    private static void handleFluent(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration) {
+    private static void handleFluent(String inputYamlFileName, EmitterOptions emitterOptions, boolean sdkIntegration)
+        throws IOException {
+        // load code-model.yaml
+        CodeModel codeModel = loadCodeModel(inputYamlFileName, emitterOptions);
+
         // initialize plugin
         TypeSpecFluentPlugin fluentPlugin = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration);
 
-        codeModel = fluentPlugin.preProcess(codeModel);
+        CodeModel transformedCodeModel = fluentPlugin.preProcess(codeModel);
 
         // client
-        Client client = fluentPlugin.processClient(codeModel);
+        Client client = fluentPlugin.processClient(transformedCodeModel);
 
         // template
-        FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+        FluentJavaPackage javaPackage
+            = GeneratorMetrics.measure("templates", () -> fluentPlugin.processTemplates(transformedCodeModel, client));
 
         // delete generated Java files
         deleteGeneratedJavaFiles(emitterOptions.getOutputDir(), javaPackage.getJavaFiles(), JavaSettings.getInstance());
 
         // write java files
-        Postprocessor.writeToFiles(
-            javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())),
-            fluentPlugin, fluentPlugin.getLogger());
+        if (JavaSettings.getInstance().isLeanMemory()) {
+            Postprocessor.writeToFilesInBatches(javaPackage.getJavaFiles(), fluentPlugin, fluentPlugin.getLogger());
+        } else {
+            Map<String, String> javaFiles = GeneratorMetrics.measure("java-file-contents",
+                () -> javaPackage.getJavaFiles()
+                    .stream()
+                    .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            Postprocessor.writeToFiles(javaFiles, fluentPlugin, fluentPlugin.getLogger());
+        }
 
         // XML include POM
         javaPackage.getXmlFiles()
@@ -142,8 +155,11 @@ public class Main {
             .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
     }
 
-    private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
-        String outputDir) {
+    private static void handleDPG(String inputYamlFileName, EmitterOptions emitterOptions, boolean sdkIntegration,
+        String outputDir) throws IOException {
+        // load code-model.yaml
+        CodeModel codeModel = loadCodeModel(inputYamlFileName, emitterOptions);
+
         // initialize plugin
         TypeSpecPlugin typeSpecPlugin = new TypeSpecPlugin(emitterOptions, sdkIntegration);
 
@@ -152,8 +168,16 @@ public class Main {
         // client
         Client client = typeSpecPlugin.processClient(codeModel);
 
+        if (settings.isLeanMemory()) {
+            // release the code model, and the caches of the mappers that hold it, before the templates
+            codeModel = CodeModelUtil.copyForTemplates(codeModel);
+            Mappers.clearCaches();
+        }
+
         // template
-        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        CodeModel templateCodeModel = codeModel;
+        JavaPackage javaPackage = GeneratorMetrics.measure("templates",
+            () -> typeSpecPlugin.processTemplates(templateCodeModel, client, JavaSettings.getInstance()));
 
         LOGGER.info("Count of Java files: {}", javaPackage.getJavaFiles().size());
         LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
@@ -162,14 +186,19 @@ public class Main {
         // delete generated Java files
         deleteGeneratedJavaFiles(outputDir, javaPackage.getJavaFiles(), settings);
 
-        Map<String, String> javaFiles = new ConcurrentHashMap<>();
-        javaPackage.getJavaFiles()
-            .parallelStream()
-            .forEach(javaFile -> javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString()));
         // handle partial update
         // handle customization
         // write output java files
-        new Postprocessor(typeSpecPlugin).postProcess(javaFiles);
+        if (settings.isLeanMemory()) {
+            new Postprocessor(typeSpecPlugin).postProcessInBatches(javaPackage.getJavaFiles());
+        } else {
+            Map<String, String> javaFiles = new ConcurrentHashMap<>();
+            GeneratorMetrics.measure("java-file-contents",
+                () -> javaPackage.getJavaFiles()
+                    .parallelStream()
+                    .forEach(javaFile -> javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString())));
+            new Postprocessor(typeSpecPlugin).postProcess(javaFiles);
+        }
 
         // XML include POM
         javaPackage.getXmlFiles()
@@ -240,7 +269,7 @@ public class Main {
         }
     }
 
-    private static EmitterOptions loadEmitterOptions(CodeModel codeModel) {
+    private static EmitterOptions loadEmitterOptions() {
 
         EmitterOptions options = null;
         String emitterOptionsJson = Configuration.getGlobalConfiguration().get("emitterOptions");
@@ -248,13 +277,6 @@ public class Main {
         if (emitterOptionsJson != null) {
             try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson)) {
                 options = EmitterOptions.fromJson(jsonReader);
-                // namespace
-                if (CoreUtils.isNullOrEmpty(options.getNamespace())) {
-                    if (codeModel.getLanguage().getJava() != null
-                        && !CoreUtils.isNullOrEmpty(codeModel.getLanguage().getJava().getNamespace())) {
-                        options.setNamespace(codeModel.getLanguage().getJava().getNamespace());
-                    }
-                }
 
                 // output path
                 if (CoreUtils.isNullOrEmpty(options.getOutputDir())) {
@@ -271,33 +293,51 @@ public class Main {
             // default if emitterOptions fails
             options = new EmitterOptions();
             options.setOutputDir(DEFAULT_OUTPUT_DIR);
-            if (codeModel.getLanguage().getJava() != null
-                && !CoreUtils.isNullOrEmpty(codeModel.getLanguage().getJava().getNamespace())) {
-                options.setNamespace(codeModel.getLanguage().getJava().getNamespace());
-            }
         }
         return options;
     }
 
-    private static CodeModel loadCodeModel(String filename) throws IOException {
-        String file = Files.readString(Paths.get(filename));
-        CodeModel codeModel = getYaml().loadAs(file, CodeModel.class);
+    private static CodeModel loadCodeModel(String filename, EmitterOptions emitterOptions) throws IOException {
+        CodeModel codeModel;
+        try (GeneratorMetrics.Scope ignored = GeneratorMetrics.start("yaml-load")) {
+            if (Boolean.TRUE.equals(emitterOptions.getLeanMemory())) {
+                // read the YAML as stream, and deduplicate the strings of the code model
+                try (BufferedReader reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8)) {
+                    codeModel = createYaml(true).loadAs(reader, CodeModel.class);
+                }
+            } else {
+                String file = Files.readString(Paths.get(filename));
+                codeModel = getYaml().loadAs(file, CodeModel.class);
+            }
+        }
+
+        // namespace
+        if (CoreUtils.isNullOrEmpty(emitterOptions.getNamespace())) {
+            if (codeModel.getLanguage().getJava() != null
+                && !CoreUtils.isNullOrEmpty(codeModel.getLanguage().getJava().getNamespace())) {
+                emitterOptions.setNamespace(codeModel.getLanguage().getJava().getNamespace());
+            }
+        }
         return codeModel;
     }
 
     private static Yaml getYaml() {
         if (yaml == null) {
-            Representer representer = new Representer(new DumperOptions());
-            representer.setPropertyUtils(new AnnotatedPropertyUtils());
-            representer.getPropertyUtils().setSkipMissingProperties(true);
-            LoaderOptions loaderOptions = new LoaderOptions();
-            loaderOptions.setCodePointLimit(50 * 1024 * 1024);
-            loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
-            loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
-            loaderOptions.setTagInspector(new TrustedTagInspector());
-            Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
-            yaml = new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
+            yaml = createYaml(false);
         }
         return yaml;
     }
+
+    private static Yaml createYaml(boolean deduplicateStrings) {
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        Constructor constructor = new CodeModelCustomConstructor(loaderOptions, deduplicateStrings);
+        return new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
+    }
 }
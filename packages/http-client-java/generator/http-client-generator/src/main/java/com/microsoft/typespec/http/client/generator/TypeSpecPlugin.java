@@ -23,6 +23,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPac
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecAzureVNextMapperFactory;
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecClientCoreMapperFactory;
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecMapperFactory;
@@ -49,10 +50,12 @@ public class TypeSpecPlugin extends Javagen {
 
     public Client processClient(CodeModel codeModel) {
         // transform code model
-        codeModel = new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+        CodeModel transformedCodeModel = GeneratorMetrics.measure("transform",
+            () -> new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel)));
 
         // map to client model
-        return Mappers.getClientMapper().map(codeModel);
+        return GeneratorMetrics.measure("mapper.ClientMapper",
+            () -> Mappers.getClientMapper().map(transformedCodeModel));
     }
 
     public JavaPackage processTemplates(CodeModel codeModel, Client client, JavaSettings settings) {
@@ -99,6 +102,12 @@ public class TypeSpecPlugin extends Javagen {
         client.getUnionModels().stream().filter(ModelUtil::isGeneratingModel).forEach(javaPackage::addUnionModel);
     }
 
+    @Override
+    protected boolean isBenchmarkingModel(ClientModel model, JavaSettings settings) {
+        // the model not written, e.g. the paged model, has no benchmark
+        return ModelUtil.isGeneratingModel(model) && super.isBenchmarkingModel(model, settings);
+    }
+
     @Override
     protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
         JavaSettings settings) {
@@ -233,6 +242,39 @@ public class TypeSpecPlugin extends Javagen {
         if (options.getUseRestProxy() != null) {
             SETTINGS_MAP.put("use-rest-proxy", emitterOptions.getUseRestProxy());
         }
+        if (options.getPagingPrefetchDepth() != null) {
+            SETTINGS_MAP.put("paging-prefetch-depth", options.getPagingPrefetchDepth());
+        }
+        if (options.getCompletableFutureMethods() != null) {
+            SETTINGS_MAP.put("completable-future-methods", options.getCompletableFutureMethods());
+        }
+        if (options.getBulkMethodConcurrency() != null) {
+            SETTINGS_MAP.put("bulk-method-concurrency", options.getBulkMethodConcurrency());
+        }
+        if (options.getResponseCache() != null) {
+            SETTINGS_MAP.put("response-cache", options.getResponseCache());
+        }
+        if (options.getBinaryFileOverloads() != null) {
+            SETTINGS_MAP.put("binary-file-overloads", options.getBinaryFileOverloads());
+        }
+        if (options.getCacheWireTypeConversion() != null) {
+            SETTINGS_MAP.put("cache-wire-type-conversion", options.getCacheWireTypeConversion());
+        }
+        if (options.getFastDateTimeCodecs() != null) {
+            SETTINGS_MAP.put("fast-date-time-codecs", options.getFastDateTimeCodecs());
+        }
+        if (options.getGenerateBenchmarks() != null) {
+            SETTINGS_MAP.put("generate-benchmarks", options.getGenerateBenchmarks());
+        }
+        if (options.getDirectErrorMapping() != null) {
+            SETTINGS_MAP.put("direct-error-mapping", options.getDirectErrorMapping());
+        }
+        if (options.getLeanMemory() != null) {
+            SETTINGS_MAP.put("lean-memory", options.getLeanMemory());
+        }
+        if (options.getDirectServiceImplementation() != null) {
+            SETTINGS_MAP.put("direct-service-implementation", options.getDirectServiceImplementation());
+        }
 
         SETTINGS_MAP.put("sdk-integration", sdkIntegration);
         SETTINGS_MAP.put("regenerate-pom", sdkIntegration);
@@ -17,6 +17,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeS
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GeneratorMetrics;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
@@ -72,9 +73,15 @@ public class TypeSpecFluentPlugin extends FluentGen {
         SETTINGS_MAP.put("uuid-as-string", true);
         SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
         SETTINGS_MAP.put("use-object-for-unknown", options.getUseObjectForUnknown());
+        if (options.getPagingPrefetchDepth() != null) {
+            SETTINGS_MAP.put("paging-prefetch-depth", options.getPagingPrefetchDepth());
+        }
         if (options.getRenameModel() != null) {
             SETTINGS_MAP.put("rename-model", options.getRenameModel());
         }
+        if (options.getDirectServiceImplementation() != null) {
+            SETTINGS_MAP.put("direct-service-implementation", options.getDirectServiceImplementation());
+        }
 
         // mgmt
         if (options.getAddInner() != null) {
@@ -105,7 +112,7 @@ public class TypeSpecFluentPlugin extends FluentGen {
     public CodeModel preProcess(CodeModel codeModel) {
         // transform code model
         FluentNamer fluentNamer = new TypeSpecFluentNamer(this, pluginName, sessionId, SETTINGS_MAP, codeModel);
-        return fluentNamer.processCodeModel();
+        return GeneratorMetrics.measure("transform", fluentNamer::processCodeModel);
     }
 
     public Client processClient(CodeModel codeModel) {
@@ -39,6 +39,17 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
     private String apiVersion;
     private Boolean useRestProxy;
     private Boolean useDefaultHttpStatusCodeToExceptionTypeMapping = true;
+    private Integer pagingPrefetchDepth;
+    private Boolean completableFutureMethods;
+    private Integer bulkMethodConcurrency;
+    private Boolean responseCache;
+    private Boolean binaryFileOverloads;
+    private Boolean cacheWireTypeConversion;
+    private Boolean fastDateTimeCodecs;
+    private Boolean generateBenchmarks;
+    private Boolean directErrorMapping;
+    private Boolean leanMemory;
+    private Boolean directServiceImplementation;
     private DevOptions devOptions;
 
     // mgmt
@@ -194,6 +205,50 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
         return useDefaultHttpStatusCodeToExceptionTypeMapping;
     }
 
+    public Integer getPagingPrefetchDepth() {
+        return pagingPrefetchDepth;
+    }
+
+    public Boolean getCompletableFutureMethods() {
+        return completableFutureMethods;
+    }
+
+    public Integer getBulkMethodConcurrency() {
+        return bulkMethodConcurrency;
+    }
+
+    public Boolean getResponseCache() {
+        return responseCache;
+    }
+
+    public Boolean getBinaryFileOverloads() {
+        return binaryFileOverloads;
+    }
+
+    public Boolean getCacheWireTypeConversion() {
+        return cacheWireTypeConversion;
+    }
+
+    public Boolean getFastDateTimeCodecs() {
+        return fastDateTimeCodecs;
+    }
+
+    public Boolean getGenerateBenchmarks() {
+        return generateBenchmarks;
+    }
+
+    public Boolean getDirectErrorMapping() {
+        return directErrorMapping;
+    }
+
+    public Boolean getLeanMemory() {
+        return leanMemory;
+    }
+
+    public Boolean getDirectServiceImplementation() {
+        return directServiceImplementation;
+    }
+
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         // it does not need to be written to JSON
@@ -250,6 +305,28 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
                 options.useRestProxy = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("use-default-http-status-code-to-exception-type-mapping".equals(fieldName)) {
                 options.useDefaultHttpStatusCodeToExceptionTypeMapping = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("paging-prefetch-depth".equals(fieldName)) {
+                options.pagingPrefetchDepth = reader.getNullable(EmitterOptions::getInteger);
+            } else if ("completable-future-methods".equals(fieldName)) {
+                options.completableFutureMethods = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("bulk-method-concurrency".equals(fieldName)) {
+                options.bulkMethodConcurrency = reader.getNullable(EmitterOptions::getInteger);
+            } else if ("response-cache".equals(fieldName)) {
+                options.responseCache = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("binary-file-overloads".equals(fieldName)) {
+                options.binaryFileOverloads = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("cache-wire-type-conversion".equals(fieldName)) {
+                options.cacheWireTypeConversion = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("fast-date-time-codecs".equals(fieldName)) {
+                options.fastDateTimeCodecs = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("generate-benchmarks".equals(fieldName)) {
+                options.generateBenchmarks = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("direct-error-mapping".equals(fieldName)) {
+                options.directErrorMapping = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("lean-memory".equals(fieldName)) {
+                options.leanMemory = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("direct-service-implementation".equals(fieldName)) {
+                options.directServiceImplementation = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("rename-model".equals(fieldName)) {
                 options.renameModel = reader.getNullable(EmitterOptions::getStringOrMap);
             } else if ("add-inner".equals(fieldName)) {
@@ -288,6 +365,15 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
         }
     }
 
+    private static int getInteger(JsonReader jsonReader) throws IOException {
+        JsonToken currentToken = jsonReader.currentToken();
+        if (currentToken == JsonToken.STRING) {
+            return Integer.parseInt(jsonReader.getString());
+        } else {
+            return jsonReader.getInt();
+        }
+    }
+
     private static String emptyToNull(String str) {
         return CoreUtils.isNullOrEmpty(str) ? null : str;
     }
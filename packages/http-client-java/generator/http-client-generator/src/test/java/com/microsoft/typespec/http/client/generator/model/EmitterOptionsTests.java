@@ -45,4 +45,116 @@ public final class EmitterOptionsTests {
             = BinaryData.fromString("{\"remove-inner\":\"NginxConfigurationResponse\"}").toObject(EmitterOptions.class);
         Assertions.assertEquals(1, options.getRemoveInner().split(",").length);
     }
+
+    @Test
+    public void testPagingPrefetchDepth() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"paging-prefetch-depth\":2}").toObject(EmitterOptions.class);
+        Assertions.assertEquals(2, options.getPagingPrefetchDepth());
+
+        // string form
+        options = BinaryData.fromString("{\"paging-prefetch-depth\":\"3\"}").toObject(EmitterOptions.class);
+        Assertions.assertEquals(3, options.getPagingPrefetchDepth());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getPagingPrefetchDepth());
+    }
+
+    @Test
+    public void testCompletableFutureMethods() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"completable-future-methods\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getCompletableFutureMethods());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getCompletableFutureMethods());
+    }
+
+    @Test
+    public void testBulkMethodConcurrency() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"bulk-method-concurrency\":16}").toObject(EmitterOptions.class);
+        Assertions.assertEquals(16, options.getBulkMethodConcurrency());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getBulkMethodConcurrency());
+    }
+
+    @Test
+    public void testResponseCache() {
+        EmitterOptions options = BinaryData.fromString("{\"response-cache\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getResponseCache());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getResponseCache());
+    }
+
+    @Test
+    public void testBinaryFileOverloads() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"binary-file-overloads\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getBinaryFileOverloads());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getBinaryFileOverloads());
+    }
+
+    @Test
+    public void testCacheWireTypeConversion() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"cache-wire-type-conversion\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getCacheWireTypeConversion());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getCacheWireTypeConversion());
+    }
+
+    @Test
+    public void testFastDateTimeCodecs() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"fast-date-time-codecs\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getFastDateTimeCodecs());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getFastDateTimeCodecs());
+    }
+
+    @Test
+    public void testGenerateBenchmarks() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"generate-benchmarks\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getGenerateBenchmarks());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getGenerateBenchmarks());
+    }
+
+    @Test
+    public void testDirectErrorMapping() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"direct-error-mapping\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getDirectErrorMapping());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getDirectErrorMapping());
+    }
+
+    @Test
+    public void testLeanMemory() {
+        EmitterOptions options = BinaryData.fromString("{\"lean-memory\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getLeanMemory());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getLeanMemory());
+    }
+
+    @Test
+    public void testDirectServiceImplementation() {
+        EmitterOptions options
+            = BinaryData.fromString("{\"direct-service-implementation\":true}").toObject(EmitterOptions.class);
+        Assertions.assertTrue(options.getDirectServiceImplementation());
+
+        options = BinaryData.fromString("{}").toObject(EmitterOptions.class);
+        Assertions.assertNull(options.getDirectServiceImplementation());
+    }
 }